@@ -0,0 +1,139 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.io.Serializable;
+
+/**
+ * Statistics about the buffer in which the kernel's RMI interface keeps events for a remote client
+ * until the client fetches them.
+ */
+public class EventBufferStatistics
+    implements
+      Serializable {
+
+  /**
+   * The client's name.
+   */
+  private final String clientName;
+  /**
+   * The name of the user that connected with the client.
+   */
+  private final String userName;
+  /**
+   * The number of events currently buffered.
+   */
+  private final int bufferedEventCount;
+  /**
+   * The number of events that were merged with buffered events.
+   */
+  private final long coalescedEventCount;
+  /**
+   * The number of events that were discarded due to the buffer being full.
+   */
+  private final long droppedEventCount;
+  /**
+   * The number of times the client was forced to resynchronize its state.
+   */
+  private final long forcedResyncCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param clientName The client's name.
+   * @param userName The name of the user that connected with the client.
+   * @param bufferedEventCount The number of events currently buffered.
+   * @param coalescedEventCount The number of events that were merged with buffered events.
+   * @param droppedEventCount The number of events that were discarded due to the buffer being
+   * full.
+   * @param forcedResyncCount The number of times the client was forced to resynchronize its state.
+   */
+  public EventBufferStatistics(
+      @Nonnull
+      String clientName,
+      @Nonnull
+      String userName,
+      int bufferedEventCount,
+      long coalescedEventCount,
+      long droppedEventCount,
+      long forcedResyncCount
+  ) {
+    this.clientName = requireNonNull(clientName, "clientName");
+    this.userName = requireNonNull(userName, "userName");
+    this.bufferedEventCount = bufferedEventCount;
+    this.coalescedEventCount = coalescedEventCount;
+    this.droppedEventCount = droppedEventCount;
+    this.forcedResyncCount = forcedResyncCount;
+  }
+
+  /**
+   * Returns the client's name.
+   *
+   * @return The client's name.
+   */
+  @Nonnull
+  public String getClientName() {
+    return clientName;
+  }
+
+  /**
+   * Returns the name of the user that connected with the client.
+   *
+   * @return The name of the user that connected with the client.
+   */
+  @Nonnull
+  public String getUserName() {
+    return userName;
+  }
+
+  /**
+   * Returns the number of events currently buffered.
+   *
+   * @return The number of events currently buffered.
+   */
+  public int getBufferedEventCount() {
+    return bufferedEventCount;
+  }
+
+  /**
+   * Returns the number of events that were merged with buffered events.
+   *
+   * @return The number of events that were merged with buffered events.
+   */
+  public long getCoalescedEventCount() {
+    return coalescedEventCount;
+  }
+
+  /**
+   * Returns the number of events that were discarded due to the buffer being full.
+   *
+   * @return The number of events that were discarded due to the buffer being full.
+   */
+  public long getDroppedEventCount() {
+    return droppedEventCount;
+  }
+
+  /**
+   * Returns the number of times the client was forced to resynchronize its state.
+   *
+   * @return The number of times the client was forced to resynchronize its state.
+   */
+  public long getForcedResyncCount() {
+    return forcedResyncCount;
+  }
+
+  @Override
+  public String toString() {
+    return "EventBufferStatistics{"
+        + "clientName=" + clientName
+        + ", userName=" + userName
+        + ", bufferedEventCount=" + bufferedEventCount
+        + ", coalescedEventCount=" + coalescedEventCount
+        + ", droppedEventCount=" + droppedEventCount
+        + ", forcedResyncCount=" + forcedResyncCount
+        + '}';
+  }
+}
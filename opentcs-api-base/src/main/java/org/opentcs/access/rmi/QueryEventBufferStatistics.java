@@ -0,0 +1,26 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi;
+
+import java.io.Serializable;
+import java.util.List;
+import org.opentcs.components.kernel.Query;
+
+/**
+ * A query for statistics about the event buffers of all clients currently connected to the
+ * kernel via RMI.
+ * <p>
+ * This query is answered only if the kernel's RMI interface is enabled.
+ * </p>
+ */
+public class QueryEventBufferStatistics
+    implements
+      Query<List<EventBufferStatistics>>,
+      Serializable {
+
+  /**
+   * Creates a new instance.
+   */
+  public QueryEventBufferStatistics() {
+  }
+}
@@ -0,0 +1,55 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.function.Predicate;
+import org.opentcs.data.TCSObjectDelta;
+import org.opentcs.data.TCSObjectEvent;
+
+/**
+ * An event filter that, when used for logging in with a {@link RemoteKernelServicePortal},
+ * additionally subscribes the client to events in delta mode.
+ * <p>
+ * In delta mode, modifications of objects for which the kernel computes deltas are delivered as
+ * {@link TCSObjectDelta}s instead of as {@link TCSObjectEvent}s containing two complete states of
+ * the respective object. Periodically, and for the first modification of an object delivered to
+ * the client, a complete {@link TCSObjectEvent} is delivered instead (as a keyframe), allowing the
+ * client to (re)synchronize its state of the object. Creations and removals of objects are always
+ * delivered as {@link TCSObjectEvent}s.
+ * </p>
+ * <p>
+ * Whether an event is delivered to the client at all is decided by the wrapped event filter, which
+ * is applied to the original events.
+ * </p>
+ */
+public class DeltaEventFilter
+    implements
+      Predicate<Object>,
+      Serializable {
+
+  /**
+   * The wrapped event filter.
+   */
+  private final Predicate<Object> eventFilter;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventFilter The wrapped event filter. Needs to be serializable.
+   */
+  public DeltaEventFilter(
+      @Nonnull
+      Predicate<Object> eventFilter
+  ) {
+    this.eventFilter = requireNonNull(eventFilter, "eventFilter");
+  }
+
+  @Override
+  public boolean test(Object event) {
+    return eventFilter.test(event);
+  }
+}
@@ -4,6 +4,7 @@ package org.opentcs.access.rmi.services;
 
 import java.rmi.Remote;
 import java.rmi.RemoteException;
+import java.util.List;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
@@ -39,6 +40,15 @@ public interface RemoteTransportOrderService
   TransportOrder createTransportOrder(ClientID clientId, TransportOrderCreationTO to)
       throws RemoteException;
 
+  List<OrderSequence> createOrderSequences(ClientID clientId, List<OrderSequenceCreationTO> tos)
+      throws RemoteException;
+
+  List<TransportOrder> createTransportOrders(
+      ClientID clientId,
+      List<TransportOrderCreationTO> tos
+  )
+      throws RemoteException;
+
   void markOrderSequenceComplete(ClientID clientId, TCSObjectReference<OrderSequence> ref)
       throws RemoteException;
 
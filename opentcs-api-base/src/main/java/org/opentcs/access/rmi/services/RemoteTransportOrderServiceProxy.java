@@ -3,6 +3,7 @@
 package org.opentcs.access.rmi.services;
 
 import java.rmi.RemoteException;
+import java.util.List;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
@@ -58,6 +59,36 @@ class RemoteTransportOrderServiceProxy
     }
   }
 
+  @Override
+  public List<OrderSequence> createOrderSequences(List<OrderSequenceCreationTO> tos)
+      throws ObjectUnknownException,
+        ObjectExistsException,
+        KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().createOrderSequences(getClientId(), tos);
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
+  @Override
+  public List<TransportOrder> createTransportOrders(List<TransportOrderCreationTO> tos)
+      throws ObjectUnknownException,
+        ObjectExistsException,
+        KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().createTransportOrders(getClientId(), tos);
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
   @Override
   public void markOrderSequenceComplete(TCSObjectReference<OrderSequence> ref)
       throws ObjectUnknownException,
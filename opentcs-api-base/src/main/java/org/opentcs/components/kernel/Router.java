@@ -3,7 +3,9 @@
 package org.opentcs.components.kernel;
 
 import jakarta.annotation.Nonnull;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.data.model.Path;
@@ -49,6 +51,24 @@ public interface Router
    */
   String PROPKEY_ROUTING_COST_REVERSE = "tcs:routingCostReverse";
 
+  /**
+   * Indicates whether this router serves route queries concurrently.
+   * <p>
+   * If this method returns {@code true}, {@link #getRoutes(Vehicle, Point, Point, Set, int)} and
+   * {@link #getCosts(Vehicle, Point, Set, Set)} may be called from any thread, concurrently with
+   * each other and with updates of the routing topology, and without holding the kernel's global
+   * lock. (The objects passed to these methods are expected to have been retrieved from the
+   * kernel before, though.) If this method returns {@code false}, all of this router's methods are
+   * supposed to be called only from the kernel executor thread. The default implementation
+   * returns {@code false}.
+   * </p>
+   *
+   * @return {@code true} if, and only if, this router serves route queries concurrently.
+   */
+  default boolean isThreadSafe() {
+    return false;
+  }
+
   /**
    * Notifies the router to update its routing topology with respect to the given paths.
    * <p>
@@ -158,4 +178,46 @@ public interface Router
       Set<TCSResourceReference<?>> resourcesToAvoid,
       int maxRouteCount
   );
+
+  /**
+   * Returns the costs of the cheapest routes from one point to each of the given points, passable
+   * by a given vehicle.
+   * <p>
+   * This is meant for selecting the nearest of a number of destination points (e.g. parking or
+   * recharge positions) and is usually cheaper than computing the routes to all of the destination
+   * points individually. This default implementation, however, simply computes the cheapest route
+   * to each of the destination points via
+   * {@link #getRoutes(Vehicle, Point, Point, Set, int)}.
+   * </p>
+   * <p>
+   * This method is supposed to be called only from the kernel executor thread.
+   * </p>
+   *
+   * @param vehicle The vehicle for which the routes must be passable.
+   * @param sourcePoint The starting point of the routes.
+   * @param destinationPoints The end points of the routes.
+   * @param resourcesToAvoid Resources to avoid when calculating the routes.
+   * @return The costs of the cheapest routes, mapped by their destination points. Destination
+   * points that cannot be reached are not contained in the returned map.
+   */
+  @Nonnull
+  default Map<Point, Long> getCosts(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Point sourcePoint,
+      @Nonnull
+      Set<Point> destinationPoints,
+      @Nonnull
+      Set<TCSResourceReference<?>> resourcesToAvoid
+  ) {
+    Map<Point, Long> result = new HashMap<>();
+    for (Point destinationPoint : destinationPoints) {
+      getRoutes(vehicle, sourcePoint, destinationPoint, resourcesToAvoid, 1).stream()
+          .mapToLong(Route::getCosts)
+          .min()
+          .ifPresent(costs -> result.put(destinationPoint, costs));
+    }
+    return result;
+  }
 }
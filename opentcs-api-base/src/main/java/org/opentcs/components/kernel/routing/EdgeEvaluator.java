@@ -46,4 +46,23 @@ public interface EdgeEvaluator {
       @Nonnull
       Vehicle vehicle
   );
+
+  /**
+   * Indicates whether {@link #computeWeight(Edge, Vehicle)} may be called concurrently for
+   * multiple edges during the computation of a single routing graph.
+   * <p>
+   * If this method returns {@code true}, the weights of the edges of a routing graph may be
+   * computed in parallel, i.e. the calls of {@link #computeWeight(Edge, Vehicle)} between
+   * {@link #onGraphComputationStart(Vehicle)} and {@link #onGraphComputationEnd(Vehicle)} may
+   * happen on multiple threads at the same time. Additionally, routing graphs for different
+   * vehicles may then be computed concurrently. If this method returns {@code false}, routing
+   * graphs are computed one at a time and on a single thread each. The default implementation
+   * returns {@code false}.
+   * </p>
+   *
+   * @return {@code true} if, and only if, this evaluator's weight computation is thread-safe.
+   */
+  default boolean isThreadSafe() {
+    return false;
+  }
 }
@@ -0,0 +1,116 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.components.kernel.services;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.TCSResourceReference;
+
+/**
+ * An immutable index mapping resources to the blocks they are members of.
+ * <p>
+ * Looking up the blocks containing a resource via an index avoids testing the members of every
+ * block in the plant model, which is relevant for plant models with many blocks, e.g. when checking
+ * resource allocations or expanding resources.
+ * </p>
+ */
+public final class BlockIndex {
+
+  /**
+   * An index without any blocks.
+   */
+  public static final BlockIndex EMPTY = new BlockIndex(Set.of());
+  /**
+   * All indexed blocks.
+   */
+  private final Set<Block> blocks;
+  /**
+   * The indexed blocks, mapped by references to their members.
+   */
+  private final Map<TCSResourceReference<?>, Set<Block>> blocksByMember;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param blocks The blocks to be indexed.
+   */
+  public BlockIndex(
+      @Nonnull
+      Collection<Block> blocks
+  ) {
+    requireNonNull(blocks, "blocks");
+
+    this.blocks = Set.copyOf(blocks);
+
+    this.blocksByMember = new HashMap<>();
+    for (Block block : this.blocks) {
+      for (TCSResourceReference<?> member : block.getMembers()) {
+        blocksByMember.computeIfAbsent(member, ref -> new HashSet<>()).add(block);
+      }
+    }
+    blocksByMember.replaceAll((member, memberBlocks) -> Set.copyOf(memberBlocks));
+  }
+
+  /**
+   * Returns all indexed blocks.
+   *
+   * @return An unmodifiable set of all indexed blocks.
+   */
+  @Nonnull
+  public Set<Block> getBlocks() {
+    return blocks;
+  }
+
+  /**
+   * Returns the blocks the referenced resource is a member of.
+   *
+   * @param resource A reference to the resource.
+   * @return An unmodifiable set of the blocks the referenced resource is a member of. If the
+   * resource is not a member of any block, the returned set is empty.
+   */
+  @Nonnull
+  public Set<Block> getBlocksContaining(
+      @Nonnull
+      TCSResourceReference<?> resource
+  ) {
+    requireNonNull(resource, "resource");
+
+    return blocksByMember.getOrDefault(resource, Set.of());
+  }
+
+  /**
+   * Returns the blocks any of the referenced resources is a member of.
+   *
+   * @param resources References to the resources.
+   * @return A set of the blocks any of the referenced resources is a member of. If none of the
+   * resources is a member of any block, the returned set is empty.
+   */
+  @Nonnull
+  public Set<Block> getBlocksContaining(
+      @Nonnull
+      Collection<? extends TCSResourceReference<?>> resources
+  ) {
+    requireNonNull(resources, "resources");
+
+    Set<Block> result = new HashSet<>();
+    for (TCSResourceReference<?> resource : resources) {
+      result.addAll(getBlocksContaining(resource));
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return "BlockIndex{"
+        + "blocks=" + blocks.size()
+        + ", members=" + blocksByMember.size()
+        + '}';
+  }
+}
@@ -30,6 +30,28 @@ public interface DispatcherService {
   void dispatch()
       throws KernelRuntimeException;
 
+  /**
+   * Requests the dispatching process to be triggered at some later point.
+   * <p>
+   * In contrast to {@link #dispatch()}, implementations may execute the dispatching process
+   * asynchronously and coalesce multiple requests into a single execution of it. Callers that need
+   * the dispatching process to be completed when the call returns should use {@link #dispatch()}.
+   * </p>
+   * <p>
+   * If called within the kernel application, this method is supposed to be called only on the
+   * kernel executor thread.
+   * </p>
+   * <p>
+   * The default implementation simply calls {@link #dispatch()}.
+   * </p>
+   *
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default void requestDispatch()
+      throws KernelRuntimeException {
+    dispatch();
+  }
+
   /**
    * Withdraw any order that a vehicle might be processing.
    * <p>
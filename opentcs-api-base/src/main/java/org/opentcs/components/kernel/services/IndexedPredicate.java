@@ -0,0 +1,228 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.components.kernel.services;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+
+/**
+ * A predicate that is true only for objects whose value of an indexed attribute equals a given
+ * key.
+ * <p>
+ * Service implementations may recognize such predicates (e.g. when passed to
+ * {@link TCSObjectService#fetch(java.lang.Class, java.util.function.Predicate)}) and look up
+ * matching objects via an index instead of testing every existing object.
+ * </p>
+ *
+ * @param <T> The type of objects this predicate applies to.
+ */
+public final class IndexedPredicate<T extends TCSObject<T>>
+    implements
+      Predicate<T>,
+      Serializable {
+
+  /**
+   * The indexed attribute.
+   */
+  private final Attribute attribute;
+  /**
+   * The value the indexed attribute is expected to have.
+   */
+  private final Serializable key;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param attribute The indexed attribute.
+   * @param key The value the indexed attribute is expected to have.
+   */
+  private IndexedPredicate(
+      @Nonnull
+      Attribute attribute,
+      @Nonnull
+      Serializable key
+  ) {
+    this.attribute = requireNonNull(attribute, "attribute");
+    this.key = requireNonNull(key, "key");
+  }
+
+  @Override
+  public boolean test(T object) {
+    return attribute.getObjectClass().isInstance(object)
+        && Objects.equals(key, attribute.extractKey(object));
+  }
+
+  /**
+   * Returns the indexed attribute.
+   *
+   * @return The indexed attribute.
+   */
+  @Nonnull
+  public Attribute getAttribute() {
+    return attribute;
+  }
+
+  /**
+   * Returns the value the indexed attribute is expected to have.
+   *
+   * @return The value the indexed attribute is expected to have.
+   */
+  @Nonnull
+  public Object getKey() {
+    return key;
+  }
+
+  @Override
+  public String toString() {
+    return "IndexedPredicate{"
+        + "attribute=" + attribute
+        + ", key=" + key
+        + '}';
+  }
+
+  /**
+   * Returns a predicate that is true only for transport orders in the given state.
+   *
+   * @param state The state.
+   * @return A predicate that is true only for transport orders in the given state.
+   */
+  @Nonnull
+  public static IndexedPredicate<TransportOrder> transportOrderWithState(
+      @Nonnull
+      TransportOrder.State state
+  ) {
+    return new IndexedPredicate<>(Attribute.TRANSPORT_ORDER_STATE, state);
+  }
+
+  /**
+   * Returns a predicate that is true only for transport orders whose intended vehicle is the given
+   * one.
+   *
+   * @param vehicleRef The vehicle reference.
+   * @return A predicate that is true only for transport orders whose intended vehicle is the given
+   * one.
+   */
+  @Nonnull
+  public static IndexedPredicate<TransportOrder> transportOrderWithIntendedVehicle(
+      @Nonnull
+      TCSObjectReference<Vehicle> vehicleRef
+  ) {
+    return new IndexedPredicate<>(Attribute.TRANSPORT_ORDER_INTENDED_VEHICLE, vehicleRef);
+  }
+
+  /**
+   * Returns a predicate that is true only for transport orders wrapped by the given order sequence.
+   *
+   * @param sequenceRef The order sequence reference.
+   * @return A predicate that is true only for transport orders wrapped by the given order sequence.
+   */
+  @Nonnull
+  public static IndexedPredicate<TransportOrder> transportOrderWithWrappingSequence(
+      @Nonnull
+      TCSObjectReference<OrderSequence> sequenceRef
+  ) {
+    return new IndexedPredicate<>(Attribute.TRANSPORT_ORDER_WRAPPING_SEQUENCE, sequenceRef);
+  }
+
+  /**
+   * Returns a predicate that is true only for peripheral jobs whose related transport order is the
+   * given one.
+   *
+   * @param orderRef The transport order reference.
+   * @return A predicate that is true only for peripheral jobs whose related transport order is the
+   * given one.
+   */
+  @Nonnull
+  public static IndexedPredicate<PeripheralJob> peripheralJobWithRelatedTransportOrder(
+      @Nonnull
+      TCSObjectReference<TransportOrder> orderRef
+  ) {
+    return new IndexedPredicate<>(Attribute.PERIPHERAL_JOB_RELATED_TRANSPORT_ORDER, orderRef);
+  }
+
+  /**
+   * The attributes for which service implementations may maintain indexes.
+   */
+  public enum Attribute {
+
+    /**
+     * A transport order's state.
+     */
+    TRANSPORT_ORDER_STATE(
+        TransportOrder.class,
+        object -> ((TransportOrder) object).getState()
+    ),
+    /**
+     * A transport order's intended vehicle.
+     */
+    TRANSPORT_ORDER_INTENDED_VEHICLE(
+        TransportOrder.class,
+        object -> ((TransportOrder) object).getIntendedVehicle()
+    ),
+    /**
+     * A transport order's wrapping sequence.
+     */
+    TRANSPORT_ORDER_WRAPPING_SEQUENCE(
+        TransportOrder.class,
+        object -> ((TransportOrder) object).getWrappingSequence()
+    ),
+    /**
+     * A peripheral job's related transport order.
+     */
+    PERIPHERAL_JOB_RELATED_TRANSPORT_ORDER(
+        PeripheralJob.class,
+        object -> ((PeripheralJob) object).getRelatedTransportOrder()
+    );
+
+    /**
+     * The class of objects having this attribute.
+     */
+    private final Class<? extends TCSObject<?>> objectClass;
+    /**
+     * Extracts the attribute's value from an object.
+     */
+    private final Function<TCSObject<?>, Object> keyExtractor;
+
+    Attribute(
+        Class<? extends TCSObject<?>> objectClass,
+        Function<TCSObject<?>, Object> keyExtractor
+    ) {
+      this.objectClass = objectClass;
+      this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Returns the class of objects having this attribute.
+     *
+     * @return The class of objects having this attribute.
+     */
+    @Nonnull
+    public Class<? extends TCSObject<?>> getObjectClass() {
+      return objectClass;
+    }
+
+    /**
+     * Returns the value of this attribute for the given object.
+     *
+     * @param object The object, which must be an instance of {@link #getObjectClass()}.
+     * @return The value of this attribute for the given object. May be {@code null}.
+     */
+    public Object extractKey(
+        @Nonnull
+        TCSObject<?> object
+    ) {
+      return keyExtractor.apply(object);
+    }
+  }
+}
@@ -4,6 +4,7 @@ package org.opentcs.components.kernel.services;
 
 import java.util.Set;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.model.Block;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.TCSResourceReference;
 
@@ -28,6 +29,23 @@ public interface InternalPlantModelService
   Set<TCSResource<?>> expandResources(Set<TCSResourceReference<?>> resources)
       throws ObjectUnknownException;
 
+  /**
+   * Returns an index mapping resources to the blocks they are members of.
+   * <p>
+   * The returned index is immutable and reflects the blocks at the time of the call. Callers that
+   * hold on to it should request a new one after blocks have been changed.
+   * </p>
+   * <p>
+   * The default implementation creates a new index with every call. Implementations are expected
+   * to override it and return an index that is only rebuilt when blocks change.
+   * </p>
+   *
+   * @return An index mapping resources to the blocks they are members of.
+   */
+  default BlockIndex getBlockIndex() {
+    return new BlockIndex(fetch(Block.class));
+  }
+
   /**
    * Loads the saved model into the kernel.
    * If there is no saved model, a new empty model will be loaded.
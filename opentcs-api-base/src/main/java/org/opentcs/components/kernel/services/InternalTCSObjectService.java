@@ -2,6 +2,8 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.components.kernel.services;
 
+import jakarta.annotation.Nonnull;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.data.TCSObject;
@@ -34,4 +36,29 @@ public interface InternalTCSObjectService
    */
   <T extends TCSObject<T>> Stream<T> stream(Class<T> clazz)
       throws KernelRuntimeException;
+
+  /**
+   * Returns a stream of all {@link TCSObject}s of the given class for which the given predicate is
+   * true.
+   * <p>
+   * The same notes as for {@link #stream(java.lang.Class)} apply. Implementations may make use of
+   * indexes for {@link IndexedPredicate}s.
+   * </p>
+   *
+   * @param <T> The TCSObjects' actual type.
+   * @param clazz The class of the objects to be returned.
+   * @param predicate The predicate that must be true for returned objects.
+   * @return Copies of all existing objects of the given class for which the given predicate is
+   * true.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default <T extends TCSObject<T>> Stream<T> stream(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      Predicate<? super T> predicate
+  )
+      throws KernelRuntimeException {
+    return stream(clazz).filter(predicate);
+  }
 }
@@ -38,7 +38,8 @@ public interface RouterService {
    * points.
    * <p>
    * If called within the kernel application, this method is supposed to be called only on the
-   * kernel executor thread.
+   * kernel executor thread - unless the kernel's router serves route queries concurrently (see
+   * {@link Router#isThreadSafe()}), in which case it may be called from any thread.
    * </p>
    *
    * @param vehicleRef A reference to the vehicle to calculate the routes for.
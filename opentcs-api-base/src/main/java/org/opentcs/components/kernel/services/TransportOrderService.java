@@ -2,6 +2,8 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.components.kernel.services;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
@@ -54,6 +56,64 @@ public interface TransportOrderService
         ObjectExistsException,
         KernelRuntimeException;
 
+  /**
+   * Creates a batch of new order sequences.
+   * <p>
+   * Implementations are expected to validate the whole batch first and create either all or none
+   * of the order sequences. The default implementation creates the order sequences one by one and
+   * therefore provides no such guarantee.
+   * </p>
+   *
+   * @param tos Describe the order sequences to be created.
+   * @return Copies of the newly created order sequences, in the order of the given transfer
+   * objects.
+   * @throws ObjectUnknownException If any referenced object does not exist.
+   * @throws ObjectExistsException If an object with the same name as one of the order sequences
+   * already exists in the model, or if the batch contains multiple order sequences with the same
+   * name.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default List<OrderSequence> createOrderSequences(List<OrderSequenceCreationTO> tos)
+      throws ObjectUnknownException,
+        ObjectExistsException,
+        KernelRuntimeException {
+    List<OrderSequence> result = new ArrayList<>(tos.size());
+    for (OrderSequenceCreationTO to : tos) {
+      result.add(createOrderSequence(to));
+    }
+    return result;
+  }
+
+  /**
+   * Creates a batch of new transport orders.
+   * This method also implicitly adds the transport orders to their wrapping sequences, if any.
+   * The dependencies of a transport order may include transport orders preceding it in the batch.
+   * <p>
+   * Implementations are expected to validate the whole batch first and create either all or none
+   * of the transport orders. The default implementation creates the transport orders one by one
+   * and therefore provides no such guarantee.
+   * </p>
+   *
+   * @param tos Describe the transport orders to be created.
+   * @return Copies of the newly created transport orders, in the order of the given transfer
+   * objects.
+   * @throws ObjectUnknownException If any referenced object does not exist.
+   * @throws ObjectExistsException If an object with the same name as one of the transport orders
+   * already exists in the model, or if the batch contains multiple transport orders with the same
+   * name.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default List<TransportOrder> createTransportOrders(List<TransportOrderCreationTO> tos)
+      throws ObjectUnknownException,
+        ObjectExistsException,
+        KernelRuntimeException {
+    List<TransportOrder> result = new ArrayList<>(tos.size());
+    for (TransportOrderCreationTO to : tos) {
+      result.add(createTransportOrder(to));
+    }
+    return result;
+  }
+
   /**
    * Marks an order sequence as complete by setting its complete flag.
    *
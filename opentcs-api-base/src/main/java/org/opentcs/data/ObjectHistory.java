@@ -3,40 +3,86 @@
 package org.opentcs.data;
 
 import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.annotation.Nonnull;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 /**
  * A history of events related to an object.
+ * <p>
+ * Histories are immutable, but share their entries with the histories they were derived from:
+ * Appending an entry to a history usually takes constant time and does not copy the existing
+ * entries, so objects with long histories can be modified without costs proportional to the
+ * length of their histories.
+ * </p>
+ * <p>
+ * A history may have a retention limit, i.e. a maximum number of entries it keeps. When appending
+ * an entry to a history that has already reached its retention limit, the oldest entry is dropped.
+ * The retention limit is passed on to histories derived from a history.
+ * </p>
  */
 public class ObjectHistory
     implements
       Serializable {
 
   /**
-   * The actual history entries.
+   * The retention limit of histories that keep all of their entries.
    */
-  private final List<Entry> entries;
+  public static final int UNLIMITED_RETENTION = Integer.MAX_VALUE;
+  /**
+   * The storage holding this history's entries, or {@code null}, if this history is empty.
+   * The storage may be shared with other histories.
+   */
+  private final transient EntryStorage storage;
+  /**
+   * The array holding this history's entries.
+   * Elements in the range of this history's entries are never changed.
+   */
+  private final transient Entry[] elements;
+  /**
+   * The index of this history's first entry in the array.
+   */
+  private final transient int start;
+  /**
+   * The index after this history's last entry in the array.
+   */
+  private final transient int end;
+  /**
+   * The maximum number of entries this history keeps.
+   */
+  private final transient int retentionLimit;
+  /**
+   * An unmodifiable view on this history's entries.
+   */
+  private final transient List<Entry> entries;
 
   /**
    * Creates a new instance.
    */
   public ObjectHistory() {
-    this(List.of());
+    this(null, new Entry[0], 0, 0, UNLIMITED_RETENTION);
   }
 
-  /**
-   * Creates a new instance with the given list of entries.
-   *
-   * @param entries The entries.
-   */
-  private ObjectHistory(List<Entry> entries) {
-    this.entries = Collections.unmodifiableList(requireNonNull(entries, "entries"));
+  private ObjectHistory(
+      EntryStorage storage,
+      Entry[] elements,
+      int start,
+      int end,
+      int retentionLimit
+  ) {
+    this.storage = storage;
+    this.elements = elements;
+    this.start = start;
+    this.end = end;
+    this.retentionLimit = retentionLimit;
+    this.entries = Collections.unmodifiableList(Arrays.asList(elements).subList(start, end));
   }
 
   /**
@@ -50,16 +96,25 @@ public class ObjectHistory
 
   /**
    * Returns a copy of this object, with the given entries.
+   * <p>
+   * If the number of given entries exceeds this history's retention limit, only the most recent
+   * ones are kept.
+   * </p>
    *
    * @param entries The entries.
    * @return A copy of this object, with the given entries.
    */
   public ObjectHistory withEntries(List<Entry> entries) {
-    return new ObjectHistory(entries);
+    requireNonNull(entries, "entries");
+
+    return fromEntries(entries.toArray(Entry[]::new), retentionLimit);
   }
 
   /**
    * Returns a copy of this object, with the given entry appended.
+   * <p>
+   * If this history has already reached its retention limit, the oldest entry is dropped.
+   * </p>
    *
    * @param entry The entry.
    * @return A copy of this object, with the given entry appended.
@@ -67,10 +122,77 @@ public class ObjectHistory
   public ObjectHistory withEntryAppended(Entry entry) {
     requireNonNull(entry, "entry");
 
-    List<Entry> newEntries = new ArrayList<>(entries.size() + 1);
-    newEntries.addAll(entries);
-    newEntries.add(entry);
-    return new ObjectHistory(newEntries);
+    int newStart = Math.max(start, end + 1 - retentionLimit);
+    int retainedCount = end - newStart;
+    // Copy the retained entries to a new storage if the storage cannot be shared (because entries
+    // have been appended to it for another history already), or if the entries no longer retained
+    // take up more space than the ones still retained.
+    Entry[] newElements = (storage == null || newStart > retainedCount)
+        ? null
+        : storage.tryAppend(end, entry);
+    if (newElements == null) {
+      EntryStorage newStorage = new EntryStorage(Arrays.copyOfRange(elements, newStart, end));
+      newElements = newStorage.tryAppend(retainedCount, entry);
+      return new ObjectHistory(newStorage, newElements, 0, retainedCount + 1, retentionLimit);
+    }
+    return new ObjectHistory(storage, newElements, newStart, end + 1, retentionLimit);
+  }
+
+  /**
+   * Returns this history's retention limit, i.e. the maximum number of entries it keeps.
+   *
+   * @return This history's retention limit, or {@link #UNLIMITED_RETENTION}, if this history keeps
+   * all of its entries.
+   */
+  public int getRetentionLimit() {
+    return retentionLimit;
+  }
+
+  /**
+   * Returns a copy of this object, with the given retention limit.
+   * <p>
+   * If this history has more entries than the given retention limit, only the most recent ones are
+   * kept.
+   * </p>
+   *
+   * @param retentionLimit The maximum number of entries to keep, or {@link #UNLIMITED_RETENTION}.
+   * @return A copy of this object, with the given retention limit.
+   * @throws IllegalArgumentException If the given retention limit is less than 1.
+   */
+  public ObjectHistory withRetentionLimit(int retentionLimit) {
+    checkArgument(retentionLimit > 0, "retentionLimit <= 0");
+
+    if (end - start <= retentionLimit) {
+      return new ObjectHistory(storage, elements, start, end, retentionLimit);
+    }
+    return fromEntries(Arrays.copyOfRange(elements, end - retentionLimit, end), retentionLimit);
+  }
+
+  /**
+   * Returns the entries that have been appended to the given history to derive this one.
+   * <p>
+   * If this history was derived from the given one by appending entries, this takes time
+   * proportional to the number of appended entries only. This allows, e.g., transmitting only the
+   * entries that are new to a receiver that already knows the given history.
+   * </p>
+   *
+   * @param previousHistory The history this one was derived from.
+   * @return The entries that have been appended to the given history, or all of this history's
+   * entries, if this history was not derived from the given one.
+   */
+  public List<Entry> getEntriesAppendedSince(ObjectHistory previousHistory) {
+    requireNonNull(previousHistory, "previousHistory");
+
+    if (previousHistory.end == previousHistory.start) {
+      return entries;
+    }
+    if (storage != null
+        && storage == previousHistory.storage
+        && previousHistory.end <= end
+        && previousHistory.end >= start) {
+      return entries.subList(previousHistory.end - start, entries.size());
+    }
+    return entries;
   }
 
   @Override
@@ -78,6 +200,87 @@ public class ObjectHistory
     return "ObjectHistory{" + "entries=" + entries + '}';
   }
 
+  private static ObjectHistory fromEntries(Entry[] entries, int retentionLimit) {
+    int start = Math.max(0, entries.length - retentionLimit);
+    return new ObjectHistory(
+        new EntryStorage(entries),
+        entries,
+        start,
+        entries.length,
+        retentionLimit
+    );
+  }
+
+  private Object writeReplace() {
+    return new SerializedForm(entries.toArray(Entry[]::new), retentionLimit);
+  }
+
+  private void readObject(ObjectInputStream stream)
+      throws InvalidObjectException {
+    throw new InvalidObjectException("Serialized form required");
+  }
+
+  /**
+   * The serialized form of a history, containing only the history's own entries (and not the ones
+   * of other histories that share the same storage).
+   *
+   * @param entries The entries.
+   * @param retentionLimit The retention limit.
+   */
+  private record SerializedForm(Entry[] entries, int retentionLimit)
+      implements
+        Serializable {
+
+    private Object readResolve() {
+      return fromEntries(entries, retentionLimit);
+    }
+  }
+
+  /**
+   * Storage for entries that may be shared by multiple histories.
+   * <p>
+   * Entries are only ever appended to the storage, and the elements of an array holding entries
+   * are never changed once they have been set. When the storage's capacity is exhausted, the
+   * entries are copied to a new array, with the previous array being left unchanged.
+   * </p>
+   */
+  private static final class EntryStorage {
+
+    /**
+     * The array the next entry is to be appended to.
+     */
+    private Entry[] elements;
+    /**
+     * The number of entries in the storage.
+     */
+    private int size;
+
+    EntryStorage(Entry[] elements) {
+      this.elements = elements;
+      this.size = elements.length;
+    }
+
+    /**
+     * Appends the given entry to this storage if the given size is the storage's current size,
+     * i.e. if no other entries have been appended in the meantime.
+     *
+     * @param expectedSize The expected current size.
+     * @param entry The entry to be appended.
+     * @return The array holding the appended entry, or {@code null}, if the entry was not appended.
+     */
+    synchronized Entry[] tryAppend(int expectedSize, Entry entry) {
+      if (size != expectedSize) {
+        return null;
+      }
+      if (size == elements.length) {
+        elements = Arrays.copyOf(elements, Math.max(8, size + (size >> 1)));
+      }
+      elements[size] = entry;
+      size++;
+      return elements;
+    }
+  }
+
   /**
    * An entry/event in a history.
    */
@@ -0,0 +1,158 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.data;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Describes a modification of an object by the attributes that have changed and their new values,
+ * instead of by two complete states of the object.
+ * <p>
+ * Attributes are identified by the names of the respective properties of the object's class,
+ * e.g. {@code "energyLevel"} for {@link org.opentcs.data.model.Vehicle#getEnergyLevel()} or
+ * {@code "stateTimestamp"} for {@link org.opentcs.data.model.Vehicle#getStateTimestamp()}.
+ * Entries appended to the object's history are not provided as a changed {@code "history"}
+ * attribute but separately, so that the history does not have to be transferred as a whole. Only
+ * if an object's history was replaced instead of appended to, it is provided as a changed
+ * {@code "history"} attribute.
+ * </p>
+ * <p>
+ * To apply a delta to a known state of an object, the changed attributes are to be applied first
+ * and the appended history entries afterwards.
+ * </p>
+ */
+public class TCSObjectDelta
+    implements
+      Serializable {
+
+  /**
+   * A reference to the modified object.
+   */
+  private final TCSObjectReference<?> objectReference;
+  /**
+   * The new values of the changed attributes, mapped by the attributes' names.
+   */
+  private final Map<String, Object> changedAttributes;
+  /**
+   * The entries appended to the object's history.
+   */
+  private final List<ObjectHistory.Entry> appendedHistoryEntries;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectReference A reference to the modified object.
+   * @param changedAttributes The new values of the changed attributes, mapped by the attributes'
+   * names. Values may be {@code null}. For transferring the delta to remote clients, values need to
+   * be serializable.
+   * @param appendedHistoryEntries The entries appended to the object's history.
+   */
+  public TCSObjectDelta(
+      @Nonnull
+      TCSObjectReference<?> objectReference,
+      @Nonnull
+      Map<String, Object> changedAttributes,
+      @Nonnull
+      List<ObjectHistory.Entry> appendedHistoryEntries
+  ) {
+    this.objectReference = requireNonNull(objectReference, "objectReference");
+    this.changedAttributes = Collections.unmodifiableMap(
+        new LinkedHashMap<>(requireNonNull(changedAttributes, "changedAttributes"))
+    );
+    this.appendedHistoryEntries = List.copyOf(
+        requireNonNull(appendedHistoryEntries, "appendedHistoryEntries")
+    );
+  }
+
+  /**
+   * Returns a reference to the modified object.
+   *
+   * @return A reference to the modified object.
+   */
+  @Nonnull
+  public TCSObjectReference<?> getObjectReference() {
+    return objectReference;
+  }
+
+  /**
+   * Returns the new values of the changed attributes, mapped by the attributes' names.
+   *
+   * @return The new values of the changed attributes. Values may be {@code null}.
+   */
+  @Nonnull
+  public Map<String, Object> getChangedAttributes() {
+    return changedAttributes;
+  }
+
+  /**
+   * Returns the entries appended to the object's history.
+   *
+   * @return The entries appended to the object's history.
+   */
+  @Nonnull
+  public List<ObjectHistory.Entry> getAppendedHistoryEntries() {
+    return appendedHistoryEntries;
+  }
+
+  /**
+   * Checks whether this delta describes no change at all.
+   *
+   * @return {@code true} if, and only if, neither attributes have changed nor history entries have
+   * been appended.
+   */
+  public boolean isEmpty() {
+    return changedAttributes.isEmpty() && appendedHistoryEntries.isEmpty();
+  }
+
+  /**
+   * Returns a delta that describes the modification described by this delta followed by the one
+   * described by the given delta.
+   *
+   * @param subsequentDelta The delta describing the subsequent modification of the same object.
+   * @return The merged delta.
+   * @throws IllegalArgumentException If the given delta refers to a different object.
+   */
+  @Nonnull
+  public TCSObjectDelta mergedWith(
+      @Nonnull
+      TCSObjectDelta subsequentDelta
+  ) {
+    requireNonNull(subsequentDelta, "subsequentDelta");
+    checkArgument(
+        objectReference.equals(subsequentDelta.getObjectReference()),
+        "Deltas refer to different objects: %s != %s",
+        objectReference.getName(),
+        subsequentDelta.getObjectReference().getName()
+    );
+
+    Map<String, Object> mergedAttributes = new LinkedHashMap<>(changedAttributes);
+    mergedAttributes.putAll(subsequentDelta.getChangedAttributes());
+
+    List<ObjectHistory.Entry> mergedEntries = new ArrayList<>();
+    // If the subsequent modification replaced the history, entries appended before are included.
+    if (!subsequentDelta.getChangedAttributes().containsKey("history")) {
+      mergedEntries.addAll(appendedHistoryEntries);
+    }
+    mergedEntries.addAll(subsequentDelta.getAppendedHistoryEntries());
+
+    return new TCSObjectDelta(objectReference, mergedAttributes, mergedEntries);
+  }
+
+  @Override
+  public String toString() {
+    return "TCSObjectDelta{"
+        + "objectReference=" + objectReference
+        + ", changedAttributes=" + changedAttributes
+        + ", appendedHistoryEntries=" + appendedHistoryEntries
+        + '}';
+  }
+}
@@ -4,6 +4,7 @@ package org.opentcs.data;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nullable;
 import java.io.Serializable;
 
 /**
@@ -25,6 +26,11 @@ public class TCSObjectEvent
    * This event's type.
    */
   private final Type type;
+  /**
+   * The delta describing the modification, if known.
+   * Not transferred to remote clients along with the event, which get the complete states instead.
+   */
+  private final transient TCSObjectDelta delta;
 
   /**
    * Creates a new TCSObjectEvent.
@@ -46,6 +52,34 @@ public class TCSObjectEvent
       TCSObject<?> currentObjectState,
       TCSObject<?> previousObjectState,
       Type eventType
+  ) {
+    this(currentObjectState, previousObjectState, eventType, null);
+  }
+
+  /**
+   * Creates a new TCSObjectEvent.
+   *
+   * @param currentObjectState The current state of the object for which this
+   * event was created. Value is irrelevant/may be <code>null</code> if
+   * <code>eventType</code> is <code>OBJECT_REMOVED</code>.
+   * @param previousObjectState The previous state of the object for which this
+   * event was created.Value is irrelevant/may be <code>null</code> if
+   * <code>eventType</code> is <code>OBJECT_CREATED</code>.
+   * @param eventType The event's type.
+   * @param delta The delta describing the modification of the object, or <code>null</code>, if
+   * it is not known or <code>eventType</code> is not <code>OBJECT_MODIFIED</code>.
+   * @throws NullPointerException If <code>eventType</code> is
+   * <code>null</code>.
+   * @throws IllegalArgumentException If either <code>currentObjectState</code>
+   * or <code>previousObjectState</code> is <code>null</code> while
+   * <code>eventType</code> does not have an appropriate value.
+   */
+  public TCSObjectEvent(
+      TCSObject<?> currentObjectState,
+      TCSObject<?> previousObjectState,
+      Type eventType,
+      @Nullable
+      TCSObjectDelta delta
   ) {
     this.type = requireNonNull(eventType, "eventType");
     if (currentObjectState == null && !Type.OBJECT_REMOVED.equals(eventType)) {
@@ -60,6 +94,7 @@ public class TCSObjectEvent
     }
     this.currentObjectState = currentObjectState;
     this.previousObjectState = previousObjectState;
+    this.delta = eventType == Type.OBJECT_MODIFIED ? delta : null;
   }
 
   /**
@@ -96,6 +131,22 @@ public class TCSObjectEvent
     }
   }
 
+  /**
+   * Returns the delta describing the modification of the object, i.e. the attributes that have
+   * changed between the previous and the current state of the object.
+   * <p>
+   * The delta is only known for modifications of objects for which the kernel computes deltas, and
+   * only for events that have not been transferred to remote clients.
+   * </p>
+   *
+   * @return The delta describing the modification of the object, or <code>null</code>, if it is
+   * not known or this event's type is not <code>OBJECT_MODIFIED</code>.
+   */
+  @Nullable
+  public TCSObjectDelta getDelta() {
+    return delta;
+  }
+
   /**
    * Returns this event's type.
    *
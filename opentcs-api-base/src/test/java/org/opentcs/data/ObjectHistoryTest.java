@@ -12,6 +12,10 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
@@ -69,6 +73,80 @@ class ObjectHistoryTest {
     assertThat(history.getEntries(), contains(entry1, entry2));
   }
 
+  @Test
+  void keepEntriesOfHistoriesDerivedFromTheSameHistory() {
+    Entry entry1 = new Entry(Instant.now(), "eventCode1");
+    Entry entry2 = new Entry(Instant.now(), "eventCode2");
+    Entry entry3 = new Entry(Instant.now(), "eventCode3");
+
+    ObjectHistory history = new ObjectHistory().withEntryAppended(entry1);
+    ObjectHistory history2 = history.withEntryAppended(entry2);
+    ObjectHistory history3 = history.withEntryAppended(entry3);
+
+    assertThat(history.getEntries(), contains(entry1));
+    assertThat(history2.getEntries(), contains(entry1, entry2));
+    assertThat(history3.getEntries(), contains(entry1, entry3));
+  }
+
+  @Test
+  void dropOldestEntriesWhenExceedingRetentionLimit() {
+    Entry entry1 = new Entry(Instant.now(), "eventCode1");
+    Entry entry2 = new Entry(Instant.now(), "eventCode2");
+    Entry entry3 = new Entry(Instant.now(), "eventCode3");
+
+    ObjectHistory history = new ObjectHistory()
+        .withEntries(List.of(entry1, entry2, entry3))
+        .withRetentionLimit(2);
+
+    assertThat(history.getRetentionLimit(), is(2));
+    assertThat(history.getEntries(), contains(entry2, entry3));
+
+    Entry entry4 = new Entry(Instant.now(), "eventCode4");
+    history = history.withEntryAppended(entry4);
+
+    assertThat(history.getRetentionLimit(), is(2));
+    assertThat(history.getEntries(), contains(entry3, entry4));
+  }
+
+  @Test
+  void returnEntriesAppendedSincePreviousHistory() {
+    Entry entry1 = new Entry(Instant.now(), "eventCode1");
+    Entry entry2 = new Entry(Instant.now(), "eventCode2");
+    Entry entry3 = new Entry(Instant.now(), "eventCode3");
+
+    ObjectHistory previousHistory = new ObjectHistory().withEntryAppended(entry1);
+    ObjectHistory history = previousHistory.withEntryAppended(entry2).withEntryAppended(entry3);
+
+    assertThat(history.getEntriesAppendedSince(previousHistory), contains(entry2, entry3));
+    assertThat(
+        history.getEntriesAppendedSince(new ObjectHistory().withEntries(List.of(entry1))),
+        contains(entry1, entry2, entry3)
+    );
+  }
+
+  @Test
+  void serializeOnlyOwnEntries()
+      throws Exception {
+    Entry entry1 = new Entry(Instant.now(), "eventCode1");
+    Entry entry2 = new Entry(Instant.now(), "eventCode2");
+    ObjectHistory history = new ObjectHistory().withRetentionLimit(5).withEntryAppended(entry1);
+    history.withEntryAppended(entry2);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(history);
+    }
+    ObjectHistory deserialized;
+    try (ObjectInputStream input
+        = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserialized = (ObjectHistory) input.readObject();
+    }
+
+    assertThat(deserialized.getEntries(), hasSize(1));
+    assertThat(deserialized.getEntries().get(0).getEventCode(), is(equalTo("eventCode1")));
+    assertThat(deserialized.getRetentionLimit(), is(5));
+  }
+
   @Test
   void checkIfEntryHasTimestampEventCodeAndSupplements() {
     Instant timestamp = Instant.now();
@@ -13,10 +13,13 @@ import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.opentcs.access.to.model.PlantModelCreationTO;
 import org.opentcs.util.persistence.v7.V7ModelParser;
-import org.opentcs.util.persistence.v7.V7PlantModelTO;
-import org.opentcs.util.persistence.v7.V7TOMapper;
+import org.opentcs.util.persistence.v7.V7ModelStreamReader;
+import org.opentcs.util.persistence.v7.V7ModelStreamWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,11 +36,18 @@ public class ModelParser {
    * The charset to use for the reader/writer.
    */
   private static final Charset CHARSET = Charset.forName("UTF-8");
+  /**
+   * Creates the XML stream readers for reading model files.
+   */
+  private final XMLInputFactory inputFactory;
 
   /**
    * Creates a new instance.
    */
   public ModelParser() {
+    inputFactory = XMLInputFactory.newFactory();
+    inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
   }
 
   /**
@@ -54,6 +64,41 @@ public class ModelParser {
 
     LOG.debug("File '{}' contains a model version '{}'.", file.getAbsolutePath(), modelVersion);
 
+    // Models in the latest version are validated and read in a streaming fashion (in two passes).
+    // Models in older versions still need to be unmarshalled completely to be converted to the
+    // latest version.
+    V7ModelStreamReader streamReader = new V7ModelStreamReader();
+    if (modelVersion != null && streamReader.canRead(modelVersion)) {
+      try (Reader reader = new BufferedReader(
+          new InputStreamReader(
+              new FileInputStream(file),
+              CHARSET
+          )
+      )) {
+        XMLStreamReader xmlReader = createXmlStreamReader(reader);
+        try {
+          streamReader.validate(xmlReader);
+        }
+        finally {
+          closeQuietly(xmlReader);
+        }
+      }
+      try (Reader reader = new BufferedReader(
+          new InputStreamReader(
+              new FileInputStream(file),
+              CHARSET
+          )
+      )) {
+        XMLStreamReader xmlReader = createXmlStreamReader(reader);
+        try {
+          return streamReader.read(xmlReader);
+        }
+        finally {
+          closeQuietly(xmlReader);
+        }
+      }
+    }
+
     try (Reader reader = new BufferedReader(
         new InputStreamReader(
             new FileInputStream(file),
@@ -79,9 +124,7 @@ public class ModelParser {
             CHARSET
         )
     )) {
-      V7TOMapper mapper = new V7TOMapper();
-      V7PlantModelTO mappedModel = mapper.map(model);
-      mappedModel.toXml(writer);
+      new V7ModelStreamWriter().write(model, writer);
     }
   }
 
@@ -93,7 +136,38 @@ public class ModelParser {
             CHARSET
         )
     )) {
-      return ProbePlantModelTO.fromXml(reader).getVersion();
+      // Only the root element needs to be read to determine the model version.
+      XMLStreamReader xmlReader = createXmlStreamReader(reader);
+      try {
+        return xmlReader.getAttributeValue(null, "version");
+      }
+      finally {
+        closeQuietly(xmlReader);
+      }
+    }
+  }
+
+  /**
+   * Creates an XML stream reader for the given reader, positioned at the document's root element.
+   */
+  private XMLStreamReader createXmlStreamReader(Reader reader)
+      throws IOException {
+    try {
+      XMLStreamReader xmlReader = inputFactory.createXMLStreamReader(reader);
+      xmlReader.nextTag();
+      return xmlReader;
+    }
+    catch (XMLStreamException exc) {
+      throw new IOException("Exception reading model file", exc);
+    }
+  }
+
+  private void closeQuietly(XMLStreamReader xmlReader) {
+    try {
+      xmlReader.close();
+    }
+    catch (XMLStreamException exc) {
+      LOG.warn("Exception closing XML stream reader", exc);
     }
   }
 }
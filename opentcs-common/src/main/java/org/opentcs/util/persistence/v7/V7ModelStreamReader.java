@@ -0,0 +1,595 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.persistence.v7;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stax.StAXSource;
+import org.opentcs.access.to.model.BlockCreationTO;
+import org.opentcs.access.to.model.LocationCreationTO;
+import org.opentcs.access.to.model.LocationTypeCreationTO;
+import org.opentcs.access.to.model.PathCreationTO;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+import org.semver4j.Semver;
+import org.semver4j.SemverException;
+import org.xml.sax.SAXException;
+
+/**
+ * Reads V7 models in a streaming fashion.
+ * <p>
+ * In contrast to {@link V7ModelParser}, this reader does not unmarshal the whole model document
+ * into a {@link V7PlantModelTO} first. Instead, every model element is read into its transfer
+ * object and mapped to its creation TO right away, so only the creation TOs of the model are kept
+ * in memory. While reading, missing or malformed attributes and unexpected elements are rejected.
+ * The document is validated against the model schema in a separate pass (see
+ * {@link #validate(XMLStreamReader)}), which does not keep the document in memory, either.
+ * </p>
+ */
+public class V7ModelStreamReader {
+
+  /**
+   * The maximum supported schema version for model files.
+   */
+  private static final Semver V7_SUPPORTED_VERSION = new Semver(V7PlantModelTO.VERSION_STRING);
+  /**
+   * Maps the elements' transfer objects to creation TOs.
+   */
+  private final V7TOMapper mapper = new V7TOMapper();
+
+  /**
+   * Creates a new instance.
+   */
+  public V7ModelStreamReader() {
+  }
+
+  /**
+   * Checks whether this reader can read models with the given version.
+   *
+   * @param modelVersion The model version.
+   * @return {@code true} if, and only if, models with the given version can be read.
+   */
+  public boolean canRead(
+      @Nonnull
+      String modelVersion
+  ) {
+    requireNonNull(modelVersion, "modelVersion");
+
+    try {
+      Semver fileVersionNumber = new Semver(modelVersion);
+      return fileVersionNumber.getMajor() == V7_SUPPORTED_VERSION.getMajor()
+          && fileVersionNumber.isLowerThanOrEqualTo(V7_SUPPORTED_VERSION);
+    }
+    catch (SemverException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Validates a model against the model schema.
+   * <p>
+   * The given reader is consumed by the validation, so the model needs to be read with a new reader
+   * afterwards.
+   * </p>
+   *
+   * @param reader The reader to use. Expected to be positioned at the start of the document or at
+   * the model's root element.
+   * @throws IOException If the model does not conform to the model schema or there was an error
+   * reading the model.
+   */
+  public void validate(
+      @Nonnull
+      XMLStreamReader reader
+  )
+      throws IOException {
+    requireNonNull(reader, "reader");
+
+    try {
+      V7PlantModelTO.createSchema().newValidator().validate(new StAXSource(reader));
+    }
+    catch (SAXException | IllegalStateException exc) {
+      throw new IOException("Exception validating model", exc);
+    }
+  }
+
+  /**
+   * Reads a model with the given reader and parses it to a {@link PlantModelCreationTO} instance.
+   *
+   * @param reader The reader to use. Expected to be positioned at the model's root element.
+   * @return The parsed {@link PlantModelCreationTO}.
+   * @throws IOException If there was an error reading the model.
+   */
+  public PlantModelCreationTO read(
+      @Nonnull
+      XMLStreamReader reader
+  )
+      throws IOException {
+    requireNonNull(reader, "reader");
+
+    try {
+      return readModel(reader);
+    }
+    catch (XMLStreamException | IllegalArgumentException exc) {
+      throw new IOException("Exception reading model", exc);
+    }
+  }
+
+  private PlantModelCreationTO readModel(XMLStreamReader reader)
+      throws XMLStreamException {
+    reader.require(XMLStreamConstants.START_ELEMENT, null, "model");
+
+    String name = attribute(reader, "name");
+    List<PointCreationTO> points = new ArrayList<>();
+    List<PathCreationTO> paths = new ArrayList<>();
+    List<VehicleCreationTO> vehicles = new ArrayList<>();
+    List<LocationTypeCreationTO> locationTypes = new ArrayList<>();
+    List<LocationCreationTO> locations = new ArrayList<>();
+    List<BlockCreationTO> blocks = new ArrayList<>();
+    VisualLayoutTO visualLayout = new VisualLayoutTO();
+    List<PropertyTO> properties = new ArrayList<>();
+    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+      switch (reader.getLocalName()) {
+        case "point" -> points.add(mapper.toPointCreationTO(readPoint(reader)));
+        case "path" -> paths.add(mapper.toPathCreationTO(readPath(reader)));
+        case "vehicle" -> vehicles.add(mapper.toVehicleCreationTO(readVehicle(reader)));
+        case "locationType" ->
+          locationTypes.add(mapper.toLocationTypeCreationTO(readLocationType(reader)));
+        case "location" -> locations.add(mapper.toLocationCreationTO(readLocation(reader)));
+        case "block" -> blocks.add(mapper.toBlockCreationTO(readBlock(reader)));
+        case "visualLayout" -> visualLayout = readVisualLayout(reader);
+        case "property" -> properties.add(readProperty(reader));
+        default -> throw unexpectedElement(reader);
+      }
+    }
+
+    return new PlantModelCreationTO(name)
+        .withPoints(points)
+        .withVehicles(vehicles)
+        .withPaths(paths)
+        .withLocationTypes(locationTypes)
+        .withLocations(locations)
+        .withBlocks(blocks)
+        .withVisualLayout(mapper.toVisualLayoutCreationTO(visualLayout))
+        .withProperties(mapper.convertProperties(properties));
+  }
+
+  private PointTO readPoint(XMLStreamReader reader)
+      throws XMLStreamException {
+    PointTO point = new PointTO();
+    point.setName(attribute(reader, "name"));
+    point.setPositionX(longAttribute(reader, "positionX"))
+        .setPositionY(longAttribute(reader, "positionY"))
+        .setPositionZ(longAttribute(reader, "positionZ"))
+        .setType(enumAttribute(reader, "type", PointTO.Type.class));
+    String orientationAngle = reader.getAttributeValue(null, "vehicleOrientationAngle");
+    if (orientationAngle != null) {
+      point.setVehicleOrientationAngle(parseFloat(orientationAngle));
+    }
+
+    List<VehicleEnvelopeTO> vehicleEnvelopes = new ArrayList<>();
+    List<PropertyTO> properties = new ArrayList<>();
+    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+      switch (reader.getLocalName()) {
+        case "maxVehicleBoundingBox" -> point.setMaxVehicleBoundingBox(readBoundingBox(reader));
+        case "vehicleEnvelope" -> vehicleEnvelopes.add(readVehicleEnvelope(reader));
+        // Outgoing paths are redundant, as they are derived from the paths' source points.
+        case "outgoingPath" -> requireNoChildren(reader);
+        case "property" -> properties.add(readProperty(reader));
+        case "pointLayout" -> point.setPointLayout(
+            new PointTO.PointLayout()
+                .setLabelOffsetX(longAttribute(reader, "labelOffsetX"))
+                .setLabelOffsetY(longAttribute(reader, "labelOffsetY"))
+                .setLayerId(intAttribute(reader, "layerId"))
+        );
+        default -> throw unexpectedElement(reader);
+      }
+      if (reader.isStartElement()) {
+        requireNoChildren(reader);
+      }
+    }
+    point.setVehicleEnvelopes(vehicleEnvelopes)
+        .setProperties(properties);
+
+    return point;
+  }
+
+  private PathTO readPath(XMLStreamReader reader)
+      throws XMLStreamException {
+    PathTO path = new PathTO();
+    path.setName(attribute(reader, "name"));
+    path.setSourcePoint(attribute(reader, "sourcePoint"))
+        .setDestinationPoint(attribute(reader, "destinationPoint"))
+        .setLength(longAttribute(reader, "length"))
+        .setMaxVelocity(longAttribute(reader, "maxVelocity"))
+        .setMaxReverseVelocity(longAttribute(reader, "maxReverseVelocity"))
+        .setLocked(booleanAttribute(reader, "locked"));
+
+    List<PeripheralOperationTO> peripheralOperations = new ArrayList<>();
+    List<VehicleEnvelopeTO> vehicleEnvelopes = new ArrayList<>();
+    List<PropertyTO> properties = new ArrayList<>();
+    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+      switch (reader.getLocalName()) {
+        case "peripheralOperation" -> peripheralOperations.add(readPeripheralOperation(reader));
+        case "vehicleEnvelope" -> vehicleEnvelopes.add(readVehicleEnvelope(reader));
+        case "property" -> properties.add(readProperty(reader));
+        case "pathLayout" -> path.setPathLayout(readPathLayout(reader));
+        default -> throw unexpectedElement(reader);
+      }
+    }
+    path.setPeripheralOperations(peripheralOperations)
+        .setVehicleEnvelopes(vehicleEnvelopes)
+        .setProperties(properties);
+
+    return path;
+  }
+
+  private PeripheralOperationTO readPeripheralOperation(XMLStreamReader reader)
+      throws XMLStreamException {
+    PeripheralOperationTO peripheralOperation = new PeripheralOperationTO();
+    peripheralOperation.setName(attribute(reader, "name"));
+    peripheralOperation.setLocationName(attribute(reader, "locationName"))
+        .setExecutionTrigger(
+            enumAttribute(reader, "executionTrigger", PeripheralOperationTO.ExecutionTrigger.class)
+        )
+        .setCompletionRequired(booleanAttribute(reader, "completionRequired"));
+    requireNoChildren(reader);
+
+    return peripheralOperation;
+  }
+
+  private PathTO.PathLayout readPathLayout(XMLStreamReader reader)
+      throws XMLStreamException {
+    PathTO.PathLayout pathLayout = new PathTO.PathLayout()
+        .setConnectionType(
+            enumAttribute(reader, "connectionType", PathTO.PathLayout.ConnectionType.class)
+        )
+        .setLayerId(intAttribute(reader, "layerId"));
+
+    List<PathTO.ControlPoint> controlPoints = new ArrayList<>();
+    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+      if (!reader.getLocalName().equals("controlPoint")) {
+        throw unexpectedElement(reader);
+      }
+      controlPoints.add(
+          new PathTO.ControlPoint()
+              .setX(longAttribute(reader, "x"))
+              .setY(longAttribute(reader, "y"))
+      );
+      requireNoChildren(reader);
+    }
+
+    return pathLayout.setControlPoints(controlPoints);
+  }
+
+  private VehicleTO readVehicle(XMLStreamReader reader)
+      throws XMLStreamException {
+    VehicleTO vehicle = new VehicleTO();
+    vehicle.setName(attribute(reader, "name"));
+    vehicle.setEnergyLevelCritical(longAttribute(reader, "energyLevelCritical"))
+        .setEnergyLevelGood(longAttribute(reader, "energyLevelGood"))
+        .setEnergyLevelFullyRecharged(longAttribute(reader, "energyLevelFullyRecharged"))
+        .setEnergyLevelSufficientlyRecharged(
+            longAttribute(reader, "energyLevelSufficientlyRecharged")
+        )
+        .setMaxVelocity(intAttribute(reader, "maxVelocity"))
+        .setMaxReverseVelocity(intAttribute(reader, "maxReverseVelocity"))
+        .setEnvelopeKey(reader.getAttributeValue(null, "envelopeKey"));
+
+    List<PropertyTO> properties = new ArrayList<>();
+    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+      switch (reader.getLocalName()) {
+        case "boundingBox" -> vehicle.setBoundingBox(readBoundingBox(reader));
+        case "property" -> properties.add(readProperty(reader));
+        case "vehicleLayout" -> {
+          vehicle.setVehicleLayout(
+              new VehicleTO.VehicleLayout().setColor(attribute(reader, "color"))
+          );
+          requireNoChildren(reader);
+        }
+        default -> throw unexpectedElement(reader);
+      }
+    }
+    vehicle.setProperties(properties);
+
+    return vehicle;
+  }
+
+  private LocationTypeTO readLocationType(XMLStreamReader reader)
+      throws XMLStreamException {
+    LocationTypeTO locationType = new LocationTypeTO();
+    locationType.setName(attribute(reader, "name"));
+
+    List<AllowedOperationTO> allowedOperations = new ArrayList<>();
+    List<AllowedPeripheralOperationTO> allowedPeripheralOperations = new ArrayList<>();
+    List<PropertyTO> properties = new ArrayList<>();
+    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+      switch (reader.getLocalName()) {
+        case "allowedOperation" -> allowedOperations.add(readAllowedOperation(reader));
+        case "allowedPeripheralOperation" -> {
+          AllowedPeripheralOperationTO allowedPeripheralOperation
+              = new AllowedPeripheralOperationTO();
+          allowedPeripheralOperation.setName(attribute(reader, "name"));
+          requireNoChildren(reader);
+          allowedPeripheralOperations.add(allowedPeripheralOperation);
+        }
+        case "property" -> properties.add(readProperty(reader));
+        case "locationTypeLayout" -> {
+          locationType.setLocationTypeLayout(
+              new LocationTypeTO.LocationTypeLayout()
+                  .setLocationRepresentation(
+                      enumAttribute(reader, "locationRepresentation", LocationRepresentation.class)
+                  )
+          );
+          requireNoChildren(reader);
+        }
+        default -> throw unexpectedElement(reader);
+      }
+    }
+    locationType.setAllowedOperations(allowedOperations)
+        .setAllowedPeripheralOperations(allowedPeripheralOperations)
+        .setProperties(properties);
+
+    return locationType;
+  }
+
+  private LocationTO readLocation(XMLStreamReader reader)
+      throws XMLStreamException {
+    LocationTO location = new LocationTO();
+    location.setName(attribute(reader, "name"));
+    location.setPositionX(longAttribute(reader, "positionX"))
+        .setPositionY(longAttribute(reader, "positionY"))
+        .setPositionZ(longAttribute(reader, "positionZ"))
+        .setType(attribute(reader, "type"))
+        .setLocked(booleanAttribute(reader, "locked"));
+
+    List<LocationTO.Link> links = new ArrayList<>();
+    List<PropertyTO> properties = new ArrayList<>();
+    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+      switch (reader.getLocalName()) {
+        case "link" -> links.add(readLink(reader));
+        case "property" -> properties.add(readProperty(reader));
+        case "locationLayout" -> {
+          location.setLocationLayout(
+              new LocationTO.LocationLayout()
+                  .setLabelOffsetX(longAttribute(reader, "labelOffsetX"))
+                  .setLabelOffsetY(longAttribute(reader, "labelOffsetY"))
+                  .setLocationRepresentation(
+                      enumAttribute(reader, "locationRepresentation", LocationRepresentation.class)
+                  )
+                  .setLayerId(intAttribute(reader, "layerId"))
+          );
+          requireNoChildren(reader);
+        }
+        default -> throw unexpectedElement(reader);
+      }
+    }
+    location.setLinks(links)
+        .setProperties(properties);
+
+    return location;
+  }
+
+  private LocationTO.Link readLink(XMLStreamReader reader)
+      throws XMLStreamException {
+    LocationTO.Link link = new LocationTO.Link()
+        .setPoint(attribute(reader, "point"));
+
+    List<AllowedOperationTO> allowedOperations = new ArrayList<>();
+    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+      if (!reader.getLocalName().equals("allowedOperation")) {
+        throw unexpectedElement(reader);
+      }
+      allowedOperations.add(readAllowedOperation(reader));
+    }
+
+    return link.setAllowedOperations(allowedOperations);
+  }
+
+  private AllowedOperationTO readAllowedOperation(XMLStreamReader reader)
+      throws XMLStreamException {
+    AllowedOperationTO allowedOperation = new AllowedOperationTO();
+    allowedOperation.setName(attribute(reader, "name"));
+    requireNoChildren(reader);
+
+    return allowedOperation;
+  }
+
+  private BlockTO readBlock(XMLStreamReader reader)
+      throws XMLStreamException {
+    BlockTO block = new BlockTO();
+    block.setName(attribute(reader, "name"));
+    block.setType(enumAttribute(reader, "type", BlockTO.Type.class));
+
+    List<MemberTO> members = new ArrayList<>();
+    List<PropertyTO> properties = new ArrayList<>();
+    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+      switch (reader.getLocalName()) {
+        case "member" -> {
+          MemberTO member = new MemberTO();
+          member.setName(attribute(reader, "name"));
+          requireNoChildren(reader);
+          members.add(member);
+        }
+        case "property" -> properties.add(readProperty(reader));
+        case "blockLayout" -> {
+          block.setBlockLayout(new BlockTO.BlockLayout().setColor(attribute(reader, "color")));
+          requireNoChildren(reader);
+        }
+        default -> throw unexpectedElement(reader);
+      }
+    }
+    block.setMembers(members)
+        .setProperties(properties);
+
+    return block;
+  }
+
+  private VisualLayoutTO readVisualLayout(XMLStreamReader reader)
+      throws XMLStreamException {
+    VisualLayoutTO visualLayout = new VisualLayoutTO();
+    visualLayout.setName(attribute(reader, "name"));
+    visualLayout.setScaleX(parseFloat(attribute(reader, "scaleX")))
+        .setScaleY(parseFloat(attribute(reader, "scaleY")));
+
+    List<VisualLayoutTO.Layer> layers = new ArrayList<>();
+    List<VisualLayoutTO.LayerGroup> layerGroups = new ArrayList<>();
+    List<PropertyTO> properties = new ArrayList<>();
+    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+      switch (reader.getLocalName()) {
+        case "layer" -> layers.add(
+            new VisualLayoutTO.Layer()
+                .setId(intAttribute(reader, "id"))
+                .setOrdinal(intAttribute(reader, "ordinal"))
+                .setVisible(booleanAttribute(reader, "visible"))
+                .setName(attribute(reader, "name"))
+                .setGroupId(intAttribute(reader, "groupId"))
+        );
+        case "layerGroup" -> layerGroups.add(
+            new VisualLayoutTO.LayerGroup()
+                .setId(intAttribute(reader, "id"))
+                .setName(attribute(reader, "name"))
+                .setVisible(booleanAttribute(reader, "visible"))
+        );
+        case "property" -> properties.add(readProperty(reader));
+        default -> throw unexpectedElement(reader);
+      }
+      if (reader.isStartElement()) {
+        requireNoChildren(reader);
+      }
+    }
+    visualLayout.setLayers(layers)
+        .setLayerGroups(layerGroups)
+        .setProperties(properties);
+
+    return visualLayout;
+  }
+
+  private BoundingBoxTO readBoundingBox(XMLStreamReader reader)
+      throws XMLStreamException {
+    BoundingBoxTO boundingBox = new BoundingBoxTO()
+        .setLength(longAttribute(reader, "length"))
+        .setWidth(longAttribute(reader, "width"))
+        .setHeight(longAttribute(reader, "height"))
+        .setReferenceOffsetX(longAttribute(reader, "referenceOffsetX"))
+        .setReferenceOffsetY(longAttribute(reader, "referenceOffsetY"));
+    requireNoChildren(reader);
+
+    return boundingBox;
+  }
+
+  private VehicleEnvelopeTO readVehicleEnvelope(XMLStreamReader reader)
+      throws XMLStreamException {
+    VehicleEnvelopeTO vehicleEnvelope = new VehicleEnvelopeTO()
+        .setKey(attribute(reader, "key"));
+
+    List<CoupleTO> vertices = new ArrayList<>();
+    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+      if (!reader.getLocalName().equals("vertex")) {
+        throw unexpectedElement(reader);
+      }
+      vertices.add(
+          new CoupleTO()
+              .setX(longAttribute(reader, "x"))
+              .setY(longAttribute(reader, "y"))
+      );
+      requireNoChildren(reader);
+    }
+
+    return vehicleEnvelope.setVertices(vertices);
+  }
+
+  private PropertyTO readProperty(XMLStreamReader reader)
+      throws XMLStreamException {
+    PropertyTO property = new PropertyTO()
+        .setName(attribute(reader, "name"))
+        .setValue(attribute(reader, "value"));
+    requireNoChildren(reader);
+
+    return property;
+  }
+
+  /**
+   * Consumes the end of the current element, which is expected to have no child elements.
+   */
+  private void requireNoChildren(XMLStreamReader reader)
+      throws XMLStreamException {
+    String elementName = reader.getLocalName();
+    if (reader.nextTag() != XMLStreamConstants.END_ELEMENT) {
+      throw new XMLStreamException(
+          "Unexpected child element '" + reader.getLocalName() + "' in element '" + elementName
+              + "'.",
+          reader.getLocation()
+      );
+    }
+  }
+
+  private XMLStreamException unexpectedElement(XMLStreamReader reader) {
+    return new XMLStreamException(
+        "Unexpected element '" + reader.getLocalName() + "'.",
+        reader.getLocation()
+    );
+  }
+
+  private String attribute(XMLStreamReader reader, String name)
+      throws XMLStreamException {
+    String value = reader.getAttributeValue(null, name);
+    if (value == null) {
+      throw new XMLStreamException(
+          "Missing attribute '" + name + "' in element '" + reader.getLocalName() + "'.",
+          reader.getLocation()
+      );
+    }
+    return value;
+  }
+
+  private long longAttribute(XMLStreamReader reader, String name)
+      throws XMLStreamException {
+    return Long.parseLong(attribute(reader, name).trim());
+  }
+
+  private int intAttribute(XMLStreamReader reader, String name)
+      throws XMLStreamException {
+    return Integer.parseInt(attribute(reader, name).trim());
+  }
+
+  private boolean booleanAttribute(XMLStreamReader reader, String name)
+      throws XMLStreamException {
+    return switch (attribute(reader, name).trim()) {
+      case "true", "1" -> true;
+      case "false", "0" -> false;
+      default -> throw new XMLStreamException(
+          "Invalid boolean value for attribute '" + name + "' in element '"
+              + reader.getLocalName() + "'.",
+          reader.getLocation()
+      );
+    };
+  }
+
+  private <E extends Enum<E>> E enumAttribute(
+      XMLStreamReader reader,
+      String name,
+      Class<E> enumClass
+  )
+      throws XMLStreamException {
+    return Enum.valueOf(enumClass, attribute(reader, name).trim());
+  }
+
+  /**
+   * Parses the given value of type xsd:float.
+   */
+  private float parseFloat(String value) {
+    return switch (value.trim()) {
+      case "INF" -> Float.POSITIVE_INFINITY;
+      case "-INF" -> Float.NEGATIVE_INFINITY;
+      default -> Float.parseFloat(value.trim());
+    };
+  }
+}
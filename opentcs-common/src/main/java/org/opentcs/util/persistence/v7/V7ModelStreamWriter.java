@@ -0,0 +1,436 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.persistence.v7;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.opentcs.access.to.model.BlockCreationTO;
+import org.opentcs.access.to.model.LocationCreationTO;
+import org.opentcs.access.to.model.LocationTypeCreationTO;
+import org.opentcs.access.to.model.PathCreationTO;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+
+/**
+ * Writes models in the V7 format in a streaming fashion.
+ * <p>
+ * In contrast to marshalling a {@link V7PlantModelTO}, this writer does not create the transfer
+ * objects for the whole model first. Instead, every model element is mapped to its transfer object
+ * and written right away. The output is the same as the one produced by marshalling the model with
+ * JAXB.
+ * </p>
+ */
+public class V7ModelStreamWriter {
+
+  /**
+   * The XML declaration written at the beginning of every document.
+   */
+  private static final String XML_DECLARATION
+      = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+  /**
+   * The indentation for every level of the element hierarchy.
+   */
+  private static final String INDENTATION = "    ";
+  /**
+   * Maps the model elements to their transfer objects.
+   */
+  private final V7TOMapper mapper = new V7TOMapper();
+
+  /**
+   * Creates a new instance.
+   */
+  public V7ModelStreamWriter() {
+  }
+
+  /**
+   * Writes the given model to the given writer.
+   *
+   * @param model The model.
+   * @param writer The writer to write the model to. Expected to encode characters with UTF-8.
+   * @throws IOException If there was an error writing the model.
+   */
+  public void write(
+      @Nonnull
+      PlantModelCreationTO model,
+      @Nonnull
+      Writer writer
+  )
+      throws IOException {
+    requireNonNull(model, "model");
+    requireNonNull(writer, "writer");
+
+    writer.write(XML_DECLARATION);
+    try {
+      XMLStreamWriter xmlWriter = XMLOutputFactory.newFactory().createXMLStreamWriter(writer);
+      writeModel(model, xmlWriter);
+      xmlWriter.flush();
+      xmlWriter.close();
+    }
+    catch (XMLStreamException exc) {
+      throw new IOException("Exception writing model", exc);
+    }
+    writer.write("\n");
+    writer.flush();
+  }
+
+  private void writeModel(PlantModelCreationTO model, XMLStreamWriter writer)
+      throws XMLStreamException {
+    writer.writeStartElement("model");
+    writer.writeAttribute("version", V7PlantModelTO.VERSION_STRING);
+    writer.writeAttribute("name", model.getName());
+
+    // Group paths by their source point (i.e. map points to their respective outgoing paths) and
+    // avoid iterating over all paths repeatedly.
+    Map<String, List<PathCreationTO>> pathsBySourcePoint = model.getPaths().stream()
+        .collect(Collectors.groupingBy(PathCreationTO::getSrcPointName));
+    for (PointCreationTO point : sortedByName(model.getPoints(), PointCreationTO::getName)) {
+      writePoint(
+          mapper.toPointTO(point, pathsBySourcePoint.getOrDefault(point.getName(), List.of())),
+          writer
+      );
+    }
+    for (PathCreationTO path : sortedByName(model.getPaths(), PathCreationTO::getName)) {
+      writePath(mapper.toPathTO(path), writer);
+    }
+    for (VehicleCreationTO vehicle : sortedByName(
+        model.getVehicles(),
+        VehicleCreationTO::getName
+    )) {
+      writeVehicle(mapper.toVehicleTO(vehicle), writer);
+    }
+    for (LocationTypeCreationTO locationType : sortedByName(
+        model.getLocationTypes(),
+        LocationTypeCreationTO::getName
+    )) {
+      writeLocationType(mapper.toLocationTypeTO(locationType), writer);
+    }
+    for (LocationCreationTO location : sortedByName(
+        model.getLocations(),
+        LocationCreationTO::getName
+    )) {
+      writeLocation(mapper.toLocationTO(location), writer);
+    }
+    for (BlockCreationTO block : sortedByName(model.getBlocks(), BlockCreationTO::getName)) {
+      writeBlock(mapper.toBlockTO(block), writer);
+    }
+    writeVisualLayout(mapper.toVisualLayoutTO(model.getVisualLayout()), writer);
+    writeProperties(mapper.convertProperties(model.getProperties()), 1, writer);
+
+    endElement(0, writer);
+  }
+
+  private void writePoint(PointTO point, XMLStreamWriter writer)
+      throws XMLStreamException {
+    startElement("point", 1, writer);
+    attribute("name", point.getName(), writer);
+    attribute("positionX", point.getPositionX(), writer);
+    attribute("positionY", point.getPositionY(), writer);
+    attribute("positionZ", point.getPositionZ(), writer);
+    attribute("vehicleOrientationAngle", printFloat(point.getVehicleOrientationAngle()), writer);
+    attribute("type", point.getType(), writer);
+
+    writeBoundingBox("maxVehicleBoundingBox", point.getMaxVehicleBoundingBox(), writer);
+    writeVehicleEnvelopes(point.getVehicleEnvelopes(), writer);
+    for (PointTO.OutgoingPath outgoingPath : point.getOutgoingPaths()) {
+      emptyElement("outgoingPath", 2, writer);
+      attribute("name", outgoingPath.getName(), writer);
+    }
+    writeProperties(point.getProperties(), 2, writer);
+    emptyElement("pointLayout", 2, writer);
+    attribute("labelOffsetX", point.getPointLayout().getLabelOffsetX(), writer);
+    attribute("labelOffsetY", point.getPointLayout().getLabelOffsetY(), writer);
+    attribute("layerId", point.getPointLayout().getLayerId(), writer);
+
+    endElement(1, writer);
+  }
+
+  private void writePath(PathTO path, XMLStreamWriter writer)
+      throws XMLStreamException {
+    startElement("path", 1, writer);
+    attribute("name", path.getName(), writer);
+    attribute("sourcePoint", path.getSourcePoint(), writer);
+    attribute("destinationPoint", path.getDestinationPoint(), writer);
+    attribute("length", path.getLength(), writer);
+    attribute("maxVelocity", path.getMaxVelocity(), writer);
+    attribute("maxReverseVelocity", path.getMaxReverseVelocity(), writer);
+    attribute("locked", path.isLocked(), writer);
+
+    for (PeripheralOperationTO operation : path.getPeripheralOperations()) {
+      emptyElement("peripheralOperation", 2, writer);
+      attribute("completionRequired", operation.isCompletionRequired(), writer);
+      attribute("executionTrigger", operation.getExecutionTrigger(), writer);
+      attribute("locationName", operation.getLocationName(), writer);
+      attribute("name", operation.getName(), writer);
+    }
+    writeVehicleEnvelopes(path.getVehicleEnvelopes(), writer);
+    writeProperties(path.getProperties(), 2, writer);
+
+    PathTO.PathLayout pathLayout = path.getPathLayout();
+    if (pathLayout.getControlPoints().isEmpty()) {
+      emptyElement("pathLayout", 2, writer);
+    }
+    else {
+      startElement("pathLayout", 2, writer);
+    }
+    attribute("connectionType", pathLayout.getConnectionType(), writer);
+    attribute("layerId", pathLayout.getLayerId(), writer);
+    if (!pathLayout.getControlPoints().isEmpty()) {
+      for (PathTO.ControlPoint controlPoint : pathLayout.getControlPoints()) {
+        emptyElement("controlPoint", 3, writer);
+        attribute("x", controlPoint.getX(), writer);
+        attribute("y", controlPoint.getY(), writer);
+      }
+      endElement(2, writer);
+    }
+
+    endElement(1, writer);
+  }
+
+  private void writeVehicle(VehicleTO vehicle, XMLStreamWriter writer)
+      throws XMLStreamException {
+    startElement("vehicle", 1, writer);
+    attribute("name", vehicle.getName(), writer);
+    attribute("energyLevelCritical", vehicle.getEnergyLevelCritical(), writer);
+    attribute("energyLevelGood", vehicle.getEnergyLevelGood(), writer);
+    attribute("energyLevelFullyRecharged", vehicle.getEnergyLevelFullyRecharged(), writer);
+    attribute(
+        "energyLevelSufficientlyRecharged",
+        vehicle.getEnergyLevelSufficientlyRecharged(),
+        writer
+    );
+    attribute("maxVelocity", vehicle.getMaxVelocity(), writer);
+    attribute("maxReverseVelocity", vehicle.getMaxReverseVelocity(), writer);
+    attribute("envelopeKey", vehicle.getEnvelopeKey(), writer);
+
+    writeBoundingBox("boundingBox", vehicle.getBoundingBox(), writer);
+    writeProperties(vehicle.getProperties(), 2, writer);
+    emptyElement("vehicleLayout", 2, writer);
+    attribute("color", vehicle.getVehicleLayout().getColor(), writer);
+
+    endElement(1, writer);
+  }
+
+  private void writeLocationType(LocationTypeTO locationType, XMLStreamWriter writer)
+      throws XMLStreamException {
+    startElement("locationType", 1, writer);
+    attribute("name", locationType.getName(), writer);
+
+    for (AllowedOperationTO operation : locationType.getAllowedOperations()) {
+      emptyElement("allowedOperation", 2, writer);
+      attribute("name", operation.getName(), writer);
+    }
+    for (AllowedPeripheralOperationTO operation : locationType.getAllowedPeripheralOperations()) {
+      emptyElement("allowedPeripheralOperation", 2, writer);
+      attribute("name", operation.getName(), writer);
+    }
+    writeProperties(locationType.getProperties(), 2, writer);
+    emptyElement("locationTypeLayout", 2, writer);
+    attribute(
+        "locationRepresentation",
+        locationType.getLocationTypeLayout().getLocationRepresentation(),
+        writer
+    );
+
+    endElement(1, writer);
+  }
+
+  private void writeLocation(LocationTO location, XMLStreamWriter writer)
+      throws XMLStreamException {
+    startElement("location", 1, writer);
+    attribute("name", location.getName(), writer);
+    attribute("positionX", location.getPositionX(), writer);
+    attribute("positionY", location.getPositionY(), writer);
+    attribute("positionZ", location.getPositionZ(), writer);
+    attribute("locked", location.isLocked(), writer);
+    attribute("type", location.getType(), writer);
+
+    for (LocationTO.Link link : location.getLinks()) {
+      if (link.getAllowedOperations().isEmpty()) {
+        emptyElement("link", 2, writer);
+        attribute("point", link.getPoint(), writer);
+      }
+      else {
+        startElement("link", 2, writer);
+        attribute("point", link.getPoint(), writer);
+        for (AllowedOperationTO operation : link.getAllowedOperations()) {
+          emptyElement("allowedOperation", 3, writer);
+          attribute("name", operation.getName(), writer);
+        }
+        endElement(2, writer);
+      }
+    }
+    writeProperties(location.getProperties(), 2, writer);
+    LocationTO.LocationLayout locationLayout = location.getLocationLayout();
+    emptyElement("locationLayout", 2, writer);
+    attribute("labelOffsetX", locationLayout.getLabelOffsetX(), writer);
+    attribute("labelOffsetY", locationLayout.getLabelOffsetY(), writer);
+    attribute("locationRepresentation", locationLayout.getLocationRepresentation(), writer);
+    attribute("layerId", locationLayout.getLayerId(), writer);
+
+    endElement(1, writer);
+  }
+
+  private void writeBlock(BlockTO block, XMLStreamWriter writer)
+      throws XMLStreamException {
+    startElement("block", 1, writer);
+    attribute("name", block.getName(), writer);
+    attribute("type", block.getType(), writer);
+
+    for (MemberTO member : block.getMembers()) {
+      emptyElement("member", 2, writer);
+      attribute("name", member.getName(), writer);
+    }
+    writeProperties(block.getProperties(), 2, writer);
+    emptyElement("blockLayout", 2, writer);
+    attribute("color", block.getBlockLayout().getColor(), writer);
+
+    endElement(1, writer);
+  }
+
+  private void writeVisualLayout(VisualLayoutTO visualLayout, XMLStreamWriter writer)
+      throws XMLStreamException {
+    boolean empty = visualLayout.getLayers().isEmpty()
+        && visualLayout.getLayerGroups().isEmpty()
+        && visualLayout.getProperties().isEmpty();
+    if (empty) {
+      emptyElement("visualLayout", 1, writer);
+    }
+    else {
+      startElement("visualLayout", 1, writer);
+    }
+    attribute("name", visualLayout.getName(), writer);
+    attribute("scaleX", printFloat(visualLayout.getScaleX()), writer);
+    attribute("scaleY", printFloat(visualLayout.getScaleY()), writer);
+    if (empty) {
+      return;
+    }
+
+    for (VisualLayoutTO.Layer layer : visualLayout.getLayers()) {
+      emptyElement("layer", 2, writer);
+      attribute("id", layer.getId(), writer);
+      attribute("ordinal", layer.getOrdinal(), writer);
+      attribute("visible", layer.isVisible(), writer);
+      attribute("name", layer.getName(), writer);
+      attribute("groupId", layer.getGroupId(), writer);
+    }
+    for (VisualLayoutTO.LayerGroup layerGroup : visualLayout.getLayerGroups()) {
+      emptyElement("layerGroup", 2, writer);
+      attribute("id", layerGroup.getId(), writer);
+      attribute("name", layerGroup.getName(), writer);
+      attribute("visible", layerGroup.isVisible(), writer);
+    }
+    writeProperties(visualLayout.getProperties(), 2, writer);
+
+    endElement(1, writer);
+  }
+
+  private void writeBoundingBox(
+      String elementName,
+      BoundingBoxTO boundingBox,
+      XMLStreamWriter writer
+  )
+      throws XMLStreamException {
+    emptyElement(elementName, 2, writer);
+    attribute("length", boundingBox.getLength(), writer);
+    attribute("width", boundingBox.getWidth(), writer);
+    attribute("height", boundingBox.getHeight(), writer);
+    attribute("referenceOffsetX", boundingBox.getReferenceOffsetX(), writer);
+    attribute("referenceOffsetY", boundingBox.getReferenceOffsetY(), writer);
+  }
+
+  private void writeVehicleEnvelopes(List<VehicleEnvelopeTO> envelopes, XMLStreamWriter writer)
+      throws XMLStreamException {
+    for (VehicleEnvelopeTO envelope : envelopes) {
+      if (envelope.getVertices().isEmpty()) {
+        emptyElement("vehicleEnvelope", 2, writer);
+        attribute("key", envelope.getKey(), writer);
+        continue;
+      }
+
+      startElement("vehicleEnvelope", 2, writer);
+      attribute("key", envelope.getKey(), writer);
+      for (CoupleTO vertex : envelope.getVertices()) {
+        emptyElement("vertex", 3, writer);
+        attribute("x", vertex.getX(), writer);
+        attribute("y", vertex.getY(), writer);
+      }
+      endElement(2, writer);
+    }
+  }
+
+  private void writeProperties(List<PropertyTO> properties, int depth, XMLStreamWriter writer)
+      throws XMLStreamException {
+    for (PropertyTO property : properties) {
+      emptyElement("property", depth, writer);
+      attribute("name", property.getName(), writer);
+      attribute("value", property.getValue(), writer);
+    }
+  }
+
+  private void startElement(String name, int depth, XMLStreamWriter writer)
+      throws XMLStreamException {
+    indent(depth, writer);
+    writer.writeStartElement(name);
+  }
+
+  private void emptyElement(String name, int depth, XMLStreamWriter writer)
+      throws XMLStreamException {
+    indent(depth, writer);
+    writer.writeEmptyElement(name);
+  }
+
+  private void endElement(int depth, XMLStreamWriter writer)
+      throws XMLStreamException {
+    indent(depth, writer);
+    writer.writeEndElement();
+  }
+
+  private void indent(int depth, XMLStreamWriter writer)
+      throws XMLStreamException {
+    writer.writeCharacters("\n" + INDENTATION.repeat(depth));
+  }
+
+  /**
+   * Writes the given attribute, unless its value is {@code null}.
+   */
+  private void attribute(String name, Object value, XMLStreamWriter writer)
+      throws XMLStreamException {
+    if (value != null) {
+      writer.writeAttribute(name, value.toString());
+    }
+  }
+
+  /**
+   * Prints the given value as an xsd:float.
+   */
+  private String printFloat(Float value) {
+    if (value == null) {
+      return null;
+    }
+    if (value == Float.POSITIVE_INFINITY) {
+      return "INF";
+    }
+    if (value == Float.NEGATIVE_INFINITY) {
+      return "-INF";
+    }
+    return String.valueOf(value);
+  }
+
+  private <T> List<T> sortedByName(List<T> elements, Function<T, String> name) {
+    return elements.stream()
+        .sorted(Comparator.comparing(name))
+        .toList();
+  }
+}
@@ -250,7 +250,7 @@ public class V7PlantModelTO
     return JAXBContext.newInstance(V7PlantModelTO.class);
   }
 
-  private static Schema createSchema()
+  static Schema createSchema()
       throws SAXException {
     URL schemaUrl
         = V7PlantModelTO.class.getResource("/org/opentcs/util/persistence/model-7.0.0.xsd");
@@ -88,98 +88,122 @@ public class V7TOMapper {
     List<PointCreationTO> result = new ArrayList<>();
 
     for (PointTO point : points) {
-      result.add(
-          new PointCreationTO(point.getName())
-              .withPose(
-                  new PoseCreationTO(
-                      new TripleCreationTO(
-                          point.getPositionX(),
-                          point.getPositionY(),
-                          point.getPositionZ()
-                      ),
-                      point.getVehicleOrientationAngle().doubleValue()
-                  )
-              )
-              .withType(toPointType(point.getType()))
-              .withVehicleEnvelopes(toEnvelopeMap(point.getVehicleEnvelopes()))
-              .withMaxVehicleBoundingBox(toBoundingBoxCreationTO(point.getMaxVehicleBoundingBox()))
-              .withProperties(convertProperties(point.getProperties()))
-              .withLayout(
-                  new PointCreationTO.Layout(
-                      new CoupleCreationTO(
-                          point.getPointLayout().getLabelOffsetX(),
-                          point.getPointLayout().getLabelOffsetY()
-                      ),
-                      point.getPointLayout().getLayerId()
-                  )
-              )
-      );
+      result.add(toPointCreationTO(point));
     }
 
     return result;
   }
 
+  /**
+   * Maps the given {@link PointTO} to a {@link PointCreationTO} instance.
+   *
+   * @param point The element to map.
+   * @return The mapped {@link PointCreationTO} instance.
+   */
+  PointCreationTO toPointCreationTO(PointTO point) {
+    return new PointCreationTO(point.getName())
+        .withPose(
+            new PoseCreationTO(
+                new TripleCreationTO(
+                    point.getPositionX(),
+                    point.getPositionY(),
+                    point.getPositionZ()
+                ),
+                point.getVehicleOrientationAngle().doubleValue()
+            )
+        )
+        .withType(toPointType(point.getType()))
+        .withVehicleEnvelopes(toEnvelopeMap(point.getVehicleEnvelopes()))
+        .withMaxVehicleBoundingBox(toBoundingBoxCreationTO(point.getMaxVehicleBoundingBox()))
+        .withProperties(convertProperties(point.getProperties()))
+        .withLayout(
+            new PointCreationTO.Layout(
+                new CoupleCreationTO(
+                    point.getPointLayout().getLabelOffsetX(),
+                    point.getPointLayout().getLabelOffsetY()
+                ),
+                point.getPointLayout().getLayerId()
+            )
+        );
+  }
+
   private List<VehicleCreationTO> toVehicleCreationTO(List<VehicleTO> vehicles) {
     List<VehicleCreationTO> result = new ArrayList<>();
 
     for (VehicleTO vehicle : vehicles) {
-      result.add(
-          new VehicleCreationTO(vehicle.getName())
-              .withBoundingBox(toBoundingBoxCreationTO(vehicle.getBoundingBox()))
-              .withEnergyLevelThresholdSet(toEnergyLevelThresholdSetCreationTO(vehicle))
-              .withMaxReverseVelocity(vehicle.getMaxReverseVelocity())
-              .withMaxVelocity(vehicle.getMaxVelocity())
-              .withEnvelopeKey(vehicle.getEnvelopeKey())
-              .withProperties(convertProperties(vehicle.getProperties()))
-              .withLayout(
-                  new VehicleCreationTO.Layout(
-                      Colors.decodeFromHexRGB(vehicle.getVehicleLayout().getColor())
-                  )
-              )
-      );
+      result.add(toVehicleCreationTO(vehicle));
     }
 
     return result;
   }
 
+  /**
+   * Maps the given {@link VehicleTO} to a {@link VehicleCreationTO} instance.
+   *
+   * @param vehicle The element to map.
+   * @return The mapped {@link VehicleCreationTO} instance.
+   */
+  VehicleCreationTO toVehicleCreationTO(VehicleTO vehicle) {
+    return new VehicleCreationTO(vehicle.getName())
+        .withBoundingBox(toBoundingBoxCreationTO(vehicle.getBoundingBox()))
+        .withEnergyLevelThresholdSet(toEnergyLevelThresholdSetCreationTO(vehicle))
+        .withMaxReverseVelocity(vehicle.getMaxReverseVelocity())
+        .withMaxVelocity(vehicle.getMaxVelocity())
+        .withEnvelopeKey(vehicle.getEnvelopeKey())
+        .withProperties(convertProperties(vehicle.getProperties()))
+        .withLayout(
+            new VehicleCreationTO.Layout(
+                Colors.decodeFromHexRGB(vehicle.getVehicleLayout().getColor())
+            )
+        );
+  }
+
   private List<PathCreationTO> toPathCreationTO(List<PathTO> paths) {
     List<PathCreationTO> result = new ArrayList<>();
 
     for (PathTO path : paths) {
-      result.add(
-          new PathCreationTO(
-              path.getName(),
-              path.getSourcePoint(),
-              path.getDestinationPoint()
-          )
-              .withLength(path.getLength())
-              .withLocked(path.isLocked())
-              .withMaxVelocity(path.getMaxVelocity().intValue())
-              .withMaxReverseVelocity(path.getMaxReverseVelocity().intValue())
-              .withPeripheralOperations(
-                  toPeripheralOperationCreationTOs(path.getPeripheralOperations())
-              )
-              .withVehicleEnvelopes(toEnvelopeMap(path.getVehicleEnvelopes()))
-              .withProperties(convertProperties(path.getProperties()))
-              .withLayout(
-                  new PathCreationTO.Layout(
-                      toConnectionType(path.getPathLayout().getConnectionType()),
-                      path.getPathLayout().getControlPoints().stream()
-                          .map(
-                              controlPoint -> new CoupleCreationTO(
-                                  controlPoint.getX(), controlPoint.getY()
-                              )
-                          )
-                          .toList(),
-                      path.getPathLayout().getLayerId()
-                  )
-              )
-      );
+      result.add(toPathCreationTO(path));
     }
 
     return result;
   }
 
+  /**
+   * Maps the given {@link PathTO} to a {@link PathCreationTO} instance.
+   *
+   * @param path The element to map.
+   * @return The mapped {@link PathCreationTO} instance.
+   */
+  PathCreationTO toPathCreationTO(PathTO path) {
+    return new PathCreationTO(
+        path.getName(),
+        path.getSourcePoint(),
+        path.getDestinationPoint()
+    )
+        .withLength(path.getLength())
+        .withLocked(path.isLocked())
+        .withMaxVelocity(path.getMaxVelocity().intValue())
+        .withMaxReverseVelocity(path.getMaxReverseVelocity().intValue())
+        .withPeripheralOperations(
+            toPeripheralOperationCreationTOs(path.getPeripheralOperations())
+        )
+        .withVehicleEnvelopes(toEnvelopeMap(path.getVehicleEnvelopes()))
+        .withProperties(convertProperties(path.getProperties()))
+        .withLayout(
+            new PathCreationTO.Layout(
+                toConnectionType(path.getPathLayout().getConnectionType()),
+                path.getPathLayout().getControlPoints().stream()
+                    .map(
+                        controlPoint -> new CoupleCreationTO(
+                            controlPoint.getX(), controlPoint.getY()
+                        )
+                    )
+                    .toList(),
+                path.getPathLayout().getLayerId()
+            )
+        );
+  }
+
   private List<PeripheralOperationCreationTO> toPeripheralOperationCreationTOs(
       List<PeripheralOperationTO> tos
   ) {
@@ -200,88 +224,118 @@ public class V7TOMapper {
     List<LocationTypeCreationTO> result = new ArrayList<>();
 
     for (LocationTypeTO locationType : locationTypes) {
-      result.add(
-          new LocationTypeCreationTO(locationType.getName())
-              .withAllowedOperations(getOperationNames(locationType.getAllowedOperations()))
-              .withAllowedPeripheralOperations(
-                  getPeripheralOperationNames(
-                      locationType.getAllowedPeripheralOperations()
-                  )
-              )
-              .withProperties(convertProperties(locationType.getProperties()))
-              .withLayout(
-                  new LocationTypeCreationTO.Layout(
-                      toLocationRepresentation(
-                          locationType.getLocationTypeLayout().getLocationRepresentation()
-                      )
-                  )
-              )
-      );
+      result.add(toLocationTypeCreationTO(locationType));
     }
 
     return result;
   }
 
+  /**
+   * Maps the given {@link LocationTypeTO} to a {@link LocationTypeCreationTO} instance.
+   *
+   * @param locationType The element to map.
+   * @return The mapped {@link LocationTypeCreationTO} instance.
+   */
+  LocationTypeCreationTO toLocationTypeCreationTO(LocationTypeTO locationType) {
+    return new LocationTypeCreationTO(locationType.getName())
+        .withAllowedOperations(getOperationNames(locationType.getAllowedOperations()))
+        .withAllowedPeripheralOperations(
+            getPeripheralOperationNames(
+                locationType.getAllowedPeripheralOperations()
+            )
+        )
+        .withProperties(convertProperties(locationType.getProperties()))
+        .withLayout(
+            new LocationTypeCreationTO.Layout(
+                toLocationRepresentation(
+                    locationType.getLocationTypeLayout().getLocationRepresentation()
+                )
+            )
+        );
+  }
+
   private List<LocationCreationTO> toLocationCreationTO(List<LocationTO> locations) {
     List<LocationCreationTO> result = new ArrayList<>();
 
     for (LocationTO location : locations) {
-      result.add(
-          new LocationCreationTO(
-              location.getName(),
-              location.getType(),
-              new TripleCreationTO(
-                  location.getPositionX(),
-                  location.getPositionY(),
-                  location.getPositionZ()
-              )
-          )
-              .withLinks(getLinks(location))
-              .withLocked(location.isLocked())
-              .withProperties(convertProperties(location.getProperties()))
-              .withLayout(
-                  new LocationCreationTO.Layout(
-                      new CoupleCreationTO(
-                          location.getLocationLayout().getLabelOffsetX(),
-                          location.getLocationLayout().getLabelOffsetY()
-                      ),
-                      toLocationRepresentation(
-                          location.getLocationLayout().getLocationRepresentation()
-                      ),
-                      location.getLocationLayout().getLayerId()
-                  )
-              )
-      );
+      result.add(toLocationCreationTO(location));
     }
 
     return result;
   }
 
+  /**
+   * Maps the given {@link LocationTO} to a {@link LocationCreationTO} instance.
+   *
+   * @param location The element to map.
+   * @return The mapped {@link LocationCreationTO} instance.
+   */
+  LocationCreationTO toLocationCreationTO(LocationTO location) {
+    return new LocationCreationTO(
+        location.getName(),
+        location.getType(),
+        new TripleCreationTO(
+            location.getPositionX(),
+            location.getPositionY(),
+            location.getPositionZ()
+        )
+    )
+        .withLinks(getLinks(location))
+        .withLocked(location.isLocked())
+        .withProperties(convertProperties(location.getProperties()))
+        .withLayout(
+            new LocationCreationTO.Layout(
+                new CoupleCreationTO(
+                    location.getLocationLayout().getLabelOffsetX(),
+                    location.getLocationLayout().getLabelOffsetY()
+                ),
+                toLocationRepresentation(
+                    location.getLocationLayout().getLocationRepresentation()
+                ),
+                location.getLocationLayout().getLayerId()
+            )
+        );
+  }
+
   private List<BlockCreationTO> toBlockCreationTO(List<BlockTO> blocks) {
     List<BlockCreationTO> result = new ArrayList<>();
 
     for (BlockTO block : blocks) {
-      result.add(
-          new BlockCreationTO(block.getName())
-              .withType(toBlockType(block.getType()))
-              .withMemberNames(
-                  block.getMembers().stream()
-                      .map(member -> member.getName())
-                      .collect(Collectors.toSet())
-              )
-              .withProperties(convertProperties(block.getProperties()))
-              .withLayout(
-                  new BlockCreationTO.Layout(
-                      Colors.decodeFromHexRGB(block.getBlockLayout().getColor())
-                  )
-              )
-      );
+      result.add(toBlockCreationTO(block));
     }
 
     return result;
   }
 
-  private VisualLayoutCreationTO toVisualLayoutCreationTO(VisualLayoutTO visualLayout) {
+  /**
+   * Maps the given {@link BlockTO} to a {@link BlockCreationTO} instance.
+   *
+   * @param block The element to map.
+   * @return The mapped {@link BlockCreationTO} instance.
+   */
+  BlockCreationTO toBlockCreationTO(BlockTO block) {
+    return new BlockCreationTO(block.getName())
+        .withType(toBlockType(block.getType()))
+        .withMemberNames(
+            block.getMembers().stream()
+                .map(member -> member.getName())
+                .collect(Collectors.toSet())
+        )
+        .withProperties(convertProperties(block.getProperties()))
+        .withLayout(
+            new BlockCreationTO.Layout(
+                Colors.decodeFromHexRGB(block.getBlockLayout().getColor())
+            )
+        );
+  }
+
+  /**
+   * Maps the given {@link VisualLayoutTO} to a {@link VisualLayoutCreationTO} instance.
+   *
+   * @param visualLayout The element to map.
+   * @return The mapped {@link VisualLayoutCreationTO} instance.
+   */
+  VisualLayoutCreationTO toVisualLayoutCreationTO(VisualLayoutTO visualLayout) {
     return new VisualLayoutCreationTO(visualLayout.getName())
         .withScaleX(visualLayout.getScaleX())
         .withScaleY(visualLayout.getScaleY())
@@ -326,7 +380,13 @@ public class V7TOMapper {
     return result;
   }
 
-  private Map<String, String> convertProperties(List<PropertyTO> propsList) {
+  /**
+   * Maps the given properties to a map of property keys to values.
+   *
+   * @param propsList The properties to map.
+   * @return The mapped properties.
+   */
+  Map<String, String> convertProperties(List<PropertyTO> propsList) {
     Map<String, String> result = new HashMap<>();
     for (PropertyTO property : propsList) {
       String propName
@@ -378,24 +438,7 @@ public class V7TOMapper {
         .collect(Collectors.groupingBy(PathCreationTO::getSrcPointName));
 
     for (PointCreationTO point : points) {
-      PointTO pointTO = new PointTO();
-      pointTO.setName(point.getName());
-      pointTO.setPositionX(point.getPose().getPosition().getX())
-          .setPositionY(point.getPose().getPosition().getY())
-          .setVehicleOrientationAngle((float) point.getPose().getOrientationAngle())
-          .setType(toPointTOType(point.getType()))
-          .setOutgoingPaths(getOutgoingPaths(point, pathsBySourcePoint))
-          .setVehicleEnvelopes(toVehicleEnvelopeTOs(point.getVehicleEnvelopes()))
-          .setMaxVehicleBoundingBox(toBoundingBoxTO(point.getMaxVehicleBoundingBox()))
-          .setPointLayout(
-              new PointTO.PointLayout()
-                  .setLabelOffsetX(point.getLayout().getLabelOffset().getX())
-                  .setLabelOffsetY(point.getLayout().getLabelOffset().getY())
-                  .setLayerId(point.getLayout().getLayerId())
-          )
-          .setProperties(convertProperties(point.getProperties()));
-
-      result.add(pointTO);
+      result.add(toPointTO(point, pathsBySourcePoint.getOrDefault(point.getName(), List.of())));
     }
 
     Collections.sort(result, Comparators.elementsByName());
@@ -403,33 +446,39 @@ public class V7TOMapper {
     return result;
   }
 
+  /**
+   * Maps the given {@link PointCreationTO} to a {@link PointTO} instance.
+   *
+   * @param point The element to map.
+   * @param outgoingPaths The paths having the element as their source point.
+   * @return The mapped {@link PointTO} instance.
+   */
+  PointTO toPointTO(PointCreationTO point, List<PathCreationTO> outgoingPaths) {
+    PointTO pointTO = new PointTO();
+    pointTO.setName(point.getName());
+    pointTO.setPositionX(point.getPose().getPosition().getX())
+        .setPositionY(point.getPose().getPosition().getY())
+        .setVehicleOrientationAngle((float) point.getPose().getOrientationAngle())
+        .setType(toPointTOType(point.getType()))
+        .setOutgoingPaths(getOutgoingPaths(outgoingPaths))
+        .setVehicleEnvelopes(toVehicleEnvelopeTOs(point.getVehicleEnvelopes()))
+        .setMaxVehicleBoundingBox(toBoundingBoxTO(point.getMaxVehicleBoundingBox()))
+        .setPointLayout(
+            new PointTO.PointLayout()
+                .setLabelOffsetX(point.getLayout().getLabelOffset().getX())
+                .setLabelOffsetY(point.getLayout().getLabelOffset().getY())
+                .setLayerId(point.getLayout().getLayerId())
+        )
+        .setProperties(convertProperties(point.getProperties()));
+
+    return pointTO;
+  }
+
   private List<VehicleTO> toVehicleTO(List<VehicleCreationTO> vehicles) {
     List<VehicleTO> result = new ArrayList<>();
 
     for (VehicleCreationTO vehicle : vehicles) {
-      VehicleTO vehicleTO = new VehicleTO();
-      vehicleTO.setName(vehicle.getName());
-      vehicleTO.setBoundingBox(toBoundingBoxTO(vehicle.getBoundingBox()))
-          .setMaxVelocity(vehicle.getMaxVelocity())
-          .setMaxReverseVelocity(vehicle.getMaxReverseVelocity())
-          .setEnergyLevelGood((long) vehicle.getEnergyLevelThresholdSet().getEnergyLevelGood())
-          .setEnergyLevelCritical(
-              (long) vehicle.getEnergyLevelThresholdSet().getEnergyLevelCritical()
-          )
-          .setEnergyLevelFullyRecharged(
-              (long) vehicle.getEnergyLevelThresholdSet().getEnergyLevelFullyRecharged()
-          )
-          .setEnergyLevelSufficientlyRecharged(
-              (long) vehicle.getEnergyLevelThresholdSet().getEnergyLevelSufficientlyRecharged()
-          )
-          .setEnvelopeKey(vehicle.getEnvelopeKey())
-          .setVehicleLayout(
-              new VehicleTO.VehicleLayout()
-                  .setColor(Colors.encodeToHexRGB(vehicle.getLayout().getRouteColor()))
-          )
-          .setProperties(convertProperties(vehicle.getProperties()));
-
-      result.add(vehicleTO);
+      result.add(toVehicleTO(vehicle));
     }
 
     Collections.sort(result, Comparators.elementsByName());
@@ -437,37 +486,43 @@ public class V7TOMapper {
     return result;
   }
 
+  /**
+   * Maps the given {@link VehicleCreationTO} to a {@link VehicleTO} instance.
+   *
+   * @param vehicle The element to map.
+   * @return The mapped {@link VehicleTO} instance.
+   */
+  VehicleTO toVehicleTO(VehicleCreationTO vehicle) {
+    VehicleTO vehicleTO = new VehicleTO();
+    vehicleTO.setName(vehicle.getName());
+    vehicleTO.setBoundingBox(toBoundingBoxTO(vehicle.getBoundingBox()))
+        .setMaxVelocity(vehicle.getMaxVelocity())
+        .setMaxReverseVelocity(vehicle.getMaxReverseVelocity())
+        .setEnergyLevelGood((long) vehicle.getEnergyLevelThresholdSet().getEnergyLevelGood())
+        .setEnergyLevelCritical(
+            (long) vehicle.getEnergyLevelThresholdSet().getEnergyLevelCritical()
+        )
+        .setEnergyLevelFullyRecharged(
+            (long) vehicle.getEnergyLevelThresholdSet().getEnergyLevelFullyRecharged()
+        )
+        .setEnergyLevelSufficientlyRecharged(
+            (long) vehicle.getEnergyLevelThresholdSet().getEnergyLevelSufficientlyRecharged()
+        )
+        .setEnvelopeKey(vehicle.getEnvelopeKey())
+        .setVehicleLayout(
+            new VehicleTO.VehicleLayout()
+                .setColor(Colors.encodeToHexRGB(vehicle.getLayout().getRouteColor()))
+        )
+        .setProperties(convertProperties(vehicle.getProperties()));
+
+    return vehicleTO;
+  }
+
   private List<PathTO> toPathTO(List<PathCreationTO> paths) {
     List<PathTO> result = new ArrayList<>();
 
     for (PathCreationTO path : paths) {
-      PathTO pathTO = new PathTO();
-      pathTO.setName(path.getName());
-      pathTO.setSourcePoint(path.getSrcPointName())
-          .setDestinationPoint(path.getDestPointName())
-          .setLength(path.getLength())
-          .setMaxVelocity((long) path.getMaxVelocity())
-          .setMaxReverseVelocity((long) path.getMaxReverseVelocity())
-          .setPeripheralOperations(toPeripheralOperationTOs(path.getPeripheralOperations()))
-          .setLocked(path.isLocked())
-          .setVehicleEnvelopes(toVehicleEnvelopeTOs(path.getVehicleEnvelopes()))
-          .setPathLayout(
-              new PathTO.PathLayout()
-                  .setConnectionType(toPathTOConnectionType(path.getLayout().getConnectionType()))
-                  .setControlPoints(
-                      path.getLayout().getControlPoints().stream()
-                          .map(controlPoint -> {
-                            return new PathTO.ControlPoint()
-                                .setX(controlPoint.getX())
-                                .setY(controlPoint.getY());
-                          })
-                          .toList()
-                  )
-                  .setLayerId(path.getLayout().getLayerId())
-          )
-          .setProperties(convertProperties(path.getProperties()));
-
-      result.add(pathTO);
+      result.add(toPathTO(path));
     }
 
     Collections.sort(result, Comparators.elementsByName());
@@ -475,6 +530,42 @@ public class V7TOMapper {
     return result;
   }
 
+  /**
+   * Maps the given {@link PathCreationTO} to a {@link PathTO} instance.
+   *
+   * @param path The element to map.
+   * @return The mapped {@link PathTO} instance.
+   */
+  PathTO toPathTO(PathCreationTO path) {
+    PathTO pathTO = new PathTO();
+    pathTO.setName(path.getName());
+    pathTO.setSourcePoint(path.getSrcPointName())
+        .setDestinationPoint(path.getDestPointName())
+        .setLength(path.getLength())
+        .setMaxVelocity((long) path.getMaxVelocity())
+        .setMaxReverseVelocity((long) path.getMaxReverseVelocity())
+        .setPeripheralOperations(toPeripheralOperationTOs(path.getPeripheralOperations()))
+        .setLocked(path.isLocked())
+        .setVehicleEnvelopes(toVehicleEnvelopeTOs(path.getVehicleEnvelopes()))
+        .setPathLayout(
+            new PathTO.PathLayout()
+                .setConnectionType(toPathTOConnectionType(path.getLayout().getConnectionType()))
+                .setControlPoints(
+                    path.getLayout().getControlPoints().stream()
+                        .map(controlPoint -> {
+                          return new PathTO.ControlPoint()
+                              .setX(controlPoint.getX())
+                              .setY(controlPoint.getY());
+                        })
+                        .toList()
+                )
+                .setLayerId(path.getLayout().getLayerId())
+        )
+        .setProperties(convertProperties(path.getProperties()));
+
+    return pathTO;
+  }
+
   private List<PeripheralOperationTO> toPeripheralOperationTOs(
       List<PeripheralOperationCreationTO> tos
   ) {
@@ -497,25 +588,7 @@ public class V7TOMapper {
     List<LocationTypeTO> result = new ArrayList<>();
 
     for (LocationTypeCreationTO locationType : locationTypes) {
-      LocationTypeTO locationTypeTO = new LocationTypeTO();
-      locationTypeTO.setName(locationType.getName());
-      locationTypeTO.setAllowedOperations(
-          toAllowedOperationTOs(locationType.getAllowedOperations())
-      )
-          .setAllowedPeripheralOperations(
-              toAllowedPeripheralOperationTOs(locationType.getAllowedPeripheralOperations())
-          )
-          .setLocationTypeLayout(
-              new LocationTypeTO.LocationTypeLayout()
-                  .setLocationRepresentation(
-                      toLocationTOLocationRepresentation(
-                          locationType.getLayout().getLocationRepresentation()
-                      )
-                  )
-          )
-          .setProperties(convertProperties(locationType.getProperties()));
-
-      result.add(locationTypeTO);
+      result.add(toLocationTypeTO(locationType));
     }
 
     Collections.sort(result, Comparators.elementsByName());
@@ -523,31 +596,39 @@ public class V7TOMapper {
     return result;
   }
 
+  /**
+   * Maps the given {@link LocationTypeCreationTO} to a {@link LocationTypeTO} instance.
+   *
+   * @param locationType The element to map.
+   * @return The mapped {@link LocationTypeTO} instance.
+   */
+  LocationTypeTO toLocationTypeTO(LocationTypeCreationTO locationType) {
+    LocationTypeTO locationTypeTO = new LocationTypeTO();
+    locationTypeTO.setName(locationType.getName());
+    locationTypeTO.setAllowedOperations(
+        toAllowedOperationTOs(locationType.getAllowedOperations())
+    )
+        .setAllowedPeripheralOperations(
+            toAllowedPeripheralOperationTOs(locationType.getAllowedPeripheralOperations())
+        )
+        .setLocationTypeLayout(
+            new LocationTypeTO.LocationTypeLayout()
+                .setLocationRepresentation(
+                    toLocationTOLocationRepresentation(
+                        locationType.getLayout().getLocationRepresentation()
+                    )
+                )
+        )
+        .setProperties(convertProperties(locationType.getProperties()));
+
+    return locationTypeTO;
+  }
+
   private List<LocationTO> toLocationTO(List<LocationCreationTO> locations) {
     List<LocationTO> result = new ArrayList<>();
 
     for (LocationCreationTO location : locations) {
-      LocationTO locationTO = new LocationTO();
-      locationTO.setName(location.getName());
-      locationTO.setPositionX(location.getPosition().getX())
-          .setPositionY(location.getPosition().getY())
-          .setType(location.getTypeName())
-          .setLinks(toLocationTOLinks(location.getLinks()))
-          .setLocked(location.isLocked())
-          .setLocationLayout(
-              new LocationTO.LocationLayout()
-                  .setLabelOffsetX(location.getLayout().getLabelOffset().getX())
-                  .setLabelOffsetY(location.getLayout().getLabelOffset().getY())
-                  .setLocationRepresentation(
-                      toLocationTOLocationRepresentation(
-                          location.getLayout().getLocationRepresentation()
-                      )
-                  )
-                  .setLayerId(location.getLayout().getLayerId())
-          )
-          .setProperties(convertProperties(location.getProperties()));
-
-      result.add(locationTO);
+      result.add(toLocationTO(location));
     }
 
     Collections.sort(result, Comparators.elementsByName());
@@ -555,21 +636,41 @@ public class V7TOMapper {
     return result;
   }
 
+  /**
+   * Maps the given {@link LocationCreationTO} to a {@link LocationTO} instance.
+   *
+   * @param location The element to map.
+   * @return The mapped {@link LocationTO} instance.
+   */
+  LocationTO toLocationTO(LocationCreationTO location) {
+    LocationTO locationTO = new LocationTO();
+    locationTO.setName(location.getName());
+    locationTO.setPositionX(location.getPosition().getX())
+        .setPositionY(location.getPosition().getY())
+        .setType(location.getTypeName())
+        .setLinks(toLocationTOLinks(location.getLinks()))
+        .setLocked(location.isLocked())
+        .setLocationLayout(
+            new LocationTO.LocationLayout()
+                .setLabelOffsetX(location.getLayout().getLabelOffset().getX())
+                .setLabelOffsetY(location.getLayout().getLabelOffset().getY())
+                .setLocationRepresentation(
+                    toLocationTOLocationRepresentation(
+                        location.getLayout().getLocationRepresentation()
+                    )
+                )
+                .setLayerId(location.getLayout().getLayerId())
+        )
+        .setProperties(convertProperties(location.getProperties()));
+
+    return locationTO;
+  }
+
   private List<BlockTO> toBlockTO(List<BlockCreationTO> blocks) {
     List<BlockTO> result = new ArrayList<>();
 
     for (BlockCreationTO block : blocks) {
-      BlockTO blockTO = new BlockTO();
-      blockTO.setName(block.getName());
-      blockTO.setType(toBlockTOType(block.getType()))
-          .setMembers(toMemberTOs(block.getMemberNames()))
-          .setBlockLayout(
-              new BlockTO.BlockLayout()
-                  .setColor(Colors.encodeToHexRGB(block.getLayout().getColor()))
-          )
-          .setProperties(convertProperties(block.getProperties()));
-
-      result.add(blockTO);
+      result.add(toBlockTO(block));
     }
 
     Collections.sort(result, Comparators.elementsByName());
@@ -577,7 +678,33 @@ public class V7TOMapper {
     return result;
   }
 
-  private VisualLayoutTO toVisualLayoutTO(VisualLayoutCreationTO layout) {
+  /**
+   * Maps the given {@link BlockCreationTO} to a {@link BlockTO} instance.
+   *
+   * @param block The element to map.
+   * @return The mapped {@link BlockTO} instance.
+   */
+  BlockTO toBlockTO(BlockCreationTO block) {
+    BlockTO blockTO = new BlockTO();
+    blockTO.setName(block.getName());
+    blockTO.setType(toBlockTOType(block.getType()))
+        .setMembers(toMemberTOs(block.getMemberNames()))
+        .setBlockLayout(
+            new BlockTO.BlockLayout()
+                .setColor(Colors.encodeToHexRGB(block.getLayout().getColor()))
+        )
+        .setProperties(convertProperties(block.getProperties()));
+
+    return blockTO;
+  }
+
+  /**
+   * Maps the given {@link VisualLayoutCreationTO} to a {@link VisualLayoutTO} instance.
+   *
+   * @param layout The element to map.
+   * @return The mapped {@link VisualLayoutTO} instance.
+   */
+  VisualLayoutTO toVisualLayoutTO(VisualLayoutCreationTO layout) {
     VisualLayoutTO result = new VisualLayoutTO();
 
     result.setName(layout.getName())
@@ -622,13 +749,10 @@ public class V7TOMapper {
     return result;
   }
 
-  private List<PointTO.OutgoingPath> getOutgoingPaths(
-      PointCreationTO point,
-      Map<String, List<PathCreationTO>> pathsBySourcePoint
-  ) {
+  private List<PointTO.OutgoingPath> getOutgoingPaths(List<PathCreationTO> outgoingPaths) {
     List<PointTO.OutgoingPath> result = new ArrayList<>();
 
-    for (PathCreationTO path : pathsBySourcePoint.getOrDefault(point.getName(), List.of())) {
+    for (PathCreationTO path : outgoingPaths) {
       result.add(new PointTO.OutgoingPath().setName(path.getName()));
     }
 
@@ -681,7 +805,13 @@ public class V7TOMapper {
         .toList();
   }
 
-  private List<PropertyTO> convertProperties(Map<String, String> properties) {
+  /**
+   * Maps the given map of property keys to values to a list of properties, sorted by name.
+   *
+   * @param properties The properties to map.
+   * @return The mapped properties.
+   */
+  List<PropertyTO> convertProperties(Map<String, String> properties) {
     List<PropertyTO> result = new ArrayList<>();
 
     properties.forEach((key, value) -> {
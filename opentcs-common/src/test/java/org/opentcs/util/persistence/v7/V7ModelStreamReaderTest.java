@@ -0,0 +1,133 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.persistence.v7;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.junit.jupiter.api.Test;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+
+/**
+ * Tests for {@link V7ModelStreamReader}.
+ */
+class V7ModelStreamReaderTest {
+
+  private static final String SAMPLE_MODEL
+      = "/org/opentcs/util/persistence/PlantModelV7.sample.xml";
+
+  private final V7ModelStreamReader streamReader = new V7ModelStreamReader();
+
+  @Test
+  void readSameModelAsJaxbUnmarshalling()
+      throws IOException,
+        XMLStreamException {
+    PlantModelCreationTO jaxbModel;
+    try (Reader reader = openSampleModel()) {
+      jaxbModel = new V7TOMapper().map(V7PlantModelTO.fromXml(reader));
+    }
+    PlantModelCreationTO streamedModel;
+    try (Reader reader = openSampleModel()) {
+      streamedModel = streamReader.read(createXmlStreamReader(reader));
+    }
+
+    assertThat(toXml(streamedModel), is(equalTo(toXml(jaxbModel))));
+  }
+
+  @Test
+  void acceptOnlyVersion7Models() {
+    assertThat(streamReader.canRead("7.0.0"), is(true));
+    assertThat(streamReader.canRead("6.0.0"), is(false));
+    assertThat(streamReader.canRead("7.1.0"), is(false));
+    assertThat(streamReader.canRead("0.0.5"), is(false));
+  }
+
+  @Test
+  void rejectPointWithMissingAttribute() {
+    String model = """
+        <model version="7.0.0" name="some-model">
+            <point name="some-point" positionX="1" positionZ="0" type="HALT_POSITION"/>
+        </model>
+        """;
+
+    assertThrows(
+        IOException.class,
+        () -> streamReader.read(createXmlStreamReader(new StringReader(model)))
+    );
+  }
+
+  @Test
+  void rejectUnexpectedElement() {
+    String model = """
+        <model version="7.0.0" name="some-model">
+            <unexpected/>
+        </model>
+        """;
+
+    assertThrows(
+        IOException.class,
+        () -> streamReader.read(createXmlStreamReader(new StringReader(model)))
+    );
+  }
+
+  @Test
+  void acceptModelConformingToSchema()
+      throws IOException,
+        XMLStreamException {
+    try (Reader reader = openSampleModel()) {
+      streamReader.validate(createXmlStreamReader(reader));
+    }
+  }
+
+  @Test
+  void rejectModelNotConformingToSchema() {
+    // The unknown attribute would be ignored when reading the model.
+    String model = """
+        <model version="7.0.0" name="some-model">
+            <point name="some-point" positionX="1" positionY="2" positionZ="0"
+                type="HALT_POSITION" unknown="value">
+                <maxVehicleBoundingBox length="1000" width="1000" height="1000"
+                    referenceOffsetX="0" referenceOffsetY="0"/>
+                <pointLayout labelOffsetX="0" labelOffsetY="0" layerId="0"/>
+            </point>
+        </model>
+        """;
+
+    assertThrows(
+        IOException.class,
+        () -> streamReader.validate(createXmlStreamReader(new StringReader(model)))
+    );
+  }
+
+  private Reader openSampleModel() {
+    return new InputStreamReader(
+        getClass().getResourceAsStream(SAMPLE_MODEL),
+        StandardCharsets.UTF_8
+    );
+  }
+
+  private XMLStreamReader createXmlStreamReader(Reader reader)
+      throws XMLStreamException {
+    XMLStreamReader xmlReader = XMLInputFactory.newFactory().createXMLStreamReader(reader);
+    xmlReader.nextTag();
+    return xmlReader;
+  }
+
+  private String toXml(PlantModelCreationTO model)
+      throws IOException {
+    StringWriter writer = new StringWriter();
+    new V7ModelStreamWriter().write(model, writer);
+    return writer.toString();
+  }
+}
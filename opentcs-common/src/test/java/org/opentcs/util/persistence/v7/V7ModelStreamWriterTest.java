@@ -0,0 +1,44 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.persistence.v7;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+
+/**
+ * Tests for {@link V7ModelStreamWriter}.
+ */
+class V7ModelStreamWriterTest {
+
+  @Test
+  void produceSameOutputAsJaxbMarshalling()
+      throws IOException {
+    PlantModelCreationTO model = new V7TOMapper().map(readSampleModel());
+
+    StringWriter jaxbOutput = new StringWriter();
+    new V7TOMapper().map(model).toXml(jaxbOutput);
+    StringWriter streamOutput = new StringWriter();
+    new V7ModelStreamWriter().write(model, streamOutput);
+
+    assertThat(streamOutput.toString(), is(equalTo(jaxbOutput.toString())));
+  }
+
+  private V7PlantModelTO readSampleModel()
+      throws IOException {
+    try (Reader reader = new InputStreamReader(
+        getClass().getResourceAsStream("/org/opentcs/util/persistence/PlantModelV7.sample.xml"),
+        StandardCharsets.UTF_8
+    )) {
+      return V7PlantModelTO.fromXml(reader);
+    }
+  }
+}
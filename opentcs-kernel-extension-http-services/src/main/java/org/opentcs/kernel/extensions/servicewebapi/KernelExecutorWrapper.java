@@ -13,7 +13,7 @@ import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.customizations.kernel.KernelExecutor;
 
 /**
- * Calls callables/runnables via the kernel executor and waits for the outcome.
+ * Calls callables/runnables via the kernel executor and (usually) waits for the outcome.
  */
 public class KernelExecutorWrapper {
 
@@ -80,4 +80,15 @@ public class KernelExecutorWrapper {
 
     callAndWait(Executors.callable(runnable));
   }
+
+  /**
+   * Submits the given runnable to the kernel executor without waiting for its outcome.
+   *
+   * @param runnable The runnable.
+   */
+  public void submit(Runnable runnable) {
+    requireNonNull(runnable, "runnable");
+
+    kernelExecutor.submit(runnable);
+  }
 }
@@ -71,4 +71,16 @@ public interface ServiceWebApiConfiguration {
       orderKey = "6"
   )
   int maxRequestBodySize();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "For SSE clients receiving modifications as deltas: The number of deltas sent for an "
+              + "object after which the object's complete state is sent again.",
+          "A value of 0 means that complete states are always sent."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "7"
+  )
+  int sseDeltaKeyframeInterval();
 }
@@ -5,6 +5,7 @@ package org.opentcs.kernel.extensions.servicewebapi.v1;
 import jakarta.annotation.Nullable;
 import java.util.Objects;
 import java.util.function.Predicate;
+import org.opentcs.components.kernel.services.IndexedPredicate;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
@@ -37,7 +38,7 @@ public class Filters {
   ) {
     return vehicleRef == null
         ? order -> true
-        : order -> Objects.equals(vehicleRef, order.getIntendedVehicle());
+        : IndexedPredicate.transportOrderWithIntendedVehicle(vehicleRef);
   }
 
   /**
@@ -91,7 +92,7 @@ public class Filters {
   ) {
     return orderRef == null
         ? job -> true
-        : job -> Objects.equals(orderRef, job.getRelatedTransportOrder());
+        : IndexedPredicate.peripheralJobWithRelatedTransportOrder(orderRef);
   }
 
   /**
@@ -155,11 +155,11 @@ public class PeripheralJobHandler {
         throw new ObjectUnknownException("Unknown oransport order: " + relatedVehicle);
       }
 
-      return jobService.stream(PeripheralJob.class)
-          .filter(
-              Filters.peripheralJobWithRelatedVehicle(relatedVehicleRef)
-                  .and(Filters.peripheralJobWithRelatedTransportOrder(relatedOrderRef))
-          )
+      return jobService.stream(
+          PeripheralJob.class,
+          Filters.peripheralJobWithRelatedTransportOrder(relatedOrderRef)
+      )
+          .filter(Filters.peripheralJobWithRelatedVehicle(relatedVehicleRef))
           .map(peripheralJob -> peripheralJobConverter.toGetPeripheralJobResponseTO(peripheralJob))
           .sorted(Comparator.comparing(GetPeripheralJobResponseTO::getName))
           .collect(Collectors.toList());
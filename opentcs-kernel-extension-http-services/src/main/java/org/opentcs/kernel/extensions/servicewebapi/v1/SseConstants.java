@@ -35,6 +35,11 @@ public abstract class SseConstants {
       EVENT_TYPE_PERIPHERAL_JOBS
   );
 
+  /**
+   * The query parameter with which clients select whether modifications are to be sent as deltas.
+   */
+  public static final String QUERY_PARAM_DELTA = "delta";
+
   /**
    * Prevents instantiation.
    */
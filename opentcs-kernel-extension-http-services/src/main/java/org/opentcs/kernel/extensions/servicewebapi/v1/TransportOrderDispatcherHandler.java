@@ -44,6 +44,10 @@ public class TransportOrderDispatcherHandler {
     executorWrapper.callAndWait(() -> dispatcherService.dispatch());
   }
 
+  public void scheduleDispatcher() {
+    executorWrapper.submit(() -> dispatcherService.requestDispatch());
+  }
+
   public void tryImmediateAssignment(String name)
       throws ObjectUnknownException,
         IllegalArgumentException {
@@ -31,7 +31,9 @@ import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetOrderSequenceResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetTransportOrderResponseTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceBatchEntryTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderBatchEntryTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorder.Destination;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.OrderConstantsTO;
@@ -78,23 +80,29 @@ public class TransportOrderHandler {
     requireNonNull(name, "name");
     requireNonNull(order, "order");
 
-    TransportOrderCreationTO to
-        = new TransportOrderCreationTO(name, destinations(order))
-            .withIncompleteName(order.isIncompleteName())
-            .withDispensable(order.isDispensable())
-            .withIntendedVehicleName(order.getIntendedVehicle())
-            .withDependencyNames(dependencyNames(order.getDependencies()))
-            .withDeadline(deadline(order))
-            .withPeripheralReservationToken(order.getPeripheralReservationToken())
-            .withWrappingSequence(order.getWrappingSequence())
-            .withType(order.getType() == null ? OrderConstants.TYPE_NONE : order.getType())
-            .withProperties(properties(order.getProperties()));
+    TransportOrderCreationTO to = toTransportOrderCreationTO(name, order);
 
     return executorWrapper.callAndWait(() -> {
       return orderService.createTransportOrder(to);
     });
   }
 
+  public List<TransportOrder> createOrders(List<PostTransportOrderBatchEntryTO> orders)
+      throws ObjectUnknownException,
+        ObjectExistsException,
+        KernelRuntimeException,
+        IllegalStateException {
+    requireNonNull(orders, "orders");
+
+    List<TransportOrderCreationTO> tos = orders.stream()
+        .map(entry -> toTransportOrderCreationTO(entry.getName(), entry.getTransportOrder()))
+        .toList();
+
+    return executorWrapper.callAndWait(() -> {
+      return orderService.createTransportOrders(tos);
+    });
+  }
+
   public void updateTransportOrderIntendedVehicle(
       String orderName,
       @Nullable
@@ -142,8 +150,10 @@ public class TransportOrderHandler {
         throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
       }
 
-      return orderService.stream(TransportOrder.class)
-          .filter(Filters.transportOrderWithIntendedVehicle(intendedVehicleRef))
+      return orderService.stream(
+          TransportOrder.class,
+          Filters.transportOrderWithIntendedVehicle(intendedVehicleRef)
+      )
           .map(order -> transportOrderConverter.toGetTransportOrderResponse(order))
           .sorted(Comparator.comparing(GetTransportOrderResponseTO::getName))
           .collect(Collectors.toList());
@@ -177,27 +187,29 @@ public class TransportOrderHandler {
     requireNonNull(name, "name");
     requireNonNull(sequence, "sequence");
 
-    if (!hasValidTypes(sequence)) {
-      throw new IllegalArgumentException(
-          "Order sequence must only have either 'type' or 'orderTypes' set."
-      );
-    }
-
-    OrderSequenceCreationTO to = new OrderSequenceCreationTO(name)
-        .withFailureFatal(sequence.isFailureFatal())
-        .withIncompleteName(sequence.isIncompleteName())
-        .withIntendedVehicleName(sequence.getIntendedVehicle())
-        .withProperties(properties(sequence.getProperties()))
-        .withType(sequence.getType() != null ? sequence.getType() : OrderConstantsTO.TYPE_UNSET)
-        .withOrderTypes(
-            sequence.getOrderTypes() != null ? new HashSet<>(sequence.getOrderTypes()) : Set.of()
-        );
+    OrderSequenceCreationTO to = toOrderSequenceCreationTO(name, sequence);
 
     return executorWrapper.callAndWait(() -> {
       return orderService.createOrderSequence(to);
     });
   }
 
+  public List<OrderSequence> createOrderSequences(List<PostOrderSequenceBatchEntryTO> sequences)
+      throws ObjectUnknownException,
+        ObjectExistsException,
+        KernelRuntimeException,
+        IllegalStateException {
+    requireNonNull(sequences, "sequences");
+
+    List<OrderSequenceCreationTO> tos = sequences.stream()
+        .map(entry -> toOrderSequenceCreationTO(entry.getName(), entry.getOrderSequence()))
+        .toList();
+
+    return executorWrapper.callAndWait(() -> {
+      return orderService.createOrderSequences(tos);
+    });
+  }
+
   public void putOrderSequenceComplete(String name)
       throws ObjectUnknownException,
         IllegalStateException {
@@ -244,6 +256,44 @@ public class TransportOrderHandler {
     });
   }
 
+  private TransportOrderCreationTO toTransportOrderCreationTO(
+      String name,
+      PostTransportOrderRequestTO order
+  ) {
+    return new TransportOrderCreationTO(name, destinations(order))
+        .withIncompleteName(order.isIncompleteName())
+        .withDispensable(order.isDispensable())
+        .withIntendedVehicleName(order.getIntendedVehicle())
+        .withDependencyNames(dependencyNames(order.getDependencies()))
+        .withDeadline(deadline(order))
+        .withPeripheralReservationToken(order.getPeripheralReservationToken())
+        .withWrappingSequence(order.getWrappingSequence())
+        .withType(order.getType() == null ? OrderConstants.TYPE_NONE : order.getType())
+        .withProperties(properties(order.getProperties()));
+  }
+
+  private OrderSequenceCreationTO toOrderSequenceCreationTO(
+      String name,
+      PostOrderSequenceRequestTO sequence
+  )
+      throws IllegalArgumentException {
+    if (!hasValidTypes(sequence)) {
+      throw new IllegalArgumentException(
+          "Order sequence must only have either 'type' or 'orderTypes' set."
+      );
+    }
+
+    return new OrderSequenceCreationTO(name)
+        .withFailureFatal(sequence.isFailureFatal())
+        .withIncompleteName(sequence.isIncompleteName())
+        .withIntendedVehicleName(sequence.getIntendedVehicle())
+        .withProperties(properties(sequence.getProperties()))
+        .withType(sequence.getType() != null ? sequence.getType() : OrderConstantsTO.TYPE_UNSET)
+        .withOrderTypes(
+            sequence.getOrderTypes() != null ? new HashSet<>(sequence.getOrderTypes()) : Set.of()
+        );
+  }
+
   private List<DestinationCreationTO> destinations(PostTransportOrderRequestTO order) {
     List<DestinationCreationTO> result = new ArrayList<>(order.getDestinations().size());
 
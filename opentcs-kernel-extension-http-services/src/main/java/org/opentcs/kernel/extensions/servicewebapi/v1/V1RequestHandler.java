@@ -22,13 +22,16 @@ import org.opentcs.access.LocalKernel;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.HttpConstants;
 import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
 import org.opentcs.kernel.extensions.servicewebapi.RequestHandler;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PlantModelTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceBatchEntryTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostPeripheralJobRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTopologyUpdateRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderBatchEntryTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostVehicleCommAdapterMessageRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostVehicleRoutesRequestTO;
@@ -195,6 +198,7 @@ public class V1RequestHandler
           );
           post("/transportOrders/{NAME}/withdrawal", this::handlePostWithdrawalByOrder);
           post("/transportOrders/{NAME}", this::handlePostTransportOrder);
+          post("/transportOrders", this::handlePostTransportOrders);
           put(
               "/transportOrders/{NAME}/intendedVehicle",
               this::handlePutTransportOrderIntendedVehicle
@@ -202,6 +206,7 @@ public class V1RequestHandler
           get("/transportOrders/{NAME}", this::handleGetTransportOrderByName);
           get("/transportOrders", this::handleGetTransportOrders);
           post("/orderSequences/{NAME}", this::handlePostOrderSequence);
+          post("/orderSequences", this::handlePostOrderSequences);
           get("/orderSequences", this::handleGetOrderSequences);
           get("/orderSequences/{NAME}", this::handleGetOrderSequenceByName);
           put("/orderSequences/{NAME}/complete", this::handlePutOrderSequenceComplete);
@@ -341,6 +346,28 @@ public class V1RequestHandler
     );
   }
 
+  private void handlePostTransportOrders(Context ctx)
+      throws ObjectUnknownException,
+        ObjectExistsException,
+        IllegalArgumentException,
+        IllegalStateException {
+    List<TransportOrder> orders = transportOrderHandler.createOrders(
+        List.of(jsonBinder.fromJson(ctx.body(), PostTransportOrderBatchEntryTO[].class))
+    );
+    // Let the dispatcher consider the new orders right away, but don't keep the client waiting
+    // for it.
+    orderDispatcherHandler.scheduleDispatcher();
+
+    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    ctx.result(
+        jsonBinder.toJson(
+            orders.stream()
+                .map(order -> transportOrderConverter.toGetTransportOrderResponse(order))
+                .toList()
+        )
+    );
+  }
+
   private void handlePutTransportOrderIntendedVehicle(Context ctx)
       throws ObjectUnknownException {
     transportOrderHandler.updateTransportOrderIntendedVehicle(
@@ -369,6 +396,23 @@ public class V1RequestHandler
     );
   }
 
+  private void handlePostOrderSequences(Context ctx)
+      throws ObjectUnknownException,
+        ObjectExistsException,
+        IllegalArgumentException,
+        IllegalStateException {
+    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    ctx.result(
+        jsonBinder.toJson(
+            transportOrderHandler.createOrderSequences(
+                List.of(jsonBinder.fromJson(ctx.body(), PostOrderSequenceBatchEntryTO[].class))
+            ).stream()
+                .map(sequence -> orderSequenceConverter.toGetOrderSequenceResponseTO(sequence))
+                .toList()
+        )
+    );
+  }
+
   private void handleGetOrderSequences(Context ctx) {
     ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
     ctx.result(
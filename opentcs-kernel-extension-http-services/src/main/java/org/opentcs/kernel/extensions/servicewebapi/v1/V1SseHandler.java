@@ -4,25 +4,38 @@ package org.opentcs.kernel.extensions.servicewebapi.v1;
 
 import static java.util.Objects.requireNonNull;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
 import io.javalin.http.sse.SseClient;
 import jakarta.inject.Inject;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectDelta;
 import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.sse.ObjectDeltaEventTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.sse.ObjectHistoryTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.sse.EventConverter;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
@@ -35,6 +48,18 @@ import org.slf4j.LoggerFactory;
  * <p>
  * This class listens for application events and broadcasts them to connected clients based on their
  * "subscription" preferences.
+ * <p>
+ * Clients may select to receive modifications of objects as deltas, i.e. as
+ * {@link ObjectDeltaEventTO}s containing only the attributes that have changed. Such clients
+ * receive the complete states of an object for its first modification sent to them and after a
+ * configured number of deltas (as keyframes), and whenever a modification cannot be represented as
+ * a delta.
+ * </p>
+ * <p>
+ * Deltas are built from the changed attributes provided with the respective events. Only changed
+ * attributes whose SSE representation differs from their plain JSON representation require the
+ * complete current state of the object to be converted.
+ * </p>
  */
 public class V1SseHandler
     implements
@@ -42,13 +67,27 @@ public class V1SseHandler
       EventHandler {
 
   private static final Logger LOG = LoggerFactory.getLogger(V1SseHandler.class);
+  /**
+   * The names of fields in the SSE representation of objects that represent attributes in
+   * addition to the attribute of the same name, mapped by the names of these attributes.
+   */
+  private static final Map<String, String> ATTRIBUTE_FIELD_NAMES = Map.of(
+      "stateTimestamp", "state",
+      "procStateTimestamp", "procState"
+  );
   /**
    * The queue of connected clients.
    */
   private final Queue<SseConnection> connections = new ConcurrentLinkedQueue<>();
+  /**
+   * The names of the fields in the SSE representation of objects, mapped by the objects' classes.
+   * (Only accessed by the executor's thread.)
+   */
+  private final Map<Class<?>, Set<String>> fieldNamesByObjectClass = new HashMap<>();
   private final EventSource eventSource;
   private final EventConverter eventConverter;
   private final JsonBinder jsonBinder;
+  private final ServiceWebApiConfiguration configuration;
   /**
    * The executor service used for precessing kernel events.
    */
@@ -71,17 +110,20 @@ public class V1SseHandler
    * @param eventSource Where we register for application events.
    * @param eventConverter Converts application events to events to be sent via SSE.
    * @param jsonBinder Converts objects to JSON.
+   * @param configuration The interface configuration.
    */
   @Inject
   public V1SseHandler(
       @ApplicationEventBus
       EventSource eventSource,
       EventConverter eventConverter,
-      JsonBinder jsonBinder
+      JsonBinder jsonBinder,
+      ServiceWebApiConfiguration configuration
   ) {
     this.eventSource = requireNonNull(eventSource, "eventSource");
     this.eventConverter = requireNonNull(eventConverter, "eventConverter");
     this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   @Override
@@ -136,7 +178,8 @@ public class V1SseHandler
     // Add the client to the queue of connections.
     SseConnection sseConnection = new SseConnection(
         client,
-        queryParamsToEventTypes(client.ctx().queryParamMap())
+        queryParamsToEventTypes(client.ctx().queryParamMap()),
+        Boolean.parseBoolean(client.ctx().queryParam(SseConstants.QUERY_PARAM_DELTA))
     );
     connections.add(sseConnection);
     // Keep the connection alive to be able to continuously broadcast events to connected clients.
@@ -153,35 +196,63 @@ public class V1SseHandler
     if (object instanceof Vehicle) {
       sendEventToClients(
           SseConstants.EVENT_TYPE_VEHICLES,
-          jsonBinder.toJson(eventConverter.convertVehicleEvent(event))
+          event,
+          () -> eventConverter.convertVehicleEvent(event)
       );
     }
     else if (object instanceof TransportOrder) {
       sendEventToClients(
           SseConstants.EVENT_TYPE_TRANSPORT_ORDERS,
-          jsonBinder.toJson(eventConverter.convertTransportOrderEvent(event))
+          event,
+          () -> eventConverter.convertTransportOrderEvent(event)
       );
     }
     else if (object instanceof OrderSequence) {
       sendEventToClients(
           SseConstants.EVENT_TYPE_ORDER_SEQUENCES,
-          jsonBinder.toJson(eventConverter.convertOrderSequenceEvent(event))
+          event,
+          () -> eventConverter.convertOrderSequenceEvent(event)
       );
     }
     else if (object instanceof PeripheralJob) {
       sendEventToClients(
           SseConstants.EVENT_TYPE_PERIPHERAL_JOBS,
-          jsonBinder.toJson(eventConverter.convertPeripheralJobEvent(event))
+          event,
+          () -> eventConverter.convertPeripheralJobEvent(event)
       );
     }
   }
 
-  private void sendEventToClients(String eventType, String data) {
+  private void sendEventToClients(
+      String eventType,
+      TCSObjectEvent event,
+      Supplier<Object> eventTOSupplier
+  ) {
+    // Convert the event to JSON only once for all clients, and only if actually needed.
+    String eventData = null;
+    String deltaData = null;
+    boolean deltaConverted = false;
     for (SseConnection connection : connections) {
+      if (!connection.eventTypes().contains(eventType)) {
+        continue;
+      }
+
       try {
-        if (connection.eventTypes().contains(eventType)) {
-          connection.client().sendEvent(eventType, data);
+        if (connection.isDeltaDue(event, configuration.sseDeltaKeyframeInterval())) {
+          if (!deltaConverted) {
+            deltaData = toDeltaData(event);
+            deltaConverted = true;
+          }
+          if (deltaData != null) {
+            connection.client().sendEvent(eventType, deltaData);
+            continue;
+          }
+          connection.keyframeSent(event);
         }
+        if (eventData == null) {
+          eventData = jsonBinder.toJson(eventTOSupplier.get());
+        }
+        connection.client().sendEvent(eventType, eventData);
       }
       catch (Exception e) {
         LOG.warn("Failed to send event to client {}: {}", connection.client(), e.getMessage());
@@ -189,6 +260,110 @@ public class V1SseHandler
     }
   }
 
+  /**
+   * Converts the given event's delta to its JSON representation.
+   *
+   * @param event The event.
+   * @return The JSON representation of the delta, or {@code null}, if a changed attribute is not
+   * contained in the SSE representation of the object.
+   */
+  private String toDeltaData(TCSObjectEvent event) {
+    TCSObjectDelta delta = event.getDelta();
+    TCSObject<?> currentObjectState = event.getCurrentObjectState();
+    // The current state's complete SSE representation, converted only if actually needed.
+    JsonNode currentObjectStateTree = null;
+
+    Map<String, JsonNode> changedAttributes = new LinkedHashMap<>();
+    for (Map.Entry<String, Object> entry : delta.getChangedAttributes().entrySet()) {
+      String fieldName = ATTRIBUTE_FIELD_NAMES.getOrDefault(entry.getKey(), entry.getKey());
+      if (isPlainValue(fieldName, entry.getValue())
+          && fieldNamesByObjectClass.containsKey(currentObjectState.getClass())) {
+        if (!fieldNamesByObjectClass.get(currentObjectState.getClass()).contains(fieldName)) {
+          return null;
+        }
+        changedAttributes.put(fieldName, toPlainJsonNode(entry.getValue()));
+        continue;
+      }
+
+      if (currentObjectStateTree == null) {
+        currentObjectStateTree = toJsonTree(currentObjectState);
+      }
+      JsonNode value = currentObjectStateTree.get(fieldName);
+      if (value == null) {
+        return null;
+      }
+      changedAttributes.put(fieldName, value);
+    }
+
+    return jsonBinder.toJson(
+        new ObjectDeltaEventTO(
+            delta.getObjectReference().getName(),
+            changedAttributes,
+            delta.getAppendedHistoryEntries().stream()
+                .map(this::toJsonNode)
+                .toList()
+        )
+    );
+  }
+
+  /**
+   * Converts the given object to the JSON representation of its SSE representation, remembering
+   * the names of the fields contained in it.
+   *
+   * @param object The object.
+   * @return The JSON representation.
+   */
+  private JsonNode toJsonTree(TCSObject<?> object) {
+    JsonNode tree = jsonBinder.toJsonTree(eventConverter.convertObject(object));
+    fieldNamesByObjectClass.computeIfAbsent(object.getClass(), clazz -> {
+      Set<String> fieldNames = new HashSet<>();
+      tree.fieldNames().forEachRemaining(fieldNames::add);
+      return fieldNames;
+    });
+    return tree;
+  }
+
+  /**
+   * Checks whether the SSE representation of the given attribute value is the same as its plain
+   * JSON representation (with references represented by the names of the referenced objects).
+   *
+   * @param fieldName The name of the field representing the attribute.
+   * @param value The attribute value.
+   * @return {@code true} if, and only if, the representations are the same.
+   */
+  private boolean isPlainValue(String fieldName, Object value) {
+    if (ATTRIBUTE_FIELD_NAMES.containsValue(fieldName)) {
+      // These fields represent multiple attributes.
+      return false;
+    }
+    return value == null
+        || value instanceof String
+        || value instanceof Number
+        || value instanceof Boolean
+        || value instanceof Enum
+        || value instanceof Instant
+        || value instanceof TCSObjectReference;
+  }
+
+  private JsonNode toPlainJsonNode(Object value) {
+    if (value == null) {
+      return NullNode.getInstance();
+    }
+    if (value instanceof TCSObjectReference<?> ref) {
+      return jsonBinder.toJsonTree(ref.getName());
+    }
+    return jsonBinder.toJsonTree(value);
+  }
+
+  private JsonNode toJsonNode(ObjectHistory.Entry entry) {
+    return jsonBinder.toJsonTree(
+        new ObjectHistoryTO.ObjectHistoryEntryTO()
+            .setTimestamp(entry.getTimestamp())
+            .setEventCode(entry.getEventCode())
+            .setSupplements(entry.getSupplements())
+    );
+  }
+
   private Set<String> queryParamsToEventTypes(Map<String, List<String>> queryParamMap) {
     if (queryParamMap == null) {
       return Set.of();
@@ -210,21 +385,90 @@ public class V1SseHandler
 
   /**
    * Represents a connection to a client.
-   *
-   * @param client The client this connection is associated with.
-   * @param eventTypes The event types the associated client is interested in.
    */
-  private record SseConnection(SseClient client, Set<String> eventTypes) {
+  private static class SseConnection {
+
+    /**
+     * The client this connection is associated with.
+     */
+    private final SseClient client;
+    /**
+     * The event types the associated client is interested in.
+     */
+    private final Set<String> eventTypes;
+    /**
+     * Whether the associated client wants to receive modifications as deltas.
+     */
+    private final boolean deltaMode;
+    /**
+     * The numbers of deltas sent since the last keyframe, mapped by object reference.
+     * Objects for which no keyframe has been sent, yet, are not contained.
+     */
+    private final Map<TCSObjectReference<?>, Integer> deltasSinceKeyframe = new HashMap<>();
 
     /**
      * Creates a new instance.
      *
      * @param client The client this connection is associated with.
      * @param eventTypes The event types the associated client is interested in.
+     * @param deltaMode Whether the associated client wants to receive modifications as deltas.
      */
-    private SseConnection(SseClient client, Set<String> eventTypes) {
+    private SseConnection(SseClient client, Set<String> eventTypes, boolean deltaMode) {
       this.client = requireNonNull(client, "client");
       this.eventTypes = requireNonNull(eventTypes, "eventTypes");
+      this.deltaMode = deltaMode;
+    }
+
+    public SseClient client() {
+      return client;
+    }
+
+    public Set<String> eventTypes() {
+      return eventTypes;
+    }
+
+    /**
+     * Checks whether the given event is to be sent as a delta to the associated client and, if so,
+     * counts it as a sent delta.
+     *
+     * @param event The event.
+     * @param keyframeInterval The number of deltas after which a keyframe is to be sent.
+     * @return {@code true} if, and only if, the event is to be sent as a delta.
+     */
+    public boolean isDeltaDue(TCSObjectEvent event, int keyframeInterval) {
+      if (!deltaMode) {
+        return false;
+      }
+
+      TCSObjectReference<?> objectRef = event.getCurrentOrPreviousObjectState().getReference();
+      switch (event.getType()) {
+        case OBJECT_CREATED -> {
+          deltasSinceKeyframe.put(objectRef, 0);
+          return false;
+        }
+        case OBJECT_REMOVED -> {
+          deltasSinceKeyframe.remove(objectRef);
+          return false;
+        }
+        default -> {
+          Integer deltaCount = deltasSinceKeyframe.get(objectRef);
+          if (event.getDelta() == null || deltaCount == null || deltaCount >= keyframeInterval) {
+            deltasSinceKeyframe.put(objectRef, 0);
+            return false;
+          }
+          deltasSinceKeyframe.put(objectRef, deltaCount + 1);
+          return true;
+        }
+      }
+    }
+
+    /**
+     * Records that the given event was sent as a keyframe instead of as a delta.
+     *
+     * @param event The event.
+     */
+    public void keyframeSent(TCSObjectEvent event) {
+      deltasSinceKeyframe.put(event.getCurrentOrPreviousObjectState().getReference(), 0);
     }
   }
 }
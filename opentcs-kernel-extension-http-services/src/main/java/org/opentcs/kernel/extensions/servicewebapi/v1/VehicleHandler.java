@@ -14,6 +14,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.InternalVehicleService;
 import org.opentcs.components.kernel.services.RouterService;
 import org.opentcs.data.ObjectUnknownException;
@@ -45,6 +46,7 @@ public class VehicleHandler {
 
   private final InternalVehicleService vehicleService;
   private final RouterService routerService;
+  private final Router router;
   private final KernelExecutorWrapper executorWrapper;
   private final VehicleConverter vehicleConverter;
 
@@ -53,6 +55,7 @@ public class VehicleHandler {
    *
    * @param vehicleService Used to update vehicle instances.
    * @param routerService Used to get information about potential routes.
+   * @param router The kernel's router.
    * @param executorWrapper Executes calls via the kernel executor and waits for the outcome.
    * @param vehicleConverter Provides methods for converting vehicle data.
    */
@@ -60,11 +63,13 @@ public class VehicleHandler {
   public VehicleHandler(
       InternalVehicleService vehicleService,
       RouterService routerService,
+      Router router,
       KernelExecutorWrapper executorWrapper,
       VehicleConverter vehicleConverter
   ) {
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.routerService = requireNonNull(routerService, "routerService");
+    this.router = requireNonNull(router, "router");
     this.executorWrapper = requireNonNull(executorWrapper, "executorWrapper");
     this.vehicleConverter = requireNonNull(vehicleConverter, "vehicleConverter");
   }
@@ -291,72 +296,86 @@ public class VehicleHandler {
     requireNonNull(name, "name");
     requireNonNull(request, "request");
 
-    return executorWrapper.callAndWait(() -> {
-      Vehicle vehicle = vehicleService.fetch(Vehicle.class, name)
-          .orElseThrow(() -> new ObjectUnknownException("Unknown vehicle: " + name));
+    if (router.isThreadSafe()) {
+      // Route queries are read-only and served concurrently by the router, so there is no need to
+      // block the kernel executor with them.
+      return computeVehicleRoutes(name, maxRoutesPerDestinationPoint, request);
+    }
+    return executorWrapper.callAndWait(
+        () -> computeVehicleRoutes(name, maxRoutesPerDestinationPoint, request)
+    );
+  }
 
-      TCSObjectReference<Point> sourcePointRef;
-      if (request.getSourcePoint() == null) {
-        if (vehicle.getCurrentPosition() == null) {
-          throw new IllegalArgumentException("Unknown vehicle position: " + vehicle.getName());
-        }
-        sourcePointRef = vehicle.getCurrentPosition();
-      }
-      else {
-        Point sourcePoint = vehicleService.fetch(Point.class, request.getSourcePoint())
-            .orElseThrow(
-                () -> new ObjectUnknownException(
-                    "Unknown source point: " + request.getSourcePoint()
-                )
-            );
-        sourcePointRef = sourcePoint.getReference();
+  private Map<TCSObjectReference<Point>, Set<Route>> computeVehicleRoutes(
+      String name,
+      int maxRoutesPerDestinationPoint,
+      PostVehicleRoutesRequestTO request
+  )
+      throws ObjectUnknownException {
+    Vehicle vehicle = vehicleService.fetch(Vehicle.class, name)
+        .orElseThrow(() -> new ObjectUnknownException("Unknown vehicle: " + name));
+
+    TCSObjectReference<Point> sourcePointRef;
+    if (request.getSourcePoint() == null) {
+      if (vehicle.getCurrentPosition() == null) {
+        throw new IllegalArgumentException("Unknown vehicle position: " + vehicle.getName());
       }
+      sourcePointRef = vehicle.getCurrentPosition();
+    }
+    else {
+      Point sourcePoint = vehicleService.fetch(Point.class, request.getSourcePoint())
+          .orElseThrow(
+              () -> new ObjectUnknownException(
+                  "Unknown source point: " + request.getSourcePoint()
+              )
+          );
+      sourcePointRef = sourcePoint.getReference();
+    }
+
+    Set<TCSObjectReference<Point>> destinationPointRefs = request.getDestinationPoints()
+        .stream()
+        .map(destPointName -> {
+          Point destPoint = vehicleService.fetch(Point.class, destPointName)
+              .orElseThrow(
+                  () -> new ObjectUnknownException("Unknown destination point: " + destPointName)
+              );
+          return destPoint.getReference();
+        })
+        .collect(Collectors.toSet());
+
+    Set<TCSResourceReference<?>> resourcesToAvoid = new HashSet<>();
+
+    if (request.getResourcesToAvoid() != null) {
+      for (String resourceName : request.getResourcesToAvoid()) {
+        Optional<Point> point = vehicleService.fetch(Point.class, resourceName);
+        if (point.isPresent()) {
+          resourcesToAvoid.add(point.get().getReference());
+          continue;
+        }
 
-      Set<TCSObjectReference<Point>> destinationPointRefs = request.getDestinationPoints()
-          .stream()
-          .map(destPointName -> {
-            Point destPoint = vehicleService.fetch(Point.class, destPointName)
-                .orElseThrow(
-                    () -> new ObjectUnknownException("Unknown destination point: " + destPointName)
-                );
-            return destPoint.getReference();
-          })
-          .collect(Collectors.toSet());
-
-      Set<TCSResourceReference<?>> resourcesToAvoid = new HashSet<>();
-
-      if (request.getResourcesToAvoid() != null) {
-        for (String resourceName : request.getResourcesToAvoid()) {
-          Optional<Point> point = vehicleService.fetch(Point.class, resourceName);
-          if (point.isPresent()) {
-            resourcesToAvoid.add(point.get().getReference());
-            continue;
-          }
-
-          Optional<Path> path = vehicleService.fetch(Path.class, resourceName);
-          if (path.isPresent()) {
-            resourcesToAvoid.add(path.get().getReference());
-            continue;
-          }
-
-          Optional<Location> location = vehicleService.fetch(Location.class, resourceName);
-          if (location.isPresent()) {
-            resourcesToAvoid.add(location.get().getReference());
-            continue;
-          }
-
-          throw new ObjectUnknownException("Unknown resource: " + resourceName);
+        Optional<Path> path = vehicleService.fetch(Path.class, resourceName);
+        if (path.isPresent()) {
+          resourcesToAvoid.add(path.get().getReference());
+          continue;
         }
+
+        Optional<Location> location = vehicleService.fetch(Location.class, resourceName);
+        if (location.isPresent()) {
+          resourcesToAvoid.add(location.get().getReference());
+          continue;
+        }
+
+        throw new ObjectUnknownException("Unknown resource: " + resourceName);
       }
+    }
 
-      return routerService.computeRoutes(
-          vehicle.getReference(),
-          sourcePointRef,
-          destinationPointRefs,
-          resourcesToAvoid,
-          maxRoutesPerDestinationPoint
-      );
-    });
+    return routerService.computeRoutes(
+        vehicle.getReference(),
+        sourcePointRef,
+        destinationPointRefs,
+        resourcesToAvoid,
+        maxRoutesPerDestinationPoint
+    );
   }
 
   private Map<String, String> toParameterMap(List<Property> parameters) {
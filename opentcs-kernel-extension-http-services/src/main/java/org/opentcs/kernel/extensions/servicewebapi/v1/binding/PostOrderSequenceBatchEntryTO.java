@@ -0,0 +1,58 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.Nonnull;
+
+/**
+ * An order sequence to be created by the kernel as part of a batch.
+ */
+public class PostOrderSequenceBatchEntryTO {
+
+  private String name;
+
+  private PostOrderSequenceRequestTO orderSequence;
+
+  @JsonCreator
+  public PostOrderSequenceBatchEntryTO(
+      @Nonnull
+      @JsonProperty(required = true, value = "name")
+      String name,
+      @Nonnull
+      @JsonProperty(required = true, value = "orderSequence")
+      PostOrderSequenceRequestTO orderSequence
+  ) {
+    this.name = requireNonNull(name, "name");
+    this.orderSequence = requireNonNull(orderSequence, "orderSequence");
+  }
+
+  @Nonnull
+  public String getName() {
+    return name;
+  }
+
+  public PostOrderSequenceBatchEntryTO setName(
+      @Nonnull
+      String name
+  ) {
+    this.name = requireNonNull(name, "name");
+    return this;
+  }
+
+  @Nonnull
+  public PostOrderSequenceRequestTO getOrderSequence() {
+    return orderSequence;
+  }
+
+  public PostOrderSequenceBatchEntryTO setOrderSequence(
+      @Nonnull
+      PostOrderSequenceRequestTO orderSequence
+  ) {
+    this.orderSequence = requireNonNull(orderSequence, "orderSequence");
+    return this;
+  }
+}
@@ -0,0 +1,58 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.Nonnull;
+
+/**
+ * A transport order to be created by the kernel as part of a batch.
+ */
+public class PostTransportOrderBatchEntryTO {
+
+  private String name;
+
+  private PostTransportOrderRequestTO transportOrder;
+
+  @JsonCreator
+  public PostTransportOrderBatchEntryTO(
+      @Nonnull
+      @JsonProperty(required = true, value = "name")
+      String name,
+      @Nonnull
+      @JsonProperty(required = true, value = "transportOrder")
+      PostTransportOrderRequestTO transportOrder
+  ) {
+    this.name = requireNonNull(name, "name");
+    this.transportOrder = requireNonNull(transportOrder, "transportOrder");
+  }
+
+  @Nonnull
+  public String getName() {
+    return name;
+  }
+
+  public PostTransportOrderBatchEntryTO setName(
+      @Nonnull
+      String name
+  ) {
+    this.name = requireNonNull(name, "name");
+    return this;
+  }
+
+  @Nonnull
+  public PostTransportOrderRequestTO getTransportOrder() {
+    return transportOrder;
+  }
+
+  public PostTransportOrderBatchEntryTO setTransportOrder(
+      @Nonnull
+      PostTransportOrderRequestTO transportOrder
+  ) {
+    this.transportOrder = requireNonNull(transportOrder, "transportOrder");
+    return this;
+  }
+}
@@ -0,0 +1,54 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding.sse;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import org.opentcs.data.TCSObjectDelta;
+
+/**
+ * A transfer object (to be used with the SSE API) representing a {@link TCSObjectDelta}, i.e. the
+ * modification of an object described by the attributes that have changed.
+ * <p>
+ * The changed attributes are represented the same way as in the object's complete representation
+ * (e.g. {@link VehicleEventTO.VehicleTO}).
+ * </p>
+ */
+public class ObjectDeltaEventTO {
+
+  private final String objectName;
+  private final Map<String, JsonNode> changedAttributes;
+  private final List<JsonNode> appendedHistoryEntries;
+
+  public ObjectDeltaEventTO(
+      @Nonnull
+      String objectName,
+      @Nonnull
+      Map<String, JsonNode> changedAttributes,
+      @Nonnull
+      List<JsonNode> appendedHistoryEntries
+  ) {
+    this.objectName = requireNonNull(objectName, "objectName");
+    this.changedAttributes = requireNonNull(changedAttributes, "changedAttributes");
+    this.appendedHistoryEntries = requireNonNull(
+        appendedHistoryEntries,
+        "appendedHistoryEntries"
+    );
+  }
+
+  public String getObjectName() {
+    return objectName;
+  }
+
+  public Map<String, JsonNode> getChangedAttributes() {
+    return changedAttributes;
+  }
+
+  public List<JsonNode> getAppendedHistoryEntries() {
+    return appendedHistoryEntries;
+  }
+}
@@ -7,6 +7,7 @@ import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
+import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
@@ -159,4 +160,35 @@ public class EventConverter {
             : peripheralJobConverter.convert((PeripheralJob) event.getPreviousObjectState())
     );
   }
+
+  /**
+   * Converts the given object to its SSE representation.
+   *
+   * @param object The object to convert.
+   * @return The converted object.
+   * @throws IllegalArgumentException If the object is not of type {@link Vehicle},
+   * {@link TransportOrder}, {@link OrderSequence} or {@link PeripheralJob}.
+   */
+  public Object convertObject(
+      @Nonnull
+      TCSObject<?> object
+  ) {
+    requireNonNull(object, "object");
+
+    if (object instanceof Vehicle vehicle) {
+      return vehicleConverter.convert(vehicle);
+    }
+    else if (object instanceof TransportOrder transportOrder) {
+      return transportOrderConverter.convert(transportOrder);
+    }
+    else if (object instanceof OrderSequence orderSequence) {
+      return orderSequenceConverter.convert(orderSequence);
+    }
+    else if (object instanceof PeripheralJob peripheralJob) {
+      return peripheralJobConverter.convert(peripheralJob);
+    }
+    throw new IllegalArgumentException(
+        "Unsupported object type: " + object.getClass().getName()
+    );
+  }
 }
@@ -9,6 +9,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.theInstance;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
@@ -143,7 +144,7 @@ class PeripheralJobHandlerTest {
             true
         )
     );
-    given(jobService.stream(PeripheralJob.class))
+    given(jobService.stream(eq(PeripheralJob.class), any()))
         .willReturn(Stream.of(job1, job2));
 
     // Act
@@ -151,7 +152,7 @@ class PeripheralJobHandlerTest {
 
     // Assert
     assertThat(result, hasSize(2));
-    then(jobService).should().stream(ArgumentMatchers.<Class<PeripheralJob>>any());
+    then(jobService).should().stream(eq(PeripheralJob.class), any());
   }
 
   @Test
@@ -186,14 +187,14 @@ class PeripheralJobHandlerTest {
 
     given(jobService.fetch(Vehicle.class, "some-vehicle"))
         .willReturn(Optional.of(vehicle));
-    given(jobService.stream(PeripheralJob.class))
+    given(jobService.stream(eq(PeripheralJob.class), any()))
         .willReturn(Stream.of(job1, job2));
 
     // Act & Assert: happy path
     List<GetPeripheralJobResponseTO> result = handler.getPeripheralJobs("some-vehicle", null);
 
     assertThat(result, hasSize(2));
-    then(jobService).should().stream(PeripheralJob.class);
+    then(jobService).should().stream(eq(PeripheralJob.class), any());
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
@@ -232,14 +233,14 @@ class PeripheralJobHandlerTest {
 
     given(jobService.fetch(TransportOrder.class, "some-order"))
         .willReturn(Optional.of(transportOrder));
-    given(jobService.stream(PeripheralJob.class))
+    given(jobService.stream(eq(PeripheralJob.class), any()))
         .willReturn(Stream.of(job1, job2));
 
     // Act & Assert: happy path
     List<GetPeripheralJobResponseTO> result = handler.getPeripheralJobs(null, "some-order");
 
     assertThat(result, hasSize(2));
-    then(jobService).should().stream(PeripheralJob.class);
+    then(jobService).should().stream(eq(PeripheralJob.class), any());
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
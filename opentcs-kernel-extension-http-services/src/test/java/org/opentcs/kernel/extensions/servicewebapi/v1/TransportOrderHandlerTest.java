@@ -12,9 +12,11 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.theInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 import java.time.Instant;
 import java.util.List;
@@ -37,7 +39,9 @@ import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetOrderSequenceResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetTransportOrderResponseTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceBatchEntryTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderBatchEntryTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorder.Destination;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.Property;
@@ -126,6 +130,51 @@ class TransportOrderHandlerTest {
         );
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void createTransportOrders() {
+    // Arrange
+    TransportOrder transportOrder = new TransportOrder("some-order", List.of());
+    TransportOrder otherTransportOrder = new TransportOrder("some-other-order", List.of());
+    given(orderService.createTransportOrders(any(List.class)))
+        .willReturn(List.of(transportOrder, otherTransportOrder));
+
+    // Act
+    List<TransportOrder> result = handler.createOrders(
+        List.of(
+            new PostTransportOrderBatchEntryTO(
+                "some-order",
+                new PostTransportOrderRequestTO()
+                    .setDestinations(
+                        List.of(new Destination("some-location", "some-operation", null))
+                    )
+            ),
+            new PostTransportOrderBatchEntryTO(
+                "some-other-order",
+                new PostTransportOrderRequestTO()
+                    .setDestinations(
+                        List.of(new Destination("some-location", "some-operation", null))
+                    )
+                    .setDependencies(List.of("some-order"))
+            )
+        )
+    );
+
+    // Assert
+    assertThat(result, is(List.of(transportOrder, otherTransportOrder)));
+
+    ArgumentCaptor<List<TransportOrderCreationTO>> captor = ArgumentCaptor.forClass(List.class);
+    then(orderService).should().createTransportOrders(captor.capture());
+    then(orderService).should(never()).createTransportOrder(any(TransportOrderCreationTO.class));
+    assertThat(captor.getValue()).hasSize(2);
+    assertThat(captor.getValue().get(0))
+        .returns("some-order", from(TransportOrderCreationTO::getName))
+        .returns(Set.of(), from(TransportOrderCreationTO::getDependencyNames));
+    assertThat(captor.getValue().get(1))
+        .returns("some-other-order", from(TransportOrderCreationTO::getName))
+        .returns(Set.of("some-order"), from(TransportOrderCreationTO::getDependencyNames));
+  }
+
   @Test
   void setTransportOrderIntendedVehicle() {
     // Arrange
@@ -168,7 +217,7 @@ class TransportOrderHandlerTest {
     TransportOrder transportOrder1 = new TransportOrder("some-order", List.of());
     TransportOrder transportOrder2 = new TransportOrder("some-order-2", List.of());
 
-    given(orderService.stream(TransportOrder.class))
+    given(orderService.stream(eq(TransportOrder.class), any()))
         .willReturn(Set.of(transportOrder1, transportOrder2).stream());
 
     // Act
@@ -176,7 +225,7 @@ class TransportOrderHandlerTest {
 
     // Assert
     assertThat(result, hasSize(2));
-    then(orderService).should().stream(TransportOrder.class);
+    then(orderService).should().stream(eq(TransportOrder.class), any());
   }
 
   @Test
@@ -190,13 +239,13 @@ class TransportOrderHandlerTest {
 
     given(orderService.fetch(Vehicle.class, "some-vehicle"))
         .willReturn(Optional.of(vehicle));
-    given(orderService.stream(TransportOrder.class))
+    given(orderService.stream(eq(TransportOrder.class), any()))
         .willReturn(Stream.of(transportOrder1, transportOrder2));
 
     // Act & Assert: happy path
     List<GetTransportOrderResponseTO> result = handler.getTransportOrders("some-vehicle");
     assertThat(result, hasSize(2));
-    then(orderService).should().stream(TransportOrder.class);
+    then(orderService).should().stream(eq(TransportOrder.class), any());
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
@@ -327,6 +376,29 @@ class TransportOrderHandlerTest {
     );
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void createNoOrderSequenceIfAnyInBatchHasTypeAndOrderTypes() {
+    assertThrows(
+        IllegalArgumentException.class, () -> handler.createOrderSequences(
+            List.of(
+                new PostOrderSequenceBatchEntryTO(
+                    "some-sequence",
+                    new PostOrderSequenceRequestTO()
+                        .setType("some-type")
+                ),
+                new PostOrderSequenceBatchEntryTO(
+                    "some-other-sequence",
+                    new PostOrderSequenceRequestTO()
+                        .setType("some-type")
+                        .setOrderTypes(List.of("some-type"))
+                )
+            )
+        )
+    );
+    then(orderService).should(never()).createOrderSequences(any(List.class));
+  }
+
   @Test
   void setOrderSequenceComplete() {
     // Arrange
@@ -0,0 +1,150 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.javalin.http.Context;
+import io.javalin.http.sse.SseClient;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opentcs.data.ObjectHistory;
+import org.opentcs.data.TCSObjectDelta;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration;
+import org.opentcs.kernel.extensions.servicewebapi.v1.converter.sse.EventConverter;
+import org.opentcs.kernel.extensions.servicewebapi.v1.converter.sse.OrderSequenceConverter;
+import org.opentcs.kernel.extensions.servicewebapi.v1.converter.sse.PeripheralJobConverter;
+import org.opentcs.kernel.extensions.servicewebapi.v1.converter.sse.TransportOrderConverter;
+import org.opentcs.kernel.extensions.servicewebapi.v1.converter.sse.VehicleConverter;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Tests for {@link V1SseHandler}.
+ */
+class V1SseHandlerTest {
+
+  private JsonBinder jsonBinder;
+  private VehicleConverter vehicleConverter;
+  private SseClient client;
+  private V1SseHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    jsonBinder = new JsonBinder();
+    vehicleConverter = new VehicleConverter();
+    ServiceWebApiConfiguration configuration = mock();
+    when(configuration.sseDeltaKeyframeInterval()).thenReturn(10);
+    handler = new V1SseHandler(
+        mock(EventSource.class),
+        new EventConverter(
+            vehicleConverter,
+            new TransportOrderConverter(),
+            new OrderSequenceConverter(),
+            new PeripheralJobConverter()
+        ),
+        jsonBinder,
+        configuration
+    );
+
+    Context context = mock();
+    when(context.queryParamMap())
+        .thenReturn(Map.of(SseConstants.EVENT_TYPE_VEHICLES, List.of("true")));
+    when(context.queryParam(SseConstants.QUERY_PARAM_DELTA)).thenReturn("true");
+    client = mock();
+    when(client.ctx()).thenReturn(context);
+    handler.handleSseConnection(client);
+  }
+
+  @Test
+  void sendChangedAttributesAndAppendedHistoryEntriesAsDelta() {
+    Vehicle vehicle = new Vehicle("vehicle-1");
+    TransportOrder transportOrder = new TransportOrder("transport-order-1", List.of());
+    ObjectHistory.Entry historyEntry
+        = new ObjectHistory.Entry(Instant.EPOCH, "event-code-1", List.of("supplement-1"));
+    Vehicle modifiedVehicle = vehicle.withEnergyLevel(42)
+        .withTransportOrder(transportOrder.getReference())
+        .withState(Vehicle.State.EXECUTING)
+        .withHistoryEntry(historyEntry);
+
+    handler.onEvent(new TCSObjectEvent(vehicle, null, TCSObjectEvent.Type.OBJECT_CREATED));
+    handler.onEvent(
+        new TCSObjectEvent(
+            modifiedVehicle,
+            vehicle,
+            TCSObjectEvent.Type.OBJECT_MODIFIED,
+            new TCSObjectDelta(
+                vehicle.getReference(),
+                Map.of(
+                    "energyLevel", 42,
+                    "transportOrder", transportOrder.getReference(),
+                    "state", Vehicle.State.EXECUTING,
+                    "stateTimestamp", modifiedVehicle.getStateTimestamp()
+                ),
+                List.of(historyEntry)
+            )
+        )
+    );
+
+    List<JsonNode> sentEvents = sentEvents(2);
+    JsonNode expectedState = jsonBinder.toJsonTree(vehicleConverter.convert(modifiedVehicle));
+    JsonNode delta = sentEvents.get(1);
+    assertThat(delta.get("objectName").asText()).isEqualTo("vehicle-1");
+    assertThat(delta.get("changedAttributes").size()).isEqualTo(3);
+    assertThat(delta.get("changedAttributes").get("energyLevel"))
+        .isEqualTo(expectedState.get("energyLevel"));
+    assertThat(delta.get("changedAttributes").get("transportOrder"))
+        .isEqualTo(expectedState.get("transportOrder"));
+    assertThat(delta.get("changedAttributes").get("state"))
+        .isEqualTo(expectedState.get("state"));
+    assertThat(delta.get("appendedHistoryEntries").size()).isEqualTo(1);
+    assertThat(delta.get("appendedHistoryEntries").get(0))
+        .isEqualTo(expectedState.get("history").get("entries").get(0));
+  }
+
+  @Test
+  void sendCompleteStateIfChangedAttributeIsNotRepresented() {
+    Vehicle vehicle = new Vehicle("vehicle-1");
+    Vehicle modifiedVehicle = vehicle.withEnergyLevel(42);
+
+    handler.onEvent(new TCSObjectEvent(vehicle, null, TCSObjectEvent.Type.OBJECT_CREATED));
+    handler.onEvent(
+        new TCSObjectEvent(
+            modifiedVehicle,
+            vehicle,
+            TCSObjectEvent.Type.OBJECT_MODIFIED,
+            new TCSObjectDelta(
+                vehicle.getReference(),
+                Map.of("energyLevel", 42, "unknownAttribute", 1),
+                List.of()
+            )
+        )
+    );
+
+    JsonNode event = sentEvents(2).get(1);
+    assertThat(event.has("changedAttributes")).isFalse();
+    assertThat(event.get("currentObjectState").get("energyLevel").asInt()).isEqualTo(42);
+  }
+
+  private List<JsonNode> sentEvents(int count) {
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+    verify(client, timeout(5000).times(count))
+        .sendEvent(eq(SseConstants.EVENT_TYPE_VEHICLES), captor.capture());
+    return captor.getAllValues().stream()
+        .map(data -> jsonBinder.fromJson((String) data, JsonNode.class))
+        .toList();
+  }
+}
@@ -12,6 +12,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -26,6 +27,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.InternalVehicleService;
 import org.opentcs.components.kernel.services.RouterService;
 import org.opentcs.data.ObjectUnknownException;
@@ -51,6 +53,7 @@ class VehicleHandlerTest {
 
   private InternalVehicleService vehicleService;
   private RouterService routerService;
+  private Router router;
   private VehicleConverter vehicleConverter;
   private KernelExecutorWrapper executorWrapper;
 
@@ -64,10 +67,17 @@ class VehicleHandlerTest {
   void setUp() {
     vehicleService = mock();
     routerService = mock();
+    router = mock();
     vehicleConverter = mock();
     executorWrapper = new KernelExecutorWrapper(Executors.newSingleThreadExecutor());
 
-    handler = new VehicleHandler(vehicleService, routerService, executorWrapper, vehicleConverter);
+    handler = new VehicleHandler(
+        vehicleService,
+        routerService,
+        router,
+        executorWrapper,
+        vehicleConverter
+    );
 
     vehicle = new Vehicle("some-vehicle");
     adapterDescriptionMock = new MockVehicleCommAdapterDescription();
@@ -370,6 +380,46 @@ class VehicleHandlerTest {
         );
   }
 
+  @Test
+  void retrieveVehicleRoutesWithoutKernelExecutorIfRouterIsThreadSafe() {
+    // Arrange
+    KernelExecutorWrapper unusedExecutorWrapper = mock();
+    handler = new VehicleHandler(
+        vehicleService,
+        routerService,
+        router,
+        unusedExecutorWrapper,
+        vehicleConverter
+    );
+    Point sourcePoint = new Point("some-source-point");
+    Point destinationPoint = new Point("some-destination-point");
+    given(router.isThreadSafe()).willReturn(true);
+    given(vehicleService.fetch(Point.class, "some-source-point"))
+        .willReturn(Optional.of(sourcePoint));
+    given(vehicleService.fetch(Point.class, "some-destination-point"))
+        .willReturn(Optional.of(destinationPoint));
+
+    // Act
+    handler.getVehicleRoutes(
+        "some-vehicle",
+        1,
+        new PostVehicleRoutesRequestTO(List.of("some-destination-point"))
+            .setSourcePoint("some-source-point")
+    );
+
+    // Assert
+    then(routerService)
+        .should()
+        .computeRoutes(
+            vehicle.getReference(),
+            sourcePoint.getReference(),
+            Set.of(destinationPoint.getReference()),
+            Set.of(),
+            1
+        );
+    verifyNoInteractions(unusedExecutorWrapper);
+  }
+
   @Test
   void retrieveVehicleRoutesForPositionProvidedInRequest() {
     // Arrange
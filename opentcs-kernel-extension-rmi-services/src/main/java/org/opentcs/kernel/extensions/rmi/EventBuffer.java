@@ -7,25 +7,70 @@ import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.annotation.Nonnull;
 import java.util.ArrayList;
-import java.util.Deque;
-import java.util.LinkedList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.function.Predicate;
+import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.data.TCSObjectDelta;
 import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.util.event.EventHandler;
 
 /**
  * Stores events and keeps them until a client fetches them.
+ * <p>
+ * For every object, at most one {@link TCSObjectEvent.Type#OBJECT_MODIFIED} event is buffered:
+ * A new modification event for an object is merged with the buffered one (i.e. the buffered event
+ * is replaced with one containing the object's previous state from the buffered event and its
+ * current state from the new event), and the merged event is moved to the end of the buffer.
+ * Modification events are never merged across the creation or removal of the respective object.
+ * </p>
+ * <p>
+ * Optionally, the number of buffered events can be limited. If the buffer is full, it is handled
+ * according to its {@link OverflowPolicy}.
+ * </p>
+ * <p>
+ * Optionally, modification events can be buffered in delta mode, i.e. as {@link TCSObjectDelta}s
+ * instead of as {@link TCSObjectEvent}s. A modification is still buffered as a
+ * {@link TCSObjectEvent} (as a keyframe) if it is not described by a delta, if neither the
+ * object's creation nor a keyframe for it has been buffered before, or if a configured number of
+ * deltas has been buffered for the object since its last keyframe. Buffered deltas for the same
+ * object are merged as well.
+ * </p>
  */
 public class EventBuffer
     implements
       EventHandler {
 
   /**
-   * The buffered events.
+   * The buffered events, mapped by unique keys, in the order they are to be fetched.
    */
-  private final Deque<Object> events = new LinkedList<>();
+  private final LinkedHashMap<Object, Object> events = new LinkedHashMap<>();
+  /**
+   * The keys of buffered {@link TCSObjectEvent.Type#OBJECT_MODIFIED} events that new events for
+   * the same object may be merged with, mapped by object reference.
+   */
+  private final Map<TCSObjectReference<?>, Object> mergeableEventKeys = new HashMap<>();
+  /**
+   * The maximum number of buffered events, or 0, if the number is not limited.
+   */
+  private final int capacity;
+  /**
+   * What to do if the buffer is full.
+   */
+  private final OverflowPolicy overflowPolicy;
+  /**
+   * The number of deltas after which a keyframe is buffered, or 0, if not in delta mode.
+   */
+  private final int deltaKeyframeInterval;
+  /**
+   * The numbers of deltas buffered since the last keyframe, mapped by object reference.
+   * Objects for which no keyframe has been buffered, yet, are not contained.
+   */
+  private final Map<TCSObjectReference<?>, Integer> deltasSinceKeyframe = new HashMap<>();
   /**
    * This buffer's event filter.
    */
@@ -34,17 +79,76 @@ public class EventBuffer
    * A flag indicating whether this event buffer's client is currently waiting for an event.
    */
   private boolean waitingClient;
+  /**
+   * A flag indicating whether this event buffer's client needs to resynchronize its state.
+   */
+  private boolean resyncRequired;
+  /**
+   * The number of events that were merged with buffered events.
+   */
+  private long coalescedEventCount;
+  /**
+   * The number of events that were discarded due to the buffer being full.
+   */
+  private long droppedEventCount;
+  /**
+   * The number of times the client was forced to resynchronize its state.
+   */
+  private long forcedResyncCount;
 
   /**
-   * Creates a new instance
+   * Creates a new instance with an unlimited capacity.
    *
    * @param eventFilter This buffer's initial event filter.
    */
   public EventBuffer(
       @Nonnull
       Predicate<Object> eventFilter
+  ) {
+    this(eventFilter, 0, OverflowPolicy.DROP_OLDEST);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventFilter This buffer's initial event filter.
+   * @param capacity The maximum number of buffered events. A value of 0 (or less) means that the
+   * number of buffered events is not limited.
+   * @param overflowPolicy What to do if the buffer is full.
+   */
+  public EventBuffer(
+      @Nonnull
+      Predicate<Object> eventFilter,
+      int capacity,
+      @Nonnull
+      OverflowPolicy overflowPolicy
+  ) {
+    this(eventFilter, capacity, overflowPolicy, 0);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventFilter This buffer's initial event filter.
+   * @param capacity The maximum number of buffered events. A value of 0 (or less) means that the
+   * number of buffered events is not limited.
+   * @param overflowPolicy What to do if the buffer is full.
+   * @param deltaKeyframeInterval The number of deltas for an object after which a keyframe is
+   * buffered for it. A value of 0 (or less) means that modification events are not buffered in
+   * delta mode.
+   */
+  public EventBuffer(
+      @Nonnull
+      Predicate<Object> eventFilter,
+      int capacity,
+      @Nonnull
+      OverflowPolicy overflowPolicy,
+      int deltaKeyframeInterval
   ) {
     this.eventFilter = requireNonNull(eventFilter, "eventFilter");
+    this.capacity = Math.max(capacity, 0);
+    this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy");
+    this.deltaKeyframeInterval = Math.max(deltaKeyframeInterval, 0);
   }
 
   // Methods declared in interface EventListener start here
@@ -53,8 +157,15 @@ public class EventBuffer
     requireNonNull(event, "event");
     synchronized (events) {
       if (eventFilter.test(event)) {
-        if (!tryMergeWithPreviousEvent(event)) {
-          events.add(event);
+        if (resyncRequired) {
+          // The client will have to resynchronize its state anyway.
+          droppedEventCount++;
+          return;
+        }
+
+        Object bufferedForm = toBufferedForm(event);
+        if (!tryMergeWithBufferedEvent(event, bufferedForm)) {
+          addEvent(bufferedForm);
         }
 
         // If the client is waiting for an event, wake it up, since there is one now.
@@ -77,11 +188,21 @@ public class EventBuffer
    * immediately, without waiting for an event to arrive).
    * @return A list of events that are currently stored in this buffer.
    * @throws IllegalArgumentException If <code>timeout</code> is less than 0.
+   * @throws KernelRuntimeException If events were discarded due to the buffer being full and its
+   * overflow policy being {@link OverflowPolicy#FORCE_RESYNC}. (Subsequent calls will return
+   * events again.)
    */
   public List<Object> getEvents(long timeout)
-      throws IllegalArgumentException {
+      throws IllegalArgumentException,
+        KernelRuntimeException {
     checkArgument(timeout >= 0, "timeout < 0: %s", timeout);
     synchronized (events) {
+      if (resyncRequired) {
+        resyncRequired = false;
+        throw new KernelRuntimeException(
+            "Event buffer overflowed, client needs to resynchronize its state."
+        );
+      }
       if (timeout > 0 && events.isEmpty()) {
         waitingClient = true;
         try {
@@ -94,8 +215,9 @@ public class EventBuffer
           waitingClient = false;
         }
       }
-      List<Object> result = new ArrayList<>(events);
+      List<Object> result = new ArrayList<>(events.values());
       events.clear();
+      mergeableEventKeys.clear();
       return result;
     }
   }
@@ -128,38 +250,236 @@ public class EventBuffer
   }
 
   /**
-   * If possible, merge the given new event with the previous one in the buffer.
+   * Returns the number of events currently stored in this buffer.
+   *
+   * @return The number of events currently stored in this buffer.
+   */
+  public int getBufferedEventCount() {
+    synchronized (events) {
+      return events.size();
+    }
+  }
+
+  /**
+   * Returns the number of events that were merged with events already stored in this buffer.
+   *
+   * @return The number of events that were merged with events already stored in this buffer.
+   */
+  public long getCoalescedEventCount() {
+    synchronized (events) {
+      return coalescedEventCount;
+    }
+  }
+
+  /**
+   * Returns the number of events that were discarded due to this buffer being full.
+   *
+   * @return The number of events that were discarded due to this buffer being full.
+   */
+  public long getDroppedEventCount() {
+    synchronized (events) {
+      return droppedEventCount;
+    }
+  }
+
+  /**
+   * Returns the number of times this buffer's client was forced to resynchronize its state due to
+   * this buffer being full.
+   *
+   * @return The number of times this buffer's client was forced to resynchronize its state.
+   */
+  public long getForcedResyncCount() {
+    synchronized (events) {
+      return forcedResyncCount;
+    }
+  }
+
+  /**
+   * Returns the form in which the given event is to be buffered.
+   *
+   * @param event The event.
+   * @return The event itself, or, in delta mode, the delta describing the modification, if the
+   * event is a modification event and a keyframe is not due.
+   */
+  private Object toBufferedForm(Object event) {
+    if (deltaKeyframeInterval == 0 || !(event instanceof TCSObjectEvent objectEvent)) {
+      return event;
+    }
+
+    TCSObjectReference<?> objectRef = objectEvent.getCurrentOrPreviousObjectState().getReference();
+    switch (objectEvent.getType()) {
+      case OBJECT_CREATED -> {
+        deltasSinceKeyframe.put(objectRef, 0);
+        return event;
+      }
+      case OBJECT_REMOVED -> {
+        deltasSinceKeyframe.remove(objectRef);
+        return event;
+      }
+      default -> {
+        Integer deltaCount = deltasSinceKeyframe.get(objectRef);
+        if (objectEvent.getDelta() == null
+            || deltaCount == null
+            || deltaCount >= deltaKeyframeInterval) {
+          deltasSinceKeyframe.put(objectRef, 0);
+          return event;
+        }
+        deltasSinceKeyframe.put(objectRef, deltaCount + 1);
+        return objectEvent.getDelta();
+      }
+    }
+  }
+
+  /**
+   * If possible, merge the given new event with a buffered event for the same object.
    *
    * @param event The new event.
-   * @return <code>true</code> if the new event was merged with the previous one.
+   * @param bufferedForm The form in which the new event is to be buffered.
+   * @return <code>true</code> if the new event was merged with a buffered one.
    */
-  private boolean tryMergeWithPreviousEvent(Object event) {
+  private boolean tryMergeWithBufferedEvent(Object event, Object bufferedForm) {
     if (!(event instanceof TCSObjectEvent currentEvent)
-        || !(events.peekLast() instanceof TCSObjectEvent previousEvent)) {
+        || currentEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
       return false;
     }
 
-    if (currentEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED
-        || previousEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
+    Object key = mergeableEventKeys.get(currentEvent.getCurrentObjectState().getReference());
+    if (key == null) {
       return false;
     }
 
-    if (!Objects.equals(
-        currentEvent.getCurrentObjectState().getReference(),
-        previousEvent.getCurrentObjectState().getReference()
-    )) {
-      return false;
+    Object bufferedEvent = events.remove(key);
+    if (bufferedEvent instanceof TCSObjectDelta bufferedDelta
+        && bufferedForm instanceof TCSObjectDelta delta) {
+      events.put(key, bufferedDelta.mergedWith(delta));
     }
-
-    events.removeLast();
-    events.add(
-        new TCSObjectEvent(
-            currentEvent.getCurrentObjectState(),
-            previousEvent.getPreviousObjectState(),
-            TCSObjectEvent.Type.OBJECT_MODIFIED
-        )
-    );
+    else {
+      // If either event is a complete one, so is the merged one, with the previous state from the
+      // buffered event, if known, and the current state from the new event.
+      events.put(
+          key,
+          new TCSObjectEvent(
+              currentEvent.getCurrentObjectState(),
+              bufferedEvent instanceof TCSObjectEvent bufferedObjectEvent
+                  ? bufferedObjectEvent.getPreviousObjectState()
+                  : currentEvent.getPreviousObjectState(),
+              TCSObjectEvent.Type.OBJECT_MODIFIED
+          )
+      );
+    }
+    coalescedEventCount++;
 
     return true;
   }
+
+  private void addEvent(Object event) {
+    if (capacity > 0 && events.size() >= capacity) {
+      switch (overflowPolicy) {
+        case DROP_OLDEST -> {
+          if (!tryDropOldestModificationEvent()) {
+            // Dropping any other event would leave the client with an inconsistent state.
+            forceResync();
+            return;
+          }
+        }
+        case FORCE_RESYNC -> {
+          forceResync();
+          return;
+        }
+        default -> throw new IllegalStateException("Unhandled overflow policy: " + overflowPolicy);
+      }
+    }
+
+    Object key = new Object();
+    if (event instanceof TCSObjectDelta delta) {
+      mergeableEventKeys.put(delta.getObjectReference(), key);
+    }
+    else if (event instanceof TCSObjectEvent objectEvent) {
+      TCSObjectReference<?> objectRef
+          = objectEvent.getCurrentOrPreviousObjectState().getReference();
+      if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_MODIFIED) {
+        mergeableEventKeys.put(objectRef, key);
+      }
+      else {
+        mergeableEventKeys.remove(objectRef);
+      }
+    }
+    events.put(key, event);
+  }
+
+  /**
+   * Discards all buffered events (and the new one) and lets the client's next attempt to fetch
+   * events fail.
+   */
+  private void forceResync() {
+    droppedEventCount += events.size() + 1;
+    events.clear();
+    mergeableEventKeys.clear();
+    // After resynchronizing, the client needs keyframes for all objects again.
+    deltasSinceKeyframe.clear();
+    resyncRequired = true;
+    forcedResyncCount++;
+  }
+
+  /**
+   * Discards the oldest buffered modification event (or delta), if any.
+   * <p>
+   * Creation and removal events and events that are not {@link TCSObjectEvent}s are never
+   * discarded, since the client could not recover from missing them without resynchronizing its
+   * state.
+   * </p>
+   *
+   * @return <code>true</code> if an event was discarded.
+   */
+  private boolean tryDropOldestModificationEvent() {
+    Iterator<Map.Entry<Object, Object>> iter = events.entrySet().iterator();
+    while (iter.hasNext()) {
+      Map.Entry<Object, Object> entry = iter.next();
+      TCSObjectReference<?> objectRef = modifiedObjectReference(entry.getValue());
+      if (objectRef != null) {
+        iter.remove();
+        mergeableEventKeys.remove(objectRef, entry.getKey());
+        // With the modification lost, the client needs a keyframe for the object.
+        deltasSinceKeyframe.remove(objectRef);
+        droppedEventCount++;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the reference of the object modified by the given buffered event.
+   *
+   * @param event The buffered event.
+   * @return The reference of the modified object, or <code>null</code>, if the event is not a
+   * modification event.
+   */
+  private TCSObjectReference<?> modifiedObjectReference(Object event) {
+    if (event instanceof TCSObjectDelta delta) {
+      return delta.getObjectReference();
+    }
+    if (event instanceof TCSObjectEvent objectEvent
+        && objectEvent.getType() == TCSObjectEvent.Type.OBJECT_MODIFIED) {
+      return objectEvent.getCurrentObjectState().getReference();
+    }
+    return null;
+  }
+
+  /**
+   * Defines what to do if an event buffer is full.
+   */
+  public enum OverflowPolicy {
+    /**
+     * Discard the oldest buffered modification event (the client will learn about the respective
+     * object's state with its next modification). Creation and removal events are never
+     * discarded; if no modification event is buffered, behave like {@link #FORCE_RESYNC}.
+     */
+    DROP_OLDEST,
+    /**
+     * Discard all buffered events and let the client's next attempt to fetch events fail, forcing
+     * the client to reconnect and to resynchronize its state.
+     */
+    FORCE_RESYNC;
+  }
 }
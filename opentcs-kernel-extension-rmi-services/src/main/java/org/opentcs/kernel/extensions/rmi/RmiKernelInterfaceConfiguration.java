@@ -130,6 +130,45 @@ public interface RmiKernelInterfaceConfiguration {
   )
   long clientSweepInterval();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of events buffered for a single client.",
+          "A value of 0 means that the number of buffered events is not limited."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_events_0"
+  )
+  int eventBufferCapacity();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "What to do if a client's event buffer is full. Valid values:",
+          "'DROP_OLDEST' (recommended): Discard the oldest buffered modification event. If only "
+              + "creation, removal or other events are buffered, behave like 'FORCE_RESYNC'.",
+          "'FORCE_RESYNC': Discard all buffered events and let the client's next attempt to fetch "
+              + "events fail, forcing the client to reconnect and to resynchronize its state. "
+              + "(Note that the Operations Desk does not resynchronize, but logs out.)"
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_events_1"
+  )
+  EventBuffer.OverflowPolicy eventBufferOverflowPolicy();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "For clients subscribed to events in delta mode: The number of deltas delivered for an "
+              + "object after which the object's complete state is delivered again.",
+          "A value of 0 means that complete states are always delivered, i.e. that delta mode is "
+              + "disabled."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_events_2"
+  )
+  int eventDeltaKeyframeInterval();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether to use SSL to encrypt connections.",
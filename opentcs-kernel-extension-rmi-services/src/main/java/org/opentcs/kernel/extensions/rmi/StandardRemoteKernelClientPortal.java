@@ -18,6 +18,7 @@ import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.LocalKernel;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.rmi.factories.SocketFactoryProvider;
+import org.opentcs.access.rmi.services.DeltaEventFilter;
 import org.opentcs.access.rmi.services.RegistrationName;
 import org.opentcs.access.rmi.services.RemoteKernelServicePortal;
 import org.opentcs.components.kernel.KernelExtension;
@@ -191,8 +192,16 @@ public class StandardRemoteKernelClientPortal
     // Generate a new ID for the client.
     ClientID clientId = new ClientID(userName);
     // Add an entry for the newly connected client.
-    ClientEntry clientEntry = new ClientEntry(userName, account.getPermissions());
-    clientEntry.getEventBuffer().setEventFilter(eventFilter);
+    ClientEntry clientEntry = new ClientEntry(
+        userName,
+        account.getPermissions(),
+        new EventBuffer(
+            eventFilter,
+            configuration.eventBufferCapacity(),
+            configuration.eventBufferOverflowPolicy(),
+            eventFilter instanceof DeltaEventFilter ? configuration.eventDeltaKeyframeInterval() : 0
+        )
+    );
     userManager.registerClient(clientId, clientEntry);
     LOG.debug("New client named {} logged in", clientId.getClientName());
     return clientId;
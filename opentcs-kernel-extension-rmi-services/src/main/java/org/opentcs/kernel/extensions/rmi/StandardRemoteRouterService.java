@@ -17,6 +17,7 @@ import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.rmi.factories.SocketFactoryProvider;
 import org.opentcs.access.rmi.services.RegistrationName;
 import org.opentcs.access.rmi.services.RemoteRouterService;
+import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.RouterService;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.TCSObjectReference;
@@ -49,6 +50,10 @@ public class StandardRemoteRouterService
    * The scheduler service to invoke methods on.
    */
   private final RouterService routerService;
+  /**
+   * The kernel's router.
+   */
+  private final Router router;
   /**
    * The user manager.
    */
@@ -82,6 +87,7 @@ public class StandardRemoteRouterService
    * Creates a new instance.
    *
    * @param routerService The router service.
+   * @param router The kernel's router.
    * @param userManager The user manager.
    * @param configuration This class' configuration.
    * @param socketFactoryProvider The socket factory provider used for RMI.
@@ -91,6 +97,7 @@ public class StandardRemoteRouterService
   @Inject
   public StandardRemoteRouterService(
       RouterService routerService,
+      Router router,
       UserManager userManager,
       RmiKernelInterfaceConfiguration configuration,
       SocketFactoryProvider socketFactoryProvider,
@@ -99,6 +106,7 @@ public class StandardRemoteRouterService
       ExecutorService kernelExecutor
   ) {
     this.routerService = requireNonNull(routerService, "routerService");
+    this.router = requireNonNull(router, "router");
     this.userManager = requireNonNull(userManager, "userManager");
     this.configuration = requireNonNull(configuration, "configuration");
     this.socketFactoryProvider = requireNonNull(socketFactoryProvider, "socketFactoryProvider");
@@ -183,6 +191,18 @@ public class StandardRemoteRouterService
       throws RemoteException {
     userManager.verifyCredentials(clientId, UserPermission.MODIFY_MODEL);
 
+    if (router.isThreadSafe()) {
+      // Route queries are read-only and served concurrently by the router, so there is no need to
+      // block the kernel executor with them.
+      return routerService.computeRoutes(
+          vehicleRef,
+          sourcePointRef,
+          destinationPointRefs,
+          resourcesToAvoid,
+          maxRoutesPerDestinationPoint
+      );
+    }
+
     try {
       return kernelExecutor.submit(
           () -> routerService.computeRoutes(
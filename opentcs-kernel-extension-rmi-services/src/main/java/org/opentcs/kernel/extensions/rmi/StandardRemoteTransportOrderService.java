@@ -9,6 +9,7 @@ import java.rmi.NotBoundException;
 import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
 import java.rmi.server.UnicastRemoteObject;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import org.opentcs.access.rmi.ClientID;
@@ -17,6 +18,7 @@ import org.opentcs.access.rmi.services.RegistrationName;
 import org.opentcs.access.rmi.services.RemoteTransportOrderService;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.TCSObjectReference;
@@ -48,6 +50,10 @@ public class StandardRemoteTransportOrderService
    * The transport order service to invoke methods on.
    */
   private final TransportOrderService transportOrderService;
+  /**
+   * The dispatcher service.
+   */
+  private final DispatcherService dispatcherService;
   /**
    * The user manager.
    */
@@ -81,6 +87,7 @@ public class StandardRemoteTransportOrderService
    * Creates a new instance.
    *
    * @param transportOrderService The transport order service.
+   * @param dispatcherService The dispatcher service.
    * @param userManager The user manager.
    * @param configuration This class' configuration.
    * @param socketFactoryProvider The socket factory provider used for RMI.
@@ -90,6 +97,7 @@ public class StandardRemoteTransportOrderService
   @Inject
   public StandardRemoteTransportOrderService(
       TransportOrderService transportOrderService,
+      DispatcherService dispatcherService,
       UserManager userManager,
       RmiKernelInterfaceConfiguration configuration,
       SocketFactoryProvider socketFactoryProvider,
@@ -99,6 +107,7 @@ public class StandardRemoteTransportOrderService
   ) {
     super(transportOrderService, userManager, kernelExecutor);
     this.transportOrderService = requireNonNull(transportOrderService, "transportOrderService");
+    this.dispatcherService = requireNonNull(dispatcherService, "dispatcherService");
     this.userManager = requireNonNull(userManager, "userManager");
     this.configuration = requireNonNull(configuration, "configuration");
     this.socketFactoryProvider = requireNonNull(socketFactoryProvider, "socketFactoryProvider");
@@ -182,6 +191,41 @@ public class StandardRemoteTransportOrderService
     }
   }
 
+  @Override
+  public List<OrderSequence> createOrderSequences(
+      ClientID clientId,
+      List<OrderSequenceCreationTO> tos
+  ) {
+    userManager.verifyCredentials(clientId, UserPermission.MODIFY_ORDER);
+
+    try {
+      return kernelExecutor.submit(() -> transportOrderService.createOrderSequences(tos)).get();
+    }
+    catch (InterruptedException | ExecutionException exc) {
+      throw findSuitableExceptionFor(exc);
+    }
+  }
+
+  @Override
+  public List<TransportOrder> createTransportOrders(
+      ClientID clientId,
+      List<TransportOrderCreationTO> tos
+  ) {
+    userManager.verifyCredentials(clientId, UserPermission.MODIFY_ORDER);
+
+    try {
+      List<TransportOrder> result
+          = kernelExecutor.submit(() -> transportOrderService.createTransportOrders(tos)).get();
+      // Let the dispatcher consider the new orders right away, but don't keep the client waiting
+      // for it.
+      kernelExecutor.submit(() -> dispatcherService.requestDispatch());
+      return result;
+    }
+    catch (InterruptedException | ExecutionException exc) {
+      throw findSuitableExceptionFor(exc);
+    }
+  }
+
   @Override
   public void markOrderSequenceComplete(ClientID clientId, TCSObjectReference<OrderSequence> ref) {
     userManager.verifyCredentials(clientId, UserPermission.MODIFY_ORDER);
@@ -10,6 +10,7 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -21,7 +22,12 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import org.opentcs.access.CredentialsException;
 import org.opentcs.access.rmi.ClientID;
+import org.opentcs.access.rmi.EventBufferStatistics;
+import org.opentcs.access.rmi.QueryEventBufferStatistics;
 import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.Query;
+import org.opentcs.components.kernel.QueryResponder;
+import org.opentcs.components.kernel.services.InternalQueryService;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.ApplicationHome;
 import org.opentcs.customizations.kernel.KernelExecutor;
@@ -58,6 +64,10 @@ public class UserManager
    * Provides user account data.
    */
   private final UserAccountProvider userAccountProvider;
+  /**
+   * The query service, with which statistics about the clients' event buffers are provided.
+   */
+  private final InternalQueryService queryService;
   /**
    * The directory of users allowed to connect/operate with the kernel.
    */
@@ -84,6 +94,8 @@ public class UserManager
    * @param kernelExecutor The kernel's executor.
    * @param configuration This class' configuration.
    * @param userAccountProvider Provides user account data.
+   * @param queryService The query service, with which statistics about the clients' event buffers
+   * are provided.
    */
   @Inject
   public UserManager(
@@ -94,13 +106,15 @@ public class UserManager
       @KernelExecutor
       ScheduledExecutorService kernelExecutor,
       RmiKernelInterfaceConfiguration configuration,
-      UserAccountProvider userAccountProvider
+      UserAccountProvider userAccountProvider,
+      InternalQueryService queryService
   ) {
     requireNonNull(homeDirectory, "homeDirectory");
     this.eventSource = requireNonNull(eventSource, "eventSource");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.configuration = requireNonNull(configuration, "configuration");
     this.userAccountProvider = requireNonNull(userAccountProvider, "userAccountProvider");
+    this.queryService = requireNonNull(queryService, "queryService");
   }
 
   @Override
@@ -113,6 +127,10 @@ public class UserManager
     // Register the user manager as an event listener so that the user manager can collect events
     // and pass them to known clients polling events.
     eventSource.subscribe(this);
+    queryService.registerResponder(
+        QueryEventBufferStatistics.class,
+        new EventBufferStatisticsResponder()
+    );
 
     knownUsers.clear();
     for (UserAccount curAccount : userAccountProvider.getUserAccounts()) {
@@ -149,6 +167,7 @@ public class UserManager
 
     knownUsers.clear();
 
+    queryService.unregisterResponder(QueryEventBufferStatistics.class);
     eventSource.unsubscribe(this);
 
     initialized = false;
@@ -182,6 +201,31 @@ public class UserManager
     return Collections.unmodifiableMap(knownClients);
   }
 
+  /**
+   * Returns statistics about the event buffers of all known clients.
+   *
+   * @return Statistics about the event buffers of all known clients.
+   */
+  public List<EventBufferStatistics> getEventBufferStatistics() {
+    synchronized (knownClients) {
+      List<EventBufferStatistics> result = new ArrayList<>(knownClients.size());
+      for (Map.Entry<ClientID, ClientEntry> entry : knownClients.entrySet()) {
+        EventBuffer eventBuffer = entry.getValue().getEventBuffer();
+        result.add(
+            new EventBufferStatistics(
+                entry.getKey().getClientName(),
+                entry.getValue().getUserName(),
+                eventBuffer.getBufferedEventCount(),
+                eventBuffer.getCoalescedEventCount(),
+                eventBuffer.getDroppedEventCount(),
+                eventBuffer.getForcedResyncCount()
+            )
+        );
+      }
+      return result;
+    }
+  }
+
   /**
    * Returns the {@link UserAccount} for the given user name.
    *
@@ -339,7 +383,7 @@ public class UserManager
     /**
      * The client's event buffer.
      */
-    private final EventBuffer eventBuffer = new EventBuffer(event -> false);
+    private final EventBuffer eventBuffer;
     /**
      * The client's alive flag.
      */
@@ -352,8 +396,20 @@ public class UserManager
      * @param perms The client's permissions.
      */
     public ClientEntry(String name, Set<UserPermission> perms) {
+      this(name, perms, new EventBuffer(event -> false));
+    }
+
+    /**
+     * Creates a new ClientEntry.
+     *
+     * @param name The client's name.
+     * @param perms The client's permissions.
+     * @param eventBuffer The client's event buffer.
+     */
+    public ClientEntry(String name, Set<UserPermission> perms, EventBuffer eventBuffer) {
       userName = requireNonNull(name, "name");
       permissions = requireNonNull(perms, "perms");
+      this.eventBuffer = requireNonNull(eventBuffer, "eventBuffer");
     }
 
     /**
@@ -408,6 +464,16 @@ public class UserManager
         while (clientIter.hasNext()) {
           Map.Entry<ClientID, ClientEntry> curEntry = clientIter.next();
           ClientEntry clientEntry = curEntry.getValue();
+          LOG.debug(
+              "Event buffer of client {} (client user: {}): {} buffered, {} coalesced, {} dropped, "
+                  + "{} forced resyncs",
+              curEntry.getKey().getClientName(),
+              clientEntry.getUserName(),
+              clientEntry.getEventBuffer().getBufferedEventCount(),
+              clientEntry.getEventBuffer().getCoalescedEventCount(),
+              clientEntry.getEventBuffer().getDroppedEventCount(),
+              clientEntry.getEventBuffer().getForcedResyncCount()
+          );
           // Only touch the entry if the buffer not currently in use by a
           // client.
           if (!clientEntry.getEventBuffer().hasWaitingClient()) {
@@ -431,4 +497,24 @@ public class UserManager
       }
     }
   }
+
+  /**
+   * Answers queries for statistics about the clients' event buffers.
+   */
+  private class EventBufferStatisticsResponder
+      implements
+        QueryResponder {
+
+    /**
+     * Creates a new instance.
+     */
+    private EventBufferStatisticsResponder() {
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T query(Query<T> query) {
+      return (T) getEventBufferStatistics();
+    }
+  }
 }
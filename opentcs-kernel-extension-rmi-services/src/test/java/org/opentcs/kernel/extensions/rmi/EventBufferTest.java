@@ -3,16 +3,23 @@
 package org.opentcs.kernel.extensions.rmi;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.theInstance;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.data.TCSObjectDelta;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.BoundingBox;
 import org.opentcs.data.model.Point;
@@ -69,7 +76,7 @@ class EventBufferTest {
   }
 
   @Test
-  void aggregateConsecutiveTcsObjectEventsForSameObjects() {
+  void aggregateTcsObjectEventsForSameObjects() {
     Point point = new Point("point");
     Point pointA = point.withType(Point.Type.PARK_POSITION);
     Point pointB = pointA.withProperty("some-key", "some-value");
@@ -118,25 +125,27 @@ class EventBufferTest {
     eventBuffer.onEvent(event5);
     eventBuffer.onEvent(event6);
 
+    assertThat(eventBuffer.getCoalescedEventCount(), is(4L));
+
     List<Object> result = eventBuffer.getEvents(0);
-    assertThat(result, hasSize(3));
-    assertThat(result.get(0), is(theInstance(event1)));
+    assertThat(result, hasSize(2));
 
     assertThat(
-        ((TCSObjectEvent) result.get(1)).getPreviousObjectState(),
+        ((TCSObjectEvent) result.get(0)).getPreviousObjectState(),
         is(theInstance(vehicle))
     );
     assertThat(
-        ((TCSObjectEvent) result.get(1)).getCurrentObjectState(),
+        ((TCSObjectEvent) result.get(0)).getCurrentObjectState(),
         is(theInstance(vehicleC))
     );
 
+    // The merged event for the point is moved to the position of the latest event for it.
     assertThat(
-        ((TCSObjectEvent) result.get(2)).getPreviousObjectState(),
-        is(theInstance(pointA))
+        ((TCSObjectEvent) result.get(1)).getPreviousObjectState(),
+        is(theInstance(point))
     );
     assertThat(
-        ((TCSObjectEvent) result.get(2)).getCurrentObjectState(),
+        ((TCSObjectEvent) result.get(1)).getCurrentObjectState(),
         is(theInstance(pointC))
     );
   }
@@ -172,4 +181,174 @@ class EventBufferTest {
     assertThat(result.get(1), is(equalTo(event2)));
     assertThat(result.get(2), is(equalTo(event3)));
   }
+
+  @Test
+  void dontAggregateModificationEventsAcrossRemovalOfObject() {
+    Vehicle vehicle = new Vehicle("vehicle");
+    Vehicle vehicleA = vehicle.withEnergyLevel(42);
+    Vehicle vehicleB = vehicleA.withEnergyLevel(43);
+
+    TCSObjectEvent event1 = new TCSObjectEvent(
+        vehicleA,
+        vehicle,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+    TCSObjectEvent event2 = new TCSObjectEvent(
+        null,
+        vehicleA,
+        TCSObjectEvent.Type.OBJECT_REMOVED
+    );
+    TCSObjectEvent event3 = new TCSObjectEvent(
+        vehicleB,
+        vehicleA,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+
+    eventBuffer.onEvent(event1);
+    eventBuffer.onEvent(event2);
+    eventBuffer.onEvent(event3);
+
+    List<Object> result = eventBuffer.getEvents(0);
+    assertThat(result, hasSize(3));
+    assertThat(result.get(0), is(equalTo(event1)));
+    assertThat(result.get(1), is(equalTo(event2)));
+    assertThat(result.get(2), is(equalTo(event3)));
+  }
+
+  @Test
+  void dropOldestModificationEventsWhenCapacityIsExceeded() {
+    eventBuffer = new EventBuffer(event -> true, 3, EventBuffer.OverflowPolicy.DROP_OLDEST);
+    Vehicle vehicle1 = new Vehicle("vehicle1");
+    Vehicle vehicle2 = new Vehicle("vehicle2");
+    Vehicle vehicle3 = new Vehicle("vehicle3");
+    TCSObjectEvent creationEvent = new TCSObjectEvent(
+        vehicle1,
+        null,
+        TCSObjectEvent.Type.OBJECT_CREATED
+    );
+    TCSObjectEvent event2 = energyLevelChangeEvent(vehicle2, 2);
+    TCSObjectEvent event3 = energyLevelChangeEvent(vehicle3, 3);
+    TCSObjectEvent event4 = energyLevelChangeEvent(vehicle1, 4);
+
+    eventBuffer.onEvent(creationEvent);
+    eventBuffer.onEvent(event2);
+    eventBuffer.onEvent(event3);
+    eventBuffer.onEvent(event4);
+
+    // The creation event is older, but must not be dropped.
+    assertThat(eventBuffer.getBufferedEventCount(), is(3));
+    assertThat(eventBuffer.getDroppedEventCount(), is(1L));
+    List<Object> result = eventBuffer.getEvents(0);
+    assertThat(result, hasSize(3));
+    assertThat(result.get(0), is(theInstance(creationEvent)));
+    assertThat(result.get(1), is(theInstance(event3)));
+    assertThat(result.get(2), is(theInstance(event4)));
+  }
+
+  @Test
+  void forceResyncWhenNoModificationEventCanBeDropped() {
+    eventBuffer = new EventBuffer(event -> true, 2, EventBuffer.OverflowPolicy.DROP_OLDEST);
+
+    eventBuffer.onEvent(
+        new TCSObjectEvent(new Vehicle("vehicle1"), null, TCSObjectEvent.Type.OBJECT_CREATED)
+    );
+    eventBuffer.onEvent(new Object());
+    eventBuffer.onEvent(
+        new TCSObjectEvent(null, new Vehicle("vehicle2"), TCSObjectEvent.Type.OBJECT_REMOVED)
+    );
+
+    assertThat(eventBuffer.getBufferedEventCount(), is(0));
+    assertThat(eventBuffer.getDroppedEventCount(), is(3L));
+    assertThrows(KernelRuntimeException.class, () -> eventBuffer.getEvents(0));
+
+    // After the client has been notified, events are buffered again.
+    eventBuffer.onEvent(new Object());
+    assertThat(eventBuffer.getEvents(0), hasSize(1));
+  }
+
+  @Test
+  void forceResyncWhenCapacityIsExceeded() {
+    eventBuffer = new EventBuffer(event -> true, 2, EventBuffer.OverflowPolicy.FORCE_RESYNC);
+
+    eventBuffer.onEvent(new Object());
+    eventBuffer.onEvent(new Object());
+    eventBuffer.onEvent(new Object());
+    eventBuffer.onEvent(new Object());
+
+    assertThat(eventBuffer.getBufferedEventCount(), is(0));
+    assertThat(eventBuffer.getDroppedEventCount(), is(4L));
+    assertThat(eventBuffer.getForcedResyncCount(), is(1L));
+    assertThrows(KernelRuntimeException.class, () -> eventBuffer.getEvents(0));
+
+    // After the client has been notified, events are buffered again.
+    eventBuffer.onEvent(new Object());
+    assertThat(eventBuffer.getEvents(0), hasSize(1));
+  }
+
+  @Test
+  void bufferKeyframesAndDeltasInDeltaMode() {
+    eventBuffer = new EventBuffer(event -> true, 0, EventBuffer.OverflowPolicy.DROP_OLDEST, 2);
+    Vehicle vehicle = new Vehicle("vehicle");
+
+    List<Object> result = new ArrayList<>();
+    for (int i = 1; i <= 4; i++) {
+      eventBuffer.onEvent(energyLevelChangeEvent(vehicle, i));
+      result.addAll(eventBuffer.getEvents(0));
+    }
+
+    // The first modification is a keyframe since the object's creation was not buffered.
+    assertThat(result, hasSize(4));
+    assertThat(result.get(0), is(instanceOf(TCSObjectEvent.class)));
+    assertThat(result.get(1), is(instanceOf(TCSObjectDelta.class)));
+    assertThat(result.get(2), is(instanceOf(TCSObjectDelta.class)));
+    assertThat(result.get(3), is(instanceOf(TCSObjectEvent.class)));
+    assertThat(((TCSObjectDelta) result.get(1)).getChangedAttributes().get("energyLevel"), is(2));
+  }
+
+  @Test
+  void mergeBufferedDeltasInDeltaMode() {
+    eventBuffer = new EventBuffer(event -> true, 0, EventBuffer.OverflowPolicy.DROP_OLDEST, 10);
+    Vehicle vehicle = new Vehicle("vehicle");
+    Vehicle vehicleA = vehicle.withEnergyLevel(42);
+    Vehicle vehicleB = vehicleA.withPaused(true);
+    TCSObjectEvent creationEvent = new TCSObjectEvent(
+        vehicle,
+        null,
+        TCSObjectEvent.Type.OBJECT_CREATED
+    );
+
+    eventBuffer.onEvent(creationEvent);
+    eventBuffer.onEvent(
+        new TCSObjectEvent(
+            vehicleA,
+            vehicle,
+            TCSObjectEvent.Type.OBJECT_MODIFIED,
+            new TCSObjectDelta(vehicle.getReference(), Map.of("energyLevel", 42), List.of())
+        )
+    );
+    eventBuffer.onEvent(
+        new TCSObjectEvent(
+            vehicleB,
+            vehicleA,
+            TCSObjectEvent.Type.OBJECT_MODIFIED,
+            new TCSObjectDelta(vehicle.getReference(), Map.of("paused", true), List.of())
+        )
+    );
+
+    assertThat(eventBuffer.getCoalescedEventCount(), is(1L));
+    List<Object> result = eventBuffer.getEvents(0);
+    assertThat(result, hasSize(2));
+    assertThat(result.get(0), is(theInstance(creationEvent)));
+    TCSObjectDelta delta = (TCSObjectDelta) result.get(1);
+    assertThat(delta.getChangedAttributes().keySet(), contains("energyLevel", "paused"));
+  }
+
+  private TCSObjectEvent energyLevelChangeEvent(Vehicle vehicle, int energyLevel) {
+    return new TCSObjectEvent(
+        vehicle.withEnergyLevel(energyLevel),
+        vehicle,
+        TCSObjectEvent.Type.OBJECT_MODIFIED,
+        new TCSObjectDelta(vehicle.getReference(), Map.of("energyLevel", energyLevel), List.of())
+    );
+  }
 }
@@ -14,6 +14,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 
 import java.io.File;
@@ -27,6 +29,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.access.CredentialsException;
 import org.opentcs.access.rmi.ClientID;
+import org.opentcs.access.rmi.EventBufferStatistics;
+import org.opentcs.access.rmi.QueryEventBufferStatistics;
+import org.opentcs.components.kernel.services.InternalQueryService;
 import org.opentcs.util.event.EventSource;
 
 /**
@@ -39,6 +44,7 @@ class UserManagerTest {
   private ScheduledExecutorService kernelExecutor;
   private RmiKernelInterfaceConfiguration configuration;
   private UserAccountProvider userAccountProvider;
+  private InternalQueryService queryService;
   private UserAccount account1;
   private UserManager.ClientEntry client1;
   private ClientID id1;
@@ -51,6 +57,7 @@ class UserManagerTest {
     kernelExecutor = Executors.newSingleThreadScheduledExecutor();
     configuration = mock();
     userAccountProvider = mock();
+    queryService = mock();
 
     Set<UserPermission> permissions = EnumSet.of(UserPermission.READ_DATA);
 
@@ -71,7 +78,8 @@ class UserManagerTest {
         eventSource,
         kernelExecutor,
         configuration,
-        userAccountProvider
+        userAccountProvider,
+        queryService
     );
     manager.initialize();
   }
@@ -92,6 +100,27 @@ class UserManagerTest {
 
     assertThat(manager.isInitialized(), is(false));
     then(eventSource).should().unsubscribe(manager);
+    then(queryService).should().unregisterResponder(QueryEventBufferStatistics.class);
+  }
+
+  @Test
+  void registerResponderForEventBufferStatistics() {
+    then(queryService).should().registerResponder(eq(QueryEventBufferStatistics.class), any());
+  }
+
+  @Test
+  void provideEventBufferStatisticsOfKnownClients() {
+    manager.registerClient(id1, client1);
+    client1.getEventBuffer().setEventFilter(event -> true);
+    manager.onEvent(new Object());
+
+    List<EventBufferStatistics> statistics = manager.getEventBufferStatistics();
+
+    assertThat(statistics, hasSize(1));
+    assertThat(statistics.get(0).getClientName(), is("auto"));
+    assertThat(statistics.get(0).getUserName(), is("auto"));
+    assertThat(statistics.get(0).getBufferedEventCount(), is(1));
+    assertThat(statistics.get(0).getDroppedEventCount(), is(0L));
   }
 
   @Test
@@ -274,6 +274,8 @@ public class DefaultKernelInjectionModule
     stateMapBinder.addBinding(Kernel.State.MODELLING).to(KernelStateModelling.class);
     stateMapBinder.addBinding(Kernel.State.OPERATING).to(KernelStateOperating.class);
 
+    bind(DispatchRequestCoalescer.class).in(Singleton.class);
+
     bind(OrderPoolConfiguration.class)
         .toInstance(
             getConfigBindingProvider().get(
@@ -0,0 +1,125 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.DefaultRouter;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time required for computing up to {@code routeCount} alternative routes between
+ * two points of a grid plant with the different routing algorithms.
+ * <p>
+ * With a {@code routeCount} of 1, only the cheapest route is computed, which serves as the
+ * baseline for the costs of computing the alternatives via Yen's algorithm.
+ * </p>
+ * <p>
+ * Run with e.g. {@code ./gradlew :opentcs-kernel:jmh -PjmhIncludes=AlternativeRoutesBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AlternativeRoutesBenchmark {
+
+  /**
+   * The number of point pairs to compute routes between, in turn.
+   */
+  private static final int POINT_PAIR_COUNT = 64;
+  /**
+   * The number of points per row/column of the grid plant.
+   */
+  @Param({"30", "100"})
+  private int gridSize;
+  /**
+   * The routing algorithm.
+   */
+  @Param({"COMPACT_DIJKSTRA", "DIJKSTRA", "BELLMAN_FORD"})
+  private ShortestPathConfiguration.Algorithm algorithm;
+  /**
+   * The maximum number of routes to compute per request (which is also used as the router's route
+   * computation limit).
+   */
+  @Param({"1", "3", "5"})
+  private int routeCount;
+
+  private DefaultRouter router;
+  private Vehicle vehicle;
+  private Point[][] pointPairs;
+  private int nextPairIndex;
+
+  /**
+   * Creates a new instance.
+   */
+  public AlternativeRoutesBenchmark() {
+  }
+
+  /**
+   * Creates the plant model and the router and selects the point pairs to compute routes between.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    BenchmarkKernel kernel = new BenchmarkKernel(GridPlant.create(gridSize, 1, 1));
+    router = kernel.createRouter(algorithm, routeCount);
+    router.initialize();
+    vehicle = kernel.getObjectService().fetch(Vehicle.class).iterator().next();
+
+    // Use the same point pairs for all algorithms and route counts.
+    List<Point> points = kernel.getObjectService().fetch(Point.class).stream()
+        .sorted((point1, point2) -> point1.getName().compareTo(point2.getName()))
+        .toList();
+    Random random = new Random(gridSize);
+    pointPairs = new Point[POINT_PAIR_COUNT][];
+    for (int i = 0; i < POINT_PAIR_COUNT; i++) {
+      pointPairs[i] = new Point[]{
+          points.get(random.nextInt(points.size())),
+          points.get(random.nextInt(points.size()))
+      };
+    }
+
+    // Construct the point router, so it is not part of the measurement.
+    router.getRoutes(vehicle, pointPairs[0][0], pointPairs[0][1], Set.of(), 1);
+  }
+
+  /**
+   * Terminates the router.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    router.terminate();
+  }
+
+  /**
+   * Computes up to {@code routeCount} routes between the next pair of points.
+   *
+   * @return The computed routes.
+   */
+  @Benchmark
+  public Set<Route> computeRoutes() {
+    Point[] pointPair = pointPairs[nextPairIndex];
+    nextPairIndex = (nextPairIndex + 1) % POINT_PAIR_COUNT;
+    return router.getRoutes(vehicle, pointPair[0], pointPair[1], Set.of(), routeCount);
+  }
+}
@@ -0,0 +1,352 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmarks;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.components.kernel.routing.EdgeEvaluator;
+import org.opentcs.kernel.services.StandardTCSObjectService;
+import org.opentcs.kernel.workingset.PlantModelManager;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.strategies.basic.routing.DefaultRouter;
+import org.opentcs.strategies.basic.routing.DefaultRouterConfiguration;
+import org.opentcs.strategies.basic.routing.DefaultRoutingGroupMapper;
+import org.opentcs.strategies.basic.routing.PointRouterFactory;
+import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor;
+import org.opentcs.strategies.basic.routing.edgeevaluator.CongestionConfiguration;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorComposite;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorCongestion;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorDistance;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorHops;
+import org.opentcs.strategies.basic.routing.jgrapht.BellmanFordPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.CompactPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.DefaultModelGraphMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.DijkstraPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.FloydWarshallPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.GeneralModelGraphMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphMutator;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.MapperComponentsFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.PathEdgeMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.PointRouterProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.PointVertexMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+
+/**
+ * Provides the kernel components used by benchmarks, working on an in-memory plant model.
+ * <p>
+ * The components are wired the same way the kernel's injection modules wire them, using the
+ * default configuration values unless stated otherwise.
+ * </p>
+ */
+public class BenchmarkKernel {
+
+  /**
+   * The kernel's global synchronization object.
+   */
+  private final Object globalSyncObject = new Object();
+  /**
+   * The object repository.
+   */
+  private final TCSObjectRepository objectRepo = new TCSObjectRepository();
+  /**
+   * The plant model manager.
+   */
+  private final PlantModelManager plantModelManager;
+  /**
+   * The object service.
+   */
+  private final StandardTCSObjectService objectService;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param plantModel The plant model to work on.
+   */
+  public BenchmarkKernel(PlantModelCreationTO plantModel) {
+    requireNonNull(plantModel, "plantModel");
+
+    plantModelManager = new PlantModelManager(objectRepo, event -> {
+    });
+    plantModelManager.createPlantModelObjects(plantModel);
+    objectService = new StandardTCSObjectService(globalSyncObject, plantModelManager);
+  }
+
+  /**
+   * Returns the kernel's global synchronization object.
+   *
+   * @return The kernel's global synchronization object.
+   */
+  public Object getGlobalSyncObject() {
+    return globalSyncObject;
+  }
+
+  /**
+   * Returns the object repository.
+   *
+   * @return The object repository.
+   */
+  public TCSObjectRepository getObjectRepository() {
+    return objectRepo;
+  }
+
+  /**
+   * Returns the plant model manager.
+   *
+   * @return The plant model manager.
+   */
+  public PlantModelManager getPlantModelManager() {
+    return plantModelManager;
+  }
+
+  /**
+   * Returns the object service.
+   *
+   * @return The object service.
+   */
+  public StandardTCSObjectService getObjectService() {
+    return objectService;
+  }
+
+  /**
+   * Creates a (not yet initialized) default router using the distance edge evaluator.
+   *
+   * @param algorithm The routing algorithm.
+   * @param routeComputationLimit The maximum number of routes to compute for a single request.
+   * @return The router.
+   */
+  public DefaultRouter createRouter(
+      ShortestPathConfiguration.Algorithm algorithm,
+      int routeComputationLimit
+  ) {
+    ShortestPathConfiguration shortestPathConfiguration = shortestPathConfiguration(
+        algorithm,
+        List.of(EdgeEvaluatorDistance.CONFIGURATION_KEY)
+    );
+    CongestionConfiguration congestionConfiguration = congestionConfiguration(5000L);
+    return createRouter(
+        shortestPathConfiguration,
+        routeComputationLimit,
+        createCongestionEvaluator(shortestPathConfiguration, congestionConfiguration),
+        congestionConfiguration
+    );
+  }
+
+  /**
+   * Creates a (not yet initialized) default router.
+   *
+   * @param shortestPathConfiguration The shortest path configuration. Only the distance and the
+   * congestion edge evaluators are supported.
+   * @param routeComputationLimit The maximum number of routes to compute for a single request.
+   * @param congestionEvaluator The congestion evaluator.
+   * @param congestionConfiguration The congestion evaluator's configuration.
+   * @return The router.
+   */
+  public DefaultRouter createRouter(
+      ShortestPathConfiguration shortestPathConfiguration,
+      int routeComputationLimit,
+      EdgeEvaluatorCongestion congestionEvaluator,
+      CongestionConfiguration congestionConfiguration
+  ) {
+    requireNonNull(shortestPathConfiguration, "shortestPathConfiguration");
+    requireNonNull(congestionEvaluator, "congestionEvaluator");
+    requireNonNull(congestionConfiguration, "congestionConfiguration");
+
+    DefaultRouterConfiguration routerConfiguration = configuration(
+        DefaultRouterConfiguration.class,
+        Map.of(
+            "routeComputationLimit", routeComputationLimit,
+            "routeToCurrentPosition", false,
+            "avoidancePointRouterCacheSize", 100,
+            // Point routers are constructed on demand, so benchmarks control when this happens.
+            "warmUpThreadCount", 0,
+            "shortestPathTreeCacheSize", 1000
+        )
+    );
+
+    DefaultRoutingGroupMapper routingGroupMapper = new DefaultRoutingGroupMapper();
+    GraphProvider graphProvider = createGraphProvider(
+        shortestPathConfiguration,
+        congestionEvaluator
+    );
+
+    return new DefaultRouter(
+        objectService,
+        new PointRouterProvider(
+            objectService,
+            new ResourceAvoidanceExtractor(objectService),
+            routingGroupMapper,
+            createPointRouterFactory(
+                shortestPathConfiguration.algorithm(),
+                graphProvider,
+                routerConfiguration
+            ),
+            graphProvider,
+            routerConfiguration
+        ),
+        routingGroupMapper,
+        routerConfiguration,
+        congestionEvaluator,
+        congestionConfiguration,
+        shortestPathConfiguration,
+        globalSyncObject
+    );
+  }
+
+  /**
+   * Creates a congestion evaluator working on this kernel's vehicles.
+   *
+   * @param shortestPathConfiguration The shortest path configuration.
+   * @param congestionConfiguration The congestion evaluator's configuration.
+   * @return The congestion evaluator.
+   */
+  public EdgeEvaluatorCongestion createCongestionEvaluator(
+      ShortestPathConfiguration shortestPathConfiguration,
+      CongestionConfiguration congestionConfiguration
+  ) {
+    return new EdgeEvaluatorCongestion(
+        objectService,
+        shortestPathConfiguration,
+        congestionConfiguration
+    );
+  }
+
+  /**
+   * Creates a graph provider using the distance edge evaluator, as used by the routers created via
+   * {@link #createRouter(ShortestPathConfiguration.Algorithm, int)}.
+   *
+   * @param algorithm The routing algorithm.
+   * @return The graph provider.
+   */
+  public GraphProvider createGraphProvider(ShortestPathConfiguration.Algorithm algorithm) {
+    ShortestPathConfiguration shortestPathConfiguration = shortestPathConfiguration(
+        algorithm,
+        List.of(EdgeEvaluatorDistance.CONFIGURATION_KEY)
+    );
+    return createGraphProvider(
+        shortestPathConfiguration,
+        createCongestionEvaluator(shortestPathConfiguration, congestionConfiguration(5000L))
+    );
+  }
+
+  /**
+   * Creates a shortest path configuration.
+   *
+   * @param algorithm The routing algorithm.
+   * @param edgeEvaluators The keys of the edge evaluators to use.
+   * @return The shortest path configuration.
+   */
+  public static ShortestPathConfiguration shortestPathConfiguration(
+      ShortestPathConfiguration.Algorithm algorithm,
+      List<String> edgeEvaluators
+  ) {
+    return configuration(
+        ShortestPathConfiguration.class,
+        Map.of(
+            "algorithm", algorithm,
+            "edgeEvaluators", edgeEvaluators
+        )
+    );
+  }
+
+  /**
+   * Creates a congestion configuration with the default penalties.
+   *
+   * @param refreshInterval The interval (in ms) in which the router refreshes the penalties.
+   * @return The congestion configuration.
+   */
+  public static CongestionConfiguration congestionConfiguration(long refreshInterval) {
+    return configuration(
+        CongestionConfiguration.class,
+        Map.of(
+            "refreshInterval", refreshInterval,
+            "allocationPenalty", 5000,
+            "claimPenalty", 1000,
+            "traversalPenalty", 1000,
+            "traversalRateDecay", 0.8
+        )
+    );
+  }
+
+  /**
+   * Creates a configuration instance returning the given values.
+   *
+   * @param <T> The configuration type.
+   * @param type The configuration interface.
+   * @param values The values to be returned, mapped by the names of the configuration methods.
+   * @return The configuration instance.
+   */
+  public static <T> T configuration(Class<T> type, Map<String, Object> values) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[]{type},
+            (proxy, method, args) -> {
+              if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(values, args);
+              }
+              Object value = values.get(method.getName());
+              if (value == null) {
+                throw new IllegalArgumentException(
+                    "No value for configuration entry: " + method.getName()
+                );
+              }
+              return value;
+            }
+        )
+    );
+  }
+
+  private GraphProvider createGraphProvider(
+      ShortestPathConfiguration shortestPathConfiguration,
+      EdgeEvaluatorCongestion congestionEvaluator
+  ) {
+    MapperComponentsFactory mapperComponentsFactory = new MapperComponentsFactory() {
+      @Override
+      public PointVertexMapper createPointVertexMapper() {
+        return new PointVertexMapper();
+      }
+
+      @Override
+      public PathEdgeMapper createPathEdgeMapper(
+          EdgeEvaluator edgeEvaluator,
+          boolean excludeLockedPaths
+      ) {
+        return new PathEdgeMapper(edgeEvaluator, excludeLockedPaths, shortestPathConfiguration);
+      }
+    };
+    return new GraphProvider(
+        objectService,
+        new GeneralModelGraphMapper(new EdgeEvaluatorHops(), mapperComponentsFactory),
+        new DefaultModelGraphMapper(
+            new EdgeEvaluatorComposite(
+                shortestPathConfiguration,
+                Map.of(
+                    EdgeEvaluatorDistance.CONFIGURATION_KEY, new EdgeEvaluatorDistance(),
+                    EdgeEvaluatorCongestion.CONFIGURATION_KEY, congestionEvaluator
+                )
+            ),
+            mapperComponentsFactory
+        ),
+        new DefaultRoutingGroupMapper(),
+        new GraphMutator()
+    );
+  }
+
+  private PointRouterFactory createPointRouterFactory(
+      ShortestPathConfiguration.Algorithm algorithm,
+      GraphProvider graphProvider,
+      DefaultRouterConfiguration routerConfiguration
+  ) {
+    return switch (algorithm) {
+      case DIJKSTRA -> new DijkstraPointRouterFactory(graphProvider);
+      case BELLMAN_FORD -> new BellmanFordPointRouterFactory(graphProvider);
+      case FLOYD_WARSHALL -> new FloydWarshallPointRouterFactory(graphProvider);
+      case COMPACT_DIJKSTRA -> new CompactPointRouterFactory(graphProvider, routerConfiguration);
+    };
+  }
+}
@@ -0,0 +1,135 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmarks;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.DefaultRouter;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of route queries (as issued via the web API or RMI) running concurrently
+ * with updates of the routing topology (as issued when paths are locked or unlocked).
+ * <p>
+ * With {@code queriesHoldGlobalLock}, every query holds the kernel's global lock (like route
+ * queries did before the router served them concurrently), which shows the effect of serializing
+ * the queries with each other and with the updates.
+ * </p>
+ * <p>
+ * Run with e.g. {@code ./gradlew :opentcs-kernel:jmh -PjmhIncludes=ConcurrentRouteQueryBenchmark}.
+ * </p>
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ConcurrentRouteQueryBenchmark {
+
+  /**
+   * The number of points per row/column of the grid plant.
+   */
+  @Param({"50", "100"})
+  private int gridSize;
+  /**
+   * The routing algorithm.
+   */
+  @Param({"COMPACT_DIJKSTRA", "DIJKSTRA"})
+  private ShortestPathConfiguration.Algorithm algorithm;
+  /**
+   * Whether route queries are performed while holding the kernel's global lock.
+   */
+  @Param({"false", "true"})
+  private boolean queriesHoldGlobalLock;
+
+  private BenchmarkKernel kernel;
+  private DefaultRouter router;
+  private Vehicle vehicle;
+  private List<Point> points;
+  private List<Path> paths;
+
+  /**
+   * Creates a new instance.
+   */
+  public ConcurrentRouteQueryBenchmark() {
+  }
+
+  /**
+   * Creates the plant model and the router.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    kernel = new BenchmarkKernel(GridPlant.create(gridSize, 4, 1));
+    router = kernel.createRouter(algorithm, 1);
+    router.initialize();
+    vehicle = kernel.getObjectService().fetch(Vehicle.class).iterator().next();
+    points = List.copyOf(kernel.getObjectService().fetch(Point.class));
+    paths = List.copyOf(kernel.getObjectService().fetch(Path.class));
+  }
+
+  /**
+   * Terminates the router.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    router.terminate();
+  }
+
+  /**
+   * Computes the route between two random points.
+   *
+   * @return The computed route.
+   */
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(3)
+  public Set<Route> queryRoutes() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    Point sourcePoint = points.get(random.nextInt(points.size()));
+    Point destinationPoint = points.get(random.nextInt(points.size()));
+
+    if (queriesHoldGlobalLock) {
+      synchronized (kernel.getGlobalSyncObject()) {
+        return router.getRoutes(vehicle, sourcePoint, destinationPoint, Set.of(), 1);
+      }
+    }
+    return router.getRoutes(vehicle, sourcePoint, destinationPoint, Set.of(), 1);
+  }
+
+  /**
+   * Updates the routing topology with respect to a random path.
+   */
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(1)
+  public void updateRoutingTopology() {
+    Path path = paths.get(ThreadLocalRandom.current().nextInt(paths.size()));
+
+    // Like the router service, hold the global lock while updating the routing topology.
+    synchronized (kernel.getGlobalSyncObject()) {
+      router.updateRoutingTopology(Set.of(path));
+    }
+  }
+}
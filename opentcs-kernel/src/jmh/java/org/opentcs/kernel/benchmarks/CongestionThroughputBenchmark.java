@@ -0,0 +1,357 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResourceReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.strategies.basic.routing.DefaultRouter;
+import org.opentcs.strategies.basic.routing.edgeevaluator.CongestionConfiguration;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorCongestion;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Simulates one hour of operation of a fleet of vehicles on a grid plant, with and without the
+ * congestion edge evaluator, and reports the number of transport orders completed in that hour.
+ * <p>
+ * The simulation is a simplified, deterministic stand-in for loopback vehicles: Time advances in
+ * steps of one second, and a vehicle travels one path per step. Every order is a drive to a
+ * random destination point. A vehicle may only move to a point not occupied by another vehicle.
+ * A vehicle blocked for {@value #REROUTE_AFTER_STEPS} steps is rerouted around the blocking point,
+ * and an order blocked for {@value #ABANDON_AFTER_STEPS} steps is abandoned. Like the scheduler, a
+ * vehicle allocates the path it travelled and the point it occupies and claims the resources of
+ * its next {@value #CLAIMED_STEP_COUNT} steps. The congestion penalties are refreshed every
+ * {@value #REFRESH_INTERVAL_STEPS} steps, which corresponds to the default refresh interval.
+ * </p>
+ * <p>
+ * The relevant results are the auxiliary counters (completed and abandoned orders per simulated
+ * hour and the number of steps vehicles were blocked), not the time the simulation takes.
+ * Since the simulation is deterministic, a single iteration suffices.
+ * </p>
+ * <p>
+ * Run with e.g. {@code ./gradlew :opentcs-kernel:jmh -PjmhIncludes=CongestionThroughputBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(1)
+public class CongestionThroughputBenchmark {
+
+  /**
+   * The number of points per row/column of the grid plant.
+   */
+  private static final int GRID_SIZE = 20;
+  /**
+   * The number of simulated steps (seconds).
+   */
+  private static final int SIMULATED_STEPS = 3600;
+  /**
+   * The number of steps after which the congestion penalties are refreshed.
+   */
+  private static final int REFRESH_INTERVAL_STEPS = 5;
+  /**
+   * The number of steps a vehicle claims ahead of its current position.
+   */
+  private static final int CLAIMED_STEP_COUNT = 3;
+  /**
+   * The number of steps a vehicle waits before it is rerouted around a blocking point.
+   */
+  private static final int REROUTE_AFTER_STEPS = 3;
+  /**
+   * The number of steps after which a blocked order is abandoned.
+   */
+  private static final int ABANDON_AFTER_STEPS = 30;
+  /**
+   * The number of vehicles.
+   */
+  @Param({"10", "25"})
+  private int vehicleCount;
+  /**
+   * The keys of the edge evaluators to use, separated by commas.
+   */
+  @Param({"DISTANCE", "DISTANCE,CONGESTION"})
+  private String edgeEvaluators;
+
+  private TCSObjectRepository objectRepo;
+  private DefaultRouter router;
+  private EdgeEvaluatorCongestion congestionEvaluator;
+  private List<Point> points;
+  private List<SimulatedVehicle> vehicles;
+  private Map<Point, SimulatedVehicle> vehiclesByPosition;
+  private Random random;
+
+  /**
+   * Creates a new instance.
+   */
+  public CongestionThroughputBenchmark() {
+  }
+
+  /**
+   * Creates the plant model and the router and places the vehicles at random points.
+   */
+  @Setup(Level.Iteration)
+  public void setUp() {
+    BenchmarkKernel kernel = new BenchmarkKernel(GridPlant.create(GRID_SIZE, vehicleCount, 1));
+    objectRepo = kernel.getObjectRepository();
+    ShortestPathConfiguration shortestPathConfiguration = BenchmarkKernel.shortestPathConfiguration(
+        ShortestPathConfiguration.Algorithm.COMPACT_DIJKSTRA,
+        Arrays.asList(edgeEvaluators.split(","))
+    );
+    // The simulation refreshes the penalties itself, so the router's periodic refresh never runs.
+    CongestionConfiguration congestionConfiguration
+        = BenchmarkKernel.congestionConfiguration(TimeUnit.DAYS.toMillis(1));
+    congestionEvaluator = kernel.createCongestionEvaluator(
+        shortestPathConfiguration,
+        congestionConfiguration
+    );
+    router = kernel.createRouter(
+        shortestPathConfiguration,
+        1,
+        congestionEvaluator,
+        congestionConfiguration
+    );
+    router.initialize();
+
+    random = new Random(vehicleCount);
+    points = new ArrayList<>(kernel.getObjectService().fetch(Point.class));
+    points.sort(Comparator.comparing(Point::getName));
+    List<Point> startPoints = new ArrayList<>(points);
+    Collections.shuffle(startPoints, random);
+
+    vehicles = new ArrayList<>(vehicleCount);
+    vehiclesByPosition = new HashMap<>();
+    List<Vehicle> vehicleObjects = kernel.getObjectService().fetch(Vehicle.class).stream()
+        .sorted(Comparator.comparing(Vehicle::getName))
+        .toList();
+    for (int i = 0; i < vehicleObjects.size(); i++) {
+      SimulatedVehicle vehicle = new SimulatedVehicle(vehicleObjects.get(i), startPoints.get(i));
+      vehicles.add(vehicle);
+      vehiclesByPosition.put(vehicle.position, vehicle);
+      publishResources(vehicle, null);
+    }
+  }
+
+  /**
+   * Terminates the router.
+   */
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    router.terminate();
+  }
+
+  /**
+   * Simulates one hour of operation.
+   *
+   * @param results The counters for the simulation's results.
+   * @return The number of completed orders.
+   */
+  @Benchmark
+  public long simulateOneHour(SimulationResults results) {
+    for (int step = 1; step <= SIMULATED_STEPS; step++) {
+      for (SimulatedVehicle vehicle : vehicles) {
+        advance(vehicle, results);
+      }
+      if (step % REFRESH_INTERVAL_STEPS == 0 && congestionEvaluator.isEnabled()) {
+        refreshCongestionPenalties();
+      }
+    }
+    return results.completedOrders;
+  }
+
+  private void advance(SimulatedVehicle vehicle, SimulationResults results) {
+    if (vehicle.steps.isEmpty()) {
+      assignNewOrder(vehicle);
+      if (vehicle.steps.isEmpty()) {
+        return;
+      }
+    }
+
+    Route.Step nextStep = vehicle.steps.peekFirst();
+    SimulatedVehicle blockingVehicle = vehiclesByPosition.get(nextStep.getDestinationPoint());
+    if (blockingVehicle != null) {
+      results.blockedSteps++;
+      vehicle.blockedSteps++;
+      if (vehicle.blockedSteps >= ABANDON_AFTER_STEPS) {
+        results.abandonedOrders++;
+        vehicle.steps.clear();
+        vehicle.blockedSteps = 0;
+        publishResources(vehicle, null);
+      }
+      else if (vehicle.blockedSteps % REROUTE_AFTER_STEPS == 0) {
+        reroute(vehicle, blockingVehicle.position);
+      }
+      return;
+    }
+
+    vehicle.steps.removeFirst();
+    vehiclesByPosition.remove(vehicle.position);
+    vehicle.position = nextStep.getDestinationPoint();
+    vehiclesByPosition.put(vehicle.position, vehicle);
+    vehicle.blockedSteps = 0;
+    publishResources(vehicle, nextStep);
+
+    if (vehicle.steps.isEmpty()) {
+      results.completedOrders++;
+    }
+  }
+
+  private void assignNewOrder(SimulatedVehicle vehicle) {
+    Point destination;
+    do {
+      destination = points.get(random.nextInt(points.size()));
+    }
+    while (destination.equals(vehicle.position));
+    vehicle.destination = destination;
+    computeRoute(vehicle, Set.of());
+  }
+
+  private void reroute(SimulatedVehicle vehicle, Point blockingPoint) {
+    if (blockingPoint.equals(vehicle.destination)) {
+      // There is no way around the destination itself.
+      return;
+    }
+    computeRoute(vehicle, Set.of(blockingPoint));
+  }
+
+  private void computeRoute(SimulatedVehicle vehicle, Set<Point> pointsToAvoid) {
+    Vehicle vehicleObject = objectRepo.getObject(Vehicle.class, vehicle.name);
+    router.getRoutes(
+        vehicleObject,
+        vehicle.position,
+        vehicle.destination,
+        pointsToAvoid.stream()
+            .map(Point::getReference)
+            .collect(Collectors.toSet()),
+        1
+    ).stream()
+        .findFirst()
+        .ifPresent(route -> {
+          vehicle.steps.clear();
+          vehicle.steps.addAll(route.getSteps());
+        });
+    publishResources(vehicle, null);
+  }
+
+  /**
+   * Updates the vehicle object's allocated and claimed resources like the scheduler would.
+   *
+   * @param vehicle The vehicle.
+   * @param lastStep The step the vehicle travelled last, or {@code null}, if the vehicle did not
+   * move.
+   */
+  private void publishResources(SimulatedVehicle vehicle, Route.Step lastStep) {
+    Vehicle vehicleObject = objectRepo.getObject(Vehicle.class, vehicle.name);
+    List<Set<TCSResourceReference<?>>> allocated = List.of(
+        lastStep == null
+            ? Set.of(vehicle.position.getReference())
+            : Set.of(lastStep.getPath().getReference(), vehicle.position.getReference())
+    );
+    List<Set<TCSResourceReference<?>>> claimed = vehicle.steps.stream()
+        .limit(CLAIMED_STEP_COUNT)
+        .map(
+            step -> Set.<TCSResourceReference<?>>of(
+                step.getPath().getReference(),
+                step.getDestinationPoint().getReference()
+            )
+        )
+        .toList();
+    objectRepo.replaceObject(
+        vehicleObject.withAllocatedResources(allocated).withClaimedResources(claimed)
+    );
+  }
+
+  private void refreshCongestionPenalties() {
+    // Like the router's periodic refresh, but in simulated time.
+    Set<Path> changedPaths = congestionEvaluator.refresh();
+    if (!changedPaths.isEmpty()) {
+      router.updateRoutingTopology(changedPaths);
+    }
+  }
+
+  /**
+   * The state of a simulated vehicle.
+   */
+  private static class SimulatedVehicle {
+
+    private final String name;
+    private final Deque<Route.Step> steps = new ArrayDeque<>();
+    private Point position;
+    private Point destination;
+    private int blockedSteps;
+
+    SimulatedVehicle(Vehicle vehicle, Point position) {
+      this.name = vehicle.getName();
+      this.position = position;
+    }
+  }
+
+  /**
+   * The results of a simulated hour.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class SimulationResults {
+
+    /**
+     * The number of completed orders.
+     */
+    public long completedOrders;
+    /**
+     * The number of orders abandoned after being blocked for too long.
+     */
+    public long abandonedOrders;
+    /**
+     * The number of steps vehicles were blocked by other vehicles, summed up over all vehicles.
+     */
+    public long blockedSteps;
+
+    /**
+     * Creates a new instance.
+     */
+    public SimulationResults() {
+    }
+
+    /**
+     * Resets the counters before every iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+      completedOrders = 0;
+      abandonedOrders = 0;
+      blockedSteps = 0;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.opentcs.access.to.model.PathCreationTO;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.PoseCreationTO;
+import org.opentcs.access.to.model.TripleCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.components.kernel.Router;
+
+/**
+ * Generates plant models with points arranged in a square grid.
+ * <p>
+ * Neighbouring points are connected by paths that may be travelled in both directions. The paths'
+ * lengths vary (reproducibly) so that there are rarely multiple routes with the same costs between
+ * two points.
+ * </p>
+ */
+public final class GridPlant {
+
+  /**
+   * The distance between neighbouring points (in mm).
+   */
+  public static final int POINT_DISTANCE = 1000;
+
+  /**
+   * Prevents instantiation.
+   */
+  private GridPlant() {
+  }
+
+  /**
+   * Creates a plant model with the given number of points per row/column.
+   *
+   * @param size The number of points per row/column.
+   * @param vehicleCount The number of vehicles.
+   * @param routingGroupCount The number of routing groups the vehicles are evenly distributed to.
+   * @return The plant model.
+   */
+  public static PlantModelCreationTO create(int size, int vehicleCount, int routingGroupCount) {
+    Random random = new Random(size);
+    List<PointCreationTO> points = new ArrayList<>(size * size);
+    List<PathCreationTO> paths = new ArrayList<>(2 * size * size);
+    for (int y = 0; y < size; y++) {
+      for (int x = 0; x < size; x++) {
+        points.add(
+            new PointCreationTO(pointName(x, y))
+                .withPose(
+                    new PoseCreationTO(
+                        new TripleCreationTO(x * POINT_DISTANCE, y * POINT_DISTANCE, 0),
+                        Double.NaN
+                    )
+                )
+        );
+        if (x + 1 < size) {
+          paths.add(createPath(pointName(x, y), pointName(x + 1, y), random));
+        }
+        if (y + 1 < size) {
+          paths.add(createPath(pointName(x, y), pointName(x, y + 1), random));
+        }
+      }
+    }
+
+    List<VehicleCreationTO> vehicles = new ArrayList<>(vehicleCount);
+    for (int i = 0; i < vehicleCount; i++) {
+      vehicles.add(
+          new VehicleCreationTO("Vehicle-" + i)
+              .withProperty(Router.PROPKEY_ROUTING_GROUP, String.valueOf(i % routingGroupCount))
+      );
+    }
+
+    return new PlantModelCreationTO("Grid-" + size + "x" + size)
+        .withPoints(points)
+        .withPaths(paths)
+        .withVehicles(vehicles);
+  }
+
+  /**
+   * Returns the name of the point at the given grid coordinates.
+   *
+   * @param x The point's column.
+   * @param y The point's row.
+   * @return The name of the point.
+   */
+  public static String pointName(int x, int y) {
+    return "Point-" + x + "-" + y;
+  }
+
+  private static PathCreationTO createPath(String srcPointName, String destPointName, Random rnd) {
+    return new PathCreationTO(srcPointName + " --- " + destPointName, srcPointName, destPointName)
+        .withLength(POINT_DISTANCE + rnd.nextInt(POINT_DISTANCE / 2))
+        .withMaxVelocity(1000)
+        .withMaxReverseVelocity(1000);
+  }
+}
@@ -0,0 +1,149 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.DefaultRouter;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time required for finding the nearest of a set of target points (e.g. parking or
+ * recharge positions) from a vehicle's position on a grid plant with 5,041 points, either with a
+ * single call to {@code Router.getCosts()} or with one route computation per target point (which
+ * is what the parking and recharge position suppliers do with a custom route selector).
+ * <p>
+ * The source points cycle through all points of the plant in random order, so shortest path trees
+ * cached by the router for a source point are rarely reused.
+ * </p>
+ * <p>
+ * Run with e.g. {@code ./gradlew :opentcs-kernel:jmh -PjmhIncludes=NearestTargetBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class NearestTargetBenchmark {
+
+  /**
+   * The number of points per row/column of the grid plant.
+   */
+  private static final int GRID_SIZE = 71;
+  /**
+   * The number of target points.
+   */
+  @Param({"10", "50"})
+  private int targetCount;
+  /**
+   * The routing algorithm.
+   */
+  @Param({"COMPACT_DIJKSTRA", "DIJKSTRA"})
+  private ShortestPathConfiguration.Algorithm algorithm;
+
+  private DefaultRouter router;
+  private Vehicle vehicle;
+  private List<Point> sourcePoints;
+  private Set<Point> targetPoints;
+  private int nextSourceIndex;
+
+  /**
+   * Creates a new instance.
+   */
+  public NearestTargetBenchmark() {
+  }
+
+  /**
+   * Creates the plant model and the router and selects the source and target points.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    BenchmarkKernel kernel = new BenchmarkKernel(GridPlant.create(GRID_SIZE, 1, 1));
+    router = kernel.createRouter(algorithm, 1);
+    router.initialize();
+    vehicle = kernel.getObjectService().fetch(Vehicle.class).iterator().next();
+
+    // Use the same source and target points for all algorithms and target counts.
+    List<Point> points = new ArrayList<>(kernel.getObjectService().fetch(Point.class));
+    points.sort(Comparator.comparing(Point::getName));
+    Collections.shuffle(points, new Random(GRID_SIZE));
+    sourcePoints = points;
+    targetPoints = new HashSet<>(points.subList(0, targetCount));
+
+    // Construct the point router, so it is not part of the measurement.
+    router.getRoutes(vehicle, points.get(0), points.get(1), Set.of(), 1);
+  }
+
+  /**
+   * Terminates the router.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    router.terminate();
+  }
+
+  /**
+   * Finds the nearest target point with a single cost computation for all target points.
+   *
+   * @return The nearest target point.
+   */
+  @Benchmark
+  public Point costsAtOnce() {
+    return router.getCosts(vehicle, nextSourcePoint(), targetPoints, Set.of()).entrySet().stream()
+        .min(Map.Entry.comparingByValue())
+        .map(Map.Entry::getKey)
+        .orElse(null);
+  }
+
+  /**
+   * Finds the nearest target point with one route computation per target point.
+   *
+   * @return The nearest target point.
+   */
+  @Benchmark
+  public Point routePerTarget() {
+    Point sourcePoint = nextSourcePoint();
+    Point nearestPoint = null;
+    long nearestCosts = Long.MAX_VALUE;
+    for (Point targetPoint : targetPoints) {
+      for (Route route : router.getRoutes(vehicle, sourcePoint, targetPoint, Set.of(), 1)) {
+        if (route.getCosts() < nearestCosts) {
+          nearestPoint = targetPoint;
+          nearestCosts = route.getCosts();
+        }
+      }
+    }
+    return nearestPoint;
+  }
+
+  private Point nextSourcePoint() {
+    Point sourcePoint = sourcePoints.get(nextSourceIndex);
+    nextSourceIndex = (nextSourceIndex + 1) % sourcePoints.size();
+    return sourcePoint;
+  }
+}
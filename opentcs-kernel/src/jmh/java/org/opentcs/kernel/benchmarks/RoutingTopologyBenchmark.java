@@ -0,0 +1,221 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the array-based routing topology (used with
+ * {@link ShortestPathConfiguration.Algorithm#COMPACT_DIJKSTRA}) with the jgrapht graphs (used with
+ * all other algorithms) regarding the time required for building them for all routing groups,
+ * the time required for updating them after paths have changed and the heap they retain.
+ * <p>
+ * Allocations per build/update are reported when running with JMH's GC profiler, e.g.
+ * {@code ./gradlew :opentcs-kernel:jmh -PjmhIncludes=RoutingTopologyBenchmark} with
+ * {@code jmh { profilers = ['gc'] }}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RoutingTopologyBenchmark {
+
+  /**
+   * The number of paths changed with every update.
+   */
+  private static final int CHANGED_PATH_COUNT = 50;
+  /**
+   * The number of points per row/column of the grid plant.
+   */
+  @Param({"50", "142"})
+  private int gridSize;
+  /**
+   * The number of routing groups (with one vehicle each).
+   */
+  @Param({"1", "4"})
+  private int routingGroupCount;
+  /**
+   * The routing representation.
+   */
+  @Param({"TOPOLOGY", "GRAPH"})
+  private Representation representation;
+
+  private GraphProvider graphProvider;
+  private List<Vehicle> vehicles;
+  private List<Path> changedPaths;
+
+  /**
+   * Creates a new instance.
+   */
+  public RoutingTopologyBenchmark() {
+  }
+
+  /**
+   * Creates the plant model and the graph provider and selects the paths to be changed.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    BenchmarkKernel kernel = new BenchmarkKernel(
+        GridPlant.create(gridSize, routingGroupCount, routingGroupCount)
+    );
+    graphProvider = kernel.createGraphProvider(representation.getAlgorithm());
+    vehicles = kernel.getObjectService().fetch(Vehicle.class).stream()
+        .sorted(Comparator.comparing(Vehicle::getName))
+        .toList();
+    changedPaths = kernel.getObjectService().fetch(Path.class).stream()
+        .sorted(Comparator.comparing(Path::getName))
+        .limit(CHANGED_PATH_COUNT)
+        .toList();
+  }
+
+  /**
+   * Ensures the representations for all routing groups have been built before every iteration, so
+   * updates always apply to existing representations.
+   */
+  @Setup(Level.Iteration)
+  public void buildRepresentations() {
+    buildForAllRoutingGroups();
+  }
+
+  /**
+   * Builds the representations for all routing groups from scratch, as happens whenever the
+   * plant model or the router's configuration changes.
+   *
+   * @return The representations.
+   */
+  @Benchmark
+  public List<Object> rebuild() {
+    graphProvider.invalidate();
+    return buildForAllRoutingGroups();
+  }
+
+  /**
+   * Updates the representations for all routing groups after {@value #CHANGED_PATH_COUNT} paths
+   * have changed, as happens when paths are locked or unlocked.
+   *
+   * @return The graph provider.
+   */
+  @Benchmark
+  public GraphProvider updateChangedPaths() {
+    graphProvider.updateGraphResults(changedPaths);
+    return graphProvider;
+  }
+
+  /**
+   * Builds the representations for all routing groups from scratch and records the heap they
+   * retain (in bytes) in the given counters.
+   *
+   * @param counters The counters.
+   * @return The number of representations built.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Warmup(iterations = 1)
+  @Measurement(iterations = 1)
+  public int retainedHeap(HeapCounters counters) {
+    graphProvider.invalidate();
+    List<Object> result = buildForAllRoutingGroups();
+    long usedWithRepresentations = usedHeapAfterGc();
+    int resultCount = result.size();
+    // Drop the representations and measure again, so both measurements see the same heap apart
+    // from the representations.
+    result = null;
+    graphProvider.invalidate();
+    counters.retainedBytes = usedWithRepresentations - usedHeapAfterGc();
+    return resultCount;
+  }
+
+  private List<Object> buildForAllRoutingGroups() {
+    List<Object> result = new ArrayList<>(vehicles.size());
+    for (Vehicle vehicle : vehicles) {
+      result.add(
+          representation == Representation.TOPOLOGY
+              ? graphProvider.getTopologyResult(vehicle)
+              : graphProvider.getGraphResult(vehicle)
+      );
+    }
+    return result;
+  }
+
+  private static long usedHeapAfterGc() {
+    MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return memoryBean.getHeapMemoryUsage().getUsed();
+  }
+
+  /**
+   * The representations of the routing graph to compare.
+   */
+  public enum Representation {
+    /**
+     * The routing topology shared by all routing groups, with an array of edge weights per
+     * routing group.
+     */
+    TOPOLOGY(ShortestPathConfiguration.Algorithm.COMPACT_DIJKSTRA),
+    /**
+     * A jgrapht graph per routing group.
+     */
+    GRAPH(ShortestPathConfiguration.Algorithm.DIJKSTRA);
+
+    private final ShortestPathConfiguration.Algorithm algorithm;
+
+    Representation(ShortestPathConfiguration.Algorithm algorithm) {
+      this.algorithm = algorithm;
+    }
+
+    /**
+     * Returns an algorithm working on this representation.
+     *
+     * @return An algorithm working on this representation.
+     */
+    public ShortestPathConfiguration.Algorithm getAlgorithm() {
+      return algorithm;
+    }
+  }
+
+  /**
+   * Reports the heap retained by the representations.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class HeapCounters {
+
+    /**
+     * The heap retained by the representations for all routing groups, in bytes.
+     */
+    public long retainedBytes;
+
+    /**
+     * Creates a new instance.
+     */
+    public HeapCounters() {
+    }
+  }
+}
@@ -0,0 +1,174 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.access.to.order.DestinationCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.kernel.services.StandardTransportOrderService;
+import org.opentcs.kernel.workingset.PrefixedUlidObjectNameProvider;
+import org.opentcs.kernel.workingset.TransportOrderPoolManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time required for creating {@value #ORDER_COUNT} transport orders, either one by
+ * one or in batches of {@code batchSize} orders.
+ * <p>
+ * Like the RMI interface and the web API, every creation request is submitted to a single-threaded
+ * kernel executor, and the client waits for its completion before submitting the next one. The
+ * time per operation is the latency for creating all orders; the order throughput is
+ * {@value #ORDER_COUNT} divided by it. (Neither the RMI/HTTP transport nor the dispatch runs
+ * following the creation are included.)
+ * </p>
+ * <p>
+ * Run with e.g.
+ * {@code ./gradlew :opentcs-kernel:jmh -PjmhIncludes=TransportOrderCreationBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TransportOrderCreationBenchmark {
+
+  /**
+   * The number of transport orders created per operation.
+   */
+  private static final int ORDER_COUNT = 1000;
+  /**
+   * The number of transport orders per creation request. With a batch size of 1, every transport
+   * order is created via {@code createTransportOrder()}, otherwise via
+   * {@code createTransportOrders()}.
+   */
+  @Param({"1", "10", "100", "1000"})
+  private int batchSize;
+
+  private ExecutorService kernelExecutor;
+  private TransportOrderPoolManager orderPoolManager;
+  private StandardTransportOrderService transportOrderService;
+  private List<List<TransportOrderCreationTO>> batches;
+
+  /**
+   * Creates a new instance.
+   */
+  public TransportOrderCreationBenchmark() {
+  }
+
+  /**
+   * Creates the plant model, the transport order service and the transport orders to be created.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    BenchmarkKernel kernel = new BenchmarkKernel(GridPlant.create(30, 1, 1));
+    kernelExecutor = Executors.newSingleThreadExecutor();
+    orderPoolManager = new TransportOrderPoolManager(
+        kernel.getObjectRepository(),
+        event -> {
+        },
+        new PrefixedUlidObjectNameProvider()
+    );
+    transportOrderService = new StandardTransportOrderService(
+        kernel.getObjectService(),
+        kernel.getGlobalSyncObject(),
+        kernel.getObjectRepository(),
+        orderPoolManager,
+        kernel.getPlantModelManager()
+    );
+
+    List<Point> points = kernel.getObjectService().fetch(Point.class).stream()
+        .sorted(Comparator.comparing(Point::getName))
+        .toList();
+    Random random = new Random(ORDER_COUNT);
+    batches = new ArrayList<>();
+    List<TransportOrderCreationTO> batch = new ArrayList<>(batchSize);
+    for (int i = 0; i < ORDER_COUNT; i++) {
+      batch.add(
+          new TransportOrderCreationTO(
+              "TOrder-",
+              List.of(
+                  new DestinationCreationTO(
+                      points.get(random.nextInt(points.size())).getName(),
+                      DriveOrder.Destination.OP_MOVE
+                  )
+              )
+          )
+              .withIncompleteName(true)
+      );
+      if (batch.size() == batchSize) {
+        batches.add(batch);
+        batch = new ArrayList<>(batchSize);
+      }
+    }
+    if (!batch.isEmpty()) {
+      batches.add(batch);
+    }
+  }
+
+  /**
+   * Shuts down the kernel executor.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    kernelExecutor.shutdownNow();
+  }
+
+  /**
+   * Removes the transport orders created by the previous operation, so the size of the pool does
+   * not grow during the measurement.
+   */
+  @Setup(Level.Invocation)
+  public void clearOrderPool() {
+    orderPoolManager.clear();
+  }
+
+  /**
+   * Creates {@value #ORDER_COUNT} transport orders in batches of {@code batchSize} orders.
+   *
+   * @return The number of transport orders created.
+   * @throws InterruptedException If interrupted while waiting for the kernel executor.
+   * @throws ExecutionException If creating a transport order failed.
+   */
+  @Benchmark
+  public int createTransportOrders()
+      throws InterruptedException,
+        ExecutionException {
+    int createdCount = 0;
+    for (List<TransportOrderCreationTO> batch : batches) {
+      if (batchSize == 1) {
+        kernelExecutor.submit(() -> transportOrderService.createTransportOrder(batch.get(0)))
+            .get();
+        createdCount++;
+      }
+      else {
+        createdCount += kernelExecutor
+            .submit(() -> transportOrderService.createTransportOrders(batch))
+            .get()
+            .size();
+      }
+    }
+    return createdCount;
+  }
+}
@@ -0,0 +1,225 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.Dispatcher;
+import org.opentcs.customizations.kernel.GlobalSyncObject;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.util.TimeProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collapses requests for dispatch runs so that at most one run is pending at any time.
+ * <p>
+ * A request arriving while no run is pending schedules a run on the kernel executor. Requests
+ * arriving while a run is pending are coalesced into it. Requests arriving while a run is being
+ * executed result in (at most) one follow-up run.
+ * </p>
+ * <p>
+ * Requests are only accepted while this component is initialized. Terminating it cancels a
+ * pending run.
+ * </p>
+ */
+public class DispatchRequestCoalescer
+    implements
+      Lifecycle {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(DispatchRequestCoalescer.class);
+  /**
+   * The kernel executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * A global object to be used for synchronization within the kernel.
+   */
+  private final Object globalSyncObject;
+  /**
+   * The dispatcher in use.
+   */
+  private final Dispatcher dispatcher;
+  /**
+   * The app configuration.
+   */
+  private final KernelApplicationConfiguration configuration;
+  /**
+   * Provides the current time.
+   */
+  private final TimeProvider timeProvider;
+  /**
+   * The number of dispatch runs requested.
+   */
+  private final AtomicLong triggeredCount = new AtomicLong();
+  /**
+   * The number of requests coalesced into an already pending run.
+   */
+  private final AtomicLong coalescedCount = new AtomicLong();
+  /**
+   * The number of dispatch runs executed.
+   */
+  private final AtomicLong executedCount = new AtomicLong();
+  /**
+   * The currently pending dispatch run, i.e. scheduled but not yet started, or {@code null}.
+   */
+  private ScheduledFuture<?> pendingRun;
+  /**
+   * The point of time (in ms since the epoch) at which the last dispatch run was started.
+   */
+  private long lastRunStart = Long.MIN_VALUE;
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param kernelExecutor The kernel executor to use.
+   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param dispatcher The dispatcher in use.
+   * @param configuration The application configuration.
+   * @param timeProvider Provides the current time.
+   */
+  @Inject
+  public DispatchRequestCoalescer(
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor,
+      @GlobalSyncObject
+      Object globalSyncObject,
+      Dispatcher dispatcher,
+      KernelApplicationConfiguration configuration,
+      TimeProvider timeProvider
+  ) {
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.dispatcher = requireNonNull(dispatcher, "dispatcher");
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.timeProvider = requireNonNull(timeProvider, "timeProvider");
+  }
+
+  @Override
+  public synchronized void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public synchronized boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public synchronized void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    if (pendingRun != null) {
+      LOG.debug("Cancelling pending dispatch run.");
+      pendingRun.cancel(false);
+      pendingRun = null;
+    }
+
+    initialized = false;
+  }
+
+  /**
+   * Requests a dispatch run.
+   * <p>
+   * The run is executed on the kernel executor at some later point, respecting the configured
+   * debounce delay and minimum interval between dispatch runs. Requests are ignored while this
+   * component is not initialized.
+   * </p>
+   * <p>
+   * This method may be called from any thread.
+   * </p>
+   */
+  public synchronized void requestDispatch() {
+    if (!isInitialized()) {
+      LOG.debug("Not initialized, ignoring dispatch request.");
+      return;
+    }
+
+    triggeredCount.incrementAndGet();
+    if (pendingRun != null) {
+      coalescedCount.incrementAndGet();
+      LOG.debug("Dispatch run already pending, coalescing request.");
+      return;
+    }
+
+    pendingRun = kernelExecutor.schedule(this::executeRun, computeDelay(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Returns the number of dispatch runs requested.
+   *
+   * @return The number of dispatch runs requested.
+   */
+  public long getTriggeredCount() {
+    return triggeredCount.get();
+  }
+
+  /**
+   * Returns the number of requests that were coalesced into an already pending dispatch run.
+   *
+   * @return The number of requests that were coalesced into an already pending dispatch run.
+   */
+  public long getCoalescedCount() {
+    return coalescedCount.get();
+  }
+
+  /**
+   * Returns the number of dispatch runs executed.
+   *
+   * @return The number of dispatch runs executed.
+   */
+  public long getExecutedCount() {
+    return executedCount.get();
+  }
+
+  private long computeDelay() {
+    long debounceDelay = configuration.dispatchDebounceDelay();
+    if (lastRunStart == Long.MIN_VALUE) {
+      return debounceDelay;
+    }
+    long nextAllowedRunStart = lastRunStart + configuration.dispatchMinInterval();
+    return Math.max(debounceDelay, nextAllowedRunStart - timeProvider.getCurrentTimeEpochMillis());
+  }
+
+  private void executeRun() {
+    synchronized (this) {
+      if (!isInitialized()) {
+        return;
+      }
+      // Requests arriving from now on (e.g. caused by the dispatch run itself) result in a
+      // follow-up run.
+      pendingRun = null;
+      lastRunStart = timeProvider.getCurrentTimeEpochMillis();
+    }
+
+    executedCount.incrementAndGet();
+    LOG.debug(
+        "Executing dispatch run (triggered: {}, coalesced: {}, executed: {})...",
+        triggeredCount.get(),
+        coalescedCount.get(),
+        executedCount.get()
+    );
+    synchronized (globalSyncObject) {
+      dispatcher.dispatch();
+    }
+  }
+}
@@ -32,6 +32,19 @@ public interface KernelApplicationConfiguration {
   )
   boolean autoEnablePeripheralDriversOnStartup();
 
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to keep a binary snapshot of the saved model next to the model file.",
+          "On startup, the model is read from the snapshot instead of the model file, which is "
+              + "considerably faster for large models, as long as the model file has not been "
+              + "modified since the snapshot was written."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "1_startup_2"
+  )
+  boolean useModelSnapshot();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether to implicitly save the model when leaving modelling state.",
@@ -84,6 +97,54 @@ public interface KernelApplicationConfiguration {
   )
   boolean requireManualReroutingAfterUnexpectedPosition();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The time (in ms) to wait after a vehicle change requiring a dispatch run before "
+              + "actually dispatching.",
+          "Further vehicle changes within this time do not result in additional dispatch runs."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "6_dispatch_0"
+  )
+  long dispatchDebounceDelay();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The minimum time (in ms) between the starts of two dispatch runs triggered by "
+          + "vehicle changes.",
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "6_dispatch_1"
+  )
+  long dispatchMinInterval();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum number of history entries kept for a vehicle, with older entries "
+          + "being dropped (0 for no limit).",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "7_history_0"
+  )
+  int vehicleHistoryRetentionLimit();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum number of history entries kept for a transport order, with older "
+          + "entries being dropped (0 for no limit).",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "7_history_1"
+  )
+  int transportOrderHistoryRetentionLimit();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum number of history entries kept for a peripheral job, with older "
+          + "entries being dropped (0 for no limit).",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "7_history_2"
+  )
+  int peripheralJobHistoryRetentionLimit();
+
   @ConfigurationEntry(
       type = "String",
       description = {
@@ -108,6 +108,10 @@ public class KernelStateOperating
    * Triggers dispatching of vehicles and transport orders on certain events.
    */
   private final VehicleDispatchTrigger vehicleDispatchTrigger;
+  /**
+   * Collapses requests for dispatch runs.
+   */
+  private final DispatchRequestCoalescer dispatchRequestCoalescer;
   /**
    * A handle for the cleaner task.
    */
@@ -141,6 +145,7 @@ public class KernelStateOperating
    * @param pathLockListener Listens to path lock events and updates the routing topology.
    * @param vehicleDispatchTrigger Triggers dispatching of vehicles and transport orders on certain
    * events.
+   * @param dispatchRequestCoalescer Collapses requests for dispatch runs.
    */
   @Inject
   public KernelStateOperating(
@@ -166,7 +171,8 @@ public class KernelStateOperating
       PeripheralAttachmentManager peripheralAttachmentManager,
       InternalVehicleService vehicleService,
       PathLockEventListener pathLockListener,
-      VehicleDispatchTrigger vehicleDispatchTrigger
+      VehicleDispatchTrigger vehicleDispatchTrigger,
+      DispatchRequestCoalescer dispatchRequestCoalescer
   ) {
     super(
         globalSyncObject,
@@ -199,6 +205,10 @@ public class KernelStateOperating
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.pathLockListener = requireNonNull(pathLockListener, "pathLockListener");
     this.vehicleDispatchTrigger = requireNonNull(vehicleDispatchTrigger, "vehicleDispatchTrigger");
+    this.dispatchRequestCoalescer = requireNonNull(
+        dispatchRequestCoalescer,
+        "dispatchRequestCoalescer"
+    );
   }
 
   // Implementation of interface Kernel starts here.
@@ -228,6 +238,7 @@ public class KernelStateOperating
     router.initialize();
     LOG.debug("Initializing dispatcher '{}'...", dispatcher);
     dispatcher.initialize();
+    dispatchRequestCoalescer.initialize();
     LOG.debug("Initializing peripheral job dispatcher '{}'...", peripheralJobDispatcher);
     peripheralJobDispatcher.initialize();
     LOG.debug("Initializing vehicle controller pool '{}'...", vehicleControllerPool);
@@ -291,6 +302,7 @@ public class KernelStateOperating
     LOG.debug("Terminating peripheral job dispatcher '{}'...", peripheralJobDispatcher);
     peripheralJobDispatcher.terminate();
     LOG.debug("Terminating dispatcher '{}'...", dispatcher);
+    dispatchRequestCoalescer.terminate();
     dispatcher.terminate();
     LOG.debug("Terminating router '{}'...", router);
     router.terminate();
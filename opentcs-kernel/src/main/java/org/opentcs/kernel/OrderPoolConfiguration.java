@@ -30,4 +30,16 @@ public interface OrderPoolConfiguration {
       changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
   )
   int sweepAge();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of orders, order sequences and peripheral jobs to remove in a sweep.",
+          "This includes the peripheral jobs related to removed orders and the orders of removed "
+              + "order sequences.",
+          "Remaining ones are removed with subsequent sweeps."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int sweepBatchSize();
 }
@@ -5,11 +5,9 @@ package org.opentcs.kernel;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
-import java.util.concurrent.Executor;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.customizations.ApplicationEventBus;
-import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.ReroutingType;
@@ -43,9 +41,9 @@ public class VehicleDispatchTrigger
    */
   private final KernelApplicationConfiguration configuration;
   /**
-   * The kernel executor.
+   * Collapses requests for dispatch runs.
    */
-  private final Executor kernelExecutor;
+  private final DispatchRequestCoalescer dispatchRequestCoalescer;
   /**
    * This instance's <em>initialized</em> flag.
    */
@@ -54,21 +52,23 @@ public class VehicleDispatchTrigger
   /**
    * Creates a new instance.
    *
-   * @param kernelExecutor The kernel executor to use.
+   * @param dispatchRequestCoalescer Collapses requests for dispatch runs.
    * @param eventBus The event bus.
    * @param dispatcher The dispatcher in use.
    * @param configuration The application configuration.
    */
   @Inject
   public VehicleDispatchTrigger(
-      @KernelExecutor
-      Executor kernelExecutor,
+      DispatchRequestCoalescer dispatchRequestCoalescer,
       @ApplicationEventBus
       EventBus eventBus,
       DispatcherService dispatcher,
       KernelApplicationConfiguration configuration
   ) {
-    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.dispatchRequestCoalescer = requireNonNull(
+        dispatchRequestCoalescer,
+        "dispatchRequestCoalescer"
+    );
     this.eventBus = requireNonNull(eventBus, "eventBus");
     this.dispatcher = requireNonNull(dispatcher, "dispatcher");
     this.configuration = requireNonNull(configuration, "configuration");
@@ -127,8 +127,9 @@ public class VehicleDispatchTrigger
       // Dispatching may result in changes to the vehicle and thus trigger this code, which would
       // then lead to a second dispatch run before the first one is completed. To avoid this, we
       // ensure dispatching is done at some later point by scheduling it to be executed on the
-      // kernel executor (so it does not trigger itself in a loop).
-      kernelExecutor.execute(() -> dispatcher.dispatch());
+      // kernel executor (so it does not trigger itself in a loop). Requests arriving while a run
+      // is still pending are coalesced into that run.
+      dispatchRequestCoalescer.requestDispatch();
     }
   }
 
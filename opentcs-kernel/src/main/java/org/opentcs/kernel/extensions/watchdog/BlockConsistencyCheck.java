@@ -16,8 +16,10 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.BlockIndex;
 import org.opentcs.components.kernel.services.NotificationService;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Block;
@@ -25,6 +27,8 @@ import org.opentcs.data.model.Point;
 import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.notification.UserNotification;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
 
 /**
  * Periodically checks the occupancy status of single-vehicle blocks.
@@ -55,10 +59,15 @@ import org.opentcs.data.notification.UserNotification;
  * <li> A block previously occupied by (V1, V2) that is now still occupied by (V1, V2) or (V2, V1)
  * should not trigger a new notification.</li>
  * </ul>
+ *
+ * Block occupations are updated incrementally from {@link org.opentcs.data.TCSObjectEvent}s for
+ * vehicles, and only blocks whose occupations changed are checked, so the work done with every
+ * check is proportional to the number of vehicle changes since the previous check.
  */
 public class BlockConsistencyCheck
     implements
       Runnable,
+      EventHandler,
       Lifecycle {
 
   /**
@@ -77,10 +86,19 @@ public class BlockConsistencyCheck
    * The kernel executor.
    */
   private final ScheduledExecutorService kernelExecutor;
+  /**
+   * Where this instance registers for application events.
+   */
+  private final EventSource eventSource;
   /**
    * The configuration.
    */
   private final WatchdogConfiguration configuration;
+  /**
+   * Collects changes of vehicles between checks.
+   */
+  private final ObjectChangeBuffer<Vehicle> vehicleChanges
+      = new ObjectChangeBuffer<>(Vehicle.class);
   /**
    * Whether this check is initialized.
    */
@@ -90,10 +108,28 @@ public class BlockConsistencyCheck
    */
   private ScheduledFuture<?> scheduledFuture;
   /**
-   * Holds currently known block occupations.
+   * The index of single-vehicle blocks.
+   */
+  private BlockIndex blockIndex = BlockIndex.EMPTY;
+  /**
+   * The single-vehicle blocks currently occupied by vehicles, mapped by vehicle name.
+   */
+  private final Map<String, Set<TCSResourceReference<Block>>> blocksByVehicle = new HashMap<>();
+  /**
+   * Holds current block occupations.
+   * Maps a block reference to a set of vehicles contained in that block.
+   */
+  private final Map<TCSResourceReference<Block>, Set<TCSObjectReference<Vehicle>>>
+      currentOccupations = new HashMap<>();
+  /**
+   * The blocks whose occupations changed since the last check.
+   */
+  private final Set<TCSResourceReference<Block>> changedBlocks = new HashSet<>();
+  /**
+   * Holds block occupations as of the last check.
    * Maps a block reference to a set of vehicles contained in that block.
    */
-  private Map<TCSResourceReference<Block>, Set<TCSObjectReference<Vehicle>>> occupations
+  private final Map<TCSResourceReference<Block>, Set<TCSObjectReference<Vehicle>>> occupations
       = new HashMap<>();
 
   /**
@@ -102,6 +138,7 @@ public class BlockConsistencyCheck
    * @param kernelExecutor The kernel executor.
    * @param objectService The object service.
    * @param notificationService The notification service.
+   * @param eventSource Where this instance registers for application events.
    * @param configuration The watchdog configuration.
    */
   @Inject
@@ -110,11 +147,14 @@ public class BlockConsistencyCheck
       ScheduledExecutorService kernelExecutor,
       TCSObjectService objectService,
       NotificationService notificationService,
+      @ApplicationEventBus
+      EventSource eventSource,
       WatchdogConfiguration configuration
   ) {
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.objectService = requireNonNull(objectService, "objectService");
     this.notificationService = requireNonNull(notificationService, "notificationService");
+    this.eventSource = requireNonNull(eventSource, "eventSource");
     this.configuration = requireNonNull(configuration, "configuration");
   }
 
@@ -124,6 +164,16 @@ public class BlockConsistencyCheck
       return;
     }
 
+    // Subscribe before fetching the vehicles to not miss any changes in between.
+    eventSource.subscribe(this);
+
+    blockIndex = new BlockIndex(
+        objectService.fetch(Block.class).stream()
+            .filter(block -> block.getType() == Block.Type.SINGLE_VEHICLE_ONLY)
+            .collect(Collectors.toSet())
+    );
+    objectService.fetch(Vehicle.class).forEach(this::updateOccupations);
+
     scheduledFuture = kernelExecutor.scheduleAtFixedRate(
         this,
         configuration.blockConsistencyCheckInterval(),
@@ -150,84 +200,124 @@ public class BlockConsistencyCheck
       scheduledFuture = null;
     }
 
+    eventSource.unsubscribe(this);
+
+    vehicleChanges.clear();
+    blockIndex = BlockIndex.EMPTY;
+    blocksByVehicle.clear();
+    currentOccupations.clear();
+    changedBlocks.clear();
+    occupations.clear();
+
     initialized = false;
   }
 
+  @Override
+  public void onEvent(Object event) {
+    vehicleChanges.onEvent(event);
+  }
+
   @Override
   public void run() {
-    Map<TCSResourceReference<Block>, Set<TCSObjectReference<Vehicle>>> currentOccupations
-        = findCurrentOccupations();
-
-    // Find new violations.
-    currentOccupations.entrySet().stream()
-        .filter(entry -> entry.getValue().size() > 1)
-        .filter(entry -> {
-          return !occupations.containsKey(entry.getKey())
-              || !occupations.get(entry.getKey()).equals(entry.getValue());
-        })
-        .forEach(entry -> {
-          notificationService.publishUserNotification(
-              new UserNotification(
-                  NOTIFICATION_SOURCE,
-                  String.format(
-                      "Block %s is overfull. Occupied by vehicles: %s",
-                      entry.getKey().getName(),
-                      entry.getValue().stream()
-                          .map(vehicle -> vehicle.getName())
-                          .collect(Collectors.joining(", "))
-                  ),
-                  UserNotification.Level.IMPORTANT
-              )
-          );
-        });
-
-    // Find resolved violations
-    occupations.entrySet().stream()
-        .filter(entry -> entry.getValue().size() > 1)
-        .filter(entry -> {
-          return !currentOccupations.containsKey(entry.getKey())
-              || currentOccupations.get(entry.getKey()).size() <= 1;
-        })
-        .forEach(entry -> {
-          notificationService.publishUserNotification(
-              new UserNotification(
-                  NOTIFICATION_SOURCE,
-                  String.format("Block %s is not overfull any more.", entry.getKey().getName()),
-                  UserNotification.Level.IMPORTANT
-              )
-          );
-        });
-
-    occupations = currentOccupations;
+    for (ObjectChangeBuffer.Change<Vehicle> change : vehicleChanges.drain()) {
+      if (change.isRemoval()) {
+        removeOccupations(change.name());
+      }
+      else {
+        updateOccupations(change.currentState());
+      }
+    }
+
+    for (TCSResourceReference<Block> blockRef : changedBlocks) {
+      Set<TCSObjectReference<Vehicle>> previousOccupants
+          = occupations.getOrDefault(blockRef, Set.of());
+      Set<TCSObjectReference<Vehicle>> currentOccupants
+          = currentOccupations.getOrDefault(blockRef, Set.of());
+
+      if (currentOccupants.size() > 1 && !currentOccupants.equals(previousOccupants)) {
+        // Found a new violation.
+        notificationService.publishUserNotification(
+            new UserNotification(
+                NOTIFICATION_SOURCE,
+                String.format(
+                    "Block %s is overfull. Occupied by vehicles: %s",
+                    blockRef.getName(),
+                    currentOccupants.stream()
+                        .map(vehicle -> vehicle.getName())
+                        .collect(Collectors.joining(", "))
+                ),
+                UserNotification.Level.IMPORTANT
+            )
+        );
+      }
+      else if (previousOccupants.size() > 1 && currentOccupants.size() <= 1) {
+        // Found a resolved violation.
+        notificationService.publishUserNotification(
+            new UserNotification(
+                NOTIFICATION_SOURCE,
+                String.format("Block %s is not overfull any more.", blockRef.getName()),
+                UserNotification.Level.IMPORTANT
+            )
+        );
+      }
+
+      if (currentOccupants.isEmpty()) {
+        occupations.remove(blockRef);
+      }
+      else {
+        occupations.put(blockRef, Set.copyOf(currentOccupants));
+      }
+    }
+    changedBlocks.clear();
+  }
+
+  private void updateOccupations(Vehicle vehicle) {
+    Set<TCSResourceReference<Block>> blocks = new HashSet<>();
+    if (isIntegrated(vehicle) && vehicle.getCurrentPosition() != null) {
+      Point currentPoint
+          = objectService.fetch(Point.class, vehicle.getCurrentPosition()).orElseThrow();
+      for (Block block : blockIndex.getBlocksContaining(currentPoint.getReference())) {
+        blocks.add(block.getReference());
+      }
+    }
+
+    Set<TCSResourceReference<Block>> previousBlocks = blocksByVehicle.getOrDefault(
+        vehicle.getName(),
+        Set.of()
+    );
+    if (blocks.equals(previousBlocks)) {
+      return;
+    }
+
+    removeOccupations(vehicle.getName());
+    if (!blocks.isEmpty()) {
+      blocksByVehicle.put(vehicle.getName(), blocks);
+    }
+    for (TCSResourceReference<Block> blockRef : blocks) {
+      currentOccupations.computeIfAbsent(blockRef, ref -> new HashSet<>())
+          .add(vehicle.getReference());
+      changedBlocks.add(blockRef);
+    }
+  }
+
+  private void removeOccupations(String vehicleName) {
+    Set<TCSResourceReference<Block>> blocks = blocksByVehicle.remove(vehicleName);
+    if (blocks == null) {
+      return;
+    }
+
+    for (TCSResourceReference<Block> blockRef : blocks) {
+      Set<TCSObjectReference<Vehicle>> occupants = currentOccupations.get(blockRef);
+      occupants.removeIf(vehicleRef -> vehicleRef.getName().equals(vehicleName));
+      if (occupants.isEmpty()) {
+        currentOccupations.remove(blockRef);
+      }
+      changedBlocks.add(blockRef);
+    }
   }
 
-  private Map<TCSResourceReference<Block>, Set<TCSObjectReference<Vehicle>>>
-      findCurrentOccupations() {
-    Map<TCSResourceReference<Block>, Set<TCSObjectReference<Vehicle>>> currentOccupations
-        = new HashMap<>();
-
-    Set<Block> blocks = objectService.fetch(Block.class);
-
-    objectService.fetch(Vehicle.class)
-        .stream()
-        .filter(vehicle -> {
-          return vehicle.getIntegrationLevel() == TO_BE_RESPECTED
-              || vehicle.getIntegrationLevel() == TO_BE_UTILIZED;
-        })
-        .filter(vehicle -> vehicle.getCurrentPosition() != null)
-        .forEach(vehicle -> {
-          Point currentPoint
-              = objectService.fetch(Point.class, vehicle.getCurrentPosition()).orElseThrow();
-
-          blocks.stream()
-              .filter(block -> block.getType() == Block.Type.SINGLE_VEHICLE_ONLY)
-              .filter(block -> block.getMembers().contains(currentPoint.getReference()))
-              .forEach(block -> {
-                currentOccupations.putIfAbsent(block.getReference(), new HashSet<>());
-                currentOccupations.get(block.getReference()).add(vehicle.getReference());
-              });
-        });
-
-    return currentOccupations;
+  private boolean isIntegrated(Vehicle vehicle) {
+    return vehicle.getIntegrationLevel() == TO_BE_RESPECTED
+        || vehicle.getIntegrationLevel() == TO_BE_UTILIZED;
   }
 }
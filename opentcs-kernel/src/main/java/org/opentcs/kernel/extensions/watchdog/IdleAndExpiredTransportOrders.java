@@ -7,28 +7,48 @@ import static java.util.Objects.requireNonNull;
 import jakarta.inject.Inject;
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.util.TimeProvider;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Class to find out idle and expired transport orders.
+ * <p>
+ * Changes of transport orders are collected from {@link org.opentcs.data.TCSObjectEvent}s, and the
+ * points in time at which transport orders become idle or their deadlines expire are kept in timer
+ * wheels. This way, the work done with every check is proportional to the number of transport
+ * orders that changed or reached one of these points in time since the previous check, not to the
+ * number of existing transport orders.
+ * </p>
  */
 public class IdleAndExpiredTransportOrders
     implements
+      EventHandler,
       Lifecycle {
   /**
    * This class's Logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(IdleAndExpiredTransportOrders.class);
+  /**
+   * The duration of a tick of the timer wheels (in milliseconds).
+   */
+  private static final long TIMER_TICK_DURATION = 100;
+  /**
+   * The latest point in time for which deadlines are kept track of.
+   */
+  private static final Instant LATEST_TRACKED_DEADLINE = Instant.ofEpochMilli(Long.MAX_VALUE - 1);
   /**
    * Object service to access the model.
    */
@@ -38,13 +58,44 @@ public class IdleAndExpiredTransportOrders
    */
   private final TimeProvider timeProvider;
   /**
-   * Map to store the current snapshot for each transport order.
+   * Where this instance registers for application events.
+   */
+  private final EventSource eventSource;
+  /**
+   * Collects changes of transport orders between checks.
+   */
+  private final ObjectChangeBuffer<TransportOrder> transportOrderChanges
+      = new ObjectChangeBuffer<>(TransportOrder.class);
+  /**
+   * Map to store the current snapshot for each transport order that is not in a final state.
    */
   private final Map<String, TransportOrderSnapshot> currentSnapshots = new HashMap<>();
   /**
-   * Map to store the previous snapshot for each transport order.
+   * The transport orders considered newly idle with the last check.
+   */
+  private final Set<TransportOrderSnapshot> newlyIdleTransportOrders = new HashSet<>();
+  /**
+   * The transport orders considered newly expired with the last check.
+   */
+  private final Set<TransportOrderSnapshot> newlyExpiredTransportOrders = new HashSet<>();
+  /**
+   * The transport orders that reached a final state with the last check after having been
+   * considered idle or expired.
+   */
+  private final Set<TransportOrder> newTransportOrdersInFinalState = new HashSet<>();
+  /**
+   * The points in time at which transport orders are to be considered idle, by transport order
+   * name.
+   */
+  private TimerWheel<String> idleTimers;
+  /**
+   * The points in time at which the deadlines of transport orders expire, by transport order name.
    */
-  private final Map<String, TransportOrderSnapshot> previousSnapshots = new HashMap<>();
+  private TimerWheel<String> deadlineTimers;
+  /**
+   * The idle duration threshold applied with the last check, or -1, if there was no check, yet.
+   */
+  private long idleDurationThreshold = -1;
   /**
    * Whether this instance is initialized.
    */
@@ -55,14 +106,18 @@ public class IdleAndExpiredTransportOrders
    *
    * @param objectService The object service.
    * @param timeProvider Provider to get the current time.
+   * @param eventSource Where this instance registers for application events.
    */
   @Inject
   public IdleAndExpiredTransportOrders(
       TCSObjectService objectService,
-      TimeProvider timeProvider
+      TimeProvider timeProvider,
+      @ApplicationEventBus
+      EventSource eventSource
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.timeProvider = requireNonNull(timeProvider, "timeProvider");
+    this.eventSource = requireNonNull(eventSource, "eventSource");
   }
 
   @Override
@@ -71,12 +126,21 @@ public class IdleAndExpiredTransportOrders
       return;
     }
 
+    // Subscribe before fetching the transport orders to not miss any changes in between.
+    eventSource.subscribe(this);
+
     long currentTime = timeProvider.getCurrentTimeEpochMillis();
-    objectService.fetch(TransportOrder.class).forEach(order -> {
-      TransportOrderSnapshot transportOrderSnapshot = new TransportOrderSnapshot(order);
-      transportOrderSnapshot.setLastRelevantStateChange(currentTime);
-      currentSnapshots.put(order.getName(), transportOrderSnapshot);
-    });
+    idleTimers = new TimerWheel<>(TIMER_TICK_DURATION, currentTime);
+    deadlineTimers = new TimerWheel<>(TIMER_TICK_DURATION, currentTime);
+    idleDurationThreshold = -1;
+    objectService.fetch(TransportOrder.class).stream()
+        .filter(order -> !order.getState().isFinalState())
+        .forEach(order -> {
+          TransportOrderSnapshot transportOrderSnapshot = new TransportOrderSnapshot(order);
+          transportOrderSnapshot.setLastRelevantStateChange(currentTime);
+          currentSnapshots.put(order.getName(), transportOrderSnapshot);
+          scheduleDeadline(transportOrderSnapshot);
+        });
 
     initialized = true;
   }
@@ -92,12 +156,24 @@ public class IdleAndExpiredTransportOrders
       return;
     }
 
+    eventSource.unsubscribe(this);
+
+    transportOrderChanges.clear();
     currentSnapshots.clear();
-    previousSnapshots.clear();
+    newlyIdleTransportOrders.clear();
+    newlyExpiredTransportOrders.clear();
+    newTransportOrdersInFinalState.clear();
+    idleTimers = null;
+    deadlineTimers = null;
 
     initialized = false;
   }
 
+  @Override
+  public void onEvent(Object event) {
+    transportOrderChanges.onEvent(event);
+  }
+
   /**
    * Identifies idle and expired transport orders.
    *
@@ -110,51 +186,38 @@ public class IdleAndExpiredTransportOrders
       long idleDurationThreshold
   ) {
     LOG.debug("Identifying idle transport orders...");
-    previousSnapshots.clear();
-    previousSnapshots.putAll(currentSnapshots);
-    currentSnapshots.clear();
+    newlyIdleTransportOrders.clear();
+    newlyExpiredTransportOrders.clear();
+    newTransportOrdersInFinalState.clear();
+
+    for (ObjectChangeBuffer.Change<TransportOrder> change : transportOrderChanges.drain()) {
+      if (change.isRemoval()) {
+        forget(change.name());
+      }
+      else {
+        processChange(change.currentState(), currentTime);
+      }
+    }
 
-    objectService.fetch(TransportOrder.class)
-        .forEach(order -> {
-          TransportOrderSnapshot previousSnapshot = previousSnapshots.get(order.getName());
-          TransportOrderSnapshot currentSnapshot = new TransportOrderSnapshot(order);
-
-          if (order.getState().isFinalState()) {
-            currentSnapshot.setIdle(false);
-          }
-          else {
-            if (order.hasState(TransportOrder.State.BEING_PROCESSED)) {
-              currentSnapshot.setIdle(false);
-            }
-            else {
-              LOG.debug("Checking if transport order '{}' is idle long enough...", order);
-              if (previousSnapshot != null) {
-                if (relevantPropertiesChanged(previousSnapshot, currentSnapshot)) {
-                  currentSnapshot.setLastRelevantStateChange(currentTime);
-                }
-                else {
-                  currentSnapshot.setLastRelevantStateChange(
-                      previousSnapshot.getLastRelevantStateChange()
-                  );
-                }
-              }
-              else {
-                currentSnapshot.setLastRelevantStateChange(currentTime);
-              }
-
-              long idleDuration = currentTime - currentSnapshot.getLastRelevantStateChange();
-              currentSnapshot.setIdle(idleDuration >= idleDurationThreshold);
-            }
-          }
-          currentSnapshot.setWasIdle(
-              currentSnapshot.isIdle() || (previousSnapshot != null && previousSnapshot.wasIdle())
-          );
-          currentSnapshot.setDeadlineExpired(
-              isDeadlineExpired(previousSnapshot, currentSnapshot, currentTime)
-          );
-          LOG.debug("Snapshot of transport order '{}': {}", order.getName(), currentSnapshot);
-          currentSnapshots.put(order.getName(), currentSnapshot);
-        });
+    if (idleDurationThreshold != this.idleDurationThreshold) {
+      applyIdleDurationThreshold(idleDurationThreshold, currentTime);
+    }
+
+    for (String orderName : idleTimers.advance(currentTime)) {
+      TransportOrderSnapshot snapshot = currentSnapshots.get(orderName);
+      if (snapshot != null && !snapshot.isIdle() && isIdleCandidate(snapshot)) {
+        markIdle(snapshot);
+      }
+    }
+
+    for (String orderName : deadlineTimers.advance(currentTime)) {
+      TransportOrderSnapshot snapshot = currentSnapshots.get(orderName);
+      if (snapshot != null && !snapshot.isDeadlineExpired()) {
+        snapshot.setDeadlineExpired(true);
+        LOG.debug("Deadline of transport order '{}' expired: {}", orderName, snapshot);
+        newlyExpiredTransportOrders.add(snapshot);
+      }
+    }
   }
 
   /**
@@ -164,15 +227,7 @@ public class IdleAndExpiredTransportOrders
    * @return The set of transport orders that are considered newly idle.
    */
   public Set<TransportOrderSnapshot> newlyIdleTransportOrders() {
-    return currentSnapshots.values().stream()
-        .filter(
-            transportOrderSnapshot -> transportOrderSnapshot.isIdle()
-                && (!previousSnapshots.containsKey(
-                    transportOrderSnapshot.getTransportOrder().getName()
-                ) || !previousSnapshots.get(transportOrderSnapshot.getTransportOrder().getName())
-                    .isIdle())
-        )
-        .collect(Collectors.toSet());
+    return new HashSet<>(newlyIdleTransportOrders);
   }
 
   /**
@@ -182,16 +237,7 @@ public class IdleAndExpiredTransportOrders
    * @return The set of transport orders that are considered newly idle.
    */
   public Set<TransportOrderSnapshot> newlyExpiredTransportOrders() {
-    return currentSnapshots.values().stream()
-        .filter(
-            transportOrderSnapshot -> transportOrderSnapshot.isDeadlineExpired()
-                && (!previousSnapshots.containsKey(
-                    transportOrderSnapshot.getTransportOrder().getName()
-                )
-                    || !previousSnapshots.get(transportOrderSnapshot.getTransportOrder().getName())
-                        .isDeadlineExpired())
-        )
-        .collect(Collectors.toSet());
+    return new HashSet<>(newlyExpiredTransportOrders);
   }
 
   /**
@@ -201,29 +247,101 @@ public class IdleAndExpiredTransportOrders
    * @return The set of transport orders that are no longer considered idle.
    */
   public Set<TransportOrder> newTransportOrdersInFinalState() {
-    return currentSnapshots.values().stream()
-        .filter(
-            transportOrderSnapshot -> transportOrderSnapshot.isDeadlineExpired()
-                || transportOrderSnapshot.wasIdle()
-        )
-        .map(transportOrderSnapshot -> transportOrderSnapshot.getTransportOrder())
-        .filter(
-            order -> order.getState().isFinalState()
-                && (!previousSnapshots.containsKey(order.getName())
-                    || !previousSnapshots.get(order.getName()).getLastState().isFinalState())
-        )
-        .collect(Collectors.toSet());
+    return new HashSet<>(newTransportOrdersInFinalState);
   }
 
-  private boolean isDeadlineExpired(
-      TransportOrderSnapshot previousSnapshot,
-      TransportOrderSnapshot currentSnapshot,
-      Long currentTime
-  ) {
-    TransportOrder order = currentSnapshot.getTransportOrder();
-    return (order.getDeadline().isBefore(Instant.ofEpochMilli(currentTime))
-        && !order.getState().isFinalState())
-        || (previousSnapshot != null && previousSnapshot.isDeadlineExpired());
+  private void processChange(TransportOrder order, long currentTime) {
+    TransportOrderSnapshot previousSnapshot = currentSnapshots.get(order.getName());
+    TransportOrderSnapshot currentSnapshot = new TransportOrderSnapshot(order);
+
+    if (previousSnapshot == null) {
+      currentSnapshot.setLastRelevantStateChange(currentTime);
+    }
+    else {
+      currentSnapshot.setIdle(previousSnapshot.isIdle());
+      currentSnapshot.setWasIdle(previousSnapshot.wasIdle());
+      currentSnapshot.setDeadlineExpired(previousSnapshot.isDeadlineExpired());
+      currentSnapshot.setLastRelevantStateChange(previousSnapshot.getLastRelevantStateChange());
+      if (relevantPropertiesChanged(previousSnapshot, currentSnapshot)) {
+        currentSnapshot.setLastRelevantStateChange(currentTime);
+        currentSnapshot.setIdle(false);
+      }
+    }
+
+    if (order.getState().isFinalState()) {
+      if (currentSnapshot.isDeadlineExpired() || currentSnapshot.wasIdle()) {
+        newTransportOrdersInFinalState.add(order);
+      }
+      // Transport orders in a final state do not change any more, so there is nothing left to
+      // keep track of.
+      forget(order.getName());
+      return;
+    }
+
+    if (order.hasState(TransportOrder.State.BEING_PROCESSED)) {
+      currentSnapshot.setIdle(false);
+    }
+    LOG.debug("Snapshot of transport order '{}': {}", order.getName(), currentSnapshot);
+    currentSnapshots.put(order.getName(), currentSnapshot);
+    scheduleIdleness(currentSnapshot);
+    scheduleDeadline(currentSnapshot);
+  }
+
+  private void applyIdleDurationThreshold(long idleDurationThreshold, long currentTime) {
+    this.idleDurationThreshold = idleDurationThreshold;
+
+    for (TransportOrderSnapshot snapshot : currentSnapshots.values()) {
+      if (!isIdleCandidate(snapshot)) {
+        continue;
+      }
+
+      long idleDuration = currentTime - snapshot.getLastRelevantStateChange();
+      if (idleDuration < idleDurationThreshold) {
+        snapshot.setIdle(false);
+        scheduleIdleness(snapshot);
+      }
+      else if (!snapshot.isIdle()) {
+        markIdle(snapshot);
+      }
+    }
+  }
+
+  private void markIdle(TransportOrderSnapshot snapshot) {
+    snapshot.setIdle(true);
+    snapshot.setWasIdle(true);
+    LOG.debug("Transport order '{}' is idle: {}", snapshot.getTransportOrder().getName(), snapshot);
+    newlyIdleTransportOrders.add(snapshot);
+  }
+
+  private void scheduleIdleness(TransportOrderSnapshot snapshot) {
+    String orderName = snapshot.getTransportOrder().getName();
+    if (snapshot.isIdle() || !isIdleCandidate(snapshot) || idleDurationThreshold < 0) {
+      idleTimers.cancel(orderName);
+      return;
+    }
+
+    idleTimers.schedule(orderName, snapshot.getLastRelevantStateChange() + idleDurationThreshold);
+  }
+
+  private void scheduleDeadline(TransportOrderSnapshot snapshot) {
+    TransportOrder order = snapshot.getTransportOrder();
+    if (snapshot.isDeadlineExpired() || order.getDeadline().isAfter(LATEST_TRACKED_DEADLINE)) {
+      deadlineTimers.cancel(order.getName());
+      return;
+    }
+
+    // A deadline is considered expired only after it has passed.
+    deadlineTimers.schedule(order.getName(), order.getDeadline().toEpochMilli() + 1);
+  }
+
+  private void forget(String orderName) {
+    currentSnapshots.remove(orderName);
+    idleTimers.cancel(orderName);
+    deadlineTimers.cancel(orderName);
+  }
+
+  private boolean isIdleCandidate(TransportOrderSnapshot snapshot) {
+    return !snapshot.getTransportOrder().hasState(TransportOrder.State.BEING_PROCESSED);
   }
 
   private boolean relevantPropertiesChanged(
@@ -231,7 +349,10 @@ public class IdleAndExpiredTransportOrders
       TransportOrderSnapshot currentSnapshot
   ) {
     return previousSnapshot.getLastState() != currentSnapshot.getLastState()
-        || previousSnapshot.getProcessingVehicle() != currentSnapshot.getProcessingVehicle();
+        || !Objects.equals(
+            previousSnapshot.getProcessingVehicle(),
+            currentSnapshot.getProcessingVehicle()
+        );
   }
 
   /**
@@ -0,0 +1,119 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.watchdog;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.util.event.EventHandler;
+
+/**
+ * Collects the latest states of objects of a class that have changed, as reported by
+ * {@link TCSObjectEvent}s.
+ * <p>
+ * Changes may be reported from any thread. They are collected until they are drained, with only
+ * the latest state being kept for objects that changed multiple times in between.
+ * </p>
+ *
+ * @param <T> The type of objects whose changes are collected.
+ */
+class ObjectChangeBuffer<T extends TCSObject<T>>
+    implements
+      EventHandler {
+
+  /**
+   * The class of objects whose changes are collected.
+   */
+  private final Class<T> clazz;
+  /**
+   * The latest changes, mapped by the names of the changed objects.
+   */
+  private final Map<String, Change<T>> changes = new LinkedHashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param clazz The class of objects whose changes are to be collected.
+   */
+  ObjectChangeBuffer(
+      @Nonnull
+      Class<T> clazz
+  ) {
+    this.clazz = requireNonNull(clazz, "clazz");
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)
+        || !clazz.isInstance(objectEvent.getCurrentOrPreviousObjectState())) {
+      return;
+    }
+
+    String name = objectEvent.getCurrentOrPreviousObjectState().getName();
+    Change<T> change = new Change<>(
+        name,
+        objectEvent.getType() == TCSObjectEvent.Type.OBJECT_REMOVED
+            ? null
+            : clazz.cast(objectEvent.getCurrentObjectState())
+    );
+    synchronized (changes) {
+      // Re-insert the change to keep the changes ordered by the time they were last reported.
+      changes.remove(name);
+      changes.put(name, change);
+    }
+  }
+
+  /**
+   * Returns the changes collected since the last call and forgets about them.
+   *
+   * @return The changes collected since the last call, in the order they were last reported.
+   */
+  @Nonnull
+  public List<Change<T>> drain() {
+    synchronized (changes) {
+      List<Change<T>> result = new ArrayList<>(changes.values());
+      changes.clear();
+      return result;
+    }
+  }
+
+  /**
+   * Forgets about all changes collected.
+   */
+  public void clear() {
+    synchronized (changes) {
+      changes.clear();
+    }
+  }
+
+  /**
+   * The latest change of an object.
+   *
+   * @param <T> The object's type.
+   * @param name The object's name.
+   * @param currentState The object's current state, or {@code null}, if the object was removed.
+   */
+  record Change<T>(
+      @Nonnull
+      String name,
+      @Nullable
+      T currentState
+  ) {
+
+    /**
+     * Checks whether the object was removed.
+     *
+     * @return {@code true} if, and only if, the object was removed.
+     */
+    boolean isRemoval() {
+      return currentState == null;
+    }
+  }
+}
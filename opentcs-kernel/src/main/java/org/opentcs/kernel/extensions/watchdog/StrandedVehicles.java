@@ -6,30 +6,44 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.util.TimeProvider;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Class to find out stranded vehicles.
+ * <p>
+ * Changes of vehicles are collected from {@link org.opentcs.data.TCSObjectEvent}s, and the points
+ * in time at which vehicles are to be considered stranded are kept in a timer wheel. This way, the
+ * work done with every check is proportional to the number of vehicles that changed or reached
+ * their stranded timeout since the previous check.
+ * </p>
  */
 public class StrandedVehicles
     implements
+      EventHandler,
       Lifecycle {
 
   /**
    * This class's Logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(StrandedVehicles.class);
+  /**
+   * The duration of a tick of the timer wheel (in milliseconds).
+   */
+  private static final long TIMER_TICK_DURATION = 100;
   /**
    * Object service to access the model.
    */
@@ -38,14 +52,36 @@ public class StrandedVehicles
    * Provider to get the current time.
    */
   private final TimeProvider timeProvider;
+  /**
+   * Where this instance registers for application events.
+   */
+  private final EventSource eventSource;
+  /**
+   * Collects changes of vehicles between checks.
+   */
+  private final ObjectChangeBuffer<Vehicle> vehicleChanges
+      = new ObjectChangeBuffer<>(Vehicle.class);
   /**
    * Map to store the current snapshot for each vehicle.
    */
   private final Map<String, VehicleSnapshot> currentSnapshots = new HashMap<>();
   /**
-   * Map to store the previous snapshot for each vehicle.
+   * The vehicles considered newly stranded with the last check.
+   */
+  private final Set<VehicleSnapshot> newlyStrandedVehicles = new HashSet<>();
+  /**
+   * The vehicles considered no longer stranded with the last check.
+   */
+  private final Set<VehicleSnapshot> noLongerStrandedVehicles = new HashSet<>();
+  /**
+   * The points in time at which vehicles are to be considered stranded, by vehicle name.
+   */
+  private TimerWheel<String> strandedTimers;
+  /**
+   * The stranded duration threshold applied with the last check, or -1, if there was no check,
+   * yet.
    */
-  private final Map<String, VehicleSnapshot> previousSnapshots = new HashMap<>();
+  private long strandedDurationThreshold = -1;
   /**
    * Whether this instance is initialized.
    */
@@ -56,14 +92,18 @@ public class StrandedVehicles
    *
    * @param objectService The object service.
    * @param timeProvider Provider to get the current time.
+   * @param eventSource Where this instance registers for application events.
    */
   @Inject
   public StrandedVehicles(
       TCSObjectService objectService,
-      TimeProvider timeProvider
+      TimeProvider timeProvider,
+      @ApplicationEventBus
+      EventSource eventSource
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.timeProvider = requireNonNull(timeProvider, "timeProvider");
+    this.eventSource = requireNonNull(eventSource, "eventSource");
   }
 
   @Override
@@ -72,7 +112,12 @@ public class StrandedVehicles
       return;
     }
 
+    // Subscribe before fetching the vehicles to not miss any changes in between.
+    eventSource.subscribe(this);
+
     long currentTime = timeProvider.getCurrentTimeEpochMillis();
+    strandedTimers = new TimerWheel<>(TIMER_TICK_DURATION, currentTime);
+    strandedDurationThreshold = -1;
     objectService.fetch(Vehicle.class).forEach(vehicle -> {
       VehicleSnapshot vehicleSnapshot = new VehicleSnapshot(vehicle);
       vehicleSnapshot.setLastRelevantStateChange(currentTime);
@@ -93,12 +138,22 @@ public class StrandedVehicles
       return;
     }
 
+    eventSource.unsubscribe(this);
+
+    vehicleChanges.clear();
     currentSnapshots.clear();
-    previousSnapshots.clear();
+    newlyStrandedVehicles.clear();
+    noLongerStrandedVehicles.clear();
+    strandedTimers = null;
 
     initialized = false;
   }
 
+  @Override
+  public void onEvent(Object event) {
+    vehicleChanges.onEvent(event);
+  }
+
   /**
    * Identifies stranded vehicles.
    *
@@ -111,40 +166,31 @@ public class StrandedVehicles
       long strandedDurationThreshold
   ) {
     LOG.debug("Identifying stranded vehicles...");
-    previousSnapshots.clear();
-    previousSnapshots.putAll(currentSnapshots);
-    currentSnapshots.clear();
+    newlyStrandedVehicles.clear();
+    noLongerStrandedVehicles.clear();
+
+    for (ObjectChangeBuffer.Change<Vehicle> change : vehicleChanges.drain()) {
+      if (change.isRemoval()) {
+        currentSnapshots.remove(change.name());
+        strandedTimers.cancel(change.name());
+      }
+      else {
+        processChange(change.currentState(), currentTime);
+      }
+    }
+
+    if (strandedDurationThreshold != this.strandedDurationThreshold) {
+      applyStrandedDurationThreshold(strandedDurationThreshold, currentTime);
+    }
 
-    objectService.fetch(Vehicle.class)
-        .forEach(vehicle -> {
-          VehicleSnapshot previousSnapshot = previousSnapshots.get(vehicle.getName());
-          VehicleSnapshot currentSnapshot = new VehicleSnapshot(vehicle);
-
-          if (vehicle.getState() != Vehicle.State.IDLE
-              || relevantPropertiesChanged(previousSnapshot, currentSnapshot)) {
-            currentSnapshot.setLastRelevantStateChange(currentTime);
-            currentSnapshot.setStranded(false);
-          }
-          else if (isInStrandedState(vehicle)) {
-            LOG.debug("Checking if vehicle '{}' is stranded long enough...", vehicle);
-            long lastRelevantStateChange = previousSnapshot.getLastRelevantStateChange();
-            currentSnapshot.setLastRelevantStateChange(lastRelevantStateChange);
-
-            long strandedDuration = currentTime - lastRelevantStateChange;
-            currentSnapshot.setStranded(strandedDuration >= strandedDurationThreshold);
-          }
-          else {
-            // The state of the vehicle has not effectively changed. Therefore, apply values from
-            // the previous snapshot.
-            currentSnapshot.setLastRelevantStateChange(
-                previousSnapshot.getLastRelevantStateChange()
-            );
-            currentSnapshot.setStranded(previousSnapshot.isStranded());
-          }
-
-          LOG.debug("Snapshot of vehicle '{}': {}", vehicle.getName(), currentSnapshot);
-          currentSnapshots.put(vehicle.getName(), currentSnapshot);
-        });
+    for (String vehicleName : strandedTimers.advance(currentTime)) {
+      VehicleSnapshot snapshot = currentSnapshots.get(vehicleName);
+      if (snapshot != null && !snapshot.isStranded() && isInStrandedState(snapshot.getVehicle())) {
+        snapshot.setStranded(true);
+        LOG.debug("Vehicle '{}' is stranded: {}", vehicleName, snapshot);
+        newlyStrandedVehicles.add(snapshot);
+      }
+    }
   }
 
   /**
@@ -154,13 +200,7 @@ public class StrandedVehicles
    * @return The set of vehicles that are considered newly stranded.
    */
   public Set<VehicleSnapshot> newlyStrandedVehicles() {
-    return currentSnapshots.values().stream()
-        .filter(
-            vehicleSnapshot -> !previousSnapshots.get(vehicleSnapshot.getVehicle().getName())
-                .isStranded()
-                && vehicleSnapshot.isStranded()
-        )
-        .collect(Collectors.toSet());
+    return new HashSet<>(newlyStrandedVehicles);
   }
 
   /**
@@ -170,13 +210,71 @@ public class StrandedVehicles
    * @return The set of vehicles that are no longer considered stranded.
    */
   public Set<VehicleSnapshot> noLongerStrandedVehicles() {
-    return currentSnapshots.values().stream()
-        .filter(
-            vehicleSnapshot -> previousSnapshots.get(vehicleSnapshot.getVehicle().getName())
-                .isStranded()
-                && !vehicleSnapshot.isStranded()
-        )
-        .collect(Collectors.toSet());
+    return new HashSet<>(noLongerStrandedVehicles);
+  }
+
+  private void processChange(Vehicle vehicle, long currentTime) {
+    VehicleSnapshot previousSnapshot = currentSnapshots.get(vehicle.getName());
+    VehicleSnapshot currentSnapshot = new VehicleSnapshot(vehicle);
+
+    if (previousSnapshot == null
+        || vehicle.getState() != Vehicle.State.IDLE
+        || relevantPropertiesChanged(previousSnapshot, currentSnapshot)) {
+      currentSnapshot.setLastRelevantStateChange(currentTime);
+      currentSnapshot.setStranded(false);
+      if (previousSnapshot != null && previousSnapshot.isStranded()) {
+        noLongerStrandedVehicles.add(currentSnapshot);
+      }
+    }
+    else {
+      // The state of the vehicle has not effectively changed. Therefore, apply values from
+      // the previous snapshot.
+      currentSnapshot.setLastRelevantStateChange(previousSnapshot.getLastRelevantStateChange());
+      currentSnapshot.setStranded(previousSnapshot.isStranded());
+    }
+
+    LOG.debug("Snapshot of vehicle '{}': {}", vehicle.getName(), currentSnapshot);
+    currentSnapshots.put(vehicle.getName(), currentSnapshot);
+    scheduleStranding(currentSnapshot);
+  }
+
+  private void applyStrandedDurationThreshold(long strandedDurationThreshold, long currentTime) {
+    this.strandedDurationThreshold = strandedDurationThreshold;
+
+    for (VehicleSnapshot snapshot : currentSnapshots.values()) {
+      if (!isInStrandedState(snapshot.getVehicle())) {
+        continue;
+      }
+
+      long strandedDuration = currentTime - snapshot.getLastRelevantStateChange();
+      if (strandedDuration < strandedDurationThreshold) {
+        if (snapshot.isStranded()) {
+          snapshot.setStranded(false);
+          noLongerStrandedVehicles.add(snapshot);
+        }
+        scheduleStranding(snapshot);
+      }
+      else if (!snapshot.isStranded()) {
+        snapshot.setStranded(true);
+        LOG.debug("Vehicle '{}' is stranded: {}", snapshot.getVehicle().getName(), snapshot);
+        newlyStrandedVehicles.add(snapshot);
+      }
+    }
+  }
+
+  private void scheduleStranding(VehicleSnapshot snapshot) {
+    Vehicle vehicle = snapshot.getVehicle();
+    if (snapshot.isStranded()
+        || strandedDurationThreshold < 0
+        || !isInStrandedState(vehicle)) {
+      strandedTimers.cancel(vehicle.getName());
+      return;
+    }
+
+    strandedTimers.schedule(
+        vehicle.getName(),
+        snapshot.getLastRelevantStateChange() + strandedDurationThreshold
+    );
   }
 
   private boolean isInStrandedState(Vehicle vehicle) {
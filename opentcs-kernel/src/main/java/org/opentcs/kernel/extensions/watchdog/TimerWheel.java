@@ -0,0 +1,282 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.watchdog;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A hierarchical timer wheel keeping deadlines for keys.
+ * <p>
+ * Time is divided into ticks of a fixed duration. Deadlines are kept in the slots of a number of
+ * wheels with increasing granularity and are moved to finer wheels as time advances. Scheduling
+ * and cancelling a deadline take constant time, and advancing the time only touches the slots of
+ * the ticks that have passed and the deadlines that are due, regardless of the number of deadlines
+ * kept.
+ * </p>
+ * <p>
+ * Deadlines are never reported early, but may be reported up to one tick late.
+ * </p>
+ * <p>
+ * Note that no synchronization is done inside this class.
+ * </p>
+ *
+ * @param <K> The type of the keys.
+ */
+class TimerWheel<K> {
+
+  /**
+   * The number of bits of a tick number addressing a slot in a single wheel.
+   */
+  private static final int SLOT_BITS = 6;
+  /**
+   * The number of slots per wheel.
+   */
+  private static final int SLOT_COUNT = 1 << SLOT_BITS;
+  /**
+   * The number of wheels.
+   */
+  private static final int WHEEL_COUNT = 4;
+  /**
+   * The number of ticks covered by all wheels.
+   */
+  private static final long TICKS_COVERED = 1L << (SLOT_BITS * WHEEL_COUNT);
+  /**
+   * The duration of a tick (in milliseconds).
+   */
+  private final long tickDuration;
+  /**
+   * The slots of all wheels, with the wheel with the finest granularity first.
+   */
+  private final List<List<Set<K>>> wheels = new ArrayList<>(WHEEL_COUNT);
+  /**
+   * The keys whose deadlines are beyond the ticks covered by the wheels.
+   */
+  private final Set<K> overflow = new LinkedHashSet<>();
+  /**
+   * The keys whose deadlines were already due when they were scheduled.
+   */
+  private final Set<K> due = new LinkedHashSet<>();
+  /**
+   * The deadline ticks of all keys with a scheduled deadline.
+   */
+  private final Map<K, Long> deadlineTicks = new HashMap<>();
+  /**
+   * The slots currently containing the keys with a scheduled deadline.
+   */
+  private final Map<K, Set<K>> slotsByKey = new HashMap<>();
+  /**
+   * The last tick that has been processed.
+   */
+  private long currentTick;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param tickDuration The duration of a tick (in milliseconds).
+   * @param currentTime The current time (in milliseconds).
+   */
+  TimerWheel(long tickDuration, long currentTime) {
+    checkArgument(tickDuration > 0, "tickDuration <= 0");
+
+    this.tickDuration = tickDuration;
+    this.currentTick = Math.floorDiv(currentTime, tickDuration);
+    for (int i = 0; i < WHEEL_COUNT; i++) {
+      List<Set<K>> slots = new ArrayList<>(SLOT_COUNT);
+      for (int j = 0; j < SLOT_COUNT; j++) {
+        slots.add(new LinkedHashSet<>());
+      }
+      wheels.add(slots);
+    }
+  }
+
+  /**
+   * Schedules a deadline for the given key, replacing a deadline previously scheduled for it.
+   *
+   * @param key The key.
+   * @param deadline The deadline (in milliseconds).
+   */
+  public void schedule(
+      @Nonnull
+      K key,
+      long deadline
+  ) {
+    requireNonNull(key, "key");
+
+    cancel(key);
+    // Round up so that deadlines are never reported early.
+    long deadlineTick = Math.floorDiv(deadline, tickDuration)
+        + (Math.floorMod(deadline, tickDuration) == 0 ? 0 : 1);
+    deadlineTicks.put(key, deadlineTick);
+    insert(key, deadlineTick);
+  }
+
+  /**
+   * Cancels the deadline scheduled for the given key.
+   *
+   * @param key The key.
+   * @return {@code true} if, and only if, a deadline was scheduled for the given key.
+   */
+  public boolean cancel(
+      @Nonnull
+      K key
+  ) {
+    requireNonNull(key, "key");
+
+    if (deadlineTicks.remove(key) == null) {
+      return false;
+    }
+    slotsByKey.remove(key).remove(key);
+    return true;
+  }
+
+  /**
+   * Checks whether a deadline is scheduled for the given key.
+   *
+   * @param key The key.
+   * @return {@code true} if, and only if, a deadline is scheduled for the given key.
+   */
+  public boolean isScheduled(
+      @Nonnull
+      K key
+  ) {
+    return deadlineTicks.containsKey(key);
+  }
+
+  /**
+   * Returns the number of scheduled deadlines.
+   *
+   * @return The number of scheduled deadlines.
+   */
+  public int size() {
+    return deadlineTicks.size();
+  }
+
+  /**
+   * Removes all scheduled deadlines.
+   */
+  public void clear() {
+    wheels.forEach(slots -> slots.forEach(Set::clear));
+    overflow.clear();
+    due.clear();
+    deadlineTicks.clear();
+    slotsByKey.clear();
+  }
+
+  /**
+   * Advances the time to the given one and returns the keys whose deadlines have been reached.
+   * <p>
+   * The deadlines of the returned keys are removed.
+   * </p>
+   *
+   * @param currentTime The current time (in milliseconds).
+   * @return The keys whose deadlines have been reached, in no particular order.
+   */
+  @Nonnull
+  public List<K> advance(long currentTime) {
+    long targetTick = Math.floorDiv(currentTime, tickDuration);
+    List<K> result = new ArrayList<>();
+    drain(due, result);
+
+    if (targetTick <= currentTick) {
+      return result;
+    }
+
+    if (targetTick - currentTick > deadlineTicks.size()) {
+      // Stepping through all ticks would take longer than simply rebuilding the wheels.
+      rebuild(targetTick, result);
+      return result;
+    }
+
+    while (currentTick < targetTick) {
+      currentTick++;
+      // Cascade the coarser wheels first, as their deadlines may have to be cascaded further.
+      for (int wheel = WHEEL_COUNT - 1; wheel > 0; wheel--) {
+        if (currentTick % (1L << (SLOT_BITS * wheel)) == 0) {
+          if (wheel == WHEEL_COUNT - 1) {
+            reinsert(overflow, result);
+          }
+          reinsert(wheels.get(wheel).get(slotIndex(currentTick, wheel)), result);
+        }
+      }
+      drain(wheels.get(0).get(slotIndex(currentTick, 0)), result);
+    }
+    return result;
+  }
+
+  private void rebuild(long targetTick, List<K> result) {
+    wheels.forEach(slots -> slots.forEach(Set::clear));
+    overflow.clear();
+    slotsByKey.clear();
+    currentTick = targetTick;
+
+    List<K> keys = new ArrayList<>(deadlineTicks.keySet());
+    for (K key : keys) {
+      long deadlineTick = deadlineTicks.get(key);
+      if (deadlineTick <= currentTick) {
+        deadlineTicks.remove(key);
+        result.add(key);
+      }
+      else {
+        insert(key, deadlineTick);
+      }
+    }
+  }
+
+  private void reinsert(Set<K> slot, List<K> result) {
+    List<K> keys = new ArrayList<>(slot);
+    slot.clear();
+    for (K key : keys) {
+      long deadlineTick = deadlineTicks.get(key);
+      if (deadlineTick <= currentTick) {
+        deadlineTicks.remove(key);
+        slotsByKey.remove(key);
+        result.add(key);
+      }
+      else {
+        insert(key, deadlineTick);
+      }
+    }
+  }
+
+  private void drain(Set<K> slot, List<K> result) {
+    for (K key : slot) {
+      deadlineTicks.remove(key);
+      slotsByKey.remove(key);
+      result.add(key);
+    }
+    slot.clear();
+  }
+
+  private void insert(K key, long deadlineTick) {
+    long delta = deadlineTick - currentTick;
+    Set<K> slot;
+    if (delta <= 0) {
+      slot = due;
+    }
+    else if (delta >= TICKS_COVERED) {
+      slot = overflow;
+    }
+    else {
+      int wheel = 0;
+      while (delta >= (1L << (SLOT_BITS * (wheel + 1)))) {
+        wheel++;
+      }
+      slot = wheels.get(wheel).get(slotIndex(deadlineTick, wheel));
+    }
+    slot.add(key);
+    slotsByKey.put(key, slot);
+  }
+
+  private int slotIndex(long tick, int wheel) {
+    return (int) ((tick >> (SLOT_BITS * wheel)) & (SLOT_COUNT - 1));
+  }
+}
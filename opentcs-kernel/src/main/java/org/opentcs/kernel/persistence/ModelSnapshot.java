@@ -0,0 +1,247 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.persistence;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Optional;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A binary snapshot of a model file's content.
+ * <p>
+ * A snapshot contains the checksum of the model file it was created for, followed by the
+ * serialized {@link PlantModelCreationTO}. Reading a snapshot is considerably faster than parsing
+ * the model file, but the snapshot may only be used as long as the model file's checksum still
+ * matches the one recorded in it.
+ * </p>
+ */
+class ModelSnapshot {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(ModelSnapshot.class);
+  /**
+   * The magic number at the beginning of every snapshot file.
+   */
+  private static final int MAGIC_NUMBER = 0x6f54_4353;
+  /**
+   * The version of the snapshot file format.
+   */
+  private static final int FORMAT_VERSION = 1;
+  /**
+   * The algorithm used for computing model file checksums.
+   */
+  private static final String CHECKSUM_ALGORITHM = "SHA-256";
+  /**
+   * The size of the buffer used for computing checksums.
+   */
+  private static final int BUFFER_SIZE = 64 * 1024;
+  /**
+   * Restricts deserialization to the classes a {@link PlantModelCreationTO} consists of, i.e. the
+   * creation transfer objects, the JDK classes used for their attributes and the collection
+   * classes used for holding them, and limits the graph's depth and the length of arrays in it.
+   */
+  private static final ObjectInputFilter DESERIALIZATION_FILTER
+      = ObjectInputFilter.Config.createFilter(
+          String.join(
+              ";",
+              "maxdepth=32",
+              "maxarray=10000000",
+              "org.opentcs.access.to.CreationTO",
+              "org.opentcs.access.to.model.*",
+              "org.opentcs.access.to.peripherals.PeripheralOperationCreationTO",
+              "org.opentcs.access.to.peripherals.PeripheralOperationCreationTO$*",
+              "java.lang.Object",
+              "java.lang.Enum",
+              "java.lang.Number",
+              "java.lang.Boolean",
+              "java.lang.Integer",
+              "java.lang.Long",
+              "java.lang.Double",
+              "java.lang.String",
+              "java.awt.Color",
+              "java.util.ArrayList",
+              "java.util.Arrays$ArrayList",
+              "java.util.LinkedList",
+              "java.util.HashMap",
+              "java.util.Map$Entry",
+              "java.util.LinkedHashMap",
+              "java.util.TreeMap",
+              "java.util.HashSet",
+              "java.util.LinkedHashSet",
+              "java.util.TreeSet",
+              "java.util.CollSer",
+              "java.util.ImmutableCollections$*",
+              "java.util.Collections$Empty*",
+              "java.util.Collections$Singleton*",
+              "java.util.Collections$Unmodifiable*",
+              "!*"
+          )
+      );
+  /**
+   * The snapshot file.
+   */
+  private final File snapshotFile;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param snapshotFile The snapshot file.
+   */
+  ModelSnapshot(
+      @Nonnull
+      File snapshotFile
+  ) {
+    this.snapshotFile = requireNonNull(snapshotFile, "snapshotFile");
+  }
+
+  /**
+   * Reads the model from the snapshot file, provided the snapshot was created for a model file
+   * with the given checksum.
+   *
+   * @param checksum The checksum of the model file.
+   * @return The model, or {@link Optional#empty()}, if there is no snapshot file, the snapshot
+   * was created for a different model file or could not be read.
+   */
+  @Nonnull
+  Optional<PlantModelCreationTO> read(
+      @Nonnull
+      byte[] checksum
+  ) {
+    requireNonNull(checksum, "checksum");
+
+    if (!snapshotFile.isFile()) {
+      return Optional.empty();
+    }
+
+    try (DataInputStream input = new DataInputStream(
+        new BufferedInputStream(new FileInputStream(snapshotFile))
+    )) {
+      if (input.readInt() != MAGIC_NUMBER || input.readInt() != FORMAT_VERSION) {
+        LOG.info("Ignoring model snapshot {} with unknown format.", snapshotFile);
+        return Optional.empty();
+      }
+      byte[] snapshotChecksum = new byte[input.readInt()];
+      input.readFully(snapshotChecksum);
+      if (!Arrays.equals(snapshotChecksum, checksum)) {
+        LOG.info("Ignoring model snapshot {} not matching the model file.", snapshotFile);
+        return Optional.empty();
+      }
+
+      ObjectInputStream objectInput = new ObjectInputStream(input);
+      objectInput.setObjectInputFilter(DESERIALIZATION_FILTER);
+      return Optional.of((PlantModelCreationTO) objectInput.readObject());
+    }
+    catch (IOException | ClassNotFoundException | ClassCastException exc) {
+      LOG.warn("Exception reading model snapshot {}, ignoring it.", snapshotFile, exc);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Writes the given model to the snapshot file.
+   * <p>
+   * The snapshot is written to a temporary file first, which then replaces the snapshot file, so
+   * an incomplete snapshot is never used.
+   * </p>
+   *
+   * @param model The model.
+   * @param checksum The checksum of the model file the model was saved to or read from.
+   * @throws IOException If there was an error writing the snapshot file.
+   */
+  void write(
+      @Nonnull
+      PlantModelCreationTO model,
+      @Nonnull
+      byte[] checksum
+  )
+      throws IOException {
+    requireNonNull(model, "model");
+    requireNonNull(checksum, "checksum");
+
+    File tempFile = new File(snapshotFile.getParentFile(), snapshotFile.getName() + ".tmp");
+    try (DataOutputStream output = new DataOutputStream(
+        new BufferedOutputStream(new FileOutputStream(tempFile))
+    )) {
+      output.writeInt(MAGIC_NUMBER);
+      output.writeInt(FORMAT_VERSION);
+      output.writeInt(checksum.length);
+      output.write(checksum);
+
+      ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+      objectOutput.writeObject(model);
+      objectOutput.flush();
+    }
+    Files.move(
+        tempFile.toPath(),
+        snapshotFile.toPath(),
+        StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE
+    );
+  }
+
+  /**
+   * Deletes the snapshot file, if it exists.
+   *
+   * @throws IOException If there was an error deleting the snapshot file.
+   */
+  void delete()
+      throws IOException {
+    Files.deleteIfExists(snapshotFile.toPath());
+  }
+
+  /**
+   * Computes the checksum of the given model file.
+   *
+   * @param modelFile The model file.
+   * @return The checksum.
+   * @throws IOException If there was an error reading the model file.
+   */
+  @Nonnull
+  static byte[] checksum(
+      @Nonnull
+      File modelFile
+  )
+      throws IOException {
+    requireNonNull(modelFile, "modelFile");
+
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+    }
+    catch (NoSuchAlgorithmException exc) {
+      throw new IOException("Checksum algorithm not available: " + CHECKSUM_ALGORITHM, exc);
+    }
+
+    try (InputStream input = new FileInputStream(modelFile)) {
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int bytesRead;
+      while ((bytesRead = input.read(buffer)) != -1) {
+        digest.update(buffer, 0, bytesRead);
+      }
+    }
+    return digest.digest();
+  }
+}
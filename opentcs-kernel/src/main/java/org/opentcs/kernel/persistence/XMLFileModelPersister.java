@@ -11,8 +11,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.Optional;
 import org.opentcs.access.to.model.PlantModelCreationTO;
 import org.opentcs.customizations.ApplicationHome;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.util.persistence.ModelParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +34,10 @@ public class XMLFileModelPersister
    * The name of the model file in the model directory.
    */
   private static final String MODEL_FILE_NAME = "model.xml";
+  /**
+   * The name of the model snapshot file in the model directory.
+   */
+  private static final String SNAPSHOT_FILE_NAME = "model.bin";
   /**
    * The directory path for the persisted model.
    */
@@ -44,23 +50,35 @@ public class XMLFileModelPersister
    * Reads and writes models into xml files.
    */
   private final ModelParser modelParser;
+  /**
+   * The binary snapshot of the model file.
+   */
+  private final ModelSnapshot modelSnapshot;
+  /**
+   * The kernel application's configuration.
+   */
+  private final KernelApplicationConfiguration configuration;
 
   /**
    * Creates a new XMLFileModelPersister.
    *
    * @param directory The application's home directory.
    * @param modelParser Reads and writes into the xml file.
+   * @param configuration The kernel application's configuration.
    */
   @Inject
   public XMLFileModelPersister(
       @ApplicationHome
       File directory,
-      ModelParser modelParser
+      ModelParser modelParser,
+      KernelApplicationConfiguration configuration
   ) {
     this.modelParser = requireNonNull(modelParser, "modelParser");
     this.dataDirectory = new File(requireNonNull(directory, "directory"), "data");
+    this.configuration = requireNonNull(configuration, "configuration");
 
     this.modelFile = new File(dataDirectory, MODEL_FILE_NAME);
+    this.modelSnapshot = new ModelSnapshot(new File(dataDirectory, SNAPSHOT_FILE_NAME));
   }
 
   @Override
@@ -91,6 +109,10 @@ public class XMLFileModelPersister
     catch (IOException exc) {
       throw new IllegalStateException("Exception saving model", exc);
     }
+
+    if (configuration.useModelSnapshot()) {
+      writeSnapshot(model);
+    }
   }
 
   @Override
@@ -101,8 +123,28 @@ public class XMLFileModelPersister
       return new PlantModelCreationTO("empty model");
     }
 
-    // Read the model from the file.
-    return readXMLModel(modelFile);
+    if (!configuration.useModelSnapshot()) {
+      return readXMLModel(modelFile);
+    }
+
+    // Prefer the snapshot, as long as it still matches the model file.
+    byte[] checksum;
+    try {
+      checksum = ModelSnapshot.checksum(modelFile);
+    }
+    catch (IOException exc) {
+      LOG.error("Exception computing model file checksum", exc);
+      throw new IllegalStateException("Exception computing model file checksum", exc);
+    }
+    Optional<PlantModelCreationTO> snapshotModel = modelSnapshot.read(checksum);
+    if (snapshotModel.isPresent()) {
+      LOG.debug("Read model '{}' from snapshot.", snapshotModel.get().getName());
+      return snapshotModel.get();
+    }
+
+    PlantModelCreationTO model = readXMLModel(modelFile);
+    writeSnapshot(model, checksum);
+    return model;
   }
 
   @Override
@@ -149,6 +191,46 @@ public class XMLFileModelPersister
     );
   }
 
+  /**
+   * Writes a snapshot of the given model, which has just been saved to the model file.
+   *
+   * @param model The model.
+   */
+  private void writeSnapshot(PlantModelCreationTO model) {
+    try {
+      writeSnapshot(model, ModelSnapshot.checksum(modelFile));
+    }
+    catch (IOException exc) {
+      LOG.warn("Exception computing model file checksum, not writing a model snapshot.", exc);
+    }
+  }
+
+  /**
+   * Writes a snapshot of the given model, which is the content of the model file with the given
+   * checksum.
+   * <p>
+   * As the snapshot only serves to speed up reading the model, failing to write it is not
+   * considered an error. Any outdated snapshot is discarded in that case, though.
+   * </p>
+   *
+   * @param model The model.
+   * @param checksum The model file's checksum.
+   */
+  private void writeSnapshot(PlantModelCreationTO model, byte[] checksum) {
+    try {
+      modelSnapshot.write(model, checksum);
+    }
+    catch (IOException exc) {
+      LOG.warn("Exception writing model snapshot, discarding it.", exc);
+      try {
+        modelSnapshot.delete();
+      }
+      catch (IOException deleteExc) {
+        LOG.warn("Exception deleting model snapshot", deleteExc);
+      }
+    }
+  }
+
   /**
    * Test if the data directory with a model file exist. If not, throw an
    * exception.
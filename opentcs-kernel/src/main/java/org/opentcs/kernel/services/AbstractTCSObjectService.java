@@ -48,6 +48,20 @@ public abstract class AbstractTCSObjectService
     return getObjectService().stream(clazz);
   }
 
+  @Override
+  public <T extends TCSObject<T>> Stream<T> stream(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      Predicate<? super T> predicate
+  )
+      throws KernelRuntimeException {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(predicate, "predicate");
+
+    return getObjectService().stream(clazz, predicate);
+  }
+
   @Override
   public <T extends TCSObject<T>> Optional<T> fetch(Class<T> clazz, TCSObjectReference<T> ref)
       throws CredentialsException {
@@ -14,6 +14,7 @@ import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.ReroutingType;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.DispatchRequestCoalescer;
 import org.opentcs.kernel.workingset.TCSObjectRepository;
 
 /**
@@ -35,6 +36,10 @@ public class StandardDispatcherService
    * The dispatcher.
    */
   private final Dispatcher dispatcher;
+  /**
+   * Collapses requests for dispatch runs.
+   */
+  private final DispatchRequestCoalescer dispatchRequestCoalescer;
 
   /**
    * Creates a new instance.
@@ -42,17 +47,23 @@ public class StandardDispatcherService
    * @param globalSyncObject The kernel threads' global synchronization object.
    * @param objectRepo The object repo to be used.
    * @param dispatcher The dispatcher.
+   * @param dispatchRequestCoalescer Collapses requests for dispatch runs.
    */
   @Inject
   public StandardDispatcherService(
       @GlobalSyncObject
       Object globalSyncObject,
       TCSObjectRepository objectRepo,
-      Dispatcher dispatcher
+      Dispatcher dispatcher,
+      DispatchRequestCoalescer dispatchRequestCoalescer
   ) {
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
     this.objectRepo = requireNonNull(objectRepo, "objectRepo");
     this.dispatcher = requireNonNull(dispatcher, "dispatcher");
+    this.dispatchRequestCoalescer = requireNonNull(
+        dispatchRequestCoalescer,
+        "dispatchRequestCoalescer"
+    );
   }
 
   @Override
@@ -62,6 +73,11 @@ public class StandardDispatcherService
     }
   }
 
+  @Override
+  public void requestDispatch() {
+    dispatchRequestCoalescer.requestDispatch();
+  }
+
   @Override
   public void withdrawByVehicle(TCSObjectReference<Vehicle> ref, boolean immediateAbort)
       throws ObjectUnknownException {
@@ -13,6 +13,7 @@ import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.LocalKernel;
 import org.opentcs.access.ModelTransitionEvent;
 import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.components.kernel.services.BlockIndex;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.components.kernel.services.NotificationService;
@@ -113,6 +114,13 @@ public class StandardPlantModelService
     }
   }
 
+  @Override
+  public BlockIndex getBlockIndex() {
+    synchronized (globalSyncObject) {
+      return plantModelManager.getBlockIndex();
+    }
+  }
+
   @Override
   public void loadPlantModel()
       throws IllegalStateException {
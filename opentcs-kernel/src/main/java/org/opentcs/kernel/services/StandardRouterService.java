@@ -21,6 +21,7 @@ import org.opentcs.data.model.Point;
 import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.Route;
+import org.opentcs.kernel.DispatchRequestCoalescer;
 import org.opentcs.kernel.workingset.PlantModelManager;
 
 /**
@@ -46,6 +47,10 @@ public class StandardRouterService
    * The object service.
    */
   private final TCSObjectService objectService;
+  /**
+   * Collapses requests for dispatch runs.
+   */
+  private final DispatchRequestCoalescer dispatchRequestCoalescer;
 
   /**
    * Creates a new instance.
@@ -54,6 +59,7 @@ public class StandardRouterService
    * @param router The scheduler.
    * @param plantModelManager The plant model manager to be used.
    * @param objectService The object service.
+   * @param dispatchRequestCoalescer Collapses requests for dispatch runs.
    */
   @Inject
   public StandardRouterService(
@@ -61,12 +67,17 @@ public class StandardRouterService
       Object globalSyncObject,
       Router router,
       PlantModelManager plantModelManager,
-      TCSObjectService objectService
+      TCSObjectService objectService,
+      DispatchRequestCoalescer dispatchRequestCoalescer
   ) {
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
     this.router = requireNonNull(router, "router");
     this.plantModelManager = requireNonNull(plantModelManager, "plantModelManager");
     this.objectService = requireNonNull(objectService, "objectService");
+    this.dispatchRequestCoalescer = requireNonNull(
+        dispatchRequestCoalescer,
+        "dispatchRequestCoalescer"
+    );
   }
 
   @Override
@@ -79,6 +90,8 @@ public class StandardRouterService
               .collect(Collectors.toSet())
       );
     }
+    // Transport orders may be routable (or routed differently) with the updated topology.
+    dispatchRequestCoalescer.requestDispatch();
   }
 
   @Override
@@ -95,33 +108,82 @@ public class StandardRouterService
     requireNonNull(destinationPointRefs, "destinationPointRefs");
     requireNonNull(resourcesToAvoid, "resourcesToAvoid");
 
-    synchronized (globalSyncObject) {
-      Map<TCSObjectReference<Point>, Set<Route>> result = new HashMap<>();
-      Vehicle vehicle = objectService.fetch(Vehicle.class, vehicleRef).orElse(null);
-      if (vehicle == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + vehicleRef.getName());
+    if (!router.isThreadSafe()) {
+      synchronized (globalSyncObject) {
+        return computeRoutes(
+            resolveRouteQuery(vehicleRef, sourcePointRef, destinationPointRefs),
+            resourcesToAvoid,
+            maxRoutesPerDestinationPoint
+        );
       }
-      Point sourcePoint = objectService.fetch(Point.class, sourcePointRef).orElse(null);
-      if (sourcePoint == null) {
-        throw new ObjectUnknownException("Unknown source point: " + sourcePointRef.getName());
+    }
+
+    // The router serves route queries concurrently, so only resolve the referenced objects while
+    // holding the global lock and compute the routes without it.
+    RouteQuery query;
+    synchronized (globalSyncObject) {
+      query = resolveRouteQuery(vehicleRef, sourcePointRef, destinationPointRefs);
+    }
+    return computeRoutes(query, resourcesToAvoid, maxRoutesPerDestinationPoint);
+  }
+
+  private RouteQuery resolveRouteQuery(
+      TCSObjectReference<Vehicle> vehicleRef,
+      TCSObjectReference<Point> sourcePointRef,
+      Set<TCSObjectReference<Point>> destinationPointRefs
+  )
+      throws ObjectUnknownException {
+    Vehicle vehicle = objectService.fetch(Vehicle.class, vehicleRef).orElse(null);
+    if (vehicle == null) {
+      throw new ObjectUnknownException("Unknown vehicle: " + vehicleRef.getName());
+    }
+    Point sourcePoint = objectService.fetch(Point.class, sourcePointRef).orElse(null);
+    if (sourcePoint == null) {
+      throw new ObjectUnknownException("Unknown source point: " + sourcePointRef.getName());
+    }
+    Map<TCSObjectReference<Point>, Point> destinationPoints = new HashMap<>();
+    for (TCSObjectReference<Point> dest : destinationPointRefs) {
+      Point destinationPoint = objectService.fetch(Point.class, dest).orElse(null);
+      if (destinationPoint == null) {
+        throw new ObjectUnknownException("Unknown destination point: " + dest.getName());
       }
-      for (TCSObjectReference<Point> dest : destinationPointRefs) {
-        Point destinationPoint = objectService.fetch(Point.class, dest).orElse(null);
-        if (destinationPoint == null) {
-          throw new ObjectUnknownException("Unknown destination point: " + dest.getName());
-        }
-        result.put(
+      destinationPoints.put(dest, destinationPoint);
+    }
+    return new RouteQuery(vehicle, sourcePoint, destinationPoints);
+  }
+
+  private Map<TCSObjectReference<Point>, Set<Route>> computeRoutes(
+      RouteQuery query,
+      Set<TCSResourceReference<?>> resourcesToAvoid,
+      int maxRoutesPerDestinationPoint
+  ) {
+    Map<TCSObjectReference<Point>, Set<Route>> result = new HashMap<>();
+    query.destinationPoints().forEach(
+        (dest, destinationPoint) -> result.put(
             dest,
             router.getRoutes(
-                vehicle,
-                sourcePoint,
+                query.vehicle(),
+                query.sourcePoint(),
                 destinationPoint,
                 resourcesToAvoid,
                 maxRoutesPerDestinationPoint
             )
-        );
-      }
-      return result;
-    }
+        )
+    );
+    return result;
+  }
+
+  /**
+   * The objects referenced by a route query.
+   *
+   * @param vehicle The vehicle.
+   * @param sourcePoint The source point.
+   * @param destinationPoints The destination points, mapped by their references.
+   */
+  private record RouteQuery(
+      Vehicle vehicle,
+      Point sourcePoint,
+      Map<TCSObjectReference<Point>, Point> destinationPoints
+  ) {
   }
 }
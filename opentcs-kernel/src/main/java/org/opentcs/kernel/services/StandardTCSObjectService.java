@@ -62,6 +62,22 @@ public class StandardTCSObjectService
     }
   }
 
+  @Override
+  public <T extends TCSObject<T>> Stream<T> stream(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      Predicate<? super T> predicate
+  )
+      throws KernelRuntimeException {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(predicate, "predicate");
+
+    synchronized (getGlobalSyncObject()) {
+      return getObjectRepo().streamObjects(clazz, predicate);
+    }
+  }
+
   @Override
   public <T extends TCSObject<T>> Optional<T> fetch(Class<T> clazz, TCSObjectReference<T> ref) {
     requireNonNull(clazz, "clazz");
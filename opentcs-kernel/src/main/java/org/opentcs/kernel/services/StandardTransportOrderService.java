@@ -210,6 +210,28 @@ public class StandardTransportOrderService
     }
   }
 
+  @Override
+  public List<OrderSequence> createOrderSequences(List<OrderSequenceCreationTO> tos)
+      throws ObjectUnknownException,
+        ObjectExistsException {
+    requireNonNull(tos, "tos");
+
+    synchronized (globalSyncObject) {
+      return orderPoolManager.createOrderSequences(tos);
+    }
+  }
+
+  @Override
+  public List<TransportOrder> createTransportOrders(List<TransportOrderCreationTO> tos)
+      throws ObjectUnknownException,
+        ObjectExistsException {
+    requireNonNull(tos, "tos");
+
+    synchronized (globalSyncObject) {
+      return orderPoolManager.createTransportOrders(tos);
+    }
+  }
+
   @Override
   public void markOrderSequenceComplete(TCSObjectReference<OrderSequence> ref)
       throws ObjectUnknownException {
@@ -5,8 +5,9 @@ package org.opentcs.kernel.workingset;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
-import java.util.Objects;
+import java.util.Set;
 import org.opentcs.components.kernel.TransportOrderCleanupApproval;
+import org.opentcs.components.kernel.services.IndexedPredicate;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 
@@ -52,36 +53,29 @@ public class DefaultTransportOrderCleanupApproval
     if (!order.getState().isFinalState()) {
       return false;
     }
-    if (isRelatedToJobWithNonFinalState(order)) {
+    if (order.getCreationTime().isAfter(creationTimeThreshold.getCurrentThreshold())) {
       return false;
     }
-    if (isRelatedToUnapprovedJob(order)) {
+    Set<PeripheralJob> relatedJobs = peripheralJobPoolManager.getObjectRepo().getObjects(
+        PeripheralJob.class,
+        IndexedPredicate.peripheralJobWithRelatedTransportOrder(order.getReference())
+    );
+    if (isRelatedToJobWithNonFinalState(relatedJobs)) {
       return false;
     }
-    if (order.getCreationTime().isAfter(creationTimeThreshold.getCurrentThreshold())) {
+    if (isRelatedToUnapprovedJob(relatedJobs)) {
       return false;
     }
     return true;
   }
 
-  private boolean isRelatedToJobWithNonFinalState(TransportOrder order) {
-    return peripheralJobPoolManager.getObjectRepo()
-        .getObjects(
-            PeripheralJob.class,
-            job -> Objects.equals(job.getRelatedTransportOrder(), order.getReference())
-        )
-        .stream()
-        .filter(job -> !job.getState().isFinalState())
-        .findAny()
-        .isPresent();
+  private boolean isRelatedToJobWithNonFinalState(Set<PeripheralJob> relatedJobs) {
+    return relatedJobs.stream()
+        .anyMatch(job -> !job.getState().isFinalState());
   }
 
-  private boolean isRelatedToUnapprovedJob(TransportOrder order) {
-    return !(peripheralJobPoolManager.getObjectRepo().getObjects(
-        PeripheralJob.class,
-        job -> Objects.equals(job.getRelatedTransportOrder(), order.getReference())
-    )
-        .stream()
-        .allMatch(defaultPeripheralJobCleanupApproval));
+  private boolean isRelatedToUnapprovedJob(Set<PeripheralJob> relatedJobs) {
+    return !relatedJobs.stream()
+        .allMatch(defaultPeripheralJobCleanupApproval);
   }
 }
@@ -0,0 +1,151 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+
+/**
+ * An index of transport orders, order sequences and peripheral jobs that are finished, i.e. that
+ * will not be processed any more, ordered by the points of time at which they were finished.
+ * <p>
+ * Transport orders and peripheral jobs are considered finished when they are in a final state.
+ * Order sequences are considered finished when they are marked as finished.
+ * </p>
+ */
+class FinishedObjectIndex {
+
+  /**
+   * The indexed objects, mapped by their keys, grouped by their classes.
+   */
+  private final Map<Class<?>, NavigableMap<Key, TCSObject<?>>> objectsByClass = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   */
+  FinishedObjectIndex() {
+  }
+
+  /**
+   * Adds the given object to this index, if it is finished.
+   *
+   * @param object The object.
+   */
+  public void add(
+      @Nonnull
+      TCSObject<?> object
+  ) {
+    Key key = keyOf(object);
+    if (key == null) {
+      return;
+    }
+    objectsByClass.computeIfAbsent(object.getClass(), clazz -> new TreeMap<>())
+        .put(key, object);
+  }
+
+  /**
+   * Removes the given object from this index.
+   *
+   * @param object The object.
+   */
+  public void remove(
+      @Nonnull
+      TCSObject<?> object
+  ) {
+    Key key = keyOf(object);
+    if (key == null) {
+      return;
+    }
+    NavigableMap<Key, TCSObject<?>> objects = objectsByClass.get(object.getClass());
+    if (objects != null) {
+      objects.remove(key);
+    }
+  }
+
+  /**
+   * Updates this index for an object that has been replaced.
+   *
+   * @param oldObject The replaced object.
+   * @param newObject The replacing object.
+   */
+  public void replace(
+      @Nonnull
+      TCSObject<?> oldObject,
+      @Nonnull
+      TCSObject<?> newObject
+  ) {
+    remove(oldObject);
+    add(newObject);
+  }
+
+  /**
+   * Returns a stream of the finished objects of the given class, in the order in which they were
+   * finished.
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects.
+   * @return A stream of the finished objects of the given class.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> Stream<T> streamObjects(
+      @Nonnull
+      Class<T> clazz
+  ) {
+    requireNonNull(clazz, "clazz");
+
+    NavigableMap<Key, TCSObject<?>> objects = objectsByClass.get(clazz);
+    return objects == null ? Stream.empty() : objects.values().stream().map(clazz::cast);
+  }
+
+  @Nullable
+  private static Key keyOf(TCSObject<?> object) {
+    if (object instanceof TransportOrder order) {
+      return order.getState().isFinalState()
+          ? new Key(order.getFinishedTime(), order.getName())
+          : null;
+    }
+    if (object instanceof PeripheralJob job) {
+      return job.getState().isFinalState()
+          ? new Key(job.getFinishedTime(), job.getName())
+          : null;
+    }
+    if (object instanceof OrderSequence sequence) {
+      return sequence.isFinished()
+          ? new Key(sequence.getFinishedTime(), sequence.getName())
+          : null;
+    }
+    return null;
+  }
+
+  /**
+   * The key of an indexed object.
+   *
+   * @param finishedTime The point of time at which the object was finished.
+   * @param name The object's name.
+   */
+  private record Key(Instant finishedTime, String name)
+      implements
+        Comparable<Key> {
+
+    private static final Comparator<Key> COMPARATOR = Comparator.comparing(Key::finishedTime)
+        .thenComparing(Key::name);
+
+    @Override
+    public int compareTo(Key other) {
+      return COMPARATOR.compare(this, other);
+    }
+  }
+}
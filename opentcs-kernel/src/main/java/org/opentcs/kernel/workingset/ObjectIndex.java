@@ -0,0 +1,144 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.opentcs.components.kernel.services.IndexedPredicate;
+import org.opentcs.data.TCSObject;
+
+/**
+ * A secondary index mapping the values of an indexed attribute to the objects having them.
+ * <p>
+ * Objects for which the attribute's value is {@code null} are not indexed.
+ * </p>
+ */
+class ObjectIndex {
+
+  /**
+   * The indexed attribute.
+   */
+  private final IndexedPredicate.Attribute attribute;
+  /**
+   * The indexed objects, mapped by their names, grouped by their attribute values.
+   */
+  private final Map<Object, Map<String, TCSObject<?>>> objectsByKey = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param attribute The indexed attribute.
+   */
+  ObjectIndex(
+      @Nonnull
+      IndexedPredicate.Attribute attribute
+  ) {
+    this.attribute = requireNonNull(attribute, "attribute");
+  }
+
+  /**
+   * Returns the indexed attribute.
+   *
+   * @return The indexed attribute.
+   */
+  @Nonnull
+  public IndexedPredicate.Attribute getAttribute() {
+    return attribute;
+  }
+
+  /**
+   * Checks whether this index covers objects of the given class.
+   *
+   * @param clazz The class.
+   * @return {@code true} if, and only if, this index covers objects of the given class.
+   */
+  public boolean covers(
+      @Nonnull
+      Class<?> clazz
+  ) {
+    return attribute.getObjectClass() == clazz;
+  }
+
+  /**
+   * Adds the given object to this index.
+   *
+   * @param object The object.
+   */
+  public void add(
+      @Nonnull
+      TCSObject<?> object
+  ) {
+    Object key = attribute.extractKey(object);
+    if (key == null) {
+      return;
+    }
+    objectsByKey.computeIfAbsent(key, k -> new HashMap<>()).put(object.getName(), object);
+  }
+
+  /**
+   * Removes the given object from this index.
+   *
+   * @param object The object.
+   */
+  public void remove(
+      @Nonnull
+      TCSObject<?> object
+  ) {
+    Object key = attribute.extractKey(object);
+    if (key == null) {
+      return;
+    }
+    Map<String, TCSObject<?>> objectsByName = objectsByKey.get(key);
+    if (objectsByName == null) {
+      return;
+    }
+    objectsByName.remove(object.getName());
+    if (objectsByName.isEmpty()) {
+      objectsByKey.remove(key);
+    }
+  }
+
+  /**
+   * Updates this index for an object that has been replaced.
+   *
+   * @param oldObject The replaced object.
+   * @param newObject The replacing object.
+   */
+  public void replace(
+      @Nonnull
+      TCSObject<?> oldObject,
+      @Nonnull
+      TCSObject<?> newObject
+  ) {
+    if (Objects.equals(attribute.extractKey(oldObject), attribute.extractKey(newObject))) {
+      Object key = attribute.extractKey(newObject);
+      if (key != null) {
+        objectsByKey.get(key).put(newObject.getName(), newObject);
+      }
+      return;
+    }
+    remove(oldObject);
+    add(newObject);
+  }
+
+  /**
+   * Returns the objects with the given attribute value.
+   *
+   * @param key The attribute value.
+   * @return The objects with the given attribute value.
+   */
+  @Nonnull
+  public Collection<TCSObject<?>> getObjects(
+      @Nonnull
+      Object key
+  ) {
+    Map<String, TCSObject<?>> objectsByName = objectsByKey.get(key);
+    return objectsByName == null ? List.of() : objectsByName.values();
+  }
+}
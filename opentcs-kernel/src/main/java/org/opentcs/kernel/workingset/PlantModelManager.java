@@ -34,6 +34,7 @@ import org.opentcs.access.to.model.TripleCreationTO;
 import org.opentcs.access.to.model.VehicleCreationTO;
 import org.opentcs.access.to.model.VisualLayoutCreationTO;
 import org.opentcs.access.to.peripherals.PeripheralOperationCreationTO;
+import org.opentcs.components.kernel.services.BlockIndex;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
@@ -240,6 +241,9 @@ public class PlantModelManager
     }
 
     createVisualLayout(to.getVisualLayout());
+
+    // Build the block index right away instead of with the first resource allocation.
+    getBlockIndex();
   }
 
   /**
@@ -1059,7 +1063,7 @@ public class PlantModelManager
       throws ObjectUnknownException {
     requireNonNull(resources, "resources");
 
-    Set<Block> blocks = getObjectRepo().getObjects(Block.class);
+    BlockIndex blockIndex = getBlockIndex();
 
     // First, collect the given references plus references to all members of blocks that contain the
     // given references in a set.
@@ -1069,10 +1073,9 @@ public class PlantModelManager
     for (TCSResourceReference<?> resourceRef : resources) {
       refsToLookUp.add(resourceRef);
 
-      blocks.stream()
-          .filter(block -> block.getMembers().contains(resourceRef))
-          .flatMap(block -> block.getMembers().stream())
-          .forEach(memberRef -> refsToLookUp.add(memberRef));
+      for (Block block : blockIndex.getBlocksContaining(resourceRef)) {
+        refsToLookUp.addAll(block.getMembers());
+      }
     }
 
     // Look up and return the actual resources.
@@ -1081,6 +1084,16 @@ public class PlantModelManager
         .collect(Collectors.toSet());
   }
 
+  /**
+   * Returns an index mapping resources to the blocks they are members of.
+   *
+   * @return An index mapping resources to the blocks they are members of.
+   */
+  @Nonnull
+  public BlockIndex getBlockIndex() {
+    return getObjectRepo().getBlockIndex();
+  }
+
   private List<PeripheralOperation> mapPeripheralOperationTOs(
       List<PeripheralOperationCreationTO> creationTOs
   ) {
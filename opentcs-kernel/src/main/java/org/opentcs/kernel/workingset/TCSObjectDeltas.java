@@ -0,0 +1,228 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.opentcs.data.ObjectHistory;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectDelta;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+
+/**
+ * Computes deltas describing modifications of objects.
+ * <p>
+ * Deltas are computed for the classes of objects that are modified during operation, i.e.
+ * vehicles, transport orders, order sequences, peripheral jobs, paths and locations.
+ * </p>
+ * <p>
+ * Since objects are immutable and attributes not affected by a modification are shared between
+ * the object's previous and current state, attributes are compared by identity. Only for
+ * attributes with plain values (e.g. numbers, strings or enum values) are the values compared,
+ * as other attributes' classes may implement {@code equals()} without considering all of their
+ * fields. Attributes may thus be reported as changed even if their values are equal, but never
+ * the other way around.
+ * </p>
+ */
+final class TCSObjectDeltas {
+
+  /**
+   * The attributes of the supported classes of objects, mapped by class.
+   */
+  private static final Map<Class<?>, List<Attribute<?>>> ATTRIBUTES = Map.of(
+      Vehicle.class,
+      List.of(
+          attribute("properties", Vehicle::getProperties),
+          attribute("boundingBox", Vehicle::getBoundingBox),
+          attribute("energyLevelThresholdSet", Vehicle::getEnergyLevelThresholdSet),
+          attribute("energyLevel", Vehicle::getEnergyLevel),
+          attribute("maxVelocity", Vehicle::getMaxVelocity),
+          attribute("maxReverseVelocity", Vehicle::getMaxReverseVelocity),
+          attribute("rechargeOperation", Vehicle::getRechargeOperation),
+          attribute("loadHandlingDevices", Vehicle::getLoadHandlingDevices),
+          attribute("state", Vehicle::getState),
+          attribute("stateTimestamp", Vehicle::getStateTimestamp),
+          attribute("procState", Vehicle::getProcState),
+          attribute("procStateTimestamp", Vehicle::getProcStateTimestamp),
+          attribute("integrationLevel", Vehicle::getIntegrationLevel),
+          attribute("paused", Vehicle::isPaused),
+          attribute("transportOrder", Vehicle::getTransportOrder),
+          attribute("orderSequence", Vehicle::getOrderSequence),
+          attribute("acceptableOrderTypes", Vehicle::getAcceptableOrderTypes),
+          attribute("claimedResources", Vehicle::getClaimedResources),
+          attribute("allocatedResources", Vehicle::getAllocatedResources),
+          attribute("currentPosition", Vehicle::getCurrentPosition),
+          attribute("pose", Vehicle::getPose),
+          attribute("envelopeKey", Vehicle::getEnvelopeKey),
+          attribute("layout", Vehicle::getLayout)
+      ),
+      TransportOrder.class,
+      List.of(
+          attribute("properties", TransportOrder::getProperties),
+          attribute("type", TransportOrder::getType),
+          attribute("dependencies", TransportOrder::getDependencies),
+          attribute("driveOrders", TransportOrder::getAllDriveOrders),
+          attribute("peripheralReservationToken", TransportOrder::getPeripheralReservationToken),
+          attribute("currentDriveOrderIndex", TransportOrder::getCurrentDriveOrderIndex),
+          attribute("currentRouteStepIndex", TransportOrder::getCurrentRouteStepIndex),
+          attribute("state", TransportOrder::getState),
+          attribute("creationTime", TransportOrder::getCreationTime),
+          attribute("deadline", TransportOrder::getDeadline),
+          attribute("finishedTime", TransportOrder::getFinishedTime),
+          attribute("intendedVehicle", TransportOrder::getIntendedVehicle),
+          attribute("processingVehicle", TransportOrder::getProcessingVehicle),
+          attribute("wrappingSequence", TransportOrder::getWrappingSequence),
+          attribute("dispensable", TransportOrder::isDispensable)
+      ),
+      OrderSequence.class,
+      List.of(
+          attribute("properties", OrderSequence::getProperties),
+          attribute("orderTypes", OrderSequence::getOrderTypes),
+          attribute("orders", OrderSequence::getOrders),
+          attribute("finishedIndex", OrderSequence::getFinishedIndex),
+          attribute("complete", OrderSequence::isComplete),
+          attribute("finished", OrderSequence::isFinished),
+          attribute("failureFatal", OrderSequence::isFailureFatal),
+          attribute("intendedVehicle", OrderSequence::getIntendedVehicle),
+          attribute("processingVehicle", OrderSequence::getProcessingVehicle),
+          attribute("creationTime", OrderSequence::getCreationTime),
+          attribute("finishedTime", OrderSequence::getFinishedTime)
+      ),
+      PeripheralJob.class,
+      List.of(
+          attribute("properties", PeripheralJob::getProperties),
+          attribute("reservationToken", PeripheralJob::getReservationToken),
+          attribute("relatedVehicle", PeripheralJob::getRelatedVehicle),
+          attribute("relatedTransportOrder", PeripheralJob::getRelatedTransportOrder),
+          attribute("peripheralOperation", PeripheralJob::getPeripheralOperation),
+          attribute("state", PeripheralJob::getState),
+          attribute("creationTime", PeripheralJob::getCreationTime),
+          attribute("finishedTime", PeripheralJob::getFinishedTime)
+      ),
+      Path.class,
+      List.of(
+          attribute("properties", Path::getProperties),
+          attribute("length", Path::getLength),
+          attribute("maxVelocity", Path::getMaxVelocity),
+          attribute("maxReverseVelocity", Path::getMaxReverseVelocity),
+          attribute("peripheralOperations", Path::getPeripheralOperations),
+          attribute("locked", Path::isLocked),
+          attribute("vehicleEnvelopes", Path::getVehicleEnvelopes),
+          attribute("layout", Path::getLayout)
+      ),
+      Location.class,
+      List.of(
+          attribute("properties", Location::getProperties),
+          attribute("position", Location::getPosition),
+          attribute("type", Location::getType),
+          attribute("attachedLinks", Location::getAttachedLinks),
+          attribute("peripheralInformation", Location::getPeripheralInformation),
+          attribute("locked", Location::isLocked),
+          attribute("layout", Location::getLayout)
+      )
+  );
+
+  /**
+   * Prevents instantiation.
+   */
+  private TCSObjectDeltas() {
+  }
+
+  /**
+   * Computes the delta describing the modification of an object from the given previous to the
+   * given current state.
+   *
+   * @param previousState The object's previous state.
+   * @param currentState The object's current state.
+   * @return The delta, or {@code null}, if deltas are not computed for objects of the given class.
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public static TCSObjectDelta compute(
+      @Nonnull
+      TCSObject<?> previousState,
+      @Nonnull
+      TCSObject<?> currentState
+  ) {
+    requireNonNull(previousState, "previousState");
+    requireNonNull(currentState, "currentState");
+
+    List<Attribute<?>> attributes = ATTRIBUTES.get(currentState.getClass());
+    if (attributes == null || previousState.getClass() != currentState.getClass()) {
+      return null;
+    }
+
+    Map<String, Object> changedAttributes = new LinkedHashMap<>();
+    for (Attribute<?> attribute : attributes) {
+      Function<TCSObject<?>, Object> getter = ((Attribute<TCSObject<?>>) attribute).getter();
+      Object previousValue = getter.apply(previousState);
+      Object currentValue = getter.apply(currentState);
+      if (hasChanged(previousValue, currentValue)) {
+        changedAttributes.put(attribute.name(), currentValue);
+      }
+    }
+
+    List<ObjectHistory.Entry> appendedHistoryEntries = List.of();
+    ObjectHistory previousHistory = previousState.getHistory();
+    ObjectHistory currentHistory = currentState.getHistory();
+    if (previousHistory != currentHistory) {
+      appendedHistoryEntries = currentHistory.getEntriesAppendedSince(previousHistory);
+      if (!previousHistory.getEntries().isEmpty()
+          && appendedHistoryEntries.size() == currentHistory.getEntries().size()) {
+        // The history was not (only) appended to, so it has to be provided as a whole.
+        changedAttributes.put("history", currentHistory);
+        appendedHistoryEntries = List.of();
+      }
+    }
+
+    return new TCSObjectDelta(
+        currentState.getReference(),
+        changedAttributes,
+        appendedHistoryEntries
+    );
+  }
+
+  private static boolean hasChanged(Object previousValue, Object currentValue) {
+    if (previousValue == currentValue) {
+      return false;
+    }
+    return !(isPlainValue(previousValue) && previousValue.equals(currentValue));
+  }
+
+  private static boolean isPlainValue(Object value) {
+    return value instanceof Number
+        || value instanceof Boolean
+        || value instanceof String
+        || value instanceof Enum
+        || value instanceof Instant;
+  }
+
+  private static <T extends TCSObject<T>> Attribute<T> attribute(
+      String name,
+      Function<T, Object> getter
+  ) {
+    return new Attribute<>(name, getter);
+  }
+
+  /**
+   * An attribute of objects of a class.
+   *
+   * @param <T> The objects' type.
+   * @param name The attribute's name.
+   * @param getter Returns the attribute's value for a given object.
+   */
+  private record Attribute<T>(String name, Function<T, Object> getter) {
+  }
+}
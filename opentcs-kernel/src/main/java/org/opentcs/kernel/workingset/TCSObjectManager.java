@@ -11,6 +11,7 @@ import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectDelta;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.util.event.EventHandler;
@@ -128,6 +129,11 @@ public class TCSObjectManager {
 
   /**
    * Emits an event for the given object with the given type.
+   * <p>
+   * For modifications, the delta between the object's previous and current state is computed
+   * once here and provided with the event, so that consumers (e.g. those forwarding events to
+   * remote clients) do not have to compare the object's states themselves.
+   * </p>
    *
    * @param currentObjectState The current state of the object to emit an event
    * for.
@@ -140,7 +146,28 @@ public class TCSObjectManager {
       TCSObject<?> previousObjectState,
       TCSObjectEvent.Type evtType
   ) {
-    eventHandler.onEvent(new TCSObjectEvent(currentObjectState, previousObjectState, evtType));
+    eventHandler.onEvent(
+        new TCSObjectEvent(
+            currentObjectState,
+            previousObjectState,
+            evtType,
+            computeDelta(currentObjectState, previousObjectState, evtType)
+        )
+    );
+  }
+
+  @Nullable
+  private TCSObjectDelta computeDelta(
+      TCSObject<?> currentObjectState,
+      TCSObject<?> previousObjectState,
+      TCSObjectEvent.Type evtType
+  ) {
+    if (evtType != TCSObjectEvent.Type.OBJECT_MODIFIED
+        || currentObjectState == null
+        || previousObjectState == null) {
+      return null;
+    }
+    return TCSObjectDeltas.compute(previousObjectState, currentObjectState);
   }
 
 }
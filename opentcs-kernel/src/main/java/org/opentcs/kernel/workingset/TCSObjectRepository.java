@@ -7,22 +7,49 @@ import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.opentcs.components.kernel.services.BlockIndex;
+import org.opentcs.components.kernel.services.IndexedPredicate;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 
 /**
  * A container for <code>TCSObject</code>s belonging together.
  * <p>
  * Provides access to a set of data objects and ensures they have unique names.
  * </p>
+ * <p>
+ * For each {@link IndexedPredicate.Attribute}, a secondary index is maintained, which is used for
+ * retrieving objects with {@link IndexedPredicate}s without testing every object of a class.
+ * </p>
+ * <p>
+ * Additionally, a {@link BlockIndex} is provided for looking up the blocks containing resources.
+ * It is rebuilt (lazily) only after blocks have been added, replaced or removed.
+ * </p>
+ * <p>
+ * Transport orders, order sequences and peripheral jobs that are finished are also kept in an index
+ * ordered by the points of time at which they were finished, which allows retrieving candidates for
+ * removal from the working set without testing every object.
+ * </p>
+ * <p>
+ * Objects are stored with the history retention limit configured for their class (if any) applied
+ * to their histories, so the histories of long-lived objects do not grow without bounds.
+ * </p>
  */
 public class TCSObjectRepository {
 
@@ -30,11 +57,59 @@ public class TCSObjectRepository {
    * The objects contained in this pool, mapped by their names, grouped by their classes.
    */
   private final Map<Class<?>, Map<String, TCSObject<?>>> objects = new HashMap<>();
+  /**
+   * All objects contained in this pool, mapped by their names.
+   */
+  private final Map<String, TCSObject<?>> objectsByName = new HashMap<>();
+  /**
+   * The secondary indexes, mapped by their indexed attributes.
+   */
+  private final Map<IndexedPredicate.Attribute, ObjectIndex> indexes
+      = new EnumMap<>(IndexedPredicate.Attribute.class);
+  /**
+   * The index of the blocks contained in this pool, or {@code null}, if blocks have been changed
+   * since it was last built.
+   */
+  private BlockIndex blockIndex;
+  /**
+   * The index of finished transport orders, order sequences and peripheral jobs.
+   */
+  private final FinishedObjectIndex finishedObjects = new FinishedObjectIndex();
+  /**
+   * The retention limits of object histories, mapped by the classes of the objects they apply to.
+   */
+  private final Map<Class<?>, Integer> historyRetentionLimits;
 
   /**
-   * Creates a new instance.
+   * Creates a new instance that keeps all history entries of objects.
    */
   public TCSObjectRepository() {
+    this(Map.of());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param configuration The kernel application's configuration.
+   */
+  @Inject
+  public TCSObjectRepository(KernelApplicationConfiguration configuration) {
+    this(historyRetentionLimits(configuration));
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param historyRetentionLimits The retention limits of object histories, mapped by the classes
+   * of the objects they apply to.
+   */
+  TCSObjectRepository(Map<Class<?>, Integer> historyRetentionLimits) {
+    this.historyRetentionLimits = Map.copyOf(
+        requireNonNull(historyRetentionLimits, "historyRetentionLimits")
+    );
+    for (IndexedPredicate.Attribute attribute : IndexedPredicate.Attribute.values()) {
+      indexes.put(attribute, new ObjectIndex(attribute));
+    }
   }
 
   /**
@@ -54,13 +129,16 @@ public class TCSObjectRepository {
     if (containsName(newObject.getName())) {
       throw new ObjectExistsException("Object name already exists: " + newObject.getName());
     }
+    TCSObject<?> storedObject = withRetainedHistory(newObject);
 
-    Map<String, TCSObject<?>> objectsByName = objects.get(newObject.getClass());
-    if (objectsByName == null) {
-      objectsByName = new HashMap<>();
-      objects.put(newObject.getClass(), objectsByName);
+    objects.computeIfAbsent(storedObject.getClass(), clazz -> new HashMap<>())
+        .put(storedObject.getName(), storedObject);
+    objectsByName.put(storedObject.getName(), storedObject);
+    for (ObjectIndex index : indexesCovering(storedObject.getClass())) {
+      index.add(storedObject);
     }
-    objectsByName.put(newObject.getName(), newObject);
+    finishedObjects.add(storedObject);
+    invalidateBlockIndexFor(storedObject);
   }
 
   /**
@@ -91,8 +169,15 @@ public class TCSObjectRepository {
         object.getClass().getName(),
         oldObject.getClass().getName()
     );
+    TCSObject<?> storedObject = withRetainedHistory(object);
 
-    objects.get(object.getClass()).put(object.getName(), object);
+    objects.get(storedObject.getClass()).put(storedObject.getName(), storedObject);
+    objectsByName.put(storedObject.getName(), storedObject);
+    for (ObjectIndex index : indexesCovering(storedObject.getClass())) {
+      index.replace(oldObject, storedObject);
+    }
+    finishedObjects.replace(oldObject, storedObject);
+    invalidateBlockIndexFor(storedObject);
   }
 
   /**
@@ -199,11 +284,7 @@ public class TCSObjectRepository {
   ) {
     requireNonNull(name, "name");
 
-    return objects.values().stream()
-        .map(objectsByName -> objectsByName.get(name))
-        .filter(object -> object != null)
-        .findAny()
-        .orElse(null);
+    return objectsByName.get(name);
   }
 
   /**
@@ -333,10 +414,70 @@ public class TCSObjectRepository {
     requireNonNull(clazz, "clazz");
     requireNonNull(predicate, "predicate");
 
+    return streamObjects(clazz, predicate).collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * Returns a stream of objects of the given class for which the given predicate is true.
+   * <p>
+   * If the given predicate is an {@link IndexedPredicate}, only the objects found via the
+   * corresponding index are tested.
+   * </p>
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects to be returned.
+   * @param predicate The predicate that must be true for returned objects.
+   * @return A stream of objects of the given class for which the given predicate is true.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> Stream<T> streamObjects(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      Predicate<? super T> predicate
+  ) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(predicate, "predicate");
+
+    if (predicate instanceof IndexedPredicate<?> indexedPredicate) {
+      ObjectIndex index = indexes.get(indexedPredicate.getAttribute());
+      if (index.covers(clazz)) {
+        return index.getObjects(indexedPredicate.getKey()).stream()
+            .map(clazz::cast)
+            .filter(predicate);
+      }
+    }
+
     return objects.getOrDefault(clazz, Map.of()).values().stream()
         .map(clazz::cast)
-        .filter(predicate)
-        .collect(Collectors.toUnmodifiableSet());
+        .filter(predicate);
+  }
+
+  /**
+   * Returns a stream of the finished objects of the given class, in the order in which they were
+   * finished.
+   * <p>
+   * Transport orders and peripheral jobs are considered finished when they are in a final state.
+   * Order sequences are considered finished when they are marked as finished. For objects of any
+   * other class, the returned stream is empty.
+   * </p>
+   * <p>
+   * Note that the returned stream is backed by this pool and must be consumed before objects are
+   * added, replaced or removed.
+   * </p>
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects to be returned.
+   * @return A stream of the finished objects of the given class.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> Stream<T> streamFinishedObjects(
+      @Nonnull
+      Class<T> clazz
+  ) {
+    requireNonNull(clazz, "clazz");
+
+    return finishedObjects.streamObjects(clazz);
   }
 
   /**
@@ -359,10 +500,70 @@ public class TCSObjectRepository {
     if (obj == null) {
       throw new ObjectUnknownException(ref);
     }
+    objectsByName.remove(obj.getName());
+    for (ObjectIndex index : indexesCovering(obj.getClass())) {
+      index.remove(obj);
+    }
+    finishedObjects.remove(obj);
+    invalidateBlockIndexFor(obj);
     return obj;
   }
 
+  /**
+   * Returns an index of the blocks contained in this pool.
+   * <p>
+   * The index is built on demand and reused until blocks are added, replaced or removed.
+   * </p>
+   *
+   * @return An index of the blocks contained in this pool.
+   */
+  @Nonnull
+  public BlockIndex getBlockIndex() {
+    if (blockIndex == null) {
+      blockIndex = new BlockIndex(getObjects(Block.class));
+    }
+    return blockIndex;
+  }
+
+  private void invalidateBlockIndexFor(TCSObject<?> object) {
+    if (object instanceof Block) {
+      blockIndex = null;
+    }
+  }
+
+  private TCSObject<?> withRetainedHistory(TCSObject<?> object) {
+    Integer retentionLimit = historyRetentionLimits.get(object.getClass());
+    if (retentionLimit == null || object.getHistory().getRetentionLimit() == retentionLimit) {
+      return object;
+    }
+    return object.withHistory(object.getHistory().withRetentionLimit(retentionLimit));
+  }
+
+  private static Map<Class<?>, Integer> historyRetentionLimits(
+      KernelApplicationConfiguration configuration
+  ) {
+    requireNonNull(configuration, "configuration");
+
+    Map<Class<?>, Integer> result = new HashMap<>();
+    if (configuration.vehicleHistoryRetentionLimit() > 0) {
+      result.put(Vehicle.class, configuration.vehicleHistoryRetentionLimit());
+    }
+    if (configuration.transportOrderHistoryRetentionLimit() > 0) {
+      result.put(TransportOrder.class, configuration.transportOrderHistoryRetentionLimit());
+    }
+    if (configuration.peripheralJobHistoryRetentionLimit() > 0) {
+      result.put(PeripheralJob.class, configuration.peripheralJobHistoryRetentionLimit());
+    }
+    return result;
+  }
+
   private boolean containsName(String name) {
-    return objects.values().stream().anyMatch(objectsByName -> objectsByName.containsKey(name));
+    return objectsByName.containsKey(name);
+  }
+
+  private List<ObjectIndex> indexesCovering(Class<?> clazz) {
+    return indexes.values().stream()
+        .filter(index -> index.covers(clazz))
+        .toList();
   }
 }
@@ -11,7 +11,9 @@ import jakarta.inject.Inject;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import org.opentcs.access.to.order.DestinationCreationTO;
@@ -119,43 +121,45 @@ public class TransportOrderPoolManager
       throws ObjectUnknownException,
         ObjectExistsException,
         IllegalArgumentException {
-    String transportOrderName = nameFor(to);
-    TransportOrder newOrder = new TransportOrder(
-        transportOrderName,
-        toDriveOrders(to.getDestinations(), transportOrderName)
-    )
-        .withCreationTime(Instant.now())
-        .withPeripheralReservationToken(to.getPeripheralReservationToken())
-        .withIntendedVehicle(toVehicleReference(to.getIntendedVehicleName()))
-        .withType(to.getType())
-        .withDeadline(to.getDeadline())
-        .withDispensable(to.isDispensable())
-        .withWrappingSequence(getWrappingSequence(to))
-        .withDependencies(getDependencies(to))
-        .withProperties(to.getProperties());
-
-    LOG.info(
-        "Transport order is being created: {} -- details: {}",
-        newOrder.getName(),
-        newOrder
-    );
+    TransportOrder newOrder = toTransportOrder(to, Map.of());
+    addTransportOrder(newOrder);
+    return newOrder;
+  }
 
-    getObjectRepo().addObject(newOrder);
-    emitObjectEvent(newOrder, null, TCSObjectEvent.Type.OBJECT_CREATED);
+  /**
+   * Adds a batch of new transport orders to the pool.
+   * This method implicitly adds the transport orders to their wrapping sequences, if any.
+   * <p>
+   * All transport orders are validated before any of them is added to the pool. If any of them
+   * is invalid, none of them is added. The dependencies of a transport order may include transport
+   * orders preceding it in the batch.
+   * </p>
+   *
+   * @param tos The transfer objects from which to create the new transport orders.
+   * @return The newly created transport orders, in the order of the given transfer objects.
+   * @throws ObjectExistsException If an object with a new object's name already exists or the
+   * batch contains multiple transport orders with the same name.
+   * @throws ObjectUnknownException If any object referenced in the TOs does not exist.
+   * @throws IllegalArgumentException For any of the reasons given for
+   * {@link #createTransportOrder(TransportOrderCreationTO)}.
+   */
+  public List<TransportOrder> createTransportOrders(List<TransportOrderCreationTO> tos)
+      throws ObjectUnknownException,
+        ObjectExistsException,
+        IllegalArgumentException {
+    requireNonNull(tos, "tos");
 
-    if (newOrder.getWrappingSequence() != null) {
-      OrderSequence sequence = getObjectRepo().getObject(
-          OrderSequence.class,
-          newOrder.getWrappingSequence()
-      );
-      OrderSequence prevSeq = sequence;
-      sequence = sequence.withOrder(newOrder.getReference());
-      getObjectRepo().replaceObject(sequence);
-      emitObjectEvent(sequence, prevSeq, TCSObjectEvent.Type.OBJECT_MODIFIED);
+    Map<String, TransportOrder> newOrders = new LinkedHashMap<>();
+    for (TransportOrderCreationTO to : tos) {
+      TransportOrder newOrder = toTransportOrder(to, newOrders);
+      checkNameAvailable(newOrder.getName(), newOrders.keySet());
+      newOrders.put(newOrder.getName(), newOrder);
     }
 
-    // Return the newly created transport order.
-    return newOrder;
+    for (TransportOrder newOrder : newOrders.values()) {
+      addTransportOrder(newOrder);
+    }
+    return new ArrayList<>(newOrders.values());
   }
 
   /**
@@ -476,39 +480,43 @@ public class TransportOrderPoolManager
    * @throws ObjectExistsException If an object with the new object's name already exists.
    * @throws ObjectUnknownException If any object referenced in the TO does not exist.
    */
-  @SuppressWarnings("deprecation")
   public OrderSequence createOrderSequence(OrderSequenceCreationTO to)
       throws ObjectExistsException,
         ObjectUnknownException {
-    OrderSequence newSequence = new OrderSequence(nameFor(to))
-        .withCreationTime(Instant.now())
-        .withIntendedVehicle(toVehicleReference(to.getIntendedVehicleName()))
-        .withFailureFatal(to.isFailureFatal())
-        .withProperties(to.getProperties());
+    OrderSequence newSequence = toOrderSequence(to);
+    addOrderSequence(newSequence);
+    return newSequence;
+  }
 
-    if (!to.getType().equals(OrderConstantsTO.TYPE_UNSET)) {
-      newSequence = newSequence
-          .withType(to.getType());
-    }
-    else {
-      newSequence = newSequence
-          .withOrderTypes(to.getOrderTypes());
-    }
+  /**
+   * Adds a batch of new order sequences to the pool.
+   * <p>
+   * All order sequences are validated before any of them is added to the pool. If any of them is
+   * invalid, none of them is added.
+   * </p>
+   *
+   * @param tos The transfer objects from which to create the new order sequences.
+   * @return The newly created order sequences, in the order of the given transfer objects.
+   * @throws ObjectExistsException If an object with a new object's name already exists or the
+   * batch contains multiple order sequences with the same name.
+   * @throws ObjectUnknownException If any object referenced in the TOs does not exist.
+   */
+  public List<OrderSequence> createOrderSequences(List<OrderSequenceCreationTO> tos)
+      throws ObjectExistsException,
+        ObjectUnknownException {
+    requireNonNull(tos, "tos");
 
-    LOG.info(
-        "Order sequence is being created: {} -- details: {}",
-        newSequence.getName(),
-        newSequence
-    );
+    Map<String, OrderSequence> newSequences = new LinkedHashMap<>();
+    for (OrderSequenceCreationTO to : tos) {
+      OrderSequence newSequence = toOrderSequence(to);
+      checkNameAvailable(newSequence.getName(), newSequences.keySet());
+      newSequences.put(newSequence.getName(), newSequence);
+    }
 
-    getObjectRepo().addObject(newSequence);
-    emitObjectEvent(
-        newSequence,
-        null,
-        TCSObjectEvent.Type.OBJECT_CREATED
-    );
-    // Return the newly created transport order.
-    return newSequence;
+    for (OrderSequence newSequence : newSequences.values()) {
+      addOrderSequence(newSequence);
+    }
+    return new ArrayList<>(newSequences.values());
   }
 
   /**
@@ -683,11 +691,106 @@ public class TransportOrderPoolManager
     }
   }
 
-  private Set<TCSObjectReference<TransportOrder>> getDependencies(TransportOrderCreationTO to)
+  private TransportOrder toTransportOrder(
+      TransportOrderCreationTO to,
+      Map<String, TransportOrder> batchOrders
+  )
+      throws ObjectUnknownException,
+        IllegalArgumentException {
+    String transportOrderName = nameFor(to);
+    return new TransportOrder(
+        transportOrderName,
+        toDriveOrders(to.getDestinations(), transportOrderName)
+    )
+        .withCreationTime(Instant.now())
+        .withPeripheralReservationToken(to.getPeripheralReservationToken())
+        .withIntendedVehicle(toVehicleReference(to.getIntendedVehicleName()))
+        .withType(to.getType())
+        .withDeadline(to.getDeadline())
+        .withDispensable(to.isDispensable())
+        .withWrappingSequence(getWrappingSequence(to))
+        .withDependencies(getDependencies(to, batchOrders))
+        .withProperties(to.getProperties());
+  }
+
+  private void addTransportOrder(TransportOrder newOrder)
+      throws ObjectExistsException {
+    LOG.info(
+        "Transport order is being created: {} -- details: {}",
+        newOrder.getName(),
+        newOrder
+    );
+
+    getObjectRepo().addObject(newOrder);
+    emitObjectEvent(newOrder, null, TCSObjectEvent.Type.OBJECT_CREATED);
+
+    if (newOrder.getWrappingSequence() != null) {
+      OrderSequence sequence = getObjectRepo().getObject(
+          OrderSequence.class,
+          newOrder.getWrappingSequence()
+      );
+      OrderSequence prevSeq = sequence;
+      sequence = sequence.withOrder(newOrder.getReference());
+      getObjectRepo().replaceObject(sequence);
+      emitObjectEvent(sequence, prevSeq, TCSObjectEvent.Type.OBJECT_MODIFIED);
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private OrderSequence toOrderSequence(OrderSequenceCreationTO to)
+      throws ObjectUnknownException {
+    OrderSequence newSequence = new OrderSequence(nameFor(to))
+        .withCreationTime(Instant.now())
+        .withIntendedVehicle(toVehicleReference(to.getIntendedVehicleName()))
+        .withFailureFatal(to.isFailureFatal())
+        .withProperties(to.getProperties());
+
+    if (!to.getType().equals(OrderConstantsTO.TYPE_UNSET)) {
+      newSequence = newSequence
+          .withType(to.getType());
+    }
+    else {
+      newSequence = newSequence
+          .withOrderTypes(to.getOrderTypes());
+    }
+    return newSequence;
+  }
+
+  private void addOrderSequence(OrderSequence newSequence)
+      throws ObjectExistsException {
+    LOG.info(
+        "Order sequence is being created: {} -- details: {}",
+        newSequence.getName(),
+        newSequence
+    );
+
+    getObjectRepo().addObject(newSequence);
+    emitObjectEvent(
+        newSequence,
+        null,
+        TCSObjectEvent.Type.OBJECT_CREATED
+    );
+  }
+
+  private void checkNameAvailable(String name, Set<String> batchNames)
+      throws ObjectExistsException {
+    if (batchNames.contains(name) || getObjectRepo().getObjectOrNull(name) != null) {
+      throw new ObjectExistsException("Object name already exists: " + name);
+    }
+  }
+
+  private Set<TCSObjectReference<TransportOrder>> getDependencies(
+      TransportOrderCreationTO to,
+      Map<String, TransportOrder> batchOrders
+  )
       throws ObjectUnknownException {
     Set<TCSObjectReference<TransportOrder>> result = new HashSet<>();
     for (String dependencyName : to.getDependencyNames()) {
-      result.add(getObjectRepo().getObject(TransportOrder.class, dependencyName).getReference());
+      TransportOrder dependency = batchOrders.get(dependencyName);
+      if (dependency == null) {
+        dependency = getObjectRepo().getObject(TransportOrder.class, dependencyName);
+      }
+      result.add(dependency.getReference());
     }
     return result;
   }
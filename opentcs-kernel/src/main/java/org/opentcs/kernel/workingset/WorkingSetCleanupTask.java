@@ -5,9 +5,12 @@ package org.opentcs.kernel.workingset;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
+import org.opentcs.components.kernel.services.IndexedPredicate;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
+import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
@@ -18,6 +21,15 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A task that periodically removes orders, order sequences and peripheral jobs in a final state.
+ * <p>
+ * Candidates for removal are retrieved from the repository's index of finished objects, oldest
+ * first, so objects that are still being processed are never examined. The number of objects
+ * removed with a single sweep - including the peripheral jobs related to removed transport orders
+ * and the transport orders of removed order sequences - is limited by the configured batch size,
+ * with the remaining ones being removed with subsequent sweeps, to keep the time the kernel is
+ * blocked by a sweep bounded. (Only an object that cannot be removed without exceeding the batch
+ * size on its own is removed with a sweep that exceeds it, as it would never be removed otherwise.)
+ * </p>
  */
 public class WorkingSetCleanupTask
     implements
@@ -110,6 +122,8 @@ public class WorkingSetCleanupTask
   public void run() {
     synchronized (globalSyncObject) {
       LOG.debug("Sweeping working set...");
+      long startTime = System.currentTimeMillis();
+      SweepStatistics statistics = new SweepStatistics(configuration.sweepBatchSize());
 
       // Update the creation time threshold for this cleanup run.
       creationTimeThreshold.updateCurrentThreshold(configuration.sweepAge());
@@ -118,44 +132,185 @@ public class WorkingSetCleanupTask
       // that are older than the threshold.
       Predicate<PeripheralJob> noRelatedTransportOrder = job -> job
           .getRelatedTransportOrder() == null;
-      for (PeripheralJob peripheralJob : peripheralJobPoolManager.getObjectRepo().getObjects(
+      for (PeripheralJob peripheralJob : selectCandidates(
+          peripheralJobPoolManager.getObjectRepo(),
           PeripheralJob.class,
-          noRelatedTransportOrder.and(compositePeripheralJobCleanupApproval)
+          noRelatedTransportOrder.and(compositePeripheralJobCleanupApproval),
+          statistics
       )) {
         peripheralJobPoolManager.removePeripheralJob(peripheralJob.getReference());
+        statistics.removedPeripheralJobs++;
       }
 
       // Remove all transport orders in a final state that do NOT belong to a sequence and that are
       // older than the threshold, including their related peripheral jobs.
       Predicate<TransportOrder> noWrappingSequence = order -> order.getWrappingSequence() == null;
-      for (TransportOrder transportOrder : orderPoolManager.getObjectRepo().getObjects(
+      for (TransportOrder transportOrder : selectCandidates(
+          orderPoolManager.getObjectRepo(),
           TransportOrder.class,
-          noWrappingSequence.and(compositeTransportOrderCleanupApproval)
+          noWrappingSequence.and(compositeTransportOrderCleanupApproval),
+          statistics
       )) {
-        removeRelatedPeripheralJobs(transportOrder.getReference());
+        List<PeripheralJob> relatedPeripheralJobs
+            = findRelatedPeripheralJobs(transportOrder.getReference());
+        if (!statistics.allowsRemoval(1 + relatedPeripheralJobs.size())) {
+          break;
+        }
+        removePeripheralJobs(relatedPeripheralJobs, statistics);
         orderPoolManager.removeTransportOrder(transportOrder.getReference());
+        statistics.removedTransportOrders++;
       }
 
       // Remove all order sequences that have been finished, including their transport orders and
       // the transport orders' related peripheral jobs.
-      for (OrderSequence orderSequence : orderPoolManager.getObjectRepo().getObjects(
+      for (OrderSequence orderSequence : selectCandidates(
+          orderPoolManager.getObjectRepo(),
           OrderSequence.class,
-          compositeOrderSequenceCleanupApproval
+          compositeOrderSequenceCleanupApproval,
+          statistics
       )) {
+        List<PeripheralJob> relatedPeripheralJobs = new ArrayList<>();
         for (TCSObjectReference<TransportOrder> transportOrderRef : orderSequence.getOrders()) {
-          removeRelatedPeripheralJobs(transportOrderRef);
+          relatedPeripheralJobs.addAll(findRelatedPeripheralJobs(transportOrderRef));
+        }
+        if (!statistics.allowsRemoval(
+            1 + orderSequence.getOrders().size() + relatedPeripheralJobs.size()
+        )) {
+          break;
         }
+        removePeripheralJobs(relatedPeripheralJobs, statistics);
         orderPoolManager.removeFinishedOrderSequenceAndOrders(orderSequence.getReference());
+        statistics.removedOrderSequences++;
+        statistics.removedTransportOrders += orderSequence.getOrders().size();
       }
+
+      LOG.debug(
+          "Swept working set in {} ms: {}",
+          System.currentTimeMillis() - startTime,
+          statistics
+      );
+    }
+  }
+
+  /**
+   * Selects finished objects to be removed, in the order in which they were finished, with the
+   * number of selected objects limited by the remaining batch size.
+   * <p>
+   * As removing an object may include removing related objects, too, callers need to check whether
+   * the remaining batch size actually allows removing each of the selected objects.
+   * </p>
+   *
+   * @param <T> The objects' type.
+   * @param objectRepo The repository to select the objects from.
+   * @param clazz The class of the objects to be selected.
+   * @param approval Checks whether an object may be removed.
+   * @param statistics The statistics of the current sweep.
+   * @return The selected objects.
+   */
+  private <T extends TCSObject<T>> List<T> selectCandidates(
+      TCSObjectRepository objectRepo,
+      Class<T> clazz,
+      Predicate<? super T> approval,
+      SweepStatistics statistics
+  ) {
+    int remainingBatchSize = statistics.remainingBatchSize();
+    if (remainingBatchSize <= 0) {
+      return List.of();
     }
+
+    // Collect the candidates before removing any of them, as the stream is backed by the
+    // repository.
+    return objectRepo.streamFinishedObjects(clazz)
+        .filter(object -> {
+          statistics.examinedCandidates++;
+          return approval.test(object);
+        })
+        .limit(remainingBatchSize)
+        .toList();
+  }
+
+  private List<PeripheralJob> findRelatedPeripheralJobs(
+      TCSObjectReference<TransportOrder> transportOrderRef
+  ) {
+    return List.copyOf(
+        peripheralJobPoolManager.getObjectRepo().getObjects(
+            PeripheralJob.class,
+            IndexedPredicate.peripheralJobWithRelatedTransportOrder(transportOrderRef)
+        )
+    );
   }
 
-  private void removeRelatedPeripheralJobs(TCSObjectReference<TransportOrder> transportOrderRef) {
-    for (PeripheralJob peripheralJob : peripheralJobPoolManager.getObjectRepo().getObjects(
-        PeripheralJob.class,
-        job -> Objects.equals(job.getRelatedTransportOrder(), transportOrderRef)
-    )) {
+  private void removePeripheralJobs(
+      List<PeripheralJob> peripheralJobs,
+      SweepStatistics statistics
+  ) {
+    for (PeripheralJob peripheralJob : peripheralJobs) {
       peripheralJobPoolManager.removePeripheralJob(peripheralJob.getReference());
+      statistics.removedPeripheralJobs++;
+    }
+  }
+
+  /**
+   * Statistics of a single sweep.
+   */
+  private static class SweepStatistics {
+
+    /**
+     * The maximum number of objects to be removed with the sweep.
+     */
+    private final int batchSize;
+    /**
+     * The number of candidates tested for whether they may be removed.
+     */
+    private int examinedCandidates;
+    /**
+     * The number of removed transport orders.
+     */
+    private int removedTransportOrders;
+    /**
+     * The number of removed order sequences.
+     */
+    private int removedOrderSequences;
+    /**
+     * The number of removed peripheral jobs.
+     */
+    private int removedPeripheralJobs;
+
+    SweepStatistics(int batchSize) {
+      this.batchSize = batchSize;
+    }
+
+    int remainingBatchSize() {
+      return batchSize - removedObjects();
+    }
+
+    /**
+     * Checks whether the given number of objects may be removed with the sweep.
+     * <p>
+     * If no object has been removed with the sweep, yet, any number of objects may be removed, so
+     * that an object whose removal alone exceeds the batch size is removed eventually, too.
+     * </p>
+     *
+     * @param objectCount The number of objects.
+     * @return {@code true} if, and only if, the given number of objects may be removed.
+     */
+    boolean allowsRemoval(int objectCount) {
+      return objectCount <= remainingBatchSize() || removedObjects() == 0;
+    }
+
+    private int removedObjects() {
+      return removedTransportOrders + removedOrderSequences + removedPeripheralJobs;
+    }
+
+    @Override
+    public String toString() {
+      return "SweepStatistics{"
+          + "batchSize=" + batchSize
+          + ", examinedCandidates=" + examinedCandidates
+          + ", removedTransportOrders=" + removedTransportOrders
+          + ", removedOrderSequences=" + removedOrderSequences
+          + ", removedPeripheralJobs=" + removedPeripheralJobs
+          + '}';
     }
   }
 }
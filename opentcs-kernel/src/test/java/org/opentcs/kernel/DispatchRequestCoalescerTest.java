@@ -0,0 +1,135 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opentcs.components.kernel.Dispatcher;
+import org.opentcs.util.TimeProvider;
+
+/**
+ * Tests for {@link DispatchRequestCoalescer}.
+ */
+class DispatchRequestCoalescerTest {
+
+  private ScheduledExecutorService kernelExecutor;
+  private ScheduledFuture<?> scheduledRun;
+  private Dispatcher dispatcher;
+  private KernelApplicationConfiguration configuration;
+  private TimeProvider timeProvider;
+  private DispatchRequestCoalescer coalescer;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    kernelExecutor = mock();
+    scheduledRun = mock();
+    when(kernelExecutor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+        .thenReturn((ScheduledFuture) scheduledRun);
+    dispatcher = mock();
+    configuration = mock();
+    timeProvider = mock();
+    coalescer = new DispatchRequestCoalescer(
+        kernelExecutor,
+        new Object(),
+        dispatcher,
+        configuration,
+        timeProvider
+    );
+    coalescer.initialize();
+  }
+
+  @Test
+  void coalesceRequestsWhileRunIsPending() {
+    coalescer.requestDispatch();
+    coalescer.requestDispatch();
+    coalescer.requestDispatch();
+
+    ArgumentCaptor<Runnable> runCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(kernelExecutor).schedule(runCaptor.capture(), eq(0L), eq(TimeUnit.MILLISECONDS));
+    runCaptor.getValue().run();
+
+    verify(dispatcher).dispatch();
+    assertThat(coalescer.getTriggeredCount(), is(3L));
+    assertThat(coalescer.getCoalescedCount(), is(2L));
+    assertThat(coalescer.getExecutedCount(), is(1L));
+  }
+
+  @Test
+  void scheduleFollowUpRunForRequestsDuringRun() {
+    coalescer.requestDispatch();
+    ArgumentCaptor<Runnable> runCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(kernelExecutor).schedule(runCaptor.capture(), eq(0L), eq(TimeUnit.MILLISECONDS));
+    runCaptor.getValue().run();
+
+    coalescer.requestDispatch();
+
+    verify(kernelExecutor, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    assertThat(coalescer.getCoalescedCount(), is(0L));
+  }
+
+  @Test
+  void delayRunByDebounceDelay() {
+    when(configuration.dispatchDebounceDelay()).thenReturn(50L);
+
+    coalescer.requestDispatch();
+
+    verify(kernelExecutor).schedule(any(Runnable.class), eq(50L), eq(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void respectMinimumIntervalBetweenRuns() {
+    when(configuration.dispatchMinInterval()).thenReturn(1000L);
+    when(timeProvider.getCurrentTimeEpochMillis()).thenReturn(10000L);
+
+    coalescer.requestDispatch();
+    ArgumentCaptor<Runnable> runCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(kernelExecutor).schedule(runCaptor.capture(), eq(0L), eq(TimeUnit.MILLISECONDS));
+    runCaptor.getValue().run();
+
+    when(timeProvider.getCurrentTimeEpochMillis()).thenReturn(10300L);
+    coalescer.requestDispatch();
+
+    verify(kernelExecutor).schedule(any(Runnable.class), eq(700L), eq(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void cancelPendingRunOnTerminate() {
+    coalescer.requestDispatch();
+    ArgumentCaptor<Runnable> runCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(kernelExecutor).schedule(runCaptor.capture(), eq(0L), eq(TimeUnit.MILLISECONDS));
+
+    coalescer.terminate();
+    // Even if the executor had already started the run, it must not dispatch anymore.
+    runCaptor.getValue().run();
+
+    verify(scheduledRun).cancel(false);
+    verify(dispatcher, never()).dispatch();
+    assertThat(coalescer.getExecutedCount(), is(0L));
+  }
+
+  @Test
+  void ignoreRequestsIfNotInitialized() {
+    coalescer.terminate();
+
+    coalescer.requestDispatch();
+
+    verify(kernelExecutor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    assertThat(coalescer.getTriggeredCount(), is(0L));
+  }
+}
@@ -190,7 +190,8 @@ class KernelStateOperatingTest {
             mock(PeripheralAttachmentManager.class),
             vehicleService,
             mock(PathLockEventListener.class),
-            mock(VehicleDispatchTrigger.class)
+            mock(VehicleDispatchTrigger.class),
+            mock(DispatchRequestCoalescer.class)
         )
     );
   }
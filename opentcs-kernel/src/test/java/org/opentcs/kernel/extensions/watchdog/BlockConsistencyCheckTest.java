@@ -18,10 +18,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.opentcs.components.kernel.services.NotificationService;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Block;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.model.Vehicle.IntegrationLevel;
+import org.opentcs.util.event.EventSource;
 
 /**
  * Tests the {@link BlockConsistencyCheck} watchdog task.
@@ -58,6 +60,7 @@ public class BlockConsistencyCheckTest {
         mock(ScheduledExecutorService.class),
         objectService,
         notificationService,
+        mock(EventSource.class),
         mock(WatchdogConfiguration.class)
     );
   }
@@ -72,11 +75,19 @@ public class BlockConsistencyCheckTest {
     when(objectService.fetch(Block.class)).thenReturn(Set.of(block));
   }
 
+  Vehicle changeVehicle(Vehicle previousState, Vehicle currentState) {
+    blockCheck.onEvent(
+        new TCSObjectEvent(currentState, previousState, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    return currentState;
+  }
+
   @Test
   void shouldReportViolation() {
     vehicle1 = vehicle1.withCurrentPosition(point.getReference());
     vehicle2 = vehicle2.withCurrentPosition(point.getReference());
     rebuildObjectService();
+    blockCheck.initialize();
 
     blockCheck.run();
 
@@ -87,6 +98,7 @@ public class BlockConsistencyCheckTest {
   void singleVehicleInBlockShouldNotReportViolation() {
     vehicle1 = vehicle1.withCurrentPosition(point.getReference());
     rebuildObjectService();
+    blockCheck.initialize();
 
     blockCheck.run();
 
@@ -101,6 +113,7 @@ public class BlockConsistencyCheckTest {
     vehicle2 = vehicle2.withCurrentPosition(point.getReference())
         .withIntegrationLevel(integrationLevel);
     rebuildObjectService();
+    blockCheck.initialize();
 
     blockCheck.run();
 
@@ -115,6 +128,7 @@ public class BlockConsistencyCheckTest {
     vehicle2 = vehicle2.withCurrentPosition(point.getReference())
         .withIntegrationLevel(integrationLevel);
     rebuildObjectService();
+    blockCheck.initialize();
 
     blockCheck.run();
 
@@ -126,12 +140,12 @@ public class BlockConsistencyCheckTest {
     vehicle1 = vehicle1.withCurrentPosition(point.getReference());
     vehicle2 = vehicle2.withCurrentPosition(point.getReference());
     rebuildObjectService();
+    blockCheck.initialize();
 
     blockCheck.run();
     verify(notificationService, times(1)).publishUserNotification(any());
 
-    vehicle3 = vehicle3.withCurrentPosition(point.getReference());
-    rebuildObjectService();
+    vehicle3 = changeVehicle(vehicle3, vehicle3.withCurrentPosition(point.getReference()));
 
     blockCheck.run();
     verify(notificationService, times(2)).publishUserNotification(any());
@@ -143,12 +157,12 @@ public class BlockConsistencyCheckTest {
     vehicle2 = vehicle2.withCurrentPosition(point.getReference());
     vehicle3 = vehicle3.withCurrentPosition(point.getReference());
     rebuildObjectService();
+    blockCheck.initialize();
 
     blockCheck.run();
     verify(notificationService, times(1)).publishUserNotification(any());
 
-    vehicle3 = vehicle3.withCurrentPosition(null);
-    rebuildObjectService();
+    vehicle3 = changeVehicle(vehicle3, vehicle3.withCurrentPosition(null));
 
     blockCheck.run();
     verify(notificationService, times(2)).publishUserNotification(any());
@@ -159,12 +173,12 @@ public class BlockConsistencyCheckTest {
     vehicle1 = vehicle1.withCurrentPosition(point.getReference());
     vehicle2 = vehicle2.withCurrentPosition(point.getReference());
     rebuildObjectService();
+    blockCheck.initialize();
 
     blockCheck.run();
     verify(notificationService, times(1)).publishUserNotification(any());
 
-    vehicle2 = vehicle2.withCurrentPosition(null);
-    rebuildObjectService();
+    vehicle2 = changeVehicle(vehicle2, vehicle2.withCurrentPosition(null));
 
     blockCheck.run();
     verify(notificationService, times(2)).publishUserNotification(any());
@@ -174,12 +188,12 @@ public class BlockConsistencyCheckTest {
   void singleVehicleLeavingBlockShouldNotCauseAResolution() {
     vehicle1 = vehicle1.withCurrentPosition(point.getReference());
     rebuildObjectService();
+    blockCheck.initialize();
 
     blockCheck.run();
     verify(notificationService, never()).publishUserNotification(any());
 
-    vehicle1 = vehicle1.withCurrentPosition(null);
-    rebuildObjectService();
+    vehicle1 = changeVehicle(vehicle1, vehicle1.withCurrentPosition(null));
 
     blockCheck.run();
     verify(notificationService, never()).publishUserNotification(any());
@@ -190,6 +204,7 @@ public class BlockConsistencyCheckTest {
     vehicle1 = vehicle1.withCurrentPosition(point.getReference());
     vehicle2 = vehicle2.withCurrentPosition(point.getReference());
     rebuildObjectService();
+    blockCheck.initialize();
 
     blockCheck.run();
     verify(notificationService, times(1)).publishUserNotification(any());
@@ -203,14 +218,14 @@ public class BlockConsistencyCheckTest {
     vehicle1 = vehicle1.withCurrentPosition(point.getReference());
     vehicle2 = vehicle2.withCurrentPosition(point.getReference());
     rebuildObjectService();
+    blockCheck.initialize();
 
     blockCheck.run();
     verify(notificationService, times(1)).publishUserNotification(any());
 
-    vehicle1 = vehicle1.withCurrentPosition(null);
-    vehicle3 = vehicle3.withCurrentPosition(point.getReference());
-    vehicle2 = vehicle2.withCurrentPosition(point.getReference());
-    rebuildObjectService();
+    vehicle1 = changeVehicle(vehicle1, vehicle1.withCurrentPosition(null));
+    vehicle3 = changeVehicle(vehicle3, vehicle3.withCurrentPosition(point.getReference()));
+    vehicle2 = changeVehicle(vehicle2, vehicle2.withCurrentPosition(point.getReference()));
 
     blockCheck.run();
     verify(notificationService, times(2)).publishUserNotification(any());
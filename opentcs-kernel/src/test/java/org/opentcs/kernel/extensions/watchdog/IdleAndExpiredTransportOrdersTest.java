@@ -16,9 +16,11 @@ import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.util.TimeProvider;
+import org.opentcs.util.event.EventSource;
 
 /**
  * Test for {@link IdleAndExpiredTransportOrders}.
@@ -33,7 +35,11 @@ public class IdleAndExpiredTransportOrdersTest {
     objectService = mock(TCSObjectService.class);
     timeProvider = mock(TimeProvider.class);
     when(timeProvider.getCurrentTimeEpochMillis()).thenReturn(0L);
-    idleAndExpiredTransportOrders = new IdleAndExpiredTransportOrders(objectService, timeProvider);
+    idleAndExpiredTransportOrders = new IdleAndExpiredTransportOrders(
+        objectService,
+        timeProvider,
+        mock(EventSource.class)
+    );
   }
 
   @Test
@@ -128,10 +134,11 @@ public class IdleAndExpiredTransportOrdersTest {
         = idleAndExpiredTransportOrders.newlyIdleTransportOrders();
     assertTrue(resultIdle.isEmpty());
 
-    order1 = order1.withState(TransportOrder.State.ACTIVE);
-    order2 = order2.withProcessingVehicle(new Vehicle("V1").getReference());
-    when(objectService.fetch(TransportOrder.class))
-        .thenReturn(Set.of(order1, order2));
+    order1 = changeTransportOrder(order1, order1.withState(TransportOrder.State.ACTIVE));
+    order2 = changeTransportOrder(
+        order2,
+        order2.withProcessingVehicle(new Vehicle("V1").getReference())
+    );
     idleAndExpiredTransportOrders.identifyIdleOrExpiredTransportOrders(
         secondInvocationTime,
         idleDurationThreshold
@@ -186,18 +193,15 @@ public class IdleAndExpiredTransportOrdersTest {
         contains(orderWithExpiredDeadline)
     );
 
-    orderIdle = orderIdle.withState(TransportOrder.State.FAILED);
-    orderIdle2 = orderIdle2.withState(TransportOrder.State.BEING_PROCESSED);
-    orderWithExpiredDeadline = orderWithExpiredDeadline.withState(TransportOrder.State.FINISHED);
-
-    when(objectService.fetch(TransportOrder.class))
-        .thenReturn(
-            Set.of(
-                orderIdle,
-                orderIdle2,
-                orderWithExpiredDeadline
-            )
-        );
+    orderIdle = changeTransportOrder(orderIdle, orderIdle.withState(TransportOrder.State.FAILED));
+    orderIdle2 = changeTransportOrder(
+        orderIdle2,
+        orderIdle2.withState(TransportOrder.State.BEING_PROCESSED)
+    );
+    orderWithExpiredDeadline = changeTransportOrder(
+        orderWithExpiredDeadline,
+        orderWithExpiredDeadline.withState(TransportOrder.State.FINISHED)
+    );
 
     idleAndExpiredTransportOrders.identifyIdleOrExpiredTransportOrders(
         secondInvocationTime, idleDurationThreshold
@@ -211,15 +215,10 @@ public class IdleAndExpiredTransportOrdersTest {
 
     // After the third invocation there should be only one transport order that changed to a
     // final state since the last invocation.
-    orderIdle2 = orderIdle2.withState(TransportOrder.State.FINISHED);
-    when(objectService.fetch(TransportOrder.class))
-        .thenReturn(
-            Set.of(
-                orderIdle,
-                orderIdle2,
-                orderWithExpiredDeadline
-            )
-        );
+    orderIdle2 = changeTransportOrder(
+        orderIdle2,
+        orderIdle2.withState(TransportOrder.State.FINISHED)
+    );
 
     idleAndExpiredTransportOrders.identifyIdleOrExpiredTransportOrders(
         thirdInvocationTime, idleDurationThreshold
@@ -229,4 +228,14 @@ public class IdleAndExpiredTransportOrdersTest {
     assertThat(transportOrdersInFinalState, hasSize(1));
     assertThat(transportOrdersInFinalState, contains(orderIdle2));
   }
+
+  private TransportOrder changeTransportOrder(
+      TransportOrder previousState,
+      TransportOrder currentState
+  ) {
+    idleAndExpiredTransportOrders.onEvent(
+        new TCSObjectEvent(currentState, previousState, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    return currentState;
+  }
 }
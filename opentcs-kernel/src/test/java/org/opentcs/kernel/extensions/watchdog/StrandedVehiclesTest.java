@@ -17,11 +17,13 @@ import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.watchdog.StrandedVehicles.VehicleSnapshot;
 import org.opentcs.util.TimeProvider;
+import org.opentcs.util.event.EventSource;
 
 /**
  * Tests for {@link StrandedVehicles}.
@@ -54,7 +56,7 @@ public class StrandedVehiclesTest {
         .thenReturn(Optional.of(noParkingPoint));
     when(timeProvider.getCurrentTimeEpochMillis()).thenReturn(0L);
 
-    stranded = new StrandedVehicles(objectService, timeProvider);
+    stranded = new StrandedVehicles(objectService, timeProvider, mock(EventSource.class));
   }
 
   @Test
@@ -137,8 +139,7 @@ public class StrandedVehiclesTest {
     assertThat(result, hasSize(1));
     assertThat(result.iterator().next().isStranded(), is(true));
 
-    vehicle = vehicle.withState(Vehicle.State.EXECUTING);
-    when(objectService.fetch(Vehicle.class)).thenReturn(Set.of(vehicle));
+    vehicle = changeVehicle(vehicle, vehicle.withState(Vehicle.State.EXECUTING));
 
     // After the second invocation (when the vehicle is no longer in a "stranded" state), the
     // vehicle should be considered no longer stranded.
@@ -172,8 +173,7 @@ public class StrandedVehiclesTest {
     assertThat(result, hasSize(1));
     assertThat(result.iterator().next().isStranded(), is(true));
 
-    vehicle = vehicle.withCurrentPosition(parkingPoint.getReference());
-    when(objectService.fetch(Vehicle.class)).thenReturn(Set.of(vehicle));
+    vehicle = changeVehicle(vehicle, vehicle.withCurrentPosition(parkingPoint.getReference()));
 
     // After the second invocation (when the vehicle is no longer in a "stranded" state), the
     // vehicle should be considered no longer stranded.
@@ -207,11 +207,10 @@ public class StrandedVehiclesTest {
     assertThat(result, hasSize(1));
     assertThat(result.iterator().next().isStranded(), is(true));
 
-    vehicle = vehicle
-        .withTransportOrder(
-            new TransportOrder("TransportOrder2", List.of()).getReference()
-        );
-    when(objectService.fetch(Vehicle.class)).thenReturn(Set.of(vehicle));
+    vehicle = changeVehicle(
+        vehicle,
+        vehicle.withTransportOrder(new TransportOrder("TransportOrder2", List.of()).getReference())
+    );
     // After the second invocation (when the vehicle is no longer in a "stranded" state), the
     // vehicle should be considered no longer stranded.
     stranded.identifyStrandedVehicles(secondInvocationTime, strandedDurationThreshold);
@@ -223,4 +222,11 @@ public class StrandedVehiclesTest {
 
     stranded.terminate();
   }
+
+  private Vehicle changeVehicle(Vehicle previousState, Vehicle currentState) {
+    stranded.onEvent(
+        new TCSObjectEvent(currentState, previousState, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    return currentState;
+  }
 }
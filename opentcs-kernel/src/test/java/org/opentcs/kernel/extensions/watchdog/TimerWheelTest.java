@@ -0,0 +1,95 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.watchdog;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TimerWheel}.
+ */
+class TimerWheelTest {
+
+  private TimerWheel<String> timerWheel;
+
+  @BeforeEach
+  void setUp() {
+    timerWheel = new TimerWheel<>(100, 0);
+  }
+
+  @Test
+  void reportDeadlinesOnceReached() {
+    timerWheel.schedule("A", 1000);
+    timerWheel.schedule("B", 2000);
+
+    assertThat(timerWheel.advance(999), is(empty()));
+    assertThat(timerWheel.advance(1000), contains("A"));
+    assertThat(timerWheel.advance(1999), is(empty()));
+    assertThat(timerWheel.advance(2000), contains("B"));
+    assertThat(timerWheel.size(), is(0));
+  }
+
+  @Test
+  void neverReportDeadlinesEarly() {
+    timerWheel.schedule("A", 1050);
+
+    assertThat(timerWheel.advance(1000), is(empty()));
+    assertThat(timerWheel.advance(1099), is(empty()));
+    assertThat(timerWheel.advance(1100), contains("A"));
+  }
+
+  @Test
+  void reportDeadlinesInThePastWithNextAdvance() {
+    timerWheel.advance(5000);
+    timerWheel.schedule("A", 1000);
+
+    assertThat(timerWheel.advance(5000), contains("A"));
+  }
+
+  @Test
+  void reportDeadlinesBeyondTheFinestWheel() {
+    timerWheel.schedule("A", 100L * 64 * 64 + 50);
+    timerWheel.schedule("B", 100L * 64 * 64 * 64 * 64 * 2);
+
+    assertThat(timerWheel.advance(100L * 64 * 64), is(empty()));
+    assertThat(timerWheel.advance(100L * 64 * 64 + 100), contains("A"));
+    assertThat(timerWheel.advance(100L * 64 * 64 * 64 * 64 * 2 - 1), is(empty()));
+    assertThat(timerWheel.advance(100L * 64 * 64 * 64 * 64 * 2), contains("B"));
+  }
+
+  @Test
+  void reportAllDeadlinesReachedWhenAdvancingFarAhead() {
+    timerWheel.schedule("A", 1000);
+    timerWheel.schedule("B", 500000);
+    timerWheel.schedule("C", 900000);
+
+    assertThat(timerWheel.advance(600000), containsInAnyOrder("A", "B"));
+    assertThat(timerWheel.advance(900000), contains("C"));
+  }
+
+  @Test
+  void replaceDeadlineWhenScheduledAgain() {
+    timerWheel.schedule("A", 1000);
+    timerWheel.schedule("A", 3000);
+
+    assertThat(timerWheel.size(), is(1));
+    assertThat(timerWheel.advance(2000), is(empty()));
+    assertThat(timerWheel.advance(3000), contains("A"));
+  }
+
+  @Test
+  void doNotReportCancelledDeadlines() {
+    timerWheel.schedule("A", 1000);
+
+    assertThat(timerWheel.cancel("A"), is(true));
+    assertThat(timerWheel.cancel("A"), is(false));
+    assertThat(timerWheel.isScheduled("A"), is(false));
+    assertThat(timerWheel.advance(2000), is(empty()));
+  }
+}
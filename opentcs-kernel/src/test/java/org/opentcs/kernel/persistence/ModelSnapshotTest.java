@@ -0,0 +1,180 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.persistence;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentcs.access.to.model.BlockCreationTO;
+import org.opentcs.access.to.model.BoundingBoxCreationTO;
+import org.opentcs.access.to.model.CoupleCreationTO;
+import org.opentcs.access.to.model.EnvelopeCreationTO;
+import org.opentcs.access.to.model.LayerCreationTO;
+import org.opentcs.access.to.model.LayerGroupCreationTO;
+import org.opentcs.access.to.model.LocationCreationTO;
+import org.opentcs.access.to.model.LocationTypeCreationTO;
+import org.opentcs.access.to.model.PathCreationTO;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.PoseCreationTO;
+import org.opentcs.access.to.model.TripleCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.access.to.model.VisualLayoutCreationTO;
+import org.opentcs.access.to.peripherals.PeripheralOperationCreationTO;
+
+/**
+ * Tests for {@link ModelSnapshot}.
+ */
+class ModelSnapshotTest {
+
+  /**
+   * The checksum used for all snapshots.
+   */
+  private static final byte[] CHECKSUM = new byte[]{1, 2, 3, 4};
+
+  @TempDir
+  private File tempDir;
+
+  private ModelSnapshot snapshot;
+
+  @BeforeEach
+  void setUp() {
+    snapshot = new ModelSnapshot(new File(tempDir, "model.snapshot"));
+  }
+
+  @Test
+  void readModelWrittenBefore()
+      throws IOException {
+    snapshot.write(createModel(), CHECKSUM);
+
+    PlantModelCreationTO model = snapshot.read(CHECKSUM).orElseThrow();
+
+    assertEquals("Testmodel", model.getName());
+    assertThat(model.getPoints().size(), is(2));
+    assertThat(model.getPaths().size(), is(1));
+    assertThat(model.getPaths().get(0).getPeripheralOperations().size(), is(1));
+    assertThat(model.getLocationTypes().size(), is(1));
+    assertThat(model.getLocations().size(), is(1));
+    assertThat(model.getBlocks().get(0).getLayout().getColor(), is(Color.RED));
+    assertThat(model.getVehicles().size(), is(1));
+    assertThat(model.getVisualLayout().getLayers().size(), is(1));
+  }
+
+  @Test
+  void ignoreSnapshotForDifferentChecksum()
+      throws IOException {
+    snapshot.write(createModel(), CHECKSUM);
+
+    assertTrue(snapshot.read(new byte[]{4, 3, 2, 1}).isEmpty());
+  }
+
+  @Test
+  void ignoreSnapshotContainingClassesNotPartOfModel()
+      throws IOException {
+    snapshot.write(createModel(), CHECKSUM);
+    // Replace the serialized model with an object of a class a model does not consist of.
+    try (DataOutputStream output = new DataOutputStream(
+        new FileOutputStream(new File(tempDir, "model.snapshot"))
+    )) {
+      output.writeInt(0x6f54_4353);
+      output.writeInt(1);
+      output.writeInt(CHECKSUM.length);
+      output.write(CHECKSUM);
+      ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+      objectOutput.writeObject(List.of(new UnexpectedObject()));
+      objectOutput.flush();
+    }
+
+    assertTrue(snapshot.read(CHECKSUM).isEmpty());
+  }
+
+  private PlantModelCreationTO createModel() {
+    return new PlantModelCreationTO("Testmodel")
+        .withProperty("modelProperty", "value")
+        .withPoint(
+            new PointCreationTO("Point-0001")
+                .withPose(new PoseCreationTO(new TripleCreationTO(0, 0, 0), 90.0))
+                .withMaxVehicleBoundingBox(new BoundingBoxCreationTO(1000, 1000, 1000))
+                .withVehicleEnvelopes(
+                    Map.of(
+                        "envelope",
+                        new EnvelopeCreationTO(
+                            List.of(
+                                new CoupleCreationTO(0, 0),
+                                new CoupleCreationTO(1, 1),
+                                new CoupleCreationTO(0, 0)
+                            )
+                        )
+                    )
+                )
+        )
+        .withPoint(new PointCreationTO("Point-0002"))
+        .withPath(
+            new PathCreationTO("Point-0001 --- Point-0002", "Point-0001", "Point-0002")
+                .withPeripheralOperations(
+                    List.of(new PeripheralOperationCreationTO("operation", "Location-0001"))
+                )
+                .withLayout(
+                    new PathCreationTO.Layout(
+                        PathCreationTO.Layout.ConnectionType.BEZIER,
+                        List.of(new CoupleCreationTO(5, 5)),
+                        0
+                    )
+                )
+        )
+        .withLocationType(
+            new LocationTypeCreationTO("LocationType-0001")
+                .withAllowedOperations(List.of("operation"))
+        )
+        .withLocation(
+            new LocationCreationTO(
+                "Location-0001",
+                "LocationType-0001",
+                new TripleCreationTO(1, 2, 3)
+            )
+                .withLink("Point-0001", Set.of("operation"))
+        )
+        .withBlock(
+            new BlockCreationTO("Block-0001")
+                .withMemberNames(Set.of("Point-0001"))
+                .withLayout(new BlockCreationTO.Layout(Color.RED))
+        )
+        .withVehicle(
+            new VehicleCreationTO("Vehicle-0001")
+                .withEnergyLevelThresholdSet(
+                    new VehicleCreationTO.EnergyLevelThresholdSet(30, 90, 30, 90)
+                )
+        )
+        .withVisualLayout(
+            new VisualLayoutCreationTO("VisualLayout-0001")
+                .withLayer(new LayerCreationTO(0, 0, true, "Layer-0001", 0))
+                .withLayerGroup(new LayerGroupCreationTO(0, "LayerGroup-0001", true))
+        );
+  }
+
+  /**
+   * A serializable class that is not part of a model.
+   */
+  private static class UnexpectedObject
+      implements
+        Serializable {
+
+    UnexpectedObject() {
+    }
+  }
+}
@@ -3,12 +3,16 @@
 package org.opentcs.kernel.persistence;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mockito;
@@ -16,6 +20,7 @@ import org.opentcs.TestEnvironment;
 import org.opentcs.access.to.model.PlantModelCreationTO;
 import org.opentcs.access.to.model.PointCreationTO;
 import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.util.persistence.ModelParser;
 
 /**
@@ -32,6 +37,10 @@ public class XMLFileModelPersisterTest {
    * Reads and writes the model.
    */
   private ModelParser modelParser;
+  /**
+   * The kernel application's configuration.
+   */
+  private KernelApplicationConfiguration configuration;
 
   /**
    * The persister instance for testing.
@@ -54,9 +63,11 @@ public class XMLFileModelPersisterTest {
   void setUp()
       throws IOException {
     modelParser = mock(ModelParser.class);
+    configuration = mock(KernelApplicationConfiguration.class);
     persister = new XMLFileModelPersister(
         TestEnvironment.getKernelHomeDirectory(),
-        modelParser
+        modelParser,
+        configuration
     );
     modelCaptor = ArgumentCaptor.forClass(PlantModelCreationTO.class);
     fileCaptor = ArgumentCaptor.forClass(File.class);
@@ -76,6 +87,37 @@ public class XMLFileModelPersisterTest {
     assertEquals(".xml", getFileExtension(fileCaptor.getValue()));
   }
 
+  @Test
+  void readModelFromSnapshotWhileModelFileUnchanged(
+      @TempDir
+      File homeDirectory
+  )
+      throws IOException {
+    when(configuration.useModelSnapshot()).thenReturn(true);
+    when(modelParser.readModel(any(File.class)))
+        .thenAnswer(invocation -> createTestModel(MODEL_NAME));
+    File modelFile = new File(new File(homeDirectory, "data"), "model.xml");
+    modelFile.getParentFile().mkdirs();
+    Files.writeString(modelFile.toPath(), "some model");
+    XMLFileModelPersister snapshotPersister = new XMLFileModelPersister(
+        homeDirectory,
+        modelParser,
+        configuration
+    );
+
+    assertEquals(MODEL_NAME, snapshotPersister.readModel().getName());
+    PlantModelCreationTO snapshotModel = snapshotPersister.readModel();
+    assertEquals(MODEL_NAME, snapshotModel.getName());
+    assertEquals(1, snapshotModel.getPoints().size());
+    assertEquals(1, snapshotModel.getVehicles().size());
+    Mockito.verify(modelParser, Mockito.times(1)).readModel(modelFile);
+
+    // A modified model file invalidates the snapshot.
+    Files.writeString(modelFile.toPath(), "some modified model");
+    snapshotPersister.readModel();
+    Mockito.verify(modelParser, Mockito.times(2)).readModel(modelFile);
+  }
+
   private PlantModelCreationTO createTestModel(String name) {
     return new PlantModelCreationTO(name)
         .withPoint(new PointCreationTO("testPointName"))
@@ -3,14 +3,22 @@
 package org.opentcs.kernel.workingset;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.theInstance;
 
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.data.ObjectHistory;
+import org.opentcs.data.TCSObjectDelta;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.SimpleEventBus;
 
@@ -47,4 +55,58 @@ class TCSObjectManagerTest {
     assertThat(receivedEvents, hasSize(1));
   }
 
+  @Test
+  void provideDeltaWithModificationEvents() {
+    List<TCSObjectEvent> receivedEvents = new ArrayList<>();
+    eventBus.subscribe(event -> receivedEvents.add((TCSObjectEvent) event));
+    ObjectHistory.Entry entry = new ObjectHistory.Entry("some-event");
+    Vehicle vehicle = new Vehicle("Vehicle-00001").withHistoryEntry(new ObjectHistory.Entry("a"));
+
+    objectManager.emitObjectEvent(
+        vehicle.withEnergyLevel(42).withHistoryEntry(entry),
+        vehicle,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+
+    TCSObjectDelta delta = receivedEvents.get(0).getDelta();
+    assertThat(delta.getObjectReference(), is(vehicle.getReference()));
+    assertThat(delta.getChangedAttributes().keySet(), contains("energyLevel"));
+    assertThat(delta.getChangedAttributes().get("energyLevel"), is(42));
+    assertThat(delta.getAppendedHistoryEntries(), contains(theInstance(entry)));
+  }
+
+  @Test
+  void provideReplacedHistoryAsChangedAttribute() {
+    List<TCSObjectEvent> receivedEvents = new ArrayList<>();
+    eventBus.subscribe(event -> receivedEvents.add((TCSObjectEvent) event));
+    Vehicle vehicle = new Vehicle("Vehicle-00001").withHistoryEntry(new ObjectHistory.Entry("a"));
+    ObjectHistory history = new ObjectHistory().withEntryAppended(new ObjectHistory.Entry("b"));
+
+    objectManager.emitObjectEvent(
+        vehicle.withHistory(history),
+        vehicle,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+
+    TCSObjectDelta delta = receivedEvents.get(0).getDelta();
+    assertThat(delta.getChangedAttributes().keySet(), contains("history"));
+    assertThat(delta.getChangedAttributes().get("history"), is(theInstance(history)));
+    assertThat(delta.getAppendedHistoryEntries(), is(empty()));
+  }
+
+  @Test
+  void provideNoDeltaForObjectsWithoutDeltaSupport() {
+    List<TCSObjectEvent> receivedEvents = new ArrayList<>();
+    eventBus.subscribe(event -> receivedEvents.add((TCSObjectEvent) event));
+    Point someObject = new Point("Point-00001").withType(Point.Type.HALT_POSITION);
+
+    objectManager.emitObjectEvent(
+        someObject.withType(Point.Type.PARK_POSITION),
+        someObject,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+
+    assertThat(receivedEvents.get(0).getDelta(), is(nullValue()));
+  }
+
 }
@@ -6,18 +6,30 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.BlockIndex;
+import org.opentcs.components.kernel.services.IndexedPredicate;
 import org.opentcs.data.ObjectExistsException;
+import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.model.Block;
 import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
 
 /**
  * Unit tests for {@link TCSObjectRepository}.
@@ -228,4 +240,170 @@ class TCSObjectRepositoryTest {
     // Another object with the same name.
     assertThrows(ObjectExistsException.class, () -> pool.addObject(new Point("some-point")));
   }
+
+  @Test
+  void returnObjectsByIndexedPredicate() {
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    TransportOrder order1 = new TransportOrder("order-1", List.of())
+        .withIntendedVehicle(vehicle.getReference());
+    TransportOrder order2 = new TransportOrder("order-2", List.of())
+        .withState(TransportOrder.State.DISPATCHABLE);
+
+    pool.addObject(order1);
+    pool.addObject(order2);
+
+    assertThat(
+        pool.getObjects(
+            TransportOrder.class,
+            IndexedPredicate.transportOrderWithIntendedVehicle(vehicle.getReference())
+        ),
+        contains(order1)
+    );
+    assertThat(
+        pool.getObjects(
+            TransportOrder.class,
+            IndexedPredicate.transportOrderWithState(TransportOrder.State.DISPATCHABLE)
+        ),
+        contains(order2)
+    );
+    assertThat(
+        pool.getObjects(
+            TransportOrder.class,
+            IndexedPredicate.transportOrderWithState(TransportOrder.State.FINISHED)
+        ),
+        is(empty())
+    );
+  }
+
+  @Test
+  void updateIndexesOnReplaceObject() {
+    TransportOrder orderV1 = new TransportOrder("some-order", List.of());
+    TransportOrder orderV2 = orderV1.withState(TransportOrder.State.ACTIVE);
+
+    pool.addObject(orderV1);
+    pool.replaceObject(orderV2);
+
+    assertThat(
+        pool.getObjects(
+            TransportOrder.class,
+            IndexedPredicate.transportOrderWithState(TransportOrder.State.RAW)
+        ),
+        is(empty())
+    );
+    assertThat(
+        pool.getObjects(
+            TransportOrder.class,
+            IndexedPredicate.transportOrderWithState(TransportOrder.State.ACTIVE)
+        ),
+        contains(orderV2)
+    );
+  }
+
+  @Test
+  void updateIndexesOnRemoveObject() {
+    TransportOrder order = new TransportOrder("some-order", List.of());
+
+    pool.addObject(order);
+    pool.removeObject(order.getReference());
+
+    assertThat(
+        pool.getObjects(
+            TransportOrder.class,
+            IndexedPredicate.transportOrderWithState(TransportOrder.State.RAW)
+        ),
+        is(empty())
+    );
+    assertThat(pool.getObjectOrNull("some-order"), is(nullValue()));
+  }
+
+  @Test
+  void returnBlocksContainingResourceFromBlockIndex() {
+    Point point = new Point("some-point");
+    Point otherPoint = new Point("other-point");
+    Block block = new Block("some-block").withMembers(Set.of(point.getReference()));
+
+    pool.addObject(point);
+    pool.addObject(otherPoint);
+    pool.addObject(block);
+
+    assertThat(pool.getBlockIndex().getBlocksContaining(point.getReference()), contains(block));
+    assertThat(pool.getBlockIndex().getBlocksContaining(otherPoint.getReference()), is(empty()));
+  }
+
+  @Test
+  void reuseBlockIndexUntilBlocksChange() {
+    Point point = new Point("some-point");
+    Block block = new Block("some-block").withMembers(Set.of(point.getReference()));
+    pool.addObject(point);
+    pool.addObject(block);
+
+    BlockIndex blockIndex = pool.getBlockIndex();
+    pool.replaceObject(point.withProperty("some-key", "some-value"));
+
+    assertThat(pool.getBlockIndex(), is(sameInstance(blockIndex)));
+
+    pool.removeObject(block.getReference());
+
+    assertThat(pool.getBlockIndex(), is(not(sameInstance(blockIndex))));
+    assertThat(pool.getBlockIndex().getBlocksContaining(point.getReference()), is(empty()));
+  }
+
+  @Test
+  void returnFinishedObjectsInOrderOfFinishing() {
+    TransportOrder order1 = new TransportOrder("order-1", List.of())
+        .withState(TransportOrder.State.FINISHED)
+        .withFinishedTime(Instant.ofEpochMilli(2000));
+    TransportOrder order2 = new TransportOrder("order-2", List.of())
+        .withState(TransportOrder.State.FINISHED)
+        .withFinishedTime(Instant.ofEpochMilli(1000));
+    TransportOrder order3 = new TransportOrder("order-3", List.of());
+    pool.addObject(order1);
+    pool.addObject(order2);
+    pool.addObject(order3);
+
+    assertThat(pool.streamFinishedObjects(TransportOrder.class).toList(), contains(order2, order1));
+
+    TransportOrder order3Finished = order3.withState(TransportOrder.State.FAILED)
+        .withFinishedTime(Instant.ofEpochMilli(1500));
+    pool.replaceObject(order3Finished);
+    pool.removeObject(order2.getReference());
+
+    assertThat(
+        pool.streamFinishedObjects(TransportOrder.class).toList(),
+        contains(order3Finished, order1)
+    );
+  }
+
+  @Test
+  void applyHistoryRetentionLimitOfObjectClass() {
+    pool = new TCSObjectRepository(Map.of(Vehicle.class, 2));
+    Vehicle vehicle = new Vehicle("some-vehicle")
+        .withHistoryEntry(new ObjectHistory.Entry("event-1"))
+        .withHistoryEntry(new ObjectHistory.Entry("event-2"))
+        .withHistoryEntry(new ObjectHistory.Entry("event-3"));
+    Point point = new Point("some-point")
+        .withHistoryEntry(new ObjectHistory.Entry("event-1"))
+        .withHistoryEntry(new ObjectHistory.Entry("event-2"))
+        .withHistoryEntry(new ObjectHistory.Entry("event-3"));
+    pool.addObject(vehicle);
+    pool.addObject(point);
+
+    assertThat(
+        pool.getObject(Vehicle.class, vehicle.getName()).getHistory().getEntries(),
+        hasSize(2)
+    );
+    assertThat(pool.getObject(Point.class, point.getName()).getHistory().getEntries(), hasSize(3));
+
+    pool.replaceObject(
+        pool.getObject(Vehicle.class, vehicle.getName())
+            .withHistoryEntry(new ObjectHistory.Entry("event-4"))
+    );
+
+    assertThat(
+        pool.getObject(Vehicle.class, vehicle.getName()).getHistory().getEntries().stream()
+            .map(ObjectHistory.Entry::getEventCode)
+            .toList(),
+        contains("event-3", "event-4")
+    );
+  }
 }
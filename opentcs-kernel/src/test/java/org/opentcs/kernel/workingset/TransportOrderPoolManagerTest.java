@@ -28,6 +28,8 @@ import org.opentcs.access.to.model.VehicleCreationTO;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.data.ObjectExistsException;
+import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderConstants;
 import org.opentcs.data.order.OrderSequence;
@@ -339,4 +341,104 @@ class TransportOrderPoolManagerTest {
 
     assertThat(objectRepo.getObjects(OrderSequence.class), is(empty()));
   }
+
+  @Test
+  void createTransportOrdersInBatch() {
+    OrderSequence sequence = orderPoolManager.createOrderSequence(
+        new OrderSequenceCreationTO("some-sequence")
+    );
+
+    List<TransportOrder> orders = orderPoolManager.createTransportOrders(
+        List.of(
+            new TransportOrderCreationTO(
+                "some-order",
+                List.of(new DestinationCreationTO("some-location", "NOP"))
+            )
+                .withWrappingSequence(sequence.getName()),
+            new TransportOrderCreationTO(
+                "some-other-order",
+                List.of(new DestinationCreationTO("some-location", "NOP"))
+            )
+                .withWrappingSequence(sequence.getName())
+                .withDependencyNames(Set.of("some-order"))
+        )
+    );
+
+    assertThat(orders, hasSize(2));
+    assertThat(objectRepo.getObjects(TransportOrder.class), hasSize(2));
+    assertThat(
+        objectRepo.getObject(OrderSequence.class, "some-sequence").getOrders(),
+        is(equalTo(List.of(orders.get(0).getReference(), orders.get(1).getReference())))
+    );
+    assertThat(
+        objectRepo.getObject(TransportOrder.class, "some-other-order").getDependencies(),
+        is(equalTo(Set.of(orders.get(0).getReference())))
+    );
+  }
+
+  @Test
+  void createNoTransportOrderIfAnyOrderInBatchIsInvalid() {
+    List<TransportOrderCreationTO> creationTOs = List.of(
+        new TransportOrderCreationTO(
+            "some-order",
+            List.of(new DestinationCreationTO("some-location", "NOP"))
+        ),
+        new TransportOrderCreationTO(
+            "some-other-order",
+            List.of(new DestinationCreationTO("some-unknown-location", "NOP"))
+        )
+    );
+
+    Assertions.assertThrows(
+        ObjectUnknownException.class,
+        () -> orderPoolManager.createTransportOrders(creationTOs)
+    );
+    assertThat(objectRepo.getObjects(TransportOrder.class), is(empty()));
+  }
+
+  @Test
+  void createNoTransportOrderIfBatchContainsDuplicateNames() {
+    List<TransportOrderCreationTO> creationTOs = List.of(
+        new TransportOrderCreationTO(
+            "some-order",
+            List.of(new DestinationCreationTO("some-location", "NOP"))
+        ),
+        new TransportOrderCreationTO(
+            "some-order",
+            List.of(new DestinationCreationTO("some-location", "NOP"))
+        )
+    );
+
+    Assertions.assertThrows(
+        ObjectExistsException.class,
+        () -> orderPoolManager.createTransportOrders(creationTOs)
+    );
+    assertThat(objectRepo.getObjects(TransportOrder.class), is(empty()));
+  }
+
+  @Test
+  void createOrderSequencesInBatchOnlyIfAllNamesAreAvailable() {
+    orderPoolManager.createOrderSequence(new OrderSequenceCreationTO("some-sequence"));
+
+    List<OrderSequenceCreationTO> creationTOs = List.of(
+        new OrderSequenceCreationTO("some-other-sequence"),
+        new OrderSequenceCreationTO("some-sequence")
+    );
+
+    Assertions.assertThrows(
+        ObjectExistsException.class,
+        () -> orderPoolManager.createOrderSequences(creationTOs)
+    );
+    assertThat(objectRepo.getObjects(OrderSequence.class), hasSize(1));
+
+    List<OrderSequence> sequences = orderPoolManager.createOrderSequences(
+        List.of(
+            new OrderSequenceCreationTO("some-other-sequence"),
+            new OrderSequenceCreationTO("yet-another-sequence")
+        )
+    );
+
+    assertThat(sequences, hasSize(2));
+    assertThat(objectRepo.getObjects(OrderSequence.class), hasSize(3));
+  }
 }
@@ -3,6 +3,7 @@
 package org.opentcs.kernel.workingset;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -26,6 +27,7 @@ class WorkingSetCleanupTaskTest {
   @BeforeEach
   void setup() {
     configuration = mock();
+    when(configuration.sweepBatchSize()).thenReturn(1000);
     objectRepository = new TCSObjectRepository();
     CreationTimeThreshold creationTimeThreshold = new CreationTimeThreshold();
 
@@ -146,4 +148,99 @@ class WorkingSetCleanupTaskTest {
     assertEquals(0, objectRepository.getObjects(TransportOrder.class).size());
   }
 
+  @Test
+  void removeAtMostBatchSizeObjectsPerSweep() {
+    when(configuration.sweepAge()).thenReturn(60000);
+    when(configuration.sweepBatchSize()).thenReturn(2);
+
+    for (int i = 0; i < 5; i++) {
+      objectRepository.addObject(
+          new TransportOrder("Order-" + i, List.of())
+              .withCreationTime(Instant.now().minusMillis(70000))
+              .withState(TransportOrder.State.FINISHED)
+              .withFinishedTime(Instant.now().minusMillis(10000 - i))
+      );
+    }
+
+    cleanupTask.run();
+    assertEquals(3, objectRepository.getObjects(TransportOrder.class).size());
+    // The orders that were finished first should have been removed first.
+    assertNull(objectRepository.getObjectOrNull(TransportOrder.class, "Order-0"));
+    assertNull(objectRepository.getObjectOrNull(TransportOrder.class, "Order-1"));
+
+    cleanupTask.run();
+    cleanupTask.run();
+    assertEquals(0, objectRepository.getObjects(TransportOrder.class).size());
+  }
+
+  @Test
+  void countRelatedPeripheralJobsTowardsBatchSize() {
+    when(configuration.sweepAge()).thenReturn(60000);
+    when(configuration.sweepBatchSize()).thenReturn(3);
+
+    objectRepository.addObject(
+        new TransportOrder("Order-0", List.of())
+            .withCreationTime(Instant.now().minusMillis(70000))
+            .withState(TransportOrder.State.FINISHED)
+            .withFinishedTime(Instant.now().minusMillis(20000))
+    );
+    TransportOrder order = new TransportOrder("Order-1", List.of())
+        .withCreationTime(Instant.now().minusMillis(70000))
+        .withState(TransportOrder.State.FINISHED)
+        .withFinishedTime(Instant.now().minusMillis(10000));
+    objectRepository.addObject(order);
+    for (int i = 0; i < 2; i++) {
+      objectRepository.addObject(
+          new PeripheralJob("Job-" + i, "Vehicle-1", mock())
+              .withCreationTime(Instant.now().minusMillis(65000))
+              .withState(PeripheralJob.State.FINISHED)
+              .withRelatedTransportOrder(order.getReference())
+      );
+    }
+
+    cleanupTask.run();
+    // Removing Order-1 and its two peripheral jobs would exceed the batch size.
+    assertNull(objectRepository.getObjectOrNull(TransportOrder.class, "Order-0"));
+    assertEquals(1, objectRepository.getObjects(TransportOrder.class).size());
+    assertEquals(2, objectRepository.getObjects(PeripheralJob.class).size());
+
+    cleanupTask.run();
+    assertEquals(0, objectRepository.getObjects(TransportOrder.class).size());
+    assertEquals(0, objectRepository.getObjects(PeripheralJob.class).size());
+  }
+
+  @Test
+  void countOrdersOfSequenceTowardsBatchSize() {
+    when(configuration.sweepAge()).thenReturn(60000);
+    when(configuration.sweepBatchSize()).thenReturn(2);
+
+    objectRepository.addObject(
+        new TransportOrder("Order-0", List.of())
+            .withCreationTime(Instant.now().minusMillis(70000))
+            .withState(TransportOrder.State.FINISHED)
+    );
+    OrderSequence orderSequence = new OrderSequence("seq-1")
+        .withCreationTime(Instant.now().minusMillis(70000));
+    objectRepository.addObject(orderSequence);
+    for (int i = 1; i <= 2; i++) {
+      TransportOrder order = new TransportOrder("Order-" + i, List.of())
+          .withCreationTime(Instant.now().minusMillis(70000))
+          .withState(TransportOrder.State.FINISHED)
+          .withWrappingSequence(orderSequence.getReference());
+      objectRepository.addObject(order);
+      orderSequence = orderSequence.withOrder(order.getReference());
+    }
+    objectRepository.replaceObject(orderSequence.withComplete(true).withFinished(true));
+
+    cleanupTask.run();
+    // Removing the order sequence and its two transport orders would exceed the batch size.
+    assertNull(objectRepository.getObjectOrNull(TransportOrder.class, "Order-0"));
+    assertEquals(2, objectRepository.getObjects(TransportOrder.class).size());
+    assertEquals(1, objectRepository.getObjects(OrderSequence.class).size());
+
+    // With nothing else to remove, the order sequence should be removed regardless of its size.
+    cleanupTask.run();
+    assertEquals(0, objectRepository.getObjects(TransportOrder.class).size());
+    assertEquals(0, objectRepository.getObjects(OrderSequence.class).size());
+  }
 }
@@ -2,12 +2,13 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.operationsdesk.components.drawing.figures;
 
+import static org.opentcs.operationsdesk.util.EventDispatchThreadUtil.executeOnEventDispatcherThread;
+
 import com.google.inject.assistedinject.Assisted;
 import jakarta.inject.Inject;
 import java.awt.Graphics2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
-import javax.swing.SwingUtilities;
 import org.jhotdraw.draw.Figure;
 import org.opentcs.components.plantoverview.VehicleTheme;
 import org.opentcs.data.model.Triple;
@@ -70,11 +71,11 @@ public class NamedVehicleFigure
 
     if (point == null && precisePosition == null) {
       // If neither the point nor the precise position is known, don't draw the figure.
-      SwingUtilities.invokeLater(() -> setVisible(false));
+      executeOnEventDispatcherThread(() -> setVisible(false));
     }
     else if (precisePosition != null && !isIgnorePrecisePosition()) {
       // If a precise position exists, it is set in setBounds(), so it doesn't need any coordinates.
-      SwingUtilities.invokeLater(() -> {
+      executeOnEventDispatcherThread(() -> {
         setVisible(true);
         setBounds(new Point2D.Double(), null);
       });
@@ -82,7 +83,7 @@ public class NamedVehicleFigure
       setFigureDetailsChanged(true);
     }
     else if (point != null) {
-      SwingUtilities.invokeLater(() -> {
+      executeOnEventDispatcherThread(() -> {
         setVisible(true);
         Figure pointFigure = getModelManager().getModel().getFigure(point);
         Rectangle2D.Double r = pointFigure.getBounds();
@@ -95,7 +96,7 @@ public class NamedVehicleFigure
       setFigureDetailsChanged(true);
     }
     else {
-      SwingUtilities.invokeLater(() -> setVisible(false));
+      executeOnEventDispatcherThread(() -> setVisible(false));
     }
   }
 
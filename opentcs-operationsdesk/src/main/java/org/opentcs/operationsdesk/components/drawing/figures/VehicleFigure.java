@@ -3,6 +3,7 @@
 package org.opentcs.operationsdesk.components.drawing.figures;
 
 import static java.util.Objects.requireNonNull;
+import static org.opentcs.operationsdesk.util.EventDispatchThreadUtil.executeOnEventDispatcherThread;
 
 import com.google.inject.assistedinject.Assisted;
 import jakarta.inject.Inject;
@@ -18,7 +19,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
-import javax.swing.SwingUtilities;
 import org.jhotdraw.draw.DrawingView;
 import org.jhotdraw.draw.Figure;
 import org.jhotdraw.draw.handle.Handle;
@@ -461,7 +461,10 @@ public class VehicleFigure
     updateFigureDetails((VehicleModel) e.getModel());
 
     if (isFigureDetailsChanged()) {
-      SwingUtilities.invokeLater(() -> {
+      // Model changes are usually processed on the EDT already, in batches. Firing the change
+      // directly lets the drawing views collect the invalidated areas of all figures changed
+      // with a batch instead of queueing another task per figure.
+      executeOnEventDispatcherThread(() -> {
         // Only call if the figure is visible - will cause NPE in BoundsOutlineHandle otherwise.
         if (isVisible()) {
           fireFigureChanged();
@@ -0,0 +1,110 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.operationsdesk.exchange;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * Collects events until they are drained, keeping only the latest modification of each object.
+ * <p>
+ * When a modification of an object is added while a previous modification of the same object is
+ * still queued, both are merged into a single modification event (with the previous object state
+ * of the earlier and the current object state of the later event) that takes the place of the later
+ * event. Creations and removals of objects, as well as all other events, are never merged and keep
+ * their order.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+class CoalescingEventQueue {
+
+  /**
+   * The queued events. Contains {@code null} for events that have been merged into later ones.
+   */
+  private final List<Object> events = new ArrayList<>();
+  /**
+   * The indices of queued modification events that may still be merged, mapped by the modified
+   * objects' references.
+   */
+  private final Map<TCSObjectReference<?>, Integer> modificationIndices = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   */
+  CoalescingEventQueue() {
+  }
+
+  /**
+   * Adds the given events to this queue.
+   *
+   * @param newEvents The events.
+   */
+  public synchronized void addAll(
+      @Nonnull
+      List<Object> newEvents
+  ) {
+    requireNonNull(newEvents, "newEvents");
+
+    for (Object event : newEvents) {
+      add(event);
+    }
+  }
+
+  /**
+   * Removes and returns all events in this queue.
+   *
+   * @return The events, in the order in which they are to be processed.
+   */
+  @Nonnull
+  public synchronized List<Object> drain() {
+    List<Object> result = events.stream()
+        .filter(Objects::nonNull)
+        .toList();
+    events.clear();
+    modificationIndices.clear();
+    return result;
+  }
+
+  private void add(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)) {
+      events.add(event);
+      return;
+    }
+
+    TCSObjectReference<?> objectRef
+        = objectEvent.getCurrentOrPreviousObjectState().getReference();
+    if (objectEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
+      // Modifications before a creation or removal must not be merged with ones after it.
+      modificationIndices.remove(objectRef);
+      events.add(event);
+      return;
+    }
+
+    Integer queuedIndex = modificationIndices.get(objectRef);
+    if (queuedIndex == null) {
+      modificationIndices.put(objectRef, events.size());
+      events.add(event);
+      return;
+    }
+
+    TCSObjectEvent queuedEvent = (TCSObjectEvent) events.set(queuedIndex, null);
+    modificationIndices.put(objectRef, events.size());
+    events.add(
+        new TCSObjectEvent(
+            objectEvent.getCurrentObjectState(),
+            queuedEvent.getPreviousObjectState(),
+            TCSObjectEvent.Type.OBJECT_MODIFIED
+        )
+    );
+  }
+}
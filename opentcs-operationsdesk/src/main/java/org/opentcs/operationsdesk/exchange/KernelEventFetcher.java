@@ -8,6 +8,7 @@ import static org.opentcs.util.Assertions.checkInRange;
 import jakarta.inject.Inject;
 import java.util.List;
 import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.KernelServicePortal;
@@ -18,6 +19,7 @@ import org.opentcs.common.KernelClientApplication;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.operationsdesk.event.KernelStateChangeEvent;
+import org.opentcs.operationsdesk.util.OperationsDeskConfiguration;
 import org.opentcs.util.CyclicTask;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
@@ -27,6 +29,11 @@ import org.slf4j.LoggerFactory;
 /**
  * Periodically fetches events from the kernel, if connected, and publishes them via the local event
  * bus.
+ * <p>
+ * Fetched events are not published individually but collected and published in batches on the
+ * event dispatcher thread, at most at the configured event delivery rate. Within a batch, only the
+ * latest modification of each object is published.
+ * </p>
  */
 public class KernelEventFetcher
     implements
@@ -45,6 +52,10 @@ public class KernelEventFetcher
    * The time to wait for events to arrive when fetching (in ms).
    */
   private final long eventFetchTimeout = 1000;
+  /**
+   * The time to wait between deliveries of fetched events (in ms).
+   */
+  private final int eventDeliveryInterval;
   /**
    * Where we send events and receive them from.
    */
@@ -80,18 +91,26 @@ public class KernelEventFetcher
    * @param eventBus Where this instance sends events.
    * @param servicePortalProvider Provides a shared portal instance.
    * @param kernelClientApplication The kernel client application.
+   * @param configuration The application's configuration.
    */
   @Inject
   public KernelEventFetcher(
       @ApplicationEventBus
       EventBus eventBus,
       SharedKernelServicePortalProvider servicePortalProvider,
-      KernelClientApplication kernelClientApplication
+      KernelClientApplication kernelClientApplication,
+      OperationsDeskConfiguration configuration
   ) {
     this.eventBus = requireNonNull(eventBus, "eventBus");
     this.servicePortalProvider = requireNonNull(servicePortalProvider, "servicePortalProvider");
     this.kernelClientApplication
         = requireNonNull(kernelClientApplication, "kernelClientApplication");
+    this.eventDeliveryInterval = 1000 / checkInRange(
+        requireNonNull(configuration, "configuration").eventDeliveryRate(),
+        1,
+        1000,
+        "eventDeliveryRate"
+    );
   }
 
   @Override
@@ -146,9 +165,11 @@ public class KernelEventFetcher
     sharedServicePortal = servicePortalProvider.register();
     servicePortal = sharedServicePortal.getPortal();
 
-    eventFetcherTask = new EventFetcherTask(eventFetchInterval, eventFetchTimeout);
+    eventFetcherTask
+        = new EventFetcherTask(eventFetchInterval, eventFetchTimeout, eventDeliveryInterval);
     Thread eventFetcherThread = new Thread(eventFetcherTask, "KernelEventFetcher");
     eventFetcherThread.start();
+    eventFetcherTask.startDelivery();
   }
 
   private void handleKernelDisconnect() {
@@ -157,6 +178,7 @@ public class KernelEventFetcher
     }
     // Stop polling for events.
     eventFetcherTask.terminate();
+    eventFetcherTask.stopDelivery();
     eventFetcherTask = null;
 
     sharedServicePortal.close();
@@ -174,6 +196,14 @@ public class KernelEventFetcher
      * The poll timeout.
      */
     private final long timeout;
+    /**
+     * The fetched events that have not yet been delivered.
+     */
+    private final CoalescingEventQueue pendingEvents = new CoalescingEventQueue();
+    /**
+     * Periodically delivers the pending events on the event dispatcher thread.
+     */
+    private final Timer deliveryTimer;
 
     /**
      * Creates a new instance.
@@ -181,10 +211,44 @@ public class KernelEventFetcher
      * @param interval The time to wait between polls in ms.
      * @param timeout The timeout in ms for which to wait for events to arrive with each polling
      * call.
+     * @param deliveryInterval The time to wait between deliveries of fetched events in ms.
      */
-    private EventFetcherTask(long interval, long timeout) {
+    private EventFetcherTask(long interval, long timeout, int deliveryInterval) {
       super(interval);
       this.timeout = checkInRange(timeout, 1, Long.MAX_VALUE, "timeout");
+      this.deliveryTimer = new Timer(deliveryInterval, actionEvent -> deliverPendingEvents());
+    }
+
+    /**
+     * Starts delivering fetched events.
+     */
+    private void startDelivery() {
+      deliveryTimer.start();
+    }
+
+    /**
+     * Stops delivering fetched events, delivering the ones that are still pending one last time.
+     */
+    private void stopDelivery() {
+      deliveryTimer.stop();
+      SwingUtilities.invokeLater(this::deliverPendingEvents);
+    }
+
+    /**
+     * Forwards all pending events to the registered listeners.
+     * Must be called on the event dispatcher thread, so that GUI-/drawing-related code is executed
+     * on the correct thread.
+     */
+    private void deliverPendingEvents() {
+      for (Object event : pendingEvents.drain()) {
+        LOG.debug("Processing fetched event: {}", event);
+        try {
+          eventBus.onEvent(event);
+        }
+        catch (RuntimeException exc) {
+          LOG.warn("Exception processing fetched event: {}", event, exc);
+        }
+      }
     }
 
     @Override
@@ -193,13 +257,10 @@ public class KernelEventFetcher
       try {
         LOG.debug("Fetching remote kernel for events");
         List<Object> events = servicePortal.fetchEvents(timeout);
-        for (Object event : events) {
-          LOG.debug("Processing fetched event: {}", event);
-          // Forward received events to all registered listeners, but do that on the event
-          // dispatcher thread. This ensures that GUI-/drawing-related code is executed on the
-          // correct thread.
-          SwingUtilities.invokeLater(() -> eventBus.onEvent(event));
+        // Forward received events to all registered listeners with the next delivery.
+        pendingEvents.addAll(events);
 
+        for (Object event : events) {
           // Check if the kernel notifies us about a state change.
           if (event instanceof KernelStateTransitionEvent) {
             KernelStateTransitionEvent stateEvent = (KernelStateTransitionEvent) event;
@@ -3,11 +3,14 @@
 package org.opentcs.operationsdesk.transport.orders;
 
 import static java.util.Objects.requireNonNull;
+import static org.opentcs.operationsdesk.util.EventDispatchThreadUtil.executeOnEventDispatcherThread;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.Vector;
 import javax.swing.SwingUtilities;
@@ -94,6 +97,10 @@ public class TransportOrderTableModel
   };
 
   private final List<TransportOrder> entries = new ArrayList<>();
+  /**
+   * Updated transport orders not yet applied to the entries, mapped by their names.
+   */
+  private final Map<String, TransportOrder> pendingUpdates = new LinkedHashMap<>();
 
   /**
    * Creates a new instance.
@@ -177,10 +184,11 @@ public class TransportOrderTableModel
   public void containerInitialized(Collection<TransportOrder> orders) {
     requireNonNull(orders, "orders");
 
-    SwingUtilities.invokeLater(() -> {
+    executeOnEventDispatcherThread(() -> {
       // Notifications of any change listeners must happen at the same time/in the same thread the
       // data behind the model is updated. Otherwise, there is a risk that listeners work with/
       // refer to outdated data, which can lead to runtime exceptions.
+      pendingUpdates.clear();
       entries.clear();
       entries.addAll(orders);
       fireTableDataChanged();
@@ -191,7 +199,8 @@ public class TransportOrderTableModel
   public void transportOrderAdded(TransportOrder order) {
     requireNonNull(order, "order");
 
-    SwingUtilities.invokeLater(() -> {
+    executeOnEventDispatcherThread(() -> {
+      applyPendingUpdates();
       entries.add(order);
       fireTableRowsInserted(entries.size() - 1, entries.size() - 1);
     });
@@ -201,14 +210,12 @@ public class TransportOrderTableModel
   public void transportOrderUpdated(TransportOrder order) {
     requireNonNull(order, "order");
 
-    SwingUtilities.invokeLater(() -> {
-      int orderIndex = ListSearchUtil.binarySearch(entries, order, TransportOrder::getCreationTime);
-      if (orderIndex == -1) {
-        LOG.warn("Unknown transport order: {}. Ignoring order update.", order.getName());
-        return;
+    executeOnEventDispatcherThread(() -> {
+      // Updates are applied together after all events currently being processed on the EDT.
+      if (pendingUpdates.isEmpty()) {
+        SwingUtilities.invokeLater(this::applyPendingUpdates);
       }
-      entries.set(orderIndex, order);
-      fireTableRowsUpdated(orderIndex, orderIndex);
+      pendingUpdates.put(order.getName(), order);
     });
   }
 
@@ -216,7 +223,8 @@ public class TransportOrderTableModel
   public void transportOrderRemoved(TransportOrder order) {
     requireNonNull(order, "order");
 
-    SwingUtilities.invokeLater(() -> {
+    executeOnEventDispatcherThread(() -> {
+      applyPendingUpdates();
       int orderIndex = ListSearchUtil.binarySearch(entries, order, TransportOrder::getCreationTime);
       if (orderIndex == -1) {
         LOG.warn("Unknown transport order: {}. Ignoring order removal.", order.getName());
@@ -241,4 +249,32 @@ public class TransportOrderTableModel
 
     return entries.get(index);
   }
+
+  /**
+   * Applies all pending updates of transport orders to the entries, notifying listeners with a
+   * single event covering all updated rows.
+   */
+  private void applyPendingUpdates() {
+    if (pendingUpdates.isEmpty()) {
+      return;
+    }
+
+    int firstRow = Integer.MAX_VALUE;
+    int lastRow = -1;
+    for (TransportOrder order : pendingUpdates.values()) {
+      int orderIndex = ListSearchUtil.binarySearch(entries, order, TransportOrder::getCreationTime);
+      if (orderIndex == -1) {
+        LOG.warn("Unknown transport order: {}. Ignoring order update.", order.getName());
+        continue;
+      }
+      entries.set(orderIndex, order);
+      firstRow = Math.min(firstRow, orderIndex);
+      lastRow = Math.max(lastRow, orderIndex);
+    }
+    pendingUpdates.clear();
+
+    if (lastRow != -1) {
+      fireTableRowsUpdated(firstRow, lastRow);
+    }
+  }
 }
@@ -3,10 +3,13 @@
 package org.opentcs.operationsdesk.transport.sequences;
 
 import static java.util.Objects.requireNonNull;
+import static org.opentcs.operationsdesk.util.EventDispatchThreadUtil.executeOnEventDispatcherThread;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
 import javax.swing.SwingUtilities;
 import javax.swing.table.AbstractTableModel;
@@ -63,6 +66,10 @@ public class OrderSequenceTableModel
   };
 
   private final List<OrderSequence> entries = new ArrayList<>();
+  /**
+   * Updated order sequences not yet applied to the entries, mapped by their names.
+   */
+  private final Map<String, OrderSequence> pendingUpdates = new LinkedHashMap<>();
 
   /**
    * Creates a new instance.
@@ -137,10 +144,11 @@ public class OrderSequenceTableModel
   public void containerInitialized(Collection<OrderSequence> sequences) {
     requireNonNull(sequences, "sequences");
 
-    SwingUtilities.invokeLater(() -> {
+    executeOnEventDispatcherThread(() -> {
       // Notifiations of any change listeners must happen at the same time/in the same thread the
       // data behind the model is updated. Otherwise, there is a risk that listeners work with/
       // refer to outdated data, which can lead to runtime exceptions.
+      pendingUpdates.clear();
       entries.clear();
       entries.addAll(sequences);
       fireTableDataChanged();
@@ -151,7 +159,8 @@ public class OrderSequenceTableModel
   public void orderSequenceAdded(OrderSequence sequence) {
     requireNonNull(sequence, "sequence");
 
-    SwingUtilities.invokeLater(() -> {
+    executeOnEventDispatcherThread(() -> {
+      applyPendingUpdates();
       entries.add(sequence);
       fireTableRowsInserted(entries.size() - 1, entries.size() - 1);
     });
@@ -161,22 +170,20 @@ public class OrderSequenceTableModel
   public void orderSequenceUpdated(OrderSequence sequence) {
     requireNonNull(sequence, "sequence");
 
-    SwingUtilities.invokeLater(() -> {
-      int sequenceIndex
-          = ListSearchUtil.binarySearch(entries, sequence, OrderSequence::getCreationTime);
-      if (sequenceIndex == -1) {
-        LOG.warn("Unknown order sequence: {}. Ignoring order sequence update.", sequence.getName());
-        return;
+    executeOnEventDispatcherThread(() -> {
+      // Updates are applied together after all events currently being processed on the EDT.
+      if (pendingUpdates.isEmpty()) {
+        SwingUtilities.invokeLater(this::applyPendingUpdates);
       }
-      entries.set(sequenceIndex, sequence);
-      fireTableRowsUpdated(sequenceIndex, sequenceIndex);
+      pendingUpdates.put(sequence.getName(), sequence);
     });
   }
 
   @Override
   public void orderSequenceRemoved(OrderSequence sequence) {
     requireNonNull(sequence, "sequence");
-    SwingUtilities.invokeLater(() -> {
+    executeOnEventDispatcherThread(() -> {
+      applyPendingUpdates();
       int sequenceIndex
           = ListSearchUtil.binarySearch(entries, sequence, OrderSequence::getCreationTime);
       if (sequenceIndex == -1) {
@@ -204,4 +211,33 @@ public class OrderSequenceTableModel
 
     return entries.get(index);
   }
+
+  /**
+   * Applies all pending updates of order sequences to the entries, notifying listeners with a
+   * single event covering all updated rows.
+   */
+  private void applyPendingUpdates() {
+    if (pendingUpdates.isEmpty()) {
+      return;
+    }
+
+    int firstRow = Integer.MAX_VALUE;
+    int lastRow = -1;
+    for (OrderSequence sequence : pendingUpdates.values()) {
+      int sequenceIndex
+          = ListSearchUtil.binarySearch(entries, sequence, OrderSequence::getCreationTime);
+      if (sequenceIndex == -1) {
+        LOG.warn("Unknown order sequence: {}. Ignoring order sequence update.", sequence.getName());
+        continue;
+      }
+      entries.set(sequenceIndex, sequence);
+      firstRow = Math.min(firstRow, sequenceIndex);
+      lastRow = Math.max(lastRow, sequenceIndex);
+    }
+    pendingUpdates.clear();
+
+    if (lastRow != -1) {
+      fireTableRowsUpdated(firstRow, lastRow);
+    }
+  }
 }
@@ -0,0 +1,37 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.operationsdesk.util;
+
+import static java.util.Objects.requireNonNull;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Utility methods for executing code on the EDT (event dispatch thread).
+ */
+public class EventDispatchThreadUtil {
+
+  /**
+   * Prevents instantiation.
+   */
+  private EventDispatchThreadUtil() {
+  }
+
+  /**
+   * Ensures the given runnable is executed on the EDT.
+   * If the runnable is already being called on the EDT, the runnable is executed immediately.
+   * Otherwise it is scheduled for execution on the EDT.
+   *
+   * @param runnable The runnable.
+   */
+  public static void executeOnEventDispatcherThread(Runnable runnable) {
+    requireNonNull(runnable, "runnable");
+
+    if (SwingUtilities.isEventDispatchThread()) {
+      runnable.run();
+    }
+    else {
+      SwingUtilities.invokeLater(runnable);
+    }
+  }
+}
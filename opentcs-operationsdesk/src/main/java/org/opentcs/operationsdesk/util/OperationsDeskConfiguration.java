@@ -106,6 +106,19 @@ public interface OperationsDeskConfiguration
   )
   boolean ignoreVehicleOrientationAngle();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of times per second events received from the kernel are delivered "
+              + "to the user interface.",
+          "Events received in between are delivered together, with only the latest modification "
+              + "of each object being delivered."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "4_behaviour_2"
+  )
+  int eventDeliveryRate();
+
   @ConfigurationEntry(
       type = "Integer",
       description = "The maximum number of most recent user notifications to be displayed.",
@@ -18,6 +18,7 @@ import java.beans.PropertyChangeEvent;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import javax.swing.SwingUtilities;
 import org.jhotdraw.draw.DefaultDrawingView;
 import org.jhotdraw.draw.Figure;
 import org.opentcs.guing.base.model.ModelComponent;
@@ -43,6 +44,11 @@ public class OpenTCSDrawingViewOperating
    * The vehicle the view should highlight and follow.
    */
   private VehicleModel fFocusVehicle;
+  /**
+   * The union of the drawing areas invalidated since the last repaint, or {@code null}, if no
+   * repaint is pending.
+   */
+  private Rectangle2D.Double dirtyArea;
 
   /**
    * Creates new instance.
@@ -55,6 +61,36 @@ public class OpenTCSDrawingViewOperating
     super(appState, modelManager);
   }
 
+  /**
+   * Repaints the given drawing area.
+   * <p>
+   * When called on the EDT, the area is not repainted immediately. Instead, the areas invalidated
+   * while processing the current task on the EDT (e.g. a batch of changed figures) are collected,
+   * and their union is repainted once afterwards.
+   * </p>
+   *
+   * @param area The drawing area to repaint.
+   */
+  @Override
+  protected void repaintDrawingArea(Rectangle2D.Double area) {
+    if (!SwingUtilities.isEventDispatchThread()) {
+      super.repaintDrawingArea(area);
+      return;
+    }
+
+    if (dirtyArea != null) {
+      dirtyArea.add(area);
+      return;
+    }
+
+    dirtyArea = (Rectangle2D.Double) area.clone();
+    SwingUtilities.invokeLater(() -> {
+      Rectangle2D.Double areaToRepaint = dirtyArea;
+      dirtyArea = null;
+      super.repaintDrawingArea(areaToRepaint);
+    });
+  }
+
   @Override
   public void removeAll() {
     fVehicles.clear();
@@ -0,0 +1,125 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.operationsdesk.exchange;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Tests for {@link CoalescingEventQueue}.
+ */
+class CoalescingEventQueueTest {
+
+  private CoalescingEventQueue queue;
+
+  @BeforeEach
+  void setUp() {
+    queue = new CoalescingEventQueue();
+  }
+
+  @Test
+  void mergeModificationsOfSameObject() {
+    Vehicle vehicle0 = new Vehicle("Vehicle-1");
+    Vehicle vehicle1 = vehicle0.withEnergyLevel(90);
+    Vehicle vehicle2 = vehicle1.withEnergyLevel(80);
+    Vehicle vehicle3 = vehicle2.withEnergyLevel(70);
+
+    queue.addAll(
+        List.of(
+            modification(vehicle1, vehicle0),
+            modification(vehicle2, vehicle1),
+            modification(vehicle3, vehicle2)
+        )
+    );
+
+    List<Object> events = queue.drain();
+    assertThat(events, hasSize(1));
+    assertThat(events.get(0), is(instanceOf(TCSObjectEvent.class)));
+    TCSObjectEvent event = (TCSObjectEvent) events.get(0);
+    assertThat(event.getType(), is(TCSObjectEvent.Type.OBJECT_MODIFIED));
+    assertThat(event.getPreviousObjectState(), is(sameInstance(vehicle0)));
+    assertThat(event.getCurrentObjectState(), is(sameInstance(vehicle3)));
+  }
+
+  @Test
+  void deliverMergedModificationInPlaceOfLatestOne() {
+    Vehicle vehicleA0 = new Vehicle("Vehicle-A");
+    Vehicle vehicleA1 = vehicleA0.withEnergyLevel(90);
+    Vehicle vehicleA2 = vehicleA1.withEnergyLevel(80);
+    Vehicle vehicleB0 = new Vehicle("Vehicle-B");
+    Vehicle vehicleB1 = vehicleB0.withEnergyLevel(90);
+    Object otherEvent = new Object();
+
+    queue.addAll(
+        List.of(
+            modification(vehicleA1, vehicleA0),
+            modification(vehicleB1, vehicleB0),
+            otherEvent,
+            modification(vehicleA2, vehicleA1)
+        )
+    );
+
+    List<Object> events = queue.drain();
+    assertThat(events, hasSize(3));
+    assertThat(
+        ((TCSObjectEvent) events.get(0)).getCurrentObjectState(),
+        is(sameInstance(vehicleB1))
+    );
+    assertThat(events.get(1), is(sameInstance(otherEvent)));
+    assertThat(
+        ((TCSObjectEvent) events.get(2)).getCurrentObjectState(),
+        is(sameInstance(vehicleA2))
+    );
+  }
+
+  @Test
+  void doNotMergeModificationsAcrossRemovals() {
+    Vehicle vehicle0 = new Vehicle("Vehicle-1");
+    Vehicle vehicle1 = vehicle0.withEnergyLevel(90);
+    Vehicle vehicle2 = new Vehicle("Vehicle-1");
+    Vehicle vehicle3 = vehicle2.withEnergyLevel(80);
+
+    TCSObjectEvent modification1 = modification(vehicle1, vehicle0);
+    TCSObjectEvent removal
+        = new TCSObjectEvent(null, vehicle1, TCSObjectEvent.Type.OBJECT_REMOVED);
+    TCSObjectEvent creation
+        = new TCSObjectEvent(vehicle2, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    TCSObjectEvent modification2 = modification(vehicle3, vehicle2);
+
+    queue.addAll(List.of(modification1, removal, creation, modification2));
+
+    assertThat(queue.drain(), contains(modification1, removal, creation, modification2));
+  }
+
+  @Test
+  void emptyQueueWhenDrained() {
+    Vehicle vehicle0 = new Vehicle("Vehicle-1");
+    Vehicle vehicle1 = vehicle0.withEnergyLevel(90);
+    Vehicle vehicle2 = vehicle1.withEnergyLevel(80);
+
+    TCSObjectEvent modification1 = modification(vehicle1, vehicle0);
+    TCSObjectEvent modification2 = modification(vehicle2, vehicle1);
+
+    queue.addAll(List.of(modification1));
+    assertThat(queue.drain(), contains(modification1));
+    assertThat(queue.drain(), is(empty()));
+
+    queue.addAll(List.of(modification2));
+    assertThat(queue.drain(), contains(modification2));
+  }
+
+  private TCSObjectEvent modification(Vehicle currentState, Vehicle previousState) {
+    return new TCSObjectEvent(currentState, previousState, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+}
@@ -12,6 +12,8 @@ import org.opentcs.customizations.kernel.KernelInjectionModule;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.ReroutingType;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.CandidateComputationPool;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.GlobalAssignmentStatistics;
 import org.opentcs.strategies.basic.dispatching.phase.parking.DefaultParkingPositionSupplier;
 import org.opentcs.strategies.basic.dispatching.phase.parking.ParkingPositionSupplier;
 import org.opentcs.strategies.basic.dispatching.phase.recharging.DefaultRechargePositionSupplier;
@@ -114,6 +116,12 @@ public class DefaultDispatcherModule
 
     bind(OrderReservationPool.class)
         .in(Singleton.class);
+    bind(CandidateComputationPool.class)
+        .in(Singleton.class);
+    bind(GlobalAssignmentStatistics.class)
+        .in(Singleton.class);
+    bind(DispatchScopeTracker.class)
+        .in(Singleton.class);
 
     bind(ParkingPositionSupplier.class)
         .to(DefaultParkingPositionSupplier.class)
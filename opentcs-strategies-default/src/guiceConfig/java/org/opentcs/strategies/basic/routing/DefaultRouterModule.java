@@ -6,14 +6,17 @@ import com.google.inject.assistedinject.FactoryModuleBuilder;
 import jakarta.inject.Singleton;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
+import org.opentcs.strategies.basic.routing.edgeevaluator.CongestionConfiguration;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorBoundingBox;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorComposite;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorCongestion;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorDistance;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorExplicitProperties;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorHops;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorTravelTime;
 import org.opentcs.strategies.basic.routing.edgeevaluator.ExplicitPropertiesConfiguration;
 import org.opentcs.strategies.basic.routing.jgrapht.BellmanFordPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.CompactPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.DijkstraPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.FloydWarshallPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
@@ -81,6 +84,10 @@ public class DefaultRouterModule
         bind(PointRouterFactory.class)
             .to(FloydWarshallPointRouterFactory.class);
         break;
+      case COMPACT_DIJKSTRA:
+        bind(PointRouterFactory.class)
+            .to(CompactPointRouterFactory.class);
+        break;
       default:
         LOG.warn(
             "Unhandled algorithm selected ({}), falling back to Dijkstra's algorithm.",
@@ -105,6 +112,12 @@ public class DefaultRouterModule
     edgeEvaluatorBinder()
         .addBinding(EdgeEvaluatorBoundingBox.CONFIGURATION_KEY)
         .to(EdgeEvaluatorBoundingBox.class);
+    edgeEvaluatorBinder()
+        .addBinding(EdgeEvaluatorCongestion.CONFIGURATION_KEY)
+        .to(EdgeEvaluatorCongestion.class);
+
+    bind(EdgeEvaluatorCongestion.class)
+        .in(Singleton.class);
 
     bind(EdgeEvaluatorComposite.class)
         .in(Singleton.class);
@@ -117,6 +130,14 @@ public class DefaultRouterModule
             )
         );
 
+    bind(CongestionConfiguration.class)
+        .toInstance(
+            getConfigBindingProvider().get(
+                CongestionConfiguration.PREFIX,
+                CongestionConfiguration.class
+            )
+        );
+
     bind(DefaultRoutingGroupMapper.class)
         .in(Singleton.class);
     bind(GroupMapper.class)
@@ -19,6 +19,7 @@ import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.ReroutingType;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.CandidateComputationPool;
 import org.opentcs.strategies.basic.dispatching.phase.assignment.OrderAssigner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,6 +63,10 @@ public class DefaultDispatcher
   private final OrderAssigner orderAssigner;
 
   private final TransportOrderAssignmentChecker transportOrderAssignmentChecker;
+  /**
+   * Computes assignment candidates, possibly in parallel.
+   */
+  private final CandidateComputationPool candidateComputationPool;
 
   private ScheduledFuture<?> periodicDispatchTaskFuture;
   /**
@@ -83,6 +88,7 @@ public class DefaultDispatcher
    * @param orderAssigner Handles assignments of transport orders to vehicles.
    * @param transportOrderAssignmentChecker Checks whether the assignment of transport orders to
    * vehicles is possible.
+   * @param candidateComputationPool Computes assignment candidates, possibly in parallel.
    */
   @Inject
   public DefaultDispatcher(
@@ -96,7 +102,8 @@ public class DefaultDispatcher
       DefaultDispatcherConfiguration configuration,
       RerouteUtil rerouteUtil,
       OrderAssigner orderAssigner,
-      TransportOrderAssignmentChecker transportOrderAssignmentChecker
+      TransportOrderAssignmentChecker transportOrderAssignmentChecker,
+      CandidateComputationPool candidateComputationPool
   ) {
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
@@ -114,6 +121,10 @@ public class DefaultDispatcher
         transportOrderAssignmentChecker,
         "transportOrderAssignmentChecker"
     );
+    this.candidateComputationPool = requireNonNull(
+        candidateComputationPool,
+        "candidateComputationPool"
+    );
   }
 
   @Override
@@ -126,6 +137,7 @@ public class DefaultDispatcher
 
     transportOrderUtil.initialize();
     orderReservationPool.clear();
+    candidateComputationPool.initialize();
 
     fullDispatchTask.initialize();
 
@@ -155,6 +167,7 @@ public class DefaultDispatcher
     periodicDispatchTaskFuture = null;
 
     fullDispatchTask.terminate();
+    candidateComputationPool.terminate();
 
     initialized = false;
   }
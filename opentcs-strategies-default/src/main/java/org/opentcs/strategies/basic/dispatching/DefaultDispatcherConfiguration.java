@@ -92,6 +92,75 @@ public interface DefaultDispatcherConfiguration {
   )
   int maxRoutesToConsider();
 
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {"Whether to compute the routes of assignment candidates for vehicle/order "
+          + "pairs in parallel.",
+          "Assignment candidate selection filters are still applied and assignments are still "
+              + "committed one at a time, and the assignments are the same as with sequential "
+              + "computation.",
+          "Routes are only computed in parallel with the default router. With any other "
+              + "router, they are computed sequentially before the assignments are made."},
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_assign_special_2"
+  )
+  boolean parallelCandidateComputation();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {"The number of threads to use for computing assignment candidates in "
+          + "parallel.",
+          "If less than 1, the number of available processors is used."},
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_assign_special_3"
+  )
+  int candidateComputationParallelism();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "The strategy to use for assigning transport orders to vehicles.",
+          "Possible values:",
+          "GREEDY: Assign orders to vehicles one at a time, in the order defined by the "
+              + "configured priorities.",
+          "GLOBAL_MIN_COST: Assign orders to vehicles such that the sum of all routing costs is "
+              + "minimal, ignoring candidate priorities."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "0_assign_special_4"
+  )
+  AssignmentStrategy assignmentStrategy();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {"The maximum time (in ms) to spend on computing a global min-cost "
+          + "assignment, including the computation of the assignment candidates.",
+          "If exceeded, the GREEDY strategy is used for the respective dispatch run."},
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "0_assign_special_5"
+  )
+  long globalAssignmentTimeBudget();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {"Whether to dispatch incrementally, i.e. to consider only pairings of vehicles "
+          + "and transport orders of which at least one changed since the previous dispatch run.",
+          "Dispatch runs considering all vehicles and transport orders are still done after "
+              + "changes to plant model elements and periodically."},
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_assign_special_6"
+  )
+  boolean incrementalDispatching();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum time (in ms) between two dispatch runs considering all vehicles "
+          + "and transport orders when dispatching incrementally.",
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "0_assign_special_7"
+  )
+  long fullDispatchInterval();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether orders to the current position with no operation should be assigned.",
@@ -190,6 +259,20 @@ public interface DefaultDispatcherConfiguration {
   )
   long idleVehicleRedispatchingInterval();
 
+  /**
+   * The available strategies for assigning transport orders to vehicles.
+   */
+  enum AssignmentStrategy {
+    /**
+     * Assign orders to vehicles one at a time, in the order defined by the configured priorities.
+     */
+    GREEDY,
+    /**
+     * Assign orders to vehicles such that the sum of all routing costs is minimal.
+     */
+    GLOBAL_MIN_COST;
+  }
+
   /**
    * The available strategies for situations in which rerouting is not possible.
    */
@@ -0,0 +1,169 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.HashSet;
+import java.util.Set;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Describes which vehicles and transport orders are to be considered in a dispatch run.
+ * <p>
+ * A full scope covers all vehicles and transport orders. An incremental scope covers only the
+ * vehicles and transport orders that have changed since the previous dispatch run, i.e. only
+ * pairings of vehicles and transport orders of which at least one has changed.
+ * </p>
+ */
+public class DispatchScope {
+
+  /**
+   * Whether this scope covers all vehicles and transport orders.
+   */
+  private final boolean full;
+  /**
+   * The changed vehicles.
+   */
+  private final Set<TCSObjectReference<Vehicle>> vehicles;
+  /**
+   * The changed transport orders.
+   */
+  private final Set<TCSObjectReference<TransportOrder>> orders;
+
+  private DispatchScope(
+      boolean full,
+      Set<TCSObjectReference<Vehicle>> vehicles,
+      Set<TCSObjectReference<TransportOrder>> orders
+  ) {
+    this.full = full;
+    this.vehicles = vehicles;
+    this.orders = orders;
+  }
+
+  /**
+   * Returns a scope covering all vehicles and transport orders.
+   *
+   * @return A scope covering all vehicles and transport orders.
+   */
+  @Nonnull
+  public static DispatchScope full() {
+    return new DispatchScope(true, Set.of(), Set.of());
+  }
+
+  /**
+   * Returns a scope covering only the given (changed) vehicles and transport orders.
+   *
+   * @param vehicles The changed vehicles.
+   * @param orders The changed transport orders.
+   * @return A scope covering only the given vehicles and transport orders.
+   */
+  @Nonnull
+  public static DispatchScope incremental(
+      @Nonnull
+      Set<TCSObjectReference<Vehicle>> vehicles,
+      @Nonnull
+      Set<TCSObjectReference<TransportOrder>> orders
+  ) {
+    requireNonNull(vehicles, "vehicles");
+    requireNonNull(orders, "orders");
+
+    return new DispatchScope(false, new HashSet<>(vehicles), new HashSet<>(orders));
+  }
+
+  /**
+   * Indicates whether this scope covers all vehicles and transport orders.
+   *
+   * @return {@code true} if, and only if, this scope covers all vehicles and transport orders.
+   */
+  public boolean isFull() {
+    return full;
+  }
+
+  /**
+   * Indicates whether this scope covers nothing at all.
+   *
+   * @return {@code true} if, and only if, this is an incremental scope without any changed
+   * vehicles or transport orders.
+   */
+  public boolean isEmpty() {
+    return !full && vehicles.isEmpty() && orders.isEmpty();
+  }
+
+  /**
+   * Indicates whether this scope contains any changed transport orders.
+   *
+   * @return {@code true} if, and only if, this is a full scope or contains any changed transport
+   * orders.
+   */
+  public boolean hasChangedOrders() {
+    return full || !orders.isEmpty();
+  }
+
+  /**
+   * Checks whether the given pairing of a vehicle and a transport order is covered by this scope.
+   *
+   * @param vehicle The vehicle.
+   * @param order The transport order.
+   * @return {@code true} if, and only if, this is a full scope, or the vehicle or the transport
+   * order has changed.
+   */
+  public boolean covers(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      TransportOrder order
+  ) {
+    return full
+        || vehicles.contains(vehicle.getReference())
+        || orders.contains(order.getReference());
+  }
+
+  /**
+   * Checks whether all pairings of the given transport order with any vehicle are covered by this
+   * scope.
+   *
+   * @param order The transport order.
+   * @return {@code true} if, and only if, this is a full scope or the transport order has changed.
+   */
+  public boolean coversAllPairingsOf(
+      @Nonnull
+      TransportOrder order
+  ) {
+    return full || orders.contains(order.getReference());
+  }
+
+  /**
+   * Adds the given vehicle to this scope's changed vehicles.
+   *
+   * @param vehicle The vehicle.
+   */
+  void addVehicle(TCSObjectReference<Vehicle> vehicle) {
+    if (!full) {
+      vehicles.add(vehicle);
+    }
+  }
+
+  /**
+   * Adds the given transport order to this scope's changed transport orders.
+   *
+   * @param order The transport order.
+   */
+  void addOrder(TCSObjectReference<TransportOrder> order) {
+    if (!full) {
+      orders.add(order);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "DispatchScope{"
+        + "full=" + full
+        + ", vehicles=" + vehicles.size()
+        + ", orders=" + orders.size()
+        + '}';
+  }
+}
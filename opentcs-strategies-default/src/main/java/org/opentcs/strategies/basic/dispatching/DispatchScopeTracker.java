@@ -0,0 +1,208 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.HashSet;
+import java.util.Set;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.TimeProvider;
+import org.opentcs.util.event.EventBus;
+import org.opentcs.util.event.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks the vehicles and transport orders that changed between dispatch runs and determines the
+ * scope of each dispatch run.
+ * <p>
+ * If incremental dispatching is disabled, every dispatch run has a full scope. Otherwise, a full
+ * scope is used for the first dispatch run, after changes to the plant model's elements (which may
+ * affect the routability of transport orders) and whenever the configured full dispatch interval
+ * has passed.
+ * </p>
+ */
+public class DispatchScopeTracker
+    implements
+      EventHandler,
+      Lifecycle {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(DispatchScopeTracker.class);
+  /**
+   * The event bus.
+   */
+  private final EventBus eventBus;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+  /**
+   * Provides the current time.
+   */
+  private final TimeProvider timeProvider;
+  /**
+   * The vehicles that changed since the start of the current dispatch run.
+   */
+  private final Set<TCSObjectReference<Vehicle>> changedVehicles = new HashSet<>();
+  /**
+   * The transport orders that changed since the start of the current dispatch run.
+   */
+  private final Set<TCSObjectReference<TransportOrder>> changedOrders = new HashSet<>();
+  /**
+   * The scope of the current (or last) dispatch run.
+   */
+  private DispatchScope currentScope = DispatchScope.full();
+  /**
+   * Whether the next dispatch run requires a full scope.
+   */
+  private boolean fullScopeRequired = true;
+  /**
+   * The point of time (in ms since the epoch) at which the last dispatch run with a full scope was
+   * started.
+   */
+  private long lastFullScopeRun;
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventBus The event bus.
+   * @param configuration The dispatcher configuration.
+   * @param timeProvider Provides the current time.
+   */
+  @Inject
+  public DispatchScopeTracker(
+      @ApplicationEventBus
+      EventBus eventBus,
+      DefaultDispatcherConfiguration configuration,
+      TimeProvider timeProvider
+  ) {
+    this.eventBus = requireNonNull(eventBus, "eventBus");
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.timeProvider = requireNonNull(timeProvider, "timeProvider");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    synchronized (this) {
+      changedVehicles.clear();
+      changedOrders.clear();
+      currentScope = DispatchScope.full();
+      fullScopeRequired = true;
+    }
+    if (configuration.incrementalDispatching()) {
+      eventBus.subscribe(this);
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    eventBus.unsubscribe(this);
+
+    initialized = false;
+  }
+
+  @Override
+  public synchronized void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)) {
+      return;
+    }
+
+    TCSObject<?> object = objectEvent.getCurrentOrPreviousObjectState();
+    if (object instanceof Vehicle vehicle) {
+      changedVehicles.add(vehicle.getReference());
+      currentScope.addVehicle(vehicle.getReference());
+    }
+    else if (object instanceof TransportOrder order) {
+      changedOrders.add(order.getReference());
+      currentScope.addOrder(order.getReference());
+    }
+    else if (object instanceof OrderSequence sequence) {
+      sequence.getOrders().forEach(orderRef -> {
+        changedOrders.add(orderRef);
+        currentScope.addOrder(orderRef);
+      });
+    }
+    else if (object instanceof Point
+        || object instanceof Path
+        || object instanceof Location
+        || object instanceof Block) {
+      fullScopeRequired = true;
+    }
+  }
+
+  /**
+   * Determines the scope for a new dispatch run and resets the set of changed vehicles and
+   * transport orders.
+   * <p>
+   * Changes occurring during the dispatch run are added to both the new scope and the set of
+   * changes to be considered for the next dispatch run.
+   * </p>
+   *
+   * @return The scope for the new dispatch run.
+   */
+  @Nonnull
+  public synchronized DispatchScope beginRun() {
+    long now = timeProvider.getCurrentTimeEpochMillis();
+    if (!configuration.incrementalDispatching()
+        || fullScopeRequired
+        || now - lastFullScopeRun >= configuration.fullDispatchInterval()) {
+      currentScope = DispatchScope.full();
+      fullScopeRequired = false;
+      lastFullScopeRun = now;
+    }
+    else {
+      currentScope = DispatchScope.incremental(changedVehicles, changedOrders);
+    }
+    changedVehicles.clear();
+    changedOrders.clear();
+
+    LOG.debug("Beginning dispatch run with {}.", currentScope);
+    return currentScope;
+  }
+
+  /**
+   * Returns the scope of the current (or last) dispatch run.
+   *
+   * @return The scope of the current (or last) dispatch run.
+   */
+  @Nonnull
+  public synchronized DispatchScope getCurrentScope() {
+    return currentScope;
+  }
+}
@@ -8,6 +8,8 @@ import jakarta.inject.Inject;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import org.opentcs.components.kernel.RouteSelector;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.data.model.Point;
@@ -15,6 +17,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.Route;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.DefaultRouter;
 
 /**
  * Assigns {@link Route}s to {@link DriveOrder}s.
@@ -60,13 +63,68 @@ public class DriveOrderRouteAssigner {
       Vehicle vehicle,
       Point startPosition
   ) {
-    return routeSelector.selectSequence(
+    return tryAssignRoutes(
+        order,
         router.getRoutes(vehicle, startPosition, order, configuration.maxRoutesToConsider())
-    )
-        .map(routes -> {
+    );
+  }
+
+  /**
+   * Prepares the computation of the routes to be assigned to the {@link DriveOrder}s in the given
+   * {@link TransportOrder} via {@link #tryAssignRoutes(TransportOrder, Set)}.
+   * <p>
+   * With the {@link DefaultRouter}, only the model objects required for the computation are
+   * resolved on the calling thread. The returned supplier then computes the routes without
+   * accessing the object service, so it may be called on any thread - even while the calling
+   * thread holds the kernel's global lock. With any other router, the routes are computed on the
+   * calling thread right away.
+   * </p>
+   *
+   * @param order The transport order whose drive orders are to be assigned routes.
+   * @param vehicle The vehicle that is intended to process the transport order.
+   * @param startPosition The position at which the vehicle would start processing the transport
+   * order.
+   * @return A supplier providing the route sequences to select from. It is to be called only once.
+   */
+  public Supplier<Set<List<Route>>> prepareRoutes(
+      TransportOrder order,
+      Vehicle vehicle,
+      Point startPosition
+  ) {
+    if (router instanceof DefaultRouter defaultRouter) {
+      return defaultRouter.prepareRoutes(
+          vehicle,
+          startPosition,
+          order,
+          configuration.maxRoutesToConsider()
+      );
+    }
+
+    Set<List<Route>> routes
+        = router.getRoutes(vehicle, startPosition, order, configuration.maxRoutesToConsider());
+    return () -> routes;
+  }
+
+  /**
+   * Tries to assign one of the given route sequences to the {@link DriveOrder}s in the given
+   * {@link TransportOrder}.
+   *
+   * @param order The transport order whose drive orders are to be assigned routes.
+   * @param routes The route sequences to select from.
+   * @return An optional containing a list of drive orders with assigned routes, or an empty
+   * optional, if no routes could be assigned.
+   */
+  public Optional<List<DriveOrder>> tryAssignRoutes(
+      TransportOrder order,
+      Set<List<Route>> routes
+  ) {
+    return routeSelector.selectSequence(routes)
+        .map(selectedRoutes -> {
           List<DriveOrder> driveOrderList = new ArrayList<>();
-          for (int i = 0; i < routes.size(); i++) {
-            driveOrderList.add(order.getFutureDriveOrders().get(i).withRoute(routes.get(i)));
+          for (int i = 0; i < selectedRoutes.size(); i++) {
+            driveOrderList.add(
+                order.getFutureDriveOrders().get(i).withRoute(selectedRoutes.get(i))
+            );
           }
           return driveOrderList;
         });
@@ -42,6 +42,10 @@ public class FullDispatchTask
   private final PrioritizedReparkPhase prioritizedReparkPhase;
   private final PrioritizedParkingPhase prioritizedParkingPhase;
   private final ParkIdleVehiclesPhase parkIdleVehiclesPhase;
+  /**
+   * Determines the scope of each dispatch run.
+   */
+  private final DispatchScopeTracker dispatchScopeTracker;
   /**
    * Indicates whether this component is enabled.
    */
@@ -58,7 +62,8 @@ public class FullDispatchTask
       RechargeIdleVehiclesPhase rechargeIdleVehiclesPhase,
       PrioritizedReparkPhase prioritizedReparkPhase,
       PrioritizedParkingPhase prioritizedParkingPhase,
-      ParkIdleVehiclesPhase parkIdleVehiclesPhase
+      ParkIdleVehiclesPhase parkIdleVehiclesPhase,
+      DispatchScopeTracker dispatchScopeTracker
   ) {
     this.checkNewOrdersPhase = requireNonNull(checkNewOrdersPhase, "checkNewOrdersPhase");
     this.finishWithdrawalsPhase = requireNonNull(finishWithdrawalsPhase, "finishWithdrawalsPhase");
@@ -85,6 +90,7 @@ public class FullDispatchTask
         "prioritizedParkingPhase"
     );
     this.parkIdleVehiclesPhase = requireNonNull(parkIdleVehiclesPhase, "parkIdleVehiclesPhase");
+    this.dispatchScopeTracker = requireNonNull(dispatchScopeTracker, "dispatchScopeTracker");
   }
 
   @Override
@@ -93,6 +99,7 @@ public class FullDispatchTask
       return;
     }
 
+    dispatchScopeTracker.initialize();
     checkNewOrdersPhase.initialize();
     finishWithdrawalsPhase.initialize();
     assignNextDriveOrdersPhase.initialize();
@@ -123,6 +130,7 @@ public class FullDispatchTask
     prioritizedReparkPhase.terminate();
     prioritizedParkingPhase.terminate();
     parkIdleVehiclesPhase.terminate();
+    dispatchScopeTracker.terminate();
 
     initialized = false;
   }
@@ -136,6 +144,8 @@ public class FullDispatchTask
   public final void run() {
     LOG.debug("Starting full dispatch run...");
 
+    dispatchScopeTracker.beginRun();
+
     checkNewOrdersPhase.run();
     // Check what vehicles involved in a process should do.
     finishWithdrawalsPhase.run();
@@ -56,7 +56,7 @@ public class PeriodicVehicleRedispatchingTask
         .findAny()
         .ifPresent(vehicle -> {
           LOG.debug("Vehicle {} could process transport order, triggering dispatcher ...", vehicle);
-          dispatcherService.dispatch();
+          dispatcherService.requestDispatch();
         });
   }
 
@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Optional;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.IndexedPredicate;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.components.kernel.services.InternalVehicleService;
 import org.opentcs.data.TCSObjectReference;
@@ -147,8 +148,12 @@ public class TransportOrderUtil
    * marking them as DISPATCHABLE.
    */
   public void markNewDispatchableOrders() {
-    transportOrderService.stream(TransportOrder.class)
-        .filter(order -> order.hasState(TransportOrder.State.ACTIVE))
+    transportOrderService
+        .fetch(
+            TransportOrder.class,
+            IndexedPredicate.transportOrderWithState(TransportOrder.State.ACTIVE)
+        )
+        .stream()
         .filter(order -> !hasUnfinishedDependencies(order))
         .forEach(
             order -> updateTransportOrderState(
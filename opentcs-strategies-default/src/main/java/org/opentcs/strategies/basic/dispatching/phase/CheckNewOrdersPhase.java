@@ -6,6 +6,7 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
 import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.IndexedPredicate;
 import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
@@ -74,7 +75,10 @@ public class CheckNewOrdersPhase
 
   @Override
   public void run() {
-    objectService.fetch(TransportOrder.class, this::inRawState)
+    objectService.fetch(
+        TransportOrder.class,
+        IndexedPredicate.transportOrderWithState(TransportOrder.State.RAW)
+    )
         .forEach(order -> checkRawTransportOrder(order));
   }
 
@@ -103,8 +107,4 @@ public class CheckNewOrdersPhase
       );
     }
   }
-
-  private boolean inRawState(TransportOrder order) {
-    return order.hasState(TransportOrder.State.RAW);
-  }
 }
@@ -7,6 +7,7 @@ import static java.util.Objects.requireNonNull;
 import jakarta.inject.Inject;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.opentcs.components.kernel.services.IndexedPredicate;
 import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.order.TransportOrder;
@@ -32,8 +33,11 @@ public class TargetedPointsSupplier {
    * @return A set of all points currently targeted by vehicles.
    */
   public Set<Point> getTargetedPoints() {
-    return objectService.stream(TransportOrder.class)
-        .filter(order -> order.hasState(TransportOrder.State.BEING_PROCESSED))
+    return objectService
+        .stream(
+            TransportOrder.class,
+            IndexedPredicate.transportOrderWithState(TransportOrder.State.BEING_PROCESSED)
+        )
         .map(
             transportOrder -> transportOrder.getAllDriveOrders().getLast().getRoute()
                 .getFinalDestinationPoint()
@@ -9,10 +9,13 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.opentcs.components.kernel.services.IndexedPredicate;
 import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.DispatchScope;
+import org.opentcs.strategies.basic.dispatching.DispatchScopeTracker;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.opentcs.strategies.basic.dispatching.phase.OrderFilterResult;
@@ -64,6 +67,10 @@ public class AssignFreeOrdersPhase
    * Provides methods to check and update the dispatching status of transport orders.
    */
   private final DispatchingStatusMarker dispatchingStatusMarker;
+  /**
+   * Provides the scope of the current dispatch run.
+   */
+  private final DispatchScopeTracker dispatchScopeTracker;
   /**
    * Indicates whether this component is initialized.
    */
@@ -78,7 +85,8 @@ public class AssignFreeOrdersPhase
       CompositeTransportOrderSelectionFilter transportOrderSelectionFilter,
       OrderAssigner orderAssigner,
       DispatchingStatusMarker dispatchingStatusMarker,
-      TransportOrderUtil transportOrderUtil
+      TransportOrderUtil transportOrderUtil,
+      DispatchScopeTracker dispatchScopeTracker
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.vehicleSelectionFilter = requireNonNull(vehicleSelectionFilter, "vehicleSelectionFilter");
@@ -97,6 +105,7 @@ public class AssignFreeOrdersPhase
         "dispatchingStatusMarker"
     );
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
+    this.dispatchScopeTracker = requireNonNull(dispatchScopeTracker, "dispatchScopeTracker");
   }
 
   @Override
@@ -122,6 +131,12 @@ public class AssignFreeOrdersPhase
 
   @Override
   public void run() {
+    DispatchScope scope = dispatchScopeTracker.getCurrentScope();
+    if (scope.isEmpty()) {
+      LOG.debug("No vehicles or orders changed since the last dispatch run, skipping.");
+      return;
+    }
+
     Map<Boolean, List<VehicleFilterResult>> vehiclesSplitByFilter
         = objectService.stream(Vehicle.class)
             .filter(isAvailableForAnyOrder)
@@ -139,11 +154,17 @@ public class AssignFreeOrdersPhase
 
     //Make sure all order sequences have their first really dispatchable order
     //marked as such and skip all skippable orders.
-    markFirstDispatchableOrderInUnassignedSequences();
+    if (scope.hasChangedOrders()) {
+      markFirstDispatchableOrderInUnassignedSequences();
+    }
     // Select only dispatchable orders first, then apply the composite filter, handle
     // the orders that can be tried as usual and mark the others as filtered (if they aren't, yet).
     Map<Boolean, List<OrderFilterResult>> ordersSplitByFilter
-        = objectService.stream(TransportOrder.class)
+        = objectService
+            .stream(
+                TransportOrder.class,
+                IndexedPredicate.transportOrderWithState(TransportOrder.State.DISPATCHABLE)
+            )
             .filter(isFreelyDispatchableToAnyVehicle)
             .map(order -> new OrderFilterResult(order, transportOrderSelectionFilter.apply(order)))
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
@@ -154,7 +175,8 @@ public class AssignFreeOrdersPhase
         availableVehicles,
         ordersSplitByFilter.get(Boolean.TRUE).stream()
             .map(OrderFilterResult::getOrder)
-            .collect(Collectors.toList())
+            .collect(Collectors.toList()),
+        scope
     );
   }
 
@@ -162,12 +184,16 @@ public class AssignFreeOrdersPhase
     // In case any orders at the beginning of sequences were withdrawn, update the sequences.
     transportOrderUtil.markNewDispatchableOrders();
 
-    objectService.fetch(
-        TransportOrder.class,
-        order -> order.hasState(TransportOrder.State.DISPATCHABLE)
-            && order.getWrappingSequence() != null
-            && !partOfAnyVehiclesSequence(order)
-    )
+    objectService
+        .fetch(
+            TransportOrder.class,
+            IndexedPredicate.transportOrderWithState(TransportOrder.State.DISPATCHABLE)
+        )
+        .stream()
+        .filter(
+            order -> order.getWrappingSequence() != null
+                && !partOfAnyVehiclesSequence(order)
+        )
         .forEach(
             order -> {
               transportOrderUtil
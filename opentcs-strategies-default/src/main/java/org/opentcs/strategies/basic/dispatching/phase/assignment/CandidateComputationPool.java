@@ -0,0 +1,139 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded pool of worker threads for computing assignment candidates in parallel.
+ * <p>
+ * The pool is only created if parallel candidate computation is enabled in the dispatcher
+ * configuration. Otherwise, all work is done sequentially in the calling thread.
+ * </p>
+ */
+public class CandidateComputationPool
+    implements
+      Lifecycle {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CandidateComputationPool.class);
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+  /**
+   * The pool executing the computations, or {@code null}, if computations are done sequentially.
+   */
+  private ForkJoinPool pool;
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param configuration The dispatcher configuration.
+   */
+  @Inject
+  public CandidateComputationPool(DefaultDispatcherConfiguration configuration) {
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    if (configuration.parallelCandidateComputation()) {
+      int parallelism = configuration.candidateComputationParallelism() > 0
+          ? configuration.candidateComputationParallelism()
+          : Runtime.getRuntime().availableProcessors();
+      LOG.debug("Computing assignment candidates with parallelism {}.", parallelism);
+      pool = new ForkJoinPool(parallelism, CandidateComputationPool::createThread, null, false);
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    if (pool != null) {
+      pool.shutdownNow();
+      pool = null;
+    }
+
+    initialized = false;
+  }
+
+  /**
+   * Indicates whether computations are done in parallel.
+   *
+   * @return {@code true} if, and only if, computations are done in parallel.
+   */
+  public boolean isParallel() {
+    return pool != null;
+  }
+
+  /**
+   * Applies the given function to each of the given elements and returns the results in the
+   * order of the elements.
+   * <p>
+   * If computations are done in parallel, the calling thread blocks until all results are
+   * available.
+   * </p>
+   *
+   * @param <T> The type of the elements.
+   * @param <R> The type of the results.
+   * @param elements The elements.
+   * @param function The function to apply. Must be thread-safe if computations are done in
+   * parallel.
+   * @return The results, in the order of the elements.
+   */
+  @Nonnull
+  public <T, R> List<R> map(
+      @Nonnull
+      List<T> elements,
+      @Nonnull
+      Function<? super T, ? extends R> function
+  ) {
+    requireNonNull(elements, "elements");
+    requireNonNull(function, "function");
+
+    if (pool == null) {
+      return elements.stream().<R>map(function).toList();
+    }
+
+    return pool.submit(() -> elements.parallelStream().<R>map(function).toList()).join();
+  }
+
+  private static ForkJoinWorkerThread createThread(ForkJoinPool pool) {
+    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+    thread.setName("candidateComputationPool-" + thread.getPoolIndex());
+    thread.setDaemon(true);
+    return thread;
+  }
+}
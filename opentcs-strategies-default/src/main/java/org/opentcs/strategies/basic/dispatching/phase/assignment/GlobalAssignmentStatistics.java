@@ -0,0 +1,147 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import jakarta.inject.Inject;
+
+/**
+ * Keeps statistics about the global min-cost assignments computed by the {@link OrderAssigner}.
+ * <p>
+ * An instance is shared by all users within the kernel, so kernel extensions may inject it for
+ * monitoring the assignment strategy, e.g. to compare the results of the global assignment with
+ * those the greedy assignment would have had, or to tune the configured time budget.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public class GlobalAssignmentStatistics {
+
+  /**
+   * The number of dispatch runs for which a global assignment was computed.
+   */
+  private long computedCount;
+  /**
+   * The number of dispatch runs in which the time budget was exhausted by computing the
+   * assignment candidates, resulting in a fallback to the greedy assignment.
+   */
+  private long candidateComputationTimeoutCount;
+  /**
+   * The number of dispatch runs in which the time budget was exhausted while solving the
+   * assignment problem, resulting in a fallback to the greedy assignment.
+   */
+  private long solverTimeoutCount;
+  /**
+   * The statistics of the most recent dispatch run for which a global assignment was computed,
+   * or {@code null}.
+   */
+  private Run lastRun;
+
+  /**
+   * Creates a new instance.
+   */
+  @Inject
+  public GlobalAssignmentStatistics() {
+  }
+
+  /**
+   * Returns the number of dispatch runs for which a global assignment was computed.
+   *
+   * @return The number of dispatch runs for which a global assignment was computed.
+   */
+  public synchronized long getComputedCount() {
+    return computedCount;
+  }
+
+  /**
+   * Returns the number of dispatch runs in which the time budget was exhausted by computing the
+   * assignment candidates, resulting in a fallback to the greedy assignment.
+   *
+   * @return The number of such dispatch runs.
+   */
+  public synchronized long getCandidateComputationTimeoutCount() {
+    return candidateComputationTimeoutCount;
+  }
+
+  /**
+   * Returns the number of dispatch runs in which the time budget was exhausted while solving the
+   * assignment problem, resulting in a fallback to the greedy assignment.
+   *
+   * @return The number of such dispatch runs.
+   */
+  public synchronized long getSolverTimeoutCount() {
+    return solverTimeoutCount;
+  }
+
+  /**
+   * Returns the statistics of the most recent dispatch run for which a global assignment was
+   * computed.
+   *
+   * @return The statistics of the most recent dispatch run, or {@code null}, if no global
+   * assignment has been computed, yet.
+   */
+  public synchronized Run getLastRun() {
+    return lastRun;
+  }
+
+  /**
+   * Records a dispatch run for which a global assignment was computed.
+   *
+   * @param run The statistics of the dispatch run.
+   */
+  synchronized void recordComputed(Run run) {
+    computedCount++;
+    lastRun = run;
+  }
+
+  /**
+   * Records a dispatch run in which the time budget was exhausted by computing the assignment
+   * candidates.
+   */
+  synchronized void recordCandidateComputationTimeout() {
+    candidateComputationTimeoutCount++;
+  }
+
+  /**
+   * Records a dispatch run in which the time budget was exhausted while solving the assignment
+   * problem.
+   */
+  synchronized void recordSolverTimeout() {
+    solverTimeoutCount++;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "GlobalAssignmentStatistics{"
+        + "computedCount=" + computedCount
+        + ", candidateComputationTimeoutCount=" + candidateComputationTimeoutCount
+        + ", solverTimeoutCount=" + solverTimeoutCount
+        + ", lastRun=" + lastRun
+        + '}';
+  }
+
+  /**
+   * The statistics of a single dispatch run for which a global assignment was computed.
+   *
+   * @param vehicleCount The number of vehicles available for order assignment.
+   * @param orderCount The number of transport orders available to be assigned.
+   * @param candidateComputationTime The time (in ms) spent on computing assignment candidates.
+   * @param solverTime The time (in ms) spent on solving the assignment problem.
+   * @param assignmentCount The number of assignments made.
+   * @param totalCosts The sum of the complete routing costs of the assignments made.
+   * @param greedyAssignmentCount The number of assignments the greedy assignment would have made.
+   * @param greedyTotalCosts The sum of the complete routing costs of the assignments the greedy
+   * assignment would have made.
+   */
+  public record Run(
+      int vehicleCount,
+      int orderCount,
+      long candidateComputationTime,
+      long solverTime,
+      int assignmentCount,
+      long totalCosts,
+      int greedyAssignmentCount,
+      long greedyTotalCosts
+  ) {
+  }
+}
@@ -0,0 +1,216 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Solves the (rectangular) min-cost bipartite assignment problem using the Hungarian method with
+ * shortest augmenting paths.
+ * <p>
+ * Among all assignments, the solution maximizes the number of feasible row/column pairs first and
+ * minimizes their total costs second.
+ * The solution is computed in O(n<sup>2</sup> m) time, with n being the smaller and m being the
+ * larger dimension of the cost matrix.
+ * </p>
+ */
+public final class MinCostAssignmentSolver {
+
+  /**
+   * Marks a row/column pair that must not be assigned.
+   */
+  public static final long INFEASIBLE = Long.MAX_VALUE;
+  /**
+   * Indicates that a row has not been assigned any column.
+   */
+  public static final int UNASSIGNED = -1;
+  /**
+   * A value larger than any sum of reduced costs occurring during the computation.
+   */
+  private static final long INFINITY = Long.MAX_VALUE / 4;
+
+  /**
+   * Prevents instantiation.
+   */
+  private MinCostAssignmentSolver() {
+  }
+
+  /**
+   * Computes an assignment of rows to columns with minimal total costs.
+   *
+   * @param costs The cost matrix, with {@code costs[row][column]} being the non-negative costs for
+   * assigning the given column to the given row, or {@link #INFEASIBLE}. All rows must have the
+   * same length.
+   * @param deadline The value of {@link System#nanoTime()} after which the computation is to be
+   * aborted.
+   * @return An array containing, for every row, the index of the column assigned to it, or
+   * {@link #UNASSIGNED}. Empty if the computation was aborted because the deadline was exceeded, or
+   * if the costs are too large to be handled without overflow.
+   */
+  @Nonnull
+  public static Optional<int[]> solve(
+      @Nonnull
+      long[][] costs,
+      long deadline
+  ) {
+    requireNonNull(costs, "costs");
+
+    int rowCount = costs.length;
+    int columnCount = rowCount == 0 ? 0 : costs[0].length;
+    int[] result = new int[rowCount];
+    Arrays.fill(result, UNASSIGNED);
+    if (rowCount == 0 || columnCount == 0) {
+      return Optional.of(result);
+    }
+
+    Optional<long[][]> optNormalized = normalize(costs, rowCount <= columnCount);
+    if (optNormalized.isEmpty()) {
+      return Optional.empty();
+    }
+    long[][] normalized = optNormalized.get();
+
+    Optional<int[]> optColumnsByRow = solveNormalized(normalized, deadline);
+    if (optColumnsByRow.isEmpty()) {
+      return Optional.empty();
+    }
+    int[] columnsByRow = optColumnsByRow.get();
+
+    for (int i = 0; i < columnsByRow.length; i++) {
+      int j = columnsByRow[i];
+      int row = rowCount <= columnCount ? i : j;
+      int column = rowCount <= columnCount ? j : i;
+      if (costs[row][column] != INFEASIBLE) {
+        result[row] = column;
+      }
+    }
+    return Optional.of(result);
+  }
+
+  /**
+   * Returns a copy of the given cost matrix with at most as many rows as columns, in which
+   * infeasible pairs have been replaced by costs higher than those of any assignment consisting
+   * only of feasible pairs.
+   *
+   * @param costs The cost matrix.
+   * @param keepOrientation Whether to keep the matrix' orientation or to transpose it.
+   * @return The normalized cost matrix, or an empty optional, if the costs are too large.
+   */
+  private static Optional<long[][]> normalize(long[][] costs, boolean keepOrientation) {
+    int rowCount = keepOrientation ? costs.length : costs[0].length;
+    int columnCount = keepOrientation ? costs[0].length : costs.length;
+
+    long maxCosts = 0;
+    for (long[] row : costs) {
+      for (long cost : row) {
+        if (cost != INFEASIBLE) {
+          maxCosts = Math.max(maxCosts, cost);
+        }
+      }
+    }
+
+    long infeasibleCosts;
+    try {
+      infeasibleCosts = Math.addExact(Math.multiplyExact(maxCosts, (long) rowCount), 1);
+      // Ensure that the sum of all assigned costs cannot overflow, either.
+      if (Math.multiplyExact(infeasibleCosts, (long) rowCount + 1) >= INFINITY) {
+        return Optional.empty();
+      }
+    }
+    catch (ArithmeticException e) {
+      return Optional.empty();
+    }
+
+    long[][] result = new long[rowCount][columnCount];
+    for (int i = 0; i < rowCount; i++) {
+      for (int j = 0; j < columnCount; j++) {
+        long cost = keepOrientation ? costs[i][j] : costs[j][i];
+        result[i][j] = cost == INFEASIBLE ? infeasibleCosts : cost;
+      }
+    }
+    return Optional.of(result);
+  }
+
+  /**
+   * Solves the assignment problem for a cost matrix with at most as many rows as columns.
+   *
+   * @param costs The cost matrix.
+   * @param deadline The value of {@link System#nanoTime()} after which to abort.
+   * @return The column assigned to every row, or an empty optional, if the deadline was exceeded.
+   */
+  private static Optional<int[]> solveNormalized(long[][] costs, long deadline) {
+    int n = costs.length;
+    int m = costs[0].length;
+    // Potentials of rows and columns, and the row assigned to every column (all 1-based, with
+    // index 0 being a virtual column used as the root of augmenting paths).
+    long[] rowPotentials = new long[n + 1];
+    long[] columnPotentials = new long[m + 1];
+    int[] rowByColumn = new int[m + 1];
+    int[] predecessors = new int[m + 1];
+    long[] minSlack = new long[m + 1];
+    boolean[] visited = new boolean[m + 1];
+
+    for (int row = 1; row <= n; row++) {
+      if (System.nanoTime() - deadline > 0) {
+        return Optional.empty();
+      }
+
+      rowByColumn[0] = row;
+      int currentColumn = 0;
+      Arrays.fill(minSlack, INFINITY);
+      Arrays.fill(visited, false);
+      do {
+        visited[currentColumn] = true;
+        int currentRow = rowByColumn[currentColumn];
+        long delta = INFINITY;
+        int nextColumn = 0;
+        for (int column = 1; column <= m; column++) {
+          if (visited[column]) {
+            continue;
+          }
+          long slack = costs[currentRow - 1][column - 1]
+              - rowPotentials[currentRow]
+              - columnPotentials[column];
+          if (slack < minSlack[column]) {
+            minSlack[column] = slack;
+            predecessors[column] = currentColumn;
+          }
+          if (minSlack[column] < delta) {
+            delta = minSlack[column];
+            nextColumn = column;
+          }
+        }
+        for (int column = 0; column <= m; column++) {
+          if (visited[column]) {
+            rowPotentials[rowByColumn[column]] += delta;
+            columnPotentials[column] -= delta;
+          }
+          else {
+            minSlack[column] -= delta;
+          }
+        }
+        currentColumn = nextColumn;
+      }
+      while (rowByColumn[currentColumn] != 0);
+
+      // Augment along the path found.
+      do {
+        int previousColumn = predecessors[currentColumn];
+        rowByColumn[currentColumn] = rowByColumn[previousColumn];
+        currentColumn = previousColumn;
+      }
+      while (currentColumn != 0);
+    }
+
+    int[] columnsByRow = new int[n];
+    for (int column = 1; column <= m; column++) {
+      if (rowByColumn[column] != 0) {
+        columnsByRow[rowByColumn[column] - 1] = column - 1;
+      }
+    }
+    return Optional.of(columnsByRow);
+  }
+}
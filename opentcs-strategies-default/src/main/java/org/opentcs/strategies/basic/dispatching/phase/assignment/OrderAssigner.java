@@ -5,13 +5,18 @@ package org.opentcs.strategies.basic.dispatching.phase.assignment;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.TCSObjectReference;
@@ -20,8 +25,11 @@ import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderConstants;
 import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.Route;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchScope;
 import org.opentcs.strategies.basic.dispatching.DriveOrderRouteAssigner;
 import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -82,6 +90,18 @@ public class OrderAssigner {
    * Assigns routes to drive orders.
    */
   private final DriveOrderRouteAssigner driveOrderRouteAssigner;
+  /**
+   * Computes assignment candidates, possibly in parallel.
+   */
+  private final CandidateComputationPool candidateComputationPool;
+  /**
+   * Keeps statistics about computed global assignments.
+   */
+  private final GlobalAssignmentStatistics globalAssignmentStatistics;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
 
   @Inject
   public OrderAssigner(
@@ -94,7 +114,10 @@ public class OrderAssigner {
       CompositeAssignmentCandidateSelectionFilter assignmentCandidateSelectionFilter,
       TransportOrderUtil transportOrderUtil,
       DispatchingStatusMarker dispatchingStatusMarker,
-      DriveOrderRouteAssigner driveOrderRouteAssigner
+      DriveOrderRouteAssigner driveOrderRouteAssigner,
+      CandidateComputationPool candidateComputationPool,
+      GlobalAssignmentStatistics globalAssignmentStatistics,
+      DefaultDispatcherConfiguration configuration
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
@@ -121,6 +144,15 @@ public class OrderAssigner {
         driveOrderRouteAssigner,
         "driveOrderRouteAssigner"
     );
+    this.candidateComputationPool = requireNonNull(
+        candidateComputationPool,
+        "candidateComputationPool"
+    );
+    this.globalAssignmentStatistics = requireNonNull(
+        globalAssignmentStatistics,
+        "globalAssignmentStatistics"
+    );
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   /**
@@ -133,30 +165,79 @@ public class OrderAssigner {
       Collection<Vehicle> availableVehicles,
       Collection<TransportOrder> availableOrders
   ) {
+    tryAssignments(availableVehicles, availableOrders, DispatchScope.full());
+  }
+
+  /**
+   * Tries to assign the given transport orders to the given vehicles, considering only pairings
+   * covered by the given scope.
+   *
+   * @param availableVehicles The vehicles available for order assignment.
+   * @param availableOrders The transport order available to be assigned to a vehicle.
+   * @param scope The scope of the current dispatch run.
+   */
+  public void tryAssignments(
+      Collection<Vehicle> availableVehicles,
+      Collection<TransportOrder> availableOrders,
+      DispatchScope scope
+  ) {
+    requireNonNull(scope, "scope");
+
     LOG.debug(
         "Available for dispatching: {} transport orders and {} vehicles.",
         availableOrders.size(),
         availableVehicles.size()
     );
 
+    Map<TCSObjectReference<Vehicle>, Point> vehiclePositions = availableVehicles.stream()
+        .collect(
+            Collectors.toMap(
+                Vehicle::getReference,
+                vehicle -> objectService.fetch(Point.class, vehicle.getCurrentPosition())
+                    .orElseThrow()
+            )
+        );
+    boolean globalAssignment = configuration.assignmentStrategy()
+        == DefaultDispatcherConfiguration.AssignmentStrategy.GLOBAL_MIN_COST;
+    // The time budget for a global assignment includes the computation of the candidates.
+    long startTime = System.nanoTime();
+    BiFunction<Vehicle, TransportOrder, Optional<CandidateFilterResult>> candidateSource
+        = globalAssignment || candidateComputationPool.isParallel()
+            ? precomputeCandidates(availableVehicles, availableOrders, vehiclePositions, scope)
+            : (vehicle, order) -> computeFilteredCandidate(
+                vehicle,
+                vehiclePositions.get(vehicle.getReference()),
+                order
+            );
+
     AssignmentState assignmentState = new AssignmentState();
-    if (availableVehicles.size() < availableOrders.size()) {
-      availableVehicles.stream()
-          .sorted(vehicleComparator)
-          .forEach(vehicle -> tryAssignOrder(vehicle, availableOrders, assignmentState));
-    }
-    else {
-      availableOrders.stream()
-          .sorted(orderComparator)
-          .forEach(order -> tryAssignVehicle(order, availableVehicles, assignmentState));
+    if (!globalAssignment
+        || !tryGlobalAssignment(
+            availableVehicles,
+            availableOrders,
+            assignmentState,
+            candidateSource,
+            scope,
+            startTime
+        )) {
+      tryGreedyAssignments(
+          availableVehicles,
+          availableOrders,
+          assignmentState,
+          candidateSource,
+          scope
+      );
     }
 
+    // Orders not paired with all vehicles in this run keep their dispatching status until they are.
     assignmentState.getFilteredOrders().values().stream()
+        .filter(filterResult -> scope.coversAllPairingsOf(filterResult.getOrder()))
         .filter(filterResult -> !assignmentState.wasAssignedToVehicle(filterResult.getOrder()))
         .filter(dispatchingStatusMarker::haveDeferralReasonsForOrderChanged)
         .forEach(dispatchingStatusMarker::markOrderAsDeferred);
 
     availableOrders.stream()
+        .filter(scope::coversAllPairingsOf)
         .filter(
             order -> (!assignmentState.wasFiltered(order)
                 && !assignmentState.wasAssignedToVehicle(order))
@@ -165,32 +246,224 @@ public class OrderAssigner {
         .forEach(dispatchingStatusMarker::markOrderAsResumed);
   }
 
+  private void tryGreedyAssignments(
+      Collection<Vehicle> availableVehicles,
+      Collection<TransportOrder> availableOrders,
+      AssignmentState assignmentState,
+      BiFunction<Vehicle, TransportOrder, Optional<CandidateFilterResult>> candidateSource,
+      DispatchScope scope
+  ) {
+    if (availableVehicles.size() < availableOrders.size()) {
+      availableVehicles.stream()
+          .sorted(vehicleComparator)
+          .forEach(
+              vehicle -> tryAssignOrder(
+                  vehicle,
+                  availableOrders,
+                  assignmentState,
+                  candidateSource,
+                  scope
+              )
+          );
+    }
+    else {
+      availableOrders.stream()
+          .sorted(orderComparator)
+          .forEach(
+              order -> tryAssignVehicle(
+                  order,
+                  availableVehicles,
+                  assignmentState,
+                  candidateSource,
+                  scope
+              )
+          );
+    }
+  }
+
+  /**
+   * Tries to assign the given transport orders to the given vehicles such that the number of
+   * assignments is maximal and the sum of the assigned candidates' complete routing costs is
+   * minimal.
+   *
+   * @param availableVehicles The vehicles available for order assignment.
+   * @param availableOrders The transport orders available to be assigned to a vehicle.
+   * @param assignmentState The assignment state to be updated.
+   * @param candidateSource Provides the (filtered) candidate for a vehicle and an order.
+   * @param scope The scope of the current dispatch run.
+   * @param startTime The time (as returned by {@link System#nanoTime()}) at which the computation
+   * of the candidates started, i.e. at which the time budget started.
+   * @return {@code true} if, and only if, a global assignment was computed within the configured
+   * time budget. If {@code false}, the assignment state has not been modified.
+   */
+  private boolean tryGlobalAssignment(
+      Collection<Vehicle> availableVehicles,
+      Collection<TransportOrder> availableOrders,
+      AssignmentState assignmentState,
+      BiFunction<Vehicle, TransportOrder, Optional<CandidateFilterResult>> candidateSource,
+      DispatchScope scope,
+      long startTime
+  ) {
+    long deadline = startTime
+        + TimeUnit.MILLISECONDS.toNanos(configuration.globalAssignmentTimeBudget());
+
+    // Sorting vehicles and orders makes the solution deterministic for candidates with equal costs.
+    List<Vehicle> vehicles = availableVehicles.stream().sorted(vehicleComparator).toList();
+    List<TransportOrder> orders = availableOrders.stream().sorted(orderComparator).toList();
+    AssignmentCandidate[][] candidates = new AssignmentCandidate[vehicles.size()][orders.size()];
+    long[][] costs = new long[vehicles.size()][orders.size()];
+    List<CandidateFilterResult> filteredResults = new ArrayList<>();
+    for (int i = 0; i < vehicles.size(); i++) {
+      Vehicle vehicle = vehicles.get(i);
+      for (int j = 0; j < orders.size(); j++) {
+        TransportOrder order = orders.get(j);
+        costs[i][j] = MinCostAssignmentSolver.INFEASIBLE;
+        if (!isPossiblePairing(vehicle, order, scope)) {
+          continue;
+        }
+        Optional<CandidateFilterResult> optResult = candidateSource.apply(vehicle, order);
+        if (optResult.isEmpty()) {
+          continue;
+        }
+        if (optResult.get().isFiltered()) {
+          filteredResults.add(optResult.get());
+          continue;
+        }
+        candidates[i][j] = optResult.get().getCandidate();
+        costs[i][j] = Math.max(0, candidates[i][j].getCompleteRoutingCosts());
+      }
+    }
+
+    long solverStartTime = System.nanoTime();
+    if (solverStartTime >= deadline) {
+      LOG.warn(
+          "Computing candidates for {} vehicles and {} orders exceeded the global assignment time "
+              + "budget of {} ms, falling back to greedy assignment.",
+          vehicles.size(),
+          orders.size(),
+          configuration.globalAssignmentTimeBudget()
+      );
+      globalAssignmentStatistics.recordCandidateComputationTimeout();
+      return false;
+    }
+
+    Optional<int[]> optSolution = MinCostAssignmentSolver.solve(costs, deadline);
+    if (optSolution.isEmpty()) {
+      LOG.warn(
+          "Could not compute global assignment for {} vehicles and {} orders within {} ms, "
+              + "falling back to greedy assignment.",
+          vehicles.size(),
+          orders.size(),
+          configuration.globalAssignmentTimeBudget()
+      );
+      globalAssignmentStatistics.recordSolverTimeout();
+      return false;
+    }
+    int[] orderIndexByVehicle = optSolution.get();
+    long solverEndTime = System.nanoTime();
+
+    long globalCosts = 0;
+    int assignmentCount = 0;
+    for (int i = 0; i < orderIndexByVehicle.length; i++) {
+      if (orderIndexByVehicle[i] != MinCostAssignmentSolver.UNASSIGNED) {
+        globalCosts += costs[i][orderIndexByVehicle[i]];
+        assignmentCount++;
+      }
+    }
+    GreedyAssignmentResult greedyResult
+        = simulateGreedyAssignment(candidates, vehicles.size() < orders.size());
+    GlobalAssignmentStatistics.Run run = new GlobalAssignmentStatistics.Run(
+        vehicles.size(),
+        orders.size(),
+        TimeUnit.NANOSECONDS.toMillis(solverStartTime - startTime),
+        TimeUnit.NANOSECONDS.toMillis(solverEndTime - solverStartTime),
+        assignmentCount,
+        globalCosts,
+        greedyResult.assignmentCount(),
+        greedyResult.totalCosts()
+    );
+    globalAssignmentStatistics.recordComputed(run);
+    LOG.debug("Computed global assignment: {}", run);
+
+    filteredResults.stream()
+        .map(CandidateFilterResult::toFilterResult)
+        .forEach(filterResult -> assignmentState.addFilteredOrder(filterResult));
+    for (int i = 0; i < orderIndexByVehicle.length; i++) {
+      if (orderIndexByVehicle[i] != MinCostAssignmentSolver.UNASSIGNED) {
+        assignOrder(candidates[i][orderIndexByVehicle[i]], assignmentState);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Simulates the greedy assignment for the given candidates without any side effects, for
+   * comparison with the global assignment.
+   *
+   * @param candidates The candidates, indexed by sorted vehicles and sorted orders, with
+   * {@code null} for pairs that cannot be assigned.
+   * @param byVehicle Whether the greedy assignment iterates over vehicles or over orders.
+   * @return The number of assignments and their total routing costs.
+   */
+  private GreedyAssignmentResult simulateGreedyAssignment(
+      AssignmentCandidate[][] candidates,
+      boolean byVehicle
+  ) {
+    int vehicleCount = candidates.length;
+    int orderCount = vehicleCount == 0 ? 0 : candidates[0].length;
+    boolean[] vehicleAssigned = new boolean[vehicleCount];
+    boolean[] orderAssigned = new boolean[orderCount];
+    long totalCosts = 0;
+    int assignmentCount = 0;
+    for (int outer = 0; outer < (byVehicle ? vehicleCount : orderCount); outer++) {
+      AssignmentCandidate best = null;
+      int bestInner = -1;
+      for (int inner = 0; inner < (byVehicle ? orderCount : vehicleCount); inner++) {
+        AssignmentCandidate candidate
+            = byVehicle ? candidates[outer][inner] : candidates[inner][outer];
+        boolean innerAssigned = byVehicle ? orderAssigned[inner] : vehicleAssigned[inner];
+        if (candidate == null || innerAssigned) {
+          continue;
+        }
+        Comparator<AssignmentCandidate> comparator
+            = byVehicle ? orderCandidateComparator : vehicleCandidateComparator;
+        if (best == null || comparator.compare(candidate, best) < 0) {
+          best = candidate;
+          bestInner = inner;
+        }
+      }
+      if (best != null) {
+        if (byVehicle) {
+          orderAssigned[bestInner] = true;
+        }
+        else {
+          vehicleAssigned[bestInner] = true;
+        }
+        totalCosts += best.getCompleteRoutingCosts();
+        assignmentCount++;
+      }
+    }
+    return new GreedyAssignmentResult(assignmentCount, totalCosts);
+  }
+
   private void tryAssignOrder(
       Vehicle vehicle,
       Collection<TransportOrder> availableOrders,
-      AssignmentState assignmentState
+      AssignmentState assignmentState,
+      BiFunction<Vehicle, TransportOrder, Optional<CandidateFilterResult>> candidateSource,
+      DispatchScope scope
   ) {
     LOG.debug("Trying to find transport order for vehicle '{}'...", vehicle.getName());
 
-    Point vehiclePosition
-        = objectService.fetch(Point.class, vehicle.getCurrentPosition()).orElseThrow();
-
     Map<Boolean, List<CandidateFilterResult>> ordersSplitByFilter
         = availableOrders.stream()
             .filter(
                 order -> (!assignmentState.wasAssignedToVehicle(order)
-                    && vehicleCanTakeOrder(vehicle, order)
-                    && orderAssignableToVehicle(order, vehicle))
-            )
-            .map(order -> computeCandidate(vehicle, vehiclePosition, order))
-            .filter(optCandidate -> optCandidate.isPresent())
-            .map(optCandidate -> optCandidate.get())
-            .map(
-                candidate -> new CandidateFilterResult(
-                    candidate,
-                    assignmentCandidateSelectionFilter.apply(candidate)
-                )
+                    && isPossiblePairing(vehicle, order, scope))
             )
+            .map(order -> candidateSource.apply(vehicle, order))
+            .filter(optResult -> optResult.isPresent())
+            .map(optResult -> optResult.get())
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
 
     ordersSplitByFilter.get(Boolean.FALSE).stream()
@@ -207,7 +480,9 @@ public class OrderAssigner {
   private void tryAssignVehicle(
       TransportOrder order,
       Collection<Vehicle> availableVehicles,
-      AssignmentState assignmentState
+      AssignmentState assignmentState,
+      BiFunction<Vehicle, TransportOrder, Optional<CandidateFilterResult>> candidateSource,
+      DispatchScope scope
   ) {
     LOG.debug("Trying to find vehicle for transport order '{}'...", order.getName());
 
@@ -215,24 +490,11 @@ public class OrderAssigner {
         = availableVehicles.stream()
             .filter(
                 vehicle -> (!assignmentState.wasAssignedToOrder(vehicle)
-                    && vehicleCanTakeOrder(vehicle, order)
-                    && orderAssignableToVehicle(order, vehicle))
-            )
-            .map(
-                vehicle -> computeCandidate(
-                    vehicle,
-                    objectService.fetch(Point.class, vehicle.getCurrentPosition()).orElseThrow(),
-                    order
-                )
-            )
-            .filter(optCandidate -> optCandidate.isPresent())
-            .map(optCandidate -> optCandidate.get())
-            .map(
-                candidate -> new CandidateFilterResult(
-                    candidate,
-                    assignmentCandidateSelectionFilter.apply(candidate)
-                )
+                    && isPossiblePairing(vehicle, order, scope))
             )
+            .map(vehicle -> candidateSource.apply(vehicle, order))
+            .filter(optResult -> optResult.isPresent())
+            .map(optResult -> optResult.get())
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
 
     ordersSplitByFilter.get(Boolean.FALSE).stream()
@@ -287,6 +549,92 @@ public class OrderAssigner {
     }
   }
 
+  /**
+   * Computes the (filtered) candidates for all pairs of the given vehicles and orders that could
+   * possibly be assigned, in parallel if configured.
+   * <p>
+   * Candidates do not depend on the assignments made during a dispatch run, so the greedy
+   * assignment that follows makes the same decisions as with candidates computed on demand.
+   * </p>
+   * <p>
+   * Only the routes are computed in parallel. The model objects required for computing them are
+   * resolved in the calling thread beforehand (see
+   * {@link DriveOrderRouteAssigner#prepareRoutes(TransportOrder, Vehicle, Point)}), as the calling
+   * thread holds the kernel's global lock, which would block any access to the object service
+   * from other threads. The routes are selected and the assignment candidate selection filters are
+   * applied in the calling thread, too, so neither needs to be thread-safe.
+   * </p>
+   *
+   * @param availableVehicles The vehicles available for order assignment.
+   * @param availableOrders The transport orders available to be assigned to a vehicle.
+   * @param vehiclePositions The vehicles' current positions.
+   * @param scope The scope of the current dispatch run.
+   * @return A function providing the precomputed candidate for a vehicle and an order.
+   */
+  private BiFunction<Vehicle, TransportOrder, Optional<CandidateFilterResult>> precomputeCandidates(
+      Collection<Vehicle> availableVehicles,
+      Collection<TransportOrder> availableOrders,
+      Map<TCSObjectReference<Vehicle>, Point> vehiclePositions,
+      DispatchScope scope
+  ) {
+    List<AssignmentCandidateKey> keys = new ArrayList<>();
+    for (Vehicle vehicle : availableVehicles) {
+      for (TransportOrder order : availableOrders) {
+        if (isPossiblePairing(vehicle, order, scope)) {
+          keys.add(new AssignmentCandidateKey(vehicle.getReference(), order.getReference()));
+        }
+      }
+    }
+    Map<TCSObjectReference<Vehicle>, Vehicle> vehiclesByRef = availableVehicles.stream()
+        .collect(Collectors.toMap(Vehicle::getReference, vehicle -> vehicle));
+    Map<TCSObjectReference<TransportOrder>, TransportOrder> ordersByRef = availableOrders.stream()
+        .collect(Collectors.toMap(TransportOrder::getReference, order -> order));
+
+    LOG.debug("Computing {} assignment candidates in advance...", keys.size());
+    List<Supplier<Set<List<Route>>>> routeComputations = keys.stream()
+        .map(
+            key -> driveOrderRouteAssigner.prepareRoutes(
+                ordersByRef.get(key.order()),
+                vehiclesByRef.get(key.vehicle()),
+                vehiclePositions.get(key.vehicle())
+            )
+        )
+        .toList();
+    List<Set<List<Route>>> routes = candidateComputationPool.map(
+        routeComputations,
+        Supplier::get
+    );
+
+    Map<AssignmentCandidateKey, CandidateFilterResult> resultsByKey = new HashMap<>();
+    for (int i = 0; i < keys.size(); i++) {
+      AssignmentCandidateKey key = keys.get(i);
+      Vehicle vehicle = vehiclesByRef.get(key.vehicle());
+      TransportOrder order = ordersByRef.get(key.order());
+      driveOrderRouteAssigner.tryAssignRoutes(order, routes.get(i))
+          .map(driveOrders -> new AssignmentCandidate(vehicle, order, driveOrders))
+          .map(this::filterCandidate)
+          .ifPresent(result -> resultsByKey.put(key, result));
+    }
+    return (vehicle, order) -> Optional.ofNullable(
+        resultsByKey.get(new AssignmentCandidateKey(vehicle.getReference(), order.getReference()))
+    );
+  }
+
+  private Optional<CandidateFilterResult> computeFilteredCandidate(
+      Vehicle vehicle,
+      Point vehiclePosition,
+      TransportOrder order
+  ) {
+    return computeCandidate(vehicle, vehiclePosition, order).map(this::filterCandidate);
+  }
+
+  private CandidateFilterResult filterCandidate(AssignmentCandidate candidate) {
+    return new CandidateFilterResult(
+        candidate,
+        assignmentCandidateSelectionFilter.apply(candidate)
+    );
+  }
+
   private Optional<AssignmentCandidate> computeCandidate(
       Vehicle vehicle,
       Point vehiclePosition,
@@ -296,6 +644,12 @@ public class OrderAssigner {
         .map(driveOrders -> new AssignmentCandidate(vehicle, order, driveOrders));
   }
 
+  private boolean isPossiblePairing(Vehicle vehicle, TransportOrder order, DispatchScope scope) {
+    return scope.covers(vehicle, order)
+        && vehicleCanTakeOrder(vehicle, order)
+        && orderAssignableToVehicle(order, vehicle);
+  }
+
   private boolean vehicleCanTakeOrder(Vehicle vehicle, TransportOrder order) {
     return !vehicle.isEnergyLevelCritical()
         || Objects.equals(
@@ -331,4 +685,25 @@ public class OrderAssigner {
     return acceptableOrderTypes.contains(OrderConstants.TYPE_ANY)
         || acceptableOrderTypes.containsAll(sequence.getOrderTypes());
   }
+
+  /**
+   * The result of a simulated greedy assignment.
+   *
+   * @param assignmentCount The number of assignments.
+   * @param totalCosts The sum of the assignments' complete routing costs.
+   */
+  private record GreedyAssignmentResult(int assignmentCount, long totalCosts) {
+  }
+
+  /**
+   * Identifies an assignment candidate by its vehicle and transport order.
+   *
+   * @param vehicle The vehicle.
+   * @param order The transport order.
+   */
+  private record AssignmentCandidateKey(
+      TCSObjectReference<Vehicle> vehicle,
+      TCSObjectReference<TransportOrder> order
+  ) {
+  }
 }
@@ -7,6 +7,7 @@ import static java.util.Objects.requireNonNull;
 import jakarta.annotation.Nullable;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.RouteSelector;
@@ -15,6 +16,7 @@ import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.LowestCostRouteSelector;
 import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 
 /**
@@ -150,6 +152,17 @@ public abstract class AbstractParkingPositionSupplier
     Point vehiclePos
         = plantModelService.fetch(Point.class, vehicle.getCurrentPosition()).orElseThrow();
 
+    if (routeSelector.getClass() == LowestCostRouteSelector.class) {
+      // The default route selector always selects the cheapest route, so the costs of the cheapest
+      // routes to all points can be computed at once. Other route selectors need to be applied to
+      // the routes to every single point.
+      return router.getCosts(vehicle, vehiclePos, points, Set.of()).entrySet().stream()
+          .filter(entry -> entry.getValue() < Long.MAX_VALUE)
+          .min(Map.Entry.comparingByValue())
+          .map(Map.Entry::getKey)
+          .orElse(null);
+    }
+
     return points.stream()
         .map(point -> parkingPositionCandidate(vehicle, vehiclePos, point))
         .filter(candidate -> candidate.costs < Long.MAX_VALUE)
@@ -23,6 +23,7 @@ import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.LowestCostRouteSelector;
 import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 
 /**
@@ -144,6 +145,33 @@ public class DefaultRechargePositionSupplier
   private Location findCheapestLocation(Map<Location, Set<Point>> locations, Vehicle vehicle) {
     Point curPos = plantModelService.fetch(Point.class, vehicle.getCurrentPosition()).orElseThrow();
 
+    if (routeSelector.getClass() == LowestCostRouteSelector.class) {
+      // The default route selector always selects the cheapest route, so the costs of the cheapest
+      // routes to all access points can be computed at once. Other route selectors need to be
+      // applied to the routes to every single access point.
+      Map<Point, Long> costs = router.getCosts(
+          vehicle,
+          curPos,
+          locations.values().stream()
+              .flatMap(Set::stream)
+              .collect(Collectors.toSet()),
+          Set.of()
+      );
+      return locations.entrySet().stream()
+          .map(
+              entry -> new LocationCandidate(
+                  entry.getKey(),
+                  entry.getValue().stream()
+                      .mapToLong(point -> costs.getOrDefault(point, Long.MAX_VALUE))
+                      .min()
+                      .orElse(Long.MAX_VALUE)
+              )
+          )
+          .min(Comparator.comparingLong(candidate -> candidate.costs))
+          .map(candidate -> candidate.location)
+          .orElse(null);
+    }
+
     return locations.entrySet().stream()
         .map(entry -> bestAccessPointCandidate(vehicle, curPos, entry.getKey(), entry.getValue()))
         .filter(candidate -> candidate.isPresent())
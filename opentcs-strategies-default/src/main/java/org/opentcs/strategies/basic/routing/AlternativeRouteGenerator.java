@@ -0,0 +1,224 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.BiFunction;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+
+/**
+ * Lazily generates loopless routes between two points in the order of increasing costs.
+ * <p>
+ * The routes are generated using Yen's algorithm: The first route is the cheapest route provided
+ * by the given point router. Every further route is determined by deviating from one of the
+ * previously generated routes at one of its points (the spur point), with the part of the route
+ * leading to the spur point (the root) being kept. The cheapest route from the spur point to the
+ * destination point is computed with a point router that excludes the points of the root as well
+ * as the paths with which previously generated routes sharing the same root continue.
+ * </p>
+ * <p>
+ * Routes are only computed when they are requested, so callers only pay for the routes they
+ * actually consume.
+ * </p>
+ */
+public class AlternativeRouteGenerator
+    implements
+      Iterator<List<Route.Step>> {
+
+  /**
+   * The point router to compute the cheapest route with.
+   */
+  private final PointRouter pointRouter;
+  /**
+   * Provides point routers excluding the given points and paths from routing.
+   */
+  private final BiFunction<Set<Point>, Set<Path>, PointRouter> restrictedPointRouters;
+  /**
+   * The point at which the routes start.
+   */
+  private final Point sourcePoint;
+  /**
+   * The point at which the routes end.
+   */
+  private final Point destinationPoint;
+  /**
+   * The routes generated so far.
+   */
+  private final List<List<Route.Step>> generatedRoutes = new ArrayList<>();
+  /**
+   * The candidates for the next route to be generated.
+   */
+  private final PriorityQueue<Candidate> candidates = new PriorityQueue<>(
+      Comparator.comparingLong(Candidate::costs)
+          .thenComparingLong(Candidate::sequenceNumber)
+  );
+  /**
+   * The paths of all routes that have been generated or considered as candidates.
+   */
+  private final Set<List<String>> knownRoutes = new HashSet<>();
+  /**
+   * The next route to be returned, if it has already been computed.
+   */
+  private List<Route.Step> nextRoute;
+  /**
+   * Whether all routes have been generated.
+   */
+  private boolean exhausted;
+  /**
+   * The sequence number for the next candidate.
+   */
+  private long candidateSequenceNumber;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param pointRouter The point router to compute the cheapest route with.
+   * @param restrictedPointRouters Provides point routers that work like the given point router,
+   * but exclude the given points and paths from routing. A point router provided is only used until
+   * the function is called again, so the function may provide the same (reconfigured) point router
+   * every time.
+   * @param sourcePoint The point at which the routes start.
+   * @param destinationPoint The point at which the routes end.
+   */
+  public AlternativeRouteGenerator(
+      @Nonnull
+      PointRouter pointRouter,
+      @Nonnull
+      BiFunction<Set<Point>, Set<Path>, PointRouter> restrictedPointRouters,
+      @Nonnull
+      Point sourcePoint,
+      @Nonnull
+      Point destinationPoint
+  ) {
+    this.pointRouter = requireNonNull(pointRouter, "pointRouter");
+    this.restrictedPointRouters = requireNonNull(restrictedPointRouters, "restrictedPointRouters");
+    this.sourcePoint = requireNonNull(sourcePoint, "sourcePoint");
+    this.destinationPoint = requireNonNull(destinationPoint, "destinationPoint");
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (nextRoute == null && !exhausted) {
+      nextRoute = computeNextRoute();
+      exhausted = nextRoute == null;
+    }
+    return nextRoute != null;
+  }
+
+  /**
+   * Returns the steps of the next cheapest route.
+   * <p>
+   * If the source point is the destination point, the only route returned is an empty list of
+   * steps.
+   * </p>
+   *
+   * @return The steps of the next cheapest route.
+   * @throws NoSuchElementException If there are no more routes.
+   */
+  @Override
+  public List<Route.Step> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more routes");
+    }
+    List<Route.Step> result = nextRoute;
+    nextRoute = null;
+    return result;
+  }
+
+  private List<Route.Step> computeNextRoute() {
+    if (generatedRoutes.isEmpty()) {
+      return accept(pointRouter.getRouteSteps(sourcePoint, destinationPoint));
+    }
+
+    List<Route.Step> previousRoute = generatedRoutes.getLast();
+    for (int spurIndex = 0; spurIndex < previousRoute.size(); spurIndex++) {
+      addCandidate(previousRoute, spurIndex);
+    }
+
+    Candidate candidate = candidates.poll();
+    return candidate == null ? null : accept(candidate.steps());
+  }
+
+  private List<Route.Step> accept(List<Route.Step> steps) {
+    if (steps == null) {
+      return null;
+    }
+    knownRoutes.add(pathNames(steps));
+    generatedRoutes.add(steps);
+    return steps;
+  }
+
+  private void addCandidate(List<Route.Step> route, int spurIndex) {
+    List<Route.Step> rootSteps = route.subList(0, spurIndex);
+    Point spurPoint = route.get(spurIndex).getSourcePoint();
+
+    // Exclude the root's points (except for the spur point) to keep the route loopless...
+    Set<Point> pointsToExclude = new HashSet<>();
+    for (Route.Step step : rootSteps) {
+      pointsToExclude.add(step.getSourcePoint());
+    }
+    // ...and the paths with which routes with the same root continue to get a different route.
+    Set<Path> pathsToExclude = new HashSet<>();
+    for (List<Route.Step> generatedRoute : generatedRoutes) {
+      if (generatedRoute.size() > spurIndex && hasRoot(generatedRoute, rootSteps)) {
+        pathsToExclude.add(generatedRoute.get(spurIndex).getPath());
+      }
+    }
+
+    List<Route.Step> spurSteps = restrictedPointRouters.apply(pointsToExclude, pathsToExclude)
+        .getRouteSteps(spurPoint, destinationPoint);
+    if (spurSteps == null || spurSteps.isEmpty()) {
+      return;
+    }
+
+    List<Route.Step> steps = new ArrayList<>(rootSteps.size() + spurSteps.size());
+    steps.addAll(rootSteps);
+    long costs = rootSteps.stream().mapToLong(Route.Step::getCosts).sum();
+    for (Route.Step step : spurSteps) {
+      steps.add(step.withRouteIndex(steps.size()));
+      costs += step.getCosts();
+    }
+
+    if (knownRoutes.add(pathNames(steps))) {
+      candidates.add(new Candidate(steps, costs, candidateSequenceNumber++));
+    }
+  }
+
+  private boolean hasRoot(List<Route.Step> route, List<Route.Step> rootSteps) {
+    for (int i = 0; i < rootSteps.size(); i++) {
+      if (!route.get(i).getPath().equals(rootSteps.get(i).getPath())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private List<String> pathNames(List<Route.Step> steps) {
+    return steps.stream()
+        .map(step -> step.getPath().getName())
+        .toList();
+  }
+
+  /**
+   * A candidate for the next route to be generated.
+   *
+   * @param steps The route's steps.
+   * @param costs The route's costs.
+   * @param sequenceNumber The sequence number, used to keep the order of equally expensive
+   * candidates stable.
+   */
+  private record Candidate(List<Route.Step> steps, long costs, long sequenceNumber) {
+  }
+}
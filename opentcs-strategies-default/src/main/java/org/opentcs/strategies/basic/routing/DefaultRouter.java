@@ -8,17 +8,29 @@ import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.inject.Inject;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.InternalTCSObjectService;
+import org.opentcs.customizations.kernel.GlobalSyncObject;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Path;
@@ -29,12 +41,37 @@ import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.DriveOrder.Destination;
 import org.opentcs.data.order.Route;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.edgeevaluator.CongestionConfiguration;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorCongestion;
+import org.opentcs.strategies.basic.routing.jgrapht.CompactPointRouter;
 import org.opentcs.strategies.basic.routing.jgrapht.PointRouterProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathPointRouter;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A basic {@link Router} implementation.
+ * <p>
+ * Routing requests do not block each other: They are served from the routing snapshot provided by
+ * the {@link PointRouterProvider} at the time of the request, while updates of the routing
+ * topology publish new snapshots. Only the latter (and the component's lifecycle methods) are
+ * synchronized.
+ * </p>
+ * <p>
+ * Route queries for single destination points and route costs may also be requested without
+ * holding the kernel's global lock (see {@link #isThreadSafe()}). As long as the point router
+ * required is contained in the current routing snapshot, such requests do not require any locking.
+ * Only if the point router has to be constructed (which requires access to the model), the global
+ * lock is acquired before the snapshot's lock, like it is with updates of the routing topology.
+ * </p>
+ * <p>
+ * If the {@link EdgeEvaluatorCongestion} is used, its penalties are refreshed periodically in a
+ * separate thread and applied to the routing topology as updates of the affected paths. As this is
+ * only efficient with {@link ShortestPathConfiguration.Algorithm#COMPACT_DIJKSTRA}, the penalties
+ * are not applied with any other algorithm.
+ * </p>
  */
 public class DefaultRouter
     implements
@@ -60,6 +97,22 @@ public class DefaultRouter
    * Used to map vehicles to their routing groups.
    */
   private final GroupMapper routingGroupMapper;
+  /**
+   * Penalizes edges leading through congested areas.
+   */
+  private final EdgeEvaluatorCongestion congestionEvaluator;
+  /**
+   * The congestion evaluator's configuration.
+   */
+  private final CongestionConfiguration congestionConfiguration;
+  /**
+   * The shortest path configuration.
+   */
+  private final ShortestPathConfiguration shortestPathConfiguration;
+  /**
+   * A global object to be used for synchronization within the kernel.
+   */
+  private final Object globalSyncObject;
   /**
    * The routes selected for each vehicle.
    */
@@ -68,6 +121,10 @@ public class DefaultRouter
    * Indicates whether this component is enabled.
    */
   private boolean initialized;
+  /**
+   * The executor for the periodic refresh of congestion penalties, if any.
+   */
+  private ScheduledExecutorService congestionRefreshExecutor;
 
   /**
    * Creates a new instance.
@@ -76,18 +133,37 @@ public class DefaultRouter
    * @param pointRouterProvider Provides point routers for vehicles.
    * @param routingGroupMapper Used to map vehicles to their routing groups.
    * @param configuration This class's configuration.
+   * @param congestionEvaluator Penalizes edges leading through congested areas.
+   * @param congestionConfiguration The congestion evaluator's configuration.
+   * @param shortestPathConfiguration The shortest path configuration.
+   * @param globalSyncObject The kernel threads' global synchronization object.
    */
   @Inject
   public DefaultRouter(
       InternalTCSObjectService objectService,
       PointRouterProvider pointRouterProvider,
       GroupMapper routingGroupMapper,
-      DefaultRouterConfiguration configuration
+      DefaultRouterConfiguration configuration,
+      EdgeEvaluatorCongestion congestionEvaluator,
+      CongestionConfiguration congestionConfiguration,
+      ShortestPathConfiguration shortestPathConfiguration,
+      @GlobalSyncObject
+      Object globalSyncObject
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.pointRouterProvider = requireNonNull(pointRouterProvider, "pointRouterProvider");
     this.routingGroupMapper = requireNonNull(routingGroupMapper, "routingGroupMapper");
     this.configuration = requireNonNull(configuration, "configuration");
+    this.congestionEvaluator = requireNonNull(congestionEvaluator, "congestionEvaluator");
+    this.congestionConfiguration = requireNonNull(
+        congestionConfiguration,
+        "congestionConfiguration"
+    );
+    this.shortestPathConfiguration = requireNonNull(
+        shortestPathConfiguration,
+        "shortestPathConfiguration"
+    );
+    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
   }
 
   @Override
@@ -98,7 +174,12 @@ public class DefaultRouter
 
     synchronized (this) {
       routesByVehicle.clear();
+      congestionEvaluator.clear();
       pointRouterProvider.invalidate();
+      pointRouterProvider.warmUp();
+      if (congestionEvaluator.isEnabled()) {
+        scheduleCongestionRefresh();
+      }
       initialized = true;
     }
   }
@@ -115,12 +196,22 @@ public class DefaultRouter
     }
 
     synchronized (this) {
+      if (congestionRefreshExecutor != null) {
+        congestionRefreshExecutor.shutdownNow();
+        congestionRefreshExecutor = null;
+      }
       routesByVehicle.clear();
+      congestionEvaluator.clear();
       pointRouterProvider.invalidate();
       initialized = false;
     }
   }
 
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   public void updateRoutingTopology(Set<Path> paths) {
     requireNonNull(paths, "paths");
@@ -130,50 +221,101 @@ public class DefaultRouter
     }
   }
 
+  private void scheduleCongestionRefresh() {
+    if (shortestPathConfiguration.algorithm()
+        != ShortestPathConfiguration.Algorithm.COMPACT_DIJKSTRA) {
+      // With other algorithms, every refresh would result in copies of all routing graphs.
+      LOG.warn(
+          "Edge evaluator '{}' requires algorithm '{}', but '{}' is configured. "
+              + "Not applying any congestion penalties.",
+          EdgeEvaluatorCongestion.CONFIGURATION_KEY,
+          ShortestPathConfiguration.Algorithm.COMPACT_DIJKSTRA,
+          shortestPathConfiguration.algorithm()
+      );
+      return;
+    }
+
+    LOG.debug(
+        "Scheduling refresh of congestion penalties with interval of {} ms...",
+        congestionConfiguration.refreshInterval()
+    );
+    congestionRefreshExecutor = new LoggingScheduledThreadPoolExecutor(
+        1,
+        runnable -> {
+          Thread thread = new Thread(runnable, "congestionRefreshExecutor");
+          thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+          return thread;
+        }
+    );
+    congestionRefreshExecutor.scheduleWithFixedDelay(
+        this::refreshCongestionPenalties,
+        congestionConfiguration.refreshInterval(),
+        congestionConfiguration.refreshInterval(),
+        TimeUnit.MILLISECONDS
+    );
+  }
+
+  private void refreshCongestionPenalties() {
+    // Computing the penalties does not block the kernel (apart from fetching the vehicles).
+    Set<Path> changedPaths = congestionEvaluator.refresh();
+    // An empty set would result in the whole routing topology being recomputed.
+    if (changedPaths.isEmpty()) {
+      return;
+    }
+
+    LOG.debug("Congestion penalties changed for {} paths.", changedPaths.size());
+    // Like any other update of the routing topology, applying the penalties requires the global
+    // lock to be held, as updating the routing graphs may require access to the model data.
+    synchronized (globalSyncObject) {
+      synchronized (this) {
+        if (!isInitialized()) {
+          return;
+        }
+        pointRouterProvider.updateRoutingTopology(changedPaths);
+      }
+    }
+  }
+
   @Override
   public Set<Vehicle> checkRoutability(TransportOrder order) {
     requireNonNull(order, "order");
 
-    synchronized (this) {
-      Set<Vehicle> result = new HashSet<>();
-      List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
-      DriveOrder[] driveOrders
-          = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
-
-      for (Map.Entry<String, PointRouter> curEntry : pointRouterProvider
-          .getPointRoutersByVehicleGroup().entrySet()) {
-        // Get all points at the first location at which a vehicle of the current
-        // type can execute the desired operation and check if an acceptable route
-        // originating in one of them exists.
-        for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
-          if (isRoutable(curStartPoint, driveOrders, 1, curEntry.getValue())) {
-            result.addAll(getVehiclesByRoutingGroup(curEntry.getKey()));
-            break;
-          }
+    Set<Vehicle> result = new HashSet<>();
+    List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
+    DriveOrder[] driveOrders
+        = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
+
+    for (Map.Entry<String, PointRouter> curEntry : pointRouterProvider
+        .getPointRoutersByVehicleGroup().entrySet()) {
+      // Get all points at the first location at which a vehicle of the current
+      // type can execute the desired operation and check if an acceptable route
+      // originating in one of them exists.
+      for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
+        if (isRoutable(curStartPoint, driveOrders, 1, curEntry.getValue())) {
+          result.addAll(getVehiclesByRoutingGroup(curEntry.getKey()));
+          break;
         }
       }
-      return result;
     }
+    return result;
   }
 
   @Override
   public boolean checkGeneralRoutability(TransportOrder order) {
     requireNonNull(order, "order");
 
-    synchronized (this) {
-      List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
-      DriveOrder[] driveOrders
-          = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
+    List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
+    DriveOrder[] driveOrders
+        = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
 
-      PointRouter generalPointRouter = pointRouterProvider.getGeneralPointRouter(order);
+    PointRouter generalPointRouter = pointRouterProvider.getGeneralPointRouter(order);
 
-      for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
-        if (!isRoutable(curStartPoint, driveOrders, 1, generalPointRouter)) {
-          return false;
-        }
+    for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
+      if (!isRoutable(curStartPoint, driveOrders, 1, generalPointRouter)) {
+        return false;
       }
-      return true;
     }
+    return true;
   }
 
   @Override
@@ -182,28 +324,67 @@ public class DefaultRouter
       Point sourcePoint,
       TransportOrder transportOrder,
       int maxRouteCount
+  ) {
+    return prepareRoutes(vehicle, sourcePoint, transportOrder, maxRouteCount).get();
+  }
+
+  /**
+   * Prepares the computation of routes for the given vehicle and transport order.
+   * <p>
+   * The point router to be used is looked up (or constructed) and the destination points of the
+   * transport order's drive orders and the resources to be avoided are resolved on the calling
+   * thread. The returned supplier does not access the object service, so it may be called on any
+   * thread - even while the calling thread holds the kernel's global lock, as it does during a
+   * dispatch run.
+   * </p>
+   *
+   * @param vehicle The vehicle for which the routes are to be computed.
+   * @param sourcePoint The point at which the vehicle would start processing the transport order.
+   * @param transportOrder The transport order to be processed by the vehicle.
+   * @param maxRouteCount The maximum number of route sequences to compute.
+   * @return A supplier computing the route sequences, as
+   * {@link #getRoutes(Vehicle, Point, TransportOrder, int)} does. It is to be called only once.
+   */
+  public Supplier<Set<List<Route>>> prepareRoutes(
+      Vehicle vehicle,
+      Point sourcePoint,
+      TransportOrder transportOrder,
+      int maxRouteCount
   ) {
     requireNonNull(vehicle, "vehicle");
     requireNonNull(sourcePoint, "sourcePoint");
     requireNonNull(transportOrder, "transportOrder");
     checkArgument(maxRouteCount > 0, "maxRouteCount must be greater than zero");
 
-    synchronized (this) {
-      // TODO: Once maxRouteCount is actually used, ensure to cap it at
-      //       DefaultRouterConfiguration.routeComputationLimit() using Math.min().
-      List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
-      DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
-      PointRouter pointRouter = pointRouterProvider.getPointRouterForVehicle(
-          vehicle,
-          transportOrder
-      );
-      OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders, pointRouter);
+    List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
+    PointRouter pointRouter = pointRouterProvider.getPointRouterForVehicle(
+        vehicle,
+        transportOrder
+    );
+    int routeCount = effectiveRouteCount(maxRouteCount, pointRouter);
+    List<Set<Point>> destinationPoints = driveOrderList.stream()
+        .map(this::getDestinationPoints)
+        .toList();
+
+    return () -> {
+      OrderRouteParameterStruct params
+          = new OrderRouteParameterStruct(destinationPoints, pointRouter);
       OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrderList.size());
       computeCheapestOrderRoute(sourcePoint, params, 0, resultStruct);
-      return (resultStruct.bestCosts == Long.MAX_VALUE)
-          ? Set.of()
-          : Set.of(List.of(resultStruct.bestRoute));
-    }
+      if (resultStruct.bestCosts == Long.MAX_VALUE) {
+        return Set.of();
+      }
+      if (routeCount == 1) {
+        return Set.of(toRoutes(sourcePoint, resultStruct.bestDestinationPoints, pointRouter));
+      }
+      return computeAlternativeOrderRoutes(
+          sourcePoint,
+          resultStruct.bestDestinationPoints,
+          pointRouter,
+          restrictedPointRouters(pointRouter),
+          routeCount
+      );
+    };
   }
 
   @Override
@@ -220,29 +401,148 @@ public class DefaultRouter
     requireNonNull(resourcesToAvoid, "resourcesToAvoid");
     checkArgument(maxRouteCount > 0, "maxRouteCount must be greater than zero");
 
-    synchronized (this) {
-      // TODO: Once maxRouteCount is actually used, ensure to cap it at
-      //       DefaultRouterConfiguration.routeComputationLimit() using Math.min().
-      return Optional.ofNullable(
-          pointRouterProvider.getPointRouterForVehicle(vehicle, resourcesToAvoid)
-              .getRouteSteps(sourcePoint, destinationPoint)
-      )
-          .map(steps -> {
-            if (steps.isEmpty()) {
-              return List.of(
-                  // If the list of steps is empty, we're already at the destination point create a
-                  // single step without a path.
-                  new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0, 0)
-              );
-            }
-            else {
-              return steps;
-            }
-          })
-          .map(Route::new)
+    PointRouter pointRouter = getPointRouterForQuery(vehicle, resourcesToAvoid);
+    int routeCount = effectiveRouteCount(maxRouteCount, pointRouter);
+    if (routeCount == 1) {
+      return Optional.ofNullable(pointRouter.getRouteSteps(sourcePoint, destinationPoint))
+          .map(steps -> toRoute(sourcePoint, steps))
           .map(Set::of)
           .orElse(Set.of());
     }
+
+    AlternativeRouteGenerator routeGenerator = new AlternativeRouteGenerator(
+        pointRouter,
+        restrictedPointRouters(pointRouter),
+        sourcePoint,
+        destinationPoint
+    );
+    Set<Route> result = new LinkedHashSet<>();
+    while (result.size() < routeCount && routeGenerator.hasNext()) {
+      result.add(toRoute(sourcePoint, routeGenerator.next()));
+    }
+    return result;
+  }
+
+  @Override
+  public Map<Point, Long> getCosts(
+      Vehicle vehicle,
+      Point sourcePoint,
+      Set<Point> destinationPoints,
+      Set<TCSResourceReference<?>> resourcesToAvoid
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(sourcePoint, "sourcePoint");
+    requireNonNull(destinationPoints, "destinationPoints");
+    requireNonNull(resourcesToAvoid, "resourcesToAvoid");
+
+    Map<String, Point> pointsByName = destinationPoints.stream()
+        .collect(Collectors.toMap(Point::getName, point -> point));
+    Map<TCSObjectReference<Point>, Long> costs
+        = getPointRouterForQuery(vehicle, resourcesToAvoid)
+            .getCosts(
+                sourcePoint.getReference(),
+                destinationPoints.stream()
+                    .map(Point::getReference)
+                    .collect(Collectors.toSet())
+            );
+
+    Map<Point, Long> result = new HashMap<>();
+    costs.forEach((pointRef, pointCosts) -> {
+      if (pointCosts != INFINITE_COSTS) {
+        result.put(pointsByName.get(pointRef.getName()), pointCosts);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Returns the point router to serve a route query with, which may be issued without holding the
+   * kernel's global lock.
+   *
+   * @param vehicle The vehicle to get the point router for.
+   * @param resourcesToAvoid The resources to avoid.
+   * @return The point router.
+   */
+  private PointRouter getPointRouterForQuery(
+      Vehicle vehicle,
+      Set<TCSResourceReference<?>> resourcesToAvoid
+  ) {
+    if (resourcesToAvoid.isEmpty()) {
+      PointRouter pointRouter = pointRouterProvider.getConstructedPointRouterForVehicle(vehicle);
+      if (pointRouter != null) {
+        return pointRouter;
+      }
+    }
+
+    // Resolving the resources to avoid and constructing the point router require access to the
+    // model. Acquire the global lock first (if the caller does not already hold it) to prevent a
+    // deadlock with updates of the routing topology, which hold it while waiting for the snapshot's
+    // lock.
+    synchronized (globalSyncObject) {
+      return pointRouterProvider.getPointRouterForVehicle(vehicle, resourcesToAvoid);
+    }
+  }
+
+  /**
+   * Returns the number of routes to actually compute for a request.
+   * <p>
+   * Alternative routes are only computed with point routers that can provide point routers
+   * excluding points and paths from routing, as computing them requires such a point router for
+   * every deviation from a previously computed route.
+   * </p>
+   *
+   * @param maxRouteCount The maximum number of routes requested.
+   * @param pointRouter The point router to compute the routes with.
+   * @return The number of routes to compute, capped at the configured route computation limit.
+   */
+  private int effectiveRouteCount(int maxRouteCount, PointRouter pointRouter) {
+    if (!(pointRouter instanceof CompactPointRouter)
+        && !(pointRouter instanceof ShortestPathPointRouter shortestPathPointRouter
+            && shortestPathPointRouter.isRestrictable())) {
+      return 1;
+    }
+    return Math.max(1, Math.min(maxRouteCount, configuration.routeComputationLimit()));
+  }
+
+  /**
+   * Returns a function providing point routers that work like the given one, but exclude the given
+   * points and paths from routing.
+   * <p>
+   * With a {@link CompactPointRouter}, all point routers provided are the same one, with only its
+   * exclusions being changed on every call, so the computation of alternative routes for a request
+   * does not require any point routers to be created or looked up. With a
+   * {@link ShortestPathPointRouter}, every point router provided works on a new masked view of the
+   * given point router's graph, which does not copy the graph, either.
+   * </p>
+   *
+   * @param pointRouter The point router.
+   * @return The function.
+   */
+  private BiFunction<Set<Point>, Set<Path>, PointRouter> restrictedPointRouters(
+      PointRouter pointRouter
+  ) {
+    if (pointRouter instanceof CompactPointRouter compactPointRouter) {
+      CompactPointRouter.MaskedPointRouter maskedPointRouter
+          = compactPointRouter.createMaskedPointRouter();
+      return (pointsToExclude, pathsToExclude) -> maskedPointRouter.withExclusions(
+          pointNames(pointsToExclude),
+          pathNames(pathsToExclude)
+      );
+    }
+
+    ShortestPathPointRouter shortestPathPointRouter = (ShortestPathPointRouter) pointRouter;
+    return (pointsToExclude, pathsToExclude) -> shortestPathPointRouter.createRestrictedPointRouter(
+        pointNames(pointsToExclude),
+        pathNames(pathsToExclude)
+    );
+  }
+
+  private Set<String> pointNames(Set<Point> points) {
+    return points.stream().map(Point::getName).collect(Collectors.toSet());
+  }
+
+  private Set<String> pathNames(Set<Path> paths) {
+    return paths.stream().map(Path::getName).collect(Collectors.toSet());
   }
 
   /**
@@ -289,7 +589,12 @@ public class DefaultRouter
   }
 
   /**
-   * Compute the cheapest route along a list of drive orders/checkpoints.
+   * Compute the cheapest sequence of destination points along a list of drive orders/checkpoints.
+   * <p>
+   * Only the costs of the hops between checkpoints are considered here. Combinations of
+   * destination points whose partial costs already reach the costs of the best combination found
+   * so far are pruned, as they cannot result in a cheaper route.
+   * </p>
    *
    * @param startPoint The current checkpoint which to start at.
    * @param params A struct describing parameters for the route to be computed.
@@ -306,58 +611,154 @@ public class DefaultRouter
     assert params != null;
     assert result != null;
     // If we haven't reached the final drive order in the list, yet...
-    if (hopIndex < params.driveOrders.length) {
+    if (hopIndex < params.destinationPoints.size()) {
       // ...try every possible destination point of the current drive order as
       // the next checkpoint and recursively route from there.
       final long currentRouteCosts = result.currentCosts;
-      Set<Point> destPoints = getDestinationPoints(params.driveOrders[hopIndex]);
+      Set<Point> destPoints = params.getDestinationPoints(hopIndex);
       // If the set of destination points contains the starting point, keep only
       // that one. This is just a shortcut - it is the cheapest way to go.
       if (!configuration.routeToCurrentPosition() && destPoints.contains(startPoint)) {
         LOG.debug("Shortcutting route to {}", startPoint);
-        destPoints.clear();
-        destPoints.add(startPoint);
+        destPoints = Set.of(startPoint);
       }
-      boolean routable = false;
       for (Point curDestPoint : destPoints) {
-        final long hopCosts = params.pointRouter.getCosts(startPoint, curDestPoint);
+        final long hopCosts = params.getHopCosts(startPoint, curDestPoint);
         if (hopCosts == INFINITE_COSTS) {
           continue;
         }
-        // Get the list of steps for the route of the current drive order.
-        List<Route.Step> steps = params.pointRouter.getRouteSteps(startPoint, curDestPoint);
-        if (steps.isEmpty()) {
-          // If the list of steps returned is empty, we're already at the
-          // destination point of the drive order - create a single step
-          // without a path.
-          steps = new ArrayList<>(1);
-          steps.add(new Route.Step(null, null, startPoint, Vehicle.Orientation.UNDEFINED, 0, 0));
+        // With non-negative costs, the route cannot become any cheaper than it is now.
+        final long partialCosts = currentRouteCosts + hopCosts;
+        if (partialCosts >= result.bestCosts) {
+          continue;
         }
-        // Create a route from the list of steps gathered.
-        Route hopRoute = new Route(steps);
-        // Place the computed route in the result struct.
-        result.currentRoute[hopIndex] = hopRoute;
-        // Calculate the costs for the route so far, too.
-        result.currentCosts = currentRouteCosts + hopRoute.getCosts();
+        result.currentDestinationPoints[hopIndex] = curDestPoint;
+        result.currentCosts = partialCosts;
         computeCheapestOrderRoute(curDestPoint, params, hopIndex + 1, result);
-        // Remember that we did find at least one route that works.
-        routable = true;
-      }
-      if (!routable) {
-        // Setting currentCosts is not strictly necessary for this algorithm,
-        // but might help with debugging.
-        result.currentCosts = Long.MAX_VALUE;
       }
     }
     // If we have reached the final drive order, ...
     else // If the route computed is cheaper than the best route found so far,
       // replace the latter.
       if (result.currentCosts < result.bestCosts) {
-        System.arraycopy(result.currentRoute, 0, result.bestRoute, 0, result.currentRoute.length);
+        System.arraycopy(
+            result.currentDestinationPoints,
+            0,
+            result.bestDestinationPoints,
+            0,
+            result.currentDestinationPoints.length
+        );
         result.bestCosts = result.currentCosts;
       }
   }
 
+  /**
+   * Creates the routes leading along the given sequence of destination points.
+   *
+   * @param sourcePoint The point at which the first route starts.
+   * @param destinationPoints The destination points of the individual routes.
+   * @param pointRouter The point router to use.
+   * @return The list of routes.
+   */
+  private List<Route> toRoutes(
+      Point sourcePoint,
+      Point[] destinationPoints,
+      PointRouter pointRouter
+  ) {
+    List<Route> routes = new ArrayList<>(destinationPoints.length);
+    Point startPoint = sourcePoint;
+    for (Point destPoint : destinationPoints) {
+      routes.add(toRoute(startPoint, pointRouter.getRouteSteps(startPoint, destPoint)));
+      startPoint = destPoint;
+    }
+    return routes;
+  }
+
+  /**
+   * Creates a route with the given steps.
+   *
+   * @param startPoint The point at which the route starts.
+   * @param steps The route's steps.
+   * @return The route.
+   */
+  private Route toRoute(Point startPoint, List<Route.Step> steps) {
+    if (steps.isEmpty()) {
+      // If the list of steps is empty, we're already at the destination point - create a single
+      // step without a path.
+      return new Route(
+          List.of(new Route.Step(null, null, startPoint, Vehicle.Orientation.UNDEFINED, 0, 0))
+      );
+    }
+    return new Route(steps);
+  }
+
+  /**
+   * Computes alternative route sequences leading along the given sequence of destination points,
+   * in the order of increasing costs.
+   * <p>
+   * Alternative routes are generated lazily for each hop between the destination points. They
+   * are combined such that the next cheapest route sequence is always derived from a route
+   * sequence already returned by replacing the route for a single hop with the next cheapest
+   * alternative for that hop. Alternative sequences of destination points are not considered.
+   * </p>
+   *
+   * @param sourcePoint The point at which the first route starts.
+   * @param destinationPoints The destination points of the individual routes.
+   * @param pointRouter The point router to use.
+   * @param restrictedPointRouters Provides point routers excluding the given points and paths.
+   * @param routeCount The maximum number of route sequences to compute.
+   * @return The route sequences.
+   */
+  private Set<List<Route>> computeAlternativeOrderRoutes(
+      Point sourcePoint,
+      Point[] destinationPoints,
+      PointRouter pointRouter,
+      BiFunction<Set<Point>, Set<Path>, PointRouter> restrictedPointRouters,
+      int routeCount
+  ) {
+    List<HopAlternatives> hops = new ArrayList<>(destinationPoints.length);
+    Point startPoint = sourcePoint;
+    for (Point destPoint : destinationPoints) {
+      hops.add(
+          new HopAlternatives(
+              startPoint,
+              new AlternativeRouteGenerator(
+                  pointRouter,
+                  restrictedPointRouters,
+                  startPoint,
+                  destPoint
+              )
+          )
+      );
+      startPoint = destPoint;
+    }
+
+    PriorityQueue<RouteCombination> combinations
+        = new PriorityQueue<>(Comparator.comparingLong(RouteCombination::costs));
+    Set<List<Integer>> knownCombinations = new HashSet<>();
+    RouteCombination cheapest = RouteCombination.of(new int[hops.size()], hops);
+    if (cheapest != null) {
+      combinations.add(cheapest);
+      knownCombinations.add(cheapest.indexList());
+    }
+
+    Set<List<Route>> result = new LinkedHashSet<>();
+    while (result.size() < routeCount && !combinations.isEmpty()) {
+      RouteCombination combination = combinations.poll();
+      result.add(combination.routes());
+
+      for (int hopIndex = 0; hopIndex < hops.size(); hopIndex++) {
+        int[] indices = combination.indices().clone();
+        indices[hopIndex]++;
+        RouteCombination successor = RouteCombination.of(indices, hops);
+        if (successor != null && knownCombinations.add(successor.indexList())) {
+          combinations.add(successor);
+        }
+      }
+    }
+    return result;
+  }
+
   /**
    * Returns all points at which a vehicle could process the given drive order.
    *
@@ -430,34 +831,136 @@ public class DefaultRouter
         .collect(Collectors.toSet());
   }
 
+  /**
+   * The alternative routes for a single hop of a route sequence, generated on demand.
+   */
+  private final class HopAlternatives {
+
+    /**
+     * The point at which the hop starts.
+     */
+    private final Point startPoint;
+    /**
+     * Generates the alternative routes.
+     */
+    private final AlternativeRouteGenerator routeGenerator;
+    /**
+     * The alternative routes generated so far.
+     */
+    private final List<Route> routes = new ArrayList<>();
+
+    HopAlternatives(Point startPoint, AlternativeRouteGenerator routeGenerator) {
+      this.startPoint = requireNonNull(startPoint, "startPoint");
+      this.routeGenerator = requireNonNull(routeGenerator, "routeGenerator");
+    }
+
+    /**
+     * Returns the alternative route with the given index.
+     *
+     * @param index The index.
+     * @return The alternative route, or {@code null}, if there is no such route.
+     */
+    Route getRoute(int index) {
+      while (routes.size() <= index && routeGenerator.hasNext()) {
+        routes.add(toRoute(startPoint, routeGenerator.next()));
+      }
+      return index < routes.size() ? routes.get(index) : null;
+    }
+  }
+
+  /**
+   * A combination of alternative routes for the hops of a route sequence.
+   *
+   * @param indices The indices of the alternative routes, by hop.
+   * @param routes The alternative routes, by hop.
+   * @param costs The costs of the route sequence.
+   */
+  private record RouteCombination(int[] indices, List<Route> routes, long costs) {
+
+    static RouteCombination of(int[] indices, List<HopAlternatives> hops) {
+      List<Route> routes = new ArrayList<>(indices.length);
+      long costs = 0;
+      for (int hopIndex = 0; hopIndex < indices.length; hopIndex++) {
+        Route route = hops.get(hopIndex).getRoute(indices[hopIndex]);
+        if (route == null) {
+          return null;
+        }
+        routes.add(route);
+        costs += route.getCosts();
+      }
+      return new RouteCombination(indices, routes, costs);
+    }
+
+    List<Integer> indexList() {
+      return Arrays.stream(indices).boxed().toList();
+    }
+  }
+
   /**
    * Contains parameters for a route to be computed.
    */
   private static final class OrderRouteParameterStruct {
 
     /**
-     * The drive orders containing the route's checkpoints.
+     * The destination points of the drive orders containing the route's checkpoints.
      */
-    private final DriveOrder[] driveOrders;
+    private final List<Set<Point>> destinationPoints;
     /**
      * The point router for the vehicle type.
      */
     private final PointRouter pointRouter;
+    /**
+     * The costs of the hops examined so far, mapped by their source and destination points.
+     */
+    private final Map<Hop, Long> hopCosts = new HashMap<>();
 
     /**
      * Creates a new OrderRouteParameterStruct.
      *
-     * @param driveOrders A list of drive orders to be processed as checkpoints
-     * of the route to be computed.
+     * @param destinationPoints The destination points of the drive orders to be processed as
+     * checkpoints of the route to be computed.
      * @param pointRouter The point router for the vehicle type.
      */
     OrderRouteParameterStruct(
-        DriveOrder[] driveOrders,
+        List<Set<Point>> destinationPoints,
         PointRouter pointRouter
     ) {
-      this.driveOrders = requireNonNull(driveOrders, "driveOrders");
+      this.destinationPoints = requireNonNull(destinationPoints, "destinationPoints");
       this.pointRouter = requireNonNull(pointRouter, "pointRouter");
     }
+
+    /**
+     * Returns all points at which a vehicle could process the drive order with the given index.
+     *
+     * @param hopIndex The index of the drive order.
+     * @return The drive order's destination points.
+     */
+    Set<Point> getDestinationPoints(int hopIndex) {
+      return destinationPoints.get(hopIndex);
+    }
+
+    /**
+     * Returns the costs for travelling from the given source point to the given destination point.
+     *
+     * @param srcPoint The source point.
+     * @param destPoint The destination point.
+     * @return The costs, or {@link PointRouter#INFINITE_COSTS}, if no route exists.
+     */
+    long getHopCosts(Point srcPoint, Point destPoint) {
+      return hopCosts.computeIfAbsent(
+          new Hop(srcPoint.getName(), destPoint.getName()),
+          hop -> pointRouter.getCosts(srcPoint, destPoint)
+      );
+    }
+  }
+
+  /**
+   * Identifies a hop between two points.
+   *
+   * @param srcPointName The name of the source point.
+   * @param destPointName The name of the destination point.
+   */
+  private record Hop(String srcPointName, String destPointName) {
   }
 
   /**
@@ -466,17 +969,17 @@ public class DefaultRouter
   private static final class OrderRouteResultStruct {
 
     /**
-     * The (possibly partial) route currently being examined.
+     * The destination points of the (possibly partial) route currently being examined.
      */
-    private Route[] currentRoute;
+    private Point[] currentDestinationPoints;
     /**
      * The costs of the route currently being examined.
      */
     private long currentCosts;
     /**
-     * The best route found so far.
+     * The destination points of the best route found so far.
      */
-    private Route[] bestRoute;
+    private Point[] bestDestinationPoints;
     /**
      * The costs of the best route found so far.
      */
@@ -490,9 +993,9 @@ public class DefaultRouter
      * routing result.
      */
     OrderRouteResultStruct(int driveOrderCount) {
-      currentRoute = new Route[driveOrderCount];
+      currentDestinationPoints = new Point[driveOrderCount];
       currentCosts = 0;
-      bestRoute = new Route[driveOrderCount];
+      bestDestinationPoints = new Point[driveOrderCount];
       bestCosts = Long.MAX_VALUE;
     }
   }
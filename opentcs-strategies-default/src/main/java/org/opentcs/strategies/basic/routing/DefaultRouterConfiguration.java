@@ -18,8 +18,8 @@ public interface DefaultRouterConfiguration {
 
   @ConfigurationEntry(
       type = "Integer",
-      description = "The maximum number of routes that the router will ever compute for a single"
-          + " request.",
+      description = {
+          "The maximum number of routes that the router will ever compute for a single request."},
       changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
   )
   int routeComputationLimit();
@@ -30,4 +30,33 @@ public interface DefaultRouterConfiguration {
       changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
   )
   boolean routeToCurrentPosition();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum number of point routers for transport orders with resources to"
+          + " avoid to be cached. (0 disables caching of these point routers.)",
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int avoidancePointRouterCacheSize();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The number of threads used for eagerly and asynchronously computing the point"
+          + " routers of all routing groups in parallel whenever the routing topology is"
+          + " (re)initialized. (0"
+          + " disables eager computation, with point routers being computed when they are first"
+          + " requested.)",
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int warmUpThreadCount();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum number of shortest path trees cached by every point router of the"
+          + " COMPACT_DIJKSTRA routing algorithm, with the least recently used ones being"
+          + " discarded when it is exceeded. (Every tree requires about 12 bytes per point in the"
+          + " plant model. 0 disables caching of shortest path trees.)",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_NEW_PLANT_MODEL
+  )
+  int shortestPathTreeCacheSize();
 }
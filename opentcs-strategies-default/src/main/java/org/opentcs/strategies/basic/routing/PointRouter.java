@@ -4,7 +4,10 @@ package org.opentcs.strategies.basic.routing;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.order.Route;
@@ -61,4 +64,34 @@ public interface PointRouter {
 
     return getCosts(srcPoint.getReference(), destPoint.getReference());
   }
+
+  /**
+   * Returns the costs for travelling the shortest routes from one point to each of the given
+   * points.
+   * <p>
+   * This default implementation determines the costs for each of the destination points
+   * individually. Implementations that compute shortest routes from a single source point to all
+   * other points anyway should override it.
+   * </p>
+   *
+   * @param srcPointRef The starting point reference.
+   * @param destPointRefs The destination point references.
+   * @return The costs for travelling the shortest routes from the starting point to the respective
+   * destination points.
+   * For destination points that cannot be reached, {@link #INFINITE_COSTS INFINITE_COSTS} is
+   * mapped.
+   */
+  default Map<TCSObjectReference<Point>, Long> getCosts(
+      TCSObjectReference<Point> srcPointRef,
+      Set<TCSObjectReference<Point>> destPointRefs
+  ) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRefs, "destPointRefs");
+
+    Map<TCSObjectReference<Point>, Long> result = new HashMap<>();
+    for (TCSObjectReference<Point> destPointRef : destPointRefs) {
+      result.put(destPointRef, getCosts(srcPointRef, destPointRef));
+    }
+    return result;
+  }
 }
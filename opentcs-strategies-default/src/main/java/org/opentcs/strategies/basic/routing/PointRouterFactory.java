@@ -3,6 +3,7 @@
 package org.opentcs.strategies.basic.routing;
 
 import java.util.Set;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
@@ -45,4 +46,27 @@ public interface PointRouterFactory {
       Set<Point> pointsToExclude,
       Set<Path> pathsToExclude
   );
+
+  /**
+   * Returns a point router for the given vehicle that reflects changes to the given paths, based on
+   * a point router that was created (via {@link #createPointRouter(Vehicle, Set, Set)}, without
+   * any points or paths to be excluded) before the paths changed.
+   * <p>
+   * Implementations may reuse any data of the given point router that is not affected by the
+   * changes. The default implementation simply creates a new point router. (Of the routing
+   * algorithms provided, only {@code COMPACT_DIJKSTRA} updates its point routers incrementally.)
+   * </p>
+   *
+   * @param pointRouter The point router that was created before the paths changed.
+   * @param vehicle The vehicle.
+   * @param changedPaths The paths that changed since the given point router was created.
+   * @return The point router.
+   */
+  default PointRouter updatePointRouter(
+      PointRouter pointRouter,
+      Vehicle vehicle,
+      Set<TCSObjectReference<Path>> changedPaths
+  ) {
+    return createPointRouter(vehicle, Set.of(), Set.of());
+  }
 }
@@ -0,0 +1,71 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.edgeevaluator;
+
+import org.opentcs.configuration.ConfigurationEntry;
+import org.opentcs.configuration.ConfigurationPrefix;
+
+/**
+ * Provides methods to configure {@link EdgeEvaluatorCongestion}.
+ */
+@ConfigurationPrefix(CongestionConfiguration.PREFIX)
+public interface CongestionConfiguration {
+
+  /**
+   * This configuration's prefix.
+   */
+  String PREFIX = "defaultrouter.edgeevaluator.congestion";
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+          "The interval (in ms) in which the congestion penalties are refreshed.",
+          "The penalties are refreshed in a separate thread, and only changed penalties are "
+              + "applied to the routing graphs, reusing all shortest path trees not affected by a "
+              + "change.",
+          "Penalties are only applied with the 'COMPACT_DIJKSTRA' algorithm. With other "
+              + "algorithms, a warning is logged and no penalties are applied."},
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  long refreshInterval();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The penalty added to the weight of an edge for every vehicle that has allocated the "
+              + "edge's path or the point the edge leads to.",
+          "This includes the vehicle being routed, as penalties are the same for all vehicles."},
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int allocationPenalty();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The penalty added to the weight of an edge for every vehicle that has claimed (but not "
+              + "yet allocated) the edge's path or the point the edge leads to.",
+          "This includes the vehicle being routed, as penalties are the same for all vehicles."},
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int claimPenalty();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The penalty added to the weight of an edge for every recent traversal of the edge's "
+              + "path, weighted by the traversal's age (see 'traversalRateDecay')."},
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int traversalPenalty();
+
+  @ConfigurationEntry(
+      type = "Double",
+      description = {
+          "The factor by which the recorded traversals of a path are weighted down with every "
+              + "refresh.",
+          "Must be in the range [0, 1). With 0, only traversals since the last refresh are "
+              + "considered."},
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  double traversalRateDecay();
+}
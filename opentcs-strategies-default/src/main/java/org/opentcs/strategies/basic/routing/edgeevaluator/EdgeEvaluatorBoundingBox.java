@@ -6,9 +6,12 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.components.kernel.routing.EdgeEvaluator;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.BoundingBox;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.routing.edgeevaluator.BoundingBoxProtrusionCheck.BoundingBoxProtrusion;
@@ -20,6 +23,12 @@ import org.slf4j.LoggerFactory;
  * point of an edge and uses {@link Double#POSITIVE_INFINITY} as the edge's weight (effectively
  * excluding the edge from routing) if the vehicle's bounding box protrudes the one of the point;
  * otherwise, it uses 0.
+ * <p>
+ * The points' maximum allowed bounding boxes are resolved whenever a graph computation starts, so
+ * computing the edges' weights does not require access to the object service. (The edges' weights
+ * may be computed by other threads that cannot access it while the thread computing the graph holds
+ * the kernel's global lock.)
+ * </p>
  */
 public class EdgeEvaluatorBoundingBox
     implements
@@ -33,6 +42,11 @@ public class EdgeEvaluatorBoundingBox
   private static final Logger LOG = LoggerFactory.getLogger(EdgeEvaluatorBoundingBox.class);
   private final TCSObjectService objectService;
   private final BoundingBoxProtrusionCheck protrusionCheck;
+  /**
+   * The maximum allowed bounding boxes of all points, mapped by point name, as resolved at the
+   * start of the latest graph computation.
+   */
+  private volatile Map<String, BoundingBox> maxVehicleBoundingBoxes = Map.of();
 
   /**
    * Creates a new instance.
@@ -54,6 +68,8 @@ public class EdgeEvaluatorBoundingBox
       @Nonnull
       Vehicle vehicle
   ) {
+    maxVehicleBoundingBoxes = objectService.fetch(Point.class).stream()
+        .collect(Collectors.toUnmodifiableMap(Point::getName, Point::getMaxVehicleBoundingBox));
   }
 
   @Override
@@ -63,6 +79,11 @@ public class EdgeEvaluatorBoundingBox
   ) {
   }
 
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   public double computeWeight(
       @Nonnull
@@ -70,9 +91,15 @@ public class EdgeEvaluatorBoundingBox
       @Nonnull
       Vehicle vehicle
   ) {
-    Point targetPoint = objectService.fetch(Point.class, edge.getTargetVertex()).orElseThrow();
+    BoundingBox maxVehicleBoundingBox = maxVehicleBoundingBoxes.get(edge.getTargetVertex());
+    if (maxVehicleBoundingBox == null) {
+      // The point was not resolved at the start of a graph computation.
+      maxVehicleBoundingBox = objectService.fetch(Point.class, edge.getTargetVertex())
+          .orElseThrow()
+          .getMaxVehicleBoundingBox();
+    }
     BoundingBoxProtrusion protrusion = protrusionCheck.checkProtrusion(
-        vehicle.getBoundingBox(), targetPoint.getMaxVehicleBoundingBox()
+        vehicle.getBoundingBox(), maxVehicleBoundingBox
     );
 
     if (protrusion.protrudesAnywhere()) {
@@ -80,9 +107,9 @@ public class EdgeEvaluatorBoundingBox
           "Excluding edge '{}'. Bounding box of '{}' > max bounding box at '{}': {} > {}",
           edge,
           vehicle.getName(),
-          targetPoint.getName(),
+          edge.getTargetVertex(),
           vehicle.getBoundingBox(),
-          targetPoint.getMaxVehicleBoundingBox()
+          maxVehicleBoundingBox
       );
       return Double.POSITIVE_INFINITY;
     }
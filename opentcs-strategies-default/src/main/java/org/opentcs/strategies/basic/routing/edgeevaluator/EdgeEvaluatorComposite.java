@@ -73,6 +73,11 @@ public class EdgeEvaluatorComposite
     }
   }
 
+  @Override
+  public boolean isThreadSafe() {
+    return evaluators.stream().allMatch(EdgeEvaluator::isThreadSafe);
+  }
+
   @Override
   public double computeWeight(Edge edge, Vehicle vehicle) {
     double result = 0.0;
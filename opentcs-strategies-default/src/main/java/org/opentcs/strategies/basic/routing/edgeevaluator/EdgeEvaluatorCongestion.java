@@ -0,0 +1,248 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.edgeevaluator;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.components.kernel.routing.EdgeEvaluator;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.TCSResourceReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+
+/**
+ * Penalizes edges leading through congested areas of the plant model.
+ * <p>
+ * An edge's weight is the sum of the penalties of the path it travels and of the point it leads
+ * to. A resource's penalty accumulates
+ * </p>
+ * <ul>
+ * <li>the allocation penalty for every vehicle that has allocated the resource,</li>
+ * <li>the claim penalty for every vehicle that has claimed (but not yet allocated) the resource
+ * and</li>
+ * <li>for paths, the traversal penalty for every recent traversal of the path, with older
+ * traversals being weighted down.</li>
+ * </ul>
+ * <p>
+ * The penalties are not computed along with the edge weights but only on {@link #refresh()}, which
+ * is expected to be called periodically and returns the paths whose penalties have changed. This
+ * allows the changed penalties to be applied to the routing graphs as an update of only the
+ * affected paths. (The {@link org.opentcs.strategies.basic.routing.DefaultRouter} does this only
+ * with {@link ShortestPathConfiguration.Algorithm#COMPACT_DIJKSTRA}.)
+ * </p>
+ * <p>
+ * Note that the penalties are the same for all vehicles, as routing graphs are shared by all
+ * vehicles of a routing group. In particular, the resources allocated or claimed by the vehicle
+ * being routed are not excluded, i.e. a vehicle's own allocations and claims are penalized like
+ * those of any other vehicle. As a consequence, the resources claimed along a vehicle's current
+ * route make that route appear more expensive when the vehicle is rerouted.
+ * </p>
+ */
+public class EdgeEvaluatorCongestion
+    implements
+      EdgeEvaluator {
+
+  /**
+   * A key used for selecting this evaluator in a configuration setting.
+   * Should be unique among all keys.
+   */
+  public static final String CONFIGURATION_KEY = "CONGESTION";
+  /**
+   * The weighted number of traversals below which a path is no longer considered recently
+   * traversed.
+   */
+  private static final double MIN_TRAVERSAL_RATE = 0.01;
+  /**
+   * The object service providing the vehicles' resource allocations.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * The shortest path configuration, telling whether this evaluator is used.
+   */
+  private final ShortestPathConfiguration shortestPathConfiguration;
+  /**
+   * This class's configuration.
+   */
+  private final CongestionConfiguration configuration;
+  /**
+   * The weighted number of recent traversals, mapped by path name.
+   */
+  private final Map<String, Double> traversalRates = new HashMap<>();
+  /**
+   * The names of the paths allocated by each vehicle at the last refresh, mapped by vehicle name.
+   */
+  private Map<String, Set<String>> allocatedPathsByVehicle = new HashMap<>();
+  /**
+   * The current penalties, mapped by resource name. Replaced as a whole on every refresh.
+   */
+  private volatile Map<String, Double> penalties = Map.of();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service providing the vehicles' resource allocations.
+   * @param shortestPathConfiguration The shortest path configuration.
+   * @param configuration This class's configuration.
+   */
+  @Inject
+  public EdgeEvaluatorCongestion(
+      TCSObjectService objectService,
+      ShortestPathConfiguration shortestPathConfiguration,
+      CongestionConfiguration configuration
+  ) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.shortestPathConfiguration = requireNonNull(
+        shortestPathConfiguration,
+        "shortestPathConfiguration"
+    );
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public void onGraphComputationStart(Vehicle vehicle) {
+  }
+
+  @Override
+  public void onGraphComputationEnd(Vehicle vehicle) {
+  }
+
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
+  @Override
+  public double computeWeight(Edge edge, Vehicle vehicle) {
+    requireNonNull(edge, "edge");
+
+    Map<String, Double> currentPenalties = penalties;
+    return currentPenalties.getOrDefault(edge.getPath().getName(), 0.0)
+        + currentPenalties.getOrDefault(edge.getTargetVertex(), 0.0);
+  }
+
+  /**
+   * Checks whether this evaluator is used for computing edge weights.
+   *
+   * @return {@code true} if, and only if, this evaluator is configured to be used.
+   */
+  public boolean isEnabled() {
+    return shortestPathConfiguration.edgeEvaluators().contains(CONFIGURATION_KEY);
+  }
+
+  /**
+   * Recomputes the penalties from the vehicles' current resource allocations and claims.
+   *
+   * @return The paths for which the weight of at least one edge has changed.
+   */
+  @Nonnull
+  public synchronized Set<Path> refresh() {
+    traversalRates.replaceAll((pathName, rate) -> rate * configuration.traversalRateDecay());
+    traversalRates.values().removeIf(rate -> rate < MIN_TRAVERSAL_RATE);
+
+    Map<String, Double> newPenalties = new HashMap<>();
+    Map<String, Set<String>> newAllocatedPathsByVehicle = new HashMap<>();
+    for (Vehicle vehicle : objectService.fetch(Vehicle.class)) {
+      Set<String> allocatedResources = resourceNames(vehicle.getAllocatedResources());
+      Set<String> claimedResources = resourceNames(vehicle.getClaimedResources());
+      claimedResources.removeAll(allocatedResources);
+
+      for (String resourceName : allocatedResources) {
+        newPenalties.merge(resourceName, (double) configuration.allocationPenalty(), Double::sum);
+      }
+      for (String resourceName : claimedResources) {
+        newPenalties.merge(resourceName, (double) configuration.claimPenalty(), Double::sum);
+      }
+
+      // A path newly allocated since the last refresh is considered a traversal of the path.
+      Set<String> allocatedPaths = pathNames(vehicle.getAllocatedResources());
+      Set<String> previouslyAllocatedPaths
+          = allocatedPathsByVehicle.getOrDefault(vehicle.getName(), Set.of());
+      for (String pathName : allocatedPaths) {
+        if (!previouslyAllocatedPaths.contains(pathName)) {
+          traversalRates.merge(pathName, 1.0, Double::sum);
+        }
+      }
+      newAllocatedPathsByVehicle.put(vehicle.getName(), allocatedPaths);
+    }
+    allocatedPathsByVehicle = newAllocatedPathsByVehicle;
+
+    traversalRates.forEach(
+        (pathName, rate) -> newPenalties.merge(
+            pathName,
+            rate * configuration.traversalPenalty(),
+            Double::sum
+        )
+    );
+
+    Set<String> changedResources = changedResources(penalties, newPenalties);
+    penalties = Map.copyOf(newPenalties);
+
+    if (changedResources.isEmpty()) {
+      return Set.of();
+    }
+    return objectService.fetch(
+        Path.class,
+        path -> changedResources.contains(path.getName())
+            || changedResources.contains(path.getSourcePoint().getName())
+            || changedResources.contains(path.getDestinationPoint().getName())
+    );
+  }
+
+  /**
+   * Discards all penalties and recorded traversals.
+   */
+  public synchronized void clear() {
+    traversalRates.clear();
+    allocatedPathsByVehicle = new HashMap<>();
+    penalties = Map.of();
+  }
+
+  private Set<String> resourceNames(List<Set<TCSResourceReference<?>>> resources) {
+    Set<String> result = new HashSet<>();
+    for (Set<TCSResourceReference<?>> resourceSet : resources) {
+      for (TCSResourceReference<?> resource : resourceSet) {
+        result.add(resource.getName());
+      }
+    }
+    return result;
+  }
+
+  private Set<String> pathNames(List<Set<TCSResourceReference<?>>> resources) {
+    Set<String> result = new HashSet<>();
+    for (Set<TCSResourceReference<?>> resourceSet : resources) {
+      for (TCSResourceReference<?> resource : resourceSet) {
+        if (resource.getReferentClass() == Path.class) {
+          result.add(resource.getName());
+        }
+      }
+    }
+    return result;
+  }
+
+  private Set<String> changedResources(
+      Map<String, Double> oldPenalties,
+      Map<String, Double> newPenalties
+  ) {
+    Set<String> result = new HashSet<>();
+    oldPenalties.forEach((resourceName, penalty) -> {
+      if (!penalty.equals(newPenalties.get(resourceName))) {
+        result.add(resourceName);
+      }
+    });
+    newPenalties.forEach((resourceName, penalty) -> {
+      if (!penalty.equals(oldPenalties.get(resourceName))) {
+        result.add(resourceName);
+      }
+    });
+    return result;
+  }
+}
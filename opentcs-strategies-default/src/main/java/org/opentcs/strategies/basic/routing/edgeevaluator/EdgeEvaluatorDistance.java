@@ -30,6 +30,11 @@ public class EdgeEvaluatorDistance
   public void onGraphComputationEnd(Vehicle vehicle) {
   }
 
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   public double computeWeight(Edge edge, Vehicle vehicle) {
     return edge.getPath().getLength();
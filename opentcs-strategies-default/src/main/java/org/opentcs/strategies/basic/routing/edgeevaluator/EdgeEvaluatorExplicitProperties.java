@@ -57,6 +57,11 @@ public class EdgeEvaluatorExplicitProperties
   public void onGraphComputationEnd(Vehicle vehicle) {
   }
 
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   public double computeWeight(Edge edge, Vehicle vehicle) {
     requireNonNull(edge, "edge");
@@ -32,6 +32,11 @@ public class EdgeEvaluatorTravelTime
   public void onGraphComputationEnd(Vehicle vehicle) {
   }
 
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   public double computeWeight(Edge edge, Vehicle vehicle) {
     int maxVelocity;
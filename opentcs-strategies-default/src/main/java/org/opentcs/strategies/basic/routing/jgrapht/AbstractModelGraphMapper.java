@@ -151,4 +151,58 @@ public abstract class AbstractModelGraphMapper
 
     return updatedGraph;
   }
+
+  @Override
+  public double[] computeEdgeWeights(
+      RoutingTopology topology,
+      Vehicle vehicle
+  ) {
+    requireNonNull(topology, "topology");
+    requireNonNull(vehicle, "vehicle");
+
+    LOG.debug("Computing edge weights for {}...", vehicle.getName());
+    long timeStampBefore = System.currentTimeMillis();
+
+    double[] edgeWeights = pathEdgeMapper.computeEdgeWeights(topology, vehicle);
+
+    LOG.debug(
+        "Computed edge weights for {} in {} milliseconds.",
+        vehicle.getName(),
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return edgeWeights;
+  }
+
+  @Override
+  public double[] updateEdgeWeights(
+      Collection<Path> paths,
+      Vehicle vehicle,
+      RoutingTopology topology,
+      double[] edgeWeights
+  ) {
+    requireNonNull(paths, "paths");
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(topology, "topology");
+    requireNonNull(edgeWeights, "edgeWeights");
+
+    LOG.debug("Updating edge weights for {}...", vehicle.getName());
+    long timeStampBefore = System.currentTimeMillis();
+
+    double[] updatedEdgeWeights
+        = pathEdgeMapper.updateEdgeWeights(topology, paths, vehicle, edgeWeights);
+
+    LOG.debug(
+        "Updated edge weights for {} in {} milliseconds.",
+        vehicle.getName(),
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return updatedEdgeWeights;
+  }
+
+  @Override
+  public boolean isThreadSafe() {
+    return pathEdgeMapper.isThreadSafe();
+  }
 }
@@ -116,14 +116,47 @@ public abstract class AbstractPointRouterFactory
       Graph<Vertex, Edge> graph
   );
 
+  /**
+   * Returns a shortest path algorithm implementation working on the given graph, which is a masked
+   * view of a routing graph excluding some points and paths.
+   * <p>
+   * Such algorithms are used by a single thread for only a few queries, e.g. for computing a
+   * deviation from a previously computed route when computing alternative routes. This default
+   * implementation returns {@link #createShortestPathAlgorithm(Graph)}.
+   * </p>
+   *
+   * @param graph The graph.
+   * @return A shortest path algorithm implementation working on the given graph.
+   */
+  protected ShortestPathAlgorithm<Vertex, Edge> createRestrictedShortestPathAlgorithm(
+      Graph<Vertex, Edge> graph
+  ) {
+    return createShortestPathAlgorithm(graph);
+  }
+
+  /**
+   * Indicates whether the shortest path algorithm implementations created by this factory may be
+   * queried by multiple threads concurrently.
+   * <p>
+   * This default implementation returns {@code true}.
+   * </p>
+   *
+   * @return Whether the algorithm implementations are thread-safe.
+   */
+  protected boolean isShortestPathAlgorithmThreadSafe() {
+    return true;
+  }
+
   private PointRouter createPointRouter(GraphResult graphResult) {
     Set<Point> points = new HashSet<>(graphResult.getPointBase());
     points.removeAll(graphResult.getExcludedPoints());
 
     PointRouter router = new ShortestPathPointRouter(
         createShortestPathAlgorithm(graphResult.getGraph()),
+        isShortestPathAlgorithmThreadSafe(),
         points,
-        graphResult.getGraph().vertexSet()
+        graphResult.getGraph(),
+        this::createRestrictedShortestPathAlgorithm
     );
     // Make a single request for a route from one point to a different one to make sure the
     // point router is primed. (Some implementations are initialized lazily.)
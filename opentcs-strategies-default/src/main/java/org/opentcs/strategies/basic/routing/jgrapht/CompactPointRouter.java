@@ -0,0 +1,722 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes routes between points using Dijkstra's algorithm on a {@link RoutingTopology} and the
+ * edge weights of a routing group.
+ * <p>
+ * The shortest path tree for a source point is computed on the first request for a route starting
+ * at that point and cached as primitive arrays, so that subsequent cost lookups for the same source
+ * point do not require any path computation or object allocation. As every shortest path tree
+ * requires memory proportional to the number of points, the number of cached trees is limited.
+ * When the limit is reached, a tree that has not been used recently is discarded (using the CLOCK
+ * approximation of a least-recently-used policy).
+ * </p>
+ * <p>
+ * When paths change, cached shortest path trees that are not affected by the changes are carried
+ * over to the updated point router (see {@link #update(RoutingTopology, double[], Set)}).
+ * </p>
+ * <p>
+ * Point routers that exclude some points and paths from routing share the topology and edge
+ * weights of the point router they are derived from and merely mask the excluded vertices and edges
+ * (see {@link #withExclusions(Set, Set)}). For computing many routes with changing exclusions, a
+ * single {@link MaskedPointRouter} can be reused instead (see {@link #createMaskedPointRouter()}).
+ * </p>
+ */
+public class CompactPointRouter
+    implements
+      PointRouter {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CompactPointRouter.class);
+  /**
+   * Marks a vertex without a predecessor edge in a shortest path tree.
+   */
+  private static final int NO_EDGE = -1;
+  /**
+   * The topology.
+   */
+  private final RoutingTopology topology;
+  /**
+   * For every edge, the edge's weight. Edges with infinite weights are not used for routing.
+   */
+  private final double[] edgeWeights;
+  /**
+   * The IDs of the vertices excluded from routing.
+   */
+  private final BitSet excludedVertices;
+  /**
+   * The indices of the edges excluded from routing.
+   */
+  private final BitSet excludedEdges;
+  /**
+   * The maximum number of shortest path trees to be cached.
+   */
+  private final int maxCachedTrees;
+  /**
+   * The cached shortest path trees, indexed by the IDs of their source vertices.
+   */
+  private final AtomicReferenceArray<ShortestPathTree> shortestPathTrees;
+  /**
+   * For every vertex ID, whether the shortest path tree for the vertex has been used since the
+   * clock hand last passed it (1) or not (0).
+   */
+  private final AtomicIntegerArray recentlyUsed;
+  /**
+   * The IDs of the source vertices of the cached shortest path trees, in the order in which they
+   * are passed by the clock hand.
+   */
+  private final int[] cachedSources;
+  /**
+   * The number of valid entries in {@link #cachedSources}.
+   * (Guarded by {@link #cachedSources}.)
+   */
+  private int cachedCount;
+  /**
+   * The position of the clock hand in {@link #cachedSources}.
+   * (Guarded by {@link #cachedSources}.)
+   */
+  private int clockHand;
+
+  /**
+   * Creates a new instance that caches the shortest path trees for all points.
+   *
+   * @param topology The topology.
+   * @param edgeWeights The edge weights, indexed by edge index.
+   */
+  public CompactPointRouter(
+      RoutingTopology topology,
+      double[] edgeWeights
+  ) {
+    this(topology, edgeWeights, requireNonNull(topology, "topology").getVertexCount());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param topology The topology.
+   * @param edgeWeights The edge weights, indexed by edge index.
+   * @param maxCachedTrees The maximum number of shortest path trees to be cached. (0 disables
+   * caching.)
+   */
+  public CompactPointRouter(
+      RoutingTopology topology,
+      double[] edgeWeights,
+      int maxCachedTrees
+  ) {
+    this(
+        requireNonNull(topology, "topology"),
+        requireNonNull(edgeWeights, "edgeWeights"),
+        new BitSet(),
+        new BitSet(),
+        checkInRange(maxCachedTrees, 0, Integer.MAX_VALUE, "maxCachedTrees")
+    );
+  }
+
+  private CompactPointRouter(
+      RoutingTopology topology,
+      double[] edgeWeights,
+      BitSet excludedVertices,
+      BitSet excludedEdges,
+      int maxCachedTrees
+  ) {
+    this.topology = topology;
+    this.edgeWeights = edgeWeights;
+    this.excludedVertices = excludedVertices;
+    this.excludedEdges = excludedEdges;
+    this.maxCachedTrees = maxCachedTrees;
+    this.shortestPathTrees = new AtomicReferenceArray<>(topology.getVertexCount());
+    this.recentlyUsed = new AtomicIntegerArray(topology.getVertexCount());
+    this.cachedSources = new int[Math.min(maxCachedTrees, topology.getVertexCount())];
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return new ArrayList<>();
+    }
+
+    int srcId = topology.vertexId(srcPoint.getName());
+    int destId = topology.vertexId(destPoint.getName());
+    if (!isRoutable(srcId) || !isRoutable(destId)) {
+      return null;
+    }
+
+    ShortestPathTree tree = shortestPathTree(srcId);
+    if (tree.distances[destId] == Double.POSITIVE_INFINITY) {
+      return null;
+    }
+
+    return translateToSteps(tree, destId);
+  }
+
+  @Override
+  public long getCosts(
+      TCSObjectReference<Point> srcPointRef,
+      TCSObjectReference<Point> destPointRef
+  ) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    int srcId = topology.vertexId(srcPointRef.getName());
+    int destId = topology.vertexId(destPointRef.getName());
+    if (!isRoutable(srcId) || !isRoutable(destId)) {
+      return INFINITE_COSTS;
+    }
+
+    double distance = shortestPathTree(srcId).distances[destId];
+    if (distance == Double.POSITIVE_INFINITY) {
+      return INFINITE_COSTS;
+    }
+
+    return (long) distance;
+  }
+
+  /**
+   * Returns a point router working on the same topology and edge weights as this one, but excluding
+   * the given points and paths from routing.
+   * <p>
+   * Creating the returned point router only requires masking the excluded vertices and edges.
+   * (Cached shortest path trees are not shared, though, as they may be different with the
+   * exclusions.)
+   * </p>
+   *
+   * @param pointsToExclude The names of the points to exclude.
+   * @param pathsToExclude The names of the paths to exclude.
+   * @return The point router.
+   */
+  public CompactPointRouter withExclusions(
+      Set<String> pointsToExclude,
+      Set<String> pathsToExclude
+  ) {
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+
+    BitSet vertices = (BitSet) excludedVertices.clone();
+    BitSet edgeMask = (BitSet) excludedEdges.clone();
+    mask(pointsToExclude, pathsToExclude, vertices, edgeMask);
+
+    return new CompactPointRouter(topology, edgeWeights, vertices, edgeMask, maxCachedTrees);
+  }
+
+  /**
+   * Returns a point router working on the same topology and edge weights as this one (including
+   * this point router's exclusions), whose additionally excluded points and paths can be changed
+   * without creating a new point router.
+   *
+   * @return The point router.
+   */
+  public MaskedPointRouter createMaskedPointRouter() {
+    return new MaskedPointRouter();
+  }
+
+  /**
+   * Returns a point router for the given (updated) topology and edge weights, reusing the cached
+   * shortest path trees of this point router that are not affected by changes to the given paths.
+   * <p>
+   * A shortest path tree is not affected by the changes if none of its edges' weights changed and
+   * none of the edges whose weights changed provides a shortcut to any vertex, i.e. if the tree's
+   * distances are still the shortest ones. Shortest path trees can only be reused if the given
+   * topology has the same structure as this point router's one and this point router does not
+   * exclude any points or paths.
+   * </p>
+   *
+   * @param topology The updated topology.
+   * @param edgeWeights The updated edge weights, indexed by edge index.
+   * @param changedPaths The names of the paths that changed since this point router was created.
+   * @return The updated point router.
+   */
+  public CompactPointRouter update(
+      RoutingTopology topology,
+      double[] edgeWeights,
+      Set<String> changedPaths
+  ) {
+    requireNonNull(topology, "topology");
+    requireNonNull(edgeWeights, "edgeWeights");
+    requireNonNull(changedPaths, "changedPaths");
+
+    CompactPointRouter updated = new CompactPointRouter(topology, edgeWeights, maxCachedTrees);
+    if (!topology.hasSameStructureAs(this.topology)
+        || !excludedVertices.isEmpty()
+        || !excludedEdges.isEmpty()) {
+      // The edge indices or shortest path trees are not compatible, so there is nothing to reuse.
+      return updated;
+    }
+
+    int[] changedEdges = changedEdges(edgeWeights, changedPaths);
+
+    int reusedCount = 0;
+    int cachedCount = 0;
+    for (int srcId = 0; srcId < topology.getVertexCount(); srcId++) {
+      ShortestPathTree tree = shortestPathTrees.get(srcId);
+      if (tree == null) {
+        continue;
+      }
+      cachedCount++;
+
+      if (!isAffected(tree, changedEdges, edgeWeights)) {
+        // As the edge indices are the same, the tree can be shared as it is.
+        updated.cache(srcId, tree);
+        reusedCount++;
+      }
+    }
+
+    LOG.debug(
+        "Reused {} of {} cached shortest path trees after {} paths changed.",
+        reusedCount,
+        cachedCount,
+        changedPaths.size()
+    );
+
+    return updated;
+  }
+
+  /**
+   * Returns the indices of the edges travelling the given paths whose weights differ between this
+   * point router's and the given edge weights.
+   */
+  private int[] changedEdges(double[] updatedEdgeWeights, Set<String> changedPaths) {
+    return changedPaths.stream()
+        .mapToInt(topology::pathIndex)
+        .filter(pathIndex -> pathIndex != RoutingTopology.NONE)
+        .flatMap(
+            pathIndex -> IntStream.of(
+                topology.forwardEdge(pathIndex),
+                topology.reverseEdge(pathIndex)
+            )
+        )
+        .filter(edgeIndex -> edgeWeights[edgeIndex] != updatedEdgeWeights[edgeIndex])
+        .toArray();
+  }
+
+  /**
+   * Checks whether the given shortest path tree is affected by the given edges' weights having
+   * changed, i.e. whether it contains any of the edges or any of the edges provides a shortcut.
+   */
+  private boolean isAffected(
+      ShortestPathTree tree,
+      int[] changedEdges,
+      double[] updatedEdgeWeights
+  ) {
+    for (int edgeIndex : changedEdges) {
+      int sourceId = topology.edgeSource(edgeIndex);
+      int targetId = topology.edgeTarget(edgeIndex);
+      if (tree.predecessorEdges[targetId] == edgeIndex
+          || tree.distances[sourceId] + updatedEdgeWeights[edgeIndex] < tree.distances[targetId]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isRoutable(int vertexId) {
+    return vertexId != RoutingTopology.NONE && !excludedVertices.get(vertexId);
+  }
+
+  /**
+   * Sets the bits for the given points and paths in the given masks.
+   */
+  private void mask(
+      Set<String> pointsToExclude,
+      Set<String> pathsToExclude,
+      BitSet vertexMask,
+      BitSet edgeMask
+  ) {
+    for (String pointName : pointsToExclude) {
+      int vertexId = topology.vertexId(pointName);
+      if (vertexId != RoutingTopology.NONE) {
+        vertexMask.set(vertexId);
+      }
+    }
+    for (String pathName : pathsToExclude) {
+      int pathIndex = topology.pathIndex(pathName);
+      if (pathIndex != RoutingTopology.NONE) {
+        edgeMask.set(topology.forwardEdge(pathIndex));
+        edgeMask.set(topology.reverseEdge(pathIndex));
+      }
+    }
+  }
+
+  private ShortestPathTree shortestPathTree(int srcId) {
+    ShortestPathTree tree = shortestPathTrees.get(srcId);
+    if (tree != null) {
+      if (recentlyUsed.get(srcId) == 0) {
+        recentlyUsed.lazySet(srcId, 1);
+      }
+      return tree;
+    }
+
+    // Concurrent requests may compute the same tree more than once, which is harmless as the
+    // results are identical.
+    tree = computeShortestPathTree(srcId, excludedVertices, excludedEdges);
+    cache(srcId, tree);
+    return tree;
+  }
+
+  /**
+   * Adds the given shortest path tree to the cache, discarding a tree that has not been used
+   * recently if the cache is full.
+   */
+  private void cache(int srcId, ShortestPathTree tree) {
+    if (cachedSources.length == 0) {
+      return;
+    }
+
+    synchronized (cachedSources) {
+      if (shortestPathTrees.get(srcId) != null) {
+        return;
+      }
+
+      if (cachedCount < cachedSources.length) {
+        cachedSources[cachedCount] = srcId;
+        cachedCount++;
+      }
+      else {
+        // Advance the clock hand to the first tree that has not been used since the hand last
+        // passed it, giving every tree that has been used a second chance.
+        while (recentlyUsed.getAndSet(cachedSources[clockHand], 0) == 1) {
+          clockHand = (clockHand + 1) % cachedSources.length;
+        }
+        shortestPathTrees.set(cachedSources[clockHand], null);
+        cachedSources[clockHand] = srcId;
+        clockHand = (clockHand + 1) % cachedSources.length;
+      }
+      recentlyUsed.set(srcId, 0);
+      shortestPathTrees.set(srcId, tree);
+    }
+  }
+
+  private ShortestPathTree computeShortestPathTree(
+      int srcId,
+      BitSet vertexMask,
+      BitSet edgeMask
+  ) {
+    int vertexCount = topology.getVertexCount();
+    double[] distances = new double[vertexCount];
+    int[] predecessorEdges = new int[vertexCount];
+    Arrays.fill(distances, Double.POSITIVE_INFINITY);
+    Arrays.fill(predecessorEdges, NO_EDGE);
+
+    VertexQueue queue = new VertexQueue(distances);
+    distances[srcId] = 0;
+    queue.insertOrDecrease(srcId);
+
+    while (!queue.isEmpty()) {
+      int vertexId = queue.removeFirst();
+      for (int edgeIndex = topology.firstOutgoingEdge(vertexId);
+          edgeIndex < topology.endOfOutgoingEdges(vertexId);
+          edgeIndex++) {
+        if (edgeWeights[edgeIndex] == Double.POSITIVE_INFINITY || edgeMask.get(edgeIndex)) {
+          continue;
+        }
+        int targetId = topology.edgeTarget(edgeIndex);
+        // Edges leading away from excluded vertices are never relaxed, as excluded vertices are
+        // never reached.
+        if (vertexMask.get(targetId)) {
+          continue;
+        }
+        double distance = distances[vertexId] + edgeWeights[edgeIndex];
+        if (distance < distances[targetId]) {
+          distances[targetId] = distance;
+          predecessorEdges[targetId] = edgeIndex;
+          queue.insertOrDecrease(targetId);
+        }
+      }
+    }
+
+    return new ShortestPathTree(distances, predecessorEdges);
+  }
+
+  private List<Route.Step> translateToSteps(ShortestPathTree tree, int destId) {
+    int stepCount = 0;
+    for (int edgeIndex = tree.predecessorEdges[destId];
+        edgeIndex != NO_EDGE;
+        edgeIndex = tree.predecessorEdges[topology.edgeSource(edgeIndex)]) {
+      stepCount++;
+    }
+
+    int[] edgeIndices = new int[stepCount];
+    int position = stepCount;
+    for (int edgeIndex = tree.predecessorEdges[destId];
+        edgeIndex != NO_EDGE;
+        edgeIndex = tree.predecessorEdges[topology.edgeSource(edgeIndex)]) {
+      edgeIndices[--position] = edgeIndex;
+    }
+
+    List<Route.Step> result = new ArrayList<>(stepCount);
+    for (int routeIndex = 0; routeIndex < stepCount; routeIndex++) {
+      int edgeIndex = edgeIndices[routeIndex];
+      Point sourcePoint = topology.point(topology.edgeSource(edgeIndex));
+      Point destPoint = topology.point(topology.edgeTarget(edgeIndex));
+
+      result.add(
+          new Route.Step(
+              topology.edgePath(edgeIndex),
+              sourcePoint,
+              destPoint,
+              orientation(edgeIndex),
+              routeIndex,
+              (long) edgeWeights[edgeIndex]
+          )
+      );
+    }
+
+    return result;
+  }
+
+  private Vehicle.Orientation orientation(int edgeIndex) {
+    return topology.isReverseEdge(edgeIndex)
+        ? Vehicle.Orientation.BACKWARD
+        : Vehicle.Orientation.FORWARD;
+  }
+
+  /**
+   * A point router working on the topology and edge weights of the enclosing point router, with
+   * exclusions that can be changed (see {@link #withExclusions(Set, Set)}).
+   * <p>
+   * Shortest path trees are not cached, as they are usually only valid for a single set of
+   * exclusions. Instances of this class are not thread-safe.
+   * </p>
+   */
+  public final class MaskedPointRouter
+      implements
+        PointRouter {
+
+    /**
+     * The IDs of the vertices excluded from routing.
+     */
+    private final BitSet maskedVertices = new BitSet();
+    /**
+     * The indices of the edges excluded from routing.
+     */
+    private final BitSet maskedEdges = new BitSet();
+
+    private MaskedPointRouter() {
+      maskedVertices.or(excludedVertices);
+      maskedEdges.or(excludedEdges);
+    }
+
+    /**
+     * Replaces the points and paths excluded from routing (in addition to those excluded by the
+     * enclosing point router).
+     *
+     * @param pointsToExclude The names of the points to exclude.
+     * @param pathsToExclude The names of the paths to exclude.
+     * @return This point router.
+     */
+    public MaskedPointRouter withExclusions(
+        Set<String> pointsToExclude,
+        Set<String> pathsToExclude
+    ) {
+      requireNonNull(pointsToExclude, "pointsToExclude");
+      requireNonNull(pathsToExclude, "pathsToExclude");
+
+      maskedVertices.clear();
+      maskedVertices.or(excludedVertices);
+      maskedEdges.clear();
+      maskedEdges.or(excludedEdges);
+      mask(pointsToExclude, pathsToExclude, maskedVertices, maskedEdges);
+      return this;
+    }
+
+    @Override
+    public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+      requireNonNull(srcPoint, "srcPoint");
+      requireNonNull(destPoint, "destPoint");
+
+      if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+        return new ArrayList<>();
+      }
+
+      int srcId = topology.vertexId(srcPoint.getName());
+      int destId = topology.vertexId(destPoint.getName());
+      if (!isRoutable(srcId) || !isRoutable(destId)) {
+        return null;
+      }
+
+      ShortestPathTree tree = computeShortestPathTree(srcId, maskedVertices, maskedEdges);
+      if (tree.distances[destId] == Double.POSITIVE_INFINITY) {
+        return null;
+      }
+
+      return translateToSteps(tree, destId);
+    }
+
+    @Override
+    public long getCosts(
+        TCSObjectReference<Point> srcPointRef,
+        TCSObjectReference<Point> destPointRef
+    ) {
+      requireNonNull(srcPointRef, "srcPointRef");
+      requireNonNull(destPointRef, "destPointRef");
+
+      return getCosts(srcPointRef, Set.of(destPointRef)).get(destPointRef);
+    }
+
+    @Override
+    public Map<TCSObjectReference<Point>, Long> getCosts(
+        TCSObjectReference<Point> srcPointRef,
+        Set<TCSObjectReference<Point>> destPointRefs
+    ) {
+      requireNonNull(srcPointRef, "srcPointRef");
+      requireNonNull(destPointRefs, "destPointRefs");
+
+      int srcId = topology.vertexId(srcPointRef.getName());
+      // A single shortest path tree provides the costs for all destination points.
+      ShortestPathTree tree = isRoutable(srcId)
+          ? computeShortestPathTree(srcId, maskedVertices, maskedEdges)
+          : null;
+      Map<TCSObjectReference<Point>, Long> result = new HashMap<>();
+      for (TCSObjectReference<Point> destPointRef : destPointRefs) {
+        result.put(destPointRef, costs(tree, srcPointRef, destPointRef));
+      }
+      return result;
+    }
+
+    private boolean isRoutable(int vertexId) {
+      return vertexId != RoutingTopology.NONE && !maskedVertices.get(vertexId);
+    }
+
+    private long costs(
+        ShortestPathTree tree,
+        TCSObjectReference<Point> srcPointRef,
+        TCSObjectReference<Point> destPointRef
+    ) {
+      if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+        return 0;
+      }
+      int destId = topology.vertexId(destPointRef.getName());
+      if (tree == null
+          || !isRoutable(destId)
+          || tree.distances[destId] == Double.POSITIVE_INFINITY) {
+        return INFINITE_COSTS;
+      }
+      return (long) tree.distances[destId];
+    }
+  }
+
+  /**
+   * A shortest path tree for a single source vertex.
+   *
+   * @param distances For every vertex ID, the costs for travelling from the source vertex to the
+   * vertex.
+   * @param predecessorEdges For every vertex ID, the index of the last edge on the shortest path
+   * from the source vertex to the vertex, or {@link #NO_EDGE}.
+   */
+  private record ShortestPathTree(double[] distances, int[] predecessorEdges) {
+  }
+
+  /**
+   * A binary min-heap of vertex IDs, ordered by the vertices' current distances.
+   */
+  private static class VertexQueue {
+
+    private final double[] distances;
+    private final int[] heap;
+    private final int[] heapPositions;
+    private int size;
+
+    VertexQueue(double[] distances) {
+      this.distances = distances;
+      this.heap = new int[distances.length];
+      this.heapPositions = new int[distances.length];
+      Arrays.fill(heapPositions, -1);
+    }
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    void insertOrDecrease(int vertexId) {
+      int position = heapPositions[vertexId];
+      if (position == -1) {
+        position = size++;
+        heap[position] = vertexId;
+        heapPositions[vertexId] = position;
+      }
+      siftUp(position);
+    }
+
+    int removeFirst() {
+      int first = heap[0];
+      heapPositions[first] = -1;
+      size--;
+      if (size > 0) {
+        heap[0] = heap[size];
+        heapPositions[heap[0]] = 0;
+        siftDown(0);
+      }
+      return first;
+    }
+
+    private void siftUp(int startPosition) {
+      int position = startPosition;
+      int vertexId = heap[position];
+      while (position > 0) {
+        int parent = (position - 1) / 2;
+        if (distances[heap[parent]] <= distances[vertexId]) {
+          break;
+        }
+        heap[position] = heap[parent];
+        heapPositions[heap[position]] = position;
+        position = parent;
+      }
+      heap[position] = vertexId;
+      heapPositions[vertexId] = position;
+    }
+
+    private void siftDown(int startPosition) {
+      int position = startPosition;
+      int vertexId = heap[position];
+      while (true) {
+        int child = 2 * position + 1;
+        if (child >= size) {
+          break;
+        }
+        if (child + 1 < size && distances[heap[child + 1]] < distances[heap[child]]) {
+          child++;
+        }
+        if (distances[vertexId] <= distances[heap[child]]) {
+          break;
+        }
+        heap[position] = heap[child];
+        heapPositions[heap[position]] = position;
+        position = child;
+      }
+      heap[position] = vertexId;
+      heapPositions[vertexId] = position;
+    }
+  }
+}
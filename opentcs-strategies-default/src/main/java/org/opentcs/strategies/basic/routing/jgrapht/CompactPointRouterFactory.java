@@ -0,0 +1,190 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.DefaultRouterConfiguration;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.PointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.TopologyResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates {@link CompactPointRouter} instances.
+ * <p>
+ * The point routers work on the {@link RoutingTopology} shared by all routing groups and the
+ * respective routing group's edge weights, so creating them does not require copying any graph.
+ * As they compute shortest path trees lazily, creating them is cheap. When paths change, point
+ * routers are updated such that only the shortest path trees affected by the changes need to be
+ * recomputed.
+ * </p>
+ * <p>
+ * Point routers excluding points or paths are derived from the point router for the respective
+ * (unrestricted) edge weights by masking the excluded elements.
+ * </p>
+ */
+public class CompactPointRouterFactory
+    implements
+      PointRouterFactory {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CompactPointRouterFactory.class);
+  private final GraphProvider graphProvider;
+  private final DefaultRouterConfiguration configuration;
+  /**
+   * The point routers for the (unrestricted) edge weights, by the topology results they were
+   * created for.
+   */
+  private final Map<TopologyResult, CompactPointRouter> baseRouters
+      = Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graphProvider Provides routing graphs for vehicles.
+   * @param configuration The router's configuration.
+   */
+  @Inject
+  public CompactPointRouterFactory(
+      @Nonnull
+      GraphProvider graphProvider,
+      @Nonnull
+      DefaultRouterConfiguration configuration
+  ) {
+    this.graphProvider = requireNonNull(graphProvider, "graphProvider");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public PointRouter createPointRouter(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Set<Point> pointsToExclude,
+      @Nonnull
+      Set<Path> pathsToExclude
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    PointRouter router = withExclusions(
+        baseRouter(graphProvider.getTopologyResult(vehicle)),
+        pointsToExclude,
+        pathsToExclude
+    );
+
+    LOG.debug(
+        "Created point router for {} in {} milliseconds.",
+        vehicle.getName(),
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return router;
+  }
+
+  @Override
+  public PointRouter createGeneralPointRouter(
+      @Nonnull
+      Set<Point> pointsToExclude,
+      @Nonnull
+      Set<Path> pathsToExclude
+  ) {
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    PointRouter router = withExclusions(
+        baseRouter(graphProvider.getGeneralTopologyResult()),
+        pointsToExclude,
+        pathsToExclude
+    );
+
+    LOG.debug(
+        "Created a general point router in {} milliseconds.",
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return router;
+  }
+
+  @Override
+  public PointRouter updatePointRouter(
+      @Nonnull
+      PointRouter pointRouter,
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Set<TCSObjectReference<Path>> changedPaths
+  ) {
+    requireNonNull(pointRouter, "pointRouter");
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(changedPaths, "changedPaths");
+
+    if (!(pointRouter instanceof CompactPointRouter compactPointRouter)) {
+      return createPointRouter(vehicle, Set.of(), Set.of());
+    }
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    TopologyResult topologyResult = graphProvider.getTopologyResult(vehicle);
+    CompactPointRouter router = compactPointRouter.update(
+        topologyResult.getTopology(),
+        topologyResult.getEdgeWeights(),
+        changedPaths.stream()
+            .map(TCSObjectReference::getName)
+            .collect(Collectors.toSet())
+    );
+    baseRouters.put(topologyResult, router);
+
+    LOG.debug(
+        "Updated point router for {} in {} milliseconds.",
+        vehicle.getName(),
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return router;
+  }
+
+  private CompactPointRouter baseRouter(TopologyResult topologyResult) {
+    return baseRouters.computeIfAbsent(
+        topologyResult,
+        result -> new CompactPointRouter(
+            result.getTopology(),
+            result.getEdgeWeights(),
+            configuration.shortestPathTreeCacheSize()
+        )
+    );
+  }
+
+  private CompactPointRouter withExclusions(
+      CompactPointRouter baseRouter,
+      Set<Point> pointsToExclude,
+      Set<Path> pathsToExclude
+  ) {
+    if (pointsToExclude.isEmpty() && pathsToExclude.isEmpty()) {
+      return baseRouter;
+    }
+
+    return baseRouter.withExclusions(
+        pointsToExclude.stream().map(TCSObject::getName).collect(Collectors.toSet()),
+        pathsToExclude.stream().map(TCSObject::getName).collect(Collectors.toSet())
+    );
+  }
+}
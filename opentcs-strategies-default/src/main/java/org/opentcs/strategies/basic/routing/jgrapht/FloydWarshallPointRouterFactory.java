@@ -6,6 +6,7 @@ import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
 import org.jgrapht.alg.shortestpath.FloydWarshallShortestPaths;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.strategies.basic.routing.PointRouter;
@@ -37,4 +38,32 @@ public class FloydWarshallPointRouterFactory
     return new FloydWarshallShortestPaths<>(graph);
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * As {@link FloydWarshallShortestPaths} computes the shortest paths between all pairs of vertices
+   * at once, it is not suitable for graphs used for only a few queries. This implementation returns
+   * a {@link DijkstraShortestPath} instead. (Like the Dijkstra algorithm, this algorithm is not
+   * used with negative edge weights - see {@link ShortestPathConfiguration.Algorithm}.)
+   * </p>
+   */
+  @Override
+  protected ShortestPathAlgorithm<Vertex, Edge> createRestrictedShortestPathAlgorithm(
+      Graph<Vertex, Edge> graph
+  ) {
+    return new DijkstraShortestPath<>(graph);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * {@link FloydWarshallShortestPaths} computes its distance matrix lazily and without any
+   * synchronization, so concurrent queries to it must be serialized.
+   * </p>
+   */
+  @Override
+  protected boolean isShortestPathAlgorithmThreadSafe() {
+    return false;
+  }
+
 }
@@ -5,13 +5,10 @@ package org.opentcs.strategies.basic.routing.jgrapht;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.jgrapht.Graph;
-import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.jgrapht.graph.MaskSubgraph;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
@@ -31,6 +28,12 @@ public class GraphMutator {
   /**
    * Creates a graph that is derived from the given base graph by excluding the given sets of points
    * and paths from the derived graph.
+   * <p>
+   * The derived graph is a read-only view of the base graph that masks the excluded points and
+   * paths (and any edges leading to or from excluded points), i.e. it does not copy any vertices or
+   * edges. This relies on routing graphs never being modified once they have been provided (see
+   * {@link GraphProvider}).
+   * </p>
    *
    * @param pointsToExclude The set of points to exclude from the derived graph.
    * @param pathsToExclude The set of paths to exclude from the derived graph.
@@ -49,50 +52,19 @@ public class GraphMutator {
     requireNonNull(pathsToExclude, "pathsToExclude");
     requireNonNull(baseGraph, "baseGraph");
 
-    // Determine the derived point base and path base.
-    Set<Point> derivedPointBase = new HashSet<>(baseGraph.getPointBase());
-    derivedPointBase.removeAll(pointsToExclude);
-    Set<Path> derivedPathBase = new HashSet<>(baseGraph.getPathBase());
-    derivedPathBase.removeAll(pathsToExclude);
-
-    Graph<Vertex, Edge> derivedGraph = new DirectedWeightedMultigraph<>(Edge.class);
-
-    Map<String, Vertex> pointVertexMap = new HashMap<>();
-
-    // Determine the vertices that should be included and add them to the derived graph.
-    Set<String> pointsToIncludeByName = derivedPointBase.stream()
+    Set<String> pointsToExcludeByName = pointsToExclude.stream()
         .map(Point::getName)
         .collect(Collectors.toSet());
-    baseGraph.getGraph().vertexSet().stream()
-        .filter(vertex -> pointsToIncludeByName.contains(vertex.getPoint().getName()))
-        .forEach(vertex -> {
-          derivedGraph.addVertex(vertex);
-          pointVertexMap.put(vertex.getPoint().getName(), vertex);
-        }
-        );
-
-    // Determine the edges that should be included and add them to the derived graph.
-    Set<String> pathsToIncludeByName = derivedPathBase.stream()
+    Set<String> pathsToExcludeByName = pathsToExclude.stream()
         .map(Path::getName)
         .collect(Collectors.toSet());
-    baseGraph.getGraph().edgeSet().stream()
-        .filter(edge -> pathsToIncludeByName.contains(edge.getPath().getName()))
-        // Ensure that edges are only added if their source and target vertices are contained in the
-        // derived graph. This is relevant when there are points to be excluded from the derived
-        // graph, as adding an edge whose source or target vertex is not present in the graph will
-        // result in an IllegalArgumentException.
-        .filter(
-            edge -> pointsToIncludeByName.contains(edge.getSourceVertex())
-                && pointsToIncludeByName.contains(edge.getTargetVertex())
-        )
-        .forEach(edge -> {
-          derivedGraph.addEdge(
-              pointVertexMap.get(edge.getSourceVertex()),
-              pointVertexMap.get(edge.getTargetVertex()),
-              edge
-          );
-          derivedGraph.setEdgeWeight(edge, baseGraph.getGraph().getEdgeWeight(edge));
-        });
+
+    // Edges with an excluded source or target vertex are masked implicitly.
+    Graph<Vertex, Edge> derivedGraph = new MaskSubgraph<>(
+        baseGraph.getGraph(),
+        vertex -> pointsToExcludeByName.contains(vertex.getPoint().getName()),
+        edge -> pathsToExcludeByName.contains(edge.getPath().getName())
+    );
 
     return new GraphResult(
         baseGraph.getVehicle(),
@@ -24,7 +24,17 @@ import org.opentcs.data.model.Vehicle;
 /**
  * Provides routing graphs for vehicles.
  * <p>
+ * Routing graphs are provided either as separate graphs for every routing group, or as a single
+ * {@link RoutingTopology} shared by all routing groups, with every routing group merely having its
+ * own edge weights (see {@link #getTopologyResult(Vehicle)}).
+ * </p>
+ * <p>
  * This provider caches computed routing graphs until it is {@link #invalidate() invalidated}.
+ * Its methods may be called concurrently, with the routing graphs for different routing groups
+ * being computed in parallel if the edge evaluators used are
+ * {@link ModelGraphMapper#isThreadSafe() thread-safe}. (Otherwise, routing graphs are computed one
+ * at a time.) Routing graphs are never modified once they have been provided - updates always
+ * result in new graphs.
  * </p>
  */
 public class GraphProvider {
@@ -56,6 +66,22 @@ public class GraphProvider {
    * The general {@link GraphResult}.
    */
   private GraphResult generalGraphResult;
+  /**
+   * Contains {@link TopologyResult}s mapped to (vehicle) routing groups.
+   */
+  private final Map<String, TopologyResult> topologyResultsByRoutingGroup = new HashMap<>();
+  /**
+   * The general {@link TopologyResult}.
+   */
+  private TopologyResult generalTopologyResult;
+  /**
+   * The topology that is currently used for computing {@link TopologyResult}s.
+   */
+  private RoutingTopology currentTopology;
+  /**
+   * Incremented whenever the model data used for computing results changes.
+   */
+  private long generation;
 
   /**
    * Creates a new instance.
@@ -95,12 +121,16 @@ public class GraphProvider {
   /**
    * Invalidates any graphs that have already been calculated.
    */
-  public void invalidate() {
+  public synchronized void invalidate() {
+    generation++;
     currentPointBase.clear();
     currentPathBase.clear();
     graphResultsByRoutingGroup.clear();
     derivedGraphResults.clear();
     generalGraphResult = null;
+    topologyResultsByRoutingGroup.clear();
+    generalTopologyResult = null;
+    currentTopology = null;
   }
 
   /**
@@ -110,21 +140,48 @@ public class GraphProvider {
    * @return A {@link GraphResult} containing the routing graph for the given vehicle.
    */
   public GraphResult getGraphResult(Vehicle vehicle) {
-    return graphResultsByRoutingGroup.computeIfAbsent(
-        routingGroupMapper.apply(vehicle),
-        routingGroup -> new GraphResult(
-            vehicle,
-            getCurrentPointBase().getResources(),
-            getCurrentPathBase().getResources(),
-            Set.of(),
-            Set.of(),
-            defaultModelGraphMapper.translateModel(
-                getCurrentPointBase().getResources(),
-                getCurrentPathBase().getResources(),
-                vehicle
-            )
-        )
+    if (!defaultModelGraphMapper.isThreadSafe()) {
+      // The edge evaluators must not be used concurrently, so hold the lock while computing.
+      synchronized (this) {
+        return computeGraphResult(vehicle);
+      }
+    }
+    return computeGraphResult(vehicle);
+  }
+
+  private GraphResult computeGraphResult(Vehicle vehicle) {
+    String routingGroup = routingGroupMapper.apply(vehicle);
+    Set<Point> pointBase;
+    Set<Path> pathBase;
+    long generationBefore;
+    synchronized (this) {
+      GraphResult graphResult = graphResultsByRoutingGroup.get(routingGroup);
+      if (graphResult != null) {
+        return graphResult;
+      }
+      pointBase = Set.copyOf(getCurrentPointBase().getResources());
+      pathBase = Set.copyOf(getCurrentPathBase().getResources());
+      generationBefore = generation;
+    }
+
+    // Translate the model without holding the lock (unless already held by the caller), so that
+    // graphs for different routing groups can be computed concurrently.
+    GraphResult graphResult = new GraphResult(
+        vehicle,
+        pointBase,
+        pathBase,
+        Set.of(),
+        Set.of(),
+        defaultModelGraphMapper.translateModel(pointBase, pathBase, vehicle)
     );
+
+    synchronized (this) {
+      if (generation != generationBefore) {
+        // The model data changed in the meantime, so the result must not be cached.
+        return graphResult;
+      }
+      return graphResultsByRoutingGroup.computeIfAbsent(routingGroup, group -> graphResult);
+    }
   }
 
   /**
@@ -133,7 +190,7 @@ public class GraphProvider {
    *
    * @return A {@link GraphResult} containing the routing graph.
    */
-  public GraphResult getGeneralGraphResult() {
+  public synchronized GraphResult getGeneralGraphResult() {
     if (generalGraphResult == null) {
       generalGraphResult = new GraphResult(
           new Vehicle("Dummy"),
@@ -152,6 +209,70 @@ public class GraphProvider {
     return generalGraphResult;
   }
 
+  /**
+   * Returns a {@link TopologyResult} containing the edge weights for the given vehicle.
+   *
+   * @param vehicle The vehicle.
+   * @return A {@link TopologyResult} containing the edge weights for the given vehicle.
+   */
+  public TopologyResult getTopologyResult(Vehicle vehicle) {
+    if (!defaultModelGraphMapper.isThreadSafe()) {
+      // The edge evaluators must not be used concurrently, so hold the lock while computing.
+      synchronized (this) {
+        return computeTopologyResult(vehicle);
+      }
+    }
+    return computeTopologyResult(vehicle);
+  }
+
+  private TopologyResult computeTopologyResult(Vehicle vehicle) {
+    String routingGroup = routingGroupMapper.apply(vehicle);
+    RoutingTopology topology;
+    long generationBefore;
+    synchronized (this) {
+      TopologyResult topologyResult = topologyResultsByRoutingGroup.get(routingGroup);
+      if (topologyResult != null) {
+        return topologyResult;
+      }
+      topology = getCurrentTopology();
+      generationBefore = generation;
+    }
+
+    // Compute the edge weights without holding the lock (unless already held by the caller), so
+    // that edge weights for different routing groups can be computed concurrently.
+    TopologyResult topologyResult = new TopologyResult(
+        vehicle,
+        topology,
+        defaultModelGraphMapper.computeEdgeWeights(topology, vehicle)
+    );
+
+    synchronized (this) {
+      if (generation != generationBefore) {
+        // The model data changed in the meantime, so the result must not be cached.
+        return topologyResult;
+      }
+      return topologyResultsByRoutingGroup.computeIfAbsent(routingGroup, group -> topologyResult);
+    }
+  }
+
+  /**
+   * Returns a {@link TopologyResult} containing general edge weights that are not affected by any
+   * path properties or any configured edge evaluators.
+   *
+   * @return A {@link TopologyResult} containing the edge weights.
+   */
+  public synchronized TopologyResult getGeneralTopologyResult() {
+    if (generalTopologyResult == null) {
+      generalTopologyResult = new TopologyResult(
+          new Vehicle("Dummy"),
+          getCurrentTopology(),
+          generalModelGraphMapper.computeEdgeWeights(getCurrentTopology(), new Vehicle("Dummy"))
+      );
+    }
+
+    return generalTopologyResult;
+  }
+
   /**
    * Returns a {@link GraphResult} that is derived from the given vehicle's "default" routing graph
    * in such a way that the given sets of points and paths are not included.
@@ -161,7 +282,7 @@ public class GraphProvider {
    * @param pathsToExclude The set of paths to not include in the derived routing graph.
    * @return The derived {@link GraphResult}.
    */
-  public GraphResult getDerivedGraphResult(
+  public synchronized GraphResult getDerivedGraphResult(
       @Nonnull
       Vehicle vehicle,
       @Nonnull
@@ -187,7 +308,7 @@ public class GraphProvider {
    * @param pathsToExclude The set of paths to not include in the derived routing graph.
    * @return The derived {@link GraphResult}.
    */
-  public GraphResult getDerivedGeneralGraphResult(
+  public synchronized GraphResult getDerivedGeneralGraphResult(
       @Nonnull
       Set<Point> pointsToExclude,
       @Nonnull
@@ -200,15 +321,23 @@ public class GraphProvider {
   }
 
   /**
-   * Updates any {@link GraphResult}s that have already been calculated using the given paths.
+   * Updates any {@link GraphResult}s and {@link TopologyResult}s that have already been calculated
+   * using the given paths.
+   * <p>
+   * The general results will not be updated as they do not consider locked paths and therefore
+   * always stay the same.
+   * </p>
    * <p>
-   * The general graph result will not be updated as it does not consider locked paths
-   * and therefore always stays the same.
+   * Only the update of {@link TopologyResult}s (used with
+   * {@link ShortestPathConfiguration.Algorithm#COMPACT_DIJKSTRA}) is incremental, re-translating
+   * only the given paths while sharing the topology's structure. Every {@link GraphResult} (used
+   * with all other algorithms) is replaced by a complete copy of its graph, since graphs that have
+   * already been provided may still be used by point routers and are therefore never modified.
    * </p>
    *
    * @param paths The paths to use for the update.
    */
-  public void updateGraphResults(
+  public synchronized void updateGraphResults(
       @Nonnull
       Collection<Path> paths
   ) {
@@ -218,6 +347,7 @@ public class GraphProvider {
       return;
     }
 
+    generation++;
     // Ensure the path base is up-to-date.
     getCurrentPathBase().updateResources(paths);
 
@@ -238,6 +368,23 @@ public class GraphProvider {
           )
       );
     }
+
+    if (currentTopology == null) {
+      return;
+    }
+    currentTopology = currentTopology.withPaths(paths);
+    topologyResultsByRoutingGroup.replaceAll(
+        (routingGroup, topologyResult) -> new TopologyResult(
+            topologyResult.getVehicle(),
+            currentTopology,
+            defaultModelGraphMapper.updateEdgeWeights(
+                paths,
+                topologyResult.getVehicle(),
+                currentTopology,
+                topologyResult.getEdgeWeights()
+            )
+        )
+    );
   }
 
   private String derivedGraphResultCacheKey(
@@ -257,6 +404,17 @@ public class GraphProvider {
     );
   }
 
+  private RoutingTopology getCurrentTopology() {
+    if (currentTopology == null) {
+      currentTopology = new RoutingTopology(
+          getCurrentPointBase().getResources(),
+          getCurrentPathBase().getResources()
+      );
+    }
+
+    return currentTopology;
+  }
+
   private HashedResourceSet<Point> getCurrentPointBase() {
     if (currentPointBase.isEmpty()) {
       currentPointBase.overrideResources(objectService.fetch(Point.class));
@@ -372,4 +530,61 @@ public class GraphProvider {
     }
   }
 
+
+  /**
+   * Contains the result of an edge weight computation.
+   */
+  public static class TopologyResult {
+
+    private final Vehicle vehicle;
+    private final RoutingTopology topology;
+    private final double[] edgeWeights;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param vehicle The vehicle for which the given edge weights were computed.
+     * @param topology The topology for which the given edge weights were computed.
+     * @param edgeWeights The computed edge weights, indexed by edge index.
+     */
+    public TopologyResult(
+        Vehicle vehicle,
+        RoutingTopology topology,
+        double[] edgeWeights
+    ) {
+      this.vehicle = requireNonNull(vehicle, "vehicle");
+      this.topology = requireNonNull(topology, "topology");
+      this.edgeWeights = requireNonNull(edgeWeights, "edgeWeights");
+    }
+
+    /**
+     * Returns the vehicle for which the edge weights were computed.
+     *
+     * @return The vehicle for which the edge weights were computed.
+     */
+    public Vehicle getVehicle() {
+      return vehicle;
+    }
+
+    /**
+     * Returns the topology for which the edge weights were computed.
+     *
+     * @return The topology for which the edge weights were computed.
+     */
+    public RoutingTopology getTopology() {
+      return topology;
+    }
+
+    /**
+     * Returns the computed edge weights, indexed by edge index.
+     * <p>
+     * The returned array is shared and must not be modified.
+     * </p>
+     *
+     * @return The computed edge weights.
+     */
+    public double[] getEdgeWeights() {
+      return edgeWeights;
+    }
+  }
 }
@@ -10,7 +10,7 @@ import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 
 /**
- * Translates model data to weighted graphs.
+ * Translates model data to weighted graphs or edge weights for a {@link RoutingTopology}.
  */
 public interface ModelGraphMapper {
 
@@ -45,4 +45,50 @@ public interface ModelGraphMapper {
       Vehicle vehicle,
       Graph<Vertex, Edge> graph
   );
+
+  /**
+   * Computes the weights of the edges of the given topology.
+   * <p>
+   * Edges that are not to be used for routing are assigned a weight of
+   * {@link Double#POSITIVE_INFINITY}.
+   * </p>
+   *
+   * @param topology The topology of the model.
+   * @param vehicle The vehicle for which to compute the edge weights.
+   * @return The edge weights, indexed by edge index.
+   */
+  double[] computeEdgeWeights(
+      RoutingTopology topology,
+      Vehicle vehicle
+  );
+
+  /**
+   * Re-computes the weights of the edges travelling the given paths and replaces them in a copy of
+   * the provided edge weights.
+   *
+   * @param paths The paths whose edges' weights are to be re-computed.
+   * @param vehicle The vehicle for which to update the edge weights.
+   * @param topology The topology of the model, containing the given paths.
+   * @param edgeWeights The edge weights to whose copy the re-computed weights are to be added.
+   * @return A copy of the provided edge weights including the re-computed ones.
+   */
+  double[] updateEdgeWeights(
+      Collection<Path> paths,
+      Vehicle vehicle,
+      RoutingTopology topology,
+      double[] edgeWeights
+  );
+
+  /**
+   * Indicates whether this mapper may be used by multiple threads concurrently, i.e. whether
+   * graphs or edge weights for different vehicles may be computed at the same time.
+   * <p>
+   * The default implementation returns {@code false}.
+   * </p>
+   *
+   * @return {@code true} if, and only if, this mapper may be used concurrently.
+   */
+  default boolean isThreadSafe() {
+    return false;
+  }
 }
@@ -10,6 +10,9 @@ import jakarta.inject.Inject;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.components.kernel.routing.EdgeEvaluator;
 import org.opentcs.data.model.Path;
@@ -18,11 +21,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Mapper to translate a collection of {@link Path}s to weighted {@link Edge}s.
+ * Mapper to translate a collection of {@link Path}s to weighted {@link Edge}s, or to compute the
+ * edge weights for a {@link RoutingTopology}.
  */
 public class PathEdgeMapper {
 
   private static final Logger LOG = LoggerFactory.getLogger(PathEdgeMapper.class);
+  /**
+   * The minimum number of elements (paths or edges) for which weights are computed in parallel.
+   */
+  private static final int PARALLEL_COMPUTATION_THRESHOLD = 1000;
   private final EdgeEvaluator edgeEvaluator;
   private final boolean excludeLockedPaths;
   private final ShortestPathConfiguration configuration;
@@ -51,6 +59,10 @@ public class PathEdgeMapper {
 
   /**
    * Translates the given {@link Path}s to weighted {@link Edge}s.
+   * <p>
+   * If the edge evaluator is {@link EdgeEvaluator#isThreadSafe() thread-safe}, large collections of
+   * paths are translated in parallel.
+   * </p>
    *
    * @param paths The paths to translate to edges.
    * @param vehicle The vehicle for which the edge weights are to be evaluated.
@@ -60,57 +72,181 @@ public class PathEdgeMapper {
     requireNonNull(paths, "paths");
     requireNonNull(vehicle, "vehicle");
 
-    Map<Edge, Double> weightedEdges = new HashMap<>();
+    edgeEvaluator.onGraphComputationStart(vehicle);
+
+    Stream<Path> pathStream = paths.stream();
+    if (isComputingInParallel(paths.size())) {
+      pathStream = pathStream.parallel();
+    }
+    Map<Edge, Double> weightedEdges = pathStream
+        .flatMap(this::edgesToAdd)
+        .map(edge -> Map.entry(edge, computeWeight(edge, vehicle)))
+        .filter(entry -> entry.getValue() != Double.POSITIVE_INFINITY)
+        .collect(
+            Collectors.toMap(
+                Map.Entry::getKey,
+                Map.Entry::getValue,
+                (weight1, weight2) -> weight2,
+                HashMap::new
+            )
+        );
 
-    boolean allowNegativeEdgeWeights = configuration.algorithm().isHandlingNegativeCosts();
+    edgeEvaluator.onGraphComputationEnd(vehicle);
+
+    return weightedEdges;
+  }
+
+  /**
+   * Computes the weights of the edges of the given topology.
+   * <p>
+   * Edges that are not to be used for routing (e.g. edges travelling paths that are not navigable
+   * in the respective direction) are assigned a weight of {@link Double#POSITIVE_INFINITY}.
+   * </p>
+   * <p>
+   * If the edge evaluator is {@link EdgeEvaluator#isThreadSafe() thread-safe}, the weights of the
+   * edges of large topologies are computed in parallel.
+   * </p>
+   *
+   * @param topology The topology.
+   * @param vehicle The vehicle for which the edge weights are to be evaluated.
+   * @return The edge weights, indexed by edge index.
+   */
+  public double[] computeEdgeWeights(
+      @Nonnull
+      RoutingTopology topology,
+      @Nonnull
+      Vehicle vehicle
+  ) {
+    requireNonNull(topology, "topology");
+    requireNonNull(vehicle, "vehicle");
+
+    double[] edgeWeights = new double[topology.getEdgeCount()];
 
     edgeEvaluator.onGraphComputationStart(vehicle);
+    IntStream edgeIndices = IntStream.range(0, edgeWeights.length);
+    if (isComputingInParallel(edgeWeights.length)) {
+      edgeIndices = edgeIndices.parallel();
+    }
+    // Every edge's weight is written by exactly one task, so no further synchronization is needed.
+    edgeIndices.forEach(
+        edgeIndex -> edgeWeights[edgeIndex] = computeWeight(topology, edgeIndex, vehicle)
+    );
+    edgeEvaluator.onGraphComputationEnd(vehicle);
 
+    return edgeWeights;
+  }
+
+  /**
+   * Re-computes the weights of the edges travelling the given paths and replaces them in a copy of
+   * the given edge weights.
+   *
+   * @param topology The topology, containing the given paths.
+   * @param paths The paths whose edges' weights are to be re-computed.
+   * @param vehicle The vehicle for which the edge weights are to be evaluated.
+   * @param edgeWeights The edge weights to whose copy the re-computed weights are to be added.
+   * @return A copy of the given edge weights including the re-computed ones.
+   */
+  public double[] updateEdgeWeights(
+      @Nonnull
+      RoutingTopology topology,
+      @Nonnull
+      Collection<Path> paths,
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      double[] edgeWeights
+  ) {
+    requireNonNull(topology, "topology");
+    requireNonNull(paths, "paths");
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(edgeWeights, "edgeWeights");
+
+    double[] updatedEdgeWeights = edgeWeights.clone();
+
+    edgeEvaluator.onGraphComputationStart(vehicle);
     for (Path path : paths) {
-      if (shouldAddForwardEdge(path)) {
-        Edge edge = new Edge(path, false);
-        double weight = edgeEvaluator.computeWeight(edge, vehicle);
-
-        if (weight < 0 && !allowNegativeEdgeWeights) {
-          LOG.warn(
-              "Edge {} with weight {} ignored. Algorithm {} cannot handle negative weights.",
-              edge,
-              weight,
-              configuration.algorithm().name()
-          );
-        }
-        else if (weight == Double.POSITIVE_INFINITY) {
-          LOG.debug("Edge {} with infinite weight ignored.", edge);
-        }
-        else {
-          weightedEdges.put(edge, weight);
-        }
+      int pathIndex = topology.pathIndex(path.getName());
+      if (pathIndex == RoutingTopology.NONE) {
+        continue;
       }
+      int forwardEdge = topology.forwardEdge(pathIndex);
+      updatedEdgeWeights[forwardEdge] = computeWeight(topology, forwardEdge, vehicle);
+      int reverseEdge = topology.reverseEdge(pathIndex);
+      updatedEdgeWeights[reverseEdge] = computeWeight(topology, reverseEdge, vehicle);
+    }
+    edgeEvaluator.onGraphComputationEnd(vehicle);
 
-      if (shouldAddReverseEdge(path)) {
-        Edge edge = new Edge(path, true);
-        double weight = edgeEvaluator.computeWeight(edge, vehicle);
-
-        if (weight < 0 && !allowNegativeEdgeWeights) {
-          LOG.warn(
-              "Edge {} with weight {} ignored. Algorithm {} cannot handle negative weights.",
-              edge,
-              weight,
-              configuration.algorithm().name()
-          );
-        }
-        else if (weight == Double.POSITIVE_INFINITY) {
-          LOG.debug("Edge {} with infinite weight ignored.", edge);
-        }
-        else {
-          weightedEdges.put(edge, weight);
-        }
-      }
+    return updatedEdgeWeights;
+  }
+
+  /**
+   * Indicates whether the edge evaluator used by this mapper is thread-safe.
+   *
+   * @return {@code true} if, and only if, the edge evaluator is thread-safe.
+   * @see EdgeEvaluator#isThreadSafe()
+   */
+  public boolean isThreadSafe() {
+    return edgeEvaluator.isThreadSafe();
+  }
+
+  /**
+   * Checks whether the weights of the given number of elements should be computed in parallel.
+   * <p>
+   * Parallel streams are executed by the common fork/join pool or, if called from within another
+   * fork/join pool (e.g. when point routers are constructed eagerly), by that pool's threads.
+   * </p>
+   *
+   * @param elementCount The number of elements.
+   * @return {@code true} if, and only if, the weights should be computed in parallel.
+   */
+  private boolean isComputingInParallel(int elementCount) {
+    return elementCount >= PARALLEL_COMPUTATION_THRESHOLD && edgeEvaluator.isThreadSafe();
+  }
+
+  private Stream<Edge> edgesToAdd(Path path) {
+    Stream.Builder<Edge> edges = Stream.builder();
+    if (shouldAddForwardEdge(path)) {
+      edges.add(new Edge(path, false));
+    }
+    if (shouldAddReverseEdge(path)) {
+      edges.add(new Edge(path, true));
     }
+    return edges.build();
+  }
 
-    edgeEvaluator.onGraphComputationEnd(vehicle);
+  private double computeWeight(RoutingTopology topology, int edgeIndex, Vehicle vehicle) {
+    Path path = topology.edgePath(edgeIndex);
+    boolean reverse = topology.isReverseEdge(edgeIndex);
+    if (reverse ? !shouldAddReverseEdge(path) : !shouldAddForwardEdge(path)) {
+      return Double.POSITIVE_INFINITY;
+    }
+    return computeWeight(new Edge(path, reverse), vehicle);
+  }
 
-    return weightedEdges;
+  /**
+   * Computes the weight of the given edge.
+   *
+   * @param edge The edge.
+   * @param vehicle The vehicle for which the edge weight is to be evaluated.
+   * @return The edge's weight, or {@link Double#POSITIVE_INFINITY}, if the edge is to be ignored.
+   */
+  private double computeWeight(Edge edge, Vehicle vehicle) {
+    double weight = edgeEvaluator.computeWeight(edge, vehicle);
+
+    if (weight < 0 && !configuration.algorithm().isHandlingNegativeCosts()) {
+      LOG.warn(
+          "Edge {} with weight {} ignored. Algorithm {} cannot handle negative weights.",
+          edge,
+          weight,
+          configuration.algorithm().name()
+      );
+      return Double.POSITIVE_INFINITY;
+    }
+    else if (weight == Double.POSITIVE_INFINITY) {
+      LOG.debug("Edge {} with infinite weight ignored.", edge);
+    }
+
+    return weight;
   }
 
   /**
@@ -9,37 +9,81 @@ import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.DefaultRouterConfiguration;
 import org.opentcs.strategies.basic.routing.PointRouter;
 import org.opentcs.strategies.basic.routing.PointRouterFactory;
 import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor;
 import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor.ResourcesToAvoid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Provides point routers for vehicles (more specifically for routing groups of vehicles).
  * <p>
  * This provider caches constructed point routers until it is {@link #invalidate() invalidated}.
+ * Point routers for transport orders with resources to avoid are cached as well, with the least
+ * recently used ones being discarded when the configured cache size is exceeded.
+ * </p>
+ * <p>
+ * The point routers are kept in a routing snapshot that is replaced as a whole whenever the routing
+ * topology is updated or invalidated. Requests for point routers are served from the snapshot that
+ * is current at the time of the request and may be processed concurrently. Updates of the routing
+ * topology and invalidations are expected to be performed by a single thread at a time.
+ * </p>
+ * <p>
+ * Point routers that are missing in a snapshot are constructed lazily, based on the routing graphs
+ * that are current at that time. To ensure that a snapshot only ever contains point routers for
+ * the version of the routing topology it was published for, point routers are constructed while
+ * holding a shared lock, and the routing graphs are updated and the new snapshot is published
+ * while holding the corresponding exclusive lock. Requests for point routers that are already
+ * contained in the current snapshot do not require any locking.
+ * </p>
+ * <p>
+ * Optionally, the point routers of all routing groups are constructed eagerly, asynchronously and
+ * in parallel whenever the routing topology is (re)initialized (see {@link #warmUp()}), so that the
+ * first routing requests do not have to wait for them.
  * </p>
  */
 public class PointRouterProvider {
 
+  private static final Logger LOG = LoggerFactory.getLogger(PointRouterProvider.class);
   private final TCSObjectService objectService;
   private final ResourceAvoidanceExtractor resourceAvoidanceExtractor;
   private final GroupMapper routingGroupMapper;
   private final PointRouterFactory pointRouterFactory;
   private final GraphProvider graphProvider;
+  private final DefaultRouterConfiguration configuration;
+  /**
+   * The current routing snapshot.
+   */
+  private volatile RoutingSnapshot snapshot = new RoutingSnapshot(0, Map.of());
   /**
-   * The point routers by vehicle routing group.
+   * Held (shared) while constructing point routers for the current snapshot, and (exclusively)
+   * while updating the routing graphs and publishing a new snapshot.
    */
-  private final Map<String, PointRouter> pointRoutersByVehicleGroup = new ConcurrentHashMap<>();
+  private final ReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+  /**
+   * The pool constructing point routers for the current warm-up, if any.
+   */
+  private ForkJoinPool warmUpPool;
 
   /**
    * Creates a new instance.
@@ -49,6 +93,7 @@ public class PointRouterProvider {
    * @param routingGroupMapper Used to map vehicles to their routing groups.
    * @param pointRouterFactory A builder for constructing point routers (i.e., the routing tables).
    * @param graphProvider Provides routing graphs for vehicles.
+   * @param configuration The router's configuration.
    */
   @Inject
   public PointRouterProvider(
@@ -56,7 +101,8 @@ public class PointRouterProvider {
       ResourceAvoidanceExtractor resourceAvoidanceExtractor,
       GroupMapper routingGroupMapper,
       PointRouterFactory pointRouterFactory,
-      GraphProvider graphProvider
+      GraphProvider graphProvider,
+      DefaultRouterConfiguration configuration
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.resourceAvoidanceExtractor = requireNonNull(
@@ -66,18 +112,30 @@ public class PointRouterProvider {
     this.routingGroupMapper = requireNonNull(routingGroupMapper, "routingGroupMapper");
     this.pointRouterFactory = requireNonNull(pointRouterFactory, "pointRouterFactory");
     this.graphProvider = requireNonNull(graphProvider, "graphProvider");
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   /**
    * Invalidates any point routers that have already been constructed.
    */
   public void invalidate() {
-    pointRoutersByVehicleGroup.clear();
-    graphProvider.invalidate();
+    snapshotLock.writeLock().lock();
+    try {
+      graphProvider.invalidate();
+      publish(new RoutingSnapshot(snapshot.version() + 1, Map.of()));
+    }
+    finally {
+      snapshotLock.writeLock().unlock();
+    }
   }
 
   /**
    * Updates the routing topology with respect to the given paths.
+   * <p>
+   * Point routers that have already been constructed are not discarded but updated via
+   * {@link PointRouterFactory#updatePointRouter(PointRouter, Vehicle, Set)} the next time they are
+   * requested.
+   * </p>
    *
    * @param paths The paths to update in the routing topology. An empty set of paths results in any
    * constructed point routers to be invalidated.
@@ -88,14 +146,91 @@ public class PointRouterProvider {
   ) {
     requireNonNull(paths, "paths");
 
-    pointRoutersByVehicleGroup.clear();
-
     if (paths.isEmpty()) {
-      graphProvider.invalidate();
+      invalidate();
+      warmUp();
+      return;
     }
-    else {
+
+    Set<TCSObjectReference<Path>> changedPaths = paths.stream()
+        .map(Path::getReference)
+        .collect(Collectors.toSet());
+
+    // Holding the exclusive lock ensures that no point routers are being constructed for the
+    // previous snapshot while the routing graphs are being updated, and that no such point routers
+    // are missed below.
+    snapshotLock.writeLock().lock();
+    try {
       graphProvider.updateGraphResults(paths);
+
+      RoutingSnapshot previousSnapshot = snapshot;
+      Map<String, OutdatedPointRouter> outdatedPointRouters = new HashMap<>();
+      previousSnapshot.outdatedPointRoutersByVehicleGroup().forEach(
+          (routingGroup, outdatedRouter) -> outdatedPointRouters.put(
+              routingGroup,
+              outdatedRouter.withChangedPaths(changedPaths)
+          )
+      );
+      previousSnapshot.pointRoutersByVehicleGroup().forEach(
+          (routingGroup, router) -> outdatedPointRouters.put(
+              routingGroup,
+              new OutdatedPointRouter(router, changedPaths)
+          )
+      );
+      publish(new RoutingSnapshot(previousSnapshot.version() + 1, outdatedPointRouters));
+    }
+    finally {
+      snapshotLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Starts constructing the point routers for all routing groups in parallel, to be published in a
+   * new routing snapshot replacing any point routers that have already been constructed.
+   * <p>
+   * The point routers are constructed asynchronously, since constructing them requires access to
+   * the model, while callers (e.g. updates of the routing topology) may hold the kernel's global
+   * lock. If the routing topology changes before they have all been constructed, they are
+   * discarded. A warm-up that is still in progress is cancelled when a new one is started.
+   * </p>
+   * <p>
+   * The number of threads used is configured via
+   * {@link DefaultRouterConfiguration#warmUpThreadCount()}. If it is 0, this method does nothing
+   * and point routers are constructed when they are first requested. Edge weights computed in
+   * parallel for a single routing group share the same threads. If the edge evaluators are not
+   * thread-safe, the routing graphs are still computed one at a time (see {@link GraphProvider}).
+   * </p>
+   *
+   * @return A future that is completed when the warm-up has finished (successfully or not).
+   */
+  public synchronized CompletableFuture<Void> warmUp() {
+    if (warmUpPool != null) {
+      warmUpPool.shutdownNow();
+      warmUpPool = null;
+    }
+
+    int threadCount = configuration.warmUpThreadCount();
+    if (threadCount <= 0) {
+      return CompletableFuture.completedFuture(null);
     }
+
+    RoutingSnapshot previousSnapshot = snapshot;
+    ForkJoinPool pool = new ForkJoinPool(threadCount);
+    warmUpPool = pool;
+    return CompletableFuture.runAsync(
+        () -> constructPointRouters(previousSnapshot, threadCount),
+        pool
+    )
+        .exceptionally(e -> {
+          if (pool.isShutdown()) {
+            LOG.debug("Construction of point routers cancelled.");
+          }
+          else {
+            LOG.warn("Failed to construct point routers, constructing them on request.", e);
+          }
+          return null;
+        })
+        .whenComplete((result, e) -> pool.shutdown());
   }
 
   /**
@@ -145,6 +280,28 @@ public class PointRouterProvider {
     );
   }
 
+  /**
+   * Returns the point router for the given vehicle's routing group from the current routing
+   * snapshot, provided it has already been constructed.
+   * <p>
+   * In contrast to {@link #getPointRouterForVehicle(Vehicle, Set)}, this method never constructs
+   * point routers and never accesses the model. It may thus be called without holding the kernel's
+   * global lock.
+   * </p>
+   *
+   * @param vehicle The vehicle to get the point router for.
+   * @return The point router, or {@code null}, if it has not been constructed yet.
+   */
+  @Nullable
+  public PointRouter getConstructedPointRouterForVehicle(
+      @Nonnull
+      Vehicle vehicle
+  ) {
+    requireNonNull(vehicle, "vehicle");
+
+    return snapshot.pointRoutersByVehicleGroup().get(routingGroupMapper.apply(vehicle));
+  }
+
   /**
    * Returns all point routers mapped to the vehicle routing group they belong to.
    *
@@ -153,9 +310,16 @@ public class PointRouterProvider {
   public Map<String, PointRouter> getPointRoutersByVehicleGroup() {
     // Since point routers get reset on topology changes, make sure there are point routers for
     // all routing groups.
-    createMissingPointRouters();
+    snapshotLock.readLock().lock();
+    try {
+      RoutingSnapshot currentSnapshot = snapshot;
+      createMissingPointRouters(currentSnapshot);
 
-    return Collections.unmodifiableMap(pointRoutersByVehicleGroup);
+      return Collections.unmodifiableMap(currentSnapshot.pointRoutersByVehicleGroup());
+    }
+    finally {
+      snapshotLock.readLock().unlock();
+    }
   }
 
   /**
@@ -176,20 +340,133 @@ public class PointRouterProvider {
     );
   }
 
-  private void createMissingPointRouters() {
+  private void publish(RoutingSnapshot newSnapshot) {
+    snapshot = newSnapshot;
+    LOG.debug("Published routing snapshot version {}.", newSnapshot.version());
+  }
+
+  private void constructPointRouters(RoutingSnapshot previousSnapshot, int threadCount) {
+    long timeStampBefore = System.currentTimeMillis();
+    Map<String, PointRouter> pointRouters = new ConcurrentHashMap<>();
+    // Running in the warm-up pool, the parallel stream is executed by the pool's threads.
+    distinctRoutingGroups().entrySet().parallelStream().forEach(
+        entry -> pointRouters.put(
+            entry.getKey(),
+            createPointRouter(entry.getKey(), entry.getValue())
+        )
+    );
+
+    snapshotLock.writeLock().lock();
+    try {
+      if (snapshot != previousSnapshot) {
+        LOG.debug("Routing topology changed while constructing point routers, discarding them.");
+        return;
+      }
+      publish(new RoutingSnapshot(previousSnapshot.version() + 1, Map.of(), pointRouters));
+    }
+    finally {
+      snapshotLock.writeLock().unlock();
+    }
+
+    LOG.info(
+        "Constructed point routers for {} routing groups using {} threads in {} milliseconds.",
+        pointRouters.size(),
+        threadCount,
+        System.currentTimeMillis() - timeStampBefore
+    );
+  }
+
+  private PointRouter createPointRouter(String routingGroup, Vehicle vehicle) {
+    long timeStampBefore = System.currentTimeMillis();
+
+    PointRouter router = pointRouterFactory.createPointRouter(vehicle, Set.of(), Set.of());
+
+    LOG.info(
+        "Constructed point router for routing group '{}' in {} milliseconds.",
+        routingGroup,
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return router;
+  }
+
+  private Map<String, Vehicle> distinctRoutingGroups() {
     Map<String, Vehicle> distinctRoutingGroups = new HashMap<>();
     for (Vehicle vehicle : objectService.fetch(Vehicle.class)) {
       distinctRoutingGroups.putIfAbsent(routingGroupMapper.apply(vehicle), vehicle);
     }
+    return distinctRoutingGroups;
+  }
 
+  private void createMissingPointRouters(RoutingSnapshot currentSnapshot) {
     // Lazily create point routers if they don't exist.
-    distinctRoutingGroups.forEach(
-        (routingGroup, vehicle) -> getPointRouterForVehicle(vehicle, (TransportOrder) null)
+    distinctRoutingGroups().forEach(
+        (routingGroup, vehicle) -> getPointRouterForVehicle(
+            currentSnapshot,
+            vehicle,
+            ResourcesToAvoid.EMPTY
+        )
     );
   }
 
-  private PointRouter getPointRouterForVehicle(Vehicle vehicle, ResourcesToAvoid resourcesToAvoid) {
+  private PointRouter getPointRouterForVehicle(
+      Vehicle vehicle,
+      ResourcesToAvoid resourcesToAvoid
+  ) {
+    if (resourcesToAvoid.isEmpty()) {
+      PointRouter router
+          = snapshot.pointRoutersByVehicleGroup().get(routingGroupMapper.apply(vehicle));
+      if (router != null) {
+        return router;
+      }
+    }
+
+    // The point router may have to be constructed. Make sure this happens for the current
+    // snapshot and that the routing graphs are not updated in the meantime.
+    snapshotLock.readLock().lock();
+    try {
+      return getPointRouterForVehicle(snapshot, vehicle, resourcesToAvoid);
+    }
+    finally {
+      snapshotLock.readLock().unlock();
+    }
+  }
+
+  private PointRouter getPointRouterForVehicle(
+      RoutingSnapshot currentSnapshot,
+      Vehicle vehicle,
+      ResourcesToAvoid resourcesToAvoid
+  ) {
     if (!resourcesToAvoid.isEmpty()) {
+      return getAvoidancePointRouter(currentSnapshot, vehicle, resourcesToAvoid);
+    }
+
+    // In all other cases, create a point router if it does not yet exist for the vehicle's routing
+    // group.
+    return currentSnapshot.pointRoutersByVehicleGroup().computeIfAbsent(
+        routingGroupMapper.apply(vehicle),
+        routingGroup -> {
+          OutdatedPointRouter outdatedRouter
+              = currentSnapshot.outdatedPointRoutersByVehicleGroup().remove(routingGroup);
+          if (outdatedRouter == null) {
+            return pointRouterFactory.createPointRouter(vehicle, Set.of(), Set.of());
+          }
+          return pointRouterFactory.updatePointRouter(
+              outdatedRouter.pointRouter(),
+              vehicle,
+              outdatedRouter.changedPaths()
+          );
+        }
+    );
+  }
+
+  private PointRouter getAvoidancePointRouter(
+      RoutingSnapshot currentSnapshot,
+      Vehicle vehicle,
+      ResourcesToAvoid resourcesToAvoid
+  ) {
+    int cacheSize = configuration.avoidancePointRouterCacheSize();
+    if (cacheSize <= 0) {
       return pointRouterFactory.createPointRouter(
           vehicle,
           resourcesToAvoid.getPoints(),
@@ -197,11 +474,110 @@ public class PointRouterProvider {
       );
     }
 
-    // In all other cases, create a point router if it does not yet exist for the vehicle's routing
-    // group.
-    return pointRoutersByVehicleGroup.computeIfAbsent(
+    AvoidanceKey key = new AvoidanceKey(
         routingGroupMapper.apply(vehicle),
-        routingGroup -> pointRouterFactory.createPointRouter(vehicle, Set.of(), Set.of())
+        names(resourcesToAvoid.getPoints()),
+        names(resourcesToAvoid.getPaths())
+    );
+    Map<AvoidanceKey, PointRouter> avoidancePointRouters = currentSnapshot.avoidancePointRouters();
+    synchronized (avoidancePointRouters) {
+      PointRouter router = avoidancePointRouters.get(key);
+      if (router != null) {
+        return router;
+      }
+    }
+
+    // Create the point router outside of the synchronized block, as this may take a while.
+    PointRouter router = pointRouterFactory.createPointRouter(
+        vehicle,
+        resourcesToAvoid.getPoints(),
+        resourcesToAvoid.getPaths()
     );
+    synchronized (avoidancePointRouters) {
+      avoidancePointRouters.put(key, router);
+      while (avoidancePointRouters.size() > cacheSize) {
+        avoidancePointRouters.remove(avoidancePointRouters.keySet().iterator().next());
+      }
+    }
+    return router;
+  }
+
+  private Set<String> names(Set<? extends TCSObject<?>> objects) {
+    return objects.stream()
+        .map(TCSObject::getName)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Identifies a point router for resources to avoid.
+   *
+   * @param routingGroup The routing group the point router was created for.
+   * @param pointNames The names of the points to avoid.
+   * @param pathNames The names of the paths to avoid.
+   */
+  private record AvoidanceKey(
+      String routingGroup,
+      Set<String> pointNames,
+      Set<String> pathNames
+  ) {
+  }
+
+  /**
+   * The point routers for a specific version of the routing topology.
+   * <p>
+   * Point routers are created lazily, but only while the snapshot is the current one and the
+   * routing graphs are not being updated. Once a point router for a routing group has been added to
+   * a snapshot, it is not replaced for the lifetime of the snapshot.
+   * </p>
+   *
+   * @param version The version of the routing topology.
+   * @param pointRoutersByVehicleGroup The point routers by vehicle routing group.
+   * @param outdatedPointRoutersByVehicleGroup The point routers that were constructed for a
+   * previous version of the routing topology, by vehicle routing group, along with the paths that
+   * have changed since.
+   * @param avoidancePointRouters The point routers for resources to avoid, in access order (least
+   * recently used first).
+   */
+  private record RoutingSnapshot(
+      long version,
+      Map<String, PointRouter> pointRoutersByVehicleGroup,
+      Map<String, OutdatedPointRouter> outdatedPointRoutersByVehicleGroup,
+      Map<AvoidanceKey, PointRouter> avoidancePointRouters
+  ) {
+
+    RoutingSnapshot(long version, Map<String, OutdatedPointRouter> outdatedPointRouters) {
+      this(version, outdatedPointRouters, Map.of());
+    }
+
+    RoutingSnapshot(
+        long version,
+        Map<String, OutdatedPointRouter> outdatedPointRouters,
+        Map<String, PointRouter> pointRouters
+    ) {
+      this(
+          version,
+          new ConcurrentHashMap<>(pointRouters),
+          new ConcurrentHashMap<>(outdatedPointRouters),
+          new LinkedHashMap<>(16, 0.75f, true)
+      );
+    }
+  }
+
+  /**
+   * A point router that was constructed before the routing topology was updated.
+   *
+   * @param pointRouter The point router.
+   * @param changedPaths The paths that have changed since the point router was constructed.
+   */
+  private record OutdatedPointRouter(
+      PointRouter pointRouter,
+      Set<TCSObjectReference<Path>> changedPaths
+  ) {
+
+    OutdatedPointRouter withChangedPaths(Set<TCSObjectReference<Path>> additionalChangedPaths) {
+      Set<TCSObjectReference<Path>> allChangedPaths = new HashSet<>(changedPaths);
+      allChangedPaths.addAll(additionalChangedPaths);
+      return new OutdatedPointRouter(pointRouter, allChangedPaths);
+    }
   }
 }
@@ -0,0 +1,348 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * The topology of a plant model in a compact, array-based form, shared by all routing groups.
+ * <p>
+ * Points are mapped to consecutive integer vertex IDs. Every path is mapped to two edges - one
+ * travelling it forward and one travelling it in reverse -, regardless of whether the path is
+ * actually navigable in the respective direction. The edges are stored in compressed sparse row
+ * form, i.e. sorted by their source vertices, so that the outgoing edges of a vertex occupy a
+ * contiguous range of edge indices.
+ * </p>
+ * <p>
+ * Which edges are navigable for a routing group, and at which costs, is not part of the topology.
+ * Instead, every routing group is represented by an array of edge weights indexed by edge index
+ * (see {@link PathEdgeMapper#computeEdgeWeights(RoutingTopology, org.opentcs.data.model.Vehicle)}),
+ * with edges that are not to be used having an infinite weight.
+ * </p>
+ * <p>
+ * Instances of this class are immutable. Updated paths (e.g. with a changed lock state) result in a
+ * new instance that shares the arrays describing the structure (see
+ * {@link #withPaths(Collection)}), so vertex IDs and edge indices remain valid.
+ * </p>
+ */
+public class RoutingTopology {
+
+  /**
+   * Marks a vertex or path that is not part of the topology.
+   */
+  public static final int NONE = -1;
+  /**
+   * For every vertex ID, the point the vertex represents.
+   */
+  private final Point[] points;
+  /**
+   * The vertex IDs, mapped by the names of the points the vertices represent.
+   */
+  private final Map<String, Integer> vertexIds;
+  /**
+   * For every path index, the path.
+   */
+  private final Path[] paths;
+  /**
+   * The path indices, mapped by the paths' names.
+   */
+  private final Map<String, Integer> pathIndices;
+  /**
+   * For every vertex ID, the index of the vertex's first outgoing edge. Contains one additional
+   * element marking the end of the last vertex's outgoing edges.
+   */
+  private final int[] firstOutgoingEdges;
+  /**
+   * For every edge, the ID of the edge's source vertex.
+   */
+  private final int[] edgeSources;
+  /**
+   * For every edge, the ID of the edge's target vertex.
+   */
+  private final int[] edgeTargets;
+  /**
+   * For every edge, the index of the path the edge travels. Edges travelling their path in reverse
+   * are marked by the bitwise complement of the path index.
+   */
+  private final int[] edgePaths;
+  /**
+   * For every path index, the index of the edge travelling the path forward, followed by the index
+   * of the edge travelling the path in reverse.
+   */
+  private final int[] pathEdges;
+
+  /**
+   * Creates a new instance.
+   * <p>
+   * Paths connecting points that are not contained in the given collection of points are ignored.
+   * </p>
+   *
+   * @param points The points.
+   * @param paths The paths.
+   */
+  public RoutingTopology(
+      @Nonnull
+      Collection<Point> points,
+      @Nonnull
+      Collection<Path> paths
+  ) {
+    requireNonNull(points, "points");
+    requireNonNull(paths, "paths");
+
+    this.points = points.toArray(Point[]::new);
+    this.vertexIds = new HashMap<>();
+    for (int vertexId = 0; vertexId < this.points.length; vertexId++) {
+      vertexIds.put(this.points[vertexId].getName(), vertexId);
+    }
+
+    this.paths = paths.stream()
+        .filter(
+            path -> vertexIds.containsKey(path.getSourcePoint().getName())
+                && vertexIds.containsKey(path.getDestinationPoint().getName())
+        )
+        .toArray(Path[]::new);
+    this.pathIndices = new HashMap<>();
+    for (int pathIndex = 0; pathIndex < this.paths.length; pathIndex++) {
+      pathIndices.put(this.paths[pathIndex].getName(), pathIndex);
+    }
+
+    // Count the outgoing edges of every vertex first, then place the edges.
+    firstOutgoingEdges = new int[this.points.length + 1];
+    for (Path path : this.paths) {
+      firstOutgoingEdges[vertexId(path.getSourcePoint().getName()) + 1]++;
+      firstOutgoingEdges[vertexId(path.getDestinationPoint().getName()) + 1]++;
+    }
+    for (int vertexId = 0; vertexId < this.points.length; vertexId++) {
+      firstOutgoingEdges[vertexId + 1] += firstOutgoingEdges[vertexId];
+    }
+
+    int edgeCount = 2 * this.paths.length;
+    edgeSources = new int[edgeCount];
+    edgeTargets = new int[edgeCount];
+    edgePaths = new int[edgeCount];
+    pathEdges = new int[edgeCount];
+    int[] nextOutgoingEdges = Arrays.copyOf(firstOutgoingEdges, this.points.length);
+    for (int pathIndex = 0; pathIndex < this.paths.length; pathIndex++) {
+      int sourceId = vertexId(this.paths[pathIndex].getSourcePoint().getName());
+      int destinationId = vertexId(this.paths[pathIndex].getDestinationPoint().getName());
+
+      int forwardEdge = nextOutgoingEdges[sourceId]++;
+      edgeSources[forwardEdge] = sourceId;
+      edgeTargets[forwardEdge] = destinationId;
+      edgePaths[forwardEdge] = pathIndex;
+      pathEdges[2 * pathIndex] = forwardEdge;
+
+      int reverseEdge = nextOutgoingEdges[destinationId]++;
+      edgeSources[reverseEdge] = destinationId;
+      edgeTargets[reverseEdge] = sourceId;
+      edgePaths[reverseEdge] = ~pathIndex;
+      pathEdges[2 * pathIndex + 1] = reverseEdge;
+    }
+  }
+
+  private RoutingTopology(RoutingTopology base, Path[] paths) {
+    this.points = base.points;
+    this.vertexIds = base.vertexIds;
+    this.paths = paths;
+    this.pathIndices = base.pathIndices;
+    this.firstOutgoingEdges = base.firstOutgoingEdges;
+    this.edgeSources = base.edgeSources;
+    this.edgeTargets = base.edgeTargets;
+    this.edgePaths = base.edgePaths;
+    this.pathEdges = base.pathEdges;
+  }
+
+  /**
+   * Returns a topology with the given paths replacing the ones with the same names.
+   * <p>
+   * The returned topology shares this topology's structure, i.e. vertex IDs and edge indices are
+   * the same for both. (The given paths are expected to connect the same points as the paths they
+   * replace.) Paths that are not part of this topology are ignored.
+   * </p>
+   *
+   * @param updatedPaths The updated paths.
+   * @return The topology with the updated paths.
+   */
+  @Nonnull
+  public RoutingTopology withPaths(
+      @Nonnull
+      Collection<Path> updatedPaths
+  ) {
+    requireNonNull(updatedPaths, "updatedPaths");
+
+    Path[] newPaths = paths.clone();
+    for (Path path : updatedPaths) {
+      int pathIndex = pathIndex(path.getName());
+      if (pathIndex != NONE) {
+        newPaths[pathIndex] = path;
+      }
+    }
+    return new RoutingTopology(this, newPaths);
+  }
+
+  /**
+   * Checks whether this topology has the same structure as the given one, i.e. whether vertex IDs
+   * and edge indices are the same for both.
+   *
+   * @param other The other topology.
+   * @return {@code true} if, and only if, both topologies have the same structure.
+   */
+  public boolean hasSameStructureAs(
+      @Nonnull
+      RoutingTopology other
+  ) {
+    requireNonNull(other, "other");
+
+    return edgePaths == other.edgePaths;
+  }
+
+  /**
+   * Returns the number of vertices.
+   *
+   * @return The number of vertices.
+   */
+  public int getVertexCount() {
+    return points.length;
+  }
+
+  /**
+   * Returns the number of edges.
+   *
+   * @return The number of edges.
+   */
+  public int getEdgeCount() {
+    return edgePaths.length;
+  }
+
+  /**
+   * Returns the ID of the vertex representing the point with the given name.
+   *
+   * @param pointName The point's name.
+   * @return The vertex ID, or {@link #NONE}, if the point is not part of this topology.
+   */
+  public int vertexId(String pointName) {
+    Integer vertexId = vertexIds.get(pointName);
+    return vertexId == null ? NONE : vertexId;
+  }
+
+  /**
+   * Returns the point represented by the vertex with the given ID.
+   *
+   * @param vertexId The vertex ID.
+   * @return The point.
+   */
+  public Point point(int vertexId) {
+    return points[vertexId];
+  }
+
+  /**
+   * Returns the index of the path with the given name.
+   *
+   * @param pathName The path's name.
+   * @return The path index, or {@link #NONE}, if the path is not part of this topology.
+   */
+  public int pathIndex(String pathName) {
+    Integer pathIndex = pathIndices.get(pathName);
+    return pathIndex == null ? NONE : pathIndex;
+  }
+
+  /**
+   * Returns the index of the edge travelling the path with the given index forward.
+   *
+   * @param pathIndex The path index.
+   * @return The edge index.
+   */
+  public int forwardEdge(int pathIndex) {
+    return pathEdges[2 * pathIndex];
+  }
+
+  /**
+   * Returns the index of the edge travelling the path with the given index in reverse.
+   *
+   * @param pathIndex The path index.
+   * @return The edge index.
+   */
+  public int reverseEdge(int pathIndex) {
+    return pathEdges[2 * pathIndex + 1];
+  }
+
+  /**
+   * Returns the index of the given vertex's first outgoing edge.
+   *
+   * @param vertexId The vertex ID.
+   * @return The edge index.
+   */
+  public int firstOutgoingEdge(int vertexId) {
+    return firstOutgoingEdges[vertexId];
+  }
+
+  /**
+   * Returns the index following the given vertex's last outgoing edge.
+   *
+   * @param vertexId The vertex ID.
+   * @return The edge index.
+   */
+  public int endOfOutgoingEdges(int vertexId) {
+    return firstOutgoingEdges[vertexId + 1];
+  }
+
+  /**
+   * Returns the ID of the given edge's source vertex.
+   *
+   * @param edgeIndex The edge index.
+   * @return The vertex ID.
+   */
+  public int edgeSource(int edgeIndex) {
+    return edgeSources[edgeIndex];
+  }
+
+  /**
+   * Returns the ID of the given edge's target vertex.
+   *
+   * @param edgeIndex The edge index.
+   * @return The vertex ID.
+   */
+  public int edgeTarget(int edgeIndex) {
+    return edgeTargets[edgeIndex];
+  }
+
+  /**
+   * Returns the path the given edge travels.
+   *
+   * @param edgeIndex The edge index.
+   * @return The path.
+   */
+  public Path edgePath(int edgeIndex) {
+    int pathIndex = edgePaths[edgeIndex];
+    return paths[pathIndex < 0 ? ~pathIndex : pathIndex];
+  }
+
+  /**
+   * Checks whether the given edge travels its path in reverse.
+   *
+   * @param edgeIndex The edge index.
+   * @return {@code true} if, and only if, the edge travels its path in reverse.
+   */
+  public boolean isReverseEdge(int edgeIndex) {
+    return edgePaths[edgeIndex] < 0;
+  }
+
+  /**
+   * Returns the given edge as an {@link Edge}, e.g. for evaluating its weight.
+   *
+   * @param edgeIndex The edge index.
+   * @return The edge.
+   */
+  public Edge toEdge(int edgeIndex) {
+    return new Edge(edgePath(edgeIndex), isReverseEdge(edgeIndex));
+  }
+}
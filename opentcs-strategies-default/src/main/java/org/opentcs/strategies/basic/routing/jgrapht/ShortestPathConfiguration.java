@@ -23,7 +23,13 @@ public interface ShortestPathConfiguration {
           "The routing algorithm to be used. Valid values:",
           "'DIJKSTRA': Routes are computed using Dijkstra's algorithm.",
           "'BELLMAN_FORD': Routes are computed using the Bellman-Ford algorithm.",
-          "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm."},
+          "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm.",
+          "'COMPACT_DIJKSTRA': Routes are computed using Dijkstra's algorithm on a compact, "
+              + "array-based routing topology shared by all routing groups, with shortest path "
+              + "trees being cached per source point.",
+          "Only with 'COMPACT_DIJKSTRA', updates of paths (e.g. changes of their lock states) are "
+              + "applied incrementally. With the other algorithms, every update results in copies "
+              + "of the routing graphs and in the point routers being rebuilt."},
       changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
   )
   Algorithm algorithm();
@@ -40,7 +46,10 @@ public interface ShortestPathConfiguration {
           "'HOPS': A route's cost equals the number of paths it consists of.",
           "'BOUNDING_BOX': A route's cost equals 0 if the vehicle's bounding box does not protrude "
               + "beyond _any_ bounding boxes of points along the route. Otherwise, a route's cost "
-              + "is considered infinitely high, resulting in the route to be effectively discarded."
+              + "is considered infinitely high, resulting in the route to be effectively discarded.",
+          "'CONGESTION': A route's cost equals the sum of penalties for resources along the route "
+              + "that are currently allocated or claimed by vehicles or that have recently been "
+              + "traversed. Should be combined with other evaluators, e.g. 'DISTANCE'."
       },
       changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
   )
@@ -61,7 +70,12 @@ public interface ShortestPathConfiguration {
     /**
      * The Floyd-Warshall algorithm.
      */
-    FLOYD_WARSHALL(false);
+    FLOYD_WARSHALL(false),
+    /**
+     * The Dijkstra algorithm working on a compact graph representation, with cached shortest path
+     * trees.
+     */
+    COMPACT_DIJKSTRA(false);
 
     private final boolean handlingNegativeCosts;
 
@@ -4,14 +4,21 @@ package org.opentcs.strategies.basic.routing.jgrapht;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import org.jgrapht.Graph;
 import org.jgrapht.GraphPath;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.SingleSourcePaths;
+import org.jgrapht.graph.MaskSubgraph;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
@@ -26,6 +33,11 @@ import org.slf4j.LoggerFactory;
  * <p>
  * <em>Note that this implementation does not integrate static routes.</em>
  * </p>
+ * <p>
+ * If it is created with the graph it works on, it can provide point routers excluding points and
+ * paths from routing (see {@link #createRestrictedPointRouter(Set, Set)}), as required for
+ * computing alternative routes.
+ * </p>
  */
 public class ShortestPathPointRouter
     implements
@@ -38,26 +50,159 @@ public class ShortestPathPointRouter
 
   private final ShortestPathAlgorithm<Vertex, Edge> algo;
 
-  private final Map<String, Point> points = new HashMap<>();
+  /**
+   * Whether the algorithm may be queried by multiple threads concurrently.
+   */
+  private final boolean algoThreadSafe;
+
+  private final Map<String, Point> points;
+
+  private final Map<String, Vertex> pointVertexMap;
+
+  /**
+   * The graph the algorithm works on, or {@code null}, if not known.
+   */
+  @Nullable
+  private final Graph<Vertex, Edge> graph;
+
+  /**
+   * Provides shortest path algorithms for masked views of the graph, or {@code null}, if not
+   * known.
+   */
+  @Nullable
+  private final Function<Graph<Vertex, Edge>, ShortestPathAlgorithm<Vertex, Edge>> restrictedAlgos;
 
-  private final Map<String, Vertex> pointVertexMap = new HashMap<>();
+  public ShortestPathPointRouter(
+      ShortestPathAlgorithm<Vertex, Edge> algo,
+      Collection<Point> points,
+      Collection<Vertex> vertices
+  ) {
+    this(algo, true, points, vertices);
+  }
 
+  /**
+   * Creates a new instance.
+   *
+   * @param algo The shortest path algorithm.
+   * @param algoThreadSafe Whether the given algorithm may be queried by multiple threads
+   * concurrently. If {@code false}, all queries to the algorithm are serialized.
+   * @param points The points.
+   * @param vertices The vertices of the graph the algorithm works on.
+   */
   public ShortestPathPointRouter(
       ShortestPathAlgorithm<Vertex, Edge> algo,
+      boolean algoThreadSafe,
       Collection<Point> points,
       Collection<Vertex> vertices
   ) {
     this.algo = requireNonNull(algo, "algo");
-    requireNonNull(points, "points");
-    requireNonNull(vertices, "vertexSet");
+    this.algoThreadSafe = algoThreadSafe;
+    this.points = mapPoints(requireNonNull(points, "points"));
+    this.pointVertexMap = mapVertices(requireNonNull(vertices, "vertexSet"));
+    this.graph = null;
+    this.restrictedAlgos = null;
+  }
 
-    for (Point point : points) {
-      this.points.put(point.getName(), point);
-    }
+  /**
+   * Creates a new instance that can provide point routers excluding points and paths from routing.
+   *
+   * @param algo The shortest path algorithm.
+   * @param algoThreadSafe Whether the given algorithm may be queried by multiple threads
+   * concurrently. If {@code false}, all queries to the algorithm are serialized.
+   * @param points The points.
+   * @param graph The graph the algorithm works on. It must not be modified afterwards.
+   * @param restrictedAlgos Provides shortest path algorithms working on masked views of the given
+   * graph. The algorithms provided are only used by a single thread.
+   */
+  public ShortestPathPointRouter(
+      @Nonnull
+      ShortestPathAlgorithm<Vertex, Edge> algo,
+      boolean algoThreadSafe,
+      @Nonnull
+      Collection<Point> points,
+      @Nonnull
+      Graph<Vertex, Edge> graph,
+      @Nonnull
+      Function<Graph<Vertex, Edge>, ShortestPathAlgorithm<Vertex, Edge>> restrictedAlgos
+  ) {
+    this(
+        algo,
+        algoThreadSafe,
+        mapPoints(requireNonNull(points, "points")),
+        mapVertices(requireNonNull(graph, "graph").vertexSet()),
+        graph,
+        requireNonNull(restrictedAlgos, "restrictedAlgos")
+    );
+  }
 
-    for (Vertex vertex : vertices) {
-      pointVertexMap.put(vertex.getPoint().getName(), vertex);
+  private ShortestPathPointRouter(
+      ShortestPathAlgorithm<Vertex, Edge> algo,
+      boolean algoThreadSafe,
+      Map<String, Point> points,
+      Map<String, Vertex> pointVertexMap,
+      Graph<Vertex, Edge> graph,
+      Function<Graph<Vertex, Edge>, ShortestPathAlgorithm<Vertex, Edge>> restrictedAlgos
+  ) {
+    this.algo = algo;
+    this.algoThreadSafe = algoThreadSafe;
+    this.points = points;
+    this.pointVertexMap = pointVertexMap;
+    this.graph = graph;
+    this.restrictedAlgos = restrictedAlgos;
+  }
+
+  /**
+   * Indicates whether this point router can provide point routers excluding points and paths from
+   * routing.
+   *
+   * @return Whether {@link #createRestrictedPointRouter(Set, Set)} is supported.
+   */
+  public boolean isRestrictable() {
+    return graph != null;
+  }
+
+  /**
+   * Returns a point router that works like this one, but excludes the given points and paths (and
+   * all paths leading to or from the given points) from routing.
+   * <p>
+   * The returned point router works on a masked view of this point router's graph, i.e. creating it
+   * does not copy any vertices or edges. It is meant to be used for only a few queries by a single
+   * thread, e.g. for computing a deviation from a previously computed route.
+   * </p>
+   *
+   * @param pointsToExclude The names of the points to exclude.
+   * @param pathsToExclude The names of the paths to exclude.
+   * @return The point router.
+   * @throws IllegalStateException If this point router is not restrictable.
+   * @see #isRestrictable()
+   */
+  public ShortestPathPointRouter createRestrictedPointRouter(
+      @Nonnull
+      Set<String> pointsToExclude,
+      @Nonnull
+      Set<String> pathsToExclude
+  )
+      throws IllegalStateException {
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+    if (!isRestrictable()) {
+      throw new IllegalStateException("Point router was not created with its graph.");
     }
+
+    // Edges with an excluded source or target vertex are masked implicitly.
+    Graph<Vertex, Edge> maskedGraph = new MaskSubgraph<>(
+        graph,
+        vertex -> pointsToExclude.contains(vertex.getPoint().getName()),
+        edge -> pathsToExclude.contains(edge.getPath().getName())
+    );
+    return new ShortestPathPointRouter(
+        restrictedAlgos.apply(maskedGraph),
+        true,
+        points,
+        pointVertexMap,
+        maskedGraph,
+        restrictedAlgos
+    );
   }
 
   @Override
@@ -70,7 +215,7 @@ public class ShortestPathPointRouter
       return new ArrayList<>();
     }
 
-    GraphPath<Vertex, Edge> graphPath = algo.getPath(
+    GraphPath<Vertex, Edge> graphPath = getPath(
         pointVertexMap.get(srcPoint.getName()),
         pointVertexMap.get(destPoint.getName())
     );
@@ -102,7 +247,7 @@ public class ShortestPathPointRouter
       return 0;
     }
 
-    GraphPath<Vertex, Edge> graphPath = algo.getPath(
+    GraphPath<Vertex, Edge> graphPath = getPath(
         pointVertexMap.get(srcPointRef.getName()),
         pointVertexMap.get(destPointRef.getName())
     );
@@ -113,6 +258,98 @@ public class ShortestPathPointRouter
     return (long) graphPath.getWeight();
   }
 
+  @Override
+  public Map<TCSObjectReference<Point>, Long> getCosts(
+      TCSObjectReference<Point> srcPointRef,
+      Set<TCSObjectReference<Point>> destPointRefs
+  ) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRefs, "destPointRefs");
+
+    Map<TCSObjectReference<Point>, Long> result = new HashMap<>();
+    Vertex srcVertex = pointVertexMap.get(srcPointRef.getName());
+    if (srcVertex == null || (graph != null && !graph.containsVertex(srcVertex))) {
+      for (TCSObjectReference<Point> destPointRef : destPointRefs) {
+        result.put(
+            destPointRef,
+            Objects.equals(srcPointRef.getName(), destPointRef.getName()) ? 0 : INFINITE_COSTS
+        );
+      }
+      return result;
+    }
+
+    long timeBefore = System.currentTimeMillis();
+
+    if (algoThreadSafe) {
+      computeCosts(srcVertex, destPointRefs, result);
+    }
+    else {
+      synchronized (algo) {
+        computeCosts(srcVertex, destPointRefs, result);
+      }
+    }
+
+    LOG.debug(
+        "Looking up costs from {} to {} points took {} milliseconds.",
+        srcPointRef.getName(),
+        destPointRefs.size(),
+        System.currentTimeMillis() - timeBefore
+    );
+
+    return result;
+  }
+
+  private GraphPath<Vertex, Edge> getPath(Vertex srcVertex, Vertex destVertex) {
+    if (graph != null && (!graph.containsVertex(srcVertex) || !graph.containsVertex(destVertex))) {
+      // At least one of the points is excluded from routing.
+      return null;
+    }
+    if (algoThreadSafe) {
+      return algo.getPath(srcVertex, destVertex);
+    }
+    synchronized (algo) {
+      return algo.getPath(srcVertex, destVertex);
+    }
+  }
+
+  private void computeCosts(
+      Vertex srcVertex,
+      Set<TCSObjectReference<Point>> destPointRefs,
+      Map<TCSObjectReference<Point>, Long> result
+  ) {
+    // Compute the shortest paths to all destination points at once.
+    SingleSourcePaths<Vertex, Edge> paths = algo.getPaths(srcVertex);
+    for (TCSObjectReference<Point> destPointRef : destPointRefs) {
+      Vertex destVertex = pointVertexMap.get(destPointRef.getName());
+      if (destVertex == null) {
+        result.put(destPointRef, INFINITE_COSTS);
+        continue;
+      }
+
+      double weight = paths.getWeight(destVertex);
+      result.put(
+          destPointRef,
+          weight == Double.POSITIVE_INFINITY ? INFINITE_COSTS : (long) weight
+      );
+    }
+  }
+
+  private static Map<String, Point> mapPoints(Collection<Point> points) {
+    Map<String, Point> result = new HashMap<>();
+    for (Point point : points) {
+      result.put(point.getName(), point);
+    }
+    return result;
+  }
+
+  private static Map<String, Vertex> mapVertices(Collection<Vertex> vertices) {
+    Map<String, Vertex> result = new HashMap<>();
+    for (Vertex vertex : vertices) {
+      result.put(vertex.getPoint().getName(), vertex);
+    }
+    return result;
+  }
+
   private List<Route.Step> translateToSteps(GraphPath<Vertex, Edge> graphPath) {
     List<Edge> edges = graphPath.getEdgeList();
     List<Route.Step> result = new ArrayList<>(edges.size());
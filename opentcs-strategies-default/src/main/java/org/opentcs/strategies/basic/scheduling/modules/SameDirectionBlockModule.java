@@ -17,6 +17,7 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
 import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.components.kernel.services.BlockIndex;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.model.Block;
@@ -80,7 +81,7 @@ public class SameDirectionBlockModule
       return;
     }
 
-    for (Block block : plantModelService.fetch(Block.class)) {
+    for (Block block : plantModelService.getBlockIndex().getBlocks()) {
       if (block.getType() == Block.Type.SAME_DIRECTION_ONLY) {
         permissions.put(block, new BlockPermission(block));
       }
@@ -170,6 +171,12 @@ public class SameDirectionBlockModule
     requireNonNull(resources, "resources");
 
     synchronized (globalSyncObject) {
+      // Determine the blocks the client still holds resources of only once, not for every block.
+      Set<Block> clientBlocks = filterBlocksContainingResources(
+          reservationPool.allocatedResources(client),
+          Block.Type.SAME_DIRECTION_ONLY
+      );
+
       for (Map.Entry<Block, BlockPermission> entry : permissions.entrySet()) {
         Block block = entry.getKey();
         BlockPermission permission = entry.getValue();
@@ -178,7 +185,7 @@ public class SameDirectionBlockModule
           continue;
         }
 
-        if (blockResourcesAllocatedByClient(block, client)) {
+        if (clientBlocks.contains(block)) {
           continue;
         }
 
@@ -198,14 +205,11 @@ public class SameDirectionBlockModule
       Set<TCSResource<?>> resources,
       Block.Type type
   ) {
+    BlockIndex blockIndex = plantModelService.getBlockIndex();
     Set<Block> result = new HashSet<>();
-    Set<Block> blocks = plantModelService.fetch(
-        Block.class,
-        block -> block.getType() == type
-    );
     for (TCSResource<?> resource : resources) {
-      for (Block block : blocks) {
-        if (block.getMembers().contains(resource.getReference())) {
+      for (Block block : blockIndex.getBlocksContaining(resource.getReference())) {
+        if (block.getType() == type) {
           result.add(block);
         }
       }
@@ -242,15 +246,6 @@ public class SameDirectionBlockModule
     return entryPermissible;
   }
 
-  private boolean blockResourcesAllocatedByClient(Block block, Scheduler.Client client) {
-    Set<Block> clientBlocks
-        = filterBlocksContainingResources(
-            reservationPool.allocatedResources(client),
-            Block.Type.SAME_DIRECTION_ONLY
-        );
-    return clientBlocks.contains(block);
-  }
-
   /**
    * Manages the clients that are permitted to drive along a block by considering the direction
    * clients request to enter the block.
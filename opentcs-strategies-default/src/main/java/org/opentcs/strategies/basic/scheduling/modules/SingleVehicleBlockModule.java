@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.components.kernel.services.BlockIndex;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.model.Block;
@@ -155,14 +156,11 @@ public class SingleVehicleBlockModule
       Set<TCSResource<?>> resources,
       Block.Type type
   ) {
+    BlockIndex blockIndex = plantModelService.getBlockIndex();
     Set<Block> result = new HashSet<>();
-    Set<Block> blocks = plantModelService.fetch(
-        Block.class,
-        block -> block.getType() == type
-    );
     for (TCSResource<?> resource : resources) {
-      for (Block block : blocks) {
-        if (block.getMembers().contains(resource.getReference())) {
+      for (Block block : blockIndex.getBlocksContaining(resource.getReference())) {
+        if (block.getType() == type) {
           result.add(block);
         }
       }
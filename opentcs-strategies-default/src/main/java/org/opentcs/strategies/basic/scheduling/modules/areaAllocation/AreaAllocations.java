@@ -3,16 +3,28 @@
 package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
+import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.quadtree.Quadtree;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 
 /**
  * A container for keeping track of areas allocated by vehicles.
+ * <p>
+ * The individual geometries of all allocated areas are kept in a spatial index, so that checking
+ * whether requested areas are allowed to be allocated only requires exact intersection tests with
+ * allocated geometries whose bounding boxes overlap those of the requested ones.
+ * </p>
  */
 public class AreaAllocations
     implements
@@ -20,6 +32,15 @@ public class AreaAllocations
 
   private final Map<TCSObjectReference<Vehicle>, GeometryCollection> allocatedAreasByVehicles
       = new HashMap<>();
+  /**
+   * The entries in the spatial index, by vehicle.
+   */
+  private final Map<TCSObjectReference<Vehicle>, List<AllocatedGeometry>> indexEntriesByVehicles
+      = new HashMap<>();
+  /**
+   * A spatial index of the individual geometries of all allocated areas.
+   */
+  private Quadtree allocatedGeometriesIndex = new Quadtree();
   private boolean initialized = false;
 
   @Inject
@@ -56,6 +77,8 @@ public class AreaAllocations
    */
   public void clearAreaAllocations() {
     allocatedAreasByVehicles.clear();
+    indexEntriesByVehicles.clear();
+    allocatedGeometriesIndex = new Quadtree();
   }
 
   /**
@@ -69,7 +92,23 @@ public class AreaAllocations
       TCSObjectReference<Vehicle> vehicleRef,
       GeometryCollection allocatedAreas
   ) {
-    allocatedAreasByVehicles.put(vehicleRef, allocatedAreas);
+    GeometryCollection previousAllocatedAreas = allocatedAreasByVehicles.put(
+        vehicleRef,
+        allocatedAreas
+    );
+    if (previousAllocatedAreas == allocatedAreas) {
+      // The index already contains exactly these areas.
+      return;
+    }
+
+    removeFromIndex(vehicleRef);
+    List<AllocatedGeometry> indexEntries = new ArrayList<>();
+    forEachElement(allocatedAreas, geometry -> {
+      AllocatedGeometry entry = new AllocatedGeometry(vehicleRef, geometry);
+      allocatedGeometriesIndex.insert(geometry.getEnvelopeInternal(), entry);
+      indexEntries.add(entry);
+    });
+    indexEntriesByVehicles.put(vehicleRef, indexEntries);
   }
 
   /**
@@ -79,6 +118,7 @@ public class AreaAllocations
    */
   public void clearAreaAllocation(TCSObjectReference<Vehicle> vehicleRef) {
     allocatedAreasByVehicles.remove(vehicleRef);
+    removeFromIndex(vehicleRef);
   }
 
   /**
@@ -94,9 +134,69 @@ public class AreaAllocations
       TCSObjectReference<Vehicle> vehicleRef,
       GeometryCollection requestedAreas
   ) {
-    return allocatedAreasByVehicles.entrySet().stream()
+    List<Geometry> requestedGeometries = new ArrayList<>();
+    forEachElement(requestedAreas, requestedGeometries::add);
+
+    for (Geometry requestedGeometry : requestedGeometries) {
+      PreparedGeometry preparedGeometry = null;
+      for (Object candidate : allocatedGeometriesIndex.query(
+          requestedGeometry.getEnvelopeInternal()
+      )) {
+        AllocatedGeometry allocatedGeometry = (AllocatedGeometry) candidate;
         // Only check areas allocated by vehicles other than the given vehicle.
-        .filter(entry -> !Objects.equals(entry.getKey(), vehicleRef))
-        .noneMatch(entry -> entry.getValue().intersects(requestedAreas));
+        if (Objects.equals(allocatedGeometry.vehicleRef(), vehicleRef)
+            || !allocatedGeometry.geometry().getEnvelopeInternal()
+                .intersects(requestedGeometry.getEnvelopeInternal())) {
+          continue;
+        }
+
+        if (preparedGeometry == null) {
+          preparedGeometry = PreparedGeometryFactory.prepare(requestedGeometry);
+        }
+        if (preparedGeometry.intersects(allocatedGeometry.geometry())) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  private void removeFromIndex(TCSObjectReference<Vehicle> vehicleRef) {
+    List<AllocatedGeometry> indexEntries = indexEntriesByVehicles.remove(vehicleRef);
+    if (indexEntries == null) {
+      return;
+    }
+
+    for (AllocatedGeometry entry : indexEntries) {
+      allocatedGeometriesIndex.remove(entry.geometry().getEnvelopeInternal(), entry);
+    }
+  }
+
+  /**
+   * Applies the given action to all non-empty elements of the given geometry, descending into
+   * nested geometry collections.
+   */
+  private void forEachElement(Geometry geometry, Consumer<Geometry> action) {
+    if (geometry instanceof GeometryCollection collection) {
+      for (int i = 0; i < collection.getNumGeometries(); i++) {
+        forEachElement(collection.getGeometryN(i), action);
+      }
+    }
+    else if (!geometry.isEmpty()) {
+      action.accept(geometry);
+    }
+  }
+
+  /**
+   * An (indexed) element of the areas allocated by a vehicle.
+   *
+   * @param vehicleRef The vehicle that allocated the geometry.
+   * @param geometry The geometry.
+   */
+  private record AllocatedGeometry(
+      TCSObjectReference<Vehicle> vehicleRef,
+      Geometry geometry
+  ) {
   }
 }
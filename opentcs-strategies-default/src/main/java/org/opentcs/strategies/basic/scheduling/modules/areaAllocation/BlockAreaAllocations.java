@@ -6,23 +6,17 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.BlockIndex;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
-import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Block;
-import org.opentcs.data.model.Location;
-import org.opentcs.data.model.Path;
-import org.opentcs.data.model.Point;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.data.model.Vehicle;
@@ -37,7 +31,6 @@ public class BlockAreaAllocations
 
   private final AreaProvider areaProvider;
   private final InternalPlantModelService plantModelService;
-  private final BlockStore blockStore = new BlockStore();
   private boolean initialized = false;
 
   /**
@@ -61,8 +54,6 @@ public class BlockAreaAllocations
       return;
     }
 
-    blockStore.init();
-
     initialized = true;
   }
 
@@ -77,8 +68,6 @@ public class BlockAreaAllocations
       return;
     }
 
-    blockStore.clear();
-
     initialized = false;
   }
 
@@ -113,7 +102,12 @@ public class BlockAreaAllocations
     requireNonNull(envelopeKey, "envelopeKey");
     requireNonNull(resources, "resources");
 
-    Set<Block> requestedBlocks = blockStore.getBlocksContainingResources(resources);
+    BlockIndex blockIndex = plantModelService.getBlockIndex();
+    Set<Block> requestedBlocks = blockIndex.getBlocksContaining(
+        resources.stream()
+            .map(TCSResource::getReference)
+            .collect(Collectors.toSet())
+    );
 
     Set<Vehicle> otherVehicles = plantModelService.fetch(
         Vehicle.class,
@@ -122,7 +116,11 @@ public class BlockAreaAllocations
     );
 
     for (Vehicle otherVehicle : otherVehicles) {
-      Set<Block> occupiedBlocks = blockStore.getBlocksOccupiedBy(otherVehicle);
+      Set<Block> occupiedBlocks = blockIndex.getBlocksContaining(
+          otherVehicle.getAllocatedResources().stream()
+              .flatMap(Set::stream)
+              .collect(Collectors.toSet())
+      );
 
       // Skip checks of combinations where none of the vehicles are in any block, as these checks
       // are expected to be performed elsewhere.
@@ -211,74 +209,4 @@ public class BlockAreaAllocations
   private boolean containedInBlocks(TCSResource<?> resource, Set<Block> blocks) {
     return blocks.stream().anyMatch(block -> block.getMembers().contains(resource.getReference()));
   }
-
-  /**
-   * A local store for information on blocks and their members.
-   */
-  private class BlockStore {
-
-    private final Map<Block, Set<TCSObject<?>>> resourcesByBlocks = new HashMap<>();
-
-    BlockStore() {
-    }
-
-    public void init() {
-      for (Block block : plantModelService.fetch(Block.class)) {
-        resourcesByBlocks.put(
-            block,
-            block.getMembers().stream()
-                .map(this::toTcsObject)
-                .collect(Collectors.toUnmodifiableSet())
-        );
-      }
-    }
-
-    public void clear() {
-      resourcesByBlocks.clear();
-    }
-
-    public Set<Block> getBlocksOccupiedBy(Vehicle vehicle) {
-      return getBlocksContainingResourceReferences(
-          vehicle.getAllocatedResources().stream()
-              .flatMap(Set::stream)
-              .collect(Collectors.toSet())
-      );
-    }
-
-    public Set<Block> getBlocksContainingResources(Set<TCSResource<?>> resources) {
-      return resourcesByBlocks.entrySet().stream()
-          .filter(entry -> !Collections.disjoint(entry.getValue(), resources))
-          .map(Map.Entry::getKey)
-          .collect(Collectors.toSet());
-    }
-
-    @SuppressWarnings("unchecked")
-    private TCSObject<?> toTcsObject(TCSResourceReference<?> resourceRef) {
-      if (resourceRef.getReferentClass() == Point.class) {
-        return plantModelService.fetch(Point.class, (TCSObjectReference<Point>) resourceRef)
-            .orElseThrow();
-      }
-      else if (resourceRef.getReferentClass() == Path.class) {
-        return plantModelService.fetch(Path.class, (TCSObjectReference<Path>) resourceRef)
-            .orElseThrow();
-      }
-      else if (resourceRef.getReferentClass() == Location.class) {
-        return plantModelService.fetch(
-            Location.class,
-            (TCSObjectReference<Location>) resourceRef
-        ).orElseThrow();
-      }
-      else {
-        throw new IllegalArgumentException("Unsupported resource type: " + resourceRef);
-      }
-    }
-
-    private Set<Block> getBlocksContainingResourceReferences(
-        Set<TCSResourceReference<?>> resources
-    ) {
-      return resourcesByBlocks.keySet().stream()
-          .filter(block -> !Collections.disjoint(block.getMembers(), resources))
-          .collect(Collectors.toSet());
-    }
-  }
 }
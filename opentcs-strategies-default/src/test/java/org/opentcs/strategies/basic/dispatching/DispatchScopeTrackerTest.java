@@ -0,0 +1,133 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.TimeProvider;
+import org.opentcs.util.event.EventBus;
+
+/**
+ * Tests for {@link DispatchScopeTracker}.
+ */
+class DispatchScopeTrackerTest {
+
+  private EventBus eventBus;
+  private DefaultDispatcherConfiguration configuration;
+  private TimeProvider timeProvider;
+  private DispatchScopeTracker tracker;
+
+  @BeforeEach
+  void setUp() {
+    eventBus = mock();
+    configuration = mock();
+    timeProvider = mock();
+    when(configuration.incrementalDispatching()).thenReturn(true);
+    when(configuration.fullDispatchInterval()).thenReturn(10000L);
+    when(timeProvider.getCurrentTimeEpochMillis()).thenReturn(100000L);
+    tracker = new DispatchScopeTracker(eventBus, configuration, timeProvider);
+    tracker.initialize();
+  }
+
+  @Test
+  void useFullScopeIfIncrementalDispatchingDisabled() {
+    when(configuration.incrementalDispatching()).thenReturn(false);
+    tracker.beginRun();
+
+    assertThat(tracker.beginRun().isFull(), is(true));
+  }
+
+  @Test
+  void doNotSubscribeToEventsIfIncrementalDispatchingDisabled() {
+    when(configuration.incrementalDispatching()).thenReturn(false);
+    DispatchScopeTracker otherTracker
+        = new DispatchScopeTracker(eventBus, configuration, timeProvider);
+    otherTracker.initialize();
+
+    verify(eventBus, never()).subscribe(otherTracker);
+  }
+
+  @Test
+  void useFullScopeForFirstRun() {
+    assertThat(tracker.beginRun().isFull(), is(true));
+  }
+
+  @Test
+  void coverOnlyPairingsWithChangedVehiclesOrOrders() {
+    Vehicle changedVehicle = new Vehicle("changedVehicle");
+    Vehicle otherVehicle = new Vehicle("otherVehicle");
+    TransportOrder changedOrder = new TransportOrder("changedOrder", List.of());
+    TransportOrder otherOrder = new TransportOrder("otherOrder", List.of());
+    tracker.beginRun();
+
+    tracker.onEvent(modified(changedVehicle));
+    tracker.onEvent(modified(changedOrder));
+    DispatchScope scope = tracker.beginRun();
+
+    assertThat(scope.isFull(), is(false));
+    assertThat(scope.covers(changedVehicle, otherOrder), is(true));
+    assertThat(scope.covers(otherVehicle, changedOrder), is(true));
+    assertThat(scope.covers(otherVehicle, otherOrder), is(false));
+    assertThat(scope.coversAllPairingsOf(changedOrder), is(true));
+    assertThat(scope.coversAllPairingsOf(otherOrder), is(false));
+  }
+
+  @Test
+  void useEmptyScopeIfNothingChanged() {
+    tracker.beginRun();
+
+    assertThat(tracker.beginRun().isEmpty(), is(true));
+  }
+
+  @Test
+  void addChangesDuringRunToCurrentAndNextScope() {
+    Vehicle vehicle = new Vehicle("vehicle");
+    TransportOrder order = new TransportOrder("order", List.of());
+    tracker.beginRun();
+    DispatchScope currentScope = tracker.beginRun();
+
+    tracker.onEvent(modified(vehicle));
+
+    assertThat(currentScope.covers(vehicle, order), is(true));
+    assertThat(tracker.beginRun().covers(vehicle, order), is(true));
+  }
+
+  @Test
+  void useFullScopeAfterPlantModelChange() {
+    tracker.beginRun();
+
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    tracker.onEvent(modified(new Path("A --> B", pointA.getReference(), pointB.getReference())));
+
+    assertThat(tracker.beginRun().isFull(), is(true));
+  }
+
+  @Test
+  void useFullScopeAfterFullDispatchInterval() {
+    tracker.beginRun();
+    assertThat(tracker.beginRun().isFull(), is(false));
+
+    when(timeProvider.getCurrentTimeEpochMillis()).thenReturn(110000L);
+
+    assertThat(tracker.beginRun().isFull(), is(true));
+  }
+
+  private TCSObjectEvent modified(TCSObject<?> object) {
+    return new TCSObjectEvent(object, object, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+}
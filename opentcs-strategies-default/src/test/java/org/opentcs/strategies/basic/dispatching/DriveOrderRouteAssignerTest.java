@@ -5,10 +5,13 @@ package org.opentcs.strategies.basic.dispatching;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.components.kernel.RouteSelector;
@@ -24,14 +27,16 @@ import org.opentcs.data.order.TransportOrder;
  */
 class DriveOrderRouteAssignerTest {
 
+  private Router router;
   private RouteSelector routeSelector;
   private DriveOrderRouteAssigner assigner;
 
   @BeforeEach
   void setUp() {
-    Router router = mock();
+    router = mock();
     routeSelector = mock();
     DefaultDispatcherConfiguration configuration = mock();
+    when(configuration.maxRoutesToConsider()).thenReturn(1);
     assigner = new DriveOrderRouteAssigner(router, routeSelector, configuration);
   }
 
@@ -75,6 +80,22 @@ class DriveOrderRouteAssignerTest {
     assertThat(result).isEmpty();
   }
 
+  @Test
+  void computeRoutesRightAwayWhenPreparingWithOtherRouters() {
+    Point pointA = new Point("A");
+    TransportOrder order = new TransportOrder(
+        "order",
+        List.of(new DriveOrder("driveOrder", new DriveOrder.Destination(pointA.getReference())))
+    );
+    Vehicle vehicle = new Vehicle("vehicle");
+    when(router.getRoutes(vehicle, pointA, order, 1)).thenReturn(Set.of(List.of(routeTo(pointA))));
+
+    Supplier<Set<List<Route>>> routes = assigner.prepareRoutes(order, vehicle, pointA);
+    verify(router).getRoutes(vehicle, pointA, order, 1);
+
+    assertThat(routes.get()).containsExactly(List.of(routeTo(pointA)));
+  }
+
   private Route routeTo(Point point) {
     return new Route(
         List.of(
@@ -5,6 +5,7 @@ package org.opentcs.strategies.basic.dispatching.phase;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -91,7 +92,7 @@ public class TargetedPointsSupplierTest {
         )
     ).withState(TransportOrder.State.BEING_PROCESSED);
 
-    when(objectService.stream(eq(TransportOrder.class)))
+    when(objectService.stream(eq(TransportOrder.class), any()))
         .thenReturn(Stream.of(order1, order2));
 
     Set<Point> targetedPoints = targetedPointsSupplier.getTargetedPoints();
@@ -0,0 +1,68 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+
+/**
+ * Tests for {@link CandidateComputationPool}.
+ */
+class CandidateComputationPoolTest {
+
+  private DefaultDispatcherConfiguration configuration;
+  private CandidateComputationPool pool;
+
+  @BeforeEach
+  void setUp() {
+    configuration = mock();
+    when(configuration.candidateComputationParallelism()).thenReturn(4);
+    pool = new CandidateComputationPool(configuration);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.terminate();
+  }
+
+  @Test
+  void computeSequentiallyIfParallelComputationDisabled() {
+    when(configuration.parallelCandidateComputation()).thenReturn(false);
+    pool.initialize();
+
+    assertThat(pool.isParallel(), is(false));
+    assertThat(pool.map(List.of(1, 2, 3), value -> value * 2), is(List.of(2, 4, 6)));
+  }
+
+  @Test
+  void preserveElementOrderWhenComputingInParallel() {
+    when(configuration.parallelCandidateComputation()).thenReturn(true);
+    pool.initialize();
+
+    List<Integer> elements = IntStream.range(0, 1000).boxed().toList();
+
+    assertThat(pool.isParallel(), is(true));
+    assertThat(
+        pool.map(elements, value -> value * 2),
+        is(elements.stream().map(value -> value * 2).toList())
+    );
+  }
+
+  @Test
+  void computeSequentiallyAfterTermination() {
+    when(configuration.parallelCandidateComputation()).thenReturn(true);
+    pool.initialize();
+    pool.terminate();
+
+    assertThat(pool.isParallel(), is(false));
+  }
+}
@@ -0,0 +1,157 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.opentcs.strategies.basic.dispatching.phase.assignment.MinCostAssignmentSolver.INFEASIBLE;
+import static org.opentcs.strategies.basic.dispatching.phase.assignment.MinCostAssignmentSolver.UNASSIGNED;
+
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MinCostAssignmentSolver}.
+ */
+class MinCostAssignmentSolverTest {
+
+  private static final long NO_DEADLINE = System.nanoTime() + 3_600_000_000_000L;
+
+  @Test
+  void preferGlobalOptimumOverGreedyChoice() {
+    // Greedily assigning column 0 to row 0 would force row 1 to take column 1 (total: 1 + 100).
+    long[][] costs = {
+        {1, 2},
+        {2, 100}
+    };
+
+    assertThat(MinCostAssignmentSolver.solve(costs, NO_DEADLINE).get(), is(new int[]{1, 0}));
+  }
+
+  @Test
+  void leaveRowsUnassignedIfThereAreMoreRowsThanColumns() {
+    long[][] costs = {
+        {5},
+        {3},
+        {4}
+    };
+
+    assertThat(
+        MinCostAssignmentSolver.solve(costs, NO_DEADLINE).get(),
+        is(new int[]{UNASSIGNED, 0, UNASSIGNED})
+    );
+  }
+
+  @Test
+  void neverAssignInfeasiblePairs() {
+    long[][] costs = {
+        {INFEASIBLE, INFEASIBLE},
+        {INFEASIBLE, 7}
+    };
+
+    assertThat(
+        MinCostAssignmentSolver.solve(costs, NO_DEADLINE).get(),
+        is(new int[]{UNASSIGNED, 1})
+    );
+  }
+
+  @Test
+  void maximizeNumberOfAssignmentsBeforeMinimizingCosts() {
+    // Assigning column 0 to row 0 would be cheapest, but would leave row 1 unassigned.
+    long[][] costs = {
+        {1, 1000},
+        {50, INFEASIBLE}
+    };
+
+    assertThat(MinCostAssignmentSolver.solve(costs, NO_DEADLINE).get(), is(new int[]{1, 0}));
+  }
+
+  @Test
+  void handleEmptyMatrices() {
+    assertThat(MinCostAssignmentSolver.solve(new long[0][0], NO_DEADLINE).get(), is(new int[0]));
+    assertThat(
+        MinCostAssignmentSolver.solve(new long[2][0], NO_DEADLINE).get(),
+        is(new int[]{UNASSIGNED, UNASSIGNED})
+    );
+  }
+
+  @Test
+  void returnEmptyResultIfDeadlineExceeded() {
+    long[][] costs = {
+        {1, 2},
+        {2, 1}
+    };
+
+    assertThat(
+        MinCostAssignmentSolver.solve(costs, System.nanoTime() - 1),
+        is(Optional.empty())
+    );
+  }
+
+  @Test
+  void matchBruteForceSolutionsForRandomMatrices() {
+    Random random = new Random(42);
+    for (int run = 0; run < 500; run++) {
+      int rowCount = 1 + random.nextInt(5);
+      int columnCount = 1 + random.nextInt(5);
+      long[][] costs = new long[rowCount][columnCount];
+      for (int row = 0; row < rowCount; row++) {
+        for (int column = 0; column < columnCount; column++) {
+          costs[row][column] = random.nextInt(4) == 0 ? INFEASIBLE : random.nextInt(1000);
+        }
+      }
+
+      int[] solution = MinCostAssignmentSolver.solve(costs, NO_DEADLINE).get();
+      long[] expected = bruteForce(costs, 0, new boolean[columnCount]);
+
+      assertThat(assignmentCount(solution), is(expected[0]));
+      assertThat(totalCosts(costs, solution), is(expected[1]));
+    }
+  }
+
+  private static long assignmentCount(int[] solution) {
+    long count = 0;
+    for (int column : solution) {
+      if (column != UNASSIGNED) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static long totalCosts(long[][] costs, int[] solution) {
+    long total = 0;
+    for (int row = 0; row < solution.length; row++) {
+      if (solution[row] != UNASSIGNED) {
+        total += costs[row][solution[row]];
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Returns the maximum number of assignments and the minimum costs for that number.
+   */
+  private static long[] bruteForce(long[][] costs, int row, boolean[] usedColumns) {
+    if (row == costs.length) {
+      return new long[]{0, 0};
+    }
+
+    long[] best = bruteForce(costs, row + 1, usedColumns);
+    for (int column = 0; column < usedColumns.length; column++) {
+      if (usedColumns[column] || costs[row][column] == INFEASIBLE) {
+        continue;
+      }
+      usedColumns[column] = true;
+      long[] rest = bruteForce(costs, row + 1, usedColumns);
+      usedColumns[column] = false;
+      long count = rest[0] + 1;
+      long total = rest[1] + costs[row][column];
+      if (count > best[0] || (count == best[0] && total < best[1])) {
+        best = new long[]{count, total};
+      }
+    }
+    return best;
+  }
+}
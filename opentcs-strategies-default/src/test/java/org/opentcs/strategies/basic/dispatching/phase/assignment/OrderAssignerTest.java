@@ -0,0 +1,386 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.InternalTCSObjectService;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.ObjectPropConstants;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration.AssignmentStrategy;
+import org.opentcs.strategies.basic.dispatching.DriveOrderRouteAssigner;
+import org.opentcs.strategies.basic.dispatching.LowestCostRouteSelector;
+import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
+import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.candidate.CandidateComparatorByCompleteRoutingCosts;
+import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
+import org.opentcs.strategies.basic.routing.DefaultRouter;
+import org.opentcs.strategies.basic.routing.DefaultRouterConfiguration;
+import org.opentcs.strategies.basic.routing.DefaultRoutingGroupMapper;
+import org.opentcs.strategies.basic.routing.PointRouterFactory;
+import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorCongestion;
+import org.opentcs.strategies.basic.routing.jgrapht.CompactPointRouter;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.PointRouterProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.RoutingTopology;
+
+/**
+ * Tests for {@link OrderAssigner}.
+ */
+class OrderAssignerTest {
+
+  private static final int VEHICLE_COUNT = 5;
+  private static final int ORDER_COUNT = 8;
+
+  private DefaultDispatcherConfiguration configuration;
+  private TransportOrderUtil transportOrderUtil;
+  private CandidateComputationPool candidateComputationPool;
+  private OrderAssigner orderAssigner;
+  private List<Vehicle> vehicles;
+  private List<TransportOrder> orders;
+  private List<String> assignments;
+  private List<Thread> filteringThreads;
+
+  @BeforeEach
+  void setUp() {
+    Point point = new Point("point");
+    vehicles = IntStream.range(0, VEHICLE_COUNT)
+        .mapToObj(i -> new Vehicle("vehicle" + i).withCurrentPosition(point.getReference()))
+        .toList();
+    orders = IntStream.range(0, ORDER_COUNT)
+        .mapToObj(
+            i -> new TransportOrder(
+                "order" + i,
+                List.of(
+                    new DriveOrder(
+                        "driveOrder" + i,
+                        new DriveOrder.Destination(point.getReference())
+                    )
+                )
+            )
+        )
+        .toList();
+
+    configuration = mock();
+    when(configuration.orderCandidatePriorities())
+        .thenReturn(List.of(CandidateComparatorByCompleteRoutingCosts.CONFIGURATION_KEY));
+    when(configuration.vehicleCandidatePriorities())
+        .thenReturn(List.of(CandidateComparatorByCompleteRoutingCosts.CONFIGURATION_KEY));
+    when(configuration.candidateComputationParallelism()).thenReturn(4);
+    when(configuration.globalAssignmentTimeBudget()).thenReturn(60000L);
+
+    TCSObjectService objectService = mock();
+    when(objectService.fetch(eq(Point.class), any(TCSObjectReference.class)))
+        .thenReturn(Optional.of(point));
+
+    Router router = mock();
+    when(
+        router.getRoutes(
+            any(Vehicle.class),
+            any(Point.class),
+            any(TransportOrder.class),
+            anyInt()
+        )
+    )
+        .thenAnswer(
+            invocation -> Set.of(
+                List.of(
+                    createRoute(
+                        point,
+                        costs(
+                            invocation.getArgument(0, Vehicle.class),
+                            invocation.getArgument(2, TransportOrder.class)
+                        )
+                    )
+                )
+            )
+        );
+    DriveOrderRouteAssigner driveOrderRouteAssigner
+        = new DriveOrderRouteAssigner(router, new LowestCostRouteSelector(), configuration);
+
+    // A filter that is not thread-safe, rejecting some of the candidates.
+    filteringThreads = Collections.synchronizedList(new ArrayList<>());
+    CompositeAssignmentCandidateSelectionFilter selectionFilter
+        = new CompositeAssignmentCandidateSelectionFilter(Set.of(candidate -> {
+          filteringThreads.add(Thread.currentThread());
+          return costs(candidate) % 5 == 0 ? List.of("costs divisible by 5") : List.of();
+        }));
+
+    assignments = Collections.synchronizedList(new ArrayList<>());
+    transportOrderUtil = mock();
+    doAnswer(invocation -> {
+      assignments.add(
+          invocation.getArgument(0, Vehicle.class).getName()
+              + "->" + invocation.getArgument(1, TransportOrder.class).getName()
+      );
+      return null;
+    }).when(transportOrderUtil).assignTransportOrder(any(), any(), any());
+
+    candidateComputationPool = new CandidateComputationPool(configuration);
+    orderAssigner = createOrderAssigner(objectService, selectionFilter, driveOrderRouteAssigner);
+  }
+
+  @AfterEach
+  void tearDown() {
+    candidateComputationPool.terminate();
+  }
+
+  @Test
+  void makeSameGreedyAssignmentsWithParallelCandidateComputation() {
+    when(configuration.assignmentStrategy()).thenReturn(AssignmentStrategy.GREEDY);
+
+    List<String> sequentialAssignments = assign(false);
+    List<String> parallelAssignments = assign(true);
+
+    assertThat(sequentialAssignments.isEmpty(), is(false));
+    assertThat(parallelAssignments, is(sequentialAssignments));
+  }
+
+  @Test
+  void makeSameGlobalAssignmentsWithParallelCandidateComputation() {
+    when(configuration.assignmentStrategy()).thenReturn(AssignmentStrategy.GLOBAL_MIN_COST);
+
+    List<String> sequentialAssignments = assign(false);
+    List<String> parallelAssignments = assign(true);
+
+    assertThat(sequentialAssignments.isEmpty(), is(false));
+    assertThat(parallelAssignments, is(sequentialAssignments));
+  }
+
+  @Test
+  void applySelectionFiltersInCallingThreadWithParallelCandidateComputation() {
+    when(configuration.assignmentStrategy()).thenReturn(AssignmentStrategy.GREEDY);
+
+    assign(true);
+
+    assertThat(filteringThreads.isEmpty(), is(false));
+    assertThat(filteringThreads, everyItem(is(Thread.currentThread())));
+  }
+
+  @Test
+  void computeCandidatesInParallelWithDefaultRouterWhileHoldingGlobalLock() {
+    when(configuration.assignmentStrategy()).thenReturn(AssignmentStrategy.GREEDY);
+    when(configuration.maxRoutesToConsider()).thenReturn(1);
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Point pointC = new Point("C");
+    List<Path> paths = List.of(
+        new Path("A --> B", pointA.getReference(), pointB.getReference()),
+        new Path("A --> C", pointA.getReference(), pointC.getReference()),
+        new Path("C --> B", pointC.getReference(), pointB.getReference())
+    );
+    List<Vehicle> vehiclesAtA = vehicles.stream()
+        .map(vehicle -> vehicle.withCurrentPosition(pointA.getReference()))
+        .toList();
+    List<TransportOrder> ordersToB = IntStream.range(0, ORDER_COUNT)
+        .mapToObj(
+            i -> new TransportOrder(
+                "order" + i,
+                List.of(
+                    new DriveOrder(
+                        "driveOrder" + i,
+                        new DriveOrder.Destination(pointB.getReference())
+                            .withOperation(DriveOrder.Destination.OP_MOVE)
+                    )
+                )
+            ).withProperty(
+                ObjectPropConstants.TRANSPORT_ORDER_RESOURCES_TO_AVOID,
+                i % 2 == 0 ? "A --> B" : "C"
+            )
+        )
+        .toList();
+
+    // Like the kernel's object service, grant access to the model only to threads holding the
+    // global lock.
+    Object globalSyncObject = new Object();
+    InternalTCSObjectService objectService = mock();
+    when(objectService.fetch(eq(Point.class), any(TCSObjectReference.class)))
+        .thenAnswer(lockedLookup(globalSyncObject, List.of(pointA, pointB, pointC)));
+    when(objectService.fetch(eq(Point.class), anyString()))
+        .thenAnswer(lockedLookup(globalSyncObject, List.of(pointA, pointB, pointC)));
+    when(objectService.fetch(eq(Path.class), anyString()))
+        .thenAnswer(lockedLookup(globalSyncObject, paths));
+    when(objectService.fetch(eq(Location.class), anyString()))
+        .thenAnswer(lockedLookup(globalSyncObject, List.of()));
+
+    RoutingTopology topology = new RoutingTopology(List.of(pointA, pointB, pointC), paths);
+    double[] edgeWeights = new double[topology.getEdgeCount()];
+    Arrays.fill(edgeWeights, Double.POSITIVE_INFINITY);
+    for (Path path : paths) {
+      edgeWeights[topology.forwardEdge(topology.pathIndex(path.getName()))] = 10;
+    }
+    PointRouterFactory pointRouterFactory = mock();
+    when(pointRouterFactory.createPointRouter(any(Vehicle.class), anySet(), anySet()))
+        .thenAnswer(
+            invocation -> new CompactPointRouter(topology, edgeWeights).withExclusions(
+                names(invocation.getArgument(1)),
+                names(invocation.getArgument(2))
+            )
+        );
+    DefaultRouterConfiguration routerConfiguration = mock();
+    when(routerConfiguration.avoidancePointRouterCacheSize()).thenReturn(10);
+    when(routerConfiguration.routeComputationLimit()).thenReturn(1);
+    DefaultRouter router = new DefaultRouter(
+        objectService,
+        new PointRouterProvider(
+            objectService,
+            new ResourceAvoidanceExtractor(objectService),
+            new DefaultRoutingGroupMapper(),
+            pointRouterFactory,
+            mock(GraphProvider.class),
+            routerConfiguration
+        ),
+        new DefaultRoutingGroupMapper(),
+        routerConfiguration,
+        mock(EdgeEvaluatorCongestion.class),
+        mock(),
+        mock(),
+        globalSyncObject
+    );
+    orderAssigner = createOrderAssigner(
+        objectService,
+        new CompositeAssignmentCandidateSelectionFilter(Set.of()),
+        new DriveOrderRouteAssigner(router, new LowestCostRouteSelector(), configuration)
+    );
+    candidateComputationPool.terminate();
+    when(configuration.parallelCandidateComputation()).thenReturn(true);
+    candidateComputationPool.initialize();
+
+    assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+      synchronized (globalSyncObject) {
+        orderAssigner.tryAssignments(vehiclesAtA, ordersToB);
+      }
+    });
+
+    assertThat(assignments, hasSize(VEHICLE_COUNT));
+  }
+
+  private OrderAssigner createOrderAssigner(
+      TCSObjectService objectService,
+      CompositeAssignmentCandidateSelectionFilter selectionFilter,
+      DriveOrderRouteAssigner driveOrderRouteAssigner
+  ) {
+    return new OrderAssigner(
+        objectService,
+        new OrderReservationPool(),
+        new CompositeVehicleComparator(configuration, Map.of()),
+        new CompositeOrderComparator(configuration, Map.of()),
+        new CompositeOrderCandidateComparator(
+            configuration,
+            Map.of(
+                CandidateComparatorByCompleteRoutingCosts.CONFIGURATION_KEY,
+                new CandidateComparatorByCompleteRoutingCosts()
+            )
+        ),
+        new CompositeVehicleCandidateComparator(
+            configuration,
+            Map.of(
+                CandidateComparatorByCompleteRoutingCosts.CONFIGURATION_KEY,
+                new CandidateComparatorByCompleteRoutingCosts()
+            )
+        ),
+        selectionFilter,
+        transportOrderUtil,
+        mock(DispatchingStatusMarker.class),
+        driveOrderRouteAssigner,
+        candidateComputationPool,
+        new GlobalAssignmentStatistics(),
+        configuration
+    );
+  }
+
+  private List<String> assign(boolean parallel) {
+    candidateComputationPool.terminate();
+    when(configuration.parallelCandidateComputation()).thenReturn(parallel);
+    candidateComputationPool.initialize();
+    assignments.clear();
+
+    orderAssigner.tryAssignments(vehicles, orders);
+
+    return List.copyOf(assignments);
+  }
+
+  private static Route createRoute(Point point, long costs) {
+    return new Route(
+        List.of(new Route.Step(null, point, point, Vehicle.Orientation.FORWARD, 0, costs))
+    );
+  }
+
+  /**
+   * Looks up objects by their name (or reference) while holding the given lock.
+   */
+  private static Answer<Optional<?>> lockedLookup(
+      Object lock,
+      Collection<? extends TCSObject<?>> objects
+  ) {
+    return invocation -> {
+      Object nameOrRef = invocation.getArgument(1);
+      String name = nameOrRef instanceof TCSObjectReference<?> ref
+          ? ref.getName()
+          : (String) nameOrRef;
+      synchronized (lock) {
+        return objects.stream()
+            .filter(object -> object.getName().equals(name))
+            .findFirst();
+      }
+    };
+  }
+
+  private static Set<String> names(Set<? extends TCSObject<?>> objects) {
+    return objects.stream().map(TCSObject::getName).collect(Collectors.toSet());
+  }
+
+  private static long costs(AssignmentCandidate candidate) {
+    return costs(candidate.getVehicle(), candidate.getTransportOrder());
+  }
+
+  private static long costs(Vehicle vehicle, TransportOrder order) {
+    int vehicleIndex = Integer.parseInt(vehicle.getName().substring("vehicle".length()));
+    int orderIndex = Integer.parseInt(order.getName().substring("order".length()));
+    return 1 + (vehicleIndex * 7 + orderIndex * 3) % 11;
+  }
+}
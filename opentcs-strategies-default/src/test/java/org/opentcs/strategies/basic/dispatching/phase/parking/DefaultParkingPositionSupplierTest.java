@@ -6,13 +6,19 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -21,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.opentcs.components.kernel.Dispatcher;
+import org.opentcs.components.kernel.RouteSelector;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.data.model.Block;
@@ -60,6 +67,7 @@ class DefaultParkingPositionSupplierTest {
     );
     when(targetedPointsSupplier.getTargetedPoints()).thenReturn(Set.of());
     when(configuration.maxRoutesToConsider()).thenReturn(1);
+    when(router.getCosts(any(), any(), anySet(), anySet())).thenCallRealMethod();
   }
 
   @AfterEach
@@ -130,6 +138,69 @@ class DefaultParkingPositionSupplierTest {
     assertEquals(point3, result.get());
   }
 
+  @Test
+  void computeCostsToAllParkingPositionsAtOnceWithDefaultRouteSelector() {
+    Point point1 = new Point("vehicle's current position");
+    Point point2 = new Point("parking position")
+        .withType(Point.Type.PARK_POSITION);
+    Point point3 = new Point("another parking position closer to the vehicle")
+        .withType(Point.Type.PARK_POSITION);
+    vehicle = new Vehicle("vehicle").withCurrentPosition(point1.getReference());
+    when(router.getCosts(vehicle, point1, Set.of(point2, point3), Set.of()))
+        .thenReturn(Map.of(point2, 30L, point3, 10L));
+    when(plantModelService.fetch(Point.class, point1.getReference()))
+        .thenReturn(Optional.of(point1));
+    when(
+        plantModelService.fetch(eq(Point.class), ArgumentMatchers.<Predicate<? super Point>>any())
+    ).thenReturn(setOf(point2, point3));
+
+    Optional<Point> result = supplier.findParkingPosition(vehicle);
+    assertTrue(result.isPresent());
+    assertEquals(point3, result.get());
+    verify(router, never())
+        .getRoutes(any(), any(Point.class), any(Point.class), anySet(), anyInt());
+  }
+
+  @Test
+  void applyCustomRouteSelectorToRoutesToEveryParkingPosition() {
+    Point point1 = new Point("vehicle's current position");
+    Point point2 = new Point("parking position")
+        .withType(Point.Type.PARK_POSITION);
+    Point point3 = new Point("another parking position closer to the vehicle")
+        .withType(Point.Type.PARK_POSITION);
+    vehicle = new Vehicle("vehicle").withCurrentPosition(point1.getReference());
+    Set<Route> routesToPoint2 = Set.of(
+        new Route(List.of(new Step(null, point1, point2, Vehicle.Orientation.FORWARD, 0, 30)))
+    );
+    Set<Route> routesToPoint3 = Set.of(
+        new Route(List.of(new Step(null, point1, point3, Vehicle.Orientation.FORWARD, 0, 10)))
+    );
+    when(router.getRoutes(vehicle, point1, point2, Set.of(), 1)).thenReturn(routesToPoint2);
+    when(router.getRoutes(vehicle, point1, point3, Set.of(), 1)).thenReturn(routesToPoint3);
+    when(plantModelService.fetch(Point.class, point1.getReference()))
+        .thenReturn(Optional.of(point1));
+    when(
+        plantModelService.fetch(eq(Point.class), ArgumentMatchers.<Predicate<? super Point>>any())
+    ).thenReturn(setOf(point2, point3));
+    // A route selector rejecting the route to the closer parking position.
+    RouteSelector routeSelector = mock();
+    when(routeSelector.select(routesToPoint2))
+        .thenReturn(Optional.of(routesToPoint2.iterator().next()));
+    when(routeSelector.select(routesToPoint3)).thenReturn(Optional.empty());
+    supplier = new DefaultParkingPositionSupplier(
+        plantModelService,
+        router,
+        targetedPointsSupplier,
+        configuration,
+        routeSelector
+    );
+
+    Optional<Point> result = supplier.findParkingPosition(vehicle);
+    assertTrue(result.isPresent());
+    assertEquals(point2, result.get());
+    verify(router, never()).getCosts(any(), any(), anySet(), anySet());
+  }
+
   @SuppressWarnings("unchecked")
   private <T> Set<T> setOf(T... resources) {
     return new HashSet<>(Arrays.asList(resources));
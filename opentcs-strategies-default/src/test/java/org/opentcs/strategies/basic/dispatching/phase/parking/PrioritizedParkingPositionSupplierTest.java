@@ -5,6 +5,8 @@ package org.opentcs.strategies.basic.dispatching.phase.parking;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -57,6 +59,7 @@ class PrioritizedParkingPositionSupplierTest {
     );
     when(targetedPointsSupplier.getTargetedPoints()).thenReturn(Set.of());
     when(configuration.maxRoutesToConsider()).thenReturn(1);
+    when(router.getCosts(any(), any(), anySet(), anySet())).thenCallRealMethod();
   }
 
   @Test
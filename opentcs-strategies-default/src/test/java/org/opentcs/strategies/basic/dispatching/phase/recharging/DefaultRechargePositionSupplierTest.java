@@ -7,10 +7,17 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.oneOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -28,6 +35,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder.Destination;
 import org.opentcs.data.order.Route;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.LowestCostRouteSelector;
 import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 
 /**
@@ -40,12 +48,19 @@ class DefaultRechargePositionSupplierTest {
   private Location rechargeLoc2;
   private Location rechargeLoc3;
   private Location rechargeLoc4Locked;
-
+  private Point currentPosition;
+  private Point locationAccessPoint;
+
+  private InternalPlantModelService plantModelService;
+  private Router router;
+  private TargetedPointsSupplier targetedPointsSupplier;
+  private DefaultDispatcherConfiguration configuration;
+  private RouteSelector routeSelector;
   private DefaultRechargePositionSupplier rechargePosSupplier;
 
   @BeforeEach
   void setUp() {
-    Point currentPosition = new Point("current-position");
+    currentPosition = new Point("current-position");
     vehicle = new Vehicle("some-vehicle")
         .withCurrentPosition(currentPosition.getReference())
         .withRechargeOperation("Do some recharging");
@@ -59,7 +74,7 @@ class DefaultRechargePositionSupplierTest {
     rechargeLoc4Locked = new Location("recharge-loc-4-locked", rechargeLocType.getReference())
         .withLocked(true);
 
-    Point locationAccessPoint = new Point("location-access-point");
+    locationAccessPoint = new Point("location-access-point");
 
     Location.Link link1
         = new Location.Link(rechargeLoc1.getReference(), locationAccessPoint.getReference());
@@ -77,17 +92,18 @@ class DefaultRechargePositionSupplierTest {
 
     locationAccessPoint = locationAccessPoint.withAttachedLinks(Set.of(link1, link2, link3, link4));
 
-    InternalPlantModelService plantModelService = mock(InternalPlantModelService.class);
-    Router router = mock(Router.class);
-    TargetedPointsSupplier targetedPointsSupplier = mock(TargetedPointsSupplier.class);
-    DefaultDispatcherConfiguration configuration = mock(DefaultDispatcherConfiguration.class);
+    plantModelService = mock(InternalPlantModelService.class);
+    router = mock(Router.class);
+    targetedPointsSupplier = mock(TargetedPointsSupplier.class);
+    configuration = mock(DefaultDispatcherConfiguration.class);
+    routeSelector = mock(RouteSelector.class);
 
     rechargePosSupplier = new DefaultRechargePositionSupplier(
         plantModelService,
         router,
         targetedPointsSupplier,
         configuration,
-        mock(RouteSelector.class)
+        routeSelector
     );
 
     when(plantModelService.fetch(Point.class, currentPosition.getReference()))
@@ -105,6 +121,7 @@ class DefaultRechargePositionSupplierTest {
     when(plantModelService.expandResources(Set.of(locationAccessPoint.getReference())))
         .thenReturn(Set.of(locationAccessPoint));
     when(configuration.maxRoutesToConsider()).thenReturn(1);
+    when(router.getCosts(any(), any(), anySet(), anySet())).thenCallRealMethod();
     when(router.getRoutes(vehicle, currentPosition, locationAccessPoint, Set.of(), 1))
         .thenReturn(
             Set.of(
@@ -317,4 +334,36 @@ class DefaultRechargePositionSupplierTest {
         is(rechargeLoc3.getReference())
     );
   }
+
+  @Test
+  void computeCostsToAllAccessPointsAtOnceWithDefaultRouteSelector() {
+    rechargePosSupplier = new DefaultRechargePositionSupplier(
+        plantModelService,
+        router,
+        targetedPointsSupplier,
+        configuration,
+        new LowestCostRouteSelector()
+    );
+    when(router.getCosts(vehicle, currentPosition, Set.of(locationAccessPoint), Set.of()))
+        .thenReturn(Map.of(locationAccessPoint, 10L));
+
+    List<Destination> result = rechargePosSupplier.findRechargeSequence(vehicle);
+
+    assertThat(result, hasSize(1));
+    verify(router, never())
+        .getRoutes(any(), any(Point.class), any(Point.class), anySet(), anyInt());
+  }
+
+  @Test
+  void applyCustomRouteSelectorToRoutesToEveryAccessPoint() {
+    when(routeSelector.select(anySet())).thenAnswer(
+        invocation -> invocation.<Set<Route>>getArgument(0).stream().findAny()
+    );
+
+    List<Destination> result = rechargePosSupplier.findRechargeSequence(vehicle);
+
+    assertThat(result, hasSize(1));
+    verify(routeSelector, times(3)).select(anySet());
+    verify(router, never()).getCosts(any(), any(), anySet(), anySet());
+  }
 }
@@ -0,0 +1,126 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.jgrapht.CompactPointRouter;
+import org.opentcs.strategies.basic.routing.jgrapht.RoutingTopology;
+
+/**
+ * Tests for {@link AlternativeRouteGenerator}.
+ */
+class AlternativeRouteGeneratorTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Point pointD;
+
+  private Path pathAB;
+  private Path pathBD;
+  private Path pathAC;
+  private Path pathCD;
+  private Path pathAD;
+
+  private CompactPointRouter pointRouter;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pointD = new Point("D");
+
+    pathAB = new Path("A --> B", pointA.getReference(), pointB.getReference());
+    pathBD = new Path("B --> D", pointB.getReference(), pointD.getReference());
+    pathAC = new Path("A --> C", pointA.getReference(), pointC.getReference());
+    pathCD = new Path("C --> D", pointC.getReference(), pointD.getReference());
+    pathAD = new Path("A --> D", pointA.getReference(), pointD.getReference());
+
+    RoutingTopology topology = new RoutingTopology(
+        List.of(pointA, pointB, pointC, pointD),
+        List.of(pathAB, pathBD, pathAC, pathCD, pathAD)
+    );
+    double[] edgeWeights = new double[topology.getEdgeCount()];
+    Arrays.fill(edgeWeights, Double.POSITIVE_INFINITY);
+    edgeWeights[forwardEdge(topology, pathAB)] = 1;
+    edgeWeights[forwardEdge(topology, pathBD)] = 1;
+    edgeWeights[forwardEdge(topology, pathAC)] = 2;
+    edgeWeights[forwardEdge(topology, pathCD)] = 2;
+    edgeWeights[forwardEdge(topology, pathAD)] = 10;
+
+    pointRouter = new CompactPointRouter(topology, edgeWeights);
+  }
+
+  @Test
+  void generateRoutesInOrderOfIncreasingCosts() {
+    AlternativeRouteGenerator generator = createGenerator(pointA, pointD);
+
+    assertThat(paths(generator.next()), contains(pathAB, pathBD));
+    assertThat(paths(generator.next()), contains(pathAC, pathCD));
+    assertThat(paths(generator.next()), contains(pathAD));
+    assertThat(generator.hasNext(), is(false));
+    assertThrows(NoSuchElementException.class, () -> generator.next());
+  }
+
+  @Test
+  void numberStepsOfAlternativeRoutesConsecutively() {
+    AlternativeRouteGenerator generator = createGenerator(pointA, pointD);
+    generator.next();
+
+    List<Route.Step> steps = generator.next();
+
+    assertThat(steps.get(0).getRouteIndex(), is(0));
+    assertThat(steps.get(1).getRouteIndex(), is(1));
+  }
+
+  @Test
+  void generateSingleEmptyRouteIfSourceIsDestination() {
+    AlternativeRouteGenerator generator = createGenerator(pointA, pointA);
+
+    assertThat(generator.next(), is(empty()));
+    assertThat(generator.hasNext(), is(false));
+  }
+
+  @Test
+  void generateNoRouteIfDestinationIsUnreachable() {
+    AlternativeRouteGenerator generator = createGenerator(pointD, pointA);
+
+    assertThat(generator.hasNext(), is(false));
+  }
+
+  private AlternativeRouteGenerator createGenerator(Point sourcePoint, Point destinationPoint) {
+    return new AlternativeRouteGenerator(
+        pointRouter,
+        (pointsToExclude, pathsToExclude) -> pointRouter.withExclusions(
+            pointsToExclude.stream().map(TCSObject::getName).collect(Collectors.toSet()),
+            pathsToExclude.stream().map(TCSObject::getName).collect(Collectors.toSet())
+        ),
+        sourcePoint,
+        destinationPoint
+    );
+  }
+
+  private int forwardEdge(RoutingTopology topology, Path path) {
+    return topology.forwardEdge(topology.pathIndex(path.getName()));
+  }
+
+  private List<Path> paths(List<Route.Step> steps) {
+    return steps.stream().map(Route.Step::getPath).toList();
+  }
+}
@@ -9,27 +9,47 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opentcs.strategies.basic.routing.PointRouter.INFINITE_COSTS;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.Location.Link;
 import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.DriveOrder.Destination;
 import org.opentcs.data.order.Route;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorCongestion;
+import org.opentcs.strategies.basic.routing.jgrapht.CompactPointRouter;
 import org.opentcs.strategies.basic.routing.jgrapht.PointRouterProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.RoutingTopology;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathPointRouter;
+import org.opentcs.strategies.basic.routing.jgrapht.Vertex;
 
 /**
  * Tests for {@link DefaultRouter}.
@@ -41,6 +61,7 @@ class DefaultRouterTest {
   private PointRouterProvider pointRouterProvider;
   private GroupMapper routingGroupMapper;
   private DefaultRouterConfiguration configuration;
+  private EdgeEvaluatorCongestion congestionEvaluator;
   private TransportOrder order;
   private PointRouter pointRouter;
 
@@ -50,11 +71,16 @@ class DefaultRouterTest {
     pointRouterProvider = mock();
     routingGroupMapper = mock();
     configuration = mock();
+    congestionEvaluator = mock();
     defaultRouter = new DefaultRouter(
         objectService,
         pointRouterProvider,
         routingGroupMapper,
-        configuration
+        configuration,
+        congestionEvaluator,
+        mock(),
+        mock(),
+        new Object()
     );
 
     pointRouter = mock();
@@ -146,6 +172,10 @@ class DefaultRouterTest {
 
     when(pointRouterProvider.getPointRouterForVehicle(vehicle, transportOrder))
         .thenReturn(pointRouter);
+    when(pointRouter.getCosts(any(Point.class), any(Point.class)))
+        .thenAnswer(
+            invocation -> Long.parseLong(invocation.<Point>getArgument(1).getProperty("cost"))
+        );
     when(pointRouter.getRouteSteps(any(Point.class), any(Point.class)))
         .thenAnswer(
             invocation -> {
@@ -176,4 +206,340 @@ class DefaultRouterTest {
     assertThat(orderRoutes.stream().findFirst().get().get(0).getCosts(), is(11L));
     assertThat(orderRoutes.stream().findFirst().get().get(1).getCosts(), is(13L));
   }
+
+  @Test
+  void provideCheapestRouteSequenceAmongAllDestinationPointCombinations() {
+    Random random = new Random(4711);
+    for (int run = 0; run < 50; run++) {
+      setUp();
+      int pointCount = 12;
+      List<Point> points = new ArrayList<>();
+      for (int i = 0; i < pointCount; i++) {
+        Point point = new Point("P" + i);
+        points.add(point);
+        when(objectService.fetch(Point.class, point.getReference())).thenReturn(Optional.of(point));
+      }
+      long[][] costs = new long[pointCount][pointCount];
+      for (int i = 0; i < pointCount; i++) {
+        for (int j = 0; j < pointCount; j++) {
+          costs[i][j] = i == j
+              ? 0
+              : random.nextInt(5) == 0 ? INFINITE_COSTS : 1 + random.nextInt(1000000);
+        }
+      }
+
+      LocationType locationType = new LocationType("some-type");
+      when(objectService.fetch(LocationType.class, locationType.getReference()))
+          .thenReturn(Optional.of(locationType));
+      List<DriveOrder> driveOrders = new ArrayList<>();
+      List<List<Integer>> destinationIndices = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        Location location = new Location("L" + i, locationType.getReference());
+        Set<Link> links = new HashSet<>();
+        List<Integer> indices = new ArrayList<>();
+        for (int j = 0; j < 3; j++) {
+          int pointIndex = 3 * i + j;
+          links.add(new Link(location.getReference(), points.get(pointIndex).getReference()));
+          indices.add(pointIndex);
+        }
+        location = location.withAttachedLinks(links);
+        when(objectService.fetch(Location.class, location.getName()))
+            .thenReturn(Optional.of(location));
+        driveOrders.add(new DriveOrder("o" + i, new Destination(location.getReference())));
+        destinationIndices.add(indices);
+      }
+      TransportOrder transportOrder = new TransportOrder("T-" + run, driveOrders);
+      Vehicle vehicle = new Vehicle("V1");
+      when(pointRouterProvider.getPointRouterForVehicle(vehicle, transportOrder))
+          .thenReturn(pointRouter);
+      when(pointRouter.getCosts(any(Point.class), any(Point.class)))
+          .thenAnswer(
+              invocation -> costs[indexOf(invocation.getArgument(0))][
+                  indexOf(invocation.getArgument(1))
+              ]
+          );
+      when(pointRouter.getRouteSteps(any(Point.class), any(Point.class)))
+          .thenAnswer(invocation -> {
+            Point src = invocation.getArgument(0);
+            Point dest = invocation.getArgument(1);
+            long hopCosts = costs[indexOf(src)][indexOf(dest)];
+            if (hopCosts == INFINITE_COSTS) {
+              return null;
+            }
+            return src.equals(dest)
+                ? List.of()
+                : List.of(new Route.Step(null, src, dest, Vehicle.Orientation.FORWARD, 0, hopCosts));
+          });
+
+      int sourceIndex = random.nextInt(pointCount);
+      ExhaustiveSearchResult expected = exhaustiveSearch(
+          costs,
+          destinationIndices,
+          sourceIndex,
+          0,
+          0,
+          new ArrayList<>()
+      );
+
+      Set<List<Route>> orderRoutes
+          = defaultRouter.getRoutes(vehicle, points.get(sourceIndex), transportOrder, 1);
+
+      if (expected == null) {
+        assertThat(orderRoutes, is(empty()));
+        continue;
+      }
+      assertThat(orderRoutes, hasSize(1));
+      List<Route> routes = orderRoutes.iterator().next();
+      assertThat(routes.stream().mapToLong(Route::getCosts).sum(), is(expected.costs()));
+      if (expected.unique()) {
+        assertThat(
+            routes.stream().map(route -> indexOf(route.getFinalDestinationPoint())).toList(),
+            is(expected.destinationIndices())
+        );
+      }
+    }
+  }
+
+  @Test
+  void computeSingleRouteIfRouteComputationLimitIsOne() {
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Point pointC = new Point("C");
+    when(configuration.routeComputationLimit()).thenReturn(1);
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of()))
+        .thenReturn(createCompactPointRouter(pointA, pointB, pointC));
+
+    Set<Route> routes = defaultRouter.getRoutes(vehicle, pointA, pointB, Set.of(), 5);
+
+    assertThat(routes.stream().map(Route::getCosts).toList(), contains(10L));
+  }
+
+  @Test
+  void computeAlternativeRoutesUpToRouteComputationLimit() {
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Point pointC = new Point("C");
+    when(configuration.routeComputationLimit()).thenReturn(2);
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of()))
+        .thenReturn(createCompactPointRouter(pointA, pointB, pointC));
+
+    Set<Route> routes = defaultRouter.getRoutes(vehicle, pointA, pointB, Set.of(), 5);
+
+    assertThat(
+        routes.stream().map(Route::getCosts).toList(),
+        contains(10L, 20L)
+    );
+  }
+
+  @Test
+  void computeAlternativeRoutesWithShortestPathPointRouter() {
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Point pointC = new Point("C");
+    when(configuration.routeComputationLimit()).thenReturn(5);
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of()))
+        .thenReturn(createShortestPathPointRouter(pointA, pointB, pointC));
+
+    Set<Route> routes = defaultRouter.getRoutes(vehicle, pointA, pointB, Set.of(), 5);
+
+    assertThat(
+        routes.stream().map(Route::getCosts).toList(),
+        contains(10L, 20L)
+    );
+  }
+
+  @Test
+  void computeSingleRouteWithPointRouterNotSupportingAlternativeRoutes() {
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Path pathAB = new Path("A --> B", pointA.getReference(), pointB.getReference());
+    when(configuration.routeComputationLimit()).thenReturn(2);
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of())).thenReturn(pointRouter);
+    when(pointRouter.getRouteSteps(pointA, pointB))
+        .thenReturn(
+            List.of(new Route.Step(pathAB, pointA, pointB, Vehicle.Orientation.FORWARD, 0, 10))
+        );
+
+    Set<Route> routes = defaultRouter.getRoutes(vehicle, pointA, pointB, Set.of(), 5);
+
+    assertThat(routes, hasSize(1));
+    verify(pointRouter, times(1)).getRouteSteps(any(Point.class), any(Point.class));
+  }
+
+  @Test
+  void provideCostsToReachableDestinationPoints() {
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Point pointC = new Point("C");
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of())).thenReturn(pointRouter);
+    when(
+        pointRouter.getCosts(
+            pointA.getReference(),
+            Set.of(pointB.getReference(), pointC.getReference())
+        )
+    ).thenReturn(Map.of(pointB.getReference(), 42L, pointC.getReference(), INFINITE_COSTS));
+
+    Map<Point, Long> costs
+        = defaultRouter.getCosts(vehicle, pointA, Set.of(pointB, pointC), Set.of());
+
+    assertThat(costs, is(Map.of(pointB, 42L)));
+  }
+
+  @Test
+  void serveRouteQueriesWithConstructedPointRouterWithoutGlobalLock()
+      throws Exception {
+    Object globalSyncObject = new Object();
+    defaultRouter = new DefaultRouter(
+        objectService,
+        pointRouterProvider,
+        routingGroupMapper,
+        configuration,
+        congestionEvaluator,
+        mock(),
+        mock(),
+        globalSyncObject
+    );
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Point pointC = new Point("C");
+    when(configuration.routeComputationLimit()).thenReturn(1);
+    when(pointRouterProvider.getConstructedPointRouterForVehicle(vehicle))
+        .thenReturn(createCompactPointRouter(pointA, pointB, pointC));
+
+    Set<Route> routes;
+    // Another thread (e.g. a dispatch run) holding the global lock must not block route queries.
+    synchronized (globalSyncObject) {
+      routes = CompletableFuture
+          .supplyAsync(() -> defaultRouter.getRoutes(vehicle, pointA, pointB, Set.of(), 1))
+          .get(10, TimeUnit.SECONDS);
+    }
+
+    assertThat(defaultRouter.isThreadSafe(), is(true));
+    assertThat(routes.stream().map(Route::getCosts).toList(), contains(10L));
+    verify(pointRouterProvider, never())
+        .getPointRouterForVehicle(any(Vehicle.class), any(Set.class));
+  }
+
+  /**
+   * Creates a point router for the paths A --> B, A --> C and C --> B, each with costs of 10.
+   */
+  private static CompactPointRouter createCompactPointRouter(
+      Point pointA,
+      Point pointB,
+      Point pointC
+  ) {
+    RoutingTopology topology = new RoutingTopology(
+        List.of(pointA, pointB, pointC),
+        List.of(
+            new Path("A --> B", pointA.getReference(), pointB.getReference()),
+            new Path("A --> C", pointA.getReference(), pointC.getReference()),
+            new Path("C --> B", pointC.getReference(), pointB.getReference())
+        )
+    );
+    double[] edgeWeights = new double[topology.getEdgeCount()];
+    Arrays.fill(edgeWeights, Double.POSITIVE_INFINITY);
+    for (String pathName : List.of("A --> B", "A --> C", "C --> B")) {
+      edgeWeights[topology.forwardEdge(topology.pathIndex(pathName))] = 10;
+    }
+    return new CompactPointRouter(topology, edgeWeights);
+  }
+
+  /**
+   * Creates a point router for the paths A --> B, A --> C and C --> B, each with costs of 10.
+   */
+  private static ShortestPathPointRouter createShortestPathPointRouter(
+      Point pointA,
+      Point pointB,
+      Point pointC
+  ) {
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    Map<Point, Vertex> vertices = new HashMap<>();
+    for (Point point : List.of(pointA, pointB, pointC)) {
+      vertices.put(point, new Vertex(point.getReference()));
+      graph.addVertex(vertices.get(point));
+    }
+    for (List<Point> pathPoints : List.of(
+        List.of(pointA, pointB),
+        List.of(pointA, pointC),
+        List.of(pointC, pointB)
+    )) {
+      Point src = pathPoints.get(0);
+      Point dest = pathPoints.get(1);
+      String pathName = src.getName() + " --> " + dest.getName();
+      Edge edge = new Edge(new Path(pathName, src.getReference(), dest.getReference()), false);
+      graph.addEdge(vertices.get(src), vertices.get(dest), edge);
+      graph.setEdgeWeight(edge, 10);
+    }
+    return new ShortestPathPointRouter(
+        new DijkstraShortestPath<>(graph),
+        true,
+        List.of(pointA, pointB, pointC),
+        graph,
+        DijkstraShortestPath::new
+    );
+  }
+
+  private static int indexOf(Point point) {
+    return Integer.parseInt(point.getName().substring(1));
+  }
+
+  /**
+   * Enumerates all combinations of destination points and returns the cheapest one.
+   */
+  private static ExhaustiveSearchResult exhaustiveSearch(
+      long[][] costs,
+      List<List<Integer>> destinationIndices,
+      int currentIndex,
+      int hopIndex,
+      long currentCosts,
+      List<Integer> currentDestinations
+  ) {
+    if (hopIndex == destinationIndices.size()) {
+      return new ExhaustiveSearchResult(currentCosts, List.copyOf(currentDestinations), true);
+    }
+
+    // Like the router, go directly to the current position if it is one of the destinations.
+    List<Integer> destinations = destinationIndices.get(hopIndex).contains(currentIndex)
+        ? List.of(currentIndex)
+        : destinationIndices.get(hopIndex);
+    ExhaustiveSearchResult best = null;
+    for (int destIndex : destinations) {
+      if (costs[currentIndex][destIndex] == INFINITE_COSTS) {
+        continue;
+      }
+      currentDestinations.add(destIndex);
+      ExhaustiveSearchResult result = exhaustiveSearch(
+          costs,
+          destinationIndices,
+          destIndex,
+          hopIndex + 1,
+          currentCosts + costs[currentIndex][destIndex],
+          currentDestinations
+      );
+      currentDestinations.removeLast();
+      if (result == null) {
+        continue;
+      }
+      if (best == null || result.costs() < best.costs()) {
+        best = result;
+      }
+      else if (result.costs() == best.costs()) {
+        best = new ExhaustiveSearchResult(best.costs(), best.destinationIndices(), false);
+      }
+    }
+    return best;
+  }
+
+  private record ExhaustiveSearchResult(
+      long costs,
+      List<Integer> destinationIndices,
+      boolean unique
+  ) {
+  }
 }
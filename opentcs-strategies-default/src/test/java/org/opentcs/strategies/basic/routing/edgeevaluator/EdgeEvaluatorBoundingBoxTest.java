@@ -3,10 +3,15 @@
 package org.opentcs.strategies.basic.routing.edgeevaluator;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.components.kernel.routing.Edge;
@@ -115,4 +120,22 @@ class EdgeEvaluatorBoundingBoxTest {
 
     assertThat(result).isZero();
   }
+
+  @Test
+  void usePointsResolvedAtStartOfGraphComputation() {
+    Point srcPoint = new Point("1").withMaxVehicleBoundingBox(new BoundingBox(5, 5, 5));
+    Point destPoint = new Point("2").withMaxVehicleBoundingBox(new BoundingBox(1, 1, 1));
+    Path path = new Path("1 -- 2", srcPoint.getReference(), destPoint.getReference());
+    Vehicle vehicle = new Vehicle("vehicle").withBoundingBox(new BoundingBox(3, 3, 3));
+    when(objectService.fetch(Point.class)).thenReturn(Set.of(srcPoint, destPoint));
+
+    edgeEvaluator.onGraphComputationStart(vehicle);
+    double forwardResult = edgeEvaluator.computeWeight(new Edge(path, false), vehicle);
+    double reverseResult = edgeEvaluator.computeWeight(new Edge(path, true), vehicle);
+    edgeEvaluator.onGraphComputationEnd(vehicle);
+
+    assertThat(forwardResult).isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(reverseResult).isZero();
+    verify(objectService, never()).fetch(eq(Point.class), anyString());
+  }
 }
@@ -0,0 +1,149 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.edgeevaluator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResourceReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+
+/**
+ * Tests for {@link EdgeEvaluatorCongestion}.
+ */
+class EdgeEvaluatorCongestionTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Path pathAB;
+  private Path pathBC;
+  private Vehicle vehicle;
+  private TCSObjectService objectService;
+  private ShortestPathConfiguration shortestPathConfiguration;
+  private CongestionConfiguration configuration;
+  private EdgeEvaluatorCongestion edgeEvaluator;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pathAB = new Path("A --- B", pointA.getReference(), pointB.getReference());
+    pathBC = new Path("B --- C", pointB.getReference(), pointC.getReference());
+    vehicle = new Vehicle("some-vehicle");
+
+    objectService = mock();
+    when(objectService.fetch(eq(Path.class), any())).thenAnswer(invocation -> {
+      Predicate<Path> predicate = invocation.getArgument(1);
+      return Set.of(pathAB, pathBC).stream()
+          .filter(predicate)
+          .collect(Collectors.toSet());
+    });
+
+    shortestPathConfiguration = mock();
+    configuration = mock();
+    when(configuration.allocationPenalty()).thenReturn(1000);
+    when(configuration.claimPenalty()).thenReturn(100);
+    when(configuration.traversalPenalty()).thenReturn(10);
+    when(configuration.traversalRateDecay()).thenReturn(0.5);
+
+    edgeEvaluator = new EdgeEvaluatorCongestion(
+        objectService,
+        shortestPathConfiguration,
+        configuration
+    );
+  }
+
+  @Test
+  void computeZeroWeightsWithoutAllocations() {
+    when(objectService.fetch(Vehicle.class)).thenReturn(Set.of(vehicle));
+
+    assertThat(edgeEvaluator.refresh(), is(empty()));
+    assertThat(edgeEvaluator.computeWeight(new Edge(pathAB, false), vehicle), is(0.0));
+    assertThat(edgeEvaluator.computeWeight(new Edge(pathAB, true), vehicle), is(0.0));
+  }
+
+  @Test
+  void penalizeAllocatedAndClaimedResources() {
+    when(objectService.fetch(Vehicle.class)).thenReturn(
+        Set.of(
+            vehicle
+                .withAllocatedResources(List.of(Set.of(pointA.getReference())))
+                .withClaimedResources(
+                    List.of(
+                        Set.of(pointA.getReference()),
+                        Set.<TCSResourceReference<?>>of(
+                            pathAB.getReference(),
+                            pointB.getReference()
+                        )
+                    )
+                )
+        )
+    );
+
+    assertThat(edgeEvaluator.refresh(), containsInAnyOrder(pathAB, pathBC));
+    // Claimed path and claimed destination point
+    assertThat(edgeEvaluator.computeWeight(new Edge(pathAB, false), vehicle), is(200.0));
+    // Claimed path and allocated destination point
+    assertThat(edgeEvaluator.computeWeight(new Edge(pathAB, true), vehicle), is(1100.0));
+    // Claimed destination point
+    assertThat(edgeEvaluator.computeWeight(new Edge(pathBC, true), vehicle), is(100.0));
+  }
+
+  @Test
+  void penalizeRecentlyTraversedPaths() {
+    Vehicle vehicleOnPath = vehicle.withAllocatedResources(
+        List.of(Set.<TCSResourceReference<?>>of(pathBC.getReference(), pointC.getReference()))
+    );
+    when(objectService.fetch(Vehicle.class)).thenReturn(Set.of(vehicleOnPath));
+    assertThat(edgeEvaluator.refresh(), containsInAnyOrder(pathBC));
+    assertThat(edgeEvaluator.computeWeight(new Edge(pathBC, false), vehicle), is(2010.0));
+
+    // The path remaining allocated does not count as another traversal.
+    assertThat(edgeEvaluator.refresh(), containsInAnyOrder(pathBC));
+    assertThat(edgeEvaluator.computeWeight(new Edge(pathBC, false), vehicle), is(2005.0));
+
+    when(objectService.fetch(Vehicle.class)).thenReturn(Set.of(vehicle));
+    assertThat(edgeEvaluator.refresh(), containsInAnyOrder(pathBC));
+    assertThat(edgeEvaluator.computeWeight(new Edge(pathBC, false), vehicle), is(2.5));
+  }
+
+  @Test
+  void discardPenaltiesOnClear() {
+    when(objectService.fetch(Vehicle.class)).thenReturn(
+        Set.of(vehicle.withAllocatedResources(List.of(Set.of(pathAB.getReference()))))
+    );
+    edgeEvaluator.refresh();
+
+    edgeEvaluator.clear();
+
+    assertThat(edgeEvaluator.computeWeight(new Edge(pathAB, false), vehicle), is(0.0));
+  }
+
+  @Test
+  void considerEnabledOnlyIfConfigured() {
+    when(shortestPathConfiguration.edgeEvaluators()).thenReturn(List.of("DISTANCE"));
+    assertThat(edgeEvaluator.isEnabled(), is(false));
+
+    when(shortestPathConfiguration.edgeEvaluators()).thenReturn(List.of("DISTANCE", "CONGESTION"));
+    assertThat(edgeEvaluator.isEnabled(), is(true));
+  }
+}
@@ -0,0 +1,290 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route.Step;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Tests for {@link CompactPointRouter}.
+ */
+class CompactPointRouterTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Point pointD;
+
+  private Path pathAC;
+  private Path pathAD;
+  private Path pathDC;
+
+  private RoutingTopology topology;
+  private double[] edgeWeights;
+  private CompactPointRouter pointRouter;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pointD = new Point("D");
+
+    pathAC = new Path("A-->C", pointA.getReference(), pointC.getReference());
+    pathAD = new Path("A-->D", pointA.getReference(), pointD.getReference());
+    pathDC = new Path("C-->D", pointC.getReference(), pointD.getReference());
+
+    topology = new RoutingTopology(
+        List.of(pointA, pointB, pointC, pointD),
+        List.of(pathAC, pathAD, pathDC)
+    );
+
+    edgeWeights = new double[topology.getEdgeCount()];
+    Arrays.fill(edgeWeights, Double.POSITIVE_INFINITY);
+    edgeWeights[forwardEdge(pathAC)] = 1234;
+    edgeWeights[forwardEdge(pathAD)] = 100;
+    edgeWeights[reverseEdge(pathDC)] = 200;
+
+    pointRouter = new CompactPointRouter(topology, edgeWeights);
+  }
+
+  @Test
+  void returnZeroCostsIfDestinationIsSource() {
+    assertEquals(0, pointRouter.getCosts(pointA.getReference(), pointA.getReference()));
+  }
+
+  @Test
+  void returnEmptyRouteIfDestinationIsSource() {
+    List<Step> steps = pointRouter.getRouteSteps(pointA, pointA);
+    assertNotNull(steps);
+    assertThat(steps, is(empty()));
+  }
+
+  @Test
+  void returnInfiniteCostsIfNoRouteExists() {
+    assertEquals(
+        PointRouter.INFINITE_COSTS,
+        pointRouter.getCosts(pointA.getReference(), pointB.getReference())
+    );
+  }
+
+  @Test
+  void returnNullIfNoRouteExists() {
+    assertNull(pointRouter.getRouteSteps(pointA, pointB));
+  }
+
+  @Test
+  void returnInfiniteCostsForUnknownPoint() {
+    assertEquals(
+        PointRouter.INFINITE_COSTS,
+        pointRouter.getCosts(pointA.getReference(), new Point("X").getReference())
+    );
+  }
+
+  @Test
+  void returnCostsOfCheapestRoute() {
+    assertEquals(300, pointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    // Requesting the costs again should yield the same result from the cached tree.
+    assertEquals(300, pointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+  }
+
+  @Test
+  void returnStepsOfCheapestRoute() {
+    List<Step> steps = pointRouter.getRouteSteps(pointA, pointC);
+
+    assertNotNull(steps);
+    assertThat(steps.stream().map(Step::getPath).toList(), contains(pathAD, pathDC));
+    assertThat(steps.get(0).getSourcePoint(), is(pointA));
+    assertThat(steps.get(0).getDestinationPoint(), is(pointD));
+    assertThat(steps.get(0).getVehicleOrientation(), is(Vehicle.Orientation.FORWARD));
+    assertThat(steps.get(0).getRouteIndex(), is(0));
+    assertThat(steps.get(0).getCosts(), is(100L));
+    assertThat(steps.get(1).getSourcePoint(), is(pointD));
+    assertThat(steps.get(1).getDestinationPoint(), is(pointC));
+    assertThat(steps.get(1).getVehicleOrientation(), is(Vehicle.Orientation.BACKWARD));
+    assertThat(steps.get(1).getRouteIndex(), is(1));
+    assertThat(steps.get(1).getCosts(), is(200L));
+  }
+
+  @Test
+  void reflectRemovedEdgeAfterUpdate() {
+    pointRouter.getCosts(pointA.getReference(), pointC.getReference());
+
+    double[] updatedEdgeWeights = edgeWeights.clone();
+    updatedEdgeWeights[reverseEdge(pathDC)] = Double.POSITIVE_INFINITY;
+    CompactPointRouter updatedRouter = pointRouter.update(
+        topology,
+        updatedEdgeWeights,
+        Set.of(pathDC.getName())
+    );
+
+    assertEquals(1234, updatedRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertThat(
+        updatedRouter.getRouteSteps(pointA, pointC).stream().map(Step::getPath).toList(),
+        contains(pathAC)
+    );
+  }
+
+  @Test
+  void reflectCheaperEdgeAfterUpdate() {
+    pointRouter.getCosts(pointA.getReference(), pointC.getReference());
+
+    double[] updatedEdgeWeights = edgeWeights.clone();
+    updatedEdgeWeights[forwardEdge(pathAC)] = 10;
+    CompactPointRouter updatedRouter = pointRouter.update(
+        topology,
+        updatedEdgeWeights,
+        Set.of(pathAC.getName())
+    );
+
+    assertEquals(10, updatedRouter.getCosts(pointA.getReference(), pointC.getReference()));
+  }
+
+  @Test
+  void keepCostsOfUnaffectedRoutesAfterUpdate() {
+    pointRouter.getCosts(pointA.getReference(), pointC.getReference());
+
+    Path lockedPathAC = pathAC.withLocked(true);
+    double[] updatedEdgeWeights = edgeWeights.clone();
+    updatedEdgeWeights[forwardEdge(pathAC)] = Double.POSITIVE_INFINITY;
+    CompactPointRouter updatedRouter = pointRouter.update(
+        topology.withPaths(List.of(lockedPathAC)),
+        updatedEdgeWeights,
+        Set.of(pathAC.getName())
+    );
+
+    assertEquals(300, updatedRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertThat(
+        updatedRouter.getRouteSteps(pointA, pointC).stream().map(Step::getPath).toList(),
+        contains(pathAD, pathDC)
+    );
+  }
+
+  @Test
+  void provideUpdatedPathsInRouteStepsAfterUpdate() {
+    pointRouter.getCosts(pointA.getReference(), pointC.getReference());
+
+    Path updatedPathDC = pathDC.withProperty("key", "value");
+    CompactPointRouter updatedRouter = pointRouter.update(
+        topology.withPaths(List.of(updatedPathDC)),
+        edgeWeights,
+        Set.of(pathDC.getName())
+    );
+
+    assertThat(
+        updatedRouter.getRouteSteps(pointA, pointC).get(1).getPath().getProperties(),
+        is(updatedPathDC.getProperties())
+    );
+  }
+
+  @Test
+  void avoidExcludedPath() {
+    CompactPointRouter restrictedRouter = pointRouter.withExclusions(
+        Set.of(),
+        Set.of(pathDC.getName())
+    );
+
+    assertEquals(1234, restrictedRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertThat(
+        restrictedRouter.getRouteSteps(pointA, pointC).stream().map(Step::getPath).toList(),
+        contains(pathAC)
+    );
+    // The original point router should not be affected by the exclusions.
+    assertEquals(300, pointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+  }
+
+  @Test
+  void avoidExcludedPoint() {
+    CompactPointRouter restrictedRouter = pointRouter.withExclusions(
+        Set.of(pointD.getName()),
+        Set.of()
+    );
+
+    assertEquals(1234, restrictedRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertEquals(
+        PointRouter.INFINITE_COSTS,
+        restrictedRouter.getCosts(pointA.getReference(), pointD.getReference())
+    );
+    assertNull(restrictedRouter.getRouteSteps(pointA, pointD));
+  }
+
+  @Test
+  void replaceExclusionsOfMaskedPointRouter() {
+    CompactPointRouter.MaskedPointRouter maskedRouter = pointRouter.createMaskedPointRouter();
+
+    maskedRouter.withExclusions(Set.of(), Set.of(pathDC.getName()));
+    assertEquals(1234, maskedRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertThat(
+        maskedRouter.getRouteSteps(pointA, pointC).stream().map(Step::getPath).toList(),
+        contains(pathAC)
+    );
+
+    maskedRouter.withExclusions(Set.of(), Set.of(pathAC.getName()));
+    assertEquals(300, maskedRouter.getCosts(pointA.getReference(), pointC.getReference()));
+
+    maskedRouter.withExclusions(Set.of(pointC.getName()), Set.of());
+    assertEquals(
+        PointRouter.INFINITE_COSTS,
+        maskedRouter.getCosts(pointA.getReference(), pointC.getReference())
+    );
+    assertNull(maskedRouter.getRouteSteps(pointA, pointC));
+    assertEquals(100, maskedRouter.getCosts(pointA.getReference(), pointD.getReference()));
+  }
+
+  @Test
+  void keepExclusionsOfEnclosingPointRouterInMaskedPointRouter() {
+    CompactPointRouter.MaskedPointRouter maskedRouter = pointRouter
+        .withExclusions(Set.of(pointD.getName()), Set.of())
+        .createMaskedPointRouter()
+        .withExclusions(Set.of(), Set.of());
+
+    assertEquals(1234, maskedRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertEquals(
+        PointRouter.INFINITE_COSTS,
+        maskedRouter.getCosts(pointA.getReference(), pointD.getReference())
+    );
+  }
+
+  @Test
+  void returnSameCostsWithLimitedNumberOfCachedTrees() {
+    CompactPointRouter limitedRouter = new CompactPointRouter(topology, edgeWeights, 1);
+
+    // Alternate between source points, so that the cached tree is discarded on every request.
+    for (int i = 0; i < 3; i++) {
+      assertEquals(300, limitedRouter.getCosts(pointA.getReference(), pointC.getReference()));
+      assertEquals(200, limitedRouter.getCosts(pointD.getReference(), pointC.getReference()));
+    }
+  }
+
+  @Test
+  void returnSameCostsWithoutCachedTrees() {
+    CompactPointRouter uncachedRouter = new CompactPointRouter(topology, edgeWeights, 0);
+
+    assertEquals(300, uncachedRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertEquals(300, uncachedRouter.getCosts(pointA.getReference(), pointC.getReference()));
+  }
+
+  private int forwardEdge(Path path) {
+    return topology.forwardEdge(topology.pathIndex(path.getName()));
+  }
+
+  private int reverseEdge(Path path) {
+    return topology.reverseEdge(topology.pathIndex(path.getName()));
+  }
+}
@@ -0,0 +1,105 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Set;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.GraphResult;
+
+/**
+ * Tests for {@link GraphMutator}.
+ */
+class GraphMutatorTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Path pathAB;
+  private Path pathBC;
+  private Path pathAC;
+  private Vertex vertexA;
+  private Vertex vertexB;
+  private Vertex vertexC;
+  private Edge edgeAB;
+  private Edge edgeBC;
+  private Edge edgeAC;
+  private Graph<Vertex, Edge> baseGraph;
+  private GraphResult baseGraphResult;
+  private GraphMutator graphMutator;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pathAB = new Path("A --- B", pointA.getReference(), pointB.getReference());
+    pathBC = new Path("B --- C", pointB.getReference(), pointC.getReference());
+    pathAC = new Path("A --- C", pointA.getReference(), pointC.getReference());
+    vertexA = new Vertex(pointA.getReference());
+    vertexB = new Vertex(pointB.getReference());
+    vertexC = new Vertex(pointC.getReference());
+    edgeAB = new Edge(pathAB, false);
+    edgeBC = new Edge(pathBC, false);
+    edgeAC = new Edge(pathAC, false);
+
+    baseGraph = new DirectedWeightedMultigraph<>(Edge.class);
+    baseGraph.addVertex(vertexA);
+    baseGraph.addVertex(vertexB);
+    baseGraph.addVertex(vertexC);
+    baseGraph.addEdge(vertexA, vertexB, edgeAB);
+    baseGraph.setEdgeWeight(edgeAB, 1);
+    baseGraph.addEdge(vertexB, vertexC, edgeBC);
+    baseGraph.setEdgeWeight(edgeBC, 2);
+    baseGraph.addEdge(vertexA, vertexC, edgeAC);
+    baseGraph.setEdgeWeight(edgeAC, 5);
+    baseGraphResult = new GraphResult(
+        new Vehicle("vehicle"),
+        Set.of(pointA, pointB, pointC),
+        Set.of(pathAB, pathBC, pathAC),
+        Set.of(),
+        Set.of(),
+        baseGraph
+    );
+
+    graphMutator = new GraphMutator();
+  }
+
+  @Test
+  void excludeEdgesOfExcludedPoints() {
+    GraphResult result = graphMutator.deriveGraph(Set.of(pointB), Set.of(), baseGraphResult);
+
+    assertThat(result.getGraph().vertexSet(), containsInAnyOrder(vertexA, vertexC));
+    assertThat(result.getGraph().edgeSet(), containsInAnyOrder(edgeAC));
+    assertThat(result.getGraph().getEdgeWeight(edgeAC), is(5.0));
+    assertThat(result.getExcludedPoints(), is(Set.of(pointB)));
+  }
+
+  @Test
+  void excludePaths() {
+    GraphResult result = graphMutator.deriveGraph(Set.of(), Set.of(pathAC), baseGraphResult);
+
+    assertThat(result.getGraph().vertexSet(), containsInAnyOrder(vertexA, vertexB, vertexC));
+    assertThat(result.getGraph().edgeSet(), containsInAnyOrder(edgeAB, edgeBC));
+    assertThat(result.getGraph().outgoingEdgesOf(vertexA), containsInAnyOrder(edgeAB));
+    assertThat(result.getExcludedPaths(), is(Set.of(pathAC)));
+  }
+
+  @Test
+  void leaveBaseGraphUnmodified() {
+    graphMutator.deriveGraph(Set.of(pointB), Set.of(pathAC), baseGraphResult);
+
+    assertThat(baseGraph.vertexSet(), containsInAnyOrder(vertexA, vertexB, vertexC));
+    assertThat(baseGraph.edgeSet(), containsInAnyOrder(edgeAB, edgeBC, edgeAC));
+  }
+}
@@ -2,6 +2,8 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.routing.jgrapht;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anySet;
@@ -12,7 +14,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.jgrapht.graph.DirectedWeightedMultigraph;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +29,7 @@ import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.GraphResult;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.TopologyResult;
 
 /**
  * Tests for {@link GraphProvider}.
@@ -94,4 +103,39 @@ class GraphProviderTest {
     graphProvider.getDerivedGraphResult(vehicle, Set.of(), Set.of());
     verify(graphMutator, times(2)).deriveGraph(anySet(), anySet(), any(GraphResult.class));
   }
+
+  @Test
+  void computeEdgeWeightsOneAtATimeIfMapperIsNotThreadSafe()
+      throws Exception {
+    when(defaultModelGraphMapper.isThreadSafe()).thenReturn(false);
+    when(groupMapper.apply(any(Vehicle.class)))
+        .then(o -> o.getArgument(0, Vehicle.class).getName());
+    AtomicInteger activeComputations = new AtomicInteger();
+    AtomicInteger maxActiveComputations = new AtomicInteger();
+    when(defaultModelGraphMapper.computeEdgeWeights(any(), any(Vehicle.class)))
+        .then(o -> {
+          maxActiveComputations.accumulateAndGet(activeComputations.incrementAndGet(), Math::max);
+          Thread.sleep(10);
+          activeComputations.decrementAndGet();
+          return new double[0];
+        });
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<TopologyResult>> results = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        Vehicle vehicle = new Vehicle("vehicle-" + i);
+        results.add(executor.submit(() -> graphProvider.getTopologyResult(vehicle)));
+      }
+      for (Future<TopologyResult> result : results) {
+        result.get();
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+
+    verify(defaultModelGraphMapper, times(4)).computeEdgeWeights(any(), any(Vehicle.class));
+    assertThat(maxActiveComputations.get(), is(1));
+  }
 }
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
@@ -150,4 +151,47 @@ class PathEdgeMapperTest {
     verify(edgeEvaluator).onGraphComputationStart(vehicle);
     verify(edgeEvaluator).onGraphComputationEnd(vehicle);
   }
+
+  @Test
+  void computeInfiniteWeightsForEdgesNotToBeUsed() {
+    RoutingTopology topology
+        = new RoutingTopology(List.of(pointA, pointB, pointC), List.of(pathAB, pathBC));
+
+    double[] result = mapper.computeEdgeWeights(topology, vehicle);
+
+    assertThat(result).hasSize(4);
+    assertThat(result[topology.forwardEdge(topology.pathIndex(pathAB.getName()))]).isEqualTo(42.0);
+    assertThat(result[topology.reverseEdge(topology.pathIndex(pathAB.getName()))])
+        .isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(result[topology.forwardEdge(topology.pathIndex(pathBC.getName()))]).isEqualTo(42.0);
+    assertThat(result[topology.reverseEdge(topology.pathIndex(pathBC.getName()))]).isEqualTo(42.0);
+    verify(edgeEvaluator).onGraphComputationStart(vehicle);
+    verify(edgeEvaluator).onGraphComputationEnd(vehicle);
+  }
+
+  @Test
+  void updateOnlyWeightsOfChangedPaths() {
+    RoutingTopology topology
+        = new RoutingTopology(List.of(pointA, pointB, pointC), List.of(pathAB, pathBC));
+    double[] edgeWeights = mapper.computeEdgeWeights(topology, vehicle);
+
+    Path lockedPathBC = pathBC.withLocked(true);
+    RoutingTopology updatedTopology = topology.withPaths(List.of(lockedPathBC));
+    double[] result = mapper.updateEdgeWeights(
+        updatedTopology,
+        List.of(lockedPathBC),
+        vehicle,
+        edgeWeights
+    );
+
+    assertThat(result).isNotSameAs(edgeWeights);
+    assertThat(result[topology.forwardEdge(topology.pathIndex(pathAB.getName()))]).isEqualTo(42.0);
+    assertThat(result[topology.forwardEdge(topology.pathIndex(pathBC.getName()))])
+        .isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(result[topology.reverseEdge(topology.pathIndex(pathBC.getName()))])
+        .isEqualTo(Double.POSITIVE_INFINITY);
+    // The original edge weights should not be affected by the update.
+    assertThat(edgeWeights[topology.forwardEdge(topology.pathIndex(pathBC.getName()))])
+        .isEqualTo(42.0);
+  }
 }
@@ -2,27 +2,50 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.routing.jgrapht;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.TCSObject;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.DefaultRouterConfiguration;
 import org.opentcs.strategies.basic.routing.DefaultRoutingGroupMapper;
 import org.opentcs.strategies.basic.routing.PointRouter;
 import org.opentcs.strategies.basic.routing.PointRouterFactory;
@@ -44,6 +67,7 @@ public class PointRouterProviderTest {
   private GroupMapper routingGroupMapper;
   private PointRouterFactory pointRouterFactory;
   private GraphProvider graphProvider;
+  private DefaultRouterConfiguration configuration;
   private PointRouterProvider pointRouterProvider;
 
   @BeforeEach
@@ -66,13 +90,16 @@ public class PointRouterProviderTest {
     when(pointRouterFactory.createPointRouter(any(Vehicle.class), anySet(), anySet()))
         .thenReturn(mock(PointRouter.class));
     graphProvider = mock();
+    configuration = mock();
+    when(configuration.avoidancePointRouterCacheSize()).thenReturn(10);
 
     pointRouterProvider = new PointRouterProvider(
         objectService,
         resourceAvoidanceExtractor,
         routingGroupMapper,
         pointRouterFactory,
-        graphProvider
+        graphProvider,
+        configuration
     );
   }
 
@@ -153,6 +180,221 @@ public class PointRouterProviderTest {
     verify(pointRouterFactory, times(15)).createPointRouter(any(Vehicle.class), anySet(), anySet());
   }
 
+  @Test
+  void shouldUpdateOutdatedPointRouterAfterTopologyChange() {
+    Vehicle vehicle = createVehicle("Vehicle-000", -1);
+    PointRouter outdatedRouter = pointRouterProvider.getPointRouterForVehicle(
+        vehicle,
+        (TransportOrder) null
+    );
+    Path pathA = new Path("A", new Point("P1").getReference(), new Point("P2").getReference());
+    Path pathB = new Path("B", new Point("P2").getReference(), new Point("P3").getReference());
+
+    pointRouterProvider.updateRoutingTopology(Set.of(pathA));
+    pointRouterProvider.updateRoutingTopology(Set.of(pathB));
+    pointRouterProvider.getPointRouterForVehicle(vehicle, (TransportOrder) null);
+
+    verify(graphProvider).updateGraphResults(Set.of(pathA));
+    verify(graphProvider).updateGraphResults(Set.of(pathB));
+    verify(pointRouterFactory, times(1)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+    verify(pointRouterFactory).updatePointRouter(
+        outdatedRouter,
+        vehicle,
+        Set.of(pathA.getReference(), pathB.getReference())
+    );
+  }
+
+  @Test
+  void shouldCreateNewPointRouterAfterFullTopologyUpdate() {
+    Vehicle vehicle = createVehicle("Vehicle-000", -1);
+    pointRouterProvider.getPointRouterForVehicle(vehicle, (TransportOrder) null);
+
+    pointRouterProvider.updateRoutingTopology(Set.of());
+    pointRouterProvider.getPointRouterForVehicle(vehicle, (TransportOrder) null);
+
+    verify(graphProvider).invalidate();
+    verify(pointRouterFactory, times(2)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+    verify(pointRouterFactory, never()).updatePointRouter(any(), any(), anySet());
+  }
+
+  @Test
+  void shouldKeepPointRoutersOfPreviousSnapshotAfterTopologyChange() {
+    createVehicle("Vehicle-000", -1);
+    PointRouter router = mock();
+    when(pointRouterFactory.createPointRouter(any(Vehicle.class), anySet(), anySet()))
+        .thenReturn(router);
+    PointRouter updatedRouter = mock();
+    when(pointRouterFactory.updatePointRouter(any(), any(), anySet())).thenReturn(updatedRouter);
+    Map<String, PointRouter> previousRouters = pointRouterProvider.getPointRoutersByVehicleGroup();
+
+    pointRouterProvider.updateRoutingTopology(
+        Set.of(new Path("A", new Point("P1").getReference(), new Point("P2").getReference()))
+    );
+    Map<String, PointRouter> currentRouters = pointRouterProvider.getPointRoutersByVehicleGroup();
+
+    assertThat(previousRouters.values(), contains(router));
+    assertThat(currentRouters.values(), contains(updatedRouter));
+  }
+
+  @Test
+  void shouldReusePointRouterForSameResourcesToAvoid() {
+    Vehicle vehicle = createVehicle("Vehicle-000", -1);
+    TransportOrder order = new TransportOrder("order", List.of());
+    when(resourceAvoidanceExtractor.extractResourcesToAvoid(order))
+        .thenReturn(resourcesToAvoid(new Point("P1")));
+
+    pointRouterProvider.getPointRouterForVehicle(vehicle, order);
+    pointRouterProvider.getPointRouterForVehicle(createVehicle("Vehicle-001", -1), order);
+
+    verify(pointRouterFactory, times(1)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+  }
+
+  @Test
+  void shouldDiscardPointRoutersForResourcesToAvoidAfterTopologyChange() {
+    Vehicle vehicle = createVehicle("Vehicle-000", -1);
+    TransportOrder order = new TransportOrder("order", List.of());
+    when(resourceAvoidanceExtractor.extractResourcesToAvoid(order))
+        .thenReturn(resourcesToAvoid(new Point("P1")));
+
+    pointRouterProvider.getPointRouterForVehicle(vehicle, order);
+    pointRouterProvider.updateRoutingTopology(
+        Set.of(new Path("A", new Point("P1").getReference(), new Point("P2").getReference()))
+    );
+    pointRouterProvider.getPointRouterForVehicle(vehicle, order);
+
+    verify(pointRouterFactory, times(2)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+  }
+
+  @Test
+  void shouldNotCachePointRoutersForResourcesToAvoidIfCacheSizeIsZero() {
+    when(configuration.avoidancePointRouterCacheSize()).thenReturn(0);
+    Vehicle vehicle = createVehicle("Vehicle-000", -1);
+    TransportOrder order = new TransportOrder("order", List.of());
+    when(resourceAvoidanceExtractor.extractResourcesToAvoid(order))
+        .thenReturn(resourcesToAvoid(new Point("P1")));
+
+    pointRouterProvider.getPointRouterForVehicle(vehicle, order);
+    pointRouterProvider.getPointRouterForVehicle(vehicle, order);
+
+    verify(pointRouterFactory, times(2)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+  }
+
+  @Test
+  void shouldConstructPointRoutersForAllRoutingGroupsOnWarmUp() {
+    when(configuration.warmUpThreadCount()).thenReturn(2);
+    Vehicle vehicle1 = createVehicle("Vehicle-000", 1);
+    Vehicle vehicle2 = createVehicle("Vehicle-001", 2);
+    createVehicle("Vehicle-002", 2);
+
+    pointRouterProvider.warmUp().join();
+    pointRouterProvider.getPointRouterForVehicle(vehicle1, (TransportOrder) null);
+    pointRouterProvider.getPointRouterForVehicle(vehicle2, (TransportOrder) null);
+
+    verify(pointRouterFactory, times(2)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+  }
+
+  @Test
+  void shouldNotConstructPointRoutersOnWarmUpIfDisabled() {
+    when(configuration.warmUpThreadCount()).thenReturn(0);
+    createVehicle("Vehicle-000", 1);
+
+    pointRouterProvider.warmUp();
+
+    verify(pointRouterFactory, never()).createPointRouter(any(Vehicle.class), anySet(), anySet());
+  }
+
+  @Test
+  void shouldNotWaitForWarmUpOnFullTopologyUpdate() {
+    when(configuration.warmUpThreadCount()).thenReturn(2);
+    createVehicle("Vehicle-000", 1);
+    createVehicle("Vehicle-001", 2);
+    // Like the kernel's object service, grant access to the model only to threads holding the
+    // global lock, which callers updating the routing topology hold.
+    Object globalSyncObject = new Object();
+    when(pointRouterFactory.createPointRouter(any(Vehicle.class), anySet(), anySet()))
+        .thenAnswer(invocation -> {
+          synchronized (globalSyncObject) {
+            return mock(PointRouter.class);
+          }
+        });
+
+    assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+      synchronized (globalSyncObject) {
+        pointRouterProvider.updateRoutingTopology(Set.of());
+      }
+    });
+
+    verify(pointRouterFactory, timeout(30000).times(2))
+        .createPointRouter(any(Vehicle.class), anySet(), anySet());
+  }
+
+  @Test
+  void shouldNeverProvidePointRoutersForDifferentTopologyVersionsFromOneSnapshot()
+      throws Exception {
+    createVehicle("Vehicle-000", 1);
+    createVehicle("Vehicle-001", 2);
+    createVehicle("Vehicle-002", 3);
+    Path path = new Path("A", new Point("P1").getReference(), new Point("P2").getReference());
+    // The version of the routing graphs, incremented with every update, and the version every
+    // point router was constructed for (or -1, if the routing graphs changed during construction).
+    AtomicInteger graphVersion = new AtomicInteger();
+    Map<PointRouter, Integer> graphVersionsByRouter = new ConcurrentHashMap<>();
+    doAnswer(invocation -> graphVersion.incrementAndGet())
+        .when(graphProvider).updateGraphResults(anyCollection());
+    Answer<PointRouter> constructRouter = invocation -> {
+      PointRouter router = mock();
+      int versionBefore = graphVersion.get();
+      Thread.sleep(1);
+      graphVersionsByRouter.put(router, graphVersion.get() == versionBefore ? versionBefore : -1);
+      return router;
+    };
+    when(pointRouterFactory.createPointRouter(any(Vehicle.class), anySet(), anySet()))
+        .then(constructRouter);
+    when(pointRouterFactory.updatePointRouter(any(), any(), anySet())).then(constructRouter);
+
+    AtomicBoolean updatesDone = new AtomicBoolean();
+    Set<Set<Integer>> inconsistentVersions = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> queries = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        queries.add(executor.submit(() -> {
+          while (!updatesDone.get()) {
+            Set<Integer> versions = new HashSet<>();
+            pointRouterProvider.getPointRoutersByVehicleGroup().values()
+                .forEach(router -> versions.add(graphVersionsByRouter.get(router)));
+            if (versions.size() != 1 || versions.contains(-1)) {
+              inconsistentVersions.add(versions);
+            }
+          }
+        }));
+      }
+      Future<?> updates = executor.submit(() -> {
+        for (int i = 0; i < 100; i++) {
+          pointRouterProvider.updateRoutingTopology(Set.of(path));
+        }
+        updatesDone.set(true);
+      });
+
+      updates.get();
+      for (Future<?> query : queries) {
+        query.get();
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(inconsistentVersions, is(empty()));
+  }
+
+  private ResourcesToAvoid resourcesToAvoid(Point point) {
+    ResourcesToAvoid resourcesToAvoid = mock();
+    when(resourcesToAvoid.getPoints()).thenReturn(Set.of(point));
+    when(resourcesToAvoid.getPaths()).thenReturn(Set.of());
+    return resourcesToAvoid;
+  }
+
   /**
    * Creates a vehicle with a unique id, the given name and the given routing group.
    * If the routing group is negative no property will be added.
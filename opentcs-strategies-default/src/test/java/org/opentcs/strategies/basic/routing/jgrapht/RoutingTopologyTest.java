@@ -0,0 +1,107 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * Tests for {@link RoutingTopology}.
+ */
+class RoutingTopologyTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+
+  private Path pathAB;
+  private Path pathBC;
+  private Path pathCA;
+
+  private RoutingTopology topology;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+
+    pathAB = new Path("A-->B", pointA.getReference(), pointB.getReference());
+    pathBC = new Path("B-->C", pointB.getReference(), pointC.getReference());
+    pathCA = new Path("C-->A", pointC.getReference(), pointA.getReference());
+
+    topology = new RoutingTopology(
+        List.of(pointA, pointB, pointC),
+        List.of(pathAB, pathBC, pathCA)
+    );
+  }
+
+  @Test
+  void mapEveryPathToForwardAndReverseEdge() {
+    assertThat(topology.getVertexCount(), is(3));
+    assertThat(topology.getEdgeCount(), is(6));
+
+    int pathIndex = topology.pathIndex(pathAB.getName());
+    int forwardEdge = topology.forwardEdge(pathIndex);
+    int reverseEdge = topology.reverseEdge(pathIndex);
+
+    assertThat(topology.edgeSource(forwardEdge), is(topology.vertexId(pointA.getName())));
+    assertThat(topology.edgeTarget(forwardEdge), is(topology.vertexId(pointB.getName())));
+    assertThat(topology.isReverseEdge(forwardEdge), is(false));
+    assertThat(topology.edgePath(forwardEdge), is(sameInstance(pathAB)));
+    assertThat(topology.edgeSource(reverseEdge), is(topology.vertexId(pointB.getName())));
+    assertThat(topology.edgeTarget(reverseEdge), is(topology.vertexId(pointA.getName())));
+    assertThat(topology.isReverseEdge(reverseEdge), is(true));
+    assertThat(topology.edgePath(reverseEdge), is(sameInstance(pathAB)));
+  }
+
+  @Test
+  void groupOutgoingEdgesBySourceVertex() {
+    int vertexId = topology.vertexId(pointA.getName());
+
+    List<Path> outgoingPaths = new ArrayList<>();
+    for (int edgeIndex = topology.firstOutgoingEdge(vertexId);
+        edgeIndex < topology.endOfOutgoingEdges(vertexId);
+        edgeIndex++) {
+      assertThat(topology.edgeSource(edgeIndex), is(vertexId));
+      outgoingPaths.add(topology.edgePath(edgeIndex));
+    }
+
+    assertThat(outgoingPaths, containsInAnyOrder(pathAB, pathCA));
+  }
+
+  @Test
+  void ignorePathsConnectingUnknownPoints() {
+    Path pathAX = new Path("A-->X", pointA.getReference(), new Point("X").getReference());
+
+    RoutingTopology result = new RoutingTopology(
+        List.of(pointA, pointB),
+        List.of(pathAB, pathAX)
+    );
+
+    assertThat(result.getEdgeCount(), is(2));
+    assertThat(result.pathIndex(pathAX.getName()), is(RoutingTopology.NONE));
+    assertThat(result.vertexId("X"), is(RoutingTopology.NONE));
+  }
+
+  @Test
+  void shareStructureWithUpdatedPaths() {
+    Path lockedPathBC = pathBC.withLocked(true);
+
+    RoutingTopology updated = topology.withPaths(List.of(lockedPathBC));
+
+    assertThat(updated.hasSameStructureAs(topology), is(true));
+    int pathIndex = updated.pathIndex(pathBC.getName());
+    assertThat(updated.edgePath(updated.forwardEdge(pathIndex)), is(sameInstance(lockedPathBC)));
+    assertThat(topology.edgePath(topology.forwardEdge(pathIndex)), is(sameInstance(pathBC)));
+  }
+}
@@ -9,12 +9,20 @@ import static org.hamcrest.Matchers.empty;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.alg.shortestpath.FloydWarshallShortestPaths;
 import org.jgrapht.graph.DirectedWeightedMultigraph;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,6 +44,8 @@ class ShortestPathPointRouterTest {
 
   private Edge edgeAC;
 
+  private Graph<Vertex, Edge> graph;
+
   private ShortestPathPointRouter pointRouter;
 
   @BeforeEach
@@ -52,7 +62,7 @@ class ShortestPathPointRouterTest {
 
     edgeAC = new Edge(pathAC, false);
 
-    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    graph = new DirectedWeightedMultigraph<>(Edge.class);
 
     graph.addVertex(vertexA);
     graph.addVertex(vertexB);
@@ -108,4 +118,127 @@ class ShortestPathPointRouterTest {
     assertThat(steps, is(not(empty())));
   }
 
+  @Test
+  void returnCostsForMultipleDestinationPoints() {
+    assertThat(
+        pointRouter.getCosts(
+            pointA.getReference(),
+            Set.of(pointA.getReference(), pointB.getReference(), pointC.getReference())
+        ),
+        is(
+            Map.of(
+                pointA.getReference(), 0L,
+                pointB.getReference(), PointRouter.INFINITE_COSTS,
+                pointC.getReference(), 1234L
+            )
+        )
+    );
+  }
+
+  @Test
+  void returnInfiniteCostsForMultipleDestinationPointsFromUnknownPoint() {
+    Point unknownPoint = new Point("X");
+
+    assertThat(
+        pointRouter.getCosts(
+            unknownPoint.getReference(),
+            Set.of(unknownPoint.getReference(), pointC.getReference())
+        ),
+        is(
+            Map.of(
+                unknownPoint.getReference(), 0L,
+                pointC.getReference(), PointRouter.INFINITE_COSTS
+            )
+        )
+    );
+  }
+
+  @Test
+  void excludePointsAndPathsFromRoutingWithRestrictedPointRouter() {
+    Vertex vertexA = vertex(pointA);
+    Vertex vertexB = vertex(pointB);
+    Path pathAB = new Path("A-->B", pointA.getReference(), pointB.getReference());
+    Path pathBC = new Path("B-->C", pointB.getReference(), pointC.getReference());
+    Edge edgeAB = new Edge(pathAB, false);
+    Edge edgeBC = new Edge(pathBC, false);
+    graph.addEdge(vertexA, vertexB, edgeAB);
+    graph.setEdgeWeight(edgeAB, 1);
+    graph.addEdge(vertexB, vertex(pointC), edgeBC);
+    graph.setEdgeWeight(edgeBC, 1);
+    ShortestPathPointRouter restrictableRouter = new ShortestPathPointRouter(
+        new DijkstraShortestPath<>(graph),
+        true,
+        Set.of(pointA, pointB, pointC),
+        graph,
+        DijkstraShortestPath::new
+    );
+
+    assertThat(restrictableRouter.isRestrictable(), is(true));
+    assertEquals(2, restrictableRouter.getCosts(pointA, pointC));
+    assertEquals(
+        1234,
+        restrictableRouter.createRestrictedPointRouter(Set.of("B"), Set.of())
+            .getCosts(pointA, pointC)
+    );
+    assertEquals(
+        1234,
+        restrictableRouter.createRestrictedPointRouter(Set.of(), Set.of("B-->C"))
+            .getCosts(pointA, pointC)
+    );
+    assertNull(
+        restrictableRouter.createRestrictedPointRouter(Set.of("B"), Set.of("A-->C"))
+            .getRouteSteps(pointA, pointC)
+    );
+    assertNull(
+        restrictableRouter.createRestrictedPointRouter(Set.of("A"), Set.of())
+            .getRouteSteps(pointA, pointC)
+    );
+    // The restricted point routers must not affect the point router they were created from.
+    assertEquals(2, restrictableRouter.getCosts(pointA, pointC));
+  }
+
+  @Test
+  void rejectRestrictionsWithoutGraph() {
+    assertThat(pointRouter.isRestrictable(), is(false));
+    assertThrows(
+        IllegalStateException.class,
+        () -> pointRouter.createRestrictedPointRouter(Set.of(), Set.of())
+    );
+  }
+
+  @Test
+  void returnSameCostsForConcurrentQueriesToNonThreadSafeAlgorithm()
+      throws Exception {
+    ShortestPathPointRouter floydWarshallRouter = new ShortestPathPointRouter(
+        new FloydWarshallShortestPaths<>(graph),
+        false,
+        new HashSet<>(Arrays.asList(pointA, pointB, pointC)),
+        graph.vertexSet()
+    );
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Long>> results = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        results.add(
+            executor.submit(
+                () -> floydWarshallRouter.getCosts(pointA.getReference(), pointC.getReference())
+            )
+        );
+      }
+      for (Future<Long> result : results) {
+        assertEquals(1234, result.get());
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Vertex vertex(Point point) {
+    return graph.vertexSet().stream()
+        .filter(vertex -> vertex.getPoint().getName().equals(point.getName()))
+        .findFirst()
+        .orElseThrow();
+  }
 }
@@ -5,18 +5,16 @@ package org.opentcs.strategies.basic.scheduling.modules;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import jakarta.annotation.Nonnull;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.function.Predicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentMatchers;
 import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.components.kernel.services.BlockIndex;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Block;
@@ -53,8 +51,7 @@ class SingleVehicleBlockModuleTest {
     Scheduler.Client client = new SampleClient();
     ModelData model = new ModelData();
 
-    when(plantModelService.fetch(eq(Block.class), ArgumentMatchers.<Predicate<? super Block>>any()))
-        .thenReturn(Set.of());
+    when(plantModelService.getBlockIndex()).thenReturn(BlockIndex.EMPTY);
     assertTrue(module.mayAllocate(client, model.resourcesToAllocate));
   }
 
@@ -63,10 +60,7 @@ class SingleVehicleBlockModuleTest {
     Scheduler.Client client = new SampleClient();
     ModelData model = new ModelData();
 
-    when(
-        plantModelService.fetch(eq(Block.class), ArgumentMatchers.<Predicate<? super Block>>any())
-    )
-        .thenReturn(Set.of(model.getBlock()));
+    when(plantModelService.getBlockIndex()).thenReturn(new BlockIndex(Set.of(model.getBlock())));
     when(plantModelService.expandResources(any())).thenReturn(model.getBlockResources());
     when(reservationPool.resourcesAvailableForUser(model.getBlockResources(), client))
         .thenReturn(true);
@@ -78,8 +72,7 @@ class SingleVehicleBlockModuleTest {
     Scheduler.Client client = new SampleClient();
     ModelData model = new ModelData();
 
-    when(plantModelService.fetch(eq(Block.class), ArgumentMatchers.<Predicate<? super Block>>any()))
-        .thenReturn(Set.of(model.getBlock()));
+    when(plantModelService.getBlockIndex()).thenReturn(new BlockIndex(Set.of(model.getBlock())));
     when(plantModelService.expandResources(any())).thenReturn(model.getBlockResources());
     when(reservationPool.resourcesAvailableForUser(model.getBlockResources(), client))
         .thenReturn(false);
@@ -106,6 +106,117 @@ class AreaAllocationsTest {
     assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
   }
 
+  @Test
+  void allowAreaAllocationAfterAreaAllocationOfAnotherVehicleWasCleared() {
+    // Arrange
+    GeometryCollection area = createCollectionWithOneGeometry(
+        new Coordinate(0, 0),
+        new Coordinate(0, 10),
+        new Coordinate(10, 10),
+        new Coordinate(10, 0),
+        new Coordinate(0, 0)
+    );
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), area);
+    areaAllocations.clearAreaAllocation(vehicle2.getReference());
+
+    // Act & Assert
+    assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), area));
+  }
+
+  @Test
+  void considerOnlyCurrentAreaAllocationOfAnotherVehicle() {
+    // Arrange
+    GeometryCollection previousArea = createCollectionWithOneGeometry(
+        new Coordinate(0, 0),
+        new Coordinate(0, 10),
+        new Coordinate(10, 10),
+        new Coordinate(10, 0),
+        new Coordinate(0, 0)
+    );
+    GeometryCollection currentArea = createCollectionWithOneGeometry(
+        new Coordinate(20, 0),
+        new Coordinate(20, 10),
+        new Coordinate(30, 10),
+        new Coordinate(30, 0),
+        new Coordinate(20, 0)
+    );
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), previousArea);
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), currentArea);
+
+    // Act & Assert
+    assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), previousArea));
+    assertFalse(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), currentArea));
+  }
+
+  @Test
+  void prohibitAreaAllocationWhenAnyRequestedGeometryIntersectsAreaAllocatedByAnotherVehicle() {
+    // Arrange
+    GeometryFactory geometryFactory = new GeometryFactory();
+    GeometryCollection allocatedArea = createCollectionWithOneGeometry(
+        new Coordinate(20, 20),
+        new Coordinate(20, 30),
+        new Coordinate(30, 30),
+        new Coordinate(30, 20),
+        new Coordinate(20, 20)
+    );
+    GeometryCollection requestedArea = geometryFactory.createGeometryCollection(
+        new Geometry[]{
+            geometryFactory.createPolygon(
+                new Coordinate[]{
+                    new Coordinate(0, 0),
+                    new Coordinate(0, 10),
+                    new Coordinate(10, 10),
+                    new Coordinate(10, 0),
+                    new Coordinate(0, 0)
+                }
+            ),
+            geometryFactory.createPolygon(
+                new Coordinate[]{
+                    new Coordinate(25, 25),
+                    new Coordinate(25, 35),
+                    new Coordinate(35, 35),
+                    new Coordinate(35, 25),
+                    new Coordinate(25, 25)
+                }
+            )
+        }
+    );
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), allocatedArea);
+
+    // Act & Assert
+    assertFalse(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
+  }
+
+  @Test
+  void allowAreaAllocationWhenBoundingBoxesOverlapButAreasDoNotIntersect() {
+    // Arrange
+    // An L-shaped area whose bounding box contains the requested area.
+    GeometryCollection allocatedArea = createCollectionWithOneGeometry(
+        new Coordinate(0, 0),
+        new Coordinate(0, 20),
+        new Coordinate(5, 20),
+        new Coordinate(5, 5),
+        new Coordinate(20, 5),
+        new Coordinate(20, 0),
+        new Coordinate(0, 0)
+    );
+    GeometryCollection requestedArea = createCollectionWithOneGeometry(
+        new Coordinate(10, 10),
+        new Coordinate(10, 15),
+        new Coordinate(15, 15),
+        new Coordinate(15, 10),
+        new Coordinate(10, 10)
+    );
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), allocatedArea);
+
+    // Act & Assert
+    assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
+  }
+
   private GeometryCollection createCollectionWithOneGeometry(Coordinate... coordinates) {
     GeometryFactory geometryFactory = new GeometryFactory();
     return geometryFactory.createGeometryCollection(
@@ -15,6 +15,7 @@ import java.util.function.Predicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
+import org.opentcs.components.kernel.services.BlockIndex;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.data.model.Block;
 import org.opentcs.data.model.Couple;
@@ -197,6 +198,6 @@ class BlockAreaAllocationsTest {
         .thenReturn(Optional.of(pathAB));
     when(plantModelService.fetch(Path.class, pathZY.getReference()))
         .thenReturn(Optional.of(pathZY));
-    when(plantModelService.fetch(Block.class)).thenReturn(Set.of(block));
+    when(plantModelService.getBlockIndex()).thenReturn(new BlockIndex(Set.of(block)));
   }
 }